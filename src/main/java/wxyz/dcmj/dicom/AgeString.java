@@ -1,7 +1,5 @@
 package wxyz.dcmj.dicom;
 
-import java.util.regex.Pattern;
-
 public class AgeString {
 
     public static enum Unit {
@@ -39,7 +37,7 @@ public class AgeString {
         if (value == null || value.length() == 0) {
             throw new DicomException("Invalid AgeString(AS): " + value);
         }
-        if (!Pattern.matches("^\\d{3}[DWMY]{1}$", value)) {
+        if (!ValueValidator.isValidAS(value)) {
             throw new DicomException("Invalid AgeString(AS): " + value);
         }
     }
@@ -26,7 +26,7 @@ public class ApplicationEntity {
         if (value.length() > ApplicationEntityElement.MAX_BYTES_PER_VALUE) {
             throw new DicomException("Application Entity '" + value + "' exceeds maximum length " + ApplicationEntityElement.MAX_BYTES_PER_VALUE + ".");
         }
-        if (value.contains("\\") || value.contains("\r") || value.contains("\n") || value.contains("\f") || value.contains("\u001B")) {
+        if (!ValueValidator.isValidAE(value)) {
             throw new DicomException("ApplicationEntity(AE) value: '" + value + "' contains invalid characters.");
         }
     }
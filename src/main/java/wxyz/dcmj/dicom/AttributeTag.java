@@ -1,14 +1,19 @@
 package wxyz.dcmj.dicom;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import wxyz.dcmj.dicom.io.DicomInputStream;
 import wxyz.dcmj.dicom.io.DicomOutputStream;
 
 public class AttributeTag implements Comparable<AttributeTag> {
 
-    private int _group;
-    private int _element;
+    /*
+     * the fields are final so that the instances can be shared between
+     * threads through the cache without synchronization.
+     */
+    private final int _group;
+    private final int _element;
 
     public AttributeTag(int tag) {
         _group = tag >>> 16;
@@ -1046,6 +1051,8 @@ public class AttributeTag implements Comparable<AttributeTag> {
     public static final AttributeTag ExposureTime = new AttributeTag(0x00181150);
     public static final AttributeTag ExposureTimeInms = new AttributeTag(0x00189328);
     public static final AttributeTag ExposureTimeInuS = new AttributeTag(0x00188150);
+    public static final AttributeTag ExtendedOffsetTable = new AttributeTag(0x7FE00001);
+    public static final AttributeTag ExtendedOffsetTableLengths = new AttributeTag(0x7FE00002);
     public static final AttributeTag FacetSequence = new AttributeTag(0x00660034);
     public static final AttributeTag FailedAttributesSequence = new AttributeTag(0x00741048);
     public static final AttributeTag FailedSOPInstanceUIDList = new AttributeTag(0x00080058);
@@ -3207,10 +3214,65 @@ public class AttributeTag implements Comparable<AttributeTag> {
     public static final AttributeTag ZoomCenter = new AttributeTag(0x00280032);
     public static final AttributeTag ZoomFactor = new AttributeTag(0x00280031);
 
+    /*
+     * The canonical instances, in an open addressing table (of 2^14 slots)
+     * filled on demand. It is lock-free: a slot is set at most once (by
+     * compareAndSet) and never cleared. When the probed slots are taken by
+     * other tags, a new instance is returned without caching it.
+     */
+    private static final int CACHE_BITS = 14;
+    private static final int CACHE_MAX_PROBES = 8;
+    private static final AtomicReferenceArray<AttributeTag> _cache = new AtomicReferenceArray<AttributeTag>(1 << CACHE_BITS);
+
+    /**
+     * Returns the canonical instance for the tag. It is the tag of the
+     * dictionary entry if there is one. (Compare tags with equals(): the
+     * instance is not necessarily the constant of this class.)
+     * 
+     * @param tag
+     *            the tag as an unsigned int. e.g. 0x00100020
+     * @return
+     */
+    public static AttributeTag valueOf(int tag) {
+        int mask = (1 << CACHE_BITS) - 1;
+        int index = (tag * 0x9e3779b9) >>> (32 - CACHE_BITS);
+        for (int i = 0; i < CACHE_MAX_PROBES; i++) {
+            int slot = (index + i) & mask;
+            AttributeTag t = _cache.get(slot);
+            if (t == null) {
+                t = dictionaryTag(tag);
+                if (_cache.compareAndSet(slot, null, t)) {
+                    return t;
+                }
+                // set by another thread meanwhile
+                t = _cache.get(slot);
+            }
+            if (t.toUnsignedInt() == tag) {
+                return t;
+            }
+        }
+        return new AttributeTag(tag);
+    }
+
+    public static AttributeTag valueOf(int group, int element) {
+        return valueOf(((group & 0xffff) << 16) | (element & 0xffff));
+    }
+
+    private static AttributeTag dictionaryTag(int tag) {
+        AttributeTag t = new AttributeTag(tag);
+        if (!t.isPrivate()) {
+            Dictionary.Entry entry = Dictionary.get().getEntry(t);
+            if (entry != null && entry.tag().toUnsignedInt() == tag) {
+                return entry.tag();
+            }
+        }
+        return t;
+    }
+
     public static AttributeTag read(DicomInputStream in) throws IOException {
         int group = in.readUnsignedShort();
         int element = in.readUnsignedShort();
-        return new AttributeTag(group, element);
+        return valueOf(group, element);
     }
 
     public void write(DicomOutputStream out) throws Throwable {
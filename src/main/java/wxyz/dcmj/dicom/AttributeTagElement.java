@@ -37,6 +37,11 @@ public class AttributeTagElement extends DataElement<AttributeTag> {
         super(dataSet, tag, ValueRepresentation.AT);
     }
 
+    @Override
+    ValueList<AttributeTag> createValueList() {
+        return new PrimitiveValueList.Tags();
+    }
+
     @Override
     public long valueLength() {
         List<AttributeTag> values = values();
@@ -45,13 +50,7 @@ public class AttributeTagElement extends DataElement<AttributeTag> {
 
     @Override
     protected void writeValue(DicomOutputStream out) throws Throwable {
-        List<AttributeTag> values = values();
-        if (values != null) {
-            for (AttributeTag value : values) {
-                out.writeShort(value.group());
-                out.writeShort(value.element());
-            }
-        }
+        ((PrimitiveValueList<AttributeTag>) valueList()).write(out);
     }
 
     @Override
@@ -59,9 +58,7 @@ public class AttributeTagElement extends DataElement<AttributeTag> {
         if (vl % BYTES_PER_VALUE != 0 || vl == Constants.UNDEFINED_LENGTH) {
             throw new DicomException("Invalid value length " + vl + " for AttributeTag (AT) element.");
         }
-        for (int i = 0; i < vl; i += BYTES_PER_VALUE) {
-            addValue(AttributeTag.read(in));
-        }
+        ((PrimitiveValueList<AttributeTag>) valueList()).read(in, (int) (vl / BYTES_PER_VALUE));
     }
 
 }
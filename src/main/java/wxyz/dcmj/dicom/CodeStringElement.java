@@ -1,7 +1,5 @@
 package wxyz.dcmj.dicom;
 
-import java.util.regex.Pattern;
-
 /**
  * CS
  * 
@@ -36,8 +34,8 @@ public class CodeStringElement extends AsciiStringElement {
         if (value.length() > CodeStringElement.MAX_BYTES_PER_VALUE) {
             throw new DicomException("Code String '" + value + "' exceeds maximum length " + CodeStringElement.MAX_BYTES_PER_VALUE + ".");
         }
-        if (!Pattern.matches("^[A-Z0-9_ ]{1,16}$", value)) {
-            throw new DicomException("Invalid Application Entity: " + value);
+        if (!ValueValidator.isValidCS(value)) {
+            throw new DicomException("Invalid Code String: " + value);
         }
     }
 
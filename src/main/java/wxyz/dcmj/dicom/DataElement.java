@@ -3,9 +3,7 @@ package wxyz.dcmj.dicom;
 import java.io.File;
 import java.io.PrintStream;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import java.util.Vector;
 
 import javax.imageio.stream.ImageInputStream;
 
@@ -19,7 +17,7 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
     private DataSet _dataSet;
     private AttributeTag _tag;
     private ValueRepresentation _vr;
-    private List<T> _values;
+    private ValueList<T> _values;
 
     //@formatter:off
     private File _sourceFile;         // optional: only useful if input source is a File.
@@ -53,15 +51,15 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
     }
 
     public void setValue(T value) throws Throwable {
-        if (_values != null && !_values.isEmpty()) {
-            _values.clear();
+        if (_values != null) {
+            _values.removeAll();
         }
         addValue(value);
     }
 
     public void addValue(T value) throws Throwable {
         if (_values == null) {
-            _values = new Vector<T>();
+            _values = createValueList();
         } else {
             int vm = _values.size();
             if (vm >= 1) {
@@ -76,12 +74,36 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
                 }
             }
         }
-        _values.add(value);
+        _values.append(value);
+    }
+
+    /**
+     * Creates the list to hold the values. The binary numeric elements hold
+     * their values in a primitive array.
+     * 
+     * @return
+     */
+    ValueList<T> createValueList() {
+        return new ObjectValueList<T>();
+    }
+
+    /**
+     * The list holding the values, created if needed. For the elements that
+     * read and write their values in bulk: the values read that way are not
+     * checked against the value multiplicity.
+     * 
+     * @return
+     */
+    ValueList<T> valueList() {
+        if (_values == null) {
+            _values = createValueList();
+        }
+        return _values;
     }
 
     public void removeAllValues() {
-        if (_values != null && !_values.isEmpty()) {
-            _values.clear();
+        if (_values != null) {
+            _values.removeAll();
         }
     }
 
@@ -97,7 +119,8 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
         if (_values == null || _values.isEmpty()) {
             return null;
         }
-        return Collections.unmodifiableList(_values);
+        // read-only
+        return _values;
     }
 
     public abstract long valueLength();
@@ -157,9 +180,46 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
         out.writeUnsignedShort(_tag.group());
         out.writeUnsignedShort(_tag.element());
         long vl = valueLength();
-        if (vl <= 0) {
-            return;
+        writeHeader(out, vl);
+        if (vl > 0) {
+            writeValue(out);
         }
+    }
+
+    /**
+     * The length of the encoded element: its header and its value.
+     * 
+     * @param explicitVR
+     * @param explicitLengthSequences
+     *            whether the sequences are written with explicit lengths (see
+     *            {@link DicomOutputStream#setExplicitLengthSequences(boolean)}
+     * @return
+     * @throws Throwable
+     */
+    long length(boolean explicitVR, boolean explicitLengthSequences) throws Throwable {
+        return headerLength(explicitVR) + valueLength();
+    }
+
+    /**
+     * The length of the tag, VR (if explicit VR) and value length.
+     * 
+     * @param explicitVR
+     * @return
+     */
+    long headerLength(boolean explicitVR) {
+        return explicitVR && !_vr.isValueLengthShort() ? 12 : 8;
+    }
+
+    /**
+     * Writes the VR (if explicit VR) and the value length. The tag must have
+     * been written.
+     * 
+     * @param out
+     * @param vl
+     *            the value length.
+     * @throws Throwable
+     */
+    protected void writeHeader(DicomOutputStream out, long vl) throws Throwable {
         if (out.currentTransferSyntax().explicitVR()) {
             valueRepresentation().write(out);
             if (valueRepresentation().isValueLengthShort()) {
@@ -175,7 +235,6 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
         } else {
             out.writeUnsignedInt(vl);
         }
-        writeValue(out);
     }
 
     protected abstract void writeValue(DicomOutputStream out) throws Throwable;
@@ -226,12 +285,12 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
 
     public long[] longValues() {
         T v = value();
-        if (v != null && (v instanceof Long)) {
-            long[] vs = new long[_values.size()];
-            for (int i = 0; i < vs.length; i++) {
-                vs[i] = (Long) _values.get(i);
+        if (v != null) {
+            if (v instanceof long[]) {
+                // inline binary OV: VM should always be 1
+                return (long[]) v;
             }
-            return vs;
+            return _values.longArray();
         }
         return null;
     }
@@ -252,8 +311,6 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
             if (lv >= Integer.MIN_VALUE && lv <= Integer.MAX_VALUE) {
                 return lv.intValue();
             }
-        } else if (this instanceof IntegerStringElement) {
-            return Integer.parseInt((String) value);
         }
         return null;
     }
@@ -268,15 +325,10 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
     }
 
     public int[] intValues() {
-        T v = value();
-        if (v != null && (v instanceof Long)) {
-            int[] vs = new int[_values.size()];
-            for (int i = 0; i < vs.length; i++) {
-                vs[i] = (Integer) _values.get(i);
-            }
-            return vs;
+        if (_values == null || _values.isEmpty()) {
+            return null;
         }
-        return null;
+        return _values.intArray();
     }
 
     public Short shortValue() {
@@ -314,16 +366,11 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
     public short[] shortValues() {
         T v = value();
         if (v != null) {
-            if (v instanceof Short) {
-                short[] vs = new short[_values.size()];
-                for (int i = 0; i < vs.length; i++) {
-                    vs[i] = (Short) _values.get(i);
-                }
-                return vs;
-            } else if (v instanceof short[]) {
+            if (v instanceof short[]) {
                 // inline binary OW: VM should always be 1.
                 return (short[]) v;
             }
+            return _values.shortArray();
         }
         return null;
     }
@@ -361,16 +408,11 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
     public double[] doubleValues() {
         T v = value();
         if (v != null) {
-            if (v instanceof Double) {
-                double[] vs = new double[_values.size()];
-                for (int i = 0; i < vs.length; i++) {
-                    vs[i] = (Double) _values.get(i);
-                }
-                return vs;
-            } else if (v instanceof double[]) {
+            if (v instanceof double[]) {
                 // inline binary OD: VM should always be 1
                 return (double[]) v;
             }
+            return _values.doubleArray();
         }
         return null;
     }
@@ -408,16 +450,11 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
     public float[] floatValues() {
         T v = value();
         if (v != null) {
-            if (v instanceof Float) {
-                float[] vs = new float[_values.size()];
-                for (int i = 0; i < vs.length; i++) {
-                    vs[i] = (Float) _values.get(i);
-                }
-                return vs;
-            } else if (v instanceof float[]) {
+            if (v instanceof float[]) {
                 // inline binary OF: VM should always be 1
                 return (float[]) v;
             }
+            return _values.floatArray();
         }
         return null;
     }
@@ -494,7 +531,7 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
     }
 
     public boolean hasValue() {
-        return _values == null || _values.isEmpty();
+        return _values != null && !_values.isEmpty();
     }
 
     public boolean hasSource() {
@@ -505,13 +542,15 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
     public String toString() {
         StringBuilder sb = new StringBuilder();
         String definition = Dictionary.get().getDefinition(_tag);
-        long vl = valueLength() > 0 ? valueLength() : sourceValueLength();
+        // NOTE: do not use value()/values() here, to avoid loading the values
+        // of elements that have not been read from the source.
+        long vl = hasValue() ? valueLength() : sourceValueLength();
         sb.append(String.format("%s %2s VL=0x%08x %-40s", _tag, _vr, vl, definition == null ? "" : definition));
         if (_vr == ValueRepresentation.SQ) {
             return sb.toString();
         }
         sb.append(" [");
-        List<T> vs = values();
+        List<T> vs = _values;
         if (vs != null) {
             int size = vs.size();
             for (int i = 0; i < size; i++) {
@@ -576,6 +615,8 @@ public abstract class DataElement<T> implements Comparable<DataElement> {
             return new OtherDoubleElement(dataSet, tag);
         case OF:
             return new OtherFloatElement(dataSet, tag);
+        case OV:
+            return new OtherVeryLongElement(dataSet, tag);
         case OW:
             return new OtherWordElement(dataSet, tag);
         case PN:
@@ -0,0 +1,187 @@
+package wxyz.dcmj.dicom;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The elements of a {@link DataSet}, in ascending tag order. The tags are kept
+ * in a sorted int array (of {@link AttributeTag#toUnsignedInt()} values with
+ * the sign bit flipped, so that the signed order is the unsigned order of the
+ * tags) parallel to the element array. Lookup is a binary search and adding
+ * the elements in tag order, as they are read, is an append.
+ *
+ */
+@SuppressWarnings("rawtypes")
+final class DataElementMap {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] _keys;
+    private DataElement[] _elements;
+    private int _size;
+    private int _modCount;
+    private Collection<DataElement> _values;
+
+    DataElementMap() {
+        _keys = new int[INITIAL_CAPACITY];
+        _elements = new DataElement[INITIAL_CAPACITY];
+        _size = 0;
+        _modCount = 0;
+    }
+
+    private static int key(int tag) {
+        return tag ^ Integer.MIN_VALUE;
+    }
+
+    private int indexOf(int tag) {
+        int key = key(tag);
+        if (_size > 0 && _keys[_size - 1] < key) {
+            return -(_size + 1);
+        }
+        return Arrays.binarySearch(_keys, 0, _size, key);
+    }
+
+    int size() {
+        return _size;
+    }
+
+    boolean isEmpty() {
+        return _size == 0;
+    }
+
+    boolean containsKey(AttributeTag tag) {
+        return indexOf(tag.toUnsignedInt()) >= 0;
+    }
+
+    boolean containsKey(int tag) {
+        return indexOf(tag) >= 0;
+    }
+
+    DataElement get(AttributeTag tag) {
+        return get(tag.toUnsignedInt());
+    }
+
+    DataElement get(int tag) {
+        int i = indexOf(tag);
+        return i >= 0 ? _elements[i] : null;
+    }
+
+    /**
+     * Adds or replaces the element.
+     *
+     * @param de
+     * @return the replaced element, or null.
+     */
+    DataElement put(DataElement de) {
+        int tag = de.tag().toUnsignedInt();
+        int i = indexOf(tag);
+        if (i >= 0) {
+            DataElement old = _elements[i];
+            _elements[i] = de;
+            return old;
+        }
+        i = -(i + 1);
+        if (_size == _keys.length) {
+            int capacity = _keys.length + (_keys.length >> 1) + 1;
+            _keys = Arrays.copyOf(_keys, capacity);
+            _elements = Arrays.copyOf(_elements, capacity);
+        }
+        if (i < _size) {
+            System.arraycopy(_keys, i, _keys, i + 1, _size - i);
+            System.arraycopy(_elements, i, _elements, i + 1, _size - i);
+        }
+        _keys[i] = key(tag);
+        _elements[i] = de;
+        _size++;
+        _modCount++;
+        return null;
+    }
+
+    DataElement remove(AttributeTag tag) {
+        int i = indexOf(tag.toUnsignedInt());
+        if (i < 0) {
+            return null;
+        }
+        DataElement old = _elements[i];
+        removeAt(i);
+        return old;
+    }
+
+    private void removeAt(int i) {
+        int n = _size - i - 1;
+        if (n > 0) {
+            System.arraycopy(_keys, i + 1, _keys, i, n);
+            System.arraycopy(_elements, i + 1, _elements, i, n);
+        }
+        _size--;
+        _elements[_size] = null;
+        _modCount++;
+    }
+
+    /**
+     * The elements in tag order. The collection is a view: its iterator
+     * supports remove().
+     *
+     * @return
+     */
+    Collection<DataElement> values() {
+        if (_values == null) {
+            _values = new AbstractCollection<DataElement>() {
+
+                @Override
+                public Iterator<DataElement> iterator() {
+                    return new ValueIterator();
+                }
+
+                @Override
+                public int size() {
+                    return _size;
+                }
+            };
+        }
+        return _values;
+    }
+
+    private class ValueIterator implements Iterator<DataElement> {
+
+        private int _next = 0;
+        private int _last = -1;
+        private int _expectedModCount = _modCount;
+
+        @Override
+        public boolean hasNext() {
+            return _next < _size;
+        }
+
+        @Override
+        public DataElement next() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (_next >= _size) {
+                throw new NoSuchElementException();
+            }
+            _last = _next++;
+            return _elements[_last];
+        }
+
+        @Override
+        public void remove() {
+            if (_last < 0) {
+                throw new IllegalStateException();
+            }
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(_last);
+            _next = _last;
+            _last = -1;
+            _expectedModCount = _modCount;
+        }
+    }
+
+}
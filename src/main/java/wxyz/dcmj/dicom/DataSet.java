@@ -1,41 +1,39 @@
 package wxyz.dcmj.dicom;
 
-import java.awt.image.BufferedImage;
-import java.awt.image.DataBuffer;
-import java.awt.image.Raster;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
-import javax.imageio.ImageIO;
-import javax.imageio.ImageReader;
-import javax.imageio.event.IIOReadProgressListener;
-import javax.imageio.spi.ImageReaderSpi;
+import javax.imageio.stream.FileImageInputStream;
 import javax.imageio.stream.ImageInputStream;
 
+import wxyz.dcmj.dicom.codec.CodecRegistry;
+import wxyz.dcmj.dicom.codec.FrameDecoder;
+import wxyz.dcmj.dicom.codec.FrameFormat;
+import wxyz.dcmj.dicom.io.ChannelOutputStream;
 import wxyz.dcmj.dicom.io.DicomInputStream;
 import wxyz.dcmj.dicom.io.DicomOutputStream;
 import wxyz.dcmj.dicom.io.EncapsulatedInputStream;
+import wxyz.dcmj.dicom.io.FrameIndex;
+import wxyz.dcmj.dicom.io.ParallelDeflaterOutputStream;
 
 @SuppressWarnings("rawtypes")
 public class DataSet {
 
-    // 100 kB seems large enough, but is an arbitrary choice
-    private static final long MAX_VL_WHEN_RECOVER_FROM_INCORRECT_IMPLICIT_VR_ELEMENT_ENCODING_IN_EXPLICIT_VR = 100000L;
-
-    private SortedMap<AttributeTag, DataElement> _des;
+    private DataElementMap _des;
 
     /*
      * set during reading of PixelData attribute
@@ -71,20 +69,33 @@ public class DataSet {
      */
     private SequenceElement _sequence;
 
+    /*
+     * the length of the item, computed by length().
+     */
+    private long _length = -1;
+
     public DataSet() {
         this(null);
     }
 
     public DataSet(SequenceElement sequence) {
-        _des = new TreeMap<AttributeTag, DataElement>();
+        _des = new DataElementMap();
         _sequence = sequence;
     }
 
     public File sourceFile() {
+        if (_sourceFile == null && _sequence != null && _sequence.dataSet() != null) {
+            // sequence item
+            return _sequence.dataSet().sourceFile();
+        }
         return _sourceFile;
     }
 
     public ImageInputStream sourceImageInputStream() {
+        if (_sourceImageInputStream == null && _sequence != null && _sequence.dataSet() != null) {
+            // sequence item
+            return _sequence.dataSet().sourceImageInputStream();
+        }
         return _sourceImageInputStream;
     }
 
@@ -105,8 +116,59 @@ public class DataSet {
     }
 
     public void read(File file, AttributeTag stopAtTag) throws Throwable {
+        read(file, stopAtTag, false);
+    }
+
+    public void read(File file, AttributeTag stopAtTag, boolean memoryMapped) throws Throwable {
+        read(file, stopAtTag, memoryMapped, -1);
+    }
+
+    /**
+     * Reads the data set from the file.
+     * 
+     * @param file
+     *            the input file.
+     * @param stopAtTag
+     *            the top level element to stop at. Its value is not read. Can
+     *            be null.
+     * @param memoryMapped
+     *            read the file through a memory mapped buffer.
+     * @param lazyBulkDataThreshold
+     *            skip the values of bulk data elements, which are read from
+     *            the file on first access (or copied from it as they are when
+     *            the data set is written). -1 to disable. See
+     *            {@link DicomInputStream#setLazyBulkDataThreshold(long)}
+     * @throws Throwable
+     */
+    public void read(File file, AttributeTag stopAtTag, boolean memoryMapped, long lazyBulkDataThreshold) throws Throwable {
+        read(file, stopAtTag, memoryMapped, lazyBulkDataThreshold, null);
+    }
+
+    /**
+     * Reads the data set from the file.
+     * 
+     * @param file
+     *            the input file.
+     * @param stopAtTag
+     *            the top level element to stop at. Its value is not read. Can
+     *            be null.
+     * @param memoryMapped
+     *            read the file through a memory mapped buffer.
+     * @param lazyBulkDataThreshold
+     *            skip the values of bulk data elements, which are read from
+     *            the file on first access (or copied from it as they are when
+     *            the data set is written). -1 to disable. See
+     *            {@link DicomInputStream#setLazyBulkDataThreshold(long)}
+     * @param tagFilter
+     *            the top level elements to read. The other elements are
+     *            skipped. Can be null. See {@link TagFilter}
+     * @throws Throwable
+     */
+    public void read(File file, AttributeTag stopAtTag, boolean memoryMapped, long lazyBulkDataThreshold, TagFilter tagFilter) throws Throwable {
         _sourceFile = file;
-        DicomInputStream in = new DicomInputStream(file);
+        DicomInputStream in = new DicomInputStream(file, memoryMapped);
+        in.setLazyBulkDataThreshold(lazyBulkDataThreshold);
+        in.setTagFilter(tagFilter);
         try {
             read(in, stopAtTag);
         } finally {
@@ -139,7 +201,17 @@ public class DataSet {
             if (in.dataSetTransferSyntax().deflated()) {
                 // insert deflate into input stream and make a new
                 // DicomInputStream
-                in = new DicomInputStream(new InflaterInputStream(in, new Inflater(true)), TransferSyntax.ExplicitVRLittleEndian.uid());
+                // NOTE: the offsets in the inflated stream are not file
+                // offsets, so the lazy bulk data setting is not passed on.
+                TagFilter tagFilter = in.tagFilter();
+                ValidationMode validationMode = in.validationMode();
+                Executor frameDecodingExecutor = in.frameDecodingExecutor();
+                int inflaterBufferSize = in.inflaterBufferSize();
+                in = new DicomInputStream(new InflaterInputStream(in, new Inflater(true), inflaterBufferSize), TransferSyntax.ExplicitVRLittleEndian.uid());
+                in.setTagFilter(tagFilter);
+                in.setValidationMode(validationMode);
+                in.setFrameDecodingExecutor(frameDecodingExecutor);
+                in.setInflaterBufferSize(inflaterBufferSize);
             }
         }
         final boolean lengthUndefined = (length == Constants.UNDEFINED_LENGTH);
@@ -151,6 +223,7 @@ public class DataSet {
         int numberOfFrames = 1;
         int samplesPerPixel = 1;
         int bitsAllocated = 16;
+        int planarConfiguration = 0;
 
         while (in.available() > 0 && (lengthUndefined || in.position() < endOffset)) {
             /*
@@ -183,70 +256,25 @@ public class DataSet {
             }
 
             /*
-             * read vr
-             */
-            ValueRepresentation vr = null;
-            boolean foundIncorrectImplicitVRElementEncodingInExplicitVR = false;
-            if (in.currentTransferSyntax().explicitVR()) {
-                if (in.markSupported()) {
-                    in.mark(4);
-                }
-                vr = ValueRepresentation.read(in);
-                if (vr == null) {
-                    // could not read the vr. It could be the element is
-                    // incorrectly encoded with implicit vr. So we try to look
-                    // up the vr from the dictionary.
-                    foundIncorrectImplicitVRElementEncodingInExplicitVR = true;
-                    if (in.markSupported()) {
-                        in.reset();
-                    } else {
-                        // because mark is not supported. we cannot rewind
-                        // back 2 bytes.
-                        throw new DicomException("Failed to read explicit vr for element " + tag);
-                    }
-                    vr = Dictionary.get().getValueRepresentation(tag);
-                }
-                if (vr == null) {
-                    // still cannot identify the vr. fall back to UN.
-                    vr = ValueRepresentation.UN;
-                }
-            } else {
-                vr = Dictionary.get().getValueRepresentation(tag);
-                if (vr == null) {
-                    // cannot identify the vr. fall back to UN.
-                    vr = ValueRepresentation.UN;
-                }
-            }
-            /*
-             * read vl
+             * read vr and vl
              */
-            long vl;
-            if (in.currentTransferSyntax().explicitVR() && !foundIncorrectImplicitVRElementEncodingInExplicitVR) {
-                if (vr.isValueLengthShort()) {
-                    vl = in.readUnsignedShort();
-                } else {
-                    in.readUnsignedShort(); // reserved bytes
-                    vl = in.readUnsignedInt();
-                }
-            } else {
-                vl = in.readUnsignedInt();
-            }
+            ElementHeader header = ElementHeader.read(in, tag);
+            ValueRepresentation vr = header.vr;
+            long vl = header.vl;
 
             /*
-             * silently override UN with the vr from dictionary if applicable.
+             * skip the top level element if it is filtered out.
              */
-            if (in.currentTransferSyntax().explicitVR() && vr == ValueRepresentation.UN) {
-                ValueRepresentation vr0 = Dictionary.get().getValueRepresentation(tag);
-                if (vr0 != null && vr0 != ValueRepresentation.SQ) {
-                    vr = vr0;
+            TagFilter tagFilter = in.tagFilter();
+            if (tagFilter != null && !isSeqenceItem() && !tag.isFileMetaInformationGroup() && !tag.equals(AttributeTag.SpecificCharacterSet)) {
+                if (tagFilter.isPastLastIncluded(tag)) {
+                    // no more elements to read.
+                    return;
+                }
+                if (!tagFilter.accept(tag)) {
+                    skipValue(in, tag, vr, vl);
+                    continue;
                 }
-            }
-
-            /*
-             * silently override vr to LO if the tag is private creator.
-             */
-            if (tag.isPrivateCreator()) {
-                vr = ValueRepresentation.LO;
             }
 
             /*
@@ -272,29 +300,28 @@ public class DataSet {
                 /*
                  * validate value length
                  */
-                if (vl < 0) {
-                    throw new DicomException("Illegal fixed VL (" + vl + " dec, 0x" + Long.toHexString(vl) + ") - is negative - probably incorrect dataset - giving up.");
-                }
-                if (vr == ValueRepresentation.UN && vl > Integer.MAX_VALUE) {
-                    throw new DicomException("Illegal fixed VL (" + vl + " dec, 0x" + Long.toHexString(vl) + ") - is larger than can be allocated for UN VR - probably incorrect dataset - giving up.");
-                }
-                // a short VL VR should never have a VL greater than can be
-                // sent in explicit VR (2^16-1 == 65535), with the except of
-                // RT DVH (DS) that sometimes must be sent as implicit VR
-                // (Mathews, Bosch 2006 Phys. Med. Biol. 51 L11
-                // doi:10.1088/0031-9155/51/5/L01)
-                if (vr.isValueLengthShort() && vl > 65535 && !tag.equals(AttributeTag.DVHData)) {
-                    throw new DicomException("Unlikely fixed VL (" + vl + " dec, 0x" + Long.toHexString(vl) + ") for non-bulk data tag - probably incorrect dataset - giving up.");
-                }
-                if (foundIncorrectImplicitVRElementEncodingInExplicitVR && vl > MAX_VL_WHEN_RECOVER_FROM_INCORRECT_IMPLICIT_VR_ELEMENT_ENCODING_IN_EXPLICIT_VR) {
-                    throw new DicomException("Unlikely fixed VL (" + vl + " dec, 0x" + Long.toHexString(vl)
-                            + ") when recovering from incorrect Implicit VR element encoding in Explicit VR Transfer Syntax - giving up.");
-                }
+                header.checkValueLength();
                 de = DataElement.create(this, tag, vr, scs);
-                de.setSource(sourceFile(), sourceImageInputStream(), in.position(), vl);
-                de.readValue(in, vl);
+                if (de instanceof InlineBinaryElement && in.isLazyBulkData(tag, vr, vl)) {
+                    // skip the value. It will be read from the source on
+                    // first access.
+                    de.setSource(in.file(), in.imageInputStream(), in.position(), vl);
+                    ((InlineBinaryElement) de).setValueNotRead(in.bigEndian());
+                    in.skipFully(vl);
+                } else {
+                    de.setSource(sourceFile(), sourceImageInputStream(), in.position(), vl);
+                    de.readValue(in, vl);
+                }
+            } else if (vl == Constants.UNDEFINED_LENGTH && tag.equals(AttributeTag.PixelData) && in.isLazyBulkData(tag, vr, vl)) {
+                // encapsulated pixel data: skip the fragments. (The value
+                // cannot be read inline from the source later, but the source
+                // offset is recorded.)
+                de = new OtherByteElement(this, tag);
+                de.setSource(in.file(), in.imageInputStream(), in.position(), vl);
+                ((OtherByteElement) de).setSourceTransferSyntax(in.currentTransferSyntax());
+                EncapsulatedInputStream eis = new EncapsulatedInputStream(in);
+                eis.skipFragments();
             } else if (vl == Constants.UNDEFINED_LENGTH && tag.equals(AttributeTag.PixelData)) {
-                boolean doneReadingEncapsulatedData = false;
                 int bytesPerSample = (bitsAllocated - 1) / 8 + 1;
                 int wordsPerFrame = rows * columns * samplesPerPixel;
                 TransferSyntax ts = in.currentTransferSyntax();
@@ -308,7 +335,6 @@ public class DataSet {
                             }
                             de = new OtherByteElement(this, tag);
                             ((OtherByteElement) de).setValue(values);
-                            doneReadingEncapsulatedData = true;
                         } else if (bytesPerSample == 2) {
                             short[] values = new short[wordsPerFrame * numberOfFrames];
                             for (int f = 0; f < numberOfFrames; ++f) {
@@ -316,177 +342,32 @@ public class DataSet {
                             }
                             de = new OtherWordElement(this, tag);
                             ((OtherWordElement) de).setValue(values);
-                            doneReadingEncapsulatedData = true;
                         } else {
                             throw new DicomException("Encapsulated data of more than 2 bytes per sample not supported (got " + bytesPerSample + ")");
                         }
                     } else {
-                        String imageFormatName = null;
-                        if (ts != null) {
-                            if (ts.equals(TransferSyntax.JPEGBaseline) || ts.equals(TransferSyntax.JPEGExtended)) {
-                                imageFormatName = "JPEG";
-                                pixelDataWasLossy = true;
-                                lossyMethod = "ISO_10918_1";
-                            } else if (ts.equals(TransferSyntax.JPEG2000)) {
-                                imageFormatName = "JPEG2000";
-                                pixelDataWasLossy = true;
-                                lossyMethod = "ISO_15444_1";
-                            } else if (ts.equals(TransferSyntax.JPEG2000Lossless)) {
-                                imageFormatName = "JPEG2000";
-                                pixelDataWasLossy = false;
-                            } else if (ts.equals(TransferSyntax.JPEGLossless) || ts.equals(TransferSyntax.JPEGLosslessFOP)) {
-                                imageFormatName = "jpeg-lossless";
-                                pixelDataWasLossy = false;
-                            } else if (ts.equals(TransferSyntax.JPEGLSLossless)) {
-                                imageFormatName = "jpeg-ls";
-                                pixelDataWasLossy = false;
-                            } else if (ts.equals(TransferSyntax.JPEGLS)) {
-                                imageFormatName = "jpeg-ls";
-                                pixelDataWasLossy = true;
-                                lossyMethod = "ISO_14495_1";
-                            }
-                        }
-                        if (imageFormatName == null) {
-                            throw new DicomException("Unable to identify image format name for transfer syntax " + ts + ".");
-                        }
-                        scanForImageIOPlugins();
-                        ImageReader reader = (ImageReader) (ImageIO.getImageReadersByFormatName(imageFormatName).next());
-                        if (reader == null) {
-                            throw new DicomException("Unable to find image reader for transfer syntax " + ts + "(format: " + imageFormatName + ").");
-                        }
-                        ImageReaderSpi spi = reader.getOriginatingProvider();
-                        String readerDescription = spi.getDescription(Locale.US);
-                        String readerVendorName = spi.getVendorName();
-                        String readerVersion = spi.getVersion();
-                        if (ts.equals(TransferSyntax.JPEGExtended) && readerDescription.equals("Standard JPEG Image Reader") && readerVendorName.equals("Sun Microsystems, Inc.")) {
-                            throw new DicomException(
-                                    "Image reader " + readerDescription + " " + readerVendorName + " " + readerVersion + " does not support extended lossy JPEG transfer syntax " + ts);
+                        if (!CodecRegistry.hasCodec(ts)) {
+                            throw new DicomException("Unable to find codec for transfer syntax " + ts + ".");
                         }
-                        reader.addIIOReadProgressListener(new IIOReadProgressListener() {
-
-                            @Override
-                            public void sequenceStarted(ImageReader source, int minIndex) {
-                                // TODO Auto-generated method stub
-
-                            }
-
-                            @Override
-                            public void sequenceComplete(ImageReader source) {
-                                // TODO Auto-generated method stub
-
-                            }
-
-                            @Override
-                            public void imageStarted(ImageReader source, int imageIndex) {
-                                // TODO Auto-generated method stub
-
-                            }
-
-                            @Override
-                            public void imageProgress(ImageReader source, float percentageDone) {
-                                // TODO Auto-generated method stub
-
-                            }
-
-                            @Override
-                            public void imageComplete(ImageReader source) {
-                                // TODO Auto-generated method stub
-
-                            }
-
-                            @Override
-                            public void thumbnailStarted(ImageReader source, int imageIndex, int thumbnailIndex) {
-                                // TODO Auto-generated method stub
-
-                            }
-
-                            @Override
-                            public void thumbnailProgress(ImageReader source, float percentageDone) {
-                                // TODO Auto-generated method stub
-
-                            }
-
-                            @Override
-                            public void thumbnailComplete(ImageReader source) {
-                                // TODO Auto-generated method stub
-
-                            }
-
-                            @Override
-                            public void readAborted(ImageReader source) {
-                                // TODO Auto-generated method stub
-
-                            }
-                        });
-                        byte[] bytePixelData = null;
-                        short[] shortPixelData = null;
-                        int pixelsPerFrame = columns * rows * samplesPerPixel;
-                        int pixelsPerMultiFrameImage = pixelsPerFrame * numberOfFrames;
-                        try {
-                            for (int f = 0; f < numberOfFrames; ++f) {
-                                BufferedImage image = null;
-                                ImageInputStream iiois = ImageIO.createImageInputStream(eis);
-                                reader.setInput(iiois, true/* seekForwardOnly */, true/* ignoreMetadata */);
-                                image = reader.read(0);
-                                if (image == null) {
-                                    throw new DicomException(
-                                            "Reader " + spi.getDescription(Locale.US) + " " + spi.getVendorName() + " " + spi.getVersion() + " returned null image for Transfer Syntax " + ts);
-                                } else {
-                                    Raster raster = image.getData();
-                                    int numDataElements = raster.getNumDataElements();
-                                    if (numDataElements == samplesPerPixel) {
-                                        int transferType = raster.getTransferType();
-                                        if (transferType == DataBuffer.TYPE_BYTE) {
-                                            byte[] vPixelData = (byte[]) (raster.getDataElements(0, 0, columns, rows, null));
-                                            if (bytePixelData == null) {
-                                                if (numberOfFrames == 1) {
-                                                    bytePixelData = vPixelData;
-                                                } else {
-                                                    bytePixelData = new byte[pixelsPerMultiFrameImage];
-                                                }
-                                            }
-                                            if (vPixelData != null) {
-                                                System.arraycopy(vPixelData, 0, bytePixelData, pixelsPerFrame * f, pixelsPerFrame);
-                                            }
-                                        } else if (transferType == DataBuffer.TYPE_SHORT || transferType == DataBuffer.TYPE_USHORT) {
-                                            short[] vPixelData = (short[]) (raster.getDataElements(0, 0, columns, rows, null));
-                                            if (shortPixelData == null) {
-                                                if (numberOfFrames == 1) {
-                                                    shortPixelData = vPixelData;
-                                                } else {
-                                                    shortPixelData = new short[pixelsPerMultiFrameImage];
-                                                }
-                                            }
-                                            if (vPixelData != null) {
-                                                System.arraycopy(vPixelData, 0, shortPixelData, pixelsPerFrame * f, pixelsPerFrame);
-                                            }
-                                        }
-                                    }
-                                }
-                                eis.nextFrame();
-                            }
-                            // since we terminated loop on number of frames,
-                            // rather than keeping going until ran out, we need
-                            // to absorb the delimiter
-                            eis.readSequenceDelimiter();
-                            if (bytePixelData != null) {
-                                de = new OtherByteElement(this, tag);
-                                ((OtherByteElement) de).setValue(bytePixelData);
-                                pixelDataWasDecompressed = true;
-                            } else if (shortPixelData != null) {
-                                de = new OtherWordElement(this, tag);
-                                ((OtherWordElement) de).setValue(shortPixelData);
-                                pixelDataWasDecompressed = true;
-                            }
-                            doneReadingEncapsulatedData = true;
-                        } finally {
-                            reader.dispose();
+                        pixelDataWasLossy = ts.lossy();
+                        if (ts.equals(TransferSyntax.JPEGBaseline) || ts.equals(TransferSyntax.JPEGExtended)) {
+                            lossyMethod = "ISO_10918_1";
+                        } else if (ts.equals(TransferSyntax.JPEG2000)) {
+                            lossyMethod = "ISO_15444_1";
+                        } else if (ts.equals(TransferSyntax.JPEGLS)) {
+                            lossyMethod = "ISO_14495_1";
                         }
-                    }
-                    if (!doneReadingEncapsulatedData) {
-                        // skip to the end of the stream. It is appropriate to
-                        // use skip() rather than use skipFully() here.
-                        while (eis.skip(1024) > 0) {
+                        ByteBuffer[] frames = eis.readFrames(numberOfFrames);
+                        FrameFormat format = new FrameFormat(rows, columns, samplesPerPixel, bitsAllocated, planarConfiguration);
+                        Object pixelData = CodecRegistry.decode(ts, format, frames, in.frameDecodingExecutor());
+                        if (pixelData instanceof byte[]) {
+                            de = new OtherByteElement(this, tag);
+                            ((OtherByteElement) de).setValue((byte[]) pixelData);
+                            pixelDataWasDecompressed = true;
+                        } else if (pixelData instanceof short[]) {
+                            de = new OtherWordElement(this, tag);
+                            ((OtherWordElement) de).setValue((short[]) pixelData);
+                            pixelDataWasDecompressed = true;
                         }
                     }
                     long encapsulatedBytesRead = eis.bytesRead();
@@ -547,24 +428,91 @@ public class DataSet {
                 samplesPerPixel = de.intValue(1);
             } else if (tag.equals(AttributeTag.BitsAllocated)) {
                 bitsAllocated = de.intValue(16);
+            } else if (tag.equals(AttributeTag.PlanarConfiguration)) {
+                planarConfiguration = de.intValue(0);
             }
         }
     }
 
+    private static void skipValue(DicomInputStream in, AttributeTag tag, ValueRepresentation vr, long vl) throws Throwable {
+        if (vl != Constants.UNDEFINED_LENGTH) {
+            in.skipFully(vl);
+        } else if (vr == ValueRepresentation.SQ) {
+            DicomStreamParser.skipItems(in, vl);
+        } else if (tag.equals(AttributeTag.PixelData)) {
+            new EncapsulatedInputStream(in).skipFragments();
+        } else {
+            throw new DicomException("Failed to skip element " + tag + " of undefined length.");
+        }
+    }
+
     public void writeFragment(DicomOutputStream out) throws Throwable {
         for (DataElement de : _des.values()) {
             de.write(out);
         }
     }
 
+    /**
+     * The length of the encoded item: its elements.
+     * 
+     * @param explicitVR
+     * @param explicitLengthSequences
+     * @return
+     * @throws Throwable
+     */
+    long length(boolean explicitVR, boolean explicitLengthSequences) throws Throwable {
+        long length = 0;
+        for (DataElement de : _des.values()) {
+            length += de.length(explicitVR, explicitLengthSequences);
+        }
+        _length = length;
+        return length;
+    }
+
+    /**
+     * The length of the item computed by the last
+     * {@link #length(boolean, boolean)}.
+     * 
+     * @return
+     */
+    long length() {
+        return _length;
+    }
+
+    /**
+     * Writes the data set. If the stream writes explicit length sequences, the
+     * lengths of the sequences and of their items are computed first, in one
+     * pass, bottom-up.
+     * 
+     * @param out
+     * @param includeFileMetaInfo
+     * @throws Throwable
+     */
     public void write(DicomOutputStream out, boolean includeFileMetaInfo) throws Throwable {
-        DeflaterOutputStream deflaterOutputStream = null;
+        if (out.explicitLengthSequences()) {
+            boolean explicitVR = out.dataSetTransferSyntax().explicitVR();
+            for (DataElement de : _des.values()) {
+                if (de instanceof SequenceElement) {
+                    de.length(de.isFileMetaInfoElement() || explicitVR, true);
+                }
+            }
+        }
+        DicomOutputStream deflatedOut = null;
+        Deflater deflater = null;
         try {
             for (DataElement de : _des.values()) {
                 if (de.isDataSetElement()) {
-                    if (out.dataSetTransferSyntax().deflated()) {
-                        deflaterOutputStream = new DeflaterOutputStream(out, new Deflater(Deflater.BEST_COMPRESSION, true/* nowrap */));
-                        out = new DicomOutputStream(deflaterOutputStream, null, TransferSyntax.ExplicitVRLittleEndian);
+                    if (out.dataSetTransferSyntax().deflated() && deflatedOut == null) {
+                        OutputStream deflaterOutputStream;
+                        if (out.deflateExecutor() != null) {
+                            deflaterOutputStream = new ParallelDeflaterOutputStream(out, out.deflateLevel(), out.deflateExecutor(), out.deflateBufferSize());
+                        } else {
+                            deflater = new Deflater(out.deflateLevel(), true/* nowrap */);
+                            deflaterOutputStream = new DeflaterOutputStream(out, deflater, out.deflateBufferSize());
+                        }
+                        deflatedOut = new DicomOutputStream(deflaterOutputStream, null, TransferSyntax.ExplicitVRLittleEndian);
+                        deflatedOut.setExplicitLengthSequences(out.explicitLengthSequences());
+                        out = deflatedOut;
                     }
                     out.setWritingDataSet();
                 }
@@ -573,8 +521,15 @@ public class DataSet {
                 }
             }
         } finally {
-            if (deflaterOutputStream != null) {
-                deflaterOutputStream.close();
+            try {
+                if (deflatedOut != null) {
+                    // flushes the buffered bytes and finishes the deflater.
+                    deflatedOut.close();
+                }
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
             }
         }
     }
@@ -584,10 +539,27 @@ public class DataSet {
     }
 
     public void write(OutputStream out, TransferSyntax tsDataSet, boolean includeFileMetaInfo, boolean close) throws Throwable {
+        write(out, tsDataSet, includeFileMetaInfo, false, close);
+    }
+
+    /**
+     * 
+     * @param out
+     * @param tsDataSet
+     * @param includeFileMetaInfo
+     * @param explicitLengthSequences
+     *            write the sequences and items with explicit lengths instead
+     *            of delimiters.
+     * @param close
+     *            close the output stream.
+     * @throws Throwable
+     */
+    public void write(OutputStream out, TransferSyntax tsDataSet, boolean includeFileMetaInfo, boolean explicitLengthSequences, boolean close) throws Throwable {
         DicomOutputStream dout = null;
         try {
             TransferSyntax tsFileMetaInfo = includeFileMetaInfo ? TransferSyntax.ExplicitVRLittleEndian : null;
             dout = new DicomOutputStream(out, tsFileMetaInfo, tsDataSet);
+            dout.setExplicitLengthSequences(explicitLengthSequences);
             write(dout, includeFileMetaInfo);
             dout.close();
         } finally {
@@ -601,7 +573,11 @@ public class DataSet {
     }
 
     public void write(File f, TransferSyntax tsDataSet, boolean includeFileMetaInfo) throws Throwable {
-        write(new FileOutputStream(f), tsDataSet, includeFileMetaInfo, true);
+        write(f, tsDataSet, includeFileMetaInfo, false);
+    }
+
+    public void write(File f, TransferSyntax tsDataSet, boolean includeFileMetaInfo, boolean explicitLengthSequences) throws Throwable {
+        write(new ChannelOutputStream(f), tsDataSet, includeFileMetaInfo, explicitLengthSequences, true);
     }
 
     public void write(File f) throws Throwable {
@@ -615,7 +591,7 @@ public class DataSet {
     public void addElement(DataElement de, boolean replaceIfExists) throws Throwable {
         boolean exists = _des.containsKey(de.tag());
         if (!exists || replaceIfExists) {
-            _des.put(de.tag(), de);
+            _des.put(de);
         }
         if (exists && !replaceIfExists) {
             throw new DicomException("Element with tag " + de.tag() + " already exists in the data set.");
@@ -623,9 +599,7 @@ public class DataSet {
     }
 
     public void removeElement(AttributeTag tag) {
-        if (_des.containsKey(tag)) {
-            removeElement(tag);
-        }
+        _des.remove(tag);
     }
 
     public void remoteFileMetaInfoElements() throws Throwable {
@@ -637,6 +611,36 @@ public class DataSet {
         }
     }
 
+    /**
+     * Adds (or replaces) the group length element of each group, and
+     * FileMetaInformationGroupLength if there are file meta information
+     * elements. The lengths of the elements, and of the items of the
+     * sequences, are computed in one pass.
+     * 
+     * @param ts
+     *            the transfer syntax the data set will be written in.
+     * @param explicitLengthSequences
+     *            whether the sequences will be written with explicit lengths.
+     * @throws Throwable
+     */
+    public void addGroupLengthElements(TransferSyntax ts, boolean explicitLengthSequences) throws Throwable {
+        Map<Integer, Long> groupLengths = new LinkedHashMap<Integer, Long>();
+        for (DataElement de : _des.values()) {
+            if (de.tag().element() == 0x0000) {
+                continue;
+            }
+            // file meta information is explicit VR little endian
+            long length = de.length(de.isFileMetaInfoElement() || ts.explicitVR(), explicitLengthSequences);
+            Long groupLength = groupLengths.get(de.tag().group());
+            groupLengths.put(de.tag().group(), groupLength == null ? length : (groupLength + length));
+        }
+        for (Map.Entry<Integer, Long> entry : groupLengths.entrySet()) {
+            UnsignedLongElement de = new UnsignedLongElement(this, new AttributeTag(entry.getKey(), 0x0000));
+            de.setValue(entry.getValue());
+            addElement(de, true);
+        }
+    }
+
     public void removeGroupLengthElements() {
         for (Iterator<DataElement> it = _des.values().iterator(); it.hasNext();) {
             DataElement de = it.next();
@@ -721,21 +725,198 @@ public class DataSet {
         return null;
     }
 
+    /**
+     * Returns the top level element with the given tag.
+     * 
+     * @param tag
+     *            the tag as an unsigned int. e.g. 0x00100020
+     * @return
+     */
+    public DataElement element(int tag) {
+        return _des.get(tag);
+    }
+
     public boolean hasElement(AttributeTag tag) {
         return _des.containsKey(tag);
     }
 
+    public boolean hasElement(int tag) {
+        return _des.containsKey(tag);
+    }
+
     public boolean hasElement(AttributeTag[] tags) {
         return element(tags) != null;
     }
 
-    private static boolean _scannedForImageIOPlugins = false;
+    /*
+     * the index of the frames of the encapsulated pixel data (not read).
+     */
+    private FrameIndex _frameIndex;
+
+    /**
+     * The index of the frames of the encapsulated pixel data, when its value
+     * has not been read (lazy bulk data). It is built on the first call, from
+     * the Extended Offset Table if present, otherwise from the item headers in
+     * the source.
+     * 
+     * @return
+     * @throws Throwable
+     */
+    public synchronized FrameIndex frameIndex() throws Throwable {
+        if (_frameIndex == null) {
+            DataElement de = element(AttributeTag.PixelData);
+            if (de == null || de.hasValue() || !de.hasSource() || de.sourceValueLength() != Constants.UNDEFINED_LENGTH) {
+                throw new DicomException("No encapsulated pixel data to index in the source.");
+            }
+            DataElement eot = element(AttributeTag.ExtendedOffsetTable);
+            DataElement eotLengths = element(AttributeTag.ExtendedOffsetTableLengths);
+            ImageInputStream iis = de.sourceFile() != null ? new FileImageInputStream(de.sourceFile()) : de.sourceImageInputStream();
+            try {
+                synchronized (iis) {
+                    if (hasValueOrNotRead(eot) && hasValueOrNotRead(eotLengths)) {
+                        _frameIndex = FrameIndex.read(iis, de.sourceOffset(), eot.longValues(), eotLengths.longValues());
+                    } else {
+                        _frameIndex = FrameIndex.read(iis, de.sourceOffset(), intValueOf(AttributeTag.NumberOfFrames, 1));
+                    }
+                }
+            } finally {
+                if (de.sourceFile() != null) {
+                    iis.close();
+                }
+            }
+        }
+        return _frameIndex;
+    }
+
+    /*
+     * the element has a value, or its value was skipped when reading (and is
+     * read from the source on first access).
+     */
+    private static boolean hasValueOrNotRead(DataElement de) {
+        return de != null && (de.hasValue() || (de instanceof InlineBinaryElement && ((InlineBinaryElement) de).valueNotRead()));
+    }
+
+    /**
+     * Decodes a frame of the pixel data. If the pixel data has not been read,
+     * only the frame is read from the source: its slice of the native pixel
+     * data, or its fragments if the pixel data is encapsulated (see
+     * {@link #frameIndex()}).
+     * 
+     * @param frame
+     *            the frame index, from 0.
+     * @return the pixels of the frame: byte[] or short[].
+     * @throws Throwable
+     */
+    public Object decodeFrame(int frame) throws Throwable {
+        DataElement de = element(AttributeTag.PixelData);
+        if (de == null) {
+            throw new DicomException("No pixel data.");
+        }
+        int numberOfFrames = intValueOf(AttributeTag.NumberOfFrames, 1);
+        if (frame < 0 || frame >= numberOfFrames) {
+            throw new DicomException("Frame " + frame + " is out of range (number of frames: " + numberOfFrames + ").");
+        }
+        FrameFormat format = FrameFormat.get(this);
+        int pixelsPerFrame = format.samplesPerFrame();
+        if (!de.hasValue() && de.sourceValueLength() != Constants.UNDEFINED_LENGTH && de instanceof InlineBinaryElement
+                && ((InlineBinaryElement) de).valueNotRead() && format.bitsAllocated() % 8 == 0) {
+            return readNativeFrame((InlineBinaryElement) de, format, frame);
+        }
+        if (de.hasValue() || de.sourceValueLength() != Constants.UNDEFINED_LENGTH) {
+            // native: the value is read from the source if it was skipped.
+            Object value = de.value();
+            if (value == null) {
+                throw new DicomException("No pixel data value.");
+            } else if (value instanceof short[] && format.bitsAllocated() <= 8) {
+                // OW: the first byte of each pair is the low byte of the word.
+                short[] words = (short[]) value;
+                byte[] pixels = new byte[pixelsPerFrame];
+                for (int i = 0, p = frame * pixelsPerFrame; i < pixelsPerFrame; i++, p++) {
+                    pixels[i] = (byte) ((p & 1) == 0 ? words[p >> 1] : words[p >> 1] >> 8);
+                }
+                return pixels;
+            } else if (value instanceof short[]) {
+                return Arrays.copyOfRange((short[]) value, frame * pixelsPerFrame, (frame + 1) * pixelsPerFrame);
+            } else if (value instanceof byte[] && intValueOf(AttributeTag.BitsAllocated, 16) <= 8) {
+                return Arrays.copyOfRange((byte[]) value, frame * pixelsPerFrame, (frame + 1) * pixelsPerFrame);
+            }
+            throw new DicomException("Unsupported pixel data value: " + de.valueRepresentation() + ".");
+        }
+        TransferSyntax ts = TransferSyntax.get(this, null);
+        if (!CodecRegistry.hasCodec(ts)) {
+            throw new DicomException("Unable to find codec for transfer syntax " + ts + ".");
+        }
+        FrameIndex index = frameIndex();
+        byte[] compressed;
+        ImageInputStream iis = de.sourceFile() != null ? new FileImageInputStream(de.sourceFile()) : de.sourceImageInputStream();
+        try {
+            synchronized (iis) {
+                compressed = index.readFrame(iis, frame);
+            }
+        } finally {
+            if (de.sourceFile() != null) {
+                iis.close();
+            }
+        }
+        Object pixels = format.createPixelData(1);
+        FrameDecoder decoder = CodecRegistry.acquireDecoder(ts);
+        try {
+            decoder.decode(ByteBuffer.wrap(compressed), format, pixels, 0);
+        } finally {
+            CodecRegistry.releaseDecoder(ts, decoder);
+        }
+        return pixels;
+    }
 
-    private static void scanForImageIOPlugins() {
-        if (!_scannedForImageIOPlugins) {
-            ImageIO.scanForPlugins();
-            _scannedForImageIOPlugins = true;
+    /**
+     * Reads a frame of native pixel data that has not been read, from its
+     * offset in the source.
+     * 
+     * @param de
+     *            the pixel data element.
+     * @param format
+     * @param frame
+     * @return the pixels of the frame: byte[] or short[].
+     * @throws Throwable
+     */
+    private static Object readNativeFrame(InlineBinaryElement de, FrameFormat format, int frame) throws Throwable {
+        long frameBytes = (long) format.samplesPerFrame() * format.bytesPerSample();
+        long offset = frame * frameBytes;
+        if (offset + frameBytes > de.sourceValueLength()) {
+            throw new DicomException("Frame " + frame + " (" + frameBytes + " bytes at " + offset + ") is beyond the end of the pixel data ("
+                    + de.sourceValueLength() + " bytes).");
+        }
+        // big endian OW: the bytes of each word are swapped, so the pairs of
+        // bytes are read whole.
+        boolean swapPairs = de.sourceBigEndian() && de.valueRepresentation() == ValueRepresentation.OW && format.bytesPerSample() == 1;
+        long start = swapPairs ? (offset & ~1L) : offset;
+        long end = swapPairs ? Math.min((offset + frameBytes + 1) & ~1L, de.sourceValueLength()) : offset + frameBytes;
+        byte[] b = new byte[(int) (end - start)];
+        ImageInputStream iis = de.sourceFile() != null ? new FileImageInputStream(de.sourceFile()) : de.sourceImageInputStream();
+        try {
+            synchronized (iis) {
+                iis.seek(de.sourceOffset() + start);
+                iis.readFully(b);
+            }
+        } finally {
+            if (de.sourceFile() != null) {
+                iis.close();
+            }
+        }
+        Object pixels = format.createPixelData(1);
+        if (pixels instanceof byte[]) {
+            if (swapPairs) {
+                for (int i = 0; i + 1 < b.length; i += 2) {
+                    byte t = b[i];
+                    b[i] = b[i + 1];
+                    b[i + 1] = t;
+                }
+                return Arrays.copyOfRange(b, (int) (offset - start), (int) (offset - start + frameBytes));
+            }
+            return b;
         }
+        ByteBuffer.wrap(b).order(de.sourceBigEndian() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN).asShortBuffer().get((short[]) pixels);
+        return pixels;
     }
 
     public int intValueOf(AttributeTag tag, int defaultValue) {
@@ -2,7 +2,6 @@ package wxyz.dcmj.dicom;
 
 import java.util.Calendar;
 import java.util.GregorianCalendar;
-import java.util.regex.Pattern;
 
 public class Date {
 
@@ -41,38 +40,9 @@ public class Date {
     }
 
     public static void validate(String value) throws Throwable {
-        if (value == null) {
+        if (value == null || !ValueValidator.isValidDA(value)) {
             throw new DicomException("Invalid Date(DA) value: " + value);
         }
-        value = value.replaceAll("\\.", "");
-        if (!Pattern.matches("^\\d{8}$", value)) {
-            throw new DicomException("Invalid Date(DA) value: " + value);
-        }
-        int year = Integer.parseInt(value.substring(0, 4));
-        int month = Integer.parseInt(value.substring(4, 6));
-        if (month < 1 || month > 12) {
-            throw new DicomException("Invalid Date(DA) value: " + value + ". Wrong month: " + month);
-        }
-        int date = Integer.parseInt(value.substring(6, 8));
-        if (date < 1 || date > 31) {
-            throw new DicomException("Invalid Date(DA) value: " + value + ". Wrong date: " + date);
-        }
-        if (month == 4 || month == 6 || month == 9 || month == 11) {
-            if (date > 30) {
-                throw new DicomException("Invalid Date(DA) value: " + value + ". Wrong date: " + date);
-            }
-        }
-        if (month == 2) {
-            if (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) {
-                if (date > 29) {
-                    throw new DicomException("Invalid Date(DA) value: " + value + ". Wrong date: " + date);
-                }
-            } else {
-                if (date > 28) {
-                    throw new DicomException("Invalid Date(DA) value: " + value + ". Wrong date: " + date);
-                }
-            }
-        }
     }
 
 }
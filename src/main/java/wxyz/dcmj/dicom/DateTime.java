@@ -92,86 +92,9 @@ public class DateTime {
     }
 
     public static void validate(String value) throws Throwable {
-        /*
-         * validate
-         */
-        if (value == null) {
+        if (value == null || !ValueValidator.isValidDT(value)) {
             throw new DicomException("Invalid DateTime (DT) value: " + value);
         }
-        try {
-            value = StringUtils.trimRight(value);
-            String time = value;
-            int idxPositiveSign = value.indexOf('+');
-            int idxNegativeSign = value.indexOf('-');
-            if (idxPositiveSign != -1 || idxNegativeSign != -1) {
-                if (value.length() != idxPositiveSign + 5) {
-                    throw new DicomException("Invalid DateTime (DT) value: " + value);
-                }
-                time = value.substring(0, idxPositiveSign);
-                int zoneOffsetHour = Integer.parseInt(value.substring(idxPositiveSign + 1, idxPositiveSign + 3));
-                if (zoneOffsetHour < 0 || zoneOffsetHour > 11) {
-                    throw new DicomException("Invalid DateTime (DT) value: " + value);
-                }
-                int zoneOffsetMinute = Integer.parseInt(value.substring(idxPositiveSign + 3, idxPositiveSign + 5));
-                if (zoneOffsetMinute < 0 || zoneOffsetMinute > 59) {
-                    throw new DicomException("Invalid DateTime (DT) value: " + value);
-                }
-            }
-            int idxFloatPoint = value.indexOf('.');
-            if (idxFloatPoint != -1) {
-                if (idxFloatPoint != 14) {
-                    throw new DicomException("Invalid DateTime (DT) value: " + value);
-                }
-                Double.parseDouble("0." + time.substring(idxFloatPoint + 1));
-                time = time.substring(0, idxFloatPoint);
-            }
-            if (time.length() < 4) {
-                throw new DicomException("Invalid DateTime (DT) value: " + value);
-            }
-            int year = Integer.parseInt(value.substring(0, 4));
-            if (year < 0 || year > 9999) {
-                throw new DicomException("Invalid DateTime (DT) value: " + value);
-            }
-            int month = 0;
-            int date;
-            if (time.length() > 4) {
-                month = Integer.parseInt(time.substring(4, 6));
-                if (month < 1 || month > 12) {
-                    throw new DicomException("Invalid DateTime (DT) value: " + value);
-                }
-            }
-            if (time.length() > 6) {
-                date = Integer.parseInt(time.substring(6, 8));
-                if (isValid(year, month, date)) {
-                    throw new DicomException("Invalid DateTime (DT) value: " + value);
-                }
-            }
-            if (time.length() > 8) {
-                int hour = Integer.parseInt(time.substring(8, 10));
-                if (hour < 0 || hour > 23) {
-                    throw new DicomException("Invalid DateTime (DT) value: " + value);
-                }
-            }
-            if (time.length() > 10) {
-                int minute = Integer.parseInt(time.substring(10, 12));
-                if (minute < 0 || minute > 59) {
-                    throw new DicomException("Invalid DateTime (DT) value: " + value);
-                }
-            }
-            if (time.length() > 12) {
-                int second = Integer.parseInt(time.substring(12, 14));
-                if (second < 0 || second > 60) {
-                    // 60 is leap second
-                    throw new DicomException("Invalid DateTime (DT) value: " + value);
-                }
-            }
-        } catch (Throwable e) {
-            if (e instanceof DicomException) {
-                throw e;
-            } else {
-                throw new DicomException("Invalid DateTime (DT) value: " + value, e);
-            }
-        }
     }
 
     public static DateTime parse(String value) throws Throwable {
@@ -238,7 +161,7 @@ public class DateTime {
                 return new DateTime(year, month, date, hour, minute, second, millisecond);
             }
             date = Integer.parseInt(time.substring(6, 8));
-            if (isValid(year, month, date)) {
+            if (!isValid(year, month, date)) {
                 throw new DicomException("Invalid DateTime (DT) value: " + value);
             }
             if (time.length() == 8) {
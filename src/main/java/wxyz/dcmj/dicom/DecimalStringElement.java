@@ -26,7 +26,7 @@ package wxyz.dcmj.dicom;
  * 
  *
  */
-public class DecimalStringElement extends AsciiStringElement {
+public class DecimalStringElement extends NumberStringElement {
 
     public static final int MAX_BYTES_PER_VALUE = 16;
 
@@ -42,10 +42,21 @@ public class DecimalStringElement extends AsciiStringElement {
         if (value.length() > MAX_BYTES_PER_VALUE) {
             throw new DicomException("Invalid DecimalString(DS) value: " + value + ". Maximum " + MAX_BYTES_PER_VALUE + " bytes per value is reached.");
         }
+        if (!ValueValidator.isValidDS(value)) {
+            throw new DicomException("Failed parse DecimalString(DS) value: " + value);
+        }
+    }
+
+    @Override
+    protected boolean isValid(byte[] b, int off, int len) {
+        if (len > MAX_BYTES_PER_VALUE) {
+            return false;
+        }
         try {
-            Double.parseDouble(value);
-        } catch (Throwable e) {
-            throw new DicomException("Failed parse DecimalString(DS) value: " + value, e);
+            NumberStrings.parseDouble(b, off, len);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
         }
     }
 
@@ -70,7 +81,27 @@ public class DecimalStringElement extends AsciiStringElement {
     }
 
     public void addValue(double n) throws Throwable {
-        addValue(Double.toString(n));
+        addValue(NumberStrings.toString(n));
+    }
+
+    /**
+     * Adds the values, formatted directly into the element value (see
+     * {@link NumberStrings#format(double, byte[], int)}). The value
+     * multiplicity is not checked.
+     * 
+     * @param ns
+     * @throws Throwable
+     */
+    public void addValues(double[] ns) throws Throwable {
+        NumberStringValueList values = numberStringValues();
+        for (double n : ns) {
+            values.append(n);
+        }
+    }
+
+    public void setValues(double[] ns) throws Throwable {
+        removeAllValues();
+        addValues(ns);
     }
 
     public void addValue(Number n) throws Throwable {
@@ -98,7 +129,7 @@ public class DecimalStringElement extends AsciiStringElement {
     }
 
     public void setValue(double n) throws Throwable {
-        setValue(Double.toString(n));
+        setValue(NumberStrings.toString(n));
     }
 
     public void setValue(Number n) throws Throwable {
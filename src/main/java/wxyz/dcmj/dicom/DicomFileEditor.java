@@ -0,0 +1,254 @@
+package wxyz.dcmj.dicom;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import wxyz.dcmj.dicom.io.DicomOutputStream;
+
+/**
+ * Sets the values of top level elements of a DICOM file (with file meta
+ * information).
+ *
+ * If the encoded value of each edit fits in the value of the existing element
+ * (string values are padded to the same length), the values are written in
+ * place over the existing ones, and the rest of the file is not touched.
+ * Otherwise the file is rewritten, its bulk data values copied from the file
+ * without being read.
+ *
+ * <pre>
+ * DicomFileEditor editor = new DicomFileEditor(file);
+ * editor.set(AttributeTag.PatientID, "12345");
+ * editor.set(AttributeTag.InstitutionName, "HOSPITAL");
+ * boolean inPlace = editor.apply();
+ * </pre>
+ *
+ */
+public class DicomFileEditor {
+
+    /*
+     * the values of at least this length are not read from the file (see
+     * DicomInputStream.setLazyBulkDataThreshold()).
+     */
+    private static final long LAZY_BULK_DATA_THRESHOLD = 1024;
+
+    private File _file;
+    private Map<AttributeTag, DataElement<?>> _elements;
+    private Map<AttributeTag, String[]> _strings;
+
+    public DicomFileEditor(File file) {
+        _file = file;
+        _elements = new LinkedHashMap<AttributeTag, DataElement<?>>();
+        _strings = new LinkedHashMap<AttributeTag, String[]>();
+    }
+
+    public File file() {
+        return _file;
+    }
+
+    /**
+     * Sets the element, replacing the existing one (if any).
+     *
+     * @param de
+     * @return this editor.
+     */
+    public DicomFileEditor set(DataElement<?> de) {
+        _strings.remove(de.tag());
+        _elements.put(de.tag(), de);
+        return this;
+    }
+
+    /**
+     * Sets the values of the string element. Its VR is the VR of the existing
+     * element (or the VR in the dictionary), and the values are encoded with
+     * the SpecificCharacterSet of the file.
+     *
+     * @param tag
+     * @param values
+     * @return this editor.
+     */
+    public DicomFileEditor set(AttributeTag tag, String... values) {
+        _elements.remove(tag);
+        _strings.put(tag, values);
+        return this;
+    }
+
+    /**
+     * Applies the edits to the file.
+     *
+     * @return true if the values were written in place, false if the file was
+     *         rewritten.
+     * @throws Throwable
+     */
+    public boolean apply() throws Throwable {
+        DataSet ds = new DataSet();
+        ds.read(_file, null, false, LAZY_BULK_DATA_THRESHOLD);
+        DataElement<?> tsElement = ds.element(AttributeTag.TransferSyntaxUID);
+        if (tsElement == null) {
+            throw new DicomException("File " + _file.getPath() + " has no file meta information.");
+        }
+        TransferSyntax ts = TransferSyntax.fromString(tsElement.stringValue(), TransferSyntax.ExplicitVRLittleEndian);
+        List<DataElement<?>> edits = edits(ds);
+
+        // NOTE: the source offsets of a deflated data set are not file offsets.
+        boolean inPlace = !ts.deflated();
+        List<byte[]> values = new ArrayList<byte[]>(edits.size());
+        for (int i = 0; i < edits.size() && inPlace; i++) {
+            byte[] value = valueInPlace(ds.element(edits.get(i).tag()), edits.get(i), ts);
+            if (value == null) {
+                inPlace = false;
+            } else {
+                values.add(value);
+            }
+        }
+        if (inPlace) {
+            RandomAccessFile raf = new RandomAccessFile(_file, "rw");
+            try {
+                FileChannel channel = raf.getChannel();
+                for (int i = 0; i < edits.size(); i++) {
+                    long offset = ds.element(edits.get(i).tag()).sourceOffset();
+                    ByteBuffer b = ByteBuffer.wrap(values.get(i));
+                    while (b.hasRemaining()) {
+                        channel.write(b, offset + b.position());
+                    }
+                }
+            } finally {
+                raf.close();
+            }
+            return true;
+        }
+
+        // rewrite to a temporary file (the values not read are copied from
+        // the file), then replace the file.
+        for (DataElement<?> de : edits) {
+            ds.addElement(de, true);
+        }
+        updateGroupLengths(ds, ts);
+        File tmp = File.createTempFile(_file.getName(), ".tmp", _file.getAbsoluteFile().getParentFile());
+        try {
+            ds.write(tmp, ts, true);
+            Files.move(tmp.toPath(), _file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            if (tmp.exists()) {
+                tmp.delete();
+            }
+        }
+        return false;
+    }
+
+    private List<DataElement<?>> edits(DataSet ds) throws Throwable {
+        List<DataElement<?>> edits = new ArrayList<DataElement<?>>(_elements.values());
+        DataElement<?> scsElement = ds.element(AttributeTag.SpecificCharacterSet);
+        SpecificCharacterSet scs = scsElement == null ? null : SpecificCharacterSet.get(scsElement.stringValues());
+        for (Map.Entry<AttributeTag, String[]> entry : _strings.entrySet()) {
+            AttributeTag tag = entry.getKey();
+            DataElement<?> existing = ds.element(tag);
+            ValueRepresentation vr = null;
+            if (existing != null) {
+                vr = existing.valueRepresentation();
+            } else {
+                Dictionary.Entry de = Dictionary.get().getEntry(tag);
+                vr = de == null ? null : de.vr();
+            }
+            if (vr == null) {
+                throw new DicomException("Unable to find the VR of element " + tag + ".");
+            }
+            DataElement<?> created = DataElement.create(ds, tag, vr, scs);
+            if (!(created instanceof StringElement)) {
+                throw new DicomException("Element " + tag + " (" + vr + ") is not a string element.");
+            }
+            StringElement de = (StringElement) created;
+            for (String value : entry.getValue()) {
+                de.addValue(value);
+            }
+            edits.add(de);
+        }
+        return edits;
+    }
+
+    /**
+     * The bytes to write over the value of the existing element.
+     *
+     * @param existing
+     *            the element in the file. Can be null.
+     * @param de
+     *            the new element.
+     * @param ts
+     *            the transfer syntax of the data set.
+     * @return the encoded value, padded to the length of the existing value,
+     *         or null if it cannot be written in place.
+     * @throws Throwable
+     */
+    private static byte[] valueInPlace(DataElement<?> existing, DataElement<?> de, TransferSyntax ts) throws Throwable {
+        if (existing == null || existing instanceof SequenceElement || !existing.hasSource() || existing.sourceFile() == null
+                || existing.sourceValueLength() == Constants.UNDEFINED_LENGTH || existing.valueRepresentation() != de.valueRepresentation()) {
+            return null;
+        }
+        long vl = existing.sourceValueLength();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DicomOutputStream out = new DicomOutputStream(bytes, null, de.isFileMetaInfoElement() ? TransferSyntax.ExplicitVRLittleEndian : ts);
+        de.writeValue(out);
+        out.flush();
+        byte[] value = bytes.toByteArray();
+        if (value.length == vl) {
+            return value;
+        }
+        // only the strings can be padded (but not UIDs, padded with a single
+        // NULL).
+        if (value.length > vl || !(de instanceof StringElement) || de.valueRepresentation() == ValueRepresentation.UI) {
+            return null;
+        }
+        byte[] padded = Arrays.copyOf(value, (int) vl);
+        Arrays.fill(padded, value.length, padded.length, de.valueRepresentation().paddingByte());
+        return padded;
+    }
+
+    /**
+     * Updates the group length elements (gggg,0000) of the top level groups
+     * (if any, including FileMetaInformationGroupLength) after the elements
+     * were edited. The file meta information is in explicit VR little endian.
+     *
+     * @param ds
+     * @param ts
+     *            the transfer syntax of the data set.
+     * @throws Throwable
+     */
+    private static void updateGroupLengths(DataSet ds, TransferSyntax ts) throws Throwable {
+        Map<Integer, Long> groupLengths = new LinkedHashMap<Integer, Long>();
+        for (DataElement<?> de : ds.elements()) {
+            if (de.tag().element() == 0x0000) {
+                groupLengths.put(de.tag().group(), 0L);
+            }
+        }
+        if (groupLengths.isEmpty()) {
+            return;
+        }
+        for (DataElement<?> de : ds.elements()) {
+            Long length = groupLengths.get(de.tag().group());
+            if (length != null && de.tag().element() != 0x0000) {
+                groupLengths.put(de.tag().group(), length + de.length(de.isFileMetaInfoElement() || ts.explicitVR(), false));
+            }
+        }
+        for (Map.Entry<Integer, Long> entry : groupLengths.entrySet()) {
+            DataElement<?> groupLength = ds.element(new AttributeTag(entry.getKey(), 0x0000));
+            if (groupLength instanceof UnsignedLongElement) {
+                ((UnsignedLongElement) groupLength).setValue(entry.getValue());
+            } else {
+                // e.g. read as UN in implicit VR: replaced.
+                UnsignedLongElement de = new UnsignedLongElement(ds, groupLength.tag());
+                de.setValue(entry.getValue());
+                ds.addElement(de, true);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package wxyz.dcmj.dicom;
+
+/**
+ * Callbacks of {@link DicomStreamParser}. The start callbacks decide whether
+ * the value (or the content of the sequence, item or fragment) is read, skipped
+ * or whether the parsing stops. The end callbacks are called after the value
+ * has been read or skipped.
+ *
+ * Offsets are the stream positions of the first byte of the element (its tag),
+ * item or fragment. When the data set is deflated, the offsets of the data set
+ * elements are positions in the inflated stream.
+ *
+ * The default implementations read everything and ignore it.
+ *
+ */
+public interface DicomStreamHandler {
+
+    public static enum Action {
+        /**
+         * read the value (or content).
+         */
+        READ,
+        /**
+         * skip the value (or content) without reading it.
+         */
+        SKIP,
+        /**
+         * stop parsing.
+         */
+        STOP
+    }
+
+    /**
+     * Start of a non-sequence element. For encapsulated pixel data, the vl is
+     * {@link Constants#UNDEFINED_LENGTH} and the value is delivered as
+     * fragments.
+     *
+     * @param tag
+     * @param vr
+     * @param vl
+     * @param offset
+     * @return
+     * @throws Throwable
+     */
+    default Action startElement(AttributeTag tag, ValueRepresentation vr, long vl, long offset) throws Throwable {
+        return Action.READ;
+    }
+
+    /**
+     * A chunk of the value of the element (or of the fragment), in the byte
+     * order of the current transfer syntax. The bytes are only valid during
+     * the call.
+     *
+     * @param tag
+     * @param b
+     * @param off
+     * @param len
+     * @throws Throwable
+     */
+    default void value(AttributeTag tag, byte[] b, int off, int len) throws Throwable {
+
+    }
+
+    default void endElement(AttributeTag tag) throws Throwable {
+
+    }
+
+    default Action startSequence(AttributeTag tag, long vl, long offset) throws Throwable {
+        return Action.READ;
+    }
+
+    default void endSequence(AttributeTag tag) throws Throwable {
+
+    }
+
+    default Action startItem(AttributeTag sequenceTag, int index, long vl, long offset) throws Throwable {
+        return Action.READ;
+    }
+
+    default void endItem(AttributeTag sequenceTag, int index) throws Throwable {
+
+    }
+
+    /**
+     * Start of a fragment of encapsulated pixel data. The first fragment
+     * (index 0) is the basic offset table.
+     *
+     * @param tag
+     * @param index
+     * @param vl
+     * @param offset
+     * @return
+     * @throws Throwable
+     */
+    default Action startFragment(AttributeTag tag, int index, long vl, long offset) throws Throwable {
+        return Action.READ;
+    }
+
+    default void endFragment(AttributeTag tag, int index) throws Throwable {
+
+    }
+
+}
@@ -0,0 +1,298 @@
+package wxyz.dcmj.dicom;
+
+import java.io.File;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import wxyz.dcmj.dicom.DicomStreamHandler.Action;
+import wxyz.dcmj.dicom.io.DicomInputStream;
+import wxyz.dcmj.dicom.util.ByteUtils;
+
+/**
+ * Parses a DICOM stream and reports its structure to a
+ * {@link DicomStreamHandler}, without creating any {@link DataElement}. The
+ * values are delivered in chunks of a reused buffer, or skipped, as the handler
+ * decides.
+ *
+ */
+public class DicomStreamParser {
+
+    public static final int CHUNK_SIZE = 8192;
+
+    private DicomInputStream _in;
+    private DicomStreamHandler _handler;
+    private byte[] _chunk;
+    private long _metaEnd;
+    private int _skipping;
+    private boolean _stopped;
+
+    public DicomStreamParser(DicomInputStream in, DicomStreamHandler handler) {
+        _in = in;
+        _handler = handler;
+        _metaEnd = -1;
+        _skipping = 0;
+        _stopped = false;
+    }
+
+    /**
+     * The stream being parsed. (It is not the stream passed to the constructor
+     * once a deflated data set has been reached.)
+     *
+     * @return
+     */
+    public DicomInputStream inputStream() {
+        return _in;
+    }
+
+    public TransferSyntax currentTransferSyntax() {
+        return _in.currentTransferSyntax();
+    }
+
+    /**
+     * The current position. In the start callbacks, it is the offset of the
+     * value.
+     *
+     * @return
+     */
+    public long position() {
+        return _in.position();
+    }
+
+    /**
+     * Whether the handler has stopped the parsing.
+     *
+     * @return
+     */
+    public boolean stopped() {
+        return _stopped;
+    }
+
+    public void parse() throws Throwable {
+        _stopped = false;
+        if (_in.isReadingDataSet()) {
+            inflateIfDeflated();
+        }
+        parseDataSet(Constants.UNDEFINED_LENGTH, true);
+    }
+
+    public static void parse(File file, DicomStreamHandler handler) throws Throwable {
+        parse(file, false, handler);
+    }
+
+    public static void parse(File file, boolean memoryMapped, DicomStreamHandler handler) throws Throwable {
+        DicomInputStream in = new DicomInputStream(file, memoryMapped);
+        try {
+            new DicomStreamParser(in, handler).parse();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Skips the items of the sequence whose header has just been read.
+     *
+     * @param in
+     * @param vl
+     *            the value length of the sequence. Can be undefined.
+     * @throws Throwable
+     */
+    static void skipItems(DicomInputStream in, long vl) throws Throwable {
+        if (vl != Constants.UNDEFINED_LENGTH) {
+            in.skipFully(vl);
+        } else {
+            DicomStreamParser parser = new DicomStreamParser(in, null);
+            parser._skipping = 1;
+            parser.parseItems(null, vl);
+        }
+    }
+
+    private void inflateIfDeflated() throws Throwable {
+        if (_in.dataSetTransferSyntax().deflated()) {
+            _in = new DicomInputStream(new InflaterInputStream(_in, new Inflater(true)), TransferSyntax.ExplicitVRLittleEndian.uid());
+        }
+    }
+
+    private void parseDataSet(long length, boolean topLevel) throws Throwable {
+        final boolean lengthUndefined = (length == Constants.UNDEFINED_LENGTH);
+        final long endOffset = lengthUndefined ? Constants.UNDEFINED_LENGTH : (_in.position() + length);
+        while (!_stopped) {
+            if (topLevel && _in.isReadingFileMetaInfo() && _metaEnd >= 0 && _in.position() >= _metaEnd) {
+                // end of the meta data header
+                _in.setReadingDataSet();
+                inflateIfDeflated();
+            }
+            if (lengthUndefined ? _in.available() <= 0 : _in.position() >= endOffset) {
+                break;
+            }
+            long offset = _in.position();
+            AttributeTag tag = AttributeTag.read(_in);
+            if (tag.equals(AttributeTag.ItemDelimitationItem)) {
+                // Read and discard value length
+                _in.readUnsignedInt();
+                return;
+            }
+            if (tag.equals(AttributeTag.Item)) {
+                // see DataSet.read()
+                long vl = _in.readUnsignedInt();
+                System.err.println("Ignoring bad Item at " + _in.position() + " " + tag + " VL=<0x" + Long.toHexString(vl) + ">");
+                continue;
+            }
+            ElementHeader header = ElementHeader.read(_in, tag);
+            if (header.vr == ValueRepresentation.SQ) {
+                parseSequence(tag, header.vl, offset);
+            } else if (header.vl != Constants.UNDEFINED_LENGTH) {
+                header.checkValueLength();
+                parseElement(header, offset, topLevel && _in.isReadingFileMetaInfo());
+            } else if (tag.equals(AttributeTag.PixelData)) {
+                parseFragments(header, offset);
+            } else {
+                throw new DicomException("Failed to read element " + tag + " of undefined length.");
+            }
+        }
+    }
+
+    private void parseElement(ElementHeader header, long offset, boolean readingFileMetaInfo) throws Throwable {
+        AttributeTag tag = header.tag;
+        long vl = header.vl;
+        Action action = _skipping > 0 ? Action.SKIP : _handler.startElement(tag, header.vr, vl, offset);
+        if (readingFileMetaInfo && (tag.equals(AttributeTag.FileMetaInformationGroupLength) || tag.equals(AttributeTag.TransferSyntaxUID))) {
+            // needed to read the rest of the stream, whatever the handler
+            // does.
+            byte[] b = new byte[(int) vl];
+            _in.readFully(b);
+            if (tag.equals(AttributeTag.TransferSyntaxUID)) {
+                _in.setDataSetTransferSyntax(TransferSyntax.fromString(new String(b, "US-ASCII").trim(), TransferSyntax.ExplicitVRLittleEndian));
+            } else if (vl == 4) {
+                _metaEnd = _in.position() + (ByteUtils.toInt(b, 0, _in.bigEndian()) & 0xffffffffL);
+            }
+            if (action == Action.READ) {
+                _handler.value(tag, b, 0, b.length);
+            }
+        } else if (action == Action.READ) {
+            readValue(tag, vl);
+        } else if (action == Action.SKIP) {
+            _in.skipFully(vl);
+        }
+        if (action == Action.STOP) {
+            _stopped = true;
+        } else if (_skipping == 0) {
+            _handler.endElement(tag);
+        }
+    }
+
+    private void readValue(AttributeTag tag, long vl) throws Throwable {
+        if (_chunk == null) {
+            _chunk = new byte[CHUNK_SIZE];
+        }
+        long remaining = vl;
+        while (remaining > 0) {
+            int n = remaining < _chunk.length ? (int) remaining : _chunk.length;
+            _in.readFully(_chunk, 0, n);
+            _handler.value(tag, _chunk, 0, n);
+            remaining -= n;
+        }
+    }
+
+    private void parseSequence(AttributeTag tag, long vl, long offset) throws Throwable {
+        Action action = _skipping > 0 ? Action.SKIP : _handler.startSequence(tag, vl, offset);
+        if (action == Action.STOP) {
+            _stopped = true;
+            return;
+        }
+        if (action == Action.SKIP && vl != Constants.UNDEFINED_LENGTH) {
+            _in.skipFully(vl);
+        } else {
+            // an undefined length sequence has to be walked through even if
+            // it is skipped.
+            if (action == Action.SKIP) {
+                _skipping++;
+            }
+            try {
+                parseItems(tag, vl);
+            } finally {
+                if (action == Action.SKIP) {
+                    _skipping--;
+                }
+            }
+        }
+        if (!_stopped && _skipping == 0) {
+            _handler.endSequence(tag);
+        }
+    }
+
+    private void parseItems(AttributeTag sequenceTag, long vl) throws Throwable {
+        final long startOffset = _in.position();
+        final long endOffset = (vl == Constants.UNDEFINED_LENGTH) ? Constants.UNDEFINED_LENGTH : (startOffset + vl);
+        int index = 0;
+        while (!_stopped && (vl == Constants.UNDEFINED_LENGTH || _in.position() < endOffset)) {
+            long offset = _in.position();
+            AttributeTag tag = AttributeTag.read(_in);
+            // always implicit VR form for items and delimiters
+            long itemVL = _in.readUnsignedInt();
+            if (tag.equals(AttributeTag.SequenceDelimitationItem)) {
+                break;
+            } else if (!tag.equals(AttributeTag.Item)) {
+                throw new DicomException("Bad tag " + tag + "(not Item or Sequence Delimiter) in Sequence at byte offset " + startOffset);
+            }
+            Action action = _skipping > 0 ? Action.SKIP : _handler.startItem(sequenceTag, index, itemVL, offset);
+            if (action == Action.STOP) {
+                _stopped = true;
+                return;
+            }
+            if (action == Action.SKIP && itemVL != Constants.UNDEFINED_LENGTH) {
+                _in.skipFully(itemVL);
+            } else {
+                if (action == Action.SKIP) {
+                    _skipping++;
+                }
+                try {
+                    parseDataSet(itemVL, false);
+                } finally {
+                    if (action == Action.SKIP) {
+                        _skipping--;
+                    }
+                }
+            }
+            if (!_stopped && _skipping == 0) {
+                _handler.endItem(sequenceTag, index);
+            }
+            index++;
+        }
+    }
+
+    private void parseFragments(ElementHeader header, long offset) throws Throwable {
+        AttributeTag tag = header.tag;
+        Action action = _skipping > 0 ? Action.SKIP : _handler.startElement(tag, header.vr, Constants.UNDEFINED_LENGTH, offset);
+        if (action == Action.STOP) {
+            _stopped = true;
+            return;
+        }
+        int index = 0;
+        while (!_stopped) {
+            long fragmentOffset = _in.position();
+            AttributeTag itemTag = AttributeTag.read(_in);
+            long vl = _in.readUnsignedInt();
+            if (itemTag.equals(AttributeTag.SequenceDelimitationItem)) {
+                break;
+            } else if (!itemTag.equals(AttributeTag.Item)) {
+                throw new DicomException("Bad tag " + itemTag + "(not Item or Sequence Delimiter) in encapsulated data at byte offset " + fragmentOffset);
+            }
+            Action fragmentAction = action == Action.SKIP ? Action.SKIP : _handler.startFragment(tag, index, vl, fragmentOffset);
+            if (fragmentAction == Action.READ) {
+                readValue(tag, vl);
+            } else if (fragmentAction == Action.SKIP) {
+                _in.skipFully(vl);
+            }
+            if (fragmentAction == Action.STOP) {
+                _stopped = true;
+            } else if (action != Action.SKIP) {
+                _handler.endFragment(tag, index);
+            }
+            index++;
+        }
+        if (!_stopped && _skipping == 0) {
+            _handler.endElement(tag);
+        }
+    }
+
+}
@@ -1,8 +1,8 @@
 package wxyz.dcmj.dicom;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.List;
 
 public class Dictionary {
 
@@ -46,3122 +46,3217 @@ public class Dictionary {
         }
     }
 
-    private static Dictionary _instance;
+    /*
+     * Holder of the instance. It is created when get() is first called, and
+     * the class initialization guarantees it is created once and safely
+     * published to all threads.
+     */
+    private static class Holder {
+        private static final Dictionary INSTANCE = new Dictionary();
+    }
 
     public static Dictionary get() {
-        if (_instance == null) {
-            _instance = new Dictionary();
+        return Holder.INSTANCE;
+    }
+
+    /*
+     * shared arrays for the entries with a single vr. (Entry.vrs() returns a
+     * copy.)
+     */
+    private static final ValueRepresentation[][] SINGLE_VRS;
+    static {
+        ValueRepresentation[] vrs = ValueRepresentation.values();
+        SINGLE_VRS = new ValueRepresentation[vrs.length][];
+        for (int i = 0; i < vrs.length; i++) {
+            SINGLE_VRS[i] = new ValueRepresentation[] { vrs[i] };
         }
-        return _instance;
     }
 
-    private SortedMap<AttributeTag, Entry> _entries;
+    /*
+     * Repeating group (and repeating element) tags: a tag matches the i-th
+     * rule if (tag & REPEATING_MATCH_MASKS[i]) == REPEATING_MATCH_VALUES[i],
+     * and its dictionary entry is the one of (tag & REPEATING_BASE_MASKS[i]).
+     * They are the same as AttributeTag.isXxx(), but are only tried if the tag
+     * is not in the dictionary itself.
+     */
+    private static final int[] REPEATING_MATCH_MASKS = {
+            // (0028,04x0) (0028,04x1) (0028,04x2) (0028,04x3)
+            0xffffff0f, 0xffffff0f, 0xffffff0f, 0xffffff0f,
+            // (0028,08x0) (0028,08x2) (0028,08x3) (0028,08x4) (0028,08x8)
+            0xffffff0f, 0xffffff0f, 0xffffff0f, 0xffffff0f, 0xffffff0f,
+            // (0020,31xx)
+            0xffffff0f,
+            // (1000,xxx0) ... (1000,xxx5)
+            0xffff000f, 0xffff000f, 0xffff000f, 0xffff000f, 0xffff000f, 0xffff000f,
+            // (1010,xxxx)
+            0xffff0000,
+            // (7Fxx,0010) (7Fxx,0011) (7Fxx,0020) (7Fxx,0030) (7Fxx,0040)
+            0xff00ffff, 0xff00ffff, 0xff00ffff, 0xff00ffff, 0xff00ffff,
+            // (50xx,eeee) (60xx,eeee): xx even and <= 0x1e
+            0xffe10000, 0xffe10000 };
+    private static final int[] REPEATING_MATCH_VALUES = {
+            0x00280400, 0x00280401, 0x00280402, 0x00280403,
+            0x00280800, 0x00280802, 0x00280803, 0x00280804, 0x00280808,
+            0x00203100,
+            0x10000000, 0x10000001, 0x10000002, 0x10000003, 0x10000004, 0x10000005,
+            0x10100000,
+            0x7f000010, 0x7f000011, 0x7f000020, 0x7f000030, 0x7f000040,
+            0x50000000, 0x60000000 };
+    private static final int[] REPEATING_BASE_MASKS = {
+            0xffffff0f, 0xffffff0f, 0xffffff0f, 0xffffff0f,
+            0xffffff0f, 0xffffff0f, 0xffffff0f, 0xffffff0f, 0xffffff0f,
+            0xffffff0f,
+            0xffff000f, 0xffff000f, 0xffff000f, 0xffff000f, 0xffff000f, 0xffff000f,
+            0xffff0000,
+            0xff00ffff, 0xff00ffff, 0xff00ffff, 0xff00ffff, 0xff00ffff,
+            0xff00ffff, 0xff00ffff };
+
+    /*
+     * the entries sorted by tag.
+     */
+    private Entry[] _entries;
+
+    /*
+     * open addressing hash table of the tags: _hashTags[i] is a tag and
+     * _hashIndexes[i] - 1 is the index of its entry. _hashIndexes[i] == 0 if
+     * the slot is empty.
+     */
+    private int[] _hashTags;
+    private int[] _hashIndexes;
+    private int _hashMask;
+
+    /*
+     * only used while the dictionary is being built.
+     */
+    private List<Entry> _entryList;
 
     private Dictionary() {
-        _entries = new TreeMap<AttributeTag, Entry>();
-        addEntry("AbsoluteChannelDisplayScale", AttributeTag.AbsoluteChannelDisplayScale, ValueRepresentation.FL, 1);
-        addEntry("AbstractPriorCodeSequence", AttributeTag.AbstractPriorCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AbstractPriorValue", AttributeTag.AbstractPriorValue, ValueRepresentation.SS, 2);
-        addEntry("AccessionNumber", AttributeTag.AccessionNumber, ValueRepresentation.SH, 1);
-        addEntry("AccessoryCode", AttributeTag.AccessoryCode, ValueRepresentation.LO, 1);
-        addEntry("AcquiredImageAreaDoseProduct", AttributeTag.AcquiredImageAreaDoseProduct, ValueRepresentation.FL, 1);
-        addEntry("AcquisitionComments", AttributeTag.AcquisitionComments, ValueRepresentation.LT, 1);
-        addEntry("AcquisitionContextDescription", AttributeTag.AcquisitionContextDescription, ValueRepresentation.ST, 1);
-        addEntry("AcquisitionContextSequence", AttributeTag.AcquisitionContextSequence, ValueRepresentation.SQ, 1);
-        addEntry("AcquisitionContrast", AttributeTag.AcquisitionContrast, ValueRepresentation.CS, 1);
-        addEntry("AcquisitionDate", AttributeTag.AcquisitionDate, ValueRepresentation.DA, 1);
-        addEntry("AcquisitionDateTime", AttributeTag.AcquisitionDateTime, ValueRepresentation.DT, 1);
-        addEntry("AcquisitionDeviceProcessingCode", AttributeTag.AcquisitionDeviceProcessingCode, ValueRepresentation.LO, 1);
-        addEntry("AcquisitionDeviceProcessingDescription", AttributeTag.AcquisitionDeviceProcessingDescription, ValueRepresentation.LO, 1);
-        addEntry("AcquisitionDeviceTypeCodeSequence", AttributeTag.AcquisitionDeviceTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AcquisitionDuration", AttributeTag.AcquisitionDuration, ValueRepresentation.FD, 1);
-        addEntry("AcquisitionIndex", AttributeTag.AcquisitionIndex, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("AcquisitionMatrix", AttributeTag.AcquisitionMatrix, ValueRepresentation.US, 4);
-        addEntry("AcquisitionNumber", AttributeTag.AcquisitionNumber, ValueRepresentation.IS, 1);
-        addEntry("AcquisitionProtocolDescription", AttributeTag.AcquisitionProtocolDescription, ValueRepresentation.LT, 1);
-        addEntry("AcquisitionProtocolName", AttributeTag.AcquisitionProtocolName, ValueRepresentation.LO, 1);
-        addEntry("AcquisitionsInSeries", AttributeTag.AcquisitionsInSeries, ValueRepresentation.IS, 1);
-        addEntry("AcquisitionsInStudy", AttributeTag.AcquisitionsInStudy, ValueRepresentation.IS, 1);
-        addEntry("AcquisitionStartCondition", AttributeTag.AcquisitionStartCondition, ValueRepresentation.CS, 1);
-        addEntry("AcquisitionStartConditionData", AttributeTag.AcquisitionStartConditionData, ValueRepresentation.IS, 1);
-        addEntry("AcquisitionTerminationCondition", AttributeTag.AcquisitionTerminationCondition, ValueRepresentation.CS, 1);
-        addEntry("AcquisitionTerminationConditionData", AttributeTag.AcquisitionTerminationConditionData, ValueRepresentation.IS, 1);
-        addEntry("AcquisitionTime", AttributeTag.AcquisitionTime, ValueRepresentation.TM, 1);
-        addEntry("AcquisitionTimeSynchronized", AttributeTag.AcquisitionTimeSynchronized, ValueRepresentation.CS, 1);
-        addEntry("AcquisitionType", AttributeTag.AcquisitionType, ValueRepresentation.CS, 1);
-        addEntry("AcrossScanSpatialResolution", AttributeTag.AcrossScanSpatialResolution, ValueRepresentation.FL, 1);
-        addEntry("ActionTypeID", AttributeTag.ActionTypeID, ValueRepresentation.US, 1);
-        addEntry("ActiveSourceDiameter", AttributeTag.ActiveSourceDiameter, ValueRepresentation.DS, 1);
-        addEntry("ActiveSourceLength", AttributeTag.ActiveSourceLength, ValueRepresentation.DS, 1);
-        addEntry("ActualCardiacTriggerDelayTime", AttributeTag.ActualCardiacTriggerDelayTime, ValueRepresentation.FD, 1);
-        addEntry("ActualFrameDuration", AttributeTag.ActualFrameDuration, ValueRepresentation.IS, 1);
-        addEntry("ActualHumanPerformersSequence", AttributeTag.ActualHumanPerformersSequence, ValueRepresentation.SQ, 1);
-        addEntry("ActualRespiratoryTriggerDelayTime", AttributeTag.ActualRespiratoryTriggerDelayTime, ValueRepresentation.FD, 1);
-        addEntry("AdaptiveMapFormat", AttributeTag.AdaptiveMapFormat, ValueRepresentation.US, 1);
-        addEntry("AddGrayScale", AttributeTag.AddGrayScale, ValueRepresentation.CS, 1);
-        addEntry("AddIntermediateSequence", AttributeTag.AddIntermediateSequence, ValueRepresentation.SQ, 1);
-        addEntry("AdditionalDrugSequence", AttributeTag.AdditionalDrugSequence, ValueRepresentation.SQ, 1);
-        addEntry("AdditionalPatientHistory", AttributeTag.AdditionalPatientHistory, ValueRepresentation.LT, 1);
-        addEntry("AddNearSequence", AttributeTag.AddNearSequence, ValueRepresentation.SQ, 1);
-        addEntry("AddOtherSequence", AttributeTag.AddOtherSequence, ValueRepresentation.SQ, 1);
-        addEntry("AddPower", AttributeTag.AddPower, ValueRepresentation.FD, 1);
-        addEntry("AddressTrial", AttributeTag.AddressTrial, ValueRepresentation.ST, 1);
-        addEntry("AdministrationRouteCodeSequence", AttributeTag.AdministrationRouteCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AdmissionID", AttributeTag.AdmissionID, ValueRepresentation.LO, 1);
-        addEntry("AdmittingDate", AttributeTag.AdmittingDate, ValueRepresentation.DA, 1);
-        addEntry("AdmittingDiagnosesCodeSequence", AttributeTag.AdmittingDiagnosesCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AdmittingDiagnosesDescription", AttributeTag.AdmittingDiagnosesDescription, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("AdmittingTime", AttributeTag.AdmittingTime, ValueRepresentation.TM, 1);
-        addEntry("AffectedSOPClassUID", AttributeTag.AffectedSOPClassUID, ValueRepresentation.UI, 1);
-        addEntry("AffectedSOPInstanceUID", AttributeTag.AffectedSOPInstanceUID, ValueRepresentation.UI, 1);
-        addEntry("AlgorithmDescription", AttributeTag.AlgorithmDescription, ValueRepresentation.LO, 1);
-        addEntry("AlgorithmFamilyCodeSequence", AttributeTag.AlgorithmFamilyCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AlgorithmName", AttributeTag.AlgorithmName, ValueRepresentation.LO, 1);
-        addEntry("AlgorithmNameCodeSequence", AttributeTag.AlgorithmNameCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AlgorithmParameters", AttributeTag.AlgorithmParameters, ValueRepresentation.LT, 1);
-        addEntry("AlgorithmType", AttributeTag.AlgorithmType, ValueRepresentation.CS, 1);
-        addEntry("AlgorithmVersion", AttributeTag.AlgorithmVersion, ValueRepresentation.LO, 1);
-        addEntry("AliasedDataType", AttributeTag.AliasedDataType, ValueRepresentation.CS, 1);
-        addEntry("Allergies", AttributeTag.Allergies, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("AllowLossyCompression", AttributeTag.AllowLossyCompression, ValueRepresentation.CS, 1);
-        addEntry("AllowMediaSplitting", AttributeTag.AllowMediaSplitting, ValueRepresentation.CS, 1);
-        addEntry("AlongScanSpatialResolution", AttributeTag.AlongScanSpatialResolution, ValueRepresentation.FL, 1);
-        addEntry("AlphaLUTTransferFunction", AttributeTag.AlphaLUTTransferFunction, ValueRepresentation.CS, 1);
-        addEntry("AlphaPaletteColorLookupTableData", AttributeTag.AlphaPaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("AlphaPaletteColorLookupTableDescriptor", AttributeTag.AlphaPaletteColorLookupTableDescriptor, ValueRepresentation.US, 3);
-        addEntry("AlternateContainerIdentifierSequence", AttributeTag.AlternateContainerIdentifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("AlternateContentDescriptionSequence", AttributeTag.AlternateContentDescriptionSequence, ValueRepresentation.SQ, 1);
-        addEntry("AlternateRepresentationSequence", AttributeTag.AlternateRepresentationSequence, ValueRepresentation.SQ, 1);
-        addEntry("AnatomicalOrientationType", AttributeTag.AnatomicalOrientationType, ValueRepresentation.CS, 1);
-        addEntry("AnatomicApproachDirectionCodeSequenceTrial", AttributeTag.AnatomicApproachDirectionCodeSequenceTrial, ValueRepresentation.SQ, 1);
-        addEntry("AnatomicLocationOfExaminingInstrumentCodeSequenceTrial", AttributeTag.AnatomicLocationOfExaminingInstrumentCodeSequenceTrial, ValueRepresentation.SQ, 1);
-        addEntry("AnatomicLocationOfExaminingInstrumentDescriptionTrial", AttributeTag.AnatomicLocationOfExaminingInstrumentDescriptionTrial, ValueRepresentation.ST, 1);
-        addEntry("AnatomicPerspectiveCodeSequenceTrial", AttributeTag.AnatomicPerspectiveCodeSequenceTrial, ValueRepresentation.SQ, 1);
-        addEntry("AnatomicPerspectiveDescriptionTrial", AttributeTag.AnatomicPerspectiveDescriptionTrial, ValueRepresentation.ST, 1);
-        addEntry("AnatomicPortalOfEntranceCodeSequenceTrial", AttributeTag.AnatomicPortalOfEntranceCodeSequenceTrial, ValueRepresentation.SQ, 1);
-        addEntry("AnatomicRegionModifierSequence", AttributeTag.AnatomicRegionModifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("AnatomicRegionSequence", AttributeTag.AnatomicRegionSequence, ValueRepresentation.SQ, 1);
-        addEntry("AnatomicStructure", AttributeTag.AnatomicStructure, ValueRepresentation.CS, 1);
-        addEntry("AnatomicStructureSpaceOrRegionCodeSequenceTrial", AttributeTag.AnatomicStructureSpaceOrRegionCodeSequenceTrial, ValueRepresentation.SQ, 1);
-        addEntry("AnatomicStructureSpaceOrRegionModifierCodeSequenceTrial", AttributeTag.AnatomicStructureSpaceOrRegionModifierCodeSequenceTrial, ValueRepresentation.SQ, 1);
-        addEntry("AnatomicStructureSpaceOrRegionSequence", AttributeTag.AnatomicStructureSpaceOrRegionSequence, ValueRepresentation.SQ, 1);
-        addEntry("AnchorPoint", AttributeTag.AnchorPoint, ValueRepresentation.FL, 2);
-        addEntry("AnchorPointAnnotationUnits", AttributeTag.AnchorPointAnnotationUnits, ValueRepresentation.CS, 1);
-        addEntry("AnchorPointVisibility", AttributeTag.AnchorPointVisibility, ValueRepresentation.CS, 1);
-        addEntry("AngioFlag", AttributeTag.AngioFlag, ValueRepresentation.CS, 1);
-        addEntry("AngleNumber", AttributeTag.AngleNumber, ValueRepresentation.IS, 1);
-        addEntry("AngularPosition", AttributeTag.AngularPosition, ValueRepresentation.DS, 1);
-        addEntry("AngularStep", AttributeTag.AngularStep, ValueRepresentation.DS, 1);
-        addEntry("AngularViewVector", AttributeTag.AngularViewVector, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("AnnotationContentSequence", AttributeTag.AnnotationContentSequence, ValueRepresentation.SQ, 1);
-        addEntry("AnnotationDisplayFormatID", AttributeTag.AnnotationDisplayFormatID, ValueRepresentation.CS, 1);
-        addEntry("AnnotationFlag", AttributeTag.AnnotationFlag, ValueRepresentation.CS, 1);
-        addEntry("AnnotationGroupNumber", AttributeTag.AnnotationGroupNumber, ValueRepresentation.US, 1);
-        addEntry("AnnotationPosition", AttributeTag.AnnotationPosition, ValueRepresentation.US, 1);
-        addEntry("AnodeTargetMaterial", AttributeTag.AnodeTargetMaterial, ValueRepresentation.CS, 1);
-        addEntry("ApexPosition", AttributeTag.ApexPosition, ValueRepresentation.FD, 3);
-        addEntry("ApplicableFrameRange", AttributeTag.ApplicableFrameRange, ValueRepresentation.US, 2, Integer.MAX_VALUE / 2);
-        addEntry("ApplicableSafetyStandardAgency", AttributeTag.ApplicableSafetyStandardAgency, ValueRepresentation.CS, 1);
-        addEntry("ApplicableSafetyStandardDescription", AttributeTag.ApplicableSafetyStandardDescription, ValueRepresentation.LO, 1);
-        addEntry("ApplicationManufacturer", AttributeTag.ApplicationManufacturer, ValueRepresentation.LO, 1);
-        addEntry("ApplicationMaximumRepaintTime", AttributeTag.ApplicationMaximumRepaintTime, ValueRepresentation.US, 1);
-        addEntry("ApplicationName", AttributeTag.ApplicationName, ValueRepresentation.LO, 1);
-        addEntry("ApplicationSetupCheck", AttributeTag.ApplicationSetupCheck, ValueRepresentation.CS, 1);
-        addEntry("ApplicationSetupManufacturer", AttributeTag.ApplicationSetupManufacturer, ValueRepresentation.LO, 1);
-        addEntry("ApplicationSetupName", AttributeTag.ApplicationSetupName, ValueRepresentation.LO, 1);
-        addEntry("ApplicationSetupNumber", AttributeTag.ApplicationSetupNumber, ValueRepresentation.IS, 1);
-        addEntry("ApplicationSetupSequence", AttributeTag.ApplicationSetupSequence, ValueRepresentation.SQ, 1);
-        addEntry("ApplicationSetupType", AttributeTag.ApplicationSetupType, ValueRepresentation.CS, 1);
-        addEntry("ApplicationVersion", AttributeTag.ApplicationVersion, ValueRepresentation.LO, 1);
-        addEntry("ApplicatorDescription", AttributeTag.ApplicatorDescription, ValueRepresentation.LO, 1);
-        addEntry("ApplicatorID", AttributeTag.ApplicatorID, ValueRepresentation.SH, 1);
-        addEntry("ApplicatorSequence", AttributeTag.ApplicatorSequence, ValueRepresentation.SQ, 1);
-        addEntry("ApplicatorType", AttributeTag.ApplicatorType, ValueRepresentation.CS, 1);
-        addEntry("ApprovalStatus", AttributeTag.ApprovalStatus, ValueRepresentation.CS, 1);
-        addEntry("ApprovalStatusDateTime", AttributeTag.ApprovalStatusDateTime, ValueRepresentation.DT, 1);
-        addEntry("ApprovalStatusFurtherDescription", AttributeTag.ApprovalStatusFurtherDescription, ValueRepresentation.LT, 1);
-        addEntry("Arbitrary", AttributeTag.Arbitrary, ValueRepresentation.LT, 1);
-        addEntry("ArchiveRequested", AttributeTag.ArchiveRequested, ValueRepresentation.CS, 1);
-        addEntry("AssigningAgencyOrDepartmentCodeSequence", AttributeTag.AssigningAgencyOrDepartmentCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AssigningFacilitySequence", AttributeTag.AssigningFacilitySequence, ValueRepresentation.SQ, 1);
-        addEntry("AssigningJurisdictionCodeSequence", AttributeTag.AssigningJurisdictionCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AttachedContours", AttributeTag.AttachedContours, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("AttenuationCorrected", AttributeTag.AttenuationCorrected, ValueRepresentation.CS, 1);
-        addEntry("AttenuationCorrectionMethod", AttributeTag.AttenuationCorrectionMethod, ValueRepresentation.LO, 1);
-        addEntry("AttenuationCorrectionSource", AttributeTag.AttenuationCorrectionSource, ValueRepresentation.CS, 1);
-        addEntry("AttenuationCorrectionTemporalRelationship", AttributeTag.AttenuationCorrectionTemporalRelationship, ValueRepresentation.CS, 1);
-        addEntry("AttributeIdentifierList", AttributeTag.AttributeIdentifierList, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("AttributeItemSelector", AttributeTag.AttributeItemSelector, ValueRepresentation.UL, 1);
-        addEntry("AttributeModificationDateTime", AttributeTag.AttributeModificationDateTime, ValueRepresentation.DT, 1);
-        addEntry("AttributeOccurrencePointer", AttributeTag.AttributeOccurrencePointer, ValueRepresentation.AT, 1);
-        addEntry("AttributeOccurrencePrivateCreator", AttributeTag.AttributeOccurrencePrivateCreator, ValueRepresentation.LO, 1);
-        addEntry("AttributeOccurrenceSequence", AttributeTag.AttributeOccurrenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("AudioComments", AttributeTag.AudioComments, ValueRepresentation.LT, 1);
-        addEntry("AudioSampleData", AttributeTag.AudioSampleData, new ValueRepresentation[] { ValueRepresentation.OW, ValueRepresentation.OB }, 1, 1);
-        addEntry("AudioSampleFormat", AttributeTag.AudioSampleFormat, ValueRepresentation.US, 1);
-        addEntry("AudioType", AttributeTag.AudioType, ValueRepresentation.US, 1);
-        addEntry("AuthorizationEquipmentCertificationNumber", AttributeTag.AuthorizationEquipmentCertificationNumber, ValueRepresentation.LO, 1);
-        addEntry("AuthorObserverSequence", AttributeTag.AuthorObserverSequence, ValueRepresentation.SQ, 1);
-        addEntry("AutorefractionLeftEyeSequence", AttributeTag.AutorefractionLeftEyeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AutorefractionRightEyeSequence", AttributeTag.AutorefractionRightEyeSequence, ValueRepresentation.SQ, 1);
-        addEntry("AveragePulseWidth", AttributeTag.AveragePulseWidth, ValueRepresentation.DS, 1);
-        addEntry("AxialAcceptance", AttributeTag.AxialAcceptance, ValueRepresentation.DS, 1);
-        addEntry("AxialDetectorDimension", AttributeTag.AxialDetectorDimension, ValueRepresentation.FD, 1);
-        addEntry("AxialLengthOfTheEye", AttributeTag.AxialLengthOfTheEye, ValueRepresentation.FL, 1);
-        addEntry("AxialMash", AttributeTag.AxialMash, ValueRepresentation.IS, 2);
-        addEntry("AxisLabels", AttributeTag.AxisLabels, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("AxisOfRotation", AttributeTag.AxisOfRotation, ValueRepresentation.FL, 3);
-        addEntry("AxisUnits", AttributeTag.AxisUnits, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("BackgroundColor", AttributeTag.BackgroundColor, ValueRepresentation.CS, 1);
-        addEntry("BarcodeSymbology", AttributeTag.BarcodeSymbology, ValueRepresentation.CS, 1);
-        addEntry("BarcodeValue", AttributeTag.BarcodeValue, ValueRepresentation.LT, 1);
-        addEntry("BaselineCorrection", AttributeTag.BaselineCorrection, ValueRepresentation.CS, 1);
-        addEntry("BasicColorImageSequence", AttributeTag.BasicColorImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("BasicGrayscaleImageSequence", AttributeTag.BasicGrayscaleImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("BeamAngle", AttributeTag.BeamAngle, ValueRepresentation.FL, 1);
-        addEntry("BeamCurrentModulationID", AttributeTag.BeamCurrentModulationID, ValueRepresentation.SH, 1);
-        addEntry("BeamDescription", AttributeTag.BeamDescription, ValueRepresentation.ST, 1);
-        addEntry("BeamDose", AttributeTag.BeamDose, ValueRepresentation.DS, 1);
-        addEntry("BeamDosePointDepth", AttributeTag.BeamDosePointDepth, ValueRepresentation.FL, 1);
-        addEntry("BeamDosePointEquivalentDepth", AttributeTag.BeamDosePointEquivalentDepth, ValueRepresentation.FL, 1);
-        addEntry("BeamDosePointSSD", AttributeTag.BeamDosePointSSD, ValueRepresentation.FL, 1);
-        addEntry("BeamDoseSpecificationPoint", AttributeTag.BeamDoseSpecificationPoint, ValueRepresentation.DS, 3);
-        addEntry("BeamLimitingDeviceAngle", AttributeTag.BeamLimitingDeviceAngle, ValueRepresentation.DS, 1);
-        addEntry("BeamLimitingDeviceAngleTolerance", AttributeTag.BeamLimitingDeviceAngleTolerance, ValueRepresentation.DS, 1);
-        addEntry("BeamLimitingDeviceLeafPairsSequence", AttributeTag.BeamLimitingDeviceLeafPairsSequence, ValueRepresentation.SQ, 1);
-        addEntry("BeamLimitingDevicePositionSequence", AttributeTag.BeamLimitingDevicePositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("BeamLimitingDevicePositionTolerance", AttributeTag.BeamLimitingDevicePositionTolerance, ValueRepresentation.DS, 1);
-        addEntry("BeamLimitingDeviceRotationDirection", AttributeTag.BeamLimitingDeviceRotationDirection, ValueRepresentation.CS, 1);
-        addEntry("BeamLimitingDeviceSequence", AttributeTag.BeamLimitingDeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("BeamLimitingDeviceToleranceSequence", AttributeTag.BeamLimitingDeviceToleranceSequence, ValueRepresentation.SQ, 1);
-        addEntry("BeamMeterset", AttributeTag.BeamMeterset, ValueRepresentation.DS, 1);
-        addEntry("BeamName", AttributeTag.BeamName, ValueRepresentation.LO, 1);
-        addEntry("BeamNumber", AttributeTag.BeamNumber, ValueRepresentation.IS, 1);
-        addEntry("BeamOrderIndex", AttributeTag.BeamOrderIndex, ValueRepresentation.IS, 1);
-        addEntry("BeamSequence", AttributeTag.BeamSequence, ValueRepresentation.SQ, 1);
-        addEntry("BeamStopperPosition", AttributeTag.BeamStopperPosition, ValueRepresentation.CS, 1);
-        addEntry("BeamTaskSequence", AttributeTag.BeamTaskSequence, ValueRepresentation.SQ, 1);
-        addEntry("BeamTaskType", AttributeTag.BeamTaskType, ValueRepresentation.CS, 1);
-        addEntry("BeamType", AttributeTag.BeamType, ValueRepresentation.CS, 1);
-        addEntry("BeatRejectionFlag", AttributeTag.BeatRejectionFlag, ValueRepresentation.CS, 1);
-        addEntry("BillingItemSequence", AttributeTag.BillingItemSequence, ValueRepresentation.SQ, 1);
-        addEntry("BillingProcedureStepSequence", AttributeTag.BillingProcedureStepSequence, ValueRepresentation.SQ, 1);
-        addEntry("BillingSuppliesAndDevicesSequence", AttributeTag.BillingSuppliesAndDevicesSequence, ValueRepresentation.SQ, 1);
-        addEntry("BiPlaneAcquisitionSequence", AttributeTag.BiPlaneAcquisitionSequence, ValueRepresentation.SQ, 1);
-        addEntry("BitsAllocated", AttributeTag.BitsAllocated, ValueRepresentation.US, 1);
-        addEntry("BitsForCodeWord", AttributeTag.BitsForCodeWord, ValueRepresentation.US, 1);
-        addEntry("BitsGrouped", AttributeTag.BitsGrouped, ValueRepresentation.US, 1);
-        addEntry("BitsMappedToColorLookupTable", AttributeTag.BitsMappedToColorLookupTable, ValueRepresentation.US, 1);
-        addEntry("BitsStored", AttributeTag.BitsStored, ValueRepresentation.US, 1);
-        addEntry("BlendingLookupTableData", AttributeTag.BlendingLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("BlendingLookupTableDescriptor", AttributeTag.BlendingLookupTableDescriptor, ValueRepresentation.US, 3);
-        addEntry("BlendingLUT", AttributeTag.BlendingLUT1Sequence, ValueRepresentation.SQ, 1);
-        addEntry("BlendingLUT", AttributeTag.BlendingLUT1TransferFunction, ValueRepresentation.CS, 1);
-        addEntry("BlendingLUT", AttributeTag.BlendingLUT2Sequence, ValueRepresentation.SQ, 1);
-        addEntry("BlendingLUT", AttributeTag.BlendingLUT2TransferFunction, ValueRepresentation.CS, 1);
-        addEntry("BlendingOperationType", AttributeTag.BlendingOperationType, ValueRepresentation.CS, 1);
-        addEntry("BlendingPosition", AttributeTag.BlendingPosition, ValueRepresentation.CS, 1);
-        addEntry("BlendingSequence", AttributeTag.BlendingSequence, ValueRepresentation.SQ, 1);
-        addEntry("BlendingWeightConstant", AttributeTag.BlendingWeightConstant, ValueRepresentation.FD, 1);
-        addEntry("BlockColumns", AttributeTag.BlockColumns, ValueRepresentation.US, 1);
-        addEntry("BlockData", AttributeTag.BlockData, ValueRepresentation.DS, 2, Integer.MAX_VALUE / 2);
-        addEntry("BlockDivergence", AttributeTag.BlockDivergence, ValueRepresentation.CS, 1);
-        addEntry("BlockedPixels", AttributeTag.BlockedPixels, ValueRepresentation.CS, 1);
-        addEntry("BlockMountingPosition", AttributeTag.BlockMountingPosition, ValueRepresentation.CS, 1);
-        addEntry("BlockName", AttributeTag.BlockName, ValueRepresentation.LO, 1);
-        addEntry("BlockNumber", AttributeTag.BlockNumber, ValueRepresentation.IS, 1);
-        addEntry("BlockNumberOfPoints", AttributeTag.BlockNumberOfPoints, ValueRepresentation.IS, 1);
-        addEntry("BlockRows", AttributeTag.BlockRows, ValueRepresentation.US, 1);
-        addEntry("BlockSequence", AttributeTag.BlockSequence, ValueRepresentation.SQ, 1);
-        addEntry("BlockThickness", AttributeTag.BlockThickness, ValueRepresentation.DS, 1);
-        addEntry("BlockTransmission", AttributeTag.BlockTransmission, ValueRepresentation.DS, 1);
-        addEntry("BlockTrayID", AttributeTag.BlockTrayID, ValueRepresentation.SH, 1);
-        addEntry("BlockType", AttributeTag.BlockType, ValueRepresentation.CS, 1);
-        addEntry("BloodSignalNulling", AttributeTag.BloodSignalNulling, ValueRepresentation.CS, 1);
-        addEntry("BluePaletteColorLookupTableData", AttributeTag.BluePaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("BluePaletteColorLookupTableDescriptor", AttributeTag.BluePaletteColorLookupTableDescriptor, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
-        addEntry("BodyPartExamined", AttributeTag.BodyPartExamined, ValueRepresentation.CS, 1);
-        addEntry("BodyPartThickness", AttributeTag.BodyPartThickness, ValueRepresentation.DS, 1);
-        addEntry("Bold", AttributeTag.Bold, ValueRepresentation.CS, 1);
-        addEntry("BolusDescription", AttributeTag.BolusDescription, ValueRepresentation.ST, 1);
-        addEntry("BolusID", AttributeTag.BolusID, ValueRepresentation.SH, 1);
-        addEntry("BoneThermalIndex", AttributeTag.BoneThermalIndex, ValueRepresentation.DS, 1);
-        addEntry("BorderDensity", AttributeTag.BorderDensity, ValueRepresentation.CS, 1);
-        addEntry("Borders", AttributeTag.Borders, ValueRepresentation.CS, 1);
-        addEntry("BoundingBoxAnnotationUnits", AttributeTag.BoundingBoxAnnotationUnits, ValueRepresentation.CS, 1);
-        addEntry("BoundingBoxBottomRightHandCorner", AttributeTag.BoundingBoxBottomRightHandCorner, ValueRepresentation.FL, 2);
-        addEntry("BoundingBoxTextHorizontalJustification", AttributeTag.BoundingBoxTextHorizontalJustification, ValueRepresentation.CS, 1);
-        addEntry("BoundingBoxTopLeftHandCorner", AttributeTag.BoundingBoxTopLeftHandCorner, ValueRepresentation.FL, 2);
-        addEntry("BrachyAccessoryDeviceID", AttributeTag.BrachyAccessoryDeviceID, ValueRepresentation.SH, 1);
-        addEntry("BrachyAccessoryDeviceName", AttributeTag.BrachyAccessoryDeviceName, ValueRepresentation.LO, 1);
-        addEntry("BrachyAccessoryDeviceNominalThickness", AttributeTag.BrachyAccessoryDeviceNominalThickness, ValueRepresentation.DS, 1);
-        addEntry("BrachyAccessoryDeviceNominalTransmission", AttributeTag.BrachyAccessoryDeviceNominalTransmission, ValueRepresentation.DS, 1);
-        addEntry("BrachyAccessoryDeviceNumber", AttributeTag.BrachyAccessoryDeviceNumber, ValueRepresentation.IS, 1);
-        addEntry("BrachyAccessoryDeviceSequence", AttributeTag.BrachyAccessoryDeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("BrachyAccessoryDeviceType", AttributeTag.BrachyAccessoryDeviceType, ValueRepresentation.CS, 1);
-        addEntry("BrachyApplicationSetupDose", AttributeTag.BrachyApplicationSetupDose, ValueRepresentation.DS, 1);
-        addEntry("BrachyApplicationSetupDoseSpecificationPoint", AttributeTag.BrachyApplicationSetupDoseSpecificationPoint, ValueRepresentation.DS, 3);
-        addEntry("BrachyControlPointDeliveredSequence", AttributeTag.BrachyControlPointDeliveredSequence, ValueRepresentation.SQ, 1);
-        addEntry("BrachyControlPointSequence", AttributeTag.BrachyControlPointSequence, ValueRepresentation.SQ, 1);
-        addEntry("BrachyReferencedDoseReferenceSequence", AttributeTag.BrachyReferencedDoseReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("BrachyTreatmentTechnique", AttributeTag.BrachyTreatmentTechnique, ValueRepresentation.CS, 1);
-        addEntry("BrachyTreatmentType", AttributeTag.BrachyTreatmentType, ValueRepresentation.CS, 1);
-        addEntry("BranchOfService", AttributeTag.BranchOfService, ValueRepresentation.LO, 1);
-        addEntry("BreastImplantPresent", AttributeTag.BreastImplantPresent, ValueRepresentation.CS, 1);
-        addEntry("BreedRegistrationNumber", AttributeTag.BreedRegistrationNumber, ValueRepresentation.LO, 1);
-        addEntry("BreedRegistrationSequence", AttributeTag.BreedRegistrationSequence, ValueRepresentation.SQ, 1);
-        addEntry("BreedRegistryCodeSequence", AttributeTag.BreedRegistryCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("BulkMotionCompensationTechnique", AttributeTag.BulkMotionCompensationTechnique, ValueRepresentation.CS, 1);
-        addEntry("BulkMotionSignalSource", AttributeTag.BulkMotionSignalSource, ValueRepresentation.CS, 1);
-        addEntry("BulkMotionStatus", AttributeTag.BulkMotionStatus, ValueRepresentation.CS, 1);
-        addEntry("BurnedInAnnotation", AttributeTag.BurnedInAnnotation, ValueRepresentation.CS, 1);
-        addEntry("CalciumScoringMassFactorDevice", AttributeTag.CalciumScoringMassFactorDevice, ValueRepresentation.FL, 3);
-        addEntry("CalciumScoringMassFactorPatient", AttributeTag.CalciumScoringMassFactorPatient, ValueRepresentation.FL, 1);
-        addEntry("CalculatedAnatomyThickness", AttributeTag.CalculatedAnatomyThickness, ValueRepresentation.FL, 1);
-        addEntry("CalculatedDoseReferenceDescription", AttributeTag.CalculatedDoseReferenceDescription, ValueRepresentation.ST, 1);
-        addEntry("CalculatedDoseReferenceDoseValue", AttributeTag.CalculatedDoseReferenceDoseValue, ValueRepresentation.DS, 1);
-        addEntry("CalculatedDoseReferenceNumber", AttributeTag.CalculatedDoseReferenceNumber, ValueRepresentation.IS, 1);
-        addEntry("CalculatedDoseReferenceSequence", AttributeTag.CalculatedDoseReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("CalculatedFrameList", AttributeTag.CalculatedFrameList, ValueRepresentation.UL, 3, Integer.MAX_VALUE / 3);
-        addEntry("CalibrationDataSequence", AttributeTag.CalibrationDataSequence, ValueRepresentation.SQ, 1);
-        addEntry("CalibrationImage", AttributeTag.CalibrationImage, ValueRepresentation.CS, 1);
-        addEntry("CalibrationSequence", AttributeTag.CalibrationSequence, ValueRepresentation.SQ, 1);
-        addEntry("CardiacBeatRejectionTechnique", AttributeTag.CardiacBeatRejectionTechnique, ValueRepresentation.CS, 1);
-        addEntry("CardiacCyclePosition", AttributeTag.CardiacCyclePosition, ValueRepresentation.CS, 1);
-        addEntry("CardiacFramingType", AttributeTag.CardiacFramingType, ValueRepresentation.LO, 1);
-        addEntry("CardiacNumberOfImages", AttributeTag.CardiacNumberOfImages, ValueRepresentation.IS, 1);
-        addEntry("CardiacRRIntervalSpecified", AttributeTag.CardiacRRIntervalSpecified, ValueRepresentation.FD, 1);
-        addEntry("CardiacSignalSource", AttributeTag.CardiacSignalSource, ValueRepresentation.CS, 1);
-        addEntry("CardiacSynchronizationSequence", AttributeTag.CardiacSynchronizationSequence, ValueRepresentation.SQ, 1);
-        addEntry("CardiacSynchronizationTechnique", AttributeTag.CardiacSynchronizationTechnique, ValueRepresentation.CS, 1);
-        addEntry("CArmPositionerTabletopRelationship", AttributeTag.CArmPositionerTabletopRelationship, ValueRepresentation.CS, 1);
-        addEntry("CassetteID", AttributeTag.CassetteID, ValueRepresentation.LO, 1);
-        addEntry("CassetteOrientation", AttributeTag.CassetteOrientation, ValueRepresentation.CS, 1);
-        addEntry("CassetteSize", AttributeTag.CassetteSize, ValueRepresentation.CS, 1);
-        addEntry("CenterOfCircularCollimator", AttributeTag.CenterOfCircularCollimator, ValueRepresentation.IS, 2);
-        addEntry("CenterOfCircularExposureControlSensingRegion", AttributeTag.CenterOfCircularExposureControlSensingRegion, ValueRepresentation.SS, 2);
-        addEntry("CenterOfCircularShutter", AttributeTag.CenterOfCircularShutter, ValueRepresentation.IS, 2);
-        addEntry("CenterOfRotation", AttributeTag.CenterOfRotation, ValueRepresentation.FL, 3);
-        addEntry("CenterOfRotationOffset", AttributeTag.CenterOfRotationOffset, ValueRepresentation.DS, 1);
-        addEntry("CertificateOfSigner", AttributeTag.CertificateOfSigner, ValueRepresentation.OB, 1);
-        addEntry("CertificateType", AttributeTag.CertificateType, ValueRepresentation.CS, 1);
-        addEntry("CertifiedTimestamp", AttributeTag.CertifiedTimestamp, ValueRepresentation.OB, 1);
-        addEntry("CertifiedTimestampType", AttributeTag.CertifiedTimestampType, ValueRepresentation.CS, 1);
-        addEntry("ChannelBaseline", AttributeTag.ChannelBaseline, ValueRepresentation.DS, 1);
-        addEntry("ChannelDefinitionSequence", AttributeTag.ChannelDefinitionSequence, ValueRepresentation.SQ, 1);
-        addEntry("ChannelDerivationDescription", AttributeTag.ChannelDerivationDescription, ValueRepresentation.LO, 1);
-        addEntry("ChannelDescriptionCodeSequence", AttributeTag.ChannelDescriptionCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ChannelDisplaySequence", AttributeTag.ChannelDisplaySequence, ValueRepresentation.SQ, 1);
-        addEntry("ChannelIdentificationCode", AttributeTag.ChannelIdentificationCode, ValueRepresentation.IS, 1);
-        addEntry("ChannelLabel", AttributeTag.ChannelLabel, ValueRepresentation.SH, 1);
-        addEntry("ChannelLength", AttributeTag.ChannelLength, ValueRepresentation.DS, 1);
-        addEntry("ChannelMaximumValue", AttributeTag.ChannelMaximumValue, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
-        addEntry("ChannelMinimumValue", AttributeTag.ChannelMinimumValue, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
-        addEntry("ChannelMode", AttributeTag.ChannelMode, ValueRepresentation.CS, 1);
-        addEntry("ChannelNumber", AttributeTag.ChannelNumber, ValueRepresentation.IS, 1);
-        addEntry("ChannelOffset", AttributeTag.ChannelOffset, ValueRepresentation.DS, 1);
-        addEntry("ChannelPosition", AttributeTag.ChannelPosition, ValueRepresentation.FL, 1);
-        addEntry("ChannelRecommendedDisplayCIELabValue", AttributeTag.ChannelRecommendedDisplayCIELabValue, ValueRepresentation.US, 3);
-        addEntry("ChannelSampleSkew", AttributeTag.ChannelSampleSkew, ValueRepresentation.DS, 1);
-        addEntry("ChannelSensitivity", AttributeTag.ChannelSensitivity, ValueRepresentation.DS, 1);
-        addEntry("ChannelSensitivityCorrectionFactor", AttributeTag.ChannelSensitivityCorrectionFactor, ValueRepresentation.DS, 1);
-        addEntry("ChannelSensitivityUnitsSequence", AttributeTag.ChannelSensitivityUnitsSequence, ValueRepresentation.SQ, 1);
-        addEntry("ChannelSequence", AttributeTag.ChannelSequence, ValueRepresentation.SQ, 1);
-        addEntry("ChannelShieldID", AttributeTag.ChannelShieldID, ValueRepresentation.SH, 1);
-        addEntry("ChannelShieldName", AttributeTag.ChannelShieldName, ValueRepresentation.LO, 1);
-        addEntry("ChannelShieldNominalThickness", AttributeTag.ChannelShieldNominalThickness, ValueRepresentation.DS, 1);
-        addEntry("ChannelShieldNominalTransmission", AttributeTag.ChannelShieldNominalTransmission, ValueRepresentation.DS, 1);
-        addEntry("ChannelShieldNumber", AttributeTag.ChannelShieldNumber, ValueRepresentation.IS, 1);
-        addEntry("ChannelShieldSequence", AttributeTag.ChannelShieldSequence, ValueRepresentation.SQ, 1);
-        addEntry("ChannelSourceModifiersSequence", AttributeTag.ChannelSourceModifiersSequence, ValueRepresentation.SQ, 1);
-        addEntry("ChannelSourceSequence", AttributeTag.ChannelSourceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ChannelStatus", AttributeTag.ChannelStatus, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("ChannelTimeSkew", AttributeTag.ChannelTimeSkew, ValueRepresentation.DS, 1);
-        addEntry("ChannelTotalTime", AttributeTag.ChannelTotalTime, ValueRepresentation.DS, 1);
-        addEntry("ChannelWidth", AttributeTag.ChannelWidth, ValueRepresentation.FD, 1);
-        addEntry("ChemicalShiftMaximumIntegrationLimitInHz", AttributeTag.ChemicalShiftMaximumIntegrationLimitInHz, ValueRepresentation.FD, 1);
-        addEntry("ChemicalShiftMaximumIntegrationLimitInppm", AttributeTag.ChemicalShiftMaximumIntegrationLimitInppm, ValueRepresentation.FD, 1);
-        addEntry("ChemicalShiftMinimumIntegrationLimitInHz", AttributeTag.ChemicalShiftMinimumIntegrationLimitInHz, ValueRepresentation.FD, 1);
-        addEntry("ChemicalShiftMinimumIntegrationLimitInppm", AttributeTag.ChemicalShiftMinimumIntegrationLimitInppm, ValueRepresentation.FD, 1);
-        addEntry("ChemicalShiftReference", AttributeTag.ChemicalShiftReference, ValueRepresentation.FD, 1, 2);
-        addEntry("ChemicalShiftSequence", AttributeTag.ChemicalShiftSequence, ValueRepresentation.SQ, 1);
-        addEntry("CineRate", AttributeTag.CineRate, ValueRepresentation.IS, 1);
-        addEntry("CineRelativeToRealTime", AttributeTag.CineRelativeToRealTime, ValueRepresentation.FD, 1);
-        addEntry("ClinicalTrialCoordinatingCenterName", AttributeTag.ClinicalTrialCoordinatingCenterName, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialProtocolEthicsCommitteeApprovalNumber", AttributeTag.ClinicalTrialProtocolEthicsCommitteeApprovalNumber, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialProtocolEthicsCommitteeName", AttributeTag.ClinicalTrialProtocolEthicsCommitteeName, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialProtocolID", AttributeTag.ClinicalTrialProtocolID, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialProtocolName", AttributeTag.ClinicalTrialProtocolName, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialSeriesDescription", AttributeTag.ClinicalTrialSeriesDescription, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialSeriesID", AttributeTag.ClinicalTrialSeriesID, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialSiteID", AttributeTag.ClinicalTrialSiteID, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialSiteName", AttributeTag.ClinicalTrialSiteName, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialSponsorName", AttributeTag.ClinicalTrialSponsorName, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialSubjectID", AttributeTag.ClinicalTrialSubjectID, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialSubjectReadingID", AttributeTag.ClinicalTrialSubjectReadingID, ValueRepresentation.LO, 1);
-        addEntry("ClinicalTrialTimePointDescription", AttributeTag.ClinicalTrialTimePointDescription, ValueRepresentation.ST, 1);
-        addEntry("ClinicalTrialTimePointID", AttributeTag.ClinicalTrialTimePointID, ValueRepresentation.LO, 1);
-        addEntry("CodeLabel", AttributeTag.CodeLabel, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("CodeMeaning", AttributeTag.CodeMeaning, ValueRepresentation.LO, 1);
-        addEntry("CodeNumberFormat", AttributeTag.CodeNumberFormat, ValueRepresentation.US, 1);
-        addEntry("CodeTableLocation", AttributeTag.CodeTableLocation, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("CodeValue", AttributeTag.CodeValue, ValueRepresentation.SH, 1);
-        addEntry("CodingSchemeDesignator", AttributeTag.CodingSchemeDesignator, ValueRepresentation.SH, 1);
-        addEntry("CodingSchemeExternalID", AttributeTag.CodingSchemeExternalID, ValueRepresentation.ST, 1);
-        addEntry("CodingSchemeIdentificationSequence", AttributeTag.CodingSchemeIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("CodingSchemeName", AttributeTag.CodingSchemeName, ValueRepresentation.ST, 1);
-        addEntry("CodingSchemeRegistry", AttributeTag.CodingSchemeRegistry, ValueRepresentation.LO, 1);
-        addEntry("CodingSchemeResponsibleOrganization", AttributeTag.CodingSchemeResponsibleOrganization, ValueRepresentation.ST, 1);
-        addEntry("CodingSchemeUID", AttributeTag.CodingSchemeUID, ValueRepresentation.UI, 1);
-        addEntry("CodingSchemeVersion", AttributeTag.CodingSchemeVersion, ValueRepresentation.SH, 1);
-        addEntry("CoefficientCoding", AttributeTag.CoefficientCoding, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("CoefficientCodingPointers", AttributeTag.CoefficientCodingPointers, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("CoefficientsSDDN", AttributeTag.CoefficientsSDDN, ValueRepresentation.OW, 1);
-        addEntry("CoefficientsSDHN", AttributeTag.CoefficientsSDHN, ValueRepresentation.OW, 1);
-        addEntry("CoefficientsSDVN", AttributeTag.CoefficientsSDVN, ValueRepresentation.OW, 1);
-        addEntry("CoincidenceWindowWidth", AttributeTag.CoincidenceWindowWidth, ValueRepresentation.DS, 1);
-        addEntry("CollationFlag", AttributeTag.CollationFlag, ValueRepresentation.CS, 1);
-        addEntry("CollimatorGridName", AttributeTag.CollimatorGridName, ValueRepresentation.SH, 1);
-        addEntry("CollimatorLeftVerticalEdge", AttributeTag.CollimatorLeftVerticalEdge, ValueRepresentation.IS, 1);
-        addEntry("CollimatorLowerHorizontalEdge", AttributeTag.CollimatorLowerHorizontalEdge, ValueRepresentation.IS, 1);
-        addEntry("CollimatorRightVerticalEdge", AttributeTag.CollimatorRightVerticalEdge, ValueRepresentation.IS, 1);
-        addEntry("CollimatorShape", AttributeTag.CollimatorShape, ValueRepresentation.CS, 1, 3);
-        addEntry("CollimatorShapeSequence", AttributeTag.CollimatorShapeSequence, ValueRepresentation.SQ, 1);
-        addEntry("CollimatorType", AttributeTag.CollimatorType, ValueRepresentation.CS, 1);
-        addEntry("CollimatorUpperHorizontalEdge", AttributeTag.CollimatorUpperHorizontalEdge, ValueRepresentation.IS, 1);
-        addEntry("ColorImagePrintingFlag", AttributeTag.ColorImagePrintingFlag, ValueRepresentation.CS, 1);
-        addEntry("ColumnAngulation", AttributeTag.ColumnAngulation, ValueRepresentation.DS, 1);
-        addEntry("ColumnAngulationPatient", AttributeTag.ColumnAngulationPatient, ValueRepresentation.FL, 1);
-        addEntry("ColumnOverlap", AttributeTag.ColumnOverlap, ValueRepresentation.US, 1);
-        addEntry("Columns", AttributeTag.Columns, ValueRepresentation.US, 1);
-        addEntry("ColumnsForNthOrderCoefficients", AttributeTag.ColumnsForNthOrderCoefficients, ValueRepresentation.US, 1);
-        addEntry("CommandDataSetType", AttributeTag.CommandDataSetType, ValueRepresentation.US, 1);
-        addEntry("CommandField", AttributeTag.CommandField, ValueRepresentation.US, 1);
-        addEntry("CommandGroupLength", AttributeTag.CommandGroupLength, ValueRepresentation.UL, 1);
-        addEntry("CommandLengthToEnd", AttributeTag.CommandLengthToEnd, ValueRepresentation.UL, 1);
-        addEntry("CommandMagnificationType", AttributeTag.CommandMagnificationType, ValueRepresentation.CS, 1);
-        addEntry("CommandRecognitionCode", AttributeTag.CommandRecognitionCode, ValueRepresentation.CS, 1);
-        addEntry("CommentsOnRadiationDose", AttributeTag.CommentsOnRadiationDose, ValueRepresentation.ST, 1);
-        addEntry("CommentsOnThePerformedProcedureStep", AttributeTag.CommentsOnThePerformedProcedureStep, ValueRepresentation.ST, 1);
-        addEntry("CommentsOnTheScheduledProcedureStep", AttributeTag.CommentsOnTheScheduledProcedureStep, ValueRepresentation.LT, 1);
-        addEntry("CompensatorColumnOffset", AttributeTag.CompensatorColumnOffset, ValueRepresentation.FL, 1);
-        addEntry("CompensatorColumns", AttributeTag.CompensatorColumns, ValueRepresentation.IS, 1);
-        addEntry("CompensatorDescription", AttributeTag.CompensatorDescription, ValueRepresentation.LT, 1);
-        addEntry("CompensatorDivergence", AttributeTag.CompensatorDivergence, ValueRepresentation.CS, 1);
-        addEntry("CompensatorID", AttributeTag.CompensatorID, ValueRepresentation.SH, 1);
-        addEntry("CompensatorMillingToolDiameter", AttributeTag.CompensatorMillingToolDiameter, ValueRepresentation.FL, 1);
-        addEntry("CompensatorMountingPosition", AttributeTag.CompensatorMountingPosition, ValueRepresentation.CS, 1);
-        addEntry("CompensatorNumber", AttributeTag.CompensatorNumber, ValueRepresentation.IS, 1);
-        addEntry("CompensatorPixelSpacing", AttributeTag.CompensatorPixelSpacing, ValueRepresentation.DS, 2);
-        addEntry("CompensatorPosition", AttributeTag.CompensatorPosition, ValueRepresentation.DS, 2);
-        addEntry("CompensatorRelativeStoppingPowerRatio", AttributeTag.CompensatorRelativeStoppingPowerRatio, ValueRepresentation.FL, 1);
-        addEntry("CompensatorRows", AttributeTag.CompensatorRows, ValueRepresentation.IS, 1);
-        addEntry("CompensatorSequence", AttributeTag.CompensatorSequence, ValueRepresentation.SQ, 1);
-        addEntry("CompensatorThicknessData", AttributeTag.CompensatorThicknessData, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("CompensatorTransmissionData", AttributeTag.CompensatorTransmissionData, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("CompensatorType", AttributeTag.CompensatorType, ValueRepresentation.CS, 1);
-        addEntry("CompletionFlag", AttributeTag.CompletionFlag, ValueRepresentation.CS, 1);
-        addEntry("CompletionFlagDescription", AttributeTag.CompletionFlagDescription, ValueRepresentation.LO, 1);
-        addEntry("ComplexImageComponent", AttributeTag.ComplexImageComponent, ValueRepresentation.CS, 1);
-        addEntry("CompoundGraphicInstanceID", AttributeTag.CompoundGraphicInstanceID, ValueRepresentation.UL, 1);
-        addEntry("CompoundGraphicSequence", AttributeTag.CompoundGraphicSequence, ValueRepresentation.SQ, 1);
-        addEntry("CompoundGraphicType", AttributeTag.CompoundGraphicType, ValueRepresentation.CS, 1);
-        addEntry("CompoundGraphicUnits", AttributeTag.CompoundGraphicUnits, ValueRepresentation.CS, 1);
-        addEntry("CompressionCode", AttributeTag.CompressionCode, ValueRepresentation.CS, 1);
-        addEntry("CompressionDescription", AttributeTag.CompressionDescription, ValueRepresentation.SH, 1);
-        addEntry("CompressionForce", AttributeTag.CompressionForce, ValueRepresentation.DS, 1);
-        addEntry("CompressionLabel", AttributeTag.CompressionLabel, ValueRepresentation.LO, 1);
-        addEntry("CompressionOriginator", AttributeTag.CompressionOriginator, ValueRepresentation.SH, 1);
-        addEntry("CompressionRecognitionCode", AttributeTag.CompressionRecognitionCode, ValueRepresentation.LO, 1);
-        addEntry("CompressionSequence", AttributeTag.CompressionSequence, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("CompressionStepPointers", AttributeTag.CompressionStepPointers, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("ConcatenationFrameOffsetNumber", AttributeTag.ConcatenationFrameOffsetNumber, ValueRepresentation.UL, 1);
-        addEntry("ConcatenationUID", AttributeTag.ConcatenationUID, ValueRepresentation.UI, 1);
-        addEntry("ConceptCodeSequence", AttributeTag.ConceptCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ConceptNameCodeSequence", AttributeTag.ConceptNameCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ConfidentialityCode", AttributeTag.ConfidentialityCode, ValueRepresentation.LO, 1);
-        addEntry("ConfidentialityConstraintOnPatientDataDescription", AttributeTag.ConfidentialityConstraintOnPatientDataDescription, ValueRepresentation.LO, 1);
-        addEntry("ConfigurationInformation", AttributeTag.ConfigurationInformation, ValueRepresentation.ST, 1);
-        addEntry("ConfigurationInformationDescription", AttributeTag.ConfigurationInformationDescription, ValueRepresentation.LT, 1);
-        addEntry("ConsentForClinicalTrialUseSequence", AttributeTag.ConsentForClinicalTrialUseSequence, ValueRepresentation.SQ, 1);
-        addEntry("ConsentForDistributionFlag", AttributeTag.ConsentForDistributionFlag, ValueRepresentation.CS, 1);
-        addEntry("ConstantVolumeFlag", AttributeTag.ConstantVolumeFlag, ValueRepresentation.CS, 1);
-        addEntry("ConstraintWeight", AttributeTag.ConstraintWeight, ValueRepresentation.DS, 1);
-        addEntry("ContactDisplayName", AttributeTag.ContactDisplayName, ValueRepresentation.LO, 1);
-        addEntry("ContactURI", AttributeTag.ContactURI, ValueRepresentation.ST, 1);
-        addEntry("ContainerComponentDescription", AttributeTag.ContainerComponentDescription, ValueRepresentation.LO, 1);
-        addEntry("ContainerComponentDiameter", AttributeTag.ContainerComponentDiameter, ValueRepresentation.FD, 1);
-        addEntry("ContainerComponentID", AttributeTag.ContainerComponentID, ValueRepresentation.LO, 1);
-        addEntry("ContainerComponentLength", AttributeTag.ContainerComponentLength, ValueRepresentation.FD, 1);
-        addEntry("ContainerComponentMaterial", AttributeTag.ContainerComponentMaterial, ValueRepresentation.CS, 1);
-        addEntry("ContainerComponentSequence", AttributeTag.ContainerComponentSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContainerComponentThickness", AttributeTag.ContainerComponentThickness, ValueRepresentation.FD, 1);
-        addEntry("ContainerComponentTypeCodeSequence", AttributeTag.ContainerComponentTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContainerComponentWidth", AttributeTag.ContainerComponentWidth, ValueRepresentation.FD, 1);
-        addEntry("ContainerDescription", AttributeTag.ContainerDescription, ValueRepresentation.LO, 1);
-        addEntry("ContainerIdentifier", AttributeTag.ContainerIdentifier, ValueRepresentation.LO, 1);
-        addEntry("ContainerTypeCodeSequence", AttributeTag.ContainerTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContentCreatorIdentificationCodeSequence", AttributeTag.ContentCreatorIdentificationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContentCreatorName", AttributeTag.ContentCreatorName, ValueRepresentation.PN, 1);
-        addEntry("ContentDate", AttributeTag.ContentDate, ValueRepresentation.DA, 1);
-        addEntry("ContentDescription", AttributeTag.ContentDescription, ValueRepresentation.LO, 1);
-        addEntry("ContentItemModifierSequence", AttributeTag.ContentItemModifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContentLabel", AttributeTag.ContentLabel, ValueRepresentation.CS, 1);
-        addEntry("ContentQualification", AttributeTag.ContentQualification, ValueRepresentation.CS, 1);
-        addEntry("ContentSequence", AttributeTag.ContentSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContentTemplateSequence", AttributeTag.ContentTemplateSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContentTime", AttributeTag.ContentTime, ValueRepresentation.TM, 1);
-        addEntry("ContextGroupExtensionCreatorUID", AttributeTag.ContextGroupExtensionCreatorUID, ValueRepresentation.UI, 1);
-        addEntry("ContextGroupExtensionFlag", AttributeTag.ContextGroupExtensionFlag, ValueRepresentation.CS, 1);
-        addEntry("ContextGroupLocalVersion", AttributeTag.ContextGroupLocalVersion, ValueRepresentation.DT, 1);
-        addEntry("ContextGroupVersion", AttributeTag.ContextGroupVersion, ValueRepresentation.DT, 1);
-        addEntry("ContextIdentifier", AttributeTag.ContextIdentifier, ValueRepresentation.CS, 1);
-        addEntry("ContextUID", AttributeTag.ContextUID, ValueRepresentation.UI, 1);
-        addEntry("ContinuityOfContent", AttributeTag.ContinuityOfContent, ValueRepresentation.CS, 1);
-        addEntry("ContourData", AttributeTag.ContourData, ValueRepresentation.DS, 3, Integer.MAX_VALUE / 3);
-        addEntry("ContourGeometricType", AttributeTag.ContourGeometricType, ValueRepresentation.CS, 1);
-        addEntry("ContourImageSequence", AttributeTag.ContourImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContourNumber", AttributeTag.ContourNumber, ValueRepresentation.IS, 1);
-        addEntry("ContourOffsetVector", AttributeTag.ContourOffsetVector, ValueRepresentation.DS, 3);
-        addEntry("ContourSequence", AttributeTag.ContourSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContourSlabThickness", AttributeTag.ContourSlabThickness, ValueRepresentation.DS, 1);
-        addEntry("ContourUncertaintyRadius", AttributeTag.ContourUncertaintyRadius, ValueRepresentation.FD, 1);
-        addEntry("ContrastAdministrationProfileSequence", AttributeTag.ContrastAdministrationProfileSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContrastBolusAdministrationRouteSequence", AttributeTag.ContrastBolusAdministrationRouteSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContrastBolusAgent", AttributeTag.ContrastBolusAgent, ValueRepresentation.LO, 1);
-        addEntry("ContrastBolusAgentAdministered", AttributeTag.ContrastBolusAgentAdministered, ValueRepresentation.CS, 1);
-        addEntry("ContrastBolusAgentDetected", AttributeTag.ContrastBolusAgentDetected, ValueRepresentation.CS, 1);
-        addEntry("ContrastBolusAgentNumber", AttributeTag.ContrastBolusAgentNumber, ValueRepresentation.US, 1);
-        addEntry("ContrastBolusAgentPhase", AttributeTag.ContrastBolusAgentPhase, ValueRepresentation.CS, 1);
-        addEntry("ContrastBolusAgentSequence", AttributeTag.ContrastBolusAgentSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContrastBolusIngredient", AttributeTag.ContrastBolusIngredient, ValueRepresentation.CS, 1);
-        addEntry("ContrastBolusIngredientCodeSequence", AttributeTag.ContrastBolusIngredientCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContrastBolusIngredientConcentration", AttributeTag.ContrastBolusIngredientConcentration, ValueRepresentation.DS, 1);
-        addEntry("ContrastBolusIngredientOpaque", AttributeTag.ContrastBolusIngredientOpaque, ValueRepresentation.CS, 1);
-        addEntry("ContrastBolusRoute", AttributeTag.ContrastBolusRoute, ValueRepresentation.LO, 1);
-        addEntry("ContrastBolusStartTime", AttributeTag.ContrastBolusStartTime, ValueRepresentation.TM, 1);
-        addEntry("ContrastBolusStopTime", AttributeTag.ContrastBolusStopTime, ValueRepresentation.TM, 1);
-        addEntry("ContrastBolusTotalDose", AttributeTag.ContrastBolusTotalDose, ValueRepresentation.DS, 1);
-        addEntry("ContrastBolusUsageSequence", AttributeTag.ContrastBolusUsageSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContrastBolusVolume", AttributeTag.ContrastBolusVolume, ValueRepresentation.DS, 1);
-        addEntry("ContrastFlowDuration", AttributeTag.ContrastFlowDuration, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("ContrastFlowRate", AttributeTag.ContrastFlowRate, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("ContrastFrameAveraging", AttributeTag.ContrastFrameAveraging, ValueRepresentation.US, 1);
-        addEntry("ContributingEquipmentSequence", AttributeTag.ContributingEquipmentSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContributingSOPInstancesReferenceSequence", AttributeTag.ContributingSOPInstancesReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContributingSourcesSequence", AttributeTag.ContributingSourcesSequence, ValueRepresentation.SQ, 1);
-        addEntry("ContributionDateTime", AttributeTag.ContributionDateTime, ValueRepresentation.DT, 1);
-        addEntry("ContributionDescription", AttributeTag.ContributionDescription, ValueRepresentation.ST, 1);
-        addEntry("ControlPoint", AttributeTag.ControlPoint3DPosition, ValueRepresentation.DS, 3);
-        addEntry("ControlPointDeliverySequence", AttributeTag.ControlPointDeliverySequence, ValueRepresentation.SQ, 1);
-        addEntry("ControlPointIndex", AttributeTag.ControlPointIndex, ValueRepresentation.IS, 1);
-        addEntry("ControlPointOrientation", AttributeTag.ControlPointOrientation, ValueRepresentation.FL, 3);
-        addEntry("ControlPointRelativePosition", AttributeTag.ControlPointRelativePosition, ValueRepresentation.DS, 1);
-        addEntry("ControlPointSequence", AttributeTag.ControlPointSequence, ValueRepresentation.SQ, 1);
-        addEntry("ConventionalControlPointVerificationSequence", AttributeTag.ConventionalControlPointVerificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("ConventionalMachineVerificationSequence", AttributeTag.ConventionalMachineVerificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("ConversionType", AttributeTag.ConversionType, ValueRepresentation.CS, 1);
-        addEntry("ConvolutionKernel", AttributeTag.ConvolutionKernel, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("ConvolutionKernelGroup", AttributeTag.ConvolutionKernelGroup, ValueRepresentation.CS, 1);
-        addEntry("CoordinateStartValue", AttributeTag.CoordinateStartValue, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("CoordinateStepValue", AttributeTag.CoordinateStepValue, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("CoordinateSystemAxisCodeSequence", AttributeTag.CoordinateSystemAxisCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("Copies", AttributeTag.Copies, ValueRepresentation.IS, 1);
-        addEntry("CornealSize", AttributeTag.CornealSize, ValueRepresentation.FD, 1);
-        addEntry("CorrectedImage", AttributeTag.CorrectedImage, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("CorrectedParameterSequence", AttributeTag.CorrectedParameterSequence, ValueRepresentation.SQ, 1);
-        addEntry("CorrectionValue", AttributeTag.CorrectionValue, ValueRepresentation.FL, 1);
-        addEntry("CountLossNormalizationCorrected", AttributeTag.CountLossNormalizationCorrected, ValueRepresentation.CS, 1);
-        addEntry("CountRate", AttributeTag.CountRate, ValueRepresentation.IS, 1);
-        addEntry("CountryOfResidence", AttributeTag.CountryOfResidence, ValueRepresentation.LO, 1);
-        addEntry("CountsAccumulated", AttributeTag.CountsAccumulated, ValueRepresentation.IS, 1);
-        addEntry("CountsIncluded", AttributeTag.CountsIncluded, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("CountsSource", AttributeTag.CountsSource, ValueRepresentation.CS, 1);
-        addEntry("CoverageOfKSpace", AttributeTag.CoverageOfKSpace, ValueRepresentation.CS, 1);
-        addEntry("CranialThermalIndex", AttributeTag.CranialThermalIndex, ValueRepresentation.DS, 1);
-        addEntry("CreationDate", AttributeTag.CreationDate, ValueRepresentation.DA, 1);
-        addEntry("CreationTime", AttributeTag.CreationTime, ValueRepresentation.TM, 1);
-        addEntry("CreatorVersionUID", AttributeTag.CreatorVersionUID, ValueRepresentation.UI, 1);
-        addEntry("CSSFontName", AttributeTag.CSSFontName, ValueRepresentation.LO, 1);
-        addEntry("CTAcquisitionDetailsSequence", AttributeTag.CTAcquisitionDetailsSequence, ValueRepresentation.SQ, 1);
-        addEntry("CTAcquisitionTypeSequence", AttributeTag.CTAcquisitionTypeSequence, ValueRepresentation.SQ, 1);
-        addEntry("CTAdditionalXRaySourceSequence", AttributeTag.CTAdditionalXRaySourceSequence, ValueRepresentation.SQ, 1);
-        addEntry("CTDIPhantomTypeCodeSequence", AttributeTag.CTDIPhantomTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("CTDIvol", AttributeTag.CTDIvol, ValueRepresentation.FD, 1);
-        addEntry("CTExposureSequence", AttributeTag.CTExposureSequence, ValueRepresentation.SQ, 1);
-        addEntry("CTGeometrySequence", AttributeTag.CTGeometrySequence, ValueRepresentation.SQ, 1);
-        addEntry("CTImageFrameTypeSequence", AttributeTag.CTImageFrameTypeSequence, ValueRepresentation.SQ, 1);
-        addEntry("CTPositionSequence", AttributeTag.CTPositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("CTReconstructionSequence", AttributeTag.CTReconstructionSequence, ValueRepresentation.SQ, 1);
-        addEntry("CTTableDynamicsSequence", AttributeTag.CTTableDynamicsSequence, ValueRepresentation.SQ, 1);
-        addEntry("CTXRayDetailsSequence", AttributeTag.CTXRayDetailsSequence, ValueRepresentation.SQ, 1);
-        addEntry("CumulativeDoseReferenceCoefficient", AttributeTag.CumulativeDoseReferenceCoefficient, ValueRepresentation.DS, 1);
-        addEntry("CumulativeDoseToDoseReference", AttributeTag.CumulativeDoseToDoseReference, ValueRepresentation.DS, 1);
-        addEntry("CumulativeMetersetWeight", AttributeTag.CumulativeMetersetWeight, ValueRepresentation.DS, 1);
-        addEntry("CumulativeTimeWeight", AttributeTag.CumulativeTimeWeight, ValueRepresentation.DS, 1);
-        addEntry("CurrentFractionNumber", AttributeTag.CurrentFractionNumber, ValueRepresentation.IS, 1);
-        addEntry("CurrentPatientLocation", AttributeTag.CurrentPatientLocation, ValueRepresentation.LO, 1);
-        addEntry("CurrentRequestedProcedureEvidenceSequence", AttributeTag.CurrentRequestedProcedureEvidenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("CurrentTreatmentStatus", AttributeTag.CurrentTreatmentStatus, ValueRepresentation.CS, 1);
-        addEntry("CurveActivationLayer", AttributeTag.CurveActivationLayer, ValueRepresentation.CS, 1);
-        addEntry("CurveData", AttributeTag.CurveData, new ValueRepresentation[] { ValueRepresentation.OW, ValueRepresentation.OB }, 1, 1);
-        addEntry("CurveDataDescriptor", AttributeTag.CurveDataDescriptor, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("CurveDate", AttributeTag.CurveDate, ValueRepresentation.DA, 1);
-        addEntry("CurveDescription", AttributeTag.CurveDescription, ValueRepresentation.LO, 1);
-        addEntry("CurveDimensions", AttributeTag.CurveDimensions, ValueRepresentation.US, 1);
-        addEntry("CurveLabel", AttributeTag.CurveLabel, ValueRepresentation.LO, 1);
-        addEntry("CurveNumber", AttributeTag.CurveNumber, ValueRepresentation.IS, 1);
-        addEntry("CurveRange", AttributeTag.CurveRange, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("CurveReferencedOverlayGroup", AttributeTag.CurveReferencedOverlayGroup, ValueRepresentation.US, 1);
-        addEntry("CurveReferencedOverlaySequence", AttributeTag.CurveReferencedOverlaySequence, ValueRepresentation.SQ, 1);
-        addEntry("CurveTime", AttributeTag.CurveTime, ValueRepresentation.TM, 1);
-        addEntry("CustodialOrganizationSequence", AttributeTag.CustodialOrganizationSequence, ValueRepresentation.SQ, 1);
-        addEntry("CylinderAxis", AttributeTag.CylinderAxis, ValueRepresentation.FL, 1);
-        addEntry("CylinderLensPower", AttributeTag.CylinderLensPower, ValueRepresentation.FL, 1);
-        addEntry("CylinderPower", AttributeTag.CylinderPower, ValueRepresentation.FD, 1);
-        addEntry("CylinderSequence", AttributeTag.CylinderSequence, ValueRepresentation.SQ, 1);
-        addEntry("DataBlock", AttributeTag.DataBlock, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("DataBlockDescription", AttributeTag.DataBlockDescription, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("DataCollectionCenterPatient", AttributeTag.DataCollectionCenterPatient, ValueRepresentation.FD, 3);
-        addEntry("DataCollectionDiameter", AttributeTag.DataCollectionDiameter, ValueRepresentation.DS, 1);
-        addEntry("DataElementsSigned", AttributeTag.DataElementsSigned, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("DataFrameAssignmentSequence", AttributeTag.DataFrameAssignmentSequence, ValueRepresentation.SQ, 1);
-        addEntry("DataInformationSequence", AttributeTag.DataInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("DataPathAssignment", AttributeTag.DataPathAssignment, ValueRepresentation.CS, 1);
-        addEntry("DataPathID", AttributeTag.DataPathID, ValueRepresentation.CS, 1);
-        addEntry("DataPointColumns", AttributeTag.DataPointColumns, ValueRepresentation.UL, 1);
-        addEntry("DataPointRows", AttributeTag.DataPointRows, ValueRepresentation.UL, 1);
-        addEntry("DataRepresentation", AttributeTag.DataRepresentation, ValueRepresentation.CS, 1);
-        addEntry("DataSetSubtype", AttributeTag.DataSetSubtype, ValueRepresentation.LO, 1);
-        addEntry("DataSetTrailingPadding", AttributeTag.DataSetTrailingPadding, ValueRepresentation.OB, 1);
-        addEntry("DataSetType", AttributeTag.DataSetType, ValueRepresentation.US, 1);
-        addEntry("DataType", AttributeTag.DataType, ValueRepresentation.CS, 1);
-        addEntry("DataValueRepresentation", AttributeTag.DataValueRepresentation, ValueRepresentation.US, 1);
-        addEntry("Date", AttributeTag.Date, ValueRepresentation.DA, 1);
-        addEntry("DateOfLastCalibration", AttributeTag.DateOfLastCalibration, ValueRepresentation.DA, 1, Integer.MAX_VALUE);
-        addEntry("DateOfLastDetectorCalibration", AttributeTag.DateOfLastDetectorCalibration, ValueRepresentation.DA, 1);
-        addEntry("DateOfSecondaryCapture", AttributeTag.DateOfSecondaryCapture, ValueRepresentation.DA, 1);
-        addEntry("DateTime", AttributeTag.DateTime, ValueRepresentation.DT, 1);
-        addEntry("dBdt", AttributeTag.dBdt, ValueRepresentation.DS, 1);
-        addEntry("DCTLabel", AttributeTag.DCTLabel, ValueRepresentation.LO, 1);
-        addEntry("DeadTimeCorrected", AttributeTag.DeadTimeCorrected, ValueRepresentation.CS, 1);
-        addEntry("DeadTimeCorrectionFlag", AttributeTag.DeadTimeCorrectionFlag, ValueRepresentation.CS, 1);
-        addEntry("DeadTimeFactor", AttributeTag.DeadTimeFactor, ValueRepresentation.DS, 1);
-        addEntry("DecayCorrected", AttributeTag.DecayCorrected, ValueRepresentation.CS, 1);
-        addEntry("DecayCorrection", AttributeTag.DecayCorrection, ValueRepresentation.CS, 1);
-        addEntry("DecayCorrectionDateTime", AttributeTag.DecayCorrectionDateTime, ValueRepresentation.DT, 1);
-        addEntry("DecayFactor", AttributeTag.DecayFactor, ValueRepresentation.DS, 1);
-        addEntry("DecimalVisualAcuity", AttributeTag.DecimalVisualAcuity, ValueRepresentation.FD, 1);
-        addEntry("DecimateCropResult", AttributeTag.DecimateCropResult, ValueRepresentation.CS, 1);
-        addEntry("DecoupledNucleus", AttributeTag.DecoupledNucleus, ValueRepresentation.CS, 1, 2);
-        addEntry("Decoupling", AttributeTag.Decoupling, ValueRepresentation.CS, 1);
-        addEntry("DecouplingChemicalShiftReference", AttributeTag.DecouplingChemicalShiftReference, ValueRepresentation.FD, 1, 2);
-        addEntry("DecouplingFrequency", AttributeTag.DecouplingFrequency, ValueRepresentation.FD, 1, 2);
-        addEntry("DecouplingMethod", AttributeTag.DecouplingMethod, ValueRepresentation.CS, 1);
-        addEntry("DefaultMagnificationType", AttributeTag.DefaultMagnificationType, ValueRepresentation.CS, 1);
-        addEntry("DefaultPrinterResolutionID", AttributeTag.DefaultPrinterResolutionID, ValueRepresentation.CS, 1);
-        addEntry("DefaultSmoothingType", AttributeTag.DefaultSmoothingType, ValueRepresentation.CS, 1);
-        addEntry("DeformableRegistrationGridSequence", AttributeTag.DeformableRegistrationGridSequence, ValueRepresentation.SQ, 1);
-        addEntry("DeformableRegistrationSequence", AttributeTag.DeformableRegistrationSequence, ValueRepresentation.SQ, 1);
-        addEntry("DegreeOfDilation", AttributeTag.DegreeOfDilation, ValueRepresentation.FL, 1);
-        addEntry("DeidentificationMethod", AttributeTag.DeidentificationMethod, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("DeidentificationMethodCodeSequence", AttributeTag.DeidentificationMethodCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("DeletionLock", AttributeTag.DeletionLock, ValueRepresentation.LO, 1);
-        addEntry("DeliveredChannelTotalTime", AttributeTag.DeliveredChannelTotalTime, ValueRepresentation.DS, 1);
-        addEntry("DeliveredMeterset", AttributeTag.DeliveredMeterset, ValueRepresentation.DS, 1);
-        addEntry("DeliveredNumberOfPulses", AttributeTag.DeliveredNumberOfPulses, ValueRepresentation.IS, 1);
-        addEntry("DeliveredPrimaryMeterset", AttributeTag.DeliveredPrimaryMeterset, ValueRepresentation.DS, 1);
-        addEntry("DeliveredPulseRepetitionInterval", AttributeTag.DeliveredPulseRepetitionInterval, ValueRepresentation.DS, 1);
-        addEntry("DeliveredSecondaryMeterset", AttributeTag.DeliveredSecondaryMeterset, ValueRepresentation.DS, 1);
-        addEntry("DeliveredTreatmentTime", AttributeTag.DeliveredTreatmentTime, ValueRepresentation.DS, 1);
-        addEntry("DeliveryMaximumDose", AttributeTag.DeliveryMaximumDose, ValueRepresentation.DS, 1);
-        addEntry("DeliveryVerificationImageSequence", AttributeTag.DeliveryVerificationImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("DeliveryWarningDose", AttributeTag.DeliveryWarningDose, ValueRepresentation.DS, 1);
-        addEntry("DepthOfScanField", AttributeTag.DepthOfScanField, ValueRepresentation.IS, 1);
-        addEntry("DepthOfTransverseImage", AttributeTag.DepthOfTransverseImage, ValueRepresentation.FL, 1);
-        addEntry("DepthsOfFocus", AttributeTag.DepthsOfFocus, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
-        addEntry("DepthSpatialResolution", AttributeTag.DepthSpatialResolution, ValueRepresentation.FL, 1);
-        addEntry("DerivationCodeSequence", AttributeTag.DerivationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("DerivationDescription", AttributeTag.DerivationDescription, ValueRepresentation.ST, 1);
-        addEntry("DerivationImageSequence", AttributeTag.DerivationImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("DestinationAE", AttributeTag.DestinationAE, ValueRepresentation.AE, 1);
-        addEntry("DetailsOfCoefficients", AttributeTag.DetailsOfCoefficients, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("DetectorActivationOffsetFromExposure", AttributeTag.DetectorActivationOffsetFromExposure, ValueRepresentation.DS, 1);
-        addEntry("DetectorActiveDimensions", AttributeTag.DetectorActiveDimensions, ValueRepresentation.DS, 1, 2);
-        addEntry("DetectorActiveOrigin", AttributeTag.DetectorActiveOrigin, ValueRepresentation.DS, 2);
-        addEntry("DetectorActiveShape", AttributeTag.DetectorActiveShape, ValueRepresentation.CS, 1);
-        addEntry("DetectorActiveTime", AttributeTag.DetectorActiveTime, ValueRepresentation.DS, 1);
-        addEntry("DetectorBinning", AttributeTag.DetectorBinning, ValueRepresentation.DS, 2);
-        addEntry("DetectorConditionsNominalFlag", AttributeTag.DetectorConditionsNominalFlag, ValueRepresentation.CS, 1);
-        addEntry("DetectorConfiguration", AttributeTag.DetectorConfiguration, ValueRepresentation.CS, 1);
-        addEntry("DetectorDescription", AttributeTag.DetectorDescription, ValueRepresentation.LT, 1);
-        addEntry("DetectorElementPhysicalSize", AttributeTag.DetectorElementPhysicalSize, ValueRepresentation.DS, 2);
-        addEntry("DetectorElementSize", AttributeTag.DetectorElementSize, ValueRepresentation.DS, 2);
-        addEntry("DetectorElementSpacing", AttributeTag.DetectorElementSpacing, ValueRepresentation.DS, 2);
-        addEntry("DetectorGeometry", AttributeTag.DetectorGeometry, ValueRepresentation.CS, 1);
-        addEntry("DetectorID", AttributeTag.DetectorID, ValueRepresentation.SH, 1);
-        addEntry("DetectorInformationSequence", AttributeTag.DetectorInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("DetectorLinesOfResponseUsed", AttributeTag.DetectorLinesOfResponseUsed, ValueRepresentation.LO, 1);
-        addEntry("DetectorManufacturerModelName", AttributeTag.DetectorManufacturerModelName, ValueRepresentation.LO, 1);
-        addEntry("DetectorManufacturerName", AttributeTag.DetectorManufacturerName, ValueRepresentation.LO, 1);
-        addEntry("DetectorMode", AttributeTag.DetectorMode, ValueRepresentation.LT, 1);
-        addEntry("DetectorNormalizationCorrection", AttributeTag.DetectorNormalizationCorrection, ValueRepresentation.CS, 1);
-        addEntry("DetectorPrimaryAngle", AttributeTag.DetectorPrimaryAngle, ValueRepresentation.DS, 1);
-        addEntry("DetectorSecondaryAngle", AttributeTag.DetectorSecondaryAngle, ValueRepresentation.DS, 1);
-        addEntry("DetectorTemperature", AttributeTag.DetectorTemperature, ValueRepresentation.DS, 1);
-        addEntry("DetectorTimeSinceLastExposure", AttributeTag.DetectorTimeSinceLastExposure, ValueRepresentation.DS, 1);
-        addEntry("DetectorType", AttributeTag.DetectorType, ValueRepresentation.CS, 1);
-        addEntry("DetectorVector", AttributeTag.DetectorVector, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("DeviationIndex", AttributeTag.DeviationIndex, ValueRepresentation.DS, 1);
-        addEntry("DeviceDescription", AttributeTag.DeviceDescription, ValueRepresentation.LO, 1);
-        addEntry("DeviceDiameter", AttributeTag.DeviceDiameter, ValueRepresentation.DS, 1);
-        addEntry("DeviceDiameterUnits", AttributeTag.DeviceDiameterUnits, ValueRepresentation.CS, 1);
-        addEntry("DeviceID", AttributeTag.DeviceID, ValueRepresentation.LO, 1);
-        addEntry("DeviceLength", AttributeTag.DeviceLength, ValueRepresentation.DS, 1);
-        addEntry("DeviceSequence", AttributeTag.DeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("DeviceSerialNumber", AttributeTag.DeviceSerialNumber, ValueRepresentation.LO, 1);
-        addEntry("DeviceUID", AttributeTag.DeviceUID, ValueRepresentation.UI, 1);
-        addEntry("DeviceVolume", AttributeTag.DeviceVolume, ValueRepresentation.DS, 1);
-        addEntry("DialogReceiver", AttributeTag.DialogReceiver, ValueRepresentation.AT, 1);
-        addEntry("DiameterOfVisibility", AttributeTag.DiameterOfVisibility, ValueRepresentation.FL, 1);
-        addEntry("DiaphragmPosition", AttributeTag.DiaphragmPosition, ValueRepresentation.DS, 4);
-        addEntry("DiffusionAnisotropyType", AttributeTag.DiffusionAnisotropyType, ValueRepresentation.CS, 1);
-        addEntry("DiffusionBMatrixSequence", AttributeTag.DiffusionBMatrixSequence, ValueRepresentation.SQ, 1);
-        addEntry("DiffusionBValue", AttributeTag.DiffusionBValue, ValueRepresentation.FD, 1);
-        addEntry("DiffusionBValueXX", AttributeTag.DiffusionBValueXX, ValueRepresentation.FD, 1);
-        addEntry("DiffusionBValueXY", AttributeTag.DiffusionBValueXY, ValueRepresentation.FD, 1);
-        addEntry("DiffusionBValueXZ", AttributeTag.DiffusionBValueXZ, ValueRepresentation.FD, 1);
-        addEntry("DiffusionBValueYY", AttributeTag.DiffusionBValueYY, ValueRepresentation.FD, 1);
-        addEntry("DiffusionBValueYZ", AttributeTag.DiffusionBValueYZ, ValueRepresentation.FD, 1);
-        addEntry("DiffusionBValueZZ", AttributeTag.DiffusionBValueZZ, ValueRepresentation.FD, 1);
-        addEntry("DiffusionDirectionality", AttributeTag.DiffusionDirectionality, ValueRepresentation.CS, 1);
-        addEntry("DiffusionGradientDirectionSequence", AttributeTag.DiffusionGradientDirectionSequence, ValueRepresentation.SQ, 1);
-        addEntry("DiffusionGradientOrientation", AttributeTag.DiffusionGradientOrientation, ValueRepresentation.FD, 3);
-        addEntry("DigitalImageFormatAcquired", AttributeTag.DigitalImageFormatAcquired, ValueRepresentation.LO, 1);
-        addEntry("DigitalSignatureDateTime", AttributeTag.DigitalSignatureDateTime, ValueRepresentation.DT, 1);
-        addEntry("DigitalSignaturePurposeCodeSequence", AttributeTag.DigitalSignaturePurposeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("DigitalSignaturesSequence", AttributeTag.DigitalSignaturesSequence, ValueRepresentation.SQ, 1);
-        addEntry("DigitalSignatureUID", AttributeTag.DigitalSignatureUID, ValueRepresentation.UI, 1);
-        addEntry("DigitizingDeviceTransportDirection", AttributeTag.DigitizingDeviceTransportDirection, ValueRepresentation.CS, 1);
-        addEntry("DimensionDescriptionLabel", AttributeTag.DimensionDescriptionLabel, ValueRepresentation.LO, 1);
-        addEntry("DimensionIndexPointer", AttributeTag.DimensionIndexPointer, ValueRepresentation.AT, 1);
-        addEntry("DimensionIndexPrivateCreator", AttributeTag.DimensionIndexPrivateCreator, ValueRepresentation.LO, 1);
-        addEntry("DimensionIndexSequence", AttributeTag.DimensionIndexSequence, ValueRepresentation.SQ, 1);
-        addEntry("DimensionIndexValues", AttributeTag.DimensionIndexValues, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
-        addEntry("DimensionOrganizationSequence", AttributeTag.DimensionOrganizationSequence, ValueRepresentation.SQ, 1);
-        addEntry("DimensionOrganizationType", AttributeTag.DimensionOrganizationType, ValueRepresentation.CS, 1);
-        addEntry("DimensionOrganizationUID", AttributeTag.DimensionOrganizationUID, ValueRepresentation.UI, 1);
-        addEntry("DirectoryRecordSequence", AttributeTag.DirectoryRecordSequence, ValueRepresentation.SQ, 1);
-        addEntry("DirectoryRecordType", AttributeTag.DirectoryRecordType, ValueRepresentation.CS, 1);
-        addEntry("DischargeDate", AttributeTag.DischargeDate, ValueRepresentation.DA, 1);
-        addEntry("DischargeDiagnosisCodeSequence", AttributeTag.DischargeDiagnosisCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("DischargeDiagnosisDescription", AttributeTag.DischargeDiagnosisDescription, ValueRepresentation.LO, 1);
-        addEntry("DischargeTime", AttributeTag.DischargeTime, ValueRepresentation.TM, 1);
-        addEntry("DisplayedAreaBottomRightHandCorner", AttributeTag.DisplayedAreaBottomRightHandCorner, ValueRepresentation.SL, 2);
-        addEntry("DisplayedAreaBottomRightHandCornerTrial", AttributeTag.DisplayedAreaBottomRightHandCornerTrial, ValueRepresentation.US, 2);
-        addEntry("DisplayedAreaSelectionSequence", AttributeTag.DisplayedAreaSelectionSequence, ValueRepresentation.SQ, 1);
-        addEntry("DisplayedAreaTopLeftHandCorner", AttributeTag.DisplayedAreaTopLeftHandCorner, ValueRepresentation.SL, 2);
-        addEntry("DisplayedAreaTopLeftHandCornerTrial", AttributeTag.DisplayedAreaTopLeftHandCornerTrial, ValueRepresentation.US, 2);
-        addEntry("DisplayEnvironmentSpatialPosition", AttributeTag.DisplayEnvironmentSpatialPosition, ValueRepresentation.FD, 4);
-        addEntry("DisplayFilterPercentage", AttributeTag.DisplayFilterPercentage, ValueRepresentation.FL, 1);
-        addEntry("DisplayFormat", AttributeTag.DisplayFormat, ValueRepresentation.AT, 1);
-        addEntry("DisplaySetHorizontalJustification", AttributeTag.DisplaySetHorizontalJustification, ValueRepresentation.CS, 1);
-        addEntry("DisplaySetLabel", AttributeTag.DisplaySetLabel, ValueRepresentation.LO, 1);
-        addEntry("DisplaySetNumber", AttributeTag.DisplaySetNumber, ValueRepresentation.US, 1);
-        addEntry("DisplaySetPatientOrientation", AttributeTag.DisplaySetPatientOrientation, ValueRepresentation.CS, 2);
-        addEntry("DisplaySetPresentationGroup", AttributeTag.DisplaySetPresentationGroup, ValueRepresentation.US, 1);
-        addEntry("DisplaySetPresentationGroupDescription", AttributeTag.DisplaySetPresentationGroupDescription, ValueRepresentation.LO, 1);
-        addEntry("DisplaySetScrollingGroup", AttributeTag.DisplaySetScrollingGroup, ValueRepresentation.US, 2, Integer.MAX_VALUE);
-        addEntry("DisplaySetsSequence", AttributeTag.DisplaySetsSequence, ValueRepresentation.SQ, 1);
-        addEntry("DisplaySetVerticalJustification", AttributeTag.DisplaySetVerticalJustification, ValueRepresentation.CS, 1);
-        addEntry("DisplayShadingFlag", AttributeTag.DisplayShadingFlag, ValueRepresentation.CS, 1);
-        addEntry("DisplayWindowLabelVector", AttributeTag.DisplayWindowLabelVector, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("DistanceObjectToTableTop", AttributeTag.DistanceObjectToTableTop, ValueRepresentation.FL, 1);
-        addEntry("DistancePupillaryDistance", AttributeTag.DistancePupillaryDistance, ValueRepresentation.FD, 1);
-        addEntry("DistanceReceptorPlaneToDetectorHousing", AttributeTag.DistanceReceptorPlaneToDetectorHousing, ValueRepresentation.FL, 1);
-        addEntry("DistanceSourceToDataCollectionCenter", AttributeTag.DistanceSourceToDataCollectionCenter, ValueRepresentation.FD, 1);
-        addEntry("DistanceSourceToDetector", AttributeTag.DistanceSourceToDetector, ValueRepresentation.DS, 1);
-        addEntry("DistanceSourceToEntrance", AttributeTag.DistanceSourceToEntrance, ValueRepresentation.DS, 1);
-        addEntry("DistanceSourceToIsocenter", AttributeTag.DistanceSourceToIsocenter, ValueRepresentation.FL, 1);
-        addEntry("DistanceSourceToPatient", AttributeTag.DistanceSourceToPatient, ValueRepresentation.DS, 1);
-        addEntry("DistanceSourceToSupport", AttributeTag.DistanceSourceToSupport, ValueRepresentation.DS, 1);
-        addEntry("DistributionAddress", AttributeTag.DistributionAddress, ValueRepresentation.LO, 1);
-        addEntry("DistributionName", AttributeTag.DistributionName, ValueRepresentation.PN, 1);
-        addEntry("DistributionType", AttributeTag.DistributionType, ValueRepresentation.CS, 1);
-        addEntry("DocumentTitle", AttributeTag.DocumentTitle, ValueRepresentation.ST, 1);
-        addEntry("DopplerCorrectionAngle", AttributeTag.DopplerCorrectionAngle, ValueRepresentation.FD, 1);
-        addEntry("DopplerSampleVolumeXPosition", AttributeTag.DopplerSampleVolumeXPosition, ValueRepresentation.SL, 1);
-        addEntry("DopplerSampleVolumeXPositionRetired", AttributeTag.DopplerSampleVolumeXPositionRetired, ValueRepresentation.UL, 1);
-        addEntry("DopplerSampleVolumeYPosition", AttributeTag.DopplerSampleVolumeYPosition, ValueRepresentation.SL, 1);
-        addEntry("DopplerSampleVolumeYPositionRetired", AttributeTag.DopplerSampleVolumeYPositionRetired, ValueRepresentation.UL, 1);
-        addEntry("DoseCalibrationFactor", AttributeTag.DoseCalibrationFactor, ValueRepresentation.DS, 1);
-        addEntry("DoseComment", AttributeTag.DoseComment, ValueRepresentation.LO, 1);
-        addEntry("DoseGridScaling", AttributeTag.DoseGridScaling, ValueRepresentation.DS, 1);
-        addEntry("DoseRateDelivered", AttributeTag.DoseRateDelivered, ValueRepresentation.DS, 1);
-        addEntry("DoseRateSet", AttributeTag.DoseRateSet, ValueRepresentation.DS, 1);
-        addEntry("DoseReferenceDescription", AttributeTag.DoseReferenceDescription, ValueRepresentation.LO, 1);
-        addEntry("DoseReferenceNumber", AttributeTag.DoseReferenceNumber, ValueRepresentation.IS, 1);
-        addEntry("DoseReferencePointCoordinates", AttributeTag.DoseReferencePointCoordinates, ValueRepresentation.DS, 3);
-        addEntry("DoseReferenceSequence", AttributeTag.DoseReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("DoseReferenceStructureType", AttributeTag.DoseReferenceStructureType, ValueRepresentation.CS, 1);
-        addEntry("DoseReferenceType", AttributeTag.DoseReferenceType, ValueRepresentation.CS, 1);
-        addEntry("DoseReferenceUID", AttributeTag.DoseReferenceUID, ValueRepresentation.UI, 1);
-        addEntry("DoseSummationType", AttributeTag.DoseSummationType, ValueRepresentation.CS, 1);
-        addEntry("DoseType", AttributeTag.DoseType, ValueRepresentation.CS, 1);
-        addEntry("DoseUnits", AttributeTag.DoseUnits, ValueRepresentation.CS, 1);
-        addEntry("DoseValue", AttributeTag.DoseValue, ValueRepresentation.DS, 1);
-        addEntry("DoubleExposureFieldDelta", AttributeTag.DoubleExposureFieldDelta, ValueRepresentation.DS, 4);
-        addEntry("DoubleExposureFlag", AttributeTag.DoubleExposureFlag, ValueRepresentation.CS, 1);
-        addEntry("DoubleExposureMeterset", AttributeTag.DoubleExposureMeterset, ValueRepresentation.DS, 1);
-        addEntry("DoubleExposureOrdering", AttributeTag.DoubleExposureOrdering, ValueRepresentation.CS, 1);
-        addEntry("DVHData", AttributeTag.DVHData, ValueRepresentation.DS, 2, Integer.MAX_VALUE / 2);
-        addEntry("DVHDoseScaling", AttributeTag.DVHDoseScaling, ValueRepresentation.DS, 1);
-        addEntry("DVHMaximumDose", AttributeTag.DVHMaximumDose, ValueRepresentation.DS, 1);
-        addEntry("DVHMeanDose", AttributeTag.DVHMeanDose, ValueRepresentation.DS, 1);
-        addEntry("DVHMinimumDose", AttributeTag.DVHMinimumDose, ValueRepresentation.DS, 1);
-        addEntry("DVHNormalizationDoseValue", AttributeTag.DVHNormalizationDoseValue, ValueRepresentation.DS, 1);
-        addEntry("DVHNormalizationPoint", AttributeTag.DVHNormalizationPoint, ValueRepresentation.DS, 3);
-        addEntry("DVHNumberOfBins", AttributeTag.DVHNumberOfBins, ValueRepresentation.IS, 1);
-        addEntry("DVHReferencedROISequence", AttributeTag.DVHReferencedROISequence, ValueRepresentation.SQ, 1);
-        addEntry("DVHROIContributionType", AttributeTag.DVHROIContributionType, ValueRepresentation.CS, 1);
-        addEntry("DVHSequence", AttributeTag.DVHSequence, ValueRepresentation.SQ, 1);
-        addEntry("DVHType", AttributeTag.DVHType, ValueRepresentation.CS, 1);
-        addEntry("DVHVolumeUnits", AttributeTag.DVHVolumeUnits, ValueRepresentation.CS, 1);
-        addEntry("DynamicRange", AttributeTag.DynamicRange, ValueRepresentation.DS, 1);
-        addEntry("EchoNumbers", AttributeTag.EchoNumbers, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("EchoPlanarPulseSequence", AttributeTag.EchoPlanarPulseSequence, ValueRepresentation.CS, 1);
-        addEntry("EchoPulseSequence", AttributeTag.EchoPulseSequence, ValueRepresentation.CS, 1);
-        addEntry("EchoTime", AttributeTag.EchoTime, ValueRepresentation.DS, 1);
-        addEntry("EchoTrainLength", AttributeTag.EchoTrainLength, ValueRepresentation.IS, 1);
-        addEntry("EdgePointIndexList", AttributeTag.EdgePointIndexList, ValueRepresentation.OW, 1);
-        addEntry("EffectiveDuration", AttributeTag.EffectiveDuration, ValueRepresentation.DS, 1);
-        addEntry("EffectiveEchoTime", AttributeTag.EffectiveEchoTime, ValueRepresentation.FD, 1);
-        addEntry("EmmetropicMagnification", AttributeTag.EmmetropicMagnification, ValueRepresentation.FL, 1);
-        addEntry("EmptyImageBoxCIELabValue", AttributeTag.EmptyImageBoxCIELabValue, ValueRepresentation.US, 3);
-        addEntry("EmptyImageDensity", AttributeTag.EmptyImageDensity, ValueRepresentation.CS, 1);
-        addEntry("EncapsulatedDocument", AttributeTag.EncapsulatedDocument, ValueRepresentation.OB, 1);
-        addEntry("EncryptedAttributesSequence", AttributeTag.EncryptedAttributesSequence, ValueRepresentation.SQ, 1);
-        addEntry("EncryptedContent", AttributeTag.EncryptedContent, ValueRepresentation.OB, 1);
-        addEntry("EncryptedContentTransferSyntaxUID", AttributeTag.EncryptedContentTransferSyntaxUID, ValueRepresentation.UI, 1);
-        addEntry("EndAcquisitionDateTime", AttributeTag.EndAcquisitionDateTime, ValueRepresentation.DT, 1);
-        addEntry("EndCumulativeMetersetWeight", AttributeTag.EndCumulativeMetersetWeight, ValueRepresentation.DS, 1);
-        addEntry("EndingRespiratoryAmplitude", AttributeTag.EndingRespiratoryAmplitude, ValueRepresentation.FL, 1);
-        addEntry("EndingRespiratoryPhase", AttributeTag.EndingRespiratoryPhase, ValueRepresentation.CS, 1);
-        addEntry("EndMessageID", AttributeTag.EndMessageID, ValueRepresentation.SH, 1);
-        addEntry("EndMeterset", AttributeTag.EndMeterset, ValueRepresentation.DS, 1);
-        addEntry("EnergyWeightingFactor", AttributeTag.EnergyWeightingFactor, ValueRepresentation.FL, 1);
-        addEntry("EnergyWindowCenterline", AttributeTag.EnergyWindowCenterline, ValueRepresentation.DS, 1);
-        addEntry("EnergyWindowInformationSequence", AttributeTag.EnergyWindowInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("EnergyWindowLowerLimit", AttributeTag.EnergyWindowLowerLimit, ValueRepresentation.DS, 1);
-        addEntry("EnergyWindowName", AttributeTag.EnergyWindowName, ValueRepresentation.SH, 1);
-        addEntry("EnergyWindowNumber", AttributeTag.EnergyWindowNumber, ValueRepresentation.US, 1);
-        addEntry("EnergyWindowRangeSequence", AttributeTag.EnergyWindowRangeSequence, ValueRepresentation.SQ, 1);
-        addEntry("EnergyWindowTotalWidth", AttributeTag.EnergyWindowTotalWidth, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("EnergyWindowUpperLimit", AttributeTag.EnergyWindowUpperLimit, ValueRepresentation.DS, 1);
-        addEntry("EnergyWindowVector", AttributeTag.EnergyWindowVector, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("EnhancedPaletteColorLookupTableSequence", AttributeTag.EnhancedPaletteColorLookupTableSequence, ValueRepresentation.SQ, 1);
-        addEntry("EntranceDose", AttributeTag.EntranceDose, ValueRepresentation.US, 1);
-        addEntry("EntranceDoseInmGy", AttributeTag.EntranceDoseInmGy, ValueRepresentation.DS, 1);
-        addEntry("EquipmentCoordinateSystemIdentification", AttributeTag.EquipmentCoordinateSystemIdentification, ValueRepresentation.CS, 1);
-        addEntry("EquivalentCDADocumentSequence", AttributeTag.EquivalentCDADocumentSequence, ValueRepresentation.SQ, 1);
-        addEntry("Erase", AttributeTag.Erase, ValueRepresentation.CS, 1);
-        addEntry("ErrorComment", AttributeTag.ErrorComment, ValueRepresentation.LO, 1);
-        addEntry("ErrorID", AttributeTag.ErrorID, ValueRepresentation.US, 1);
-        addEntry("EscapeTriplet", AttributeTag.EscapeTriplet, ValueRepresentation.US, 3);
-        addEntry("EstimatedDoseSaving", AttributeTag.EstimatedDoseSaving, ValueRepresentation.FD, 1);
-        addEntry("EstimatedRadiographicMagnificationFactor", AttributeTag.EstimatedRadiographicMagnificationFactor, ValueRepresentation.DS, 1);
-        addEntry("EthnicGroup", AttributeTag.EthnicGroup, ValueRepresentation.SH, 1);
-        addEntry("EventCodeSequence", AttributeTag.EventCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("EventElapsedTimes", AttributeTag.EventElapsedTimes, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("EventTimeOffset", AttributeTag.EventTimeOffset, ValueRepresentation.FD, 1);
-        addEntry("EventTimerNames", AttributeTag.EventTimerNames, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("EventTimerSequence", AttributeTag.EventTimerSequence, ValueRepresentation.SQ, 1);
-        addEntry("EventTypeID", AttributeTag.EventTypeID, ValueRepresentation.US, 1);
-        addEntry("ExaminedBodyThickness", AttributeTag.ExaminedBodyThickness, ValueRepresentation.FL, 1);
-        addEntry("ExcludedIntervalsSequence", AttributeTag.ExcludedIntervalsSequence, ValueRepresentation.SQ, 1);
-        addEntry("ExclusionDuration", AttributeTag.ExclusionDuration, ValueRepresentation.FD, 1);
-        addEntry("ExclusionStartDatetime", AttributeTag.ExclusionStartDatetime, ValueRepresentation.DT, 1);
-        addEntry("ExecutionStatus", AttributeTag.ExecutionStatus, ValueRepresentation.CS, 1);
-        addEntry("ExecutionStatusInfo", AttributeTag.ExecutionStatusInfo, ValueRepresentation.CS, 1);
-        addEntry("ExpectedCompletionDateTime", AttributeTag.ExpectedCompletionDateTime, ValueRepresentation.DT, 1);
-        addEntry("ExposedArea", AttributeTag.ExposedArea, ValueRepresentation.US, 1, 2);
-        addEntry("Exposure", AttributeTag.Exposure, ValueRepresentation.IS, 1);
-        addEntry("ExposureControlMode", AttributeTag.ExposureControlMode, ValueRepresentation.CS, 1);
-        addEntry("ExposureControlModeDescription", AttributeTag.ExposureControlModeDescription, ValueRepresentation.LT, 1);
-        addEntry("ExposureControlSensingRegionLeftVerticalEdge", AttributeTag.ExposureControlSensingRegionLeftVerticalEdge, ValueRepresentation.SS, 1);
-        addEntry("ExposureControlSensingRegionLowerHorizontalEdge", AttributeTag.ExposureControlSensingRegionLowerHorizontalEdge, ValueRepresentation.SS, 1);
-        addEntry("ExposureControlSensingRegionRightVerticalEdge", AttributeTag.ExposureControlSensingRegionRightVerticalEdge, ValueRepresentation.SS, 1);
-        addEntry("ExposureControlSensingRegionShape", AttributeTag.ExposureControlSensingRegionShape, ValueRepresentation.CS, 1);
-        addEntry("ExposureControlSensingRegionsSequence", AttributeTag.ExposureControlSensingRegionsSequence, ValueRepresentation.SQ, 1);
-        addEntry("ExposureControlSensingRegionUpperHorizontalEdge", AttributeTag.ExposureControlSensingRegionUpperHorizontalEdge, ValueRepresentation.SS, 1);
-        addEntry("ExposureDoseSequence", AttributeTag.ExposureDoseSequence, ValueRepresentation.SQ, 1);
-        addEntry("ExposureIndex", AttributeTag.ExposureIndex, ValueRepresentation.DS, 1);
-        addEntry("ExposureInmAs", AttributeTag.ExposureInmAs, ValueRepresentation.FD, 1);
-        addEntry("ExposureInuAs", AttributeTag.ExposureInuAs, ValueRepresentation.IS, 1);
-        addEntry("ExposureModulationType", AttributeTag.ExposureModulationType, ValueRepresentation.CS, 1);
-        addEntry("ExposureSequence", AttributeTag.ExposureSequence, ValueRepresentation.SQ, 1);
-        addEntry("ExposuresOnDetectorSinceLastCalibration", AttributeTag.ExposuresOnDetectorSinceLastCalibration, ValueRepresentation.IS, 1);
-        addEntry("ExposuresOnDetectorSinceManufactured", AttributeTag.ExposuresOnDetectorSinceManufactured, ValueRepresentation.IS, 1);
-        addEntry("ExposuresOnPlate", AttributeTag.ExposuresOnPlate, ValueRepresentation.US, 1);
-        addEntry("ExposureStatus", AttributeTag.ExposureStatus, ValueRepresentation.CS, 1);
-        addEntry("ExposureTime", AttributeTag.ExposureTime, ValueRepresentation.IS, 1);
-        addEntry("ExposureTimeInms", AttributeTag.ExposureTimeInms, ValueRepresentation.FD, 1);
-        addEntry("ExposureTimeInuS", AttributeTag.ExposureTimeInuS, ValueRepresentation.DS, 1);
-        addEntry("FacetSequence", AttributeTag.FacetSequence, ValueRepresentation.SQ, 1);
-        addEntry("FailedAttributesSequence", AttributeTag.FailedAttributesSequence, ValueRepresentation.SQ, 1);
-        addEntry("FailedSOPInstanceUIDList", AttributeTag.FailedSOPInstanceUIDList, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
-        addEntry("FailedSOPSequence", AttributeTag.FailedSOPSequence, ValueRepresentation.SQ, 1);
-        addEntry("FailureAttributes", AttributeTag.FailureAttributes, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("FailureReason", AttributeTag.FailureReason, ValueRepresentation.US, 1);
-        addEntry("FiducialDescription", AttributeTag.FiducialDescription, ValueRepresentation.ST, 1);
-        addEntry("FiducialIdentifier", AttributeTag.FiducialIdentifier, ValueRepresentation.SH, 1);
-        addEntry("FiducialIdentifierCodeSequence", AttributeTag.FiducialIdentifierCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("FiducialSequence", AttributeTag.FiducialSequence, ValueRepresentation.SQ, 1);
-        addEntry("FiducialSetSequence", AttributeTag.FiducialSetSequence, ValueRepresentation.SQ, 1);
-        addEntry("FiducialUID", AttributeTag.FiducialUID, ValueRepresentation.UI, 1);
-        addEntry("FieldOfViewDescription", AttributeTag.FieldOfViewDescription, ValueRepresentation.LO, 1);
-        addEntry("FieldOfViewDimensions", AttributeTag.FieldOfViewDimensions, ValueRepresentation.IS, 1, 2);
-        addEntry("FieldOfViewDimensionsInFloat", AttributeTag.FieldOfViewDimensionsInFloat, ValueRepresentation.FL, 1, 2);
-        addEntry("FieldOfViewHorizontalFlip", AttributeTag.FieldOfViewHorizontalFlip, ValueRepresentation.CS, 1);
-        addEntry("FieldOfViewOrigin", AttributeTag.FieldOfViewOrigin, ValueRepresentation.DS, 2);
-        addEntry("FieldOfViewRotation", AttributeTag.FieldOfViewRotation, ValueRepresentation.DS, 1);
-        addEntry("FieldOfViewSequence", AttributeTag.FieldOfViewSequence, ValueRepresentation.SQ, 1);
-        addEntry("FieldOfViewShape", AttributeTag.FieldOfViewShape, ValueRepresentation.CS, 1);
-        addEntry("FileMetaInformationGroupLength", AttributeTag.FileMetaInformationGroupLength, ValueRepresentation.UL, 1);
-        addEntry("FileMetaInformationVersion", AttributeTag.FileMetaInformationVersion, ValueRepresentation.OB, 1);
-        addEntry("FileSetConsistencyFlag", AttributeTag.FileSetConsistencyFlag, ValueRepresentation.US, 1);
-        addEntry("FileSetDescriptorFileID", AttributeTag.FileSetDescriptorFileID, ValueRepresentation.CS, 1, 8);
-        addEntry("FileSetID", AttributeTag.FileSetID, ValueRepresentation.CS, 1);
-        addEntry("FillerOrderNumberImagingServiceRequest", AttributeTag.FillerOrderNumberImagingServiceRequest, ValueRepresentation.LO, 1);
-        addEntry("FillerOrderNumberImagingServiceRequestRetired", AttributeTag.FillerOrderNumberImagingServiceRequestRetired, ValueRepresentation.SH, 1);
-        addEntry("FillerOrderNumberProcedure", AttributeTag.FillerOrderNumberProcedure, ValueRepresentation.SH, 1);
-        addEntry("FillMode", AttributeTag.FillMode, ValueRepresentation.CS, 1);
-        addEntry("FillPattern", AttributeTag.FillPattern, ValueRepresentation.OB, 1);
-        addEntry("FillStyleSequence", AttributeTag.FillStyleSequence, ValueRepresentation.SQ, 1);
-        addEntry("FilmBoxContentSequence", AttributeTag.FilmBoxContentSequence, ValueRepresentation.SQ, 1);
-        addEntry("FilmConsumptionSequence", AttributeTag.FilmConsumptionSequence, ValueRepresentation.SQ, 1);
-        addEntry("FilmDestination", AttributeTag.FilmDestination, ValueRepresentation.CS, 1);
-        addEntry("FilmOrientation", AttributeTag.FilmOrientation, ValueRepresentation.CS, 1);
-        addEntry("FilmSessionLabel", AttributeTag.FilmSessionLabel, ValueRepresentation.LO, 1);
-        addEntry("FilmSizeID", AttributeTag.FilmSizeID, ValueRepresentation.CS, 1);
-        addEntry("FilterBeamPathLengthMaximum", AttributeTag.FilterBeamPathLengthMaximum, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("FilterBeamPathLengthMinimum", AttributeTag.FilterBeamPathLengthMinimum, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("FilterByAttributePresence", AttributeTag.FilterByAttributePresence, ValueRepresentation.CS, 1);
-        addEntry("FilterByCategory", AttributeTag.FilterByCategory, ValueRepresentation.CS, 1);
-        addEntry("FilterByOperator", AttributeTag.FilterByOperator, ValueRepresentation.CS, 1);
-        addEntry("FilterHighFrequency", AttributeTag.FilterHighFrequency, ValueRepresentation.DS, 1);
-        addEntry("FilterLowFrequency", AttributeTag.FilterLowFrequency, ValueRepresentation.DS, 1);
-        addEntry("FilterMaterial", AttributeTag.FilterMaterial, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("FilterOperationsSequence", AttributeTag.FilterOperationsSequence, ValueRepresentation.SQ, 1);
-        addEntry("FilterThicknessMaximum", AttributeTag.FilterThicknessMaximum, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("FilterThicknessMinimum", AttributeTag.FilterThicknessMinimum, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("FilterType", AttributeTag.FilterType, ValueRepresentation.SH, 1);
-        addEntry("FinalCumulativeMetersetWeight", AttributeTag.FinalCumulativeMetersetWeight, ValueRepresentation.DS, 1);
-        addEntry("FinalCumulativeTimeWeight", AttributeTag.FinalCumulativeTimeWeight, ValueRepresentation.DS, 1);
-        addEntry("FindLocation", AttributeTag.FindLocation, ValueRepresentation.AE, 1);
-        addEntry("FiniteVolume", AttributeTag.FiniteVolume, ValueRepresentation.CS, 1);
-        addEntry("FirstOrderPhaseCorrection", AttributeTag.FirstOrderPhaseCorrection, ValueRepresentation.CS, 1);
-        addEntry("FirstOrderPhaseCorrectionAngle", AttributeTag.FirstOrderPhaseCorrectionAngle, ValueRepresentation.OF, 1);
-        addEntry("FirstTreatmentDate", AttributeTag.FirstTreatmentDate, ValueRepresentation.DA, 1);
-        addEntry("FixationDeviceDescription", AttributeTag.FixationDeviceDescription, ValueRepresentation.ST, 1);
-        addEntry("FixationDeviceLabel", AttributeTag.FixationDeviceLabel, ValueRepresentation.SH, 1);
-        addEntry("FixationDevicePitchAngle", AttributeTag.FixationDevicePitchAngle, ValueRepresentation.FL, 1);
-        addEntry("FixationDevicePosition", AttributeTag.FixationDevicePosition, ValueRepresentation.SH, 1);
-        addEntry("FixationDeviceRollAngle", AttributeTag.FixationDeviceRollAngle, ValueRepresentation.FL, 1);
-        addEntry("FixationDeviceSequence", AttributeTag.FixationDeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("FixationDeviceType", AttributeTag.FixationDeviceType, ValueRepresentation.CS, 1);
-        addEntry("FixationLightAzimuthalAngle", AttributeTag.FixationLightAzimuthalAngle, ValueRepresentation.FL, 1);
-        addEntry("FixationLightPolarAngle", AttributeTag.FixationLightPolarAngle, ValueRepresentation.FL, 1);
-        addEntry("FlatKeratometricAxisSequence", AttributeTag.FlatKeratometricAxisSequence, ValueRepresentation.SQ, 1);
-        addEntry("FlipAngle", AttributeTag.FlipAngle, ValueRepresentation.DS, 1);
-        addEntry("FlowCompensation", AttributeTag.FlowCompensation, ValueRepresentation.CS, 1);
-        addEntry("FlowCompensationDirection", AttributeTag.FlowCompensationDirection, ValueRepresentation.CS, 1);
-        addEntry("FluenceDataScale", AttributeTag.FluenceDataScale, ValueRepresentation.DS, 1);
-        addEntry("FluenceDataSource", AttributeTag.FluenceDataSource, ValueRepresentation.CS, 1);
-        addEntry("FluenceMapSequence", AttributeTag.FluenceMapSequence, ValueRepresentation.SQ, 1);
-        addEntry("FluenceMode", AttributeTag.FluenceMode, ValueRepresentation.CS, 1);
-        addEntry("FluenceModeID", AttributeTag.FluenceModeID, ValueRepresentation.SH, 1);
-        addEntry("FluoroscopyFlag", AttributeTag.FluoroscopyFlag, ValueRepresentation.CS, 1);
-        addEntry("FocalDistance", AttributeTag.FocalDistance, ValueRepresentation.IS, 1, 2);
-        addEntry("FocalSpots", AttributeTag.FocalSpots, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("FocusDepth", AttributeTag.FocusDepth, ValueRepresentation.DS, 1);
-        addEntry("FontName", AttributeTag.FontName, ValueRepresentation.LO, 1);
-        addEntry("FontNameType", AttributeTag.FontNameType, ValueRepresentation.CS, 1);
-        addEntry("FractionalChannelDisplayScale", AttributeTag.FractionalChannelDisplayScale, ValueRepresentation.FL, 1);
-        addEntry("FractionGroupDescription", AttributeTag.FractionGroupDescription, ValueRepresentation.LO, 1);
-        addEntry("FractionGroupNumber", AttributeTag.FractionGroupNumber, ValueRepresentation.IS, 1);
-        addEntry("FractionGroupSequence", AttributeTag.FractionGroupSequence, ValueRepresentation.SQ, 1);
-        addEntry("FractionGroupSummarySequence", AttributeTag.FractionGroupSummarySequence, ValueRepresentation.SQ, 1);
-        addEntry("FractionGroupType", AttributeTag.FractionGroupType, ValueRepresentation.CS, 1);
-        addEntry("FractionNumber", AttributeTag.FractionNumber, ValueRepresentation.IS, 1);
-        addEntry("FractionPattern", AttributeTag.FractionPattern, ValueRepresentation.LT, 1);
-        addEntry("FractionStatusSummarySequence", AttributeTag.FractionStatusSummarySequence, ValueRepresentation.SQ, 1);
-        addEntry("FrameAcquisitionDateTime", AttributeTag.FrameAcquisitionDateTime, ValueRepresentation.DT, 1);
-        addEntry("FrameAcquisitionDuration", AttributeTag.FrameAcquisitionDuration, ValueRepresentation.FD, 1);
-        addEntry("FrameAcquisitionNumber", AttributeTag.FrameAcquisitionNumber, ValueRepresentation.US, 1);
-        addEntry("FrameAcquisitionSequence", AttributeTag.FrameAcquisitionSequence, ValueRepresentation.SQ, 1);
-        addEntry("FrameAnatomySequence", AttributeTag.FrameAnatomySequence, ValueRepresentation.SQ, 1);
-        addEntry("FrameComments", AttributeTag.FrameComments, ValueRepresentation.LT, 1);
-        addEntry("FrameContentSequence", AttributeTag.FrameContentSequence, ValueRepresentation.SQ, 1);
-        addEntry("FrameDelay", AttributeTag.FrameDelay, ValueRepresentation.DS, 1);
-        addEntry("FrameDetectorParametersSequence", AttributeTag.FrameDetectorParametersSequence, ValueRepresentation.SQ, 1);
-        addEntry("FrameDimensionPointer", AttributeTag.FrameDimensionPointer, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("FrameDisplaySequence", AttributeTag.FrameDisplaySequence, ValueRepresentation.SQ, 1);
-        addEntry("FrameDisplayShutterSequence", AttributeTag.FrameDisplayShutterSequence, ValueRepresentation.SQ, 1);
-        addEntry("FrameExtractionSequence", AttributeTag.FrameExtractionSequence, ValueRepresentation.SQ, 1);
-        addEntry("FrameIncrementPointer", AttributeTag.FrameIncrementPointer, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("FrameLabel", AttributeTag.FrameLabel, ValueRepresentation.LO, 1);
-        addEntry("FrameLabelVector", AttributeTag.FrameLabelVector, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("FrameLaterality", AttributeTag.FrameLaterality, ValueRepresentation.CS, 1);
-        addEntry("FrameNumbersOfInterest", AttributeTag.FrameNumbersOfInterest, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("FrameOfInterestDescription", AttributeTag.FrameOfInterestDescription, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("FrameOfInterestType", AttributeTag.FrameOfInterestType, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("FrameOfReferenceRelationshipSequence", AttributeTag.FrameOfReferenceRelationshipSequence, ValueRepresentation.SQ, 1);
-        addEntry("FrameOfReferenceTransformationComment", AttributeTag.FrameOfReferenceTransformationComment, ValueRepresentation.LO, 1);
-        addEntry("FrameOfReferenceTransformationMatrix", AttributeTag.FrameOfReferenceTransformationMatrix, ValueRepresentation.DS, 16);
-        addEntry("FrameOfReferenceTransformationMatrixType", AttributeTag.FrameOfReferenceTransformationMatrixType, ValueRepresentation.CS, 1);
-        addEntry("FrameOfReferenceTransformationType", AttributeTag.FrameOfReferenceTransformationType, ValueRepresentation.CS, 1);
-        addEntry("FrameOfReferenceUID", AttributeTag.FrameOfReferenceUID, ValueRepresentation.UI, 1);
-        addEntry("FramePixelDataPropertiesSequence", AttributeTag.FramePixelDataPropertiesSequence, ValueRepresentation.SQ, 1);
-        addEntry("FramePixelShiftSequence", AttributeTag.FramePixelShiftSequence, ValueRepresentation.SQ, 1);
-        addEntry("FramePrimaryAngleVector", AttributeTag.FramePrimaryAngleVector, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("FrameReferenceDateTime", AttributeTag.FrameReferenceDateTime, ValueRepresentation.DT, 1);
-        addEntry("FrameReferenceTime", AttributeTag.FrameReferenceTime, ValueRepresentation.DS, 1);
-        addEntry("FrameSecondaryAngleVector", AttributeTag.FrameSecondaryAngleVector, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("FrameTime", AttributeTag.FrameTime, ValueRepresentation.DS, 1);
-        addEntry("FrameTimeVector", AttributeTag.FrameTimeVector, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("FrameType", AttributeTag.FrameType, ValueRepresentation.CS, 4);
-        addEntry("FrameVOILUTSequence", AttributeTag.FrameVOILUTSequence, ValueRepresentation.SQ, 1);
-        addEntry("FrequencyCorrection", AttributeTag.FrequencyCorrection, ValueRepresentation.CS, 1);
-        addEntry("FunctionalGroupPointer", AttributeTag.FunctionalGroupPointer, ValueRepresentation.AT, 1);
-        addEntry("FunctionalGroupPrivateCreator", AttributeTag.FunctionalGroupPrivateCreator, ValueRepresentation.LO, 1);
-        addEntry("GantryAngle", AttributeTag.GantryAngle, ValueRepresentation.DS, 1);
-        addEntry("GantryAngleTolerance", AttributeTag.GantryAngleTolerance, ValueRepresentation.DS, 1);
-        addEntry("GantryDetectorSlew", AttributeTag.GantryDetectorSlew, ValueRepresentation.DS, 1);
-        addEntry("GantryDetectorTilt", AttributeTag.GantryDetectorTilt, ValueRepresentation.DS, 1);
-        addEntry("GantryID", AttributeTag.GantryID, ValueRepresentation.LO, 1);
-        addEntry("GantryMotionCorrected", AttributeTag.GantryMotionCorrected, ValueRepresentation.CS, 1);
-        addEntry("GantryPitchAngle", AttributeTag.GantryPitchAngle, ValueRepresentation.FL, 1);
-        addEntry("GantryPitchAngleTolerance", AttributeTag.GantryPitchAngleTolerance, ValueRepresentation.FL, 1);
-        addEntry("GantryPitchRotationDirection", AttributeTag.GantryPitchRotationDirection, ValueRepresentation.CS, 1);
-        addEntry("GantryRotationDirection", AttributeTag.GantryRotationDirection, ValueRepresentation.CS, 1);
-        addEntry("GapLength", AttributeTag.GapLength, ValueRepresentation.FL, 1);
-        addEntry("GatedInformationSequence", AttributeTag.GatedInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("GeneralAccessoryDescription", AttributeTag.GeneralAccessoryDescription, ValueRepresentation.ST, 1);
-        addEntry("GeneralAccessoryID", AttributeTag.GeneralAccessoryID, ValueRepresentation.SH, 1);
-        addEntry("GeneralAccessoryNumber", AttributeTag.GeneralAccessoryNumber, ValueRepresentation.IS, 1);
-        addEntry("GeneralAccessorySequence", AttributeTag.GeneralAccessorySequence, ValueRepresentation.SQ, 1);
-        addEntry("GeneralAccessoryType", AttributeTag.GeneralAccessoryType, ValueRepresentation.CS, 1);
-        addEntry("GeneralMachineVerificationSequence", AttributeTag.GeneralMachineVerificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("GeneralPurposePerformedProcedureStepStatus", AttributeTag.GeneralPurposePerformedProcedureStepStatus, ValueRepresentation.CS, 1);
-        addEntry("GeneralPurposeScheduledProcedureStepPriority", AttributeTag.GeneralPurposeScheduledProcedureStepPriority, ValueRepresentation.CS, 1);
-        addEntry("GeneralPurposeScheduledProcedureStepStatus", AttributeTag.GeneralPurposeScheduledProcedureStepStatus, ValueRepresentation.CS, 1);
-        addEntry("GeneratorID", AttributeTag.GeneratorID, ValueRepresentation.LO, 1);
-        addEntry("GeneratorPower", AttributeTag.GeneratorPower, ValueRepresentation.IS, 1);
-        addEntry("GeometricalProperties", AttributeTag.GeometricalProperties, ValueRepresentation.CS, 1);
-        addEntry("GeometricMaximumDistortion", AttributeTag.GeometricMaximumDistortion, ValueRepresentation.FL, 1);
-        addEntry("GeometryOfKSpaceTraversal", AttributeTag.GeometryOfKSpaceTraversal, ValueRepresentation.CS, 1);
-        addEntry("GradientEchoTrainLength", AttributeTag.GradientEchoTrainLength, ValueRepresentation.US, 1);
-        addEntry("GradientOutput", AttributeTag.GradientOutput, ValueRepresentation.FD, 1);
-        addEntry("GradientOutputType", AttributeTag.GradientOutputType, ValueRepresentation.CS, 1);
-        addEntry("GraphicAnnotationSequence", AttributeTag.GraphicAnnotationSequence, ValueRepresentation.SQ, 1);
-        addEntry("GraphicAnnotationUnits", AttributeTag.GraphicAnnotationUnits, ValueRepresentation.CS, 1);
-        addEntry("GraphicCoordinatesDataSequence", AttributeTag.GraphicCoordinatesDataSequence, ValueRepresentation.SQ, 1);
-        addEntry("GraphicData", AttributeTag.GraphicData, ValueRepresentation.FL, 2, Integer.MAX_VALUE);
-        addEntry("GraphicDimensions", AttributeTag.GraphicDimensions, ValueRepresentation.US, 1);
-        addEntry("GraphicFilled", AttributeTag.GraphicFilled, ValueRepresentation.CS, 1);
-        addEntry("GraphicGroupDescription", AttributeTag.GraphicGroupDescription, ValueRepresentation.ST, 1);
-        addEntry("GraphicGroupID", AttributeTag.GraphicGroupID, ValueRepresentation.UL, 1);
-        addEntry("GraphicGroupLabel", AttributeTag.GraphicGroupLabel, ValueRepresentation.LO, 1);
-        addEntry("GraphicGroupSequence", AttributeTag.GraphicGroupSequence, ValueRepresentation.SQ, 1);
-        addEntry("GraphicLayer", AttributeTag.GraphicLayer, ValueRepresentation.CS, 1);
-        addEntry("GraphicLayerDescription", AttributeTag.GraphicLayerDescription, ValueRepresentation.LO, 1);
-        addEntry("GraphicLayerOrder", AttributeTag.GraphicLayerOrder, ValueRepresentation.IS, 1);
-        addEntry("GraphicLayerRecommendedDisplayCIELabValue", AttributeTag.GraphicLayerRecommendedDisplayCIELabValue, ValueRepresentation.US, 3);
-        addEntry("GraphicLayerRecommendedDisplayGrayscaleValue", AttributeTag.GraphicLayerRecommendedDisplayGrayscaleValue, ValueRepresentation.US, 1);
-        addEntry("GraphicLayerRecommendedDisplayRGBValue", AttributeTag.GraphicLayerRecommendedDisplayRGBValue, ValueRepresentation.US, 3);
-        addEntry("GraphicLayerSequence", AttributeTag.GraphicLayerSequence, ValueRepresentation.SQ, 1);
-        addEntry("GraphicObjectSequence", AttributeTag.GraphicObjectSequence, ValueRepresentation.SQ, 1);
-        addEntry("GraphicType", AttributeTag.GraphicType, ValueRepresentation.CS, 1);
-        addEntry("GrayLookupTableData", AttributeTag.GrayLookupTableData, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS, ValueRepresentation.OW }, 1, Integer.MAX_VALUE);
-        addEntry("GrayLookupTableDescriptor", AttributeTag.GrayLookupTableDescriptor, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
-        addEntry("GrayScale", AttributeTag.GrayScale, ValueRepresentation.CS, 1);
-        addEntry("GreenPaletteColorLookupTableData", AttributeTag.GreenPaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("GreenPaletteColorLookupTableDescriptor", AttributeTag.GreenPaletteColorLookupTableDescriptor, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
-        addEntry("Grid", AttributeTag.Grid, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("GridAbsorbingMaterial", AttributeTag.GridAbsorbingMaterial, ValueRepresentation.LT, 1);
-        addEntry("GridAspectRatio", AttributeTag.GridAspectRatio, ValueRepresentation.IS, 2);
-        addEntry("GridDimensions", AttributeTag.GridDimensions, ValueRepresentation.UL, 3);
-        addEntry("GridFocalDistance", AttributeTag.GridFocalDistance, ValueRepresentation.DS, 1);
-        addEntry("GridFrameOffsetVector", AttributeTag.GridFrameOffsetVector, ValueRepresentation.DS, 2, Integer.MAX_VALUE);
-        addEntry("GridID", AttributeTag.GridID, ValueRepresentation.LO, 1);
-        addEntry("GridPeriod", AttributeTag.GridPeriod, ValueRepresentation.DS, 1);
-        addEntry("GridPitch", AttributeTag.GridPitch, ValueRepresentation.DS, 1);
-        addEntry("GridResolution", AttributeTag.GridResolution, ValueRepresentation.FD, 3);
-        addEntry("GridSpacingMaterial", AttributeTag.GridSpacingMaterial, ValueRepresentation.LT, 1);
-        addEntry("GridThickness", AttributeTag.GridThickness, ValueRepresentation.DS, 1);
-        addEntry("HalfValueLayer", AttributeTag.HalfValueLayer, ValueRepresentation.DS, 1);
-        addEntry("HangingProtocolCreationDateTime", AttributeTag.HangingProtocolCreationDateTime, ValueRepresentation.DT, 1);
-        addEntry("HangingProtocolCreator", AttributeTag.HangingProtocolCreator, ValueRepresentation.LO, 1);
-        addEntry("HangingProtocolDefinitionSequence", AttributeTag.HangingProtocolDefinitionSequence, ValueRepresentation.SQ, 1);
-        addEntry("HangingProtocolDescription", AttributeTag.HangingProtocolDescription, ValueRepresentation.LO, 1);
-        addEntry("HangingProtocolLevel", AttributeTag.HangingProtocolLevel, ValueRepresentation.CS, 1);
-        addEntry("HangingProtocolName", AttributeTag.HangingProtocolName, ValueRepresentation.SH, 1);
-        addEntry("HangingProtocolUserGroupName", AttributeTag.HangingProtocolUserGroupName, ValueRepresentation.LO, 1);
-        addEntry("HangingProtocolUserIdentificationCodeSequence", AttributeTag.HangingProtocolUserIdentificationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("HardcopyCreationDeviceID", AttributeTag.HardcopyCreationDeviceID, ValueRepresentation.LO, 1);
-        addEntry("HardcopyDeviceManufacturer", AttributeTag.HardcopyDeviceManufacturer, ValueRepresentation.LO, 1);
-        addEntry("HardcopyDeviceManufacturerModelName", AttributeTag.HardcopyDeviceManufacturerModelName, ValueRepresentation.LO, 1);
-        addEntry("HardcopyDeviceSoftwareVersion", AttributeTag.HardcopyDeviceSoftwareVersion, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("HeadFixationAngle", AttributeTag.HeadFixationAngle, ValueRepresentation.FL, 1);
-        addEntry("HeartRate", AttributeTag.HeartRate, ValueRepresentation.IS, 1);
-        addEntry("HighBit", AttributeTag.HighBit, ValueRepresentation.US, 1);
-        addEntry("HighDoseTechniqueType", AttributeTag.HighDoseTechniqueType, ValueRepresentation.CS, 1);
-        addEntry("HighRRValue", AttributeTag.HighRRValue, ValueRepresentation.IS, 1);
-        addEntry("HistogramBinWidth", AttributeTag.HistogramBinWidth, ValueRepresentation.US, 1);
-        addEntry("HistogramData", AttributeTag.HistogramData, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
-        addEntry("HistogramExplanation", AttributeTag.HistogramExplanation, ValueRepresentation.LO, 1);
-        addEntry("HistogramFirstBinValue", AttributeTag.HistogramFirstBinValue, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("HistogramLastBinValue", AttributeTag.HistogramLastBinValue, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("HistogramNumberOfBins", AttributeTag.HistogramNumberOfBins, ValueRepresentation.US, 1);
-        addEntry("HistogramSequence", AttributeTag.HistogramSequence, ValueRepresentation.SQ, 1);
-        addEntry("HL", AttributeTag.HL7DocumentEffectiveTime, ValueRepresentation.DT, 1);
-        addEntry("HL", AttributeTag.HL7DocumentTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("HL", AttributeTag.HL7InstanceIdentifier, ValueRepresentation.ST, 1);
-        addEntry("HL", AttributeTag.HL7StructuredDocumentReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("HorizontalAlignment", AttributeTag.HorizontalAlignment, ValueRepresentation.CS, 1);
-        addEntry("HorizontalFieldOfView", AttributeTag.HorizontalFieldOfView, ValueRepresentation.FL, 1);
-        addEntry("HorizontalPrismBase", AttributeTag.HorizontalPrismBase, ValueRepresentation.CS, 1);
-        addEntry("HorizontalPrismPower", AttributeTag.HorizontalPrismPower, ValueRepresentation.FD, 1);
-        addEntry("HuffmanTableSize", AttributeTag.HuffmanTableSize, ValueRepresentation.US, 1);
-        addEntry("HuffmanTableTriplet", AttributeTag.HuffmanTableTriplet, ValueRepresentation.US, 3);
-        addEntry("HumanPerformerCodeSequence", AttributeTag.HumanPerformerCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("HumanPerformerName", AttributeTag.HumanPerformerName, ValueRepresentation.PN, 1);
-        addEntry("HumanPerformerOrganization", AttributeTag.HumanPerformerOrganization, ValueRepresentation.LO, 1);
-        addEntry("ICCProfile", AttributeTag.ICCProfile, ValueRepresentation.OB, 1);
-        addEntry("IconImageSequence", AttributeTag.IconImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("IdenticalDocumentsSequence", AttributeTag.IdenticalDocumentsSequence, ValueRepresentation.SQ, 1);
-        addEntry("IdentifierTypeCode", AttributeTag.IdentifierTypeCode, ValueRepresentation.CS, 1);
-        addEntry("IdentifyingComments", AttributeTag.IdentifyingComments, ValueRepresentation.LT, 1);
-        addEntry("Illumination", AttributeTag.Illumination, ValueRepresentation.US, 1);
-        addEntry("IlluminationBandwidth", AttributeTag.IlluminationBandwidth, ValueRepresentation.FL, 1);
-        addEntry("IlluminationPower", AttributeTag.IlluminationPower, ValueRepresentation.FL, 1);
-        addEntry("IlluminationTypeCodeSequence", AttributeTag.IlluminationTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("IlluminationWaveLength", AttributeTag.IlluminationWaveLength, ValueRepresentation.FL, 1);
-        addEntry("ImageAndFluoroscopyAreaDoseProduct", AttributeTag.ImageAndFluoroscopyAreaDoseProduct, ValueRepresentation.DS, 1);
-        addEntry("ImageBoxContentSequence", AttributeTag.ImageBoxContentSequence, ValueRepresentation.SQ, 1);
-        addEntry("ImageBoxesSequence", AttributeTag.ImageBoxesSequence, ValueRepresentation.SQ, 1);
-        addEntry("ImageBoxLargeScrollAmount", AttributeTag.ImageBoxLargeScrollAmount, ValueRepresentation.US, 1);
-        addEntry("ImageBoxLargeScrollType", AttributeTag.ImageBoxLargeScrollType, ValueRepresentation.CS, 1);
-        addEntry("ImageBoxLayoutType", AttributeTag.ImageBoxLayoutType, ValueRepresentation.CS, 1);
-        addEntry("ImageBoxNumber", AttributeTag.ImageBoxNumber, ValueRepresentation.US, 1);
-        addEntry("ImageBoxOverlapPriority", AttributeTag.ImageBoxOverlapPriority, ValueRepresentation.US, 1);
-        addEntry("ImageBoxPosition", AttributeTag.ImageBoxPosition, ValueRepresentation.US, 1);
-        addEntry("ImageBoxPresentationLUTFlag", AttributeTag.ImageBoxPresentationLUTFlag, ValueRepresentation.CS, 1);
-        addEntry("ImageBoxScrollDirection", AttributeTag.ImageBoxScrollDirection, ValueRepresentation.CS, 1);
-        addEntry("ImageBoxSmallScrollAmount", AttributeTag.ImageBoxSmallScrollAmount, ValueRepresentation.US, 1);
-        addEntry("ImageBoxSmallScrollType", AttributeTag.ImageBoxSmallScrollType, ValueRepresentation.CS, 1);
-        addEntry("ImageBoxSynchronizationSequence", AttributeTag.ImageBoxSynchronizationSequence, ValueRepresentation.SQ, 1);
-        addEntry("ImageBoxTileHorizontalDimension", AttributeTag.ImageBoxTileHorizontalDimension, ValueRepresentation.US, 1);
-        addEntry("ImageBoxTileVerticalDimension", AttributeTag.ImageBoxTileVerticalDimension, ValueRepresentation.US, 1);
-        addEntry("ImageCenterPointCoordinatesSequence", AttributeTag.ImageCenterPointCoordinatesSequence, ValueRepresentation.SQ, 1);
-        addEntry("ImageComments", AttributeTag.ImageComments, ValueRepresentation.LT, 1);
-        addEntry("ImageDataLocation", AttributeTag.ImageDataLocation, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("ImageDataTypeSequence", AttributeTag.ImageDataTypeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ImageDimensions", AttributeTag.ImageDimensions, ValueRepresentation.US, 1);
-        addEntry("ImageDisplayFormat", AttributeTag.ImageDisplayFormat, ValueRepresentation.ST, 1);
-        addEntry("ImagedNucleus", AttributeTag.ImagedNucleus, ValueRepresentation.SH, 1);
-        addEntry("ImageFilter", AttributeTag.ImageFilter, ValueRepresentation.SH, 1);
-        addEntry("ImageFormat", AttributeTag.ImageFormat, ValueRepresentation.CS, 1);
-        addEntry("ImageFrameOrigin", AttributeTag.ImageFrameOrigin, ValueRepresentation.US, 1);
-        addEntry("ImageGeometryType", AttributeTag.ImageGeometryType, ValueRepresentation.LO, 1);
-        addEntry("ImageHorizontalFlip", AttributeTag.ImageHorizontalFlip, ValueRepresentation.CS, 1);
-        addEntry("ImageID", AttributeTag.ImageID, ValueRepresentation.SH, 1);
-        addEntry("ImageIndex", AttributeTag.ImageIndex, ValueRepresentation.US, 1);
-        addEntry("ImageLaterality", AttributeTag.ImageLaterality, ValueRepresentation.CS, 1);
-        addEntry("ImageLocation", AttributeTag.ImageLocation, ValueRepresentation.US, 1);
-        addEntry("ImageOrientation", AttributeTag.ImageOrientation, ValueRepresentation.DS, 6);
-        addEntry("ImageOrientationPatient", AttributeTag.ImageOrientationPatient, ValueRepresentation.DS, 6);
-        addEntry("ImageOrientationVolume", AttributeTag.ImageOrientationVolume, ValueRepresentation.FD, 6);
-        addEntry("ImageOverlayBoxContentSequence", AttributeTag.ImageOverlayBoxContentSequence, ValueRepresentation.SQ, 1);
-        addEntry("ImageOverlayFlag", AttributeTag.ImageOverlayFlag, ValueRepresentation.CS, 1);
-        addEntry("ImagePathFilterPassBand", AttributeTag.ImagePathFilterPassBand, ValueRepresentation.US, 2);
-        addEntry("ImagePathFilterPassThroughWavelength", AttributeTag.ImagePathFilterPassThroughWavelength, ValueRepresentation.US, 1);
-        addEntry("ImagePathFilterTypeStackCodeSequence", AttributeTag.ImagePathFilterTypeStackCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ImagePlanePixelSpacing", AttributeTag.ImagePlanePixelSpacing, ValueRepresentation.DS, 2);
-        addEntry("ImagePosition", AttributeTag.ImagePosition, ValueRepresentation.DS, 3);
-        addEntry("ImagePositionPatient", AttributeTag.ImagePositionPatient, ValueRepresentation.DS, 3);
-        addEntry("ImagePositionVolume", AttributeTag.ImagePositionVolume, ValueRepresentation.FD, 3);
-        addEntry("ImagePresentationComments", AttributeTag.ImagePresentationComments, ValueRepresentation.LT, 1);
-        addEntry("ImageProcessingApplied", AttributeTag.ImageProcessingApplied, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("ImageRotation", AttributeTag.ImageRotation, ValueRepresentation.US, 1);
-        addEntry("ImageRotationRetired", AttributeTag.ImageRotationRetired, ValueRepresentation.IS, 1);
-        addEntry("ImagerPixelSpacing", AttributeTag.ImagerPixelSpacing, ValueRepresentation.DS, 2);
-        addEntry("ImageSetLabel", AttributeTag.ImageSetLabel, ValueRepresentation.LO, 1);
-        addEntry("ImageSetNumber", AttributeTag.ImageSetNumber, ValueRepresentation.US, 1);
-        addEntry("ImageSetSelectorCategory", AttributeTag.ImageSetSelectorCategory, ValueRepresentation.CS, 1);
-        addEntry("ImageSetSelectorSequence", AttributeTag.ImageSetSelectorSequence, ValueRepresentation.SQ, 1);
-        addEntry("ImageSetSelectorUsageFlag", AttributeTag.ImageSetSelectorUsageFlag, ValueRepresentation.CS, 1);
-        addEntry("ImageSetsSequence", AttributeTag.ImageSetsSequence, ValueRepresentation.SQ, 1);
-        addEntry("ImagesInAcquisition", AttributeTag.ImagesInAcquisition, ValueRepresentation.IS, 1);
-        addEntry("ImagesInSeries", AttributeTag.ImagesInSeries, ValueRepresentation.IS, 1);
-        addEntry("ImagesInStudy", AttributeTag.ImagesInStudy, ValueRepresentation.IS, 1);
-        addEntry("ImageToEquipmentMappingMatrix", AttributeTag.ImageToEquipmentMappingMatrix, ValueRepresentation.DS, 16);
-        addEntry("ImageTransformationMatrix", AttributeTag.ImageTransformationMatrix, ValueRepresentation.DS, 6);
-        addEntry("ImageTranslationVector", AttributeTag.ImageTranslationVector, ValueRepresentation.DS, 3);
-        addEntry("ImageTriggerDelay", AttributeTag.ImageTriggerDelay, ValueRepresentation.DS, 1);
-        addEntry("ImageType", AttributeTag.ImageType, ValueRepresentation.CS, 2, Integer.MAX_VALUE);
-        addEntry("ImagingDeviceSpecificAcquisitionParameters", AttributeTag.ImagingDeviceSpecificAcquisitionParameters, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("ImagingFrequency", AttributeTag.ImagingFrequency, ValueRepresentation.DS, 1);
-        addEntry("ImagingServiceRequestComments", AttributeTag.ImagingServiceRequestComments, ValueRepresentation.LT, 1);
-        addEntry("ImplementationClassUID", AttributeTag.ImplementationClassUID, ValueRepresentation.UI, 1);
-        addEntry("ImplementationVersionName", AttributeTag.ImplementationVersionName, ValueRepresentation.SH, 1);
-        addEntry("Impressions", AttributeTag.Impressions, ValueRepresentation.ST, 1);
-        addEntry("IncludeDisplayApplication", AttributeTag.IncludeDisplayApplication, ValueRepresentation.CS, 1);
-        addEntry("IncludeNonDICOMObjects", AttributeTag.IncludeNonDICOMObjects, ValueRepresentation.CS, 1);
-        addEntry("InConcatenationNumber", AttributeTag.InConcatenationNumber, ValueRepresentation.US, 1);
-        addEntry("InConcatenationTotalNumber", AttributeTag.InConcatenationTotalNumber, ValueRepresentation.US, 1);
-        addEntry("InitialCineRunState", AttributeTag.InitialCineRunState, ValueRepresentation.CS, 1);
-        addEntry("Initiator", AttributeTag.Initiator, ValueRepresentation.AE, 1);
-        addEntry("InPlanePhaseEncodingDirection", AttributeTag.InPlanePhaseEncodingDirection, ValueRepresentation.CS, 1);
-        addEntry("InputAvailabilityFlag", AttributeTag.InputAvailabilityFlag, ValueRepresentation.CS, 1);
-        addEntry("InputInformationSequence", AttributeTag.InputInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("InStackPositionNumber", AttributeTag.InStackPositionNumber, ValueRepresentation.UL, 1);
-        addEntry("InstanceAvailability", AttributeTag.InstanceAvailability, ValueRepresentation.CS, 1);
-        addEntry("InstanceCreationDate", AttributeTag.InstanceCreationDate, ValueRepresentation.DA, 1);
-        addEntry("InstanceCreationTime", AttributeTag.InstanceCreationTime, ValueRepresentation.TM, 1);
-        addEntry("InstanceCreatorUID", AttributeTag.InstanceCreatorUID, ValueRepresentation.UI, 1);
-        addEntry("InstanceNumber", AttributeTag.InstanceNumber, ValueRepresentation.IS, 1);
-        addEntry("InstitutionAddress", AttributeTag.InstitutionAddress, ValueRepresentation.ST, 1);
-        addEntry("InstitutionalDepartmentName", AttributeTag.InstitutionalDepartmentName, ValueRepresentation.LO, 1);
-        addEntry("InstitutionCodeSequence", AttributeTag.InstitutionCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("InstitutionName", AttributeTag.InstitutionName, ValueRepresentation.LO, 1);
-        addEntry("InsurancePlanIdentification", AttributeTag.InsurancePlanIdentification, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("IntendedRecipientsOfResultsIdentificationSequence", AttributeTag.IntendedRecipientsOfResultsIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("IntensifierActiveDimensions", AttributeTag.IntensifierActiveDimensions, ValueRepresentation.FL, 1, 2);
-        addEntry("IntensifierActiveShape", AttributeTag.IntensifierActiveShape, ValueRepresentation.CS, 1);
-        addEntry("IntensifierSize", AttributeTag.IntensifierSize, ValueRepresentation.DS, 1);
-        addEntry("InterMarkerDistance", AttributeTag.InterMarkerDistance, ValueRepresentation.DS, 1);
-        addEntry("IntermediatePupillaryDistance", AttributeTag.IntermediatePupillaryDistance, ValueRepresentation.FD, 1);
-        addEntry("InterpretationApprovalDate", AttributeTag.InterpretationApprovalDate, ValueRepresentation.DA, 1);
-        addEntry("InterpretationApprovalTime", AttributeTag.InterpretationApprovalTime, ValueRepresentation.TM, 1);
-        addEntry("InterpretationApproverSequence", AttributeTag.InterpretationApproverSequence, ValueRepresentation.SQ, 1);
-        addEntry("InterpretationAuthor", AttributeTag.InterpretationAuthor, ValueRepresentation.PN, 1);
-        addEntry("InterpretationDiagnosisCodeSequence", AttributeTag.InterpretationDiagnosisCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("InterpretationDiagnosisDescription", AttributeTag.InterpretationDiagnosisDescription, ValueRepresentation.LT, 1);
-        addEntry("InterpretationID", AttributeTag.InterpretationID, ValueRepresentation.SH, 1);
-        addEntry("InterpretationIDIssuer", AttributeTag.InterpretationIDIssuer, ValueRepresentation.LO, 1);
-        addEntry("InterpretationRecordedDate", AttributeTag.InterpretationRecordedDate, ValueRepresentation.DA, 1);
-        addEntry("InterpretationRecordedTime", AttributeTag.InterpretationRecordedTime, ValueRepresentation.TM, 1);
-        addEntry("InterpretationRecorder", AttributeTag.InterpretationRecorder, ValueRepresentation.PN, 1);
-        addEntry("InterpretationStatusID", AttributeTag.InterpretationStatusID, ValueRepresentation.CS, 1);
-        addEntry("InterpretationText", AttributeTag.InterpretationText, ValueRepresentation.ST, 1);
-        addEntry("InterpretationTranscriber", AttributeTag.InterpretationTranscriber, ValueRepresentation.PN, 1);
-        addEntry("InterpretationTranscriptionDate", AttributeTag.InterpretationTranscriptionDate, ValueRepresentation.DA, 1);
-        addEntry("InterpretationTranscriptionTime", AttributeTag.InterpretationTranscriptionTime, ValueRepresentation.TM, 1);
-        addEntry("InterpretationTypeID", AttributeTag.InterpretationTypeID, ValueRepresentation.CS, 1);
-        addEntry("IntervalNumber", AttributeTag.IntervalNumber, ValueRepresentation.IS, 1);
-        addEntry("IntervalsAcquired", AttributeTag.IntervalsAcquired, ValueRepresentation.IS, 1);
-        addEntry("IntervalsRejected", AttributeTag.IntervalsRejected, ValueRepresentation.IS, 1);
-        addEntry("InterventionDescription", AttributeTag.InterventionDescription, ValueRepresentation.ST, 1);
-        addEntry("InterventionDrugCodeSequence", AttributeTag.InterventionDrugCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("InterventionDrugDose", AttributeTag.InterventionDrugDose, ValueRepresentation.DS, 1);
-        addEntry("InterventionDrugInformationSequence", AttributeTag.InterventionDrugInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("InterventionDrugName", AttributeTag.InterventionDrugName, ValueRepresentation.LO, 1);
-        addEntry("InterventionDrugStartTime", AttributeTag.InterventionDrugStartTime, ValueRepresentation.TM, 1);
-        addEntry("InterventionDrugStopTime", AttributeTag.InterventionDrugStopTime, ValueRepresentation.TM, 1);
-        addEntry("InterventionSequence", AttributeTag.InterventionSequence, ValueRepresentation.SQ, 1);
-        addEntry("InterventionStatus", AttributeTag.InterventionStatus, ValueRepresentation.CS, 1);
-        addEntry("IntraOcularPressure", AttributeTag.IntraOcularPressure, ValueRepresentation.FL, 1);
-        addEntry("InversionRecovery", AttributeTag.InversionRecovery, ValueRepresentation.CS, 1);
-        addEntry("InversionTime", AttributeTag.InversionTime, ValueRepresentation.DS, 1);
-        addEntry("InversionTimes", AttributeTag.InversionTimes, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
-        addEntry("IonBeamLimitingDeviceSequence", AttributeTag.IonBeamLimitingDeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("IonBeamSequence", AttributeTag.IonBeamSequence, ValueRepresentation.SQ, 1);
-        addEntry("IonBlockSequence", AttributeTag.IonBlockSequence, ValueRepresentation.SQ, 1);
-        addEntry("IonControlPointDeliverySequence", AttributeTag.IonControlPointDeliverySequence, ValueRepresentation.SQ, 1);
-        addEntry("IonControlPointSequence", AttributeTag.IonControlPointSequence, ValueRepresentation.SQ, 1);
-        addEntry("IonControlPointVerificationSequence", AttributeTag.IonControlPointVerificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("IonMachineVerificationSequence", AttributeTag.IonMachineVerificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("IonRangeCompensatorSequence", AttributeTag.IonRangeCompensatorSequence, ValueRepresentation.SQ, 1);
-        addEntry("IonToleranceTableSequence", AttributeTag.IonToleranceTableSequence, ValueRepresentation.SQ, 1);
-        addEntry("IonWedgePositionSequence", AttributeTag.IonWedgePositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("IonWedgeSequence", AttributeTag.IonWedgeSequence, ValueRepresentation.SQ, 1);
-        addEntry("IrradiationEventIdentificationSequence", AttributeTag.IrradiationEventIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("IrradiationEventUID", AttributeTag.IrradiationEventUID, ValueRepresentation.UI, 1);
-        addEntry("IsocenterPosition", AttributeTag.IsocenterPosition, ValueRepresentation.DS, 3);
-        addEntry("IsocenterReferenceSystemSequence", AttributeTag.IsocenterReferenceSystemSequence, ValueRepresentation.SQ, 1);
-        addEntry("IsocenterToBeamLimitingDeviceDistance", AttributeTag.IsocenterToBeamLimitingDeviceDistance, ValueRepresentation.FL, 1);
-        addEntry("IsocenterToBlockTrayDistance", AttributeTag.IsocenterToBlockTrayDistance, ValueRepresentation.FL, 1);
-        addEntry("IsocenterToCompensatorDistances", AttributeTag.IsocenterToCompensatorDistances, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("IsocenterToCompensatorTrayDistance", AttributeTag.IsocenterToCompensatorTrayDistance, ValueRepresentation.FL, 1);
-        addEntry("IsocenterToLateralSpreadingDeviceDistance", AttributeTag.IsocenterToLateralSpreadingDeviceDistance, ValueRepresentation.FL, 1);
-        addEntry("IsocenterToRangeModulatorDistance", AttributeTag.IsocenterToRangeModulatorDistance, ValueRepresentation.FL, 1);
-        addEntry("IsocenterToRangeShifterDistance", AttributeTag.IsocenterToRangeShifterDistance, ValueRepresentation.FL, 1);
-        addEntry("IsocenterToWedgeTrayDistance", AttributeTag.IsocenterToWedgeTrayDistance, ValueRepresentation.FL, 1);
-        addEntry("IsotopeNumber", AttributeTag.IsotopeNumber, ValueRepresentation.IS, 1);
-        addEntry("IssueDateOfImagingServiceRequest", AttributeTag.IssueDateOfImagingServiceRequest, ValueRepresentation.DA, 1);
-        addEntry("IssuerOfAccessionNumberSequence", AttributeTag.IssuerOfAccessionNumberSequence, ValueRepresentation.SQ, 1);
-        addEntry("IssuerOfAdmissionID", AttributeTag.IssuerOfAdmissionID, ValueRepresentation.LO, 1);
-        addEntry("IssuerOfAdmissionIDSequence", AttributeTag.IssuerOfAdmissionIDSequence, ValueRepresentation.SQ, 1);
-        addEntry("IssuerOfPatientID", AttributeTag.IssuerOfPatientID, ValueRepresentation.LO, 1);
-        addEntry("IssuerOfPatientIDQualifiersSequence", AttributeTag.IssuerOfPatientIDQualifiersSequence, ValueRepresentation.SQ, 1);
-        addEntry("IssuerOfServiceEpisodeID", AttributeTag.IssuerOfServiceEpisodeID, ValueRepresentation.LO, 1);
-        addEntry("IssuerOfServiceEpisodeIDSequence", AttributeTag.IssuerOfServiceEpisodeIDSequence, ValueRepresentation.SQ, 1);
-        addEntry("IssuerOfTheContainerIdentifierSequence", AttributeTag.IssuerOfTheContainerIdentifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("IssuerOfTheSpecimenIdentifierSequence", AttributeTag.IssuerOfTheSpecimenIdentifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("IssueTimeOfImagingServiceRequest", AttributeTag.IssueTimeOfImagingServiceRequest, ValueRepresentation.TM, 1);
-        addEntry("Italic", AttributeTag.Italic, ValueRepresentation.CS, 1);
-        addEntry("Item", AttributeTag.Item, (ValueRepresentation) null, 1);
-        addEntry("ItemDelimitationItem", AttributeTag.ItemDelimitationItem, (ValueRepresentation) null, 1);
-        addEntry("ItemNumber", AttributeTag.ItemNumber, ValueRepresentation.IS, 1);
-        addEntry("IterativeReconstructionMethod", AttributeTag.IterativeReconstructionMethod, ValueRepresentation.CS, 1);
-        addEntry("IVUSAcquisition", AttributeTag.IVUSAcquisition, ValueRepresentation.CS, 1);
-        addEntry("IVUSGatedRate", AttributeTag.IVUSGatedRate, ValueRepresentation.DS, 1);
-        addEntry("IVUSPullbackRate", AttributeTag.IVUSPullbackRate, ValueRepresentation.DS, 1);
-        addEntry("IVUSPullbackStartFrameNumber", AttributeTag.IVUSPullbackStartFrameNumber, ValueRepresentation.IS, 1);
-        addEntry("IVUSPullbackStopFrameNumber", AttributeTag.IVUSPullbackStopFrameNumber, ValueRepresentation.IS, 1);
-        addEntry("KeratometricAxis", AttributeTag.KeratometricAxis, ValueRepresentation.FD, 1);
-        addEntry("KeratometricPower", AttributeTag.KeratometricPower, ValueRepresentation.FD, 1);
-        addEntry("KeratometryLeftEyeSequence", AttributeTag.KeratometryLeftEyeSequence, ValueRepresentation.SQ, 1);
-        addEntry("KeratometryRightEyeSequence", AttributeTag.KeratometryRightEyeSequence, ValueRepresentation.SQ, 1);
-        addEntry("KSpaceFiltering", AttributeTag.KSpaceFiltering, ValueRepresentation.CS, 1);
-        addEntry("KVP", AttributeTag.KVP, ValueRepresentation.DS, 1);
-        addEntry("LabelStyleSelection", AttributeTag.LabelStyleSelection, ValueRepresentation.CS, 1);
-        addEntry("LabelText", AttributeTag.LabelText, ValueRepresentation.UT, 1);
-        addEntry("LabelUsingInformationExtractedFromInstances", AttributeTag.LabelUsingInformationExtractedFromInstances, ValueRepresentation.CS, 1);
-        addEntry("LanguageCodeSequence", AttributeTag.LanguageCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("LargeBluePaletteColorLookupTableData", AttributeTag.LargeBluePaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("LargeBluePaletteColorLookupTableDescriptor", AttributeTag.LargeBluePaletteColorLookupTableDescriptor, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS },
+        _entryList = new ArrayList<Entry>(4096);
+        addEntry("AbsoluteChannelDisplayScale", 0x003A0248, ValueRepresentation.FL, 1);
+        addEntry("AbstractPriorCodeSequence", 0x0072003E, ValueRepresentation.SQ, 1);
+        addEntry("AbstractPriorValue", 0x0072003C, ValueRepresentation.SS, 2);
+        addEntry("AccessionNumber", 0x00080050, ValueRepresentation.SH, 1);
+        addEntry("AccessoryCode", 0x300A00F9, ValueRepresentation.LO, 1);
+        addEntry("AcquiredImageAreaDoseProduct", 0x00189473, ValueRepresentation.FL, 1);
+        addEntry("AcquisitionComments", 0x00184000, ValueRepresentation.LT, 1);
+        addEntry("AcquisitionContextDescription", 0x00400556, ValueRepresentation.ST, 1);
+        addEntry("AcquisitionContextSequence", 0x00400555, ValueRepresentation.SQ, 1);
+        addEntry("AcquisitionContrast", 0x00089209, ValueRepresentation.CS, 1);
+        addEntry("AcquisitionDate", 0x00080022, ValueRepresentation.DA, 1);
+        addEntry("AcquisitionDateTime", 0x0008002A, ValueRepresentation.DT, 1);
+        addEntry("AcquisitionDeviceProcessingCode", 0x00181401, ValueRepresentation.LO, 1);
+        addEntry("AcquisitionDeviceProcessingDescription", 0x00181400, ValueRepresentation.LO, 1);
+        addEntry("AcquisitionDeviceTypeCodeSequence", 0x00220015, ValueRepresentation.SQ, 1);
+        addEntry("AcquisitionDuration", 0x00189073, ValueRepresentation.FD, 1);
+        addEntry("AcquisitionIndex", 0x00209518, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("AcquisitionMatrix", 0x00181310, ValueRepresentation.US, 4);
+        addEntry("AcquisitionNumber", 0x00200012, ValueRepresentation.IS, 1);
+        addEntry("AcquisitionProtocolDescription", 0x00189424, ValueRepresentation.LT, 1);
+        addEntry("AcquisitionProtocolName", 0x00189423, ValueRepresentation.LO, 1);
+        addEntry("AcquisitionsInSeries", 0x00201001, ValueRepresentation.IS, 1);
+        addEntry("AcquisitionsInStudy", 0x00201004, ValueRepresentation.IS, 1);
+        addEntry("AcquisitionStartCondition", 0x00180073, ValueRepresentation.CS, 1);
+        addEntry("AcquisitionStartConditionData", 0x00180074, ValueRepresentation.IS, 1);
+        addEntry("AcquisitionTerminationCondition", 0x00180071, ValueRepresentation.CS, 1);
+        addEntry("AcquisitionTerminationConditionData", 0x00180075, ValueRepresentation.IS, 1);
+        addEntry("AcquisitionTime", 0x00080032, ValueRepresentation.TM, 1);
+        addEntry("AcquisitionTimeSynchronized", 0x00181800, ValueRepresentation.CS, 1);
+        addEntry("AcquisitionType", 0x00189302, ValueRepresentation.CS, 1);
+        addEntry("AcrossScanSpatialResolution", 0x00220048, ValueRepresentation.FL, 1);
+        addEntry("ActionTypeID", 0x00001008, ValueRepresentation.US, 1);
+        addEntry("ActiveSourceDiameter", 0x300A0218, ValueRepresentation.DS, 1);
+        addEntry("ActiveSourceLength", 0x300A021A, ValueRepresentation.DS, 1);
+        addEntry("ActualCardiacTriggerDelayTime", 0x00209252, ValueRepresentation.FD, 1);
+        addEntry("ActualFrameDuration", 0x00181242, ValueRepresentation.IS, 1);
+        addEntry("ActualHumanPerformersSequence", 0x00404035, ValueRepresentation.SQ, 1);
+        addEntry("ActualRespiratoryTriggerDelayTime", 0x00209257, ValueRepresentation.FD, 1);
+        addEntry("AdaptiveMapFormat", 0x00280730, ValueRepresentation.US, 1);
+        addEntry("AddGrayScale", 0x00005150, ValueRepresentation.CS, 1);
+        addEntry("AddIntermediateSequence", 0x00460101, ValueRepresentation.SQ, 1);
+        addEntry("AdditionalDrugSequence", 0x0018002A, ValueRepresentation.SQ, 1);
+        addEntry("AdditionalPatientHistory", 0x001021B0, ValueRepresentation.LT, 1);
+        addEntry("AddNearSequence", 0x00460100, ValueRepresentation.SQ, 1);
+        addEntry("AddOtherSequence", 0x00460102, ValueRepresentation.SQ, 1);
+        addEntry("AddPower", 0x00460104, ValueRepresentation.FD, 1);
+        addEntry("AddressTrial", 0x0040A353, ValueRepresentation.ST, 1);
+        addEntry("AdministrationRouteCodeSequence", 0x00540302, ValueRepresentation.SQ, 1);
+        addEntry("AdmissionID", 0x00380010, ValueRepresentation.LO, 1);
+        addEntry("AdmittingDate", 0x00380020, ValueRepresentation.DA, 1);
+        addEntry("AdmittingDiagnosesCodeSequence", 0x00081084, ValueRepresentation.SQ, 1);
+        addEntry("AdmittingDiagnosesDescription", 0x00081080, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("AdmittingTime", 0x00380021, ValueRepresentation.TM, 1);
+        addEntry("AffectedSOPClassUID", 0x00000002, ValueRepresentation.UI, 1);
+        addEntry("AffectedSOPInstanceUID", 0x00001000, ValueRepresentation.UI, 1);
+        addEntry("AlgorithmDescription", 0x00189528, ValueRepresentation.LO, 1);
+        addEntry("AlgorithmFamilyCodeSequence", 0x0066002F, ValueRepresentation.SQ, 1);
+        addEntry("AlgorithmName", 0x00660036, ValueRepresentation.LO, 1);
+        addEntry("AlgorithmNameCodeSequence", 0x00660030, ValueRepresentation.SQ, 1);
+        addEntry("AlgorithmParameters", 0x00660032, ValueRepresentation.LT, 1);
+        addEntry("AlgorithmType", 0x00189527, ValueRepresentation.CS, 1);
+        addEntry("AlgorithmVersion", 0x00660031, ValueRepresentation.LO, 1);
+        addEntry("AliasedDataType", 0x0018980B, ValueRepresentation.CS, 1);
+        addEntry("Allergies", 0x00102110, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("AllowLossyCompression", 0x2200000F, ValueRepresentation.CS, 1);
+        addEntry("AllowMediaSplitting", 0x22000007, ValueRepresentation.CS, 1);
+        addEntry("AlongScanSpatialResolution", 0x00220037, ValueRepresentation.FL, 1);
+        addEntry("AlphaLUTTransferFunction", 0x00281410, ValueRepresentation.CS, 1);
+        addEntry("AlphaPaletteColorLookupTableData", 0x00281204, ValueRepresentation.OW, 1);
+        addEntry("AlphaPaletteColorLookupTableDescriptor", 0x00281104, ValueRepresentation.US, 3);
+        addEntry("AlternateContainerIdentifierSequence", 0x00400515, ValueRepresentation.SQ, 1);
+        addEntry("AlternateContentDescriptionSequence", 0x00700087, ValueRepresentation.SQ, 1);
+        addEntry("AlternateRepresentationSequence", 0x00083001, ValueRepresentation.SQ, 1);
+        addEntry("AnatomicalOrientationType", 0x00102210, ValueRepresentation.CS, 1);
+        addEntry("AnatomicApproachDirectionCodeSequenceTrial", 0x00082255, ValueRepresentation.SQ, 1);
+        addEntry("AnatomicLocationOfExaminingInstrumentCodeSequenceTrial", 0x00082259, ValueRepresentation.SQ, 1);
+        addEntry("AnatomicLocationOfExaminingInstrumentDescriptionTrial", 0x00082258, ValueRepresentation.ST, 1);
+        addEntry("AnatomicPerspectiveCodeSequenceTrial", 0x00082257, ValueRepresentation.SQ, 1);
+        addEntry("AnatomicPerspectiveDescriptionTrial", 0x00082256, ValueRepresentation.ST, 1);
+        addEntry("AnatomicPortalOfEntranceCodeSequenceTrial", 0x00082253, ValueRepresentation.SQ, 1);
+        addEntry("AnatomicRegionModifierSequence", 0x00082220, ValueRepresentation.SQ, 1);
+        addEntry("AnatomicRegionSequence", 0x00082218, ValueRepresentation.SQ, 1);
+        addEntry("AnatomicStructure", 0x00082208, ValueRepresentation.CS, 1);
+        addEntry("AnatomicStructureSpaceOrRegionCodeSequenceTrial", 0x00082251, ValueRepresentation.SQ, 1);
+        addEntry("AnatomicStructureSpaceOrRegionModifierCodeSequenceTrial", 0x0008225A, ValueRepresentation.SQ, 1);
+        addEntry("AnatomicStructureSpaceOrRegionSequence", 0x00082229, ValueRepresentation.SQ, 1);
+        addEntry("AnchorPoint", 0x00700014, ValueRepresentation.FL, 2);
+        addEntry("AnchorPointAnnotationUnits", 0x00700004, ValueRepresentation.CS, 1);
+        addEntry("AnchorPointVisibility", 0x00700015, ValueRepresentation.CS, 1);
+        addEntry("AngioFlag", 0x00180025, ValueRepresentation.CS, 1);
+        addEntry("AngleNumber", 0x00200018, ValueRepresentation.IS, 1);
+        addEntry("AngularPosition", 0x00181141, ValueRepresentation.DS, 1);
+        addEntry("AngularStep", 0x00181144, ValueRepresentation.DS, 1);
+        addEntry("AngularViewVector", 0x00540090, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("AnnotationContentSequence", 0x21300050, ValueRepresentation.SQ, 1);
+        addEntry("AnnotationDisplayFormatID", 0x20100030, ValueRepresentation.CS, 1);
+        addEntry("AnnotationFlag", 0x20000065, ValueRepresentation.CS, 1);
+        addEntry("AnnotationGroupNumber", 0x0040A180, ValueRepresentation.US, 1);
+        addEntry("AnnotationPosition", 0x20300010, ValueRepresentation.US, 1);
+        addEntry("AnodeTargetMaterial", 0x00181191, ValueRepresentation.CS, 1);
+        addEntry("ApexPosition", 0x00209308, ValueRepresentation.FD, 3);
+        addEntry("ApplicableFrameRange", 0x00286102, ValueRepresentation.US, 2, Integer.MAX_VALUE / 2);
+        addEntry("ApplicableSafetyStandardAgency", 0x00189174, ValueRepresentation.CS, 1);
+        addEntry("ApplicableSafetyStandardDescription", 0x00189175, ValueRepresentation.LO, 1);
+        addEntry("ApplicationManufacturer", 0x00189526, ValueRepresentation.LO, 1);
+        addEntry("ApplicationMaximumRepaintTime", 0x0072010E, ValueRepresentation.US, 1);
+        addEntry("ApplicationName", 0x00189524, ValueRepresentation.LO, 1);
+        addEntry("ApplicationSetupCheck", 0x30080116, ValueRepresentation.CS, 1);
+        addEntry("ApplicationSetupManufacturer", 0x300A0238, ValueRepresentation.LO, 1);
+        addEntry("ApplicationSetupName", 0x300A0236, ValueRepresentation.LO, 1);
+        addEntry("ApplicationSetupNumber", 0x300A0234, ValueRepresentation.IS, 1);
+        addEntry("ApplicationSetupSequence", 0x300A0230, ValueRepresentation.SQ, 1);
+        addEntry("ApplicationSetupType", 0x300A0232, ValueRepresentation.CS, 1);
+        addEntry("ApplicationVersion", 0x00189525, ValueRepresentation.LO, 1);
+        addEntry("ApplicatorDescription", 0x300A010A, ValueRepresentation.LO, 1);
+        addEntry("ApplicatorID", 0x300A0108, ValueRepresentation.SH, 1);
+        addEntry("ApplicatorSequence", 0x300A0107, ValueRepresentation.SQ, 1);
+        addEntry("ApplicatorType", 0x300A0109, ValueRepresentation.CS, 1);
+        addEntry("ApprovalStatus", 0x300E0002, ValueRepresentation.CS, 1);
+        addEntry("ApprovalStatusDateTime", 0x00440004, ValueRepresentation.DT, 1);
+        addEntry("ApprovalStatusFurtherDescription", 0x00440003, ValueRepresentation.LT, 1);
+        addEntry("Arbitrary", 0x40000010, ValueRepresentation.LT, 1);
+        addEntry("ArchiveRequested", 0x0040A494, ValueRepresentation.CS, 1);
+        addEntry("AssigningAgencyOrDepartmentCodeSequence", 0x0040003A, ValueRepresentation.SQ, 1);
+        addEntry("AssigningFacilitySequence", 0x00400036, ValueRepresentation.SQ, 1);
+        addEntry("AssigningJurisdictionCodeSequence", 0x00400039, ValueRepresentation.SQ, 1);
+        addEntry("AttachedContours", 0x30060049, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("AttenuationCorrected", 0x00189759, ValueRepresentation.CS, 1);
+        addEntry("AttenuationCorrectionMethod", 0x00541101, ValueRepresentation.LO, 1);
+        addEntry("AttenuationCorrectionSource", 0x00189738, ValueRepresentation.CS, 1);
+        addEntry("AttenuationCorrectionTemporalRelationship", 0x00189770, ValueRepresentation.CS, 1);
+        addEntry("AttributeIdentifierList", 0x00001005, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("AttributeItemSelector", 0x00741054, ValueRepresentation.UL, 1);
+        addEntry("AttributeModificationDateTime", 0x04000562, ValueRepresentation.DT, 1);
+        addEntry("AttributeOccurrencePointer", 0x00741052, ValueRepresentation.AT, 1);
+        addEntry("AttributeOccurrencePrivateCreator", 0x00741056, ValueRepresentation.LO, 1);
+        addEntry("AttributeOccurrenceSequence", 0x00741050, ValueRepresentation.SQ, 1);
+        addEntry("AudioComments", 0x5000200E, ValueRepresentation.LT, 1);
+        addEntry("AudioSampleData", 0x5000200C, new ValueRepresentation[] { ValueRepresentation.OW, ValueRepresentation.OB }, 1, 1);
+        addEntry("AudioSampleFormat", 0x50002002, ValueRepresentation.US, 1);
+        addEntry("AudioType", 0x50002000, ValueRepresentation.US, 1);
+        addEntry("AuthorizationEquipmentCertificationNumber", 0x01000426, ValueRepresentation.LO, 1);
+        addEntry("AuthorObserverSequence", 0x0040A078, ValueRepresentation.SQ, 1);
+        addEntry("AutorefractionLeftEyeSequence", 0x00460052, ValueRepresentation.SQ, 1);
+        addEntry("AutorefractionRightEyeSequence", 0x00460050, ValueRepresentation.SQ, 1);
+        addEntry("AveragePulseWidth", 0x00181154, ValueRepresentation.DS, 1);
+        addEntry("AxialAcceptance", 0x00541200, ValueRepresentation.DS, 1);
+        addEntry("AxialDetectorDimension", 0x00189727, ValueRepresentation.FD, 1);
+        addEntry("AxialLengthOfTheEye", 0x00220030, ValueRepresentation.FL, 1);
+        addEntry("AxialMash", 0x00541201, ValueRepresentation.IS, 2);
+        addEntry("AxisLabels", 0x50000040, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("AxisOfRotation", 0x0066001B, ValueRepresentation.FL, 3);
+        addEntry("AxisUnits", 0x50000030, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("BackgroundColor", 0x00460092, ValueRepresentation.CS, 1);
+        addEntry("BarcodeSymbology", 0x22000006, ValueRepresentation.CS, 1);
+        addEntry("BarcodeValue", 0x22000005, ValueRepresentation.LT, 1);
+        addEntry("BaselineCorrection", 0x00189067, ValueRepresentation.CS, 1);
+        addEntry("BasicColorImageSequence", 0x20200111, ValueRepresentation.SQ, 1);
+        addEntry("BasicGrayscaleImageSequence", 0x20200110, ValueRepresentation.SQ, 1);
+        addEntry("BeamAngle", 0x00189449, ValueRepresentation.FL, 1);
+        addEntry("BeamCurrentModulationID", 0x300A034C, ValueRepresentation.SH, 1);
+        addEntry("BeamDescription", 0x300A00C3, ValueRepresentation.ST, 1);
+        addEntry("BeamDose", 0x300A0084, ValueRepresentation.DS, 1);
+        addEntry("BeamDosePointDepth", 0x300A0088, ValueRepresentation.FL, 1);
+        addEntry("BeamDosePointEquivalentDepth", 0x300A0089, ValueRepresentation.FL, 1);
+        addEntry("BeamDosePointSSD", 0x300A008A, ValueRepresentation.FL, 1);
+        addEntry("BeamDoseSpecificationPoint", 0x300A0082, ValueRepresentation.DS, 3);
+        addEntry("BeamLimitingDeviceAngle", 0x300A0120, ValueRepresentation.DS, 1);
+        addEntry("BeamLimitingDeviceAngleTolerance", 0x300A0046, ValueRepresentation.DS, 1);
+        addEntry("BeamLimitingDeviceLeafPairsSequence", 0x300800A0, ValueRepresentation.SQ, 1);
+        addEntry("BeamLimitingDevicePositionSequence", 0x300A011A, ValueRepresentation.SQ, 1);
+        addEntry("BeamLimitingDevicePositionTolerance", 0x300A004A, ValueRepresentation.DS, 1);
+        addEntry("BeamLimitingDeviceRotationDirection", 0x300A0121, ValueRepresentation.CS, 1);
+        addEntry("BeamLimitingDeviceSequence", 0x300A00B6, ValueRepresentation.SQ, 1);
+        addEntry("BeamLimitingDeviceToleranceSequence", 0x300A0048, ValueRepresentation.SQ, 1);
+        addEntry("BeamMeterset", 0x300A0086, ValueRepresentation.DS, 1);
+        addEntry("BeamName", 0x300A00C2, ValueRepresentation.LO, 1);
+        addEntry("BeamNumber", 0x300A00C0, ValueRepresentation.IS, 1);
+        addEntry("BeamOrderIndex", 0x00741024, ValueRepresentation.IS, 1);
+        addEntry("BeamSequence", 0x300A00B0, ValueRepresentation.SQ, 1);
+        addEntry("BeamStopperPosition", 0x30080230, ValueRepresentation.CS, 1);
+        addEntry("BeamTaskSequence", 0x00741020, ValueRepresentation.SQ, 1);
+        addEntry("BeamTaskType", 0x00741022, ValueRepresentation.CS, 1);
+        addEntry("BeamType", 0x300A00C4, ValueRepresentation.CS, 1);
+        addEntry("BeatRejectionFlag", 0x00181080, ValueRepresentation.CS, 1);
+        addEntry("BillingItemSequence", 0x00400296, ValueRepresentation.SQ, 1);
+        addEntry("BillingProcedureStepSequence", 0x00400320, ValueRepresentation.SQ, 1);
+        addEntry("BillingSuppliesAndDevicesSequence", 0x00400324, ValueRepresentation.SQ, 1);
+        addEntry("BiPlaneAcquisitionSequence", 0x00285000, ValueRepresentation.SQ, 1);
+        addEntry("BitsAllocated", 0x00280100, ValueRepresentation.US, 1);
+        addEntry("BitsForCodeWord", 0x00280804, ValueRepresentation.US, 1);
+        addEntry("BitsGrouped", 0x00280069, ValueRepresentation.US, 1);
+        addEntry("BitsMappedToColorLookupTable", 0x00281403, ValueRepresentation.US, 1);
+        addEntry("BitsStored", 0x00280101, ValueRepresentation.US, 1);
+        addEntry("BlendingLookupTableData", 0x00281408, ValueRepresentation.OW, 1);
+        addEntry("BlendingLookupTableDescriptor", 0x00281407, ValueRepresentation.US, 3);
+        addEntry("BlendingLUT", 0x00281404, ValueRepresentation.SQ, 1);
+        addEntry("BlendingLUT", 0x00281405, ValueRepresentation.CS, 1);
+        addEntry("BlendingLUT", 0x0028140C, ValueRepresentation.SQ, 1);
+        addEntry("BlendingLUT", 0x0028140D, ValueRepresentation.CS, 1);
+        addEntry("BlendingOperationType", 0x00720500, ValueRepresentation.CS, 1);
+        addEntry("BlendingPosition", 0x00700405, ValueRepresentation.CS, 1);
+        addEntry("BlendingSequence", 0x00700402, ValueRepresentation.SQ, 1);
+        addEntry("BlendingWeightConstant", 0x00281406, ValueRepresentation.FD, 1);
+        addEntry("BlockColumns", 0x00280092, ValueRepresentation.US, 1);
+        addEntry("BlockData", 0x300A0106, ValueRepresentation.DS, 2, Integer.MAX_VALUE / 2);
+        addEntry("BlockDivergence", 0x300A00FA, ValueRepresentation.CS, 1);
+        addEntry("BlockedPixels", 0x00280090, ValueRepresentation.CS, 1);
+        addEntry("BlockMountingPosition", 0x300A00FB, ValueRepresentation.CS, 1);
+        addEntry("BlockName", 0x300A00FE, ValueRepresentation.LO, 1);
+        addEntry("BlockNumber", 0x300A00FC, ValueRepresentation.IS, 1);
+        addEntry("BlockNumberOfPoints", 0x300A0104, ValueRepresentation.IS, 1);
+        addEntry("BlockRows", 0x00280091, ValueRepresentation.US, 1);
+        addEntry("BlockSequence", 0x300A00F4, ValueRepresentation.SQ, 1);
+        addEntry("BlockThickness", 0x300A0100, ValueRepresentation.DS, 1);
+        addEntry("BlockTransmission", 0x300A0102, ValueRepresentation.DS, 1);
+        addEntry("BlockTrayID", 0x300A00F5, ValueRepresentation.SH, 1);
+        addEntry("BlockType", 0x300A00F8, ValueRepresentation.CS, 1);
+        addEntry("BloodSignalNulling", 0x00189022, ValueRepresentation.CS, 1);
+        addEntry("BluePaletteColorLookupTableData", 0x00281203, ValueRepresentation.OW, 1);
+        addEntry("BluePaletteColorLookupTableDescriptor", 0x00281103, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
+        addEntry("BodyPartExamined", 0x00180015, ValueRepresentation.CS, 1);
+        addEntry("BodyPartThickness", 0x001811A0, ValueRepresentation.DS, 1);
+        addEntry("Bold", 0x00700249, ValueRepresentation.CS, 1);
+        addEntry("BolusDescription", 0x300A00DD, ValueRepresentation.ST, 1);
+        addEntry("BolusID", 0x300A00DC, ValueRepresentation.SH, 1);
+        addEntry("BoneThermalIndex", 0x00185024, ValueRepresentation.DS, 1);
+        addEntry("BorderDensity", 0x20100100, ValueRepresentation.CS, 1);
+        addEntry("Borders", 0x00005160, ValueRepresentation.CS, 1);
+        addEntry("BoundingBoxAnnotationUnits", 0x00700003, ValueRepresentation.CS, 1);
+        addEntry("BoundingBoxBottomRightHandCorner", 0x00700011, ValueRepresentation.FL, 2);
+        addEntry("BoundingBoxTextHorizontalJustification", 0x00700012, ValueRepresentation.CS, 1);
+        addEntry("BoundingBoxTopLeftHandCorner", 0x00700010, ValueRepresentation.FL, 2);
+        addEntry("BrachyAccessoryDeviceID", 0x300A0263, ValueRepresentation.SH, 1);
+        addEntry("BrachyAccessoryDeviceName", 0x300A0266, ValueRepresentation.LO, 1);
+        addEntry("BrachyAccessoryDeviceNominalThickness", 0x300A026A, ValueRepresentation.DS, 1);
+        addEntry("BrachyAccessoryDeviceNominalTransmission", 0x300A026C, ValueRepresentation.DS, 1);
+        addEntry("BrachyAccessoryDeviceNumber", 0x300A0262, ValueRepresentation.IS, 1);
+        addEntry("BrachyAccessoryDeviceSequence", 0x300A0260, ValueRepresentation.SQ, 1);
+        addEntry("BrachyAccessoryDeviceType", 0x300A0264, ValueRepresentation.CS, 1);
+        addEntry("BrachyApplicationSetupDose", 0x300A00A4, ValueRepresentation.DS, 1);
+        addEntry("BrachyApplicationSetupDoseSpecificationPoint", 0x300A00A2, ValueRepresentation.DS, 3);
+        addEntry("BrachyControlPointDeliveredSequence", 0x30080160, ValueRepresentation.SQ, 1);
+        addEntry("BrachyControlPointSequence", 0x300A02D0, ValueRepresentation.SQ, 1);
+        addEntry("BrachyReferencedDoseReferenceSequence", 0x300C0055, ValueRepresentation.SQ, 1);
+        addEntry("BrachyTreatmentTechnique", 0x300A0200, ValueRepresentation.CS, 1);
+        addEntry("BrachyTreatmentType", 0x300A0202, ValueRepresentation.CS, 1);
+        addEntry("BranchOfService", 0x00101081, ValueRepresentation.LO, 1);
+        addEntry("BreastImplantPresent", 0x00281300, ValueRepresentation.CS, 1);
+        addEntry("BreedRegistrationNumber", 0x00102295, ValueRepresentation.LO, 1);
+        addEntry("BreedRegistrationSequence", 0x00102294, ValueRepresentation.SQ, 1);
+        addEntry("BreedRegistryCodeSequence", 0x00102296, ValueRepresentation.SQ, 1);
+        addEntry("BulkMotionCompensationTechnique", 0x00189172, ValueRepresentation.CS, 1);
+        addEntry("BulkMotionSignalSource", 0x00189173, ValueRepresentation.CS, 1);
+        addEntry("BulkMotionStatus", 0x00189166, ValueRepresentation.CS, 1);
+        addEntry("BurnedInAnnotation", 0x00280301, ValueRepresentation.CS, 1);
+        addEntry("CalciumScoringMassFactorDevice", 0x00189352, ValueRepresentation.FL, 3);
+        addEntry("CalciumScoringMassFactorPatient", 0x00189351, ValueRepresentation.FL, 1);
+        addEntry("CalculatedAnatomyThickness", 0x00189452, ValueRepresentation.FL, 1);
+        addEntry("CalculatedDoseReferenceDescription", 0x30080074, ValueRepresentation.ST, 1);
+        addEntry("CalculatedDoseReferenceDoseValue", 0x30080076, ValueRepresentation.DS, 1);
+        addEntry("CalculatedDoseReferenceNumber", 0x30080072, ValueRepresentation.IS, 1);
+        addEntry("CalculatedDoseReferenceSequence", 0x30080070, ValueRepresentation.SQ, 1);
+        addEntry("CalculatedFrameList", 0x00081162, ValueRepresentation.UL, 3, Integer.MAX_VALUE / 3);
+        addEntry("CalibrationDataSequence", 0x00540306, ValueRepresentation.SQ, 1);
+        addEntry("CalibrationImage", 0x00500004, ValueRepresentation.CS, 1);
+        addEntry("CalibrationSequence", 0x00189455, ValueRepresentation.SQ, 1);
+        addEntry("CardiacBeatRejectionTechnique", 0x00189169, ValueRepresentation.CS, 1);
+        addEntry("CardiacCyclePosition", 0x00189236, ValueRepresentation.CS, 1);
+        addEntry("CardiacFramingType", 0x00181064, ValueRepresentation.LO, 1);
+        addEntry("CardiacNumberOfImages", 0x00181090, ValueRepresentation.IS, 1);
+        addEntry("CardiacRRIntervalSpecified", 0x00189070, ValueRepresentation.FD, 1);
+        addEntry("CardiacSignalSource", 0x00189085, ValueRepresentation.CS, 1);
+        addEntry("CardiacSynchronizationSequence", 0x00189118, ValueRepresentation.SQ, 1);
+        addEntry("CardiacSynchronizationTechnique", 0x00189037, ValueRepresentation.CS, 1);
+        addEntry("CArmPositionerTabletopRelationship", 0x00189474, ValueRepresentation.CS, 1);
+        addEntry("CassetteID", 0x00181007, ValueRepresentation.LO, 1);
+        addEntry("CassetteOrientation", 0x00181402, ValueRepresentation.CS, 1);
+        addEntry("CassetteSize", 0x00181403, ValueRepresentation.CS, 1);
+        addEntry("CenterOfCircularCollimator", 0x00181710, ValueRepresentation.IS, 2);
+        addEntry("CenterOfCircularExposureControlSensingRegion", 0x00189440, ValueRepresentation.SS, 2);
+        addEntry("CenterOfCircularShutter", 0x00181610, ValueRepresentation.IS, 2);
+        addEntry("CenterOfRotation", 0x0066001C, ValueRepresentation.FL, 3);
+        addEntry("CenterOfRotationOffset", 0x00181145, ValueRepresentation.DS, 1);
+        addEntry("CertificateOfSigner", 0x04000115, ValueRepresentation.OB, 1);
+        addEntry("CertificateType", 0x04000110, ValueRepresentation.CS, 1);
+        addEntry("CertifiedTimestamp", 0x04000310, ValueRepresentation.OB, 1);
+        addEntry("CertifiedTimestampType", 0x04000305, ValueRepresentation.CS, 1);
+        addEntry("ChannelBaseline", 0x003A0213, ValueRepresentation.DS, 1);
+        addEntry("ChannelDefinitionSequence", 0x003A0200, ValueRepresentation.SQ, 1);
+        addEntry("ChannelDerivationDescription", 0x003A020C, ValueRepresentation.LO, 1);
+        addEntry("ChannelDescriptionCodeSequence", 0x0022001A, ValueRepresentation.SQ, 1);
+        addEntry("ChannelDisplaySequence", 0x003A0242, ValueRepresentation.SQ, 1);
+        addEntry("ChannelIdentificationCode", 0x003A0301, ValueRepresentation.IS, 1);
+        addEntry("ChannelLabel", 0x003A0203, ValueRepresentation.SH, 1);
+        addEntry("ChannelLength", 0x300A0284, ValueRepresentation.DS, 1);
+        addEntry("ChannelMaximumValue", 0x54000112, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
+        addEntry("ChannelMinimumValue", 0x54000110, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
+        addEntry("ChannelMode", 0x003A0302, ValueRepresentation.CS, 1);
+        addEntry("ChannelNumber", 0x300A0282, ValueRepresentation.IS, 1);
+        addEntry("ChannelOffset", 0x003A0218, ValueRepresentation.DS, 1);
+        addEntry("ChannelPosition", 0x003A0245, ValueRepresentation.FL, 1);
+        addEntry("ChannelRecommendedDisplayCIELabValue", 0x003A0244, ValueRepresentation.US, 3);
+        addEntry("ChannelSampleSkew", 0x003A0215, ValueRepresentation.DS, 1);
+        addEntry("ChannelSensitivity", 0x003A0210, ValueRepresentation.DS, 1);
+        addEntry("ChannelSensitivityCorrectionFactor", 0x003A0212, ValueRepresentation.DS, 1);
+        addEntry("ChannelSensitivityUnitsSequence", 0x003A0211, ValueRepresentation.SQ, 1);
+        addEntry("ChannelSequence", 0x300A0280, ValueRepresentation.SQ, 1);
+        addEntry("ChannelShieldID", 0x300A02B3, ValueRepresentation.SH, 1);
+        addEntry("ChannelShieldName", 0x300A02B4, ValueRepresentation.LO, 1);
+        addEntry("ChannelShieldNominalThickness", 0x300A02B8, ValueRepresentation.DS, 1);
+        addEntry("ChannelShieldNominalTransmission", 0x300A02BA, ValueRepresentation.DS, 1);
+        addEntry("ChannelShieldNumber", 0x300A02B2, ValueRepresentation.IS, 1);
+        addEntry("ChannelShieldSequence", 0x300A02B0, ValueRepresentation.SQ, 1);
+        addEntry("ChannelSourceModifiersSequence", 0x003A0209, ValueRepresentation.SQ, 1);
+        addEntry("ChannelSourceSequence", 0x003A0208, ValueRepresentation.SQ, 1);
+        addEntry("ChannelStatus", 0x003A0205, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("ChannelTimeSkew", 0x003A0214, ValueRepresentation.DS, 1);
+        addEntry("ChannelTotalTime", 0x300A0286, ValueRepresentation.DS, 1);
+        addEntry("ChannelWidth", 0x00460042, ValueRepresentation.FD, 1);
+        addEntry("ChemicalShiftMaximumIntegrationLimitInHz", 0x00189196, ValueRepresentation.FD, 1);
+        addEntry("ChemicalShiftMaximumIntegrationLimitInppm", 0x00189296, ValueRepresentation.FD, 1);
+        addEntry("ChemicalShiftMinimumIntegrationLimitInHz", 0x00189195, ValueRepresentation.FD, 1);
+        addEntry("ChemicalShiftMinimumIntegrationLimitInppm", 0x00189295, ValueRepresentation.FD, 1);
+        addEntry("ChemicalShiftReference", 0x00189053, ValueRepresentation.FD, 1, 2);
+        addEntry("ChemicalShiftSequence", 0x00189084, ValueRepresentation.SQ, 1);
+        addEntry("CineRate", 0x00180040, ValueRepresentation.IS, 1);
+        addEntry("CineRelativeToRealTime", 0x00720330, ValueRepresentation.FD, 1);
+        addEntry("ClinicalTrialCoordinatingCenterName", 0x00120060, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialProtocolEthicsCommitteeApprovalNumber", 0x00120082, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialProtocolEthicsCommitteeName", 0x00120081, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialProtocolID", 0x00120020, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialProtocolName", 0x00120021, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialSeriesDescription", 0x00120072, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialSeriesID", 0x00120071, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialSiteID", 0x00120030, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialSiteName", 0x00120031, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialSponsorName", 0x00120010, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialSubjectID", 0x00120040, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialSubjectReadingID", 0x00120042, ValueRepresentation.LO, 1);
+        addEntry("ClinicalTrialTimePointDescription", 0x00120051, ValueRepresentation.ST, 1);
+        addEntry("ClinicalTrialTimePointID", 0x00120050, ValueRepresentation.LO, 1);
+        addEntry("CodeLabel", 0x00280800, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("CodeMeaning", 0x00080104, ValueRepresentation.LO, 1);
+        addEntry("CodeNumberFormat", 0x00280740, ValueRepresentation.US, 1);
+        addEntry("CodeTableLocation", 0x00280803, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("CodeValue", 0x00080100, ValueRepresentation.SH, 1);
+        addEntry("CodingSchemeDesignator", 0x00080102, ValueRepresentation.SH, 1);
+        addEntry("CodingSchemeExternalID", 0x00080114, ValueRepresentation.ST, 1);
+        addEntry("CodingSchemeIdentificationSequence", 0x00080110, ValueRepresentation.SQ, 1);
+        addEntry("CodingSchemeName", 0x00080115, ValueRepresentation.ST, 1);
+        addEntry("CodingSchemeRegistry", 0x00080112, ValueRepresentation.LO, 1);
+        addEntry("CodingSchemeResponsibleOrganization", 0x00080116, ValueRepresentation.ST, 1);
+        addEntry("CodingSchemeUID", 0x0008010C, ValueRepresentation.UI, 1);
+        addEntry("CodingSchemeVersion", 0x00080103, ValueRepresentation.SH, 1);
+        addEntry("CoefficientCoding", 0x00280402, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("CoefficientCodingPointers", 0x00280403, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("CoefficientsSDDN", 0x7FE00040, ValueRepresentation.OW, 1);
+        addEntry("CoefficientsSDHN", 0x7FE00030, ValueRepresentation.OW, 1);
+        addEntry("CoefficientsSDVN", 0x7FE00020, ValueRepresentation.OW, 1);
+        addEntry("CoincidenceWindowWidth", 0x00541210, ValueRepresentation.DS, 1);
+        addEntry("CollationFlag", 0x20000063, ValueRepresentation.CS, 1);
+        addEntry("CollimatorGridName", 0x00181180, ValueRepresentation.SH, 1);
+        addEntry("CollimatorLeftVerticalEdge", 0x00181702, ValueRepresentation.IS, 1);
+        addEntry("CollimatorLowerHorizontalEdge", 0x00181708, ValueRepresentation.IS, 1);
+        addEntry("CollimatorRightVerticalEdge", 0x00181704, ValueRepresentation.IS, 1);
+        addEntry("CollimatorShape", 0x00181700, ValueRepresentation.CS, 1, 3);
+        addEntry("CollimatorShapeSequence", 0x00189407, ValueRepresentation.SQ, 1);
+        addEntry("CollimatorType", 0x00181181, ValueRepresentation.CS, 1);
+        addEntry("CollimatorUpperHorizontalEdge", 0x00181706, ValueRepresentation.IS, 1);
+        addEntry("ColorImagePrintingFlag", 0x20000062, ValueRepresentation.CS, 1);
+        addEntry("ColumnAngulation", 0x00181450, ValueRepresentation.DS, 1);
+        addEntry("ColumnAngulationPatient", 0x00189447, ValueRepresentation.FL, 1);
+        addEntry("ColumnOverlap", 0x00280094, ValueRepresentation.US, 1);
+        addEntry("Columns", 0x00280011, ValueRepresentation.US, 1);
+        addEntry("ColumnsForNthOrderCoefficients", 0x00280401, ValueRepresentation.US, 1);
+        addEntry("CommandDataSetType", 0x00000800, ValueRepresentation.US, 1);
+        addEntry("CommandField", 0x00000100, ValueRepresentation.US, 1);
+        addEntry("CommandGroupLength", 0x00000000, ValueRepresentation.UL, 1);
+        addEntry("CommandLengthToEnd", 0x00000001, ValueRepresentation.UL, 1);
+        addEntry("CommandMagnificationType", 0x00005180, ValueRepresentation.CS, 1);
+        addEntry("CommandRecognitionCode", 0x00000010, ValueRepresentation.CS, 1);
+        addEntry("CommentsOnRadiationDose", 0x00400310, ValueRepresentation.ST, 1);
+        addEntry("CommentsOnThePerformedProcedureStep", 0x00400280, ValueRepresentation.ST, 1);
+        addEntry("CommentsOnTheScheduledProcedureStep", 0x00400400, ValueRepresentation.LT, 1);
+        addEntry("CompensatorColumnOffset", 0x300A02E5, ValueRepresentation.FL, 1);
+        addEntry("CompensatorColumns", 0x300A00E8, ValueRepresentation.IS, 1);
+        addEntry("CompensatorDescription", 0x300A02EB, ValueRepresentation.LT, 1);
+        addEntry("CompensatorDivergence", 0x300A02E0, ValueRepresentation.CS, 1);
+        addEntry("CompensatorID", 0x300A00E5, ValueRepresentation.SH, 1);
+        addEntry("CompensatorMillingToolDiameter", 0x300A02E8, ValueRepresentation.FL, 1);
+        addEntry("CompensatorMountingPosition", 0x300A02E1, ValueRepresentation.CS, 1);
+        addEntry("CompensatorNumber", 0x300A00E4, ValueRepresentation.IS, 1);
+        addEntry("CompensatorPixelSpacing", 0x300A00E9, ValueRepresentation.DS, 2);
+        addEntry("CompensatorPosition", 0x300A00EA, ValueRepresentation.DS, 2);
+        addEntry("CompensatorRelativeStoppingPowerRatio", 0x300A02E7, ValueRepresentation.FL, 1);
+        addEntry("CompensatorRows", 0x300A00E7, ValueRepresentation.IS, 1);
+        addEntry("CompensatorSequence", 0x300A00E3, ValueRepresentation.SQ, 1);
+        addEntry("CompensatorThicknessData", 0x300A00EC, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("CompensatorTransmissionData", 0x300A00EB, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("CompensatorType", 0x300A00EE, ValueRepresentation.CS, 1);
+        addEntry("CompletionFlag", 0x0040A491, ValueRepresentation.CS, 1);
+        addEntry("CompletionFlagDescription", 0x0040A492, ValueRepresentation.LO, 1);
+        addEntry("ComplexImageComponent", 0x00089208, ValueRepresentation.CS, 1);
+        addEntry("CompoundGraphicInstanceID", 0x00700226, ValueRepresentation.UL, 1);
+        addEntry("CompoundGraphicSequence", 0x00700209, ValueRepresentation.SQ, 1);
+        addEntry("CompoundGraphicType", 0x00700294, ValueRepresentation.CS, 1);
+        addEntry("CompoundGraphicUnits", 0x00700282, ValueRepresentation.CS, 1);
+        addEntry("CompressionCode", 0x00280060, ValueRepresentation.CS, 1);
+        addEntry("CompressionDescription", 0x00280063, ValueRepresentation.SH, 1);
+        addEntry("CompressionForce", 0x001811A2, ValueRepresentation.DS, 1);
+        addEntry("CompressionLabel", 0x00280062, ValueRepresentation.LO, 1);
+        addEntry("CompressionOriginator", 0x00280061, ValueRepresentation.SH, 1);
+        addEntry("CompressionRecognitionCode", 0x0028005F, ValueRepresentation.LO, 1);
+        addEntry("CompressionSequence", 0x00280065, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("CompressionStepPointers", 0x00280066, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("ConcatenationFrameOffsetNumber", 0x00209228, ValueRepresentation.UL, 1);
+        addEntry("ConcatenationUID", 0x00209161, ValueRepresentation.UI, 1);
+        addEntry("ConceptCodeSequence", 0x0040A168, ValueRepresentation.SQ, 1);
+        addEntry("ConceptNameCodeSequence", 0x0040A043, ValueRepresentation.SQ, 1);
+        addEntry("ConfidentialityCode", 0x00401008, ValueRepresentation.LO, 1);
+        addEntry("ConfidentialityConstraintOnPatientDataDescription", 0x00403001, ValueRepresentation.LO, 1);
+        addEntry("ConfigurationInformation", 0x20100150, ValueRepresentation.ST, 1);
+        addEntry("ConfigurationInformationDescription", 0x20100152, ValueRepresentation.LT, 1);
+        addEntry("ConsentForClinicalTrialUseSequence", 0x00120083, ValueRepresentation.SQ, 1);
+        addEntry("ConsentForDistributionFlag", 0x00120085, ValueRepresentation.CS, 1);
+        addEntry("ConstantVolumeFlag", 0x00189333, ValueRepresentation.CS, 1);
+        addEntry("ConstraintWeight", 0x300A0021, ValueRepresentation.DS, 1);
+        addEntry("ContactDisplayName", 0x0074100C, ValueRepresentation.LO, 1);
+        addEntry("ContactURI", 0x0074100A, ValueRepresentation.ST, 1);
+        addEntry("ContainerComponentDescription", 0x0050001E, ValueRepresentation.LO, 1);
+        addEntry("ContainerComponentDiameter", 0x0050001D, ValueRepresentation.FD, 1);
+        addEntry("ContainerComponentID", 0x0050001B, ValueRepresentation.LO, 1);
+        addEntry("ContainerComponentLength", 0x0050001C, ValueRepresentation.FD, 1);
+        addEntry("ContainerComponentMaterial", 0x0050001A, ValueRepresentation.CS, 1);
+        addEntry("ContainerComponentSequence", 0x00400520, ValueRepresentation.SQ, 1);
+        addEntry("ContainerComponentThickness", 0x00500013, ValueRepresentation.FD, 1);
+        addEntry("ContainerComponentTypeCodeSequence", 0x00500012, ValueRepresentation.SQ, 1);
+        addEntry("ContainerComponentWidth", 0x00500015, ValueRepresentation.FD, 1);
+        addEntry("ContainerDescription", 0x0040051A, ValueRepresentation.LO, 1);
+        addEntry("ContainerIdentifier", 0x00400512, ValueRepresentation.LO, 1);
+        addEntry("ContainerTypeCodeSequence", 0x00400518, ValueRepresentation.SQ, 1);
+        addEntry("ContentCreatorIdentificationCodeSequence", 0x00700086, ValueRepresentation.SQ, 1);
+        addEntry("ContentCreatorName", 0x00700084, ValueRepresentation.PN, 1);
+        addEntry("ContentDate", 0x00080023, ValueRepresentation.DA, 1);
+        addEntry("ContentDescription", 0x00700081, ValueRepresentation.LO, 1);
+        addEntry("ContentItemModifierSequence", 0x00400441, ValueRepresentation.SQ, 1);
+        addEntry("ContentLabel", 0x00700080, ValueRepresentation.CS, 1);
+        addEntry("ContentQualification", 0x00189004, ValueRepresentation.CS, 1);
+        addEntry("ContentSequence", 0x0040A730, ValueRepresentation.SQ, 1);
+        addEntry("ContentTemplateSequence", 0x0040A504, ValueRepresentation.SQ, 1);
+        addEntry("ContentTime", 0x00080033, ValueRepresentation.TM, 1);
+        addEntry("ContextGroupExtensionCreatorUID", 0x0008010D, ValueRepresentation.UI, 1);
+        addEntry("ContextGroupExtensionFlag", 0x0008010B, ValueRepresentation.CS, 1);
+        addEntry("ContextGroupLocalVersion", 0x00080107, ValueRepresentation.DT, 1);
+        addEntry("ContextGroupVersion", 0x00080106, ValueRepresentation.DT, 1);
+        addEntry("ContextIdentifier", 0x0008010F, ValueRepresentation.CS, 1);
+        addEntry("ContextUID", 0x00080117, ValueRepresentation.UI, 1);
+        addEntry("ContinuityOfContent", 0x0040A050, ValueRepresentation.CS, 1);
+        addEntry("ContourData", 0x30060050, ValueRepresentation.DS, 3, Integer.MAX_VALUE / 3);
+        addEntry("ContourGeometricType", 0x30060042, ValueRepresentation.CS, 1);
+        addEntry("ContourImageSequence", 0x30060016, ValueRepresentation.SQ, 1);
+        addEntry("ContourNumber", 0x30060048, ValueRepresentation.IS, 1);
+        addEntry("ContourOffsetVector", 0x30060045, ValueRepresentation.DS, 3);
+        addEntry("ContourSequence", 0x30060040, ValueRepresentation.SQ, 1);
+        addEntry("ContourSlabThickness", 0x30060044, ValueRepresentation.DS, 1);
+        addEntry("ContourUncertaintyRadius", 0x00700312, ValueRepresentation.FD, 1);
+        addEntry("ContrastAdministrationProfileSequence", 0x00189340, ValueRepresentation.SQ, 1);
+        addEntry("ContrastBolusAdministrationRouteSequence", 0x00180014, ValueRepresentation.SQ, 1);
+        addEntry("ContrastBolusAgent", 0x00180010, ValueRepresentation.LO, 1);
+        addEntry("ContrastBolusAgentAdministered", 0x00189342, ValueRepresentation.CS, 1);
+        addEntry("ContrastBolusAgentDetected", 0x00189343, ValueRepresentation.CS, 1);
+        addEntry("ContrastBolusAgentNumber", 0x00189337, ValueRepresentation.US, 1);
+        addEntry("ContrastBolusAgentPhase", 0x00189344, ValueRepresentation.CS, 1);
+        addEntry("ContrastBolusAgentSequence", 0x00180012, ValueRepresentation.SQ, 1);
+        addEntry("ContrastBolusIngredient", 0x00181048, ValueRepresentation.CS, 1);
+        addEntry("ContrastBolusIngredientCodeSequence", 0x00189338, ValueRepresentation.SQ, 1);
+        addEntry("ContrastBolusIngredientConcentration", 0x00181049, ValueRepresentation.DS, 1);
+        addEntry("ContrastBolusIngredientOpaque", 0x00189425, ValueRepresentation.CS, 1);
+        addEntry("ContrastBolusRoute", 0x00181040, ValueRepresentation.LO, 1);
+        addEntry("ContrastBolusStartTime", 0x00181042, ValueRepresentation.TM, 1);
+        addEntry("ContrastBolusStopTime", 0x00181043, ValueRepresentation.TM, 1);
+        addEntry("ContrastBolusTotalDose", 0x00181044, ValueRepresentation.DS, 1);
+        addEntry("ContrastBolusUsageSequence", 0x00189341, ValueRepresentation.SQ, 1);
+        addEntry("ContrastBolusVolume", 0x00181041, ValueRepresentation.DS, 1);
+        addEntry("ContrastFlowDuration", 0x00181047, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("ContrastFlowRate", 0x00181046, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("ContrastFrameAveraging", 0x00286112, ValueRepresentation.US, 1);
+        addEntry("ContributingEquipmentSequence", 0x0018A001, ValueRepresentation.SQ, 1);
+        addEntry("ContributingSOPInstancesReferenceSequence", 0x00209529, ValueRepresentation.SQ, 1);
+        addEntry("ContributingSourcesSequence", 0x00189506, ValueRepresentation.SQ, 1);
+        addEntry("ContributionDateTime", 0x0018A002, ValueRepresentation.DT, 1);
+        addEntry("ContributionDescription", 0x0018A003, ValueRepresentation.ST, 1);
+        addEntry("ControlPoint", 0x300A02D4, ValueRepresentation.DS, 3);
+        addEntry("ControlPointDeliverySequence", 0x30080040, ValueRepresentation.SQ, 1);
+        addEntry("ControlPointIndex", 0x300A0112, ValueRepresentation.IS, 1);
+        addEntry("ControlPointOrientation", 0x300A0412, ValueRepresentation.FL, 3);
+        addEntry("ControlPointRelativePosition", 0x300A02D2, ValueRepresentation.DS, 1);
+        addEntry("ControlPointSequence", 0x300A0111, ValueRepresentation.SQ, 1);
+        addEntry("ConventionalControlPointVerificationSequence", 0x0074104C, ValueRepresentation.SQ, 1);
+        addEntry("ConventionalMachineVerificationSequence", 0x00741044, ValueRepresentation.SQ, 1);
+        addEntry("ConversionType", 0x00080064, ValueRepresentation.CS, 1);
+        addEntry("ConvolutionKernel", 0x00181210, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("ConvolutionKernelGroup", 0x00189316, ValueRepresentation.CS, 1);
+        addEntry("CoordinateStartValue", 0x50000112, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("CoordinateStepValue", 0x50000114, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("CoordinateSystemAxisCodeSequence", 0x004008DA, ValueRepresentation.SQ, 1);
+        addEntry("Copies", 0x00005170, ValueRepresentation.IS, 1);
+        addEntry("CornealSize", 0x00460046, ValueRepresentation.FD, 1);
+        addEntry("CorrectedImage", 0x00280051, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("CorrectedParameterSequence", 0x30080068, ValueRepresentation.SQ, 1);
+        addEntry("CorrectionValue", 0x3008006A, ValueRepresentation.FL, 1);
+        addEntry("CountLossNormalizationCorrected", 0x00189764, ValueRepresentation.CS, 1);
+        addEntry("CountRate", 0x00181243, ValueRepresentation.IS, 1);
+        addEntry("CountryOfResidence", 0x00102150, ValueRepresentation.LO, 1);
+        addEntry("CountsAccumulated", 0x00180070, ValueRepresentation.IS, 1);
+        addEntry("CountsIncluded", 0x00541400, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("CountsSource", 0x00541002, ValueRepresentation.CS, 1);
+        addEntry("CoverageOfKSpace", 0x00189094, ValueRepresentation.CS, 1);
+        addEntry("CranialThermalIndex", 0x00185026, ValueRepresentation.DS, 1);
+        addEntry("CreationDate", 0x21000040, ValueRepresentation.DA, 1);
+        addEntry("CreationTime", 0x21000050, ValueRepresentation.TM, 1);
+        addEntry("CreatorVersionUID", 0x00089123, ValueRepresentation.UI, 1);
+        addEntry("CSSFontName", 0x00700229, ValueRepresentation.LO, 1);
+        addEntry("CTAcquisitionDetailsSequence", 0x00189304, ValueRepresentation.SQ, 1);
+        addEntry("CTAcquisitionTypeSequence", 0x00189301, ValueRepresentation.SQ, 1);
+        addEntry("CTAdditionalXRaySourceSequence", 0x00189360, ValueRepresentation.SQ, 1);
+        addEntry("CTDIPhantomTypeCodeSequence", 0x00189346, ValueRepresentation.SQ, 1);
+        addEntry("CTDIvol", 0x00189345, ValueRepresentation.FD, 1);
+        addEntry("CTExposureSequence", 0x00189321, ValueRepresentation.SQ, 1);
+        addEntry("CTGeometrySequence", 0x00189312, ValueRepresentation.SQ, 1);
+        addEntry("CTImageFrameTypeSequence", 0x00189329, ValueRepresentation.SQ, 1);
+        addEntry("CTPositionSequence", 0x00189326, ValueRepresentation.SQ, 1);
+        addEntry("CTReconstructionSequence", 0x00189314, ValueRepresentation.SQ, 1);
+        addEntry("CTTableDynamicsSequence", 0x00189308, ValueRepresentation.SQ, 1);
+        addEntry("CTXRayDetailsSequence", 0x00189325, ValueRepresentation.SQ, 1);
+        addEntry("CumulativeDoseReferenceCoefficient", 0x300A010C, ValueRepresentation.DS, 1);
+        addEntry("CumulativeDoseToDoseReference", 0x30080052, ValueRepresentation.DS, 1);
+        addEntry("CumulativeMetersetWeight", 0x300A0134, ValueRepresentation.DS, 1);
+        addEntry("CumulativeTimeWeight", 0x300A02D6, ValueRepresentation.DS, 1);
+        addEntry("CurrentFractionNumber", 0x30080022, ValueRepresentation.IS, 1);
+        addEntry("CurrentPatientLocation", 0x00380300, ValueRepresentation.LO, 1);
+        addEntry("CurrentRequestedProcedureEvidenceSequence", 0x0040A375, ValueRepresentation.SQ, 1);
+        addEntry("CurrentTreatmentStatus", 0x30080200, ValueRepresentation.CS, 1);
+        addEntry("CurveActivationLayer", 0x50001001, ValueRepresentation.CS, 1);
+        addEntry("CurveData", 0x50003000, new ValueRepresentation[] { ValueRepresentation.OW, ValueRepresentation.OB }, 1, 1);
+        addEntry("CurveDataDescriptor", 0x50000110, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("CurveDate", 0x00080025, ValueRepresentation.DA, 1);
+        addEntry("CurveDescription", 0x50000022, ValueRepresentation.LO, 1);
+        addEntry("CurveDimensions", 0x50000005, ValueRepresentation.US, 1);
+        addEntry("CurveLabel", 0x50002500, ValueRepresentation.LO, 1);
+        addEntry("CurveNumber", 0x00200024, ValueRepresentation.IS, 1);
+        addEntry("CurveRange", 0x50000106, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("CurveReferencedOverlayGroup", 0x50002610, ValueRepresentation.US, 1);
+        addEntry("CurveReferencedOverlaySequence", 0x50002600, ValueRepresentation.SQ, 1);
+        addEntry("CurveTime", 0x00080035, ValueRepresentation.TM, 1);
+        addEntry("CustodialOrganizationSequence", 0x0040A07C, ValueRepresentation.SQ, 1);
+        addEntry("CylinderAxis", 0x00220009, ValueRepresentation.FL, 1);
+        addEntry("CylinderLensPower", 0x00220008, ValueRepresentation.FL, 1);
+        addEntry("CylinderPower", 0x00460147, ValueRepresentation.FD, 1);
+        addEntry("CylinderSequence", 0x00460018, ValueRepresentation.SQ, 1);
+        addEntry("DataBlock", 0x00280702, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("DataBlockDescription", 0x00280701, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("DataCollectionCenterPatient", 0x00189313, ValueRepresentation.FD, 3);
+        addEntry("DataCollectionDiameter", 0x00180090, ValueRepresentation.DS, 1);
+        addEntry("DataElementsSigned", 0x04000020, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("DataFrameAssignmentSequence", 0x00281401, ValueRepresentation.SQ, 1);
+        addEntry("DataInformationSequence", 0x00540063, ValueRepresentation.SQ, 1);
+        addEntry("DataPathAssignment", 0x00281402, ValueRepresentation.CS, 1);
+        addEntry("DataPathID", 0x0028140E, ValueRepresentation.CS, 1);
+        addEntry("DataPointColumns", 0x00289002, ValueRepresentation.UL, 1);
+        addEntry("DataPointRows", 0x00289001, ValueRepresentation.UL, 1);
+        addEntry("DataRepresentation", 0x00289108, ValueRepresentation.CS, 1);
+        addEntry("DataSetSubtype", 0x00080041, ValueRepresentation.LO, 1);
+        addEntry("DataSetTrailingPadding", 0xFFFCFFFC, ValueRepresentation.OB, 1);
+        addEntry("DataSetType", 0x00080040, ValueRepresentation.US, 1);
+        addEntry("DataType", 0x00189808, ValueRepresentation.CS, 1);
+        addEntry("DataValueRepresentation", 0x50000103, ValueRepresentation.US, 1);
+        addEntry("Date", 0x0040A121, ValueRepresentation.DA, 1);
+        addEntry("DateOfLastCalibration", 0x00181200, ValueRepresentation.DA, 1, Integer.MAX_VALUE);
+        addEntry("DateOfLastDetectorCalibration", 0x0018700C, ValueRepresentation.DA, 1);
+        addEntry("DateOfSecondaryCapture", 0x00181012, ValueRepresentation.DA, 1);
+        addEntry("DateTime", 0x0040A120, ValueRepresentation.DT, 1);
+        addEntry("dBdt", 0x00181318, ValueRepresentation.DS, 1);
+        addEntry("DCTLabel", 0x00280700, ValueRepresentation.LO, 1);
+        addEntry("DeadTimeCorrected", 0x00189761, ValueRepresentation.CS, 1);
+        addEntry("DeadTimeCorrectionFlag", 0x00541401, ValueRepresentation.CS, 1);
+        addEntry("DeadTimeFactor", 0x00541324, ValueRepresentation.DS, 1);
+        addEntry("DecayCorrected", 0x00189758, ValueRepresentation.CS, 1);
+        addEntry("DecayCorrection", 0x00541102, ValueRepresentation.CS, 1);
+        addEntry("DecayCorrectionDateTime", 0x00189701, ValueRepresentation.DT, 1);
+        addEntry("DecayFactor", 0x00541321, ValueRepresentation.DS, 1);
+        addEntry("DecimalVisualAcuity", 0x00460137, ValueRepresentation.FD, 1);
+        addEntry("DecimateCropResult", 0x202000A2, ValueRepresentation.CS, 1);
+        addEntry("DecoupledNucleus", 0x00189060, ValueRepresentation.CS, 1, 2);
+        addEntry("Decoupling", 0x00189059, ValueRepresentation.CS, 1);
+        addEntry("DecouplingChemicalShiftReference", 0x00189063, ValueRepresentation.FD, 1, 2);
+        addEntry("DecouplingFrequency", 0x00189061, ValueRepresentation.FD, 1, 2);
+        addEntry("DecouplingMethod", 0x00189062, ValueRepresentation.CS, 1);
+        addEntry("DefaultMagnificationType", 0x201000A6, ValueRepresentation.CS, 1);
+        addEntry("DefaultPrinterResolutionID", 0x20100054, ValueRepresentation.CS, 1);
+        addEntry("DefaultSmoothingType", 0x201000A8, ValueRepresentation.CS, 1);
+        addEntry("DeformableRegistrationGridSequence", 0x00640005, ValueRepresentation.SQ, 1);
+        addEntry("DeformableRegistrationSequence", 0x00640002, ValueRepresentation.SQ, 1);
+        addEntry("DegreeOfDilation", 0x0022000E, ValueRepresentation.FL, 1);
+        addEntry("DeidentificationMethod", 0x00120063, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("DeidentificationMethodCodeSequence", 0x00120064, ValueRepresentation.SQ, 1);
+        addEntry("DeletionLock", 0x00741230, ValueRepresentation.LO, 1);
+        addEntry("DeliveredChannelTotalTime", 0x30080134, ValueRepresentation.DS, 1);
+        addEntry("DeliveredMeterset", 0x30080044, ValueRepresentation.DS, 1);
+        addEntry("DeliveredNumberOfPulses", 0x30080138, ValueRepresentation.IS, 1);
+        addEntry("DeliveredPrimaryMeterset", 0x30080036, ValueRepresentation.DS, 1);
+        addEntry("DeliveredPulseRepetitionInterval", 0x3008013C, ValueRepresentation.DS, 1);
+        addEntry("DeliveredSecondaryMeterset", 0x30080037, ValueRepresentation.DS, 1);
+        addEntry("DeliveredTreatmentTime", 0x3008003B, ValueRepresentation.DS, 1);
+        addEntry("DeliveryMaximumDose", 0x300A0023, ValueRepresentation.DS, 1);
+        addEntry("DeliveryVerificationImageSequence", 0x00741030, ValueRepresentation.SQ, 1);
+        addEntry("DeliveryWarningDose", 0x300A0022, ValueRepresentation.DS, 1);
+        addEntry("DepthOfScanField", 0x00185050, ValueRepresentation.IS, 1);
+        addEntry("DepthOfTransverseImage", 0x00220041, ValueRepresentation.FL, 1);
+        addEntry("DepthsOfFocus", 0x00189801, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
+        addEntry("DepthSpatialResolution", 0x00220035, ValueRepresentation.FL, 1);
+        addEntry("DerivationCodeSequence", 0x00089215, ValueRepresentation.SQ, 1);
+        addEntry("DerivationDescription", 0x00082111, ValueRepresentation.ST, 1);
+        addEntry("DerivationImageSequence", 0x00089124, ValueRepresentation.SQ, 1);
+        addEntry("DestinationAE", 0x21000140, ValueRepresentation.AE, 1);
+        addEntry("DetailsOfCoefficients", 0x00280404, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("DetectorActivationOffsetFromExposure", 0x00187016, ValueRepresentation.DS, 1);
+        addEntry("DetectorActiveDimensions", 0x00187026, ValueRepresentation.DS, 1, 2);
+        addEntry("DetectorActiveOrigin", 0x00187028, ValueRepresentation.DS, 2);
+        addEntry("DetectorActiveShape", 0x00187024, ValueRepresentation.CS, 1);
+        addEntry("DetectorActiveTime", 0x00187014, ValueRepresentation.DS, 1);
+        addEntry("DetectorBinning", 0x0018701A, ValueRepresentation.DS, 2);
+        addEntry("DetectorConditionsNominalFlag", 0x00187000, ValueRepresentation.CS, 1);
+        addEntry("DetectorConfiguration", 0x00187005, ValueRepresentation.CS, 1);
+        addEntry("DetectorDescription", 0x00187006, ValueRepresentation.LT, 1);
+        addEntry("DetectorElementPhysicalSize", 0x00187020, ValueRepresentation.DS, 2);
+        addEntry("DetectorElementSize", 0x00541203, ValueRepresentation.DS, 2);
+        addEntry("DetectorElementSpacing", 0x00187022, ValueRepresentation.DS, 2);
+        addEntry("DetectorGeometry", 0x00189725, ValueRepresentation.CS, 1);
+        addEntry("DetectorID", 0x0018700A, ValueRepresentation.SH, 1);
+        addEntry("DetectorInformationSequence", 0x00540022, ValueRepresentation.SQ, 1);
+        addEntry("DetectorLinesOfResponseUsed", 0x00541104, ValueRepresentation.LO, 1);
+        addEntry("DetectorManufacturerModelName", 0x0018702B, ValueRepresentation.LO, 1);
+        addEntry("DetectorManufacturerName", 0x0018702A, ValueRepresentation.LO, 1);
+        addEntry("DetectorMode", 0x00187008, ValueRepresentation.LT, 1);
+        addEntry("DetectorNormalizationCorrection", 0x00189768, ValueRepresentation.CS, 1);
+        addEntry("DetectorPrimaryAngle", 0x00181530, ValueRepresentation.DS, 1);
+        addEntry("DetectorSecondaryAngle", 0x00181531, ValueRepresentation.DS, 1);
+        addEntry("DetectorTemperature", 0x00187001, ValueRepresentation.DS, 1);
+        addEntry("DetectorTimeSinceLastExposure", 0x00187012, ValueRepresentation.DS, 1);
+        addEntry("DetectorType", 0x00187004, ValueRepresentation.CS, 1);
+        addEntry("DetectorVector", 0x00540020, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("DeviationIndex", 0x00181413, ValueRepresentation.DS, 1);
+        addEntry("DeviceDescription", 0x00500020, ValueRepresentation.LO, 1);
+        addEntry("DeviceDiameter", 0x00500016, ValueRepresentation.DS, 1);
+        addEntry("DeviceDiameterUnits", 0x00500017, ValueRepresentation.CS, 1);
+        addEntry("DeviceID", 0x00181003, ValueRepresentation.LO, 1);
+        addEntry("DeviceLength", 0x00500014, ValueRepresentation.DS, 1);
+        addEntry("DeviceSequence", 0x00500010, ValueRepresentation.SQ, 1);
+        addEntry("DeviceSerialNumber", 0x00181000, ValueRepresentation.LO, 1);
+        addEntry("DeviceUID", 0x00181002, ValueRepresentation.UI, 1);
+        addEntry("DeviceVolume", 0x00500018, ValueRepresentation.DS, 1);
+        addEntry("DialogReceiver", 0x00004000, ValueRepresentation.AT, 1);
+        addEntry("DiameterOfVisibility", 0x00700262, ValueRepresentation.FL, 1);
+        addEntry("DiaphragmPosition", 0x30020034, ValueRepresentation.DS, 4);
+        addEntry("DiffusionAnisotropyType", 0x00189147, ValueRepresentation.CS, 1);
+        addEntry("DiffusionBMatrixSequence", 0x00189601, ValueRepresentation.SQ, 1);
+        addEntry("DiffusionBValue", 0x00189087, ValueRepresentation.FD, 1);
+        addEntry("DiffusionBValueXX", 0x00189602, ValueRepresentation.FD, 1);
+        addEntry("DiffusionBValueXY", 0x00189603, ValueRepresentation.FD, 1);
+        addEntry("DiffusionBValueXZ", 0x00189604, ValueRepresentation.FD, 1);
+        addEntry("DiffusionBValueYY", 0x00189605, ValueRepresentation.FD, 1);
+        addEntry("DiffusionBValueYZ", 0x00189606, ValueRepresentation.FD, 1);
+        addEntry("DiffusionBValueZZ", 0x00189607, ValueRepresentation.FD, 1);
+        addEntry("DiffusionDirectionality", 0x00189075, ValueRepresentation.CS, 1);
+        addEntry("DiffusionGradientDirectionSequence", 0x00189076, ValueRepresentation.SQ, 1);
+        addEntry("DiffusionGradientOrientation", 0x00189089, ValueRepresentation.FD, 3);
+        addEntry("DigitalImageFormatAcquired", 0x00181023, ValueRepresentation.LO, 1);
+        addEntry("DigitalSignatureDateTime", 0x04000105, ValueRepresentation.DT, 1);
+        addEntry("DigitalSignaturePurposeCodeSequence", 0x04000401, ValueRepresentation.SQ, 1);
+        addEntry("DigitalSignaturesSequence", 0xFFFAFFFA, ValueRepresentation.SQ, 1);
+        addEntry("DigitalSignatureUID", 0x04000100, ValueRepresentation.UI, 1);
+        addEntry("DigitizingDeviceTransportDirection", 0x00182020, ValueRepresentation.CS, 1);
+        addEntry("DimensionDescriptionLabel", 0x00209421, ValueRepresentation.LO, 1);
+        addEntry("DimensionIndexPointer", 0x00209165, ValueRepresentation.AT, 1);
+        addEntry("DimensionIndexPrivateCreator", 0x00209213, ValueRepresentation.LO, 1);
+        addEntry("DimensionIndexSequence", 0x00209222, ValueRepresentation.SQ, 1);
+        addEntry("DimensionIndexValues", 0x00209157, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
+        addEntry("DimensionOrganizationSequence", 0x00209221, ValueRepresentation.SQ, 1);
+        addEntry("DimensionOrganizationType", 0x00209311, ValueRepresentation.CS, 1);
+        addEntry("DimensionOrganizationUID", 0x00209164, ValueRepresentation.UI, 1);
+        addEntry("DirectoryRecordSequence", 0x00041220, ValueRepresentation.SQ, 1);
+        addEntry("DirectoryRecordType", 0x00041430, ValueRepresentation.CS, 1);
+        addEntry("DischargeDate", 0x00380030, ValueRepresentation.DA, 1);
+        addEntry("DischargeDiagnosisCodeSequence", 0x00380044, ValueRepresentation.SQ, 1);
+        addEntry("DischargeDiagnosisDescription", 0x00380040, ValueRepresentation.LO, 1);
+        addEntry("DischargeTime", 0x00380032, ValueRepresentation.TM, 1);
+        addEntry("DisplayedAreaBottomRightHandCorner", 0x00700053, ValueRepresentation.SL, 2);
+        addEntry("DisplayedAreaBottomRightHandCornerTrial", 0x00700051, ValueRepresentation.US, 2);
+        addEntry("DisplayedAreaSelectionSequence", 0x0070005A, ValueRepresentation.SQ, 1);
+        addEntry("DisplayedAreaTopLeftHandCorner", 0x00700052, ValueRepresentation.SL, 2);
+        addEntry("DisplayedAreaTopLeftHandCornerTrial", 0x00700050, ValueRepresentation.US, 2);
+        addEntry("DisplayEnvironmentSpatialPosition", 0x00720108, ValueRepresentation.FD, 4);
+        addEntry("DisplayFilterPercentage", 0x00289411, ValueRepresentation.FL, 1);
+        addEntry("DisplayFormat", 0x00005110, ValueRepresentation.AT, 1);
+        addEntry("DisplaySetHorizontalJustification", 0x00720717, ValueRepresentation.CS, 1);
+        addEntry("DisplaySetLabel", 0x00720203, ValueRepresentation.LO, 1);
+        addEntry("DisplaySetNumber", 0x00720202, ValueRepresentation.US, 1);
+        addEntry("DisplaySetPatientOrientation", 0x00720700, ValueRepresentation.CS, 2);
+        addEntry("DisplaySetPresentationGroup", 0x00720204, ValueRepresentation.US, 1);
+        addEntry("DisplaySetPresentationGroupDescription", 0x00720206, ValueRepresentation.LO, 1);
+        addEntry("DisplaySetScrollingGroup", 0x00720212, ValueRepresentation.US, 2, Integer.MAX_VALUE);
+        addEntry("DisplaySetsSequence", 0x00720200, ValueRepresentation.SQ, 1);
+        addEntry("DisplaySetVerticalJustification", 0x00720718, ValueRepresentation.CS, 1);
+        addEntry("DisplayShadingFlag", 0x003A0246, ValueRepresentation.CS, 1);
+        addEntry("DisplayWindowLabelVector", 0x00182006, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("DistanceObjectToTableTop", 0x00189403, ValueRepresentation.FL, 1);
+        addEntry("DistancePupillaryDistance", 0x00460060, ValueRepresentation.FD, 1);
+        addEntry("DistanceReceptorPlaneToDetectorHousing", 0x00189426, ValueRepresentation.FL, 1);
+        addEntry("DistanceSourceToDataCollectionCenter", 0x00189335, ValueRepresentation.FD, 1);
+        addEntry("DistanceSourceToDetector", 0x00181110, ValueRepresentation.DS, 1);
+        addEntry("DistanceSourceToEntrance", 0x00400306, ValueRepresentation.DS, 1);
+        addEntry("DistanceSourceToIsocenter", 0x00189402, ValueRepresentation.FL, 1);
+        addEntry("DistanceSourceToPatient", 0x00181111, ValueRepresentation.DS, 1);
+        addEntry("DistanceSourceToSupport", 0x00400307, ValueRepresentation.DS, 1);
+        addEntry("DistributionAddress", 0x4008011A, ValueRepresentation.LO, 1);
+        addEntry("DistributionName", 0x40080119, ValueRepresentation.PN, 1);
+        addEntry("DistributionType", 0x00120084, ValueRepresentation.CS, 1);
+        addEntry("DocumentTitle", 0x00420010, ValueRepresentation.ST, 1);
+        addEntry("DopplerCorrectionAngle", 0x00186034, ValueRepresentation.FD, 1);
+        addEntry("DopplerSampleVolumeXPosition", 0x00186039, ValueRepresentation.SL, 1);
+        addEntry("DopplerSampleVolumeXPositionRetired", 0x00186038, ValueRepresentation.UL, 1);
+        addEntry("DopplerSampleVolumeYPosition", 0x0018603B, ValueRepresentation.SL, 1);
+        addEntry("DopplerSampleVolumeYPositionRetired", 0x0018603A, ValueRepresentation.UL, 1);
+        addEntry("DoseCalibrationFactor", 0x00541322, ValueRepresentation.DS, 1);
+        addEntry("DoseComment", 0x30040006, ValueRepresentation.LO, 1);
+        addEntry("DoseGridScaling", 0x3004000E, ValueRepresentation.DS, 1);
+        addEntry("DoseRateDelivered", 0x30080048, ValueRepresentation.DS, 1);
+        addEntry("DoseRateSet", 0x300A0115, ValueRepresentation.DS, 1);
+        addEntry("DoseReferenceDescription", 0x300A0016, ValueRepresentation.LO, 1);
+        addEntry("DoseReferenceNumber", 0x300A0012, ValueRepresentation.IS, 1);
+        addEntry("DoseReferencePointCoordinates", 0x300A0018, ValueRepresentation.DS, 3);
+        addEntry("DoseReferenceSequence", 0x300A0010, ValueRepresentation.SQ, 1);
+        addEntry("DoseReferenceStructureType", 0x300A0014, ValueRepresentation.CS, 1);
+        addEntry("DoseReferenceType", 0x300A0020, ValueRepresentation.CS, 1);
+        addEntry("DoseReferenceUID", 0x300A0013, ValueRepresentation.UI, 1);
+        addEntry("DoseSummationType", 0x3004000A, ValueRepresentation.CS, 1);
+        addEntry("DoseType", 0x30040004, ValueRepresentation.CS, 1);
+        addEntry("DoseUnits", 0x30040002, ValueRepresentation.CS, 1);
+        addEntry("DoseValue", 0x30040012, ValueRepresentation.DS, 1);
+        addEntry("DoubleExposureFieldDelta", 0x0074103A, ValueRepresentation.DS, 4);
+        addEntry("DoubleExposureFlag", 0x00741034, ValueRepresentation.CS, 1);
+        addEntry("DoubleExposureMeterset", 0x00741038, ValueRepresentation.DS, 1);
+        addEntry("DoubleExposureOrdering", 0x00741036, ValueRepresentation.CS, 1);
+        addEntry("DVHData", 0x30040058, ValueRepresentation.DS, 2, Integer.MAX_VALUE / 2);
+        addEntry("DVHDoseScaling", 0x30040052, ValueRepresentation.DS, 1);
+        addEntry("DVHMaximumDose", 0x30040072, ValueRepresentation.DS, 1);
+        addEntry("DVHMeanDose", 0x30040074, ValueRepresentation.DS, 1);
+        addEntry("DVHMinimumDose", 0x30040070, ValueRepresentation.DS, 1);
+        addEntry("DVHNormalizationDoseValue", 0x30040042, ValueRepresentation.DS, 1);
+        addEntry("DVHNormalizationPoint", 0x30040040, ValueRepresentation.DS, 3);
+        addEntry("DVHNumberOfBins", 0x30040056, ValueRepresentation.IS, 1);
+        addEntry("DVHReferencedROISequence", 0x30040060, ValueRepresentation.SQ, 1);
+        addEntry("DVHROIContributionType", 0x30040062, ValueRepresentation.CS, 1);
+        addEntry("DVHSequence", 0x30040050, ValueRepresentation.SQ, 1);
+        addEntry("DVHType", 0x30040001, ValueRepresentation.CS, 1);
+        addEntry("DVHVolumeUnits", 0x30040054, ValueRepresentation.CS, 1);
+        addEntry("DynamicRange", 0x00185030, ValueRepresentation.DS, 1);
+        addEntry("EchoNumbers", 0x00180086, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("EchoPlanarPulseSequence", 0x00189018, ValueRepresentation.CS, 1);
+        addEntry("EchoPulseSequence", 0x00189008, ValueRepresentation.CS, 1);
+        addEntry("EchoTime", 0x00180081, ValueRepresentation.DS, 1);
+        addEntry("EchoTrainLength", 0x00180091, ValueRepresentation.IS, 1);
+        addEntry("EdgePointIndexList", 0x00660024, ValueRepresentation.OW, 1);
+        addEntry("EffectiveDuration", 0x00180072, ValueRepresentation.DS, 1);
+        addEntry("EffectiveEchoTime", 0x00189082, ValueRepresentation.FD, 1);
+        addEntry("EmmetropicMagnification", 0x0022000A, ValueRepresentation.FL, 1);
+        addEntry("EmptyImageBoxCIELabValue", 0x00720421, ValueRepresentation.US, 3);
+        addEntry("EmptyImageDensity", 0x20100110, ValueRepresentation.CS, 1);
+        addEntry("EncapsulatedDocument", 0x00420011, ValueRepresentation.OB, 1);
+        addEntry("EncryptedAttributesSequence", 0x04000500, ValueRepresentation.SQ, 1);
+        addEntry("EncryptedContent", 0x04000520, ValueRepresentation.OB, 1);
+        addEntry("EncryptedContentTransferSyntaxUID", 0x04000510, ValueRepresentation.UI, 1);
+        addEntry("EndAcquisitionDateTime", 0x00189517, ValueRepresentation.DT, 1);
+        addEntry("EndCumulativeMetersetWeight", 0x300C0009, ValueRepresentation.DS, 1);
+        addEntry("EndingRespiratoryAmplitude", 0x00209248, ValueRepresentation.FL, 1);
+        addEntry("EndingRespiratoryPhase", 0x00209249, ValueRepresentation.CS, 1);
+        addEntry("EndMessageID", 0x00005020, ValueRepresentation.SH, 1);
+        addEntry("EndMeterset", 0x3008007A, ValueRepresentation.DS, 1);
+        addEntry("EnergyWeightingFactor", 0x00189353, ValueRepresentation.FL, 1);
+        addEntry("EnergyWindowCenterline", 0x00180032, ValueRepresentation.DS, 1);
+        addEntry("EnergyWindowInformationSequence", 0x00540012, ValueRepresentation.SQ, 1);
+        addEntry("EnergyWindowLowerLimit", 0x00540014, ValueRepresentation.DS, 1);
+        addEntry("EnergyWindowName", 0x00540018, ValueRepresentation.SH, 1);
+        addEntry("EnergyWindowNumber", 0x00540308, ValueRepresentation.US, 1);
+        addEntry("EnergyWindowRangeSequence", 0x00540013, ValueRepresentation.SQ, 1);
+        addEntry("EnergyWindowTotalWidth", 0x00180033, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("EnergyWindowUpperLimit", 0x00540015, ValueRepresentation.DS, 1);
+        addEntry("EnergyWindowVector", 0x00540010, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("EnhancedPaletteColorLookupTableSequence", 0x0028140B, ValueRepresentation.SQ, 1);
+        addEntry("EntranceDose", 0x00400302, ValueRepresentation.US, 1);
+        addEntry("EntranceDoseInmGy", 0x00408302, ValueRepresentation.DS, 1);
+        addEntry("EquipmentCoordinateSystemIdentification", 0x00289537, ValueRepresentation.CS, 1);
+        addEntry("EquivalentCDADocumentSequence", 0x0040A090, ValueRepresentation.SQ, 1);
+        addEntry("Erase", 0x00005190, ValueRepresentation.CS, 1);
+        addEntry("ErrorComment", 0x00000902, ValueRepresentation.LO, 1);
+        addEntry("ErrorID", 0x00000903, ValueRepresentation.US, 1);
+        addEntry("EscapeTriplet", 0x10000000, ValueRepresentation.US, 3);
+        addEntry("EstimatedDoseSaving", 0x00189324, ValueRepresentation.FD, 1);
+        addEntry("EstimatedRadiographicMagnificationFactor", 0x00181114, ValueRepresentation.DS, 1);
+        addEntry("EthnicGroup", 0x00102160, ValueRepresentation.SH, 1);
+        addEntry("EventCodeSequence", 0x00082135, ValueRepresentation.SQ, 1);
+        addEntry("EventElapsedTimes", 0x00082130, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("EventTimeOffset", 0x00082134, ValueRepresentation.FD, 1);
+        addEntry("EventTimerNames", 0x00082132, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("EventTimerSequence", 0x00082133, ValueRepresentation.SQ, 1);
+        addEntry("EventTypeID", 0x00001002, ValueRepresentation.US, 1);
+        addEntry("ExaminedBodyThickness", 0x00109431, ValueRepresentation.FL, 1);
+        addEntry("ExcludedIntervalsSequence", 0x00189803, ValueRepresentation.SQ, 1);
+        addEntry("ExclusionDuration", 0x00189805, ValueRepresentation.FD, 1);
+        addEntry("ExclusionStartDatetime", 0x00189804, ValueRepresentation.DT, 1);
+        addEntry("ExecutionStatus", 0x21000020, ValueRepresentation.CS, 1);
+        addEntry("ExecutionStatusInfo", 0x21000030, ValueRepresentation.CS, 1);
+        addEntry("ExpectedCompletionDateTime", 0x00404011, ValueRepresentation.DT, 1);
+        addEntry("ExposedArea", 0x00400303, ValueRepresentation.US, 1, 2);
+        addEntry("Exposure", 0x00181152, ValueRepresentation.IS, 1);
+        addEntry("ExposureControlMode", 0x00187060, ValueRepresentation.CS, 1);
+        addEntry("ExposureControlModeDescription", 0x00187062, ValueRepresentation.LT, 1);
+        addEntry("ExposureControlSensingRegionLeftVerticalEdge", 0x00189436, ValueRepresentation.SS, 1);
+        addEntry("ExposureControlSensingRegionLowerHorizontalEdge", 0x00189439, ValueRepresentation.SS, 1);
+        addEntry("ExposureControlSensingRegionRightVerticalEdge", 0x00189437, ValueRepresentation.SS, 1);
+        addEntry("ExposureControlSensingRegionShape", 0x00189435, ValueRepresentation.CS, 1);
+        addEntry("ExposureControlSensingRegionsSequence", 0x00189434, ValueRepresentation.SQ, 1);
+        addEntry("ExposureControlSensingRegionUpperHorizontalEdge", 0x00189438, ValueRepresentation.SS, 1);
+        addEntry("ExposureDoseSequence", 0x0040030E, ValueRepresentation.SQ, 1);
+        addEntry("ExposureIndex", 0x00181411, ValueRepresentation.DS, 1);
+        addEntry("ExposureInmAs", 0x00189332, ValueRepresentation.FD, 1);
+        addEntry("ExposureInuAs", 0x00181153, ValueRepresentation.IS, 1);
+        addEntry("ExposureModulationType", 0x00189323, ValueRepresentation.CS, 1);
+        addEntry("ExposureSequence", 0x30020030, ValueRepresentation.SQ, 1);
+        addEntry("ExposuresOnDetectorSinceLastCalibration", 0x00187010, ValueRepresentation.IS, 1);
+        addEntry("ExposuresOnDetectorSinceManufactured", 0x00187011, ValueRepresentation.IS, 1);
+        addEntry("ExposuresOnPlate", 0x00181404, ValueRepresentation.US, 1);
+        addEntry("ExposureStatus", 0x00187064, ValueRepresentation.CS, 1);
+        addEntry("ExposureTime", 0x00181150, ValueRepresentation.IS, 1);
+        addEntry("ExposureTimeInms", 0x00189328, ValueRepresentation.FD, 1);
+        addEntry("ExposureTimeInuS", 0x00188150, ValueRepresentation.DS, 1);
+        addEntry("ExtendedOffsetTable", 0x7FE00001, ValueRepresentation.OV, 1);
+        addEntry("ExtendedOffsetTableLengths", 0x7FE00002, ValueRepresentation.OV, 1);
+        addEntry("FacetSequence", 0x00660034, ValueRepresentation.SQ, 1);
+        addEntry("FailedAttributesSequence", 0x00741048, ValueRepresentation.SQ, 1);
+        addEntry("FailedSOPInstanceUIDList", 0x00080058, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
+        addEntry("FailedSOPSequence", 0x00081198, ValueRepresentation.SQ, 1);
+        addEntry("FailureAttributes", 0x2200000E, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("FailureReason", 0x00081197, ValueRepresentation.US, 1);
+        addEntry("FiducialDescription", 0x0070030F, ValueRepresentation.ST, 1);
+        addEntry("FiducialIdentifier", 0x00700310, ValueRepresentation.SH, 1);
+        addEntry("FiducialIdentifierCodeSequence", 0x00700311, ValueRepresentation.SQ, 1);
+        addEntry("FiducialSequence", 0x0070031E, ValueRepresentation.SQ, 1);
+        addEntry("FiducialSetSequence", 0x0070031C, ValueRepresentation.SQ, 1);
+        addEntry("FiducialUID", 0x0070031A, ValueRepresentation.UI, 1);
+        addEntry("FieldOfViewDescription", 0x00189433, ValueRepresentation.LO, 1);
+        addEntry("FieldOfViewDimensions", 0x00181149, ValueRepresentation.IS, 1, 2);
+        addEntry("FieldOfViewDimensionsInFloat", 0x00189461, ValueRepresentation.FL, 1, 2);
+        addEntry("FieldOfViewHorizontalFlip", 0x00187034, ValueRepresentation.CS, 1);
+        addEntry("FieldOfViewOrigin", 0x00187030, ValueRepresentation.DS, 2);
+        addEntry("FieldOfViewRotation", 0x00187032, ValueRepresentation.DS, 1);
+        addEntry("FieldOfViewSequence", 0x00189432, ValueRepresentation.SQ, 1);
+        addEntry("FieldOfViewShape", 0x00181147, ValueRepresentation.CS, 1);
+        addEntry("FileMetaInformationGroupLength", 0x00020000, ValueRepresentation.UL, 1);
+        addEntry("FileMetaInformationVersion", 0x00020001, ValueRepresentation.OB, 1);
+        addEntry("FileSetConsistencyFlag", 0x00041212, ValueRepresentation.US, 1);
+        addEntry("FileSetDescriptorFileID", 0x00041141, ValueRepresentation.CS, 1, 8);
+        addEntry("FileSetID", 0x00041130, ValueRepresentation.CS, 1);
+        addEntry("FillerOrderNumberImagingServiceRequest", 0x00402017, ValueRepresentation.LO, 1);
+        addEntry("FillerOrderNumberImagingServiceRequestRetired", 0x00402007, ValueRepresentation.SH, 1);
+        addEntry("FillerOrderNumberProcedure", 0x00401007, ValueRepresentation.SH, 1);
+        addEntry("FillMode", 0x00700257, ValueRepresentation.CS, 1);
+        addEntry("FillPattern", 0x00700256, ValueRepresentation.OB, 1);
+        addEntry("FillStyleSequence", 0x00700233, ValueRepresentation.SQ, 1);
+        addEntry("FilmBoxContentSequence", 0x21300030, ValueRepresentation.SQ, 1);
+        addEntry("FilmConsumptionSequence", 0x00400321, ValueRepresentation.SQ, 1);
+        addEntry("FilmDestination", 0x20000040, ValueRepresentation.CS, 1);
+        addEntry("FilmOrientation", 0x20100040, ValueRepresentation.CS, 1);
+        addEntry("FilmSessionLabel", 0x20000050, ValueRepresentation.LO, 1);
+        addEntry("FilmSizeID", 0x20100050, ValueRepresentation.CS, 1);
+        addEntry("FilterBeamPathLengthMaximum", 0x00187058, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("FilterBeamPathLengthMinimum", 0x00187056, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("FilterByAttributePresence", 0x00720404, ValueRepresentation.CS, 1);
+        addEntry("FilterByCategory", 0x00720402, ValueRepresentation.CS, 1);
+        addEntry("FilterByOperator", 0x00720406, ValueRepresentation.CS, 1);
+        addEntry("FilterHighFrequency", 0x003A0221, ValueRepresentation.DS, 1);
+        addEntry("FilterLowFrequency", 0x003A0220, ValueRepresentation.DS, 1);
+        addEntry("FilterMaterial", 0x00187050, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("FilterOperationsSequence", 0x00720400, ValueRepresentation.SQ, 1);
+        addEntry("FilterThicknessMaximum", 0x00187054, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("FilterThicknessMinimum", 0x00187052, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("FilterType", 0x00181160, ValueRepresentation.SH, 1);
+        addEntry("FinalCumulativeMetersetWeight", 0x300A010E, ValueRepresentation.DS, 1);
+        addEntry("FinalCumulativeTimeWeight", 0x300A02C8, ValueRepresentation.DS, 1);
+        addEntry("FindLocation", 0x00000400, ValueRepresentation.AE, 1);
+        addEntry("FiniteVolume", 0x0066000E, ValueRepresentation.CS, 1);
+        addEntry("FirstOrderPhaseCorrection", 0x00189198, ValueRepresentation.CS, 1);
+        addEntry("FirstOrderPhaseCorrectionAngle", 0x56000010, ValueRepresentation.OF, 1);
+        addEntry("FirstTreatmentDate", 0x30080054, ValueRepresentation.DA, 1);
+        addEntry("FixationDeviceDescription", 0x300A0196, ValueRepresentation.ST, 1);
+        addEntry("FixationDeviceLabel", 0x300A0194, ValueRepresentation.SH, 1);
+        addEntry("FixationDevicePitchAngle", 0x300A0199, ValueRepresentation.FL, 1);
+        addEntry("FixationDevicePosition", 0x300A0198, ValueRepresentation.SH, 1);
+        addEntry("FixationDeviceRollAngle", 0x300A019A, ValueRepresentation.FL, 1);
+        addEntry("FixationDeviceSequence", 0x300A0190, ValueRepresentation.SQ, 1);
+        addEntry("FixationDeviceType", 0x300A0192, ValueRepresentation.CS, 1);
+        addEntry("FixationLightAzimuthalAngle", 0x300A0356, ValueRepresentation.FL, 1);
+        addEntry("FixationLightPolarAngle", 0x300A0358, ValueRepresentation.FL, 1);
+        addEntry("FlatKeratometricAxisSequence", 0x00460080, ValueRepresentation.SQ, 1);
+        addEntry("FlipAngle", 0x00181314, ValueRepresentation.DS, 1);
+        addEntry("FlowCompensation", 0x00189010, ValueRepresentation.CS, 1);
+        addEntry("FlowCompensationDirection", 0x00189183, ValueRepresentation.CS, 1);
+        addEntry("FluenceDataScale", 0x30020042, ValueRepresentation.DS, 1);
+        addEntry("FluenceDataSource", 0x30020041, ValueRepresentation.CS, 1);
+        addEntry("FluenceMapSequence", 0x30020040, ValueRepresentation.SQ, 1);
+        addEntry("FluenceMode", 0x30020051, ValueRepresentation.CS, 1);
+        addEntry("FluenceModeID", 0x30020052, ValueRepresentation.SH, 1);
+        addEntry("FluoroscopyFlag", 0x00189334, ValueRepresentation.CS, 1);
+        addEntry("FocalDistance", 0x00181182, ValueRepresentation.IS, 1, 2);
+        addEntry("FocalSpots", 0x00181190, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("FocusDepth", 0x00185012, ValueRepresentation.DS, 1);
+        addEntry("FontName", 0x00700227, ValueRepresentation.LO, 1);
+        addEntry("FontNameType", 0x00700228, ValueRepresentation.CS, 1);
+        addEntry("FractionalChannelDisplayScale", 0x003A0247, ValueRepresentation.FL, 1);
+        addEntry("FractionGroupDescription", 0x300A0072, ValueRepresentation.LO, 1);
+        addEntry("FractionGroupNumber", 0x300A0071, ValueRepresentation.IS, 1);
+        addEntry("FractionGroupSequence", 0x300A0070, ValueRepresentation.SQ, 1);
+        addEntry("FractionGroupSummarySequence", 0x30080220, ValueRepresentation.SQ, 1);
+        addEntry("FractionGroupType", 0x30080224, ValueRepresentation.CS, 1);
+        addEntry("FractionNumber", 0x30020029, ValueRepresentation.IS, 1);
+        addEntry("FractionPattern", 0x300A007B, ValueRepresentation.LT, 1);
+        addEntry("FractionStatusSummarySequence", 0x30080240, ValueRepresentation.SQ, 1);
+        addEntry("FrameAcquisitionDateTime", 0x00189074, ValueRepresentation.DT, 1);
+        addEntry("FrameAcquisitionDuration", 0x00189220, ValueRepresentation.FD, 1);
+        addEntry("FrameAcquisitionNumber", 0x00209156, ValueRepresentation.US, 1);
+        addEntry("FrameAcquisitionSequence", 0x00189417, ValueRepresentation.SQ, 1);
+        addEntry("FrameAnatomySequence", 0x00209071, ValueRepresentation.SQ, 1);
+        addEntry("FrameComments", 0x00209158, ValueRepresentation.LT, 1);
+        addEntry("FrameContentSequence", 0x00209111, ValueRepresentation.SQ, 1);
+        addEntry("FrameDelay", 0x00181066, ValueRepresentation.DS, 1);
+        addEntry("FrameDetectorParametersSequence", 0x00189451, ValueRepresentation.SQ, 1);
+        addEntry("FrameDimensionPointer", 0x0028000A, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("FrameDisplaySequence", 0x00089458, ValueRepresentation.SQ, 1);
+        addEntry("FrameDisplayShutterSequence", 0x00189472, ValueRepresentation.SQ, 1);
+        addEntry("FrameExtractionSequence", 0x00081164, ValueRepresentation.SQ, 1);
+        addEntry("FrameIncrementPointer", 0x00280009, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("FrameLabel", 0x00209453, ValueRepresentation.LO, 1);
+        addEntry("FrameLabelVector", 0x00182002, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("FrameLaterality", 0x00209072, ValueRepresentation.CS, 1);
+        addEntry("FrameNumbersOfInterest", 0x00286020, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("FrameOfInterestDescription", 0x00286022, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("FrameOfInterestType", 0x00286023, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("FrameOfReferenceRelationshipSequence", 0x300600C0, ValueRepresentation.SQ, 1);
+        addEntry("FrameOfReferenceTransformationComment", 0x300600C8, ValueRepresentation.LO, 1);
+        addEntry("FrameOfReferenceTransformationMatrix", 0x300600C6, ValueRepresentation.DS, 16);
+        addEntry("FrameOfReferenceTransformationMatrixType", 0x0070030C, ValueRepresentation.CS, 1);
+        addEntry("FrameOfReferenceTransformationType", 0x300600C4, ValueRepresentation.CS, 1);
+        addEntry("FrameOfReferenceUID", 0x00200052, ValueRepresentation.UI, 1);
+        addEntry("FramePixelDataPropertiesSequence", 0x00289443, ValueRepresentation.SQ, 1);
+        addEntry("FramePixelShiftSequence", 0x00289415, ValueRepresentation.SQ, 1);
+        addEntry("FramePrimaryAngleVector", 0x00182003, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("FrameReferenceDateTime", 0x00189151, ValueRepresentation.DT, 1);
+        addEntry("FrameReferenceTime", 0x00541300, ValueRepresentation.DS, 1);
+        addEntry("FrameSecondaryAngleVector", 0x00182004, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("FrameTime", 0x00181063, ValueRepresentation.DS, 1);
+        addEntry("FrameTimeVector", 0x00181065, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("FrameType", 0x00089007, ValueRepresentation.CS, 4);
+        addEntry("FrameVOILUTSequence", 0x00289132, ValueRepresentation.SQ, 1);
+        addEntry("FrequencyCorrection", 0x00189101, ValueRepresentation.CS, 1);
+        addEntry("FunctionalGroupPointer", 0x00209167, ValueRepresentation.AT, 1);
+        addEntry("FunctionalGroupPrivateCreator", 0x00209238, ValueRepresentation.LO, 1);
+        addEntry("GantryAngle", 0x300A011E, ValueRepresentation.DS, 1);
+        addEntry("GantryAngleTolerance", 0x300A0044, ValueRepresentation.DS, 1);
+        addEntry("GantryDetectorSlew", 0x00181121, ValueRepresentation.DS, 1);
+        addEntry("GantryDetectorTilt", 0x00181120, ValueRepresentation.DS, 1);
+        addEntry("GantryID", 0x00181008, ValueRepresentation.LO, 1);
+        addEntry("GantryMotionCorrected", 0x00189762, ValueRepresentation.CS, 1);
+        addEntry("GantryPitchAngle", 0x300A014A, ValueRepresentation.FL, 1);
+        addEntry("GantryPitchAngleTolerance", 0x300A014E, ValueRepresentation.FL, 1);
+        addEntry("GantryPitchRotationDirection", 0x300A014C, ValueRepresentation.CS, 1);
+        addEntry("GantryRotationDirection", 0x300A011F, ValueRepresentation.CS, 1);
+        addEntry("GapLength", 0x00700261, ValueRepresentation.FL, 1);
+        addEntry("GatedInformationSequence", 0x00540062, ValueRepresentation.SQ, 1);
+        addEntry("GeneralAccessoryDescription", 0x300A0422, ValueRepresentation.ST, 1);
+        addEntry("GeneralAccessoryID", 0x300A0421, ValueRepresentation.SH, 1);
+        addEntry("GeneralAccessoryNumber", 0x300A0424, ValueRepresentation.IS, 1);
+        addEntry("GeneralAccessorySequence", 0x300A0420, ValueRepresentation.SQ, 1);
+        addEntry("GeneralAccessoryType", 0x300A0423, ValueRepresentation.CS, 1);
+        addEntry("GeneralMachineVerificationSequence", 0x00741042, ValueRepresentation.SQ, 1);
+        addEntry("GeneralPurposePerformedProcedureStepStatus", 0x00404002, ValueRepresentation.CS, 1);
+        addEntry("GeneralPurposeScheduledProcedureStepPriority", 0x00404003, ValueRepresentation.CS, 1);
+        addEntry("GeneralPurposeScheduledProcedureStepStatus", 0x00404001, ValueRepresentation.CS, 1);
+        addEntry("GeneratorID", 0x00181005, ValueRepresentation.LO, 1);
+        addEntry("GeneratorPower", 0x00181170, ValueRepresentation.IS, 1);
+        addEntry("GeometricalProperties", 0x00289444, ValueRepresentation.CS, 1);
+        addEntry("GeometricMaximumDistortion", 0x00289445, ValueRepresentation.FL, 1);
+        addEntry("GeometryOfKSpaceTraversal", 0x00189032, ValueRepresentation.CS, 1);
+        addEntry("GradientEchoTrainLength", 0x00189241, ValueRepresentation.US, 1);
+        addEntry("GradientOutput", 0x00189182, ValueRepresentation.FD, 1);
+        addEntry("GradientOutputType", 0x00189180, ValueRepresentation.CS, 1);
+        addEntry("GraphicAnnotationSequence", 0x00700001, ValueRepresentation.SQ, 1);
+        addEntry("GraphicAnnotationUnits", 0x00700005, ValueRepresentation.CS, 1);
+        addEntry("GraphicCoordinatesDataSequence", 0x00700318, ValueRepresentation.SQ, 1);
+        addEntry("GraphicData", 0x00700022, ValueRepresentation.FL, 2, Integer.MAX_VALUE);
+        addEntry("GraphicDimensions", 0x00700020, ValueRepresentation.US, 1);
+        addEntry("GraphicFilled", 0x00700024, ValueRepresentation.CS, 1);
+        addEntry("GraphicGroupDescription", 0x00700208, ValueRepresentation.ST, 1);
+        addEntry("GraphicGroupID", 0x00700295, ValueRepresentation.UL, 1);
+        addEntry("GraphicGroupLabel", 0x00700207, ValueRepresentation.LO, 1);
+        addEntry("GraphicGroupSequence", 0x00700234, ValueRepresentation.SQ, 1);
+        addEntry("GraphicLayer", 0x00700002, ValueRepresentation.CS, 1);
+        addEntry("GraphicLayerDescription", 0x00700068, ValueRepresentation.LO, 1);
+        addEntry("GraphicLayerOrder", 0x00700062, ValueRepresentation.IS, 1);
+        addEntry("GraphicLayerRecommendedDisplayCIELabValue", 0x00700401, ValueRepresentation.US, 3);
+        addEntry("GraphicLayerRecommendedDisplayGrayscaleValue", 0x00700066, ValueRepresentation.US, 1);
+        addEntry("GraphicLayerRecommendedDisplayRGBValue", 0x00700067, ValueRepresentation.US, 3);
+        addEntry("GraphicLayerSequence", 0x00700060, ValueRepresentation.SQ, 1);
+        addEntry("GraphicObjectSequence", 0x00700009, ValueRepresentation.SQ, 1);
+        addEntry("GraphicType", 0x00700023, ValueRepresentation.CS, 1);
+        addEntry("GrayLookupTableData", 0x00281200, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS, ValueRepresentation.OW }, 1, Integer.MAX_VALUE);
+        addEntry("GrayLookupTableDescriptor", 0x00281100, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
+        addEntry("GrayScale", 0x00281080, ValueRepresentation.CS, 1);
+        addEntry("GreenPaletteColorLookupTableData", 0x00281202, ValueRepresentation.OW, 1);
+        addEntry("GreenPaletteColorLookupTableDescriptor", 0x00281102, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
+        addEntry("Grid", 0x00181166, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("GridAbsorbingMaterial", 0x00187040, ValueRepresentation.LT, 1);
+        addEntry("GridAspectRatio", 0x00187046, ValueRepresentation.IS, 2);
+        addEntry("GridDimensions", 0x00640007, ValueRepresentation.UL, 3);
+        addEntry("GridFocalDistance", 0x0018704C, ValueRepresentation.DS, 1);
+        addEntry("GridFrameOffsetVector", 0x3004000C, ValueRepresentation.DS, 2, Integer.MAX_VALUE);
+        addEntry("GridID", 0x00181006, ValueRepresentation.LO, 1);
+        addEntry("GridPeriod", 0x00187048, ValueRepresentation.DS, 1);
+        addEntry("GridPitch", 0x00187044, ValueRepresentation.DS, 1);
+        addEntry("GridResolution", 0x00640008, ValueRepresentation.FD, 3);
+        addEntry("GridSpacingMaterial", 0x00187041, ValueRepresentation.LT, 1);
+        addEntry("GridThickness", 0x00187042, ValueRepresentation.DS, 1);
+        addEntry("HalfValueLayer", 0x00400314, ValueRepresentation.DS, 1);
+        addEntry("HangingProtocolCreationDateTime", 0x0072000A, ValueRepresentation.DT, 1);
+        addEntry("HangingProtocolCreator", 0x00720008, ValueRepresentation.LO, 1);
+        addEntry("HangingProtocolDefinitionSequence", 0x0072000C, ValueRepresentation.SQ, 1);
+        addEntry("HangingProtocolDescription", 0x00720004, ValueRepresentation.LO, 1);
+        addEntry("HangingProtocolLevel", 0x00720006, ValueRepresentation.CS, 1);
+        addEntry("HangingProtocolName", 0x00720002, ValueRepresentation.SH, 1);
+        addEntry("HangingProtocolUserGroupName", 0x00720010, ValueRepresentation.LO, 1);
+        addEntry("HangingProtocolUserIdentificationCodeSequence", 0x0072000E, ValueRepresentation.SQ, 1);
+        addEntry("HardcopyCreationDeviceID", 0x00181011, ValueRepresentation.LO, 1);
+        addEntry("HardcopyDeviceManufacturer", 0x00181017, ValueRepresentation.LO, 1);
+        addEntry("HardcopyDeviceManufacturerModelName", 0x0018101B, ValueRepresentation.LO, 1);
+        addEntry("HardcopyDeviceSoftwareVersion", 0x0018101A, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("HeadFixationAngle", 0x300A0148, ValueRepresentation.FL, 1);
+        addEntry("HeartRate", 0x00181088, ValueRepresentation.IS, 1);
+        addEntry("HighBit", 0x00280102, ValueRepresentation.US, 1);
+        addEntry("HighDoseTechniqueType", 0x300A00C7, ValueRepresentation.CS, 1);
+        addEntry("HighRRValue", 0x00181082, ValueRepresentation.IS, 1);
+        addEntry("HistogramBinWidth", 0x00603008, ValueRepresentation.US, 1);
+        addEntry("HistogramData", 0x00603020, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
+        addEntry("HistogramExplanation", 0x00603010, ValueRepresentation.LO, 1);
+        addEntry("HistogramFirstBinValue", 0x00603004, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("HistogramLastBinValue", 0x00603006, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("HistogramNumberOfBins", 0x00603002, ValueRepresentation.US, 1);
+        addEntry("HistogramSequence", 0x00603000, ValueRepresentation.SQ, 1);
+        addEntry("HL", 0x0040E004, ValueRepresentation.DT, 1);
+        addEntry("HL", 0x0040E006, ValueRepresentation.SQ, 1);
+        addEntry("HL", 0x0040E001, ValueRepresentation.ST, 1);
+        addEntry("HL", 0x0040A390, ValueRepresentation.SQ, 1);
+        addEntry("HorizontalAlignment", 0x00700242, ValueRepresentation.CS, 1);
+        addEntry("HorizontalFieldOfView", 0x0022000C, ValueRepresentation.FL, 1);
+        addEntry("HorizontalPrismBase", 0x00460032, ValueRepresentation.CS, 1);
+        addEntry("HorizontalPrismPower", 0x00460030, ValueRepresentation.FD, 1);
+        addEntry("HuffmanTableSize", 0x10000002, ValueRepresentation.US, 1);
+        addEntry("HuffmanTableTriplet", 0x10000003, ValueRepresentation.US, 3);
+        addEntry("HumanPerformerCodeSequence", 0x00404009, ValueRepresentation.SQ, 1);
+        addEntry("HumanPerformerName", 0x00404037, ValueRepresentation.PN, 1);
+        addEntry("HumanPerformerOrganization", 0x00404036, ValueRepresentation.LO, 1);
+        addEntry("ICCProfile", 0x00282000, ValueRepresentation.OB, 1);
+        addEntry("IconImageSequence", 0x00880200, ValueRepresentation.SQ, 1);
+        addEntry("IdenticalDocumentsSequence", 0x0040A525, ValueRepresentation.SQ, 1);
+        addEntry("IdentifierTypeCode", 0x00400035, ValueRepresentation.CS, 1);
+        addEntry("IdentifyingComments", 0x00084000, ValueRepresentation.LT, 1);
+        addEntry("Illumination", 0x2010015E, ValueRepresentation.US, 1);
+        addEntry("IlluminationBandwidth", 0x00220057, ValueRepresentation.FL, 1);
+        addEntry("IlluminationPower", 0x00220056, ValueRepresentation.FL, 1);
+        addEntry("IlluminationTypeCodeSequence", 0x00220016, ValueRepresentation.SQ, 1);
+        addEntry("IlluminationWaveLength", 0x00220055, ValueRepresentation.FL, 1);
+        addEntry("ImageAndFluoroscopyAreaDoseProduct", 0x0018115E, ValueRepresentation.DS, 1);
+        addEntry("ImageBoxContentSequence", 0x21300040, ValueRepresentation.SQ, 1);
+        addEntry("ImageBoxesSequence", 0x00720300, ValueRepresentation.SQ, 1);
+        addEntry("ImageBoxLargeScrollAmount", 0x00720318, ValueRepresentation.US, 1);
+        addEntry("ImageBoxLargeScrollType", 0x00720316, ValueRepresentation.CS, 1);
+        addEntry("ImageBoxLayoutType", 0x00720304, ValueRepresentation.CS, 1);
+        addEntry("ImageBoxNumber", 0x00720302, ValueRepresentation.US, 1);
+        addEntry("ImageBoxOverlapPriority", 0x00720320, ValueRepresentation.US, 1);
+        addEntry("ImageBoxPosition", 0x20200010, ValueRepresentation.US, 1);
+        addEntry("ImageBoxPresentationLUTFlag", 0x2000006A, ValueRepresentation.CS, 1);
+        addEntry("ImageBoxScrollDirection", 0x00720310, ValueRepresentation.CS, 1);
+        addEntry("ImageBoxSmallScrollAmount", 0x00720314, ValueRepresentation.US, 1);
+        addEntry("ImageBoxSmallScrollType", 0x00720312, ValueRepresentation.CS, 1);
+        addEntry("ImageBoxSynchronizationSequence", 0x00720430, ValueRepresentation.SQ, 1);
+        addEntry("ImageBoxTileHorizontalDimension", 0x00720306, ValueRepresentation.US, 1);
+        addEntry("ImageBoxTileVerticalDimension", 0x00720308, ValueRepresentation.US, 1);
+        addEntry("ImageCenterPointCoordinatesSequence", 0x0040071A, ValueRepresentation.SQ, 1);
+        addEntry("ImageComments", 0x00204000, ValueRepresentation.LT, 1);
+        addEntry("ImageDataLocation", 0x00280808, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("ImageDataTypeSequence", 0x00189807, ValueRepresentation.SQ, 1);
+        addEntry("ImageDimensions", 0x00280005, ValueRepresentation.US, 1);
+        addEntry("ImageDisplayFormat", 0x20100010, ValueRepresentation.ST, 1);
+        addEntry("ImagedNucleus", 0x00180085, ValueRepresentation.SH, 1);
+        addEntry("ImageFilter", 0x00189320, ValueRepresentation.SH, 1);
+        addEntry("ImageFormat", 0x00280040, ValueRepresentation.CS, 1);
+        addEntry("ImageFrameOrigin", 0x60000051, ValueRepresentation.US, 1);
+        addEntry("ImageGeometryType", 0x00200070, ValueRepresentation.LO, 1);
+        addEntry("ImageHorizontalFlip", 0x00700041, ValueRepresentation.CS, 1);
+        addEntry("ImageID", 0x00540400, ValueRepresentation.SH, 1);
+        addEntry("ImageIndex", 0x00541330, ValueRepresentation.US, 1);
+        addEntry("ImageLaterality", 0x00200062, ValueRepresentation.CS, 1);
+        addEntry("ImageLocation", 0x00280200, ValueRepresentation.US, 1);
+        addEntry("ImageOrientation", 0x00200035, ValueRepresentation.DS, 6);
+        addEntry("ImageOrientationPatient", 0x00200037, ValueRepresentation.DS, 6);
+        addEntry("ImageOrientationVolume", 0x00209302, ValueRepresentation.FD, 6);
+        addEntry("ImageOverlayBoxContentSequence", 0x21300060, ValueRepresentation.SQ, 1);
+        addEntry("ImageOverlayFlag", 0x20000067, ValueRepresentation.CS, 1);
+        addEntry("ImagePathFilterPassBand", 0x00220004, ValueRepresentation.US, 2);
+        addEntry("ImagePathFilterPassThroughWavelength", 0x00220003, ValueRepresentation.US, 1);
+        addEntry("ImagePathFilterTypeStackCodeSequence", 0x00220018, ValueRepresentation.SQ, 1);
+        addEntry("ImagePlanePixelSpacing", 0x30020011, ValueRepresentation.DS, 2);
+        addEntry("ImagePosition", 0x00200030, ValueRepresentation.DS, 3);
+        addEntry("ImagePositionPatient", 0x00200032, ValueRepresentation.DS, 3);
+        addEntry("ImagePositionVolume", 0x00209301, ValueRepresentation.FD, 3);
+        addEntry("ImagePresentationComments", 0x00284000, ValueRepresentation.LT, 1);
+        addEntry("ImageProcessingApplied", 0x00289446, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("ImageRotation", 0x00700042, ValueRepresentation.US, 1);
+        addEntry("ImageRotationRetired", 0x00700040, ValueRepresentation.IS, 1);
+        addEntry("ImagerPixelSpacing", 0x00181164, ValueRepresentation.DS, 2);
+        addEntry("ImageSetLabel", 0x00720040, ValueRepresentation.LO, 1);
+        addEntry("ImageSetNumber", 0x00720032, ValueRepresentation.US, 1);
+        addEntry("ImageSetSelectorCategory", 0x00720034, ValueRepresentation.CS, 1);
+        addEntry("ImageSetSelectorSequence", 0x00720022, ValueRepresentation.SQ, 1);
+        addEntry("ImageSetSelectorUsageFlag", 0x00720024, ValueRepresentation.CS, 1);
+        addEntry("ImageSetsSequence", 0x00720020, ValueRepresentation.SQ, 1);
+        addEntry("ImagesInAcquisition", 0x00201002, ValueRepresentation.IS, 1);
+        addEntry("ImagesInSeries", 0x00201003, ValueRepresentation.IS, 1);
+        addEntry("ImagesInStudy", 0x00201005, ValueRepresentation.IS, 1);
+        addEntry("ImageToEquipmentMappingMatrix", 0x00289520, ValueRepresentation.DS, 16);
+        addEntry("ImageTransformationMatrix", 0x00185210, ValueRepresentation.DS, 6);
+        addEntry("ImageTranslationVector", 0x00185212, ValueRepresentation.DS, 3);
+        addEntry("ImageTriggerDelay", 0x00181067, ValueRepresentation.DS, 1);
+        addEntry("ImageType", 0x00080008, ValueRepresentation.CS, 2, Integer.MAX_VALUE);
+        addEntry("ImagingDeviceSpecificAcquisitionParameters", 0x300A00CC, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("ImagingFrequency", 0x00180084, ValueRepresentation.DS, 1);
+        addEntry("ImagingServiceRequestComments", 0x00402400, ValueRepresentation.LT, 1);
+        addEntry("ImplementationClassUID", 0x00020012, ValueRepresentation.UI, 1);
+        addEntry("ImplementationVersionName", 0x00020013, ValueRepresentation.SH, 1);
+        addEntry("Impressions", 0x40080300, ValueRepresentation.ST, 1);
+        addEntry("IncludeDisplayApplication", 0x22000009, ValueRepresentation.CS, 1);
+        addEntry("IncludeNonDICOMObjects", 0x22000008, ValueRepresentation.CS, 1);
+        addEntry("InConcatenationNumber", 0x00209162, ValueRepresentation.US, 1);
+        addEntry("InConcatenationTotalNumber", 0x00209163, ValueRepresentation.US, 1);
+        addEntry("InitialCineRunState", 0x00180042, ValueRepresentation.CS, 1);
+        addEntry("Initiator", 0x00000200, ValueRepresentation.AE, 1);
+        addEntry("InPlanePhaseEncodingDirection", 0x00181312, ValueRepresentation.CS, 1);
+        addEntry("InputAvailabilityFlag", 0x00404020, ValueRepresentation.CS, 1);
+        addEntry("InputInformationSequence", 0x00404021, ValueRepresentation.SQ, 1);
+        addEntry("InStackPositionNumber", 0x00209057, ValueRepresentation.UL, 1);
+        addEntry("InstanceAvailability", 0x00080056, ValueRepresentation.CS, 1);
+        addEntry("InstanceCreationDate", 0x00080012, ValueRepresentation.DA, 1);
+        addEntry("InstanceCreationTime", 0x00080013, ValueRepresentation.TM, 1);
+        addEntry("InstanceCreatorUID", 0x00080014, ValueRepresentation.UI, 1);
+        addEntry("InstanceNumber", 0x00200013, ValueRepresentation.IS, 1);
+        addEntry("InstitutionAddress", 0x00080081, ValueRepresentation.ST, 1);
+        addEntry("InstitutionalDepartmentName", 0x00081040, ValueRepresentation.LO, 1);
+        addEntry("InstitutionCodeSequence", 0x00080082, ValueRepresentation.SQ, 1);
+        addEntry("InstitutionName", 0x00080080, ValueRepresentation.LO, 1);
+        addEntry("InsurancePlanIdentification", 0x00101050, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("IntendedRecipientsOfResultsIdentificationSequence", 0x00401011, ValueRepresentation.SQ, 1);
+        addEntry("IntensifierActiveDimensions", 0x00189428, ValueRepresentation.FL, 1, 2);
+        addEntry("IntensifierActiveShape", 0x00189427, ValueRepresentation.CS, 1);
+        addEntry("IntensifierSize", 0x00181162, ValueRepresentation.DS, 1);
+        addEntry("InterMarkerDistance", 0x00500019, ValueRepresentation.DS, 1);
+        addEntry("IntermediatePupillaryDistance", 0x00460063, ValueRepresentation.FD, 1);
+        addEntry("InterpretationApprovalDate", 0x40080112, ValueRepresentation.DA, 1);
+        addEntry("InterpretationApprovalTime", 0x40080113, ValueRepresentation.TM, 1);
+        addEntry("InterpretationApproverSequence", 0x40080111, ValueRepresentation.SQ, 1);
+        addEntry("InterpretationAuthor", 0x4008010C, ValueRepresentation.PN, 1);
+        addEntry("InterpretationDiagnosisCodeSequence", 0x40080117, ValueRepresentation.SQ, 1);
+        addEntry("InterpretationDiagnosisDescription", 0x40080115, ValueRepresentation.LT, 1);
+        addEntry("InterpretationID", 0x40080200, ValueRepresentation.SH, 1);
+        addEntry("InterpretationIDIssuer", 0x40080202, ValueRepresentation.LO, 1);
+        addEntry("InterpretationRecordedDate", 0x40080100, ValueRepresentation.DA, 1);
+        addEntry("InterpretationRecordedTime", 0x40080101, ValueRepresentation.TM, 1);
+        addEntry("InterpretationRecorder", 0x40080102, ValueRepresentation.PN, 1);
+        addEntry("InterpretationStatusID", 0x40080212, ValueRepresentation.CS, 1);
+        addEntry("InterpretationText", 0x4008010B, ValueRepresentation.ST, 1);
+        addEntry("InterpretationTranscriber", 0x4008010A, ValueRepresentation.PN, 1);
+        addEntry("InterpretationTranscriptionDate", 0x40080108, ValueRepresentation.DA, 1);
+        addEntry("InterpretationTranscriptionTime", 0x40080109, ValueRepresentation.TM, 1);
+        addEntry("InterpretationTypeID", 0x40080210, ValueRepresentation.CS, 1);
+        addEntry("IntervalNumber", 0x00200016, ValueRepresentation.IS, 1);
+        addEntry("IntervalsAcquired", 0x00181083, ValueRepresentation.IS, 1);
+        addEntry("IntervalsRejected", 0x00181084, ValueRepresentation.IS, 1);
+        addEntry("InterventionDescription", 0x0018003A, ValueRepresentation.ST, 1);
+        addEntry("InterventionDrugCodeSequence", 0x00180029, ValueRepresentation.SQ, 1);
+        addEntry("InterventionDrugDose", 0x00180028, ValueRepresentation.DS, 1);
+        addEntry("InterventionDrugInformationSequence", 0x00180026, ValueRepresentation.SQ, 1);
+        addEntry("InterventionDrugName", 0x00180034, ValueRepresentation.LO, 1);
+        addEntry("InterventionDrugStartTime", 0x00180035, ValueRepresentation.TM, 1);
+        addEntry("InterventionDrugStopTime", 0x00180027, ValueRepresentation.TM, 1);
+        addEntry("InterventionSequence", 0x00180036, ValueRepresentation.SQ, 1);
+        addEntry("InterventionStatus", 0x00180038, ValueRepresentation.CS, 1);
+        addEntry("IntraOcularPressure", 0x0022000B, ValueRepresentation.FL, 1);
+        addEntry("InversionRecovery", 0x00189009, ValueRepresentation.CS, 1);
+        addEntry("InversionTime", 0x00180082, ValueRepresentation.DS, 1);
+        addEntry("InversionTimes", 0x00189079, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
+        addEntry("IonBeamLimitingDeviceSequence", 0x300A03A4, ValueRepresentation.SQ, 1);
+        addEntry("IonBeamSequence", 0x300A03A2, ValueRepresentation.SQ, 1);
+        addEntry("IonBlockSequence", 0x300A03A6, ValueRepresentation.SQ, 1);
+        addEntry("IonControlPointDeliverySequence", 0x30080041, ValueRepresentation.SQ, 1);
+        addEntry("IonControlPointSequence", 0x300A03A8, ValueRepresentation.SQ, 1);
+        addEntry("IonControlPointVerificationSequence", 0x0074104E, ValueRepresentation.SQ, 1);
+        addEntry("IonMachineVerificationSequence", 0x00741046, ValueRepresentation.SQ, 1);
+        addEntry("IonRangeCompensatorSequence", 0x300A02EA, ValueRepresentation.SQ, 1);
+        addEntry("IonToleranceTableSequence", 0x300A03A0, ValueRepresentation.SQ, 1);
+        addEntry("IonWedgePositionSequence", 0x300A03AC, ValueRepresentation.SQ, 1);
+        addEntry("IonWedgeSequence", 0x300A03AA, ValueRepresentation.SQ, 1);
+        addEntry("IrradiationEventIdentificationSequence", 0x00189477, ValueRepresentation.SQ, 1);
+        addEntry("IrradiationEventUID", 0x00083010, ValueRepresentation.UI, 1);
+        addEntry("IsocenterPosition", 0x300A012C, ValueRepresentation.DS, 3);
+        addEntry("IsocenterReferenceSystemSequence", 0x00189462, ValueRepresentation.SQ, 1);
+        addEntry("IsocenterToBeamLimitingDeviceDistance", 0x300A00BB, ValueRepresentation.FL, 1);
+        addEntry("IsocenterToBlockTrayDistance", 0x300A00F7, ValueRepresentation.FL, 1);
+        addEntry("IsocenterToCompensatorDistances", 0x300A02E6, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("IsocenterToCompensatorTrayDistance", 0x300A02E4, ValueRepresentation.FL, 1);
+        addEntry("IsocenterToLateralSpreadingDeviceDistance", 0x300A0374, ValueRepresentation.FL, 1);
+        addEntry("IsocenterToRangeModulatorDistance", 0x300A038A, ValueRepresentation.FL, 1);
+        addEntry("IsocenterToRangeShifterDistance", 0x300A0364, ValueRepresentation.FL, 1);
+        addEntry("IsocenterToWedgeTrayDistance", 0x300A00D9, ValueRepresentation.FL, 1);
+        addEntry("IsotopeNumber", 0x00200014, ValueRepresentation.IS, 1);
+        addEntry("IssueDateOfImagingServiceRequest", 0x00402004, ValueRepresentation.DA, 1);
+        addEntry("IssuerOfAccessionNumberSequence", 0x00080051, ValueRepresentation.SQ, 1);
+        addEntry("IssuerOfAdmissionID", 0x00380011, ValueRepresentation.LO, 1);
+        addEntry("IssuerOfAdmissionIDSequence", 0x00380014, ValueRepresentation.SQ, 1);
+        addEntry("IssuerOfPatientID", 0x00100021, ValueRepresentation.LO, 1);
+        addEntry("IssuerOfPatientIDQualifiersSequence", 0x00100024, ValueRepresentation.SQ, 1);
+        addEntry("IssuerOfServiceEpisodeID", 0x00380061, ValueRepresentation.LO, 1);
+        addEntry("IssuerOfServiceEpisodeIDSequence", 0x00380064, ValueRepresentation.SQ, 1);
+        addEntry("IssuerOfTheContainerIdentifierSequence", 0x00400513, ValueRepresentation.SQ, 1);
+        addEntry("IssuerOfTheSpecimenIdentifierSequence", 0x00400562, ValueRepresentation.SQ, 1);
+        addEntry("IssueTimeOfImagingServiceRequest", 0x00402005, ValueRepresentation.TM, 1);
+        addEntry("Italic", 0x00700250, ValueRepresentation.CS, 1);
+        addEntry("Item", 0xFFFEE000, (ValueRepresentation) null, 1);
+        addEntry("ItemDelimitationItem", 0xFFFEE00D, (ValueRepresentation) null, 1);
+        addEntry("ItemNumber", 0x00200019, ValueRepresentation.IS, 1);
+        addEntry("IterativeReconstructionMethod", 0x00189769, ValueRepresentation.CS, 1);
+        addEntry("IVUSAcquisition", 0x00183100, ValueRepresentation.CS, 1);
+        addEntry("IVUSGatedRate", 0x00183102, ValueRepresentation.DS, 1);
+        addEntry("IVUSPullbackRate", 0x00183101, ValueRepresentation.DS, 1);
+        addEntry("IVUSPullbackStartFrameNumber", 0x00183103, ValueRepresentation.IS, 1);
+        addEntry("IVUSPullbackStopFrameNumber", 0x00183104, ValueRepresentation.IS, 1);
+        addEntry("KeratometricAxis", 0x00460077, ValueRepresentation.FD, 1);
+        addEntry("KeratometricPower", 0x00460076, ValueRepresentation.FD, 1);
+        addEntry("KeratometryLeftEyeSequence", 0x00460071, ValueRepresentation.SQ, 1);
+        addEntry("KeratometryRightEyeSequence", 0x00460070, ValueRepresentation.SQ, 1);
+        addEntry("KSpaceFiltering", 0x00189064, ValueRepresentation.CS, 1);
+        addEntry("KVP", 0x00180060, ValueRepresentation.DS, 1);
+        addEntry("LabelStyleSelection", 0x22000003, ValueRepresentation.CS, 1);
+        addEntry("LabelText", 0x22000002, ValueRepresentation.UT, 1);
+        addEntry("LabelUsingInformationExtractedFromInstances", 0x22000001, ValueRepresentation.CS, 1);
+        addEntry("LanguageCodeSequence", 0x00080006, ValueRepresentation.SQ, 1);
+        addEntry("LargeBluePaletteColorLookupTableData", 0x00281213, ValueRepresentation.OW, 1);
+        addEntry("LargeBluePaletteColorLookupTableDescriptor", 0x00281113, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS },
                 4, 4);
-        addEntry("LargeGreenPaletteColorLookupTableData", AttributeTag.LargeGreenPaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("LargeGreenPaletteColorLookupTableDescriptor", AttributeTag.LargeGreenPaletteColorLookupTableDescriptor, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS },
+        addEntry("LargeGreenPaletteColorLookupTableData", 0x00281212, ValueRepresentation.OW, 1);
+        addEntry("LargeGreenPaletteColorLookupTableDescriptor", 0x00281112, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS },
                 4, 4);
-        addEntry("LargePaletteColorLookupTableUID", AttributeTag.LargePaletteColorLookupTableUID, ValueRepresentation.UI, 1);
-        addEntry("LargeRedPaletteColorLookupTableData", AttributeTag.LargeRedPaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("LargeRedPaletteColorLookupTableDescriptor", AttributeTag.LargeRedPaletteColorLookupTableDescriptor, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 4,
+        addEntry("LargePaletteColorLookupTableUID", 0x00281214, ValueRepresentation.UI, 1);
+        addEntry("LargeRedPaletteColorLookupTableData", 0x00281211, ValueRepresentation.OW, 1);
+        addEntry("LargeRedPaletteColorLookupTableDescriptor", 0x00281111, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 4,
                 4);
-        addEntry("LargestImagePixelValue", AttributeTag.LargestImagePixelValue, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("LargestImagePixelValueInPlane", AttributeTag.LargestImagePixelValueInPlane, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("LargestMonochromePixelValue", AttributeTag.LargestMonochromePixelValue, ValueRepresentation.US, 1);
-        addEntry("LargestPixelValueInSeries", AttributeTag.LargestPixelValueInSeries, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("LargestValidPixelValue", AttributeTag.LargestValidPixelValue, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("LastMenstrualDate", AttributeTag.LastMenstrualDate, ValueRepresentation.DA, 1);
-        addEntry("Laterality", AttributeTag.Laterality, ValueRepresentation.CS, 1);
-        addEntry("LateralSpreadingDeviceDescription", AttributeTag.LateralSpreadingDeviceDescription, ValueRepresentation.LO, 1);
-        addEntry("LateralSpreadingDeviceID", AttributeTag.LateralSpreadingDeviceID, ValueRepresentation.SH, 1);
-        addEntry("LateralSpreadingDeviceNumber", AttributeTag.LateralSpreadingDeviceNumber, ValueRepresentation.IS, 1);
-        addEntry("LateralSpreadingDeviceSequence", AttributeTag.LateralSpreadingDeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("LateralSpreadingDeviceSetting", AttributeTag.LateralSpreadingDeviceSetting, ValueRepresentation.LO, 1);
-        addEntry("LateralSpreadingDeviceSettingsSequence", AttributeTag.LateralSpreadingDeviceSettingsSequence, ValueRepresentation.SQ, 1);
-        addEntry("LateralSpreadingDeviceType", AttributeTag.LateralSpreadingDeviceType, ValueRepresentation.CS, 1);
-        addEntry("LateralSpreadingDeviceWaterEquivalentThickness", AttributeTag.LateralSpreadingDeviceWaterEquivalentThickness, ValueRepresentation.FL, 1);
-        addEntry("LeafJawPositions", AttributeTag.LeafJawPositions, ValueRepresentation.DS, 2, Integer.MAX_VALUE / 2);
-        addEntry("LeafPositionBoundaries", AttributeTag.LeafPositionBoundaries, ValueRepresentation.DS, 3, Integer.MAX_VALUE);
-        addEntry("LeftImageSequence", AttributeTag.LeftImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("LeftLensSequence", AttributeTag.LeftLensSequence, ValueRepresentation.SQ, 1);
-        addEntry("LengthToEnd", AttributeTag.LengthToEnd, ValueRepresentation.UL, 1);
-        addEntry("LensDescription", AttributeTag.LensDescription, ValueRepresentation.LO, 1);
-        addEntry("LensesCodeSequence", AttributeTag.LensesCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("LensSegmentType", AttributeTag.LensSegmentType, ValueRepresentation.CS, 1);
-        addEntry("LesionNumber", AttributeTag.LesionNumber, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("LightPathFilterPassBand", AttributeTag.LightPathFilterPassBand, ValueRepresentation.US, 2);
-        addEntry("LightPathFilterPassThroughWavelength", AttributeTag.LightPathFilterPassThroughWavelength, ValueRepresentation.US, 1);
-        addEntry("LightPathFilterTypeStackCodeSequence", AttributeTag.LightPathFilterTypeStackCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("LineDashingStyle", AttributeTag.LineDashingStyle, ValueRepresentation.CS, 1);
-        addEntry("LinePattern", AttributeTag.LinePattern, ValueRepresentation.UL, 1);
-        addEntry("LineSequence", AttributeTag.LineSequence, ValueRepresentation.SQ, 1);
-        addEntry("LineStyleSequence", AttributeTag.LineStyleSequence, ValueRepresentation.SQ, 1);
-        addEntry("LineThickness", AttributeTag.LineThickness, ValueRepresentation.FL, 1);
-        addEntry("ListOfMIMETypes", AttributeTag.ListOfMIMETypes, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("LocalNamespaceEntityID", AttributeTag.LocalNamespaceEntityID, ValueRepresentation.UT, 1);
-        addEntry("Location", AttributeTag.Location, ValueRepresentation.DS, 1);
-        addEntry("LossyImageCompression", AttributeTag.LossyImageCompression, ValueRepresentation.CS, 1);
-        addEntry("LossyImageCompressionMethod", AttributeTag.LossyImageCompressionMethod, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("LossyImageCompressionRatio", AttributeTag.LossyImageCompressionRatio, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("LossyImageCompressionRetired", AttributeTag.LossyImageCompressionRetired, ValueRepresentation.CS, 1);
-        addEntry("LowRRValue", AttributeTag.LowRRValue, ValueRepresentation.IS, 1);
-        addEntry("LUTData", AttributeTag.LUTData, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS, ValueRepresentation.OW }, 1, Integer.MAX_VALUE);
-        addEntry("LUTDescriptor", AttributeTag.LUTDescriptor, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
-        addEntry("LUTExplanation", AttributeTag.LUTExplanation, ValueRepresentation.LO, 1);
-        addEntry("LUTFrameRange", AttributeTag.LUTFrameRange, ValueRepresentation.US, 2, Integer.MAX_VALUE - 1);
-        addEntry("LUTFunction", AttributeTag.LUTFunction, ValueRepresentation.CS, 1);
-        addEntry("LUTLabel", AttributeTag.LUTLabel, ValueRepresentation.SH, 1);
-        addEntry("LUTNumber", AttributeTag.LUTNumber, ValueRepresentation.IS, 1);
-        addEntry("MAC", AttributeTag.MAC, ValueRepresentation.OB, 1);
-        addEntry("MACAlgorithm", AttributeTag.MACAlgorithm, ValueRepresentation.CS, 1);
-        addEntry("MACCalculationTransferSyntaxUID", AttributeTag.MACCalculationTransferSyntaxUID, ValueRepresentation.UI, 1);
-        addEntry("MACIDNumber", AttributeTag.MACIDNumber, ValueRepresentation.US, 1);
-        addEntry("MACParametersSequence", AttributeTag.MACParametersSequence, ValueRepresentation.SQ, 1);
-        addEntry("MagneticFieldStrength", AttributeTag.MagneticFieldStrength, ValueRepresentation.DS, 1);
-        addEntry("MagnetizationTransfer", AttributeTag.MagnetizationTransfer, ValueRepresentation.CS, 1);
-        addEntry("MagnificationType", AttributeTag.MagnificationType, ValueRepresentation.CS, 1);
-        addEntry("MagnifyToNumberOfColumns", AttributeTag.MagnifyToNumberOfColumns, ValueRepresentation.US, 1);
-        addEntry("MajorTicksSequence", AttributeTag.MajorTicksSequence, ValueRepresentation.SQ, 1);
-        addEntry("Manifold", AttributeTag.Manifold, ValueRepresentation.CS, 1);
-        addEntry("ManipulatedImage", AttributeTag.ManipulatedImage, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("Manufacturer", AttributeTag.Manufacturer, ValueRepresentation.LO, 1);
-        addEntry("ManufacturerModelName", AttributeTag.ManufacturerModelName, ValueRepresentation.LO, 1);
-        addEntry("MappingResource", AttributeTag.MappingResource, ValueRepresentation.CS, 1);
-        addEntry("MaskFrameNumbers", AttributeTag.MaskFrameNumbers, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("MaskingImage", AttributeTag.MaskingImage, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("MaskOperation", AttributeTag.MaskOperation, ValueRepresentation.CS, 1);
-        addEntry("MaskOperationExplanation", AttributeTag.MaskOperationExplanation, ValueRepresentation.ST, 1);
-        addEntry("MaskPointers", AttributeTag.MaskPointers, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("MaskSelectionMode", AttributeTag.MaskSelectionMode, ValueRepresentation.CS, 1);
-        addEntry("MaskSubPixelShift", AttributeTag.MaskSubPixelShift, ValueRepresentation.FL, 2);
-        addEntry("MaskSubtractionSequence", AttributeTag.MaskSubtractionSequence, ValueRepresentation.SQ, 1);
-        addEntry("MaskVisibilityPercentage", AttributeTag.MaskVisibilityPercentage, ValueRepresentation.FL, 1);
-        addEntry("MaterialID", AttributeTag.MaterialID, ValueRepresentation.SH, 1);
-        addEntry("MatrixRegistrationSequence", AttributeTag.MatrixRegistrationSequence, ValueRepresentation.SQ, 1);
-        addEntry("MatrixSequence", AttributeTag.MatrixSequence, ValueRepresentation.SQ, 1);
-        addEntry("MaxDensity", AttributeTag.MaxDensity, ValueRepresentation.US, 1);
-        addEntry("MaximumAcrossScanDistortion", AttributeTag.MaximumAcrossScanDistortion, ValueRepresentation.FL, 1);
-        addEntry("MaximumAlongScanDistortion", AttributeTag.MaximumAlongScanDistortion, ValueRepresentation.FL, 1);
-        addEntry("MaximumCollatedFilms", AttributeTag.MaximumCollatedFilms, ValueRepresentation.IS, 1);
-        addEntry("MaximumCoordinateValue", AttributeTag.MaximumCoordinateValue, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("MaximumDepthDistortion", AttributeTag.MaximumDepthDistortion, ValueRepresentation.FL, 1);
-        addEntry("MaximumFractionalValue", AttributeTag.MaximumFractionalValue, ValueRepresentation.US, 1);
-        addEntry("MaximumMemoryAllocation", AttributeTag.MaximumMemoryAllocation, ValueRepresentation.IS, 1);
-        addEntry("MaximumPointDistance", AttributeTag.MaximumPointDistance, ValueRepresentation.FL, 1);
-        addEntry("MeanPointDistance", AttributeTag.MeanPointDistance, ValueRepresentation.FL, 1);
-        addEntry("MeasuredDoseDescription", AttributeTag.MeasuredDoseDescription, ValueRepresentation.ST, 1);
-        addEntry("MeasuredDoseReferenceNumber", AttributeTag.MeasuredDoseReferenceNumber, ValueRepresentation.IS, 1);
-        addEntry("MeasuredDoseReferenceSequence", AttributeTag.MeasuredDoseReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("MeasuredDoseType", AttributeTag.MeasuredDoseType, ValueRepresentation.CS, 1);
-        addEntry("MeasuredDoseValue", AttributeTag.MeasuredDoseValue, ValueRepresentation.DS, 1);
-        addEntry("MeasuredValueSequence", AttributeTag.MeasuredValueSequence, ValueRepresentation.SQ, 1);
-        addEntry("MeasurementUnitsCodeSequence", AttributeTag.MeasurementUnitsCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("MeasuringUnitsSequence", AttributeTag.MeasuringUnitsSequence, ValueRepresentation.SQ, 1);
-        addEntry("MechanicalIndex", AttributeTag.MechanicalIndex, ValueRepresentation.DS, 1);
-        addEntry("MediaDisposition", AttributeTag.MediaDisposition, ValueRepresentation.LT, 1);
-        addEntry("MediaInstalledSequence", AttributeTag.MediaInstalledSequence, ValueRepresentation.SQ, 1);
-        addEntry("MediaStorageSOPClassUID", AttributeTag.MediaStorageSOPClassUID, ValueRepresentation.UI, 1);
-        addEntry("MediaStorageSOPInstanceUID", AttributeTag.MediaStorageSOPInstanceUID, ValueRepresentation.UI, 1);
-        addEntry("MedicalAlerts", AttributeTag.MedicalAlerts, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("MedicalRecordLocator", AttributeTag.MedicalRecordLocator, ValueRepresentation.LO, 1);
-        addEntry("MediumType", AttributeTag.MediumType, ValueRepresentation.CS, 1);
-        addEntry("MemoryAllocation", AttributeTag.MemoryAllocation, ValueRepresentation.IS, 1);
-        addEntry("MemoryBitDepth", AttributeTag.MemoryBitDepth, ValueRepresentation.US, 1);
-        addEntry("MessageID", AttributeTag.MessageID, ValueRepresentation.US, 1);
-        addEntry("MessageIDBeingRespondedTo", AttributeTag.MessageIDBeingRespondedTo, ValueRepresentation.US, 1);
-        addEntry("MessageSetID", AttributeTag.MessageSetID, ValueRepresentation.SH, 1);
-        addEntry("MetaboliteMapCodeSequence", AttributeTag.MetaboliteMapCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("MetaboliteMapDescription", AttributeTag.MetaboliteMapDescription, ValueRepresentation.ST, 1);
-        addEntry("MetersetExposure", AttributeTag.MetersetExposure, ValueRepresentation.DS, 1);
-        addEntry("MetersetRate", AttributeTag.MetersetRate, ValueRepresentation.FL, 1);
-        addEntry("MetersetRateDelivered", AttributeTag.MetersetRateDelivered, ValueRepresentation.FL, 1);
-        addEntry("MetersetRateSet", AttributeTag.MetersetRateSet, ValueRepresentation.FL, 1);
-        addEntry("MidSlabPosition", AttributeTag.MidSlabPosition, ValueRepresentation.FD, 3);
-        addEntry("MilitaryRank", AttributeTag.MilitaryRank, ValueRepresentation.LO, 1);
-        addEntry("MIMETypeOfEncapsulatedDocument", AttributeTag.MIMETypeOfEncapsulatedDocument, ValueRepresentation.LO, 1);
-        addEntry("MinDensity", AttributeTag.MinDensity, ValueRepresentation.US, 1);
-        addEntry("MinimumCoordinateValue", AttributeTag.MinimumCoordinateValue, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("ModalitiesInStudy", AttributeTag.ModalitiesInStudy, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("Modality", AttributeTag.Modality, ValueRepresentation.CS, 1);
-        addEntry("ModalityLUTSequence", AttributeTag.ModalityLUTSequence, ValueRepresentation.SQ, 1);
-        addEntry("ModalityLUTType", AttributeTag.ModalityLUTType, ValueRepresentation.LO, 1);
-        addEntry("ModifiedAttributesSequence", AttributeTag.ModifiedAttributesSequence, ValueRepresentation.SQ, 1);
-        addEntry("ModifiedImageDate", AttributeTag.ModifiedImageDate, ValueRepresentation.DA, 1);
-        addEntry("ModifiedImageDescription", AttributeTag.ModifiedImageDescription, ValueRepresentation.LO, 1);
-        addEntry("ModifiedImageID", AttributeTag.ModifiedImageID, ValueRepresentation.CS, 1);
-        addEntry("ModifiedImageTime", AttributeTag.ModifiedImageTime, ValueRepresentation.TM, 1);
-        addEntry("ModifierCodeSequence", AttributeTag.ModifierCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ModifyingDeviceID", AttributeTag.ModifyingDeviceID, ValueRepresentation.CS, 1);
-        addEntry("ModifyingDeviceManufacturer", AttributeTag.ModifyingDeviceManufacturer, ValueRepresentation.LO, 1);
-        addEntry("ModifyingSystem", AttributeTag.ModifyingSystem, ValueRepresentation.LO, 1);
-        addEntry("MostRecentTreatmentDate", AttributeTag.MostRecentTreatmentDate, ValueRepresentation.DA, 1);
-        addEntry("MotionSynchronizationSequence", AttributeTag.MotionSynchronizationSequence, ValueRepresentation.SQ, 1);
-        addEntry("MoveDestination", AttributeTag.MoveDestination, ValueRepresentation.AE, 1);
-        addEntry("MoveOriginatorApplicationEntityTitle", AttributeTag.MoveOriginatorApplicationEntityTitle, ValueRepresentation.AE, 1);
-        addEntry("MoveOriginatorMessageID", AttributeTag.MoveOriginatorMessageID, ValueRepresentation.US, 1);
-        addEntry("MRAcquisitionFrequencyEncodingSteps", AttributeTag.MRAcquisitionFrequencyEncodingSteps, ValueRepresentation.US, 1);
-        addEntry("MRAcquisitionPhaseEncodingStepsInPlane", AttributeTag.MRAcquisitionPhaseEncodingStepsInPlane, ValueRepresentation.US, 1);
-        addEntry("MRAcquisitionPhaseEncodingStepsOutOfPlane", AttributeTag.MRAcquisitionPhaseEncodingStepsOutOfPlane, ValueRepresentation.US, 1);
-        addEntry("MRAcquisitionType", AttributeTag.MRAcquisitionType, ValueRepresentation.CS, 1);
-        addEntry("MRAveragesSequence", AttributeTag.MRAveragesSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRDiffusionSequence", AttributeTag.MRDiffusionSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRDRDirectoryRecordOffset", AttributeTag.MRDRDirectoryRecordOffset, ValueRepresentation.UL, 1);
-        addEntry("MREchoSequence", AttributeTag.MREchoSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRFOVGeometrySequence", AttributeTag.MRFOVGeometrySequence, ValueRepresentation.SQ, 1);
-        addEntry("MRImageFrameTypeSequence", AttributeTag.MRImageFrameTypeSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRImagingModifierSequence", AttributeTag.MRImagingModifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRMetaboliteMapSequence", AttributeTag.MRMetaboliteMapSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRModifierSequence", AttributeTag.MRModifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRReceiveCoilSequence", AttributeTag.MRReceiveCoilSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRSpatialSaturationSequence", AttributeTag.MRSpatialSaturationSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRSpectroscopyAcquisitionType", AttributeTag.MRSpectroscopyAcquisitionType, ValueRepresentation.CS, 1);
-        addEntry("MRSpectroscopyFOVGeometrySequence", AttributeTag.MRSpectroscopyFOVGeometrySequence, ValueRepresentation.SQ, 1);
-        addEntry("MRSpectroscopyFrameTypeSequence", AttributeTag.MRSpectroscopyFrameTypeSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRTimingAndRelatedParametersSequence", AttributeTag.MRTimingAndRelatedParametersSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRTransmitCoilSequence", AttributeTag.MRTransmitCoilSequence, ValueRepresentation.SQ, 1);
-        addEntry("MRVelocityEncodingSequence", AttributeTag.MRVelocityEncodingSequence, ValueRepresentation.SQ, 1);
-        addEntry("MultiCoilConfiguration", AttributeTag.MultiCoilConfiguration, ValueRepresentation.LO, 1);
-        addEntry("MultiCoilDefinitionSequence", AttributeTag.MultiCoilDefinitionSequence, ValueRepresentation.SQ, 1);
-        addEntry("MultiCoilElementName", AttributeTag.MultiCoilElementName, ValueRepresentation.SH, 1);
-        addEntry("MultiCoilElementUsed", AttributeTag.MultiCoilElementUsed, ValueRepresentation.CS, 1);
-        addEntry("MultiFramePresentationSequence", AttributeTag.MultiFramePresentationSequence, ValueRepresentation.SQ, 1);
-        addEntry("MultiFrameSourceSOPInstanceUID", AttributeTag.MultiFrameSourceSOPInstanceUID, ValueRepresentation.UI, 1);
-        addEntry("MultiPlanarExcitation", AttributeTag.MultiPlanarExcitation, ValueRepresentation.CS, 1);
-        addEntry("MultipleCopiesFlag", AttributeTag.MultipleCopiesFlag, ValueRepresentation.CS, 1);
-        addEntry("MultipleSpinEcho", AttributeTag.MultipleSpinEcho, ValueRepresentation.CS, 1);
-        addEntry("MultiplexedAudioChannelsDescriptionCodeSequence", AttributeTag.MultiplexedAudioChannelsDescriptionCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("MultiplexGroupLabel", AttributeTag.MultiplexGroupLabel, ValueRepresentation.SH, 1);
-        addEntry("MultiplexGroupTimeOffset", AttributeTag.MultiplexGroupTimeOffset, ValueRepresentation.DS, 1);
-        addEntry("MydriaticAgentCodeSequence", AttributeTag.MydriaticAgentCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("MydriaticAgentConcentration", AttributeTag.MydriaticAgentConcentration, ValueRepresentation.DS, 1);
-        addEntry("MydriaticAgentConcentrationUnitsSequence", AttributeTag.MydriaticAgentConcentrationUnitsSequence, ValueRepresentation.SQ, 1);
-        addEntry("MydriaticAgentSequence", AttributeTag.MydriaticAgentSequence, ValueRepresentation.SQ, 1);
-        addEntry("NameOfPhysiciansReadingStudy", AttributeTag.NameOfPhysiciansReadingStudy, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
-        addEntry("NamesOfIntendedRecipientsOfResults", AttributeTag.NamesOfIntendedRecipientsOfResults, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
-        addEntry("NavigationDisplaySet", AttributeTag.NavigationDisplaySet, ValueRepresentation.US, 1);
-        addEntry("NavigationIndicatorSequence", AttributeTag.NavigationIndicatorSequence, ValueRepresentation.SQ, 1);
-        addEntry("NearPupillaryDistance", AttributeTag.NearPupillaryDistance, ValueRepresentation.FD, 1);
-        addEntry("NetworkID", AttributeTag.NetworkID, ValueRepresentation.AE, 1);
-        addEntry("NominalBeamEnergy", AttributeTag.NominalBeamEnergy, ValueRepresentation.DS, 1);
-        addEntry("NominalBeamEnergyUnit", AttributeTag.NominalBeamEnergyUnit, ValueRepresentation.CS, 1);
-        addEntry("NominalCardiacTriggerDelayTime", AttributeTag.NominalCardiacTriggerDelayTime, ValueRepresentation.FD, 1);
-        addEntry("NominalInterval", AttributeTag.NominalInterval, ValueRepresentation.IS, 1);
-        addEntry("NominalPercentageOfCardiacPhase", AttributeTag.NominalPercentageOfCardiacPhase, ValueRepresentation.FL, 1);
-        addEntry("NominalPercentageOfRespiratoryPhase", AttributeTag.NominalPercentageOfRespiratoryPhase, ValueRepresentation.FL, 1);
-        addEntry("NominalPriorDose", AttributeTag.NominalPriorDose, ValueRepresentation.DS, 1);
-        addEntry("NominalRespiratoryTriggerDelayTime", AttributeTag.NominalRespiratoryTriggerDelayTime, ValueRepresentation.FD, 1);
-        addEntry("NominalScannedPixelSpacing", AttributeTag.NominalScannedPixelSpacing, ValueRepresentation.DS, 2);
-        addEntry("NominalScreenDefinitionSequence", AttributeTag.NominalScreenDefinitionSequence, ValueRepresentation.SQ, 1);
-        addEntry("NonDICOMOutputCodeSequence", AttributeTag.NonDICOMOutputCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("NonUniformRadialSamplingCorrected", AttributeTag.NonUniformRadialSamplingCorrected, ValueRepresentation.CS, 1);
-        addEntry("NormalizationFactorFormat", AttributeTag.NormalizationFactorFormat, ValueRepresentation.US, 1);
-        addEntry("NormalizationPoint", AttributeTag.NormalizationPoint, ValueRepresentation.DS, 3);
-        addEntry("NormalReverse", AttributeTag.NormalReverse, ValueRepresentation.CS, 1);
-        addEntry("NotchFilterBandwidth", AttributeTag.NotchFilterBandwidth, ValueRepresentation.DS, 1);
-        addEntry("NotchFilterFrequency", AttributeTag.NotchFilterFrequency, ValueRepresentation.DS, 1);
-        addEntry("NTPSourceAddress", AttributeTag.NTPSourceAddress, ValueRepresentation.LO, 1);
-        addEntry("NuclearMedicineSeriesType", AttributeTag.NuclearMedicineSeriesType, ValueRepresentation.CS, 1);
-        addEntry("NumberOfAverages", AttributeTag.NumberOfAverages, ValueRepresentation.DS, 1);
-        addEntry("NumberOfBeams", AttributeTag.NumberOfBeams, ValueRepresentation.IS, 1);
-        addEntry("NumberOfBlocks", AttributeTag.NumberOfBlocks, ValueRepresentation.IS, 1);
-        addEntry("NumberOfBoli", AttributeTag.NumberOfBoli, ValueRepresentation.IS, 1);
-        addEntry("NumberOfBrachyApplicationSetups", AttributeTag.NumberOfBrachyApplicationSetups, ValueRepresentation.IS, 1);
-        addEntry("NumberOfChannels", AttributeTag.NumberOfChannels, ValueRepresentation.US, 1);
-        addEntry("NumberOfCompensators", AttributeTag.NumberOfCompensators, ValueRepresentation.IS, 1);
-        addEntry("NumberOfCompletedSuboperations", AttributeTag.NumberOfCompletedSuboperations, ValueRepresentation.US, 1);
-        addEntry("NumberOfContourPoints", AttributeTag.NumberOfContourPoints, ValueRepresentation.IS, 1);
-        addEntry("NumberOfControlPoints", AttributeTag.NumberOfControlPoints, ValueRepresentation.IS, 1);
-        addEntry("NumberOfCopies", AttributeTag.NumberOfCopies, ValueRepresentation.IS, 1);
-        addEntry("NumberOfDetectors", AttributeTag.NumberOfDetectors, ValueRepresentation.US, 1);
-        addEntry("NumberOfEnergyWindows", AttributeTag.NumberOfEnergyWindows, ValueRepresentation.US, 1);
-        addEntry("NumberOfEventTimers", AttributeTag.NumberOfEventTimers, ValueRepresentation.IS, 1);
-        addEntry("NumberOfFailedSuboperations", AttributeTag.NumberOfFailedSuboperations, ValueRepresentation.US, 1);
-        addEntry("NumberOfFilms", AttributeTag.NumberOfFilms, ValueRepresentation.IS, 1);
-        addEntry("NumberOfFractionPatternDigitsPerDay", AttributeTag.NumberOfFractionPatternDigitsPerDay, ValueRepresentation.IS, 1);
-        addEntry("NumberOfFractionsDelivered", AttributeTag.NumberOfFractionsDelivered, ValueRepresentation.IS, 1);
-        addEntry("NumberOfFractionsPlanned", AttributeTag.NumberOfFractionsPlanned, ValueRepresentation.IS, 1);
-        addEntry("NumberOfFrames", AttributeTag.NumberOfFrames, ValueRepresentation.IS, 1);
-        addEntry("NumberOfFramesInOverlay", AttributeTag.NumberOfFramesInOverlay, ValueRepresentation.IS, 1);
-        addEntry("NumberOfFramesInPhase", AttributeTag.NumberOfFramesInPhase, ValueRepresentation.US, 1);
-        addEntry("NumberOfFramesInRotation", AttributeTag.NumberOfFramesInRotation, ValueRepresentation.US, 1);
-        addEntry("NumberOfGraphicPoints", AttributeTag.NumberOfGraphicPoints, ValueRepresentation.US, 1);
-        addEntry("NumberOfHorizontalPixels", AttributeTag.NumberOfHorizontalPixels, ValueRepresentation.US, 1);
-        addEntry("NumberOfIterations", AttributeTag.NumberOfIterations, ValueRepresentation.US, 1);
-        addEntry("NumberOfKSpaceTrajectories", AttributeTag.NumberOfKSpaceTrajectories, ValueRepresentation.US, 1);
-        addEntry("NumberOfLateralSpreadingDevices", AttributeTag.NumberOfLateralSpreadingDevices, ValueRepresentation.IS, 1);
-        addEntry("NumberOfLeafJawPairs", AttributeTag.NumberOfLeafJawPairs, ValueRepresentation.IS, 1);
-        addEntry("NumberOfMatches", AttributeTag.NumberOfMatches, ValueRepresentation.US, 1);
-        addEntry("NumberOfPaintings", AttributeTag.NumberOfPaintings, ValueRepresentation.IS, 1);
-        addEntry("NumberOfPatientRelatedInstances", AttributeTag.NumberOfPatientRelatedInstances, ValueRepresentation.IS, 1);
-        addEntry("NumberOfPatientRelatedSeries", AttributeTag.NumberOfPatientRelatedSeries, ValueRepresentation.IS, 1);
-        addEntry("NumberOfPatientRelatedStudies", AttributeTag.NumberOfPatientRelatedStudies, ValueRepresentation.IS, 1);
-        addEntry("NumberOfPhaseEncodingSteps", AttributeTag.NumberOfPhaseEncodingSteps, ValueRepresentation.IS, 1);
-        addEntry("NumberOfPhases", AttributeTag.NumberOfPhases, ValueRepresentation.US, 1);
-        addEntry("NumberOfPoints", AttributeTag.NumberOfPoints, ValueRepresentation.US, 1);
-        addEntry("NumberOfPriorsReferenced", AttributeTag.NumberOfPriorsReferenced, ValueRepresentation.US, 1);
-        addEntry("NumberOfPulses", AttributeTag.NumberOfPulses, ValueRepresentation.IS, 1);
-        addEntry("NumberOfRangeModulators", AttributeTag.NumberOfRangeModulators, ValueRepresentation.IS, 1);
-        addEntry("NumberOfRangeShifters", AttributeTag.NumberOfRangeShifters, ValueRepresentation.IS, 1);
-        addEntry("NumberOfReferences", AttributeTag.NumberOfReferences, ValueRepresentation.UL, 1);
-        addEntry("NumberOfRemainingSuboperations", AttributeTag.NumberOfRemainingSuboperations, ValueRepresentation.US, 1);
-        addEntry("NumberOfRotations", AttributeTag.NumberOfRotations, ValueRepresentation.US, 1);
-        addEntry("NumberOfRRIntervals", AttributeTag.NumberOfRRIntervals, ValueRepresentation.US, 1);
-        addEntry("NumberOfSamples", AttributeTag.NumberOfSamples, ValueRepresentation.UL, 1);
-        addEntry("NumberOfScanSpotPositions", AttributeTag.NumberOfScanSpotPositions, ValueRepresentation.IS, 1);
-        addEntry("NumberOfScreens", AttributeTag.NumberOfScreens, ValueRepresentation.US, 1);
-        addEntry("NumberOfSeriesRelatedInstances", AttributeTag.NumberOfSeriesRelatedInstances, ValueRepresentation.IS, 1);
-        addEntry("NumberOfSlices", AttributeTag.NumberOfSlices, ValueRepresentation.US, 1);
-        addEntry("NumberOfStages", AttributeTag.NumberOfStages, ValueRepresentation.IS, 1);
-        addEntry("NumberOfStudyRelatedInstances", AttributeTag.NumberOfStudyRelatedInstances, ValueRepresentation.IS, 1);
-        addEntry("NumberOfStudyRelatedSeries", AttributeTag.NumberOfStudyRelatedSeries, ValueRepresentation.IS, 1);
-        addEntry("NumberOfSubsets", AttributeTag.NumberOfSubsets, ValueRepresentation.US, 1);
-        addEntry("NumberOfSurfacePoints", AttributeTag.NumberOfSurfacePoints, ValueRepresentation.UL, 1);
-        addEntry("NumberOfSurfaces", AttributeTag.NumberOfSurfaces, ValueRepresentation.UL, 1);
-        addEntry("NumberOfTableBreakPoints", AttributeTag.NumberOfTableBreakPoints, ValueRepresentation.UL, 1);
-        addEntry("NumberOfTableEntries", AttributeTag.NumberOfTableEntries, ValueRepresentation.UL, 1);
-        addEntry("NumberOfTables", AttributeTag.NumberOfTables, ValueRepresentation.US, 1);
-        addEntry("NumberOfTemporalPositions", AttributeTag.NumberOfTemporalPositions, ValueRepresentation.IS, 1);
-        addEntry("NumberOfTimeSlices", AttributeTag.NumberOfTimeSlices, ValueRepresentation.US, 1);
-        addEntry("NumberOfTimeSlots", AttributeTag.NumberOfTimeSlots, ValueRepresentation.US, 1);
-        addEntry("NumberOfTomosynthesisSourceImages", AttributeTag.NumberOfTomosynthesisSourceImages, ValueRepresentation.IS, 1);
-        addEntry("NumberOfTransformSteps", AttributeTag.NumberOfTransformSteps, ValueRepresentation.US, 1);
-        addEntry("NumberOfTriggersInPhase", AttributeTag.NumberOfTriggersInPhase, ValueRepresentation.US, 1);
-        addEntry("NumberOfVectors", AttributeTag.NumberOfVectors, ValueRepresentation.UL, 1);
-        addEntry("NumberOfVerticalPixels", AttributeTag.NumberOfVerticalPixels, ValueRepresentation.US, 1);
-        addEntry("NumberOfViewsInStage", AttributeTag.NumberOfViewsInStage, ValueRepresentation.IS, 1);
-        addEntry("NumberOfWarningSuboperations", AttributeTag.NumberOfWarningSuboperations, ValueRepresentation.US, 1);
-        addEntry("NumberOfWaveformChannels", AttributeTag.NumberOfWaveformChannels, ValueRepresentation.US, 1);
-        addEntry("NumberOfWaveformSamples", AttributeTag.NumberOfWaveformSamples, ValueRepresentation.UL, 1);
-        addEntry("NumberOfWedges", AttributeTag.NumberOfWedges, ValueRepresentation.IS, 1);
-        addEntry("NumberOfZeroFills", AttributeTag.NumberOfZeroFills, ValueRepresentation.US, 1, 2);
-        addEntry("NumericValue", AttributeTag.NumericValue, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("NumericValueQualifierCodeSequence", AttributeTag.NumericValueQualifierCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ObjectPixelSpacingInCenterOfBeam", AttributeTag.ObjectPixelSpacingInCenterOfBeam, ValueRepresentation.FL, 2);
-        addEntry("ObjectThicknessSequence", AttributeTag.ObjectThicknessSequence, ValueRepresentation.SQ, 1);
-        addEntry("ObservationDateTime", AttributeTag.ObservationDateTime, ValueRepresentation.DT, 1);
-        addEntry("ObservationNumber", AttributeTag.ObservationNumber, ValueRepresentation.IS, 1);
-        addEntry("ObserverType", AttributeTag.ObserverType, ValueRepresentation.CS, 1);
-        addEntry("Occupation", AttributeTag.Occupation, ValueRepresentation.SH, 1);
-        addEntry("OffendingElement", AttributeTag.OffendingElement, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("OffsetOfReferencedLowerLevelDirectoryEntity", AttributeTag.OffsetOfReferencedLowerLevelDirectoryEntity, ValueRepresentation.UL, 1);
-        addEntry("OffsetOfTheFirstDirectoryRecordOfTheRootDirectoryEntity", AttributeTag.OffsetOfTheFirstDirectoryRecordOfTheRootDirectoryEntity, ValueRepresentation.UL, 1);
-        addEntry("OffsetOfTheLastDirectoryRecordOfTheRootDirectoryEntity", AttributeTag.OffsetOfTheLastDirectoryRecordOfTheRootDirectoryEntity, ValueRepresentation.UL, 1);
-        addEntry("OffsetOfTheNextDirectoryRecord", AttributeTag.OffsetOfTheNextDirectoryRecord, ValueRepresentation.UL, 1);
-        addEntry("OnAxisBackgroundAnatomicStructureCodeSequenceTrial", AttributeTag.OnAxisBackgroundAnatomicStructureCodeSequenceTrial, ValueRepresentation.SQ, 1);
-        addEntry("OperatingMode", AttributeTag.OperatingMode, ValueRepresentation.CS, 1);
-        addEntry("OperatingModeSequence", AttributeTag.OperatingModeSequence, ValueRepresentation.SQ, 1);
-        addEntry("OperatingModeType", AttributeTag.OperatingModeType, ValueRepresentation.CS, 1);
-        addEntry("OperatorIdentificationSequence", AttributeTag.OperatorIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("OperatorsName", AttributeTag.OperatorsName, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
-        addEntry("OphthalmicFrameLocationSequence", AttributeTag.OphthalmicFrameLocationSequence, ValueRepresentation.SQ, 1);
-        addEntry("OphthalmicImageOrientation", AttributeTag.OphthalmicImageOrientation, ValueRepresentation.CS, 1);
-        addEntry("OpticalTransmittance", AttributeTag.OpticalTransmittance, ValueRepresentation.FD, 1);
-        addEntry("Optotype", AttributeTag.Optotype, ValueRepresentation.CS, 1);
-        addEntry("OptotypeDetailedDefinition", AttributeTag.OptotypeDetailedDefinition, ValueRepresentation.LO, 1);
-        addEntry("OptotypePresentation", AttributeTag.OptotypePresentation, ValueRepresentation.CS, 1);
-        addEntry("OrderCallbackPhoneNumber", AttributeTag.OrderCallbackPhoneNumber, ValueRepresentation.SH, 1);
-        addEntry("OrderEnteredBy", AttributeTag.OrderEnteredBy, ValueRepresentation.PN, 1);
-        addEntry("OrderEntererLocation", AttributeTag.OrderEntererLocation, ValueRepresentation.SH, 1);
-        addEntry("OrderFillerIdentifierSequence", AttributeTag.OrderFillerIdentifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("OrderPlacerIdentifierSequence", AttributeTag.OrderPlacerIdentifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("OrganAtRiskFullVolumeDose", AttributeTag.OrganAtRiskFullVolumeDose, ValueRepresentation.DS, 1);
-        addEntry("OrganAtRiskLimitDose", AttributeTag.OrganAtRiskLimitDose, ValueRepresentation.DS, 1);
-        addEntry("OrganAtRiskMaximumDose", AttributeTag.OrganAtRiskMaximumDose, ValueRepresentation.DS, 1);
-        addEntry("OrganAtRiskOverdoseVolumeFraction", AttributeTag.OrganAtRiskOverdoseVolumeFraction, ValueRepresentation.DS, 1);
-        addEntry("OrganDose", AttributeTag.OrganDose, ValueRepresentation.DS, 1);
-        addEntry("OrganExposed", AttributeTag.OrganExposed, ValueRepresentation.CS, 1);
-        addEntry("OriginalAttributesSequence", AttributeTag.OriginalAttributesSequence, ValueRepresentation.SQ, 1);
-        addEntry("OriginalImageIdentification", AttributeTag.OriginalImageIdentification, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("OriginalImageIdentificationNomenclature", AttributeTag.OriginalImageIdentificationNomenclature, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("OriginalImageSequence", AttributeTag.OriginalImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("OriginalSpecializedSOPClassUID", AttributeTag.OriginalSpecializedSOPClassUID, ValueRepresentation.UI, 1);
-        addEntry("Originator", AttributeTag.Originator, ValueRepresentation.AE, 1);
-        addEntry("OtherMagnificationTypesAvailable", AttributeTag.OtherMagnificationTypesAvailable, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("OtherMediaAvailableSequence", AttributeTag.OtherMediaAvailableSequence, ValueRepresentation.SQ, 1);
-        addEntry("OtherPatientIDs", AttributeTag.OtherPatientIDs, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("OtherPatientIDsSequence", AttributeTag.OtherPatientIDsSequence, ValueRepresentation.SQ, 1);
-        addEntry("OtherPatientNames", AttributeTag.OtherPatientNames, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
-        addEntry("OtherPupillaryDistance", AttributeTag.OtherPupillaryDistance, ValueRepresentation.FD, 1);
-        addEntry("OtherSmoothingTypesAvailable", AttributeTag.OtherSmoothingTypesAvailable, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("OtherStudyNumbers", AttributeTag.OtherStudyNumbers, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("OutputInformationSequence", AttributeTag.OutputInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("OutputPower", AttributeTag.OutputPower, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("OverlayActivationLayer", AttributeTag.OverlayActivationLayer, ValueRepresentation.CS, 1);
-        addEntry("OverlayBackgroundDensity", AttributeTag.OverlayBackgroundDensity, ValueRepresentation.CS, 1);
-        addEntry("OverlayBitPosition", AttributeTag.OverlayBitPosition, ValueRepresentation.US, 1);
-        addEntry("OverlayBitsAllocated", AttributeTag.OverlayBitsAllocated, ValueRepresentation.US, 1);
-        addEntry("OverlayBitsForCodeWord", AttributeTag.OverlayBitsForCodeWord, ValueRepresentation.US, 1);
-        addEntry("OverlayBitsGrouped", AttributeTag.OverlayBitsGrouped, ValueRepresentation.US, 1);
-        addEntry("OverlayCodeLabel", AttributeTag.OverlayCodeLabel, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("OverlayCodeTableLocation", AttributeTag.OverlayCodeTableLocation, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("OverlayColumns", AttributeTag.OverlayColumns, ValueRepresentation.US, 1);
-        addEntry("OverlayComments", AttributeTag.OverlayComments, ValueRepresentation.LT, 1);
-        addEntry("OverlayCompressionCode", AttributeTag.OverlayCompressionCode, ValueRepresentation.CS, 1);
-        addEntry("OverlayCompressionDescription", AttributeTag.OverlayCompressionDescription, ValueRepresentation.CS, 1);
-        addEntry("OverlayCompressionLabel", AttributeTag.OverlayCompressionLabel, ValueRepresentation.SH, 1);
-        addEntry("OverlayCompressionOriginator", AttributeTag.OverlayCompressionOriginator, ValueRepresentation.SH, 1);
-        addEntry("OverlayCompressionStepPointers", AttributeTag.OverlayCompressionStepPointers, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("OverlayData", AttributeTag.OverlayData, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
-        addEntry("OverlayDate", AttributeTag.OverlayDate, ValueRepresentation.DA, 1);
-        addEntry("OverlayDescription", AttributeTag.OverlayDescription, ValueRepresentation.LO, 1);
-        addEntry("OverlayDescriptorBlue", AttributeTag.OverlayDescriptorBlue, ValueRepresentation.US, 1);
-        addEntry("OverlayDescriptorGray", AttributeTag.OverlayDescriptorGray, ValueRepresentation.US, 1);
-        addEntry("OverlayDescriptorGreen", AttributeTag.OverlayDescriptorGreen, ValueRepresentation.US, 1);
-        addEntry("OverlayDescriptorRed", AttributeTag.OverlayDescriptorRed, ValueRepresentation.US, 1);
-        addEntry("OverlayForegroundDensity", AttributeTag.OverlayForegroundDensity, ValueRepresentation.CS, 1);
-        addEntry("OverlayFormat", AttributeTag.OverlayFormat, ValueRepresentation.CS, 1);
-        addEntry("OverlayLabel", AttributeTag.OverlayLabel, ValueRepresentation.LO, 1);
-        addEntry("OverlayLocation", AttributeTag.OverlayLocation, ValueRepresentation.US, 1);
-        addEntry("OverlayMagnificationType", AttributeTag.OverlayMagnificationType, ValueRepresentation.CS, 1);
-        addEntry("OverlayMode", AttributeTag.OverlayMode, ValueRepresentation.CS, 1);
-        addEntry("OverlayNumber", AttributeTag.OverlayNumber, ValueRepresentation.IS, 1);
-        addEntry("OverlayNumberOfTables", AttributeTag.OverlayNumberOfTables, ValueRepresentation.US, 1);
-        addEntry("OverlayOrigin", AttributeTag.OverlayOrigin, ValueRepresentation.SS, 2);
-        addEntry("OverlayOrImageMagnification", AttributeTag.OverlayOrImageMagnification, ValueRepresentation.CS, 1);
-        addEntry("OverlayPixelDataSequence", AttributeTag.OverlayPixelDataSequence, ValueRepresentation.SQ, 1);
-        addEntry("OverlayPlaneOrigin", AttributeTag.OverlayPlaneOrigin, ValueRepresentation.US, 1);
-        addEntry("OverlayPlanes", AttributeTag.OverlayPlanes, ValueRepresentation.US, 1);
-        addEntry("OverlayRepeatInterval", AttributeTag.OverlayRepeatInterval, ValueRepresentation.US, 1);
-        addEntry("OverlayRows", AttributeTag.OverlayRows, ValueRepresentation.US, 1);
-        addEntry("Overlays", AttributeTag.Overlays, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("OverlaysBlue", AttributeTag.OverlaysBlue, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("OverlaysGray", AttributeTag.OverlaysGray, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("OverlaysGreen", AttributeTag.OverlaysGreen, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("OverlaySmoothingType", AttributeTag.OverlaySmoothingType, ValueRepresentation.CS, 1);
-        addEntry("OverlaysRed", AttributeTag.OverlaysRed, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("OverlaySubtype", AttributeTag.OverlaySubtype, ValueRepresentation.LO, 1);
-        addEntry("OverlayTime", AttributeTag.OverlayTime, ValueRepresentation.TM, 1);
-        addEntry("OverlayType", AttributeTag.OverlayType, ValueRepresentation.CS, 1);
-        addEntry("OverriddenAttributesSequence", AttributeTag.OverriddenAttributesSequence, ValueRepresentation.SQ, 1);
-        addEntry("OverrideParameterPointer", AttributeTag.OverrideParameterPointer, ValueRepresentation.AT, 1);
-        addEntry("OverrideReason", AttributeTag.OverrideReason, ValueRepresentation.ST, 1);
-        addEntry("OverrideSequence", AttributeTag.OverrideSequence, ValueRepresentation.SQ, 1);
-        addEntry("OversamplingPhase", AttributeTag.OversamplingPhase, ValueRepresentation.CS, 1);
-        addEntry("OwnerID", AttributeTag.OwnerID, ValueRepresentation.SH, 1);
-        addEntry("PageNumberVector", AttributeTag.PageNumberVector, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("PagePositionID", AttributeTag.PagePositionID, ValueRepresentation.AT, 1);
-        addEntry("PaletteColorLookupTableUID", AttributeTag.PaletteColorLookupTableUID, ValueRepresentation.UI, 1);
-        addEntry("ParallelAcquisition", AttributeTag.ParallelAcquisition, ValueRepresentation.CS, 1);
-        addEntry("ParallelAcquisitionTechnique", AttributeTag.ParallelAcquisitionTechnique, ValueRepresentation.CS, 1);
-        addEntry("ParallelReductionFactorInPlane", AttributeTag.ParallelReductionFactorInPlane, ValueRepresentation.FD, 1);
-        addEntry("ParallelReductionFactorInPlaneRetired", AttributeTag.ParallelReductionFactorInPlaneRetired, ValueRepresentation.FD, 1);
-        addEntry("ParallelReductionFactorOutOfPlane", AttributeTag.ParallelReductionFactorOutOfPlane, ValueRepresentation.FD, 1);
-        addEntry("ParallelReductionFactorSecondInPlane", AttributeTag.ParallelReductionFactorSecondInPlane, ValueRepresentation.FD, 1);
-        addEntry("ParameterItemIndex", AttributeTag.ParameterItemIndex, ValueRepresentation.IS, 1);
-        addEntry("ParameterPointer", AttributeTag.ParameterPointer, ValueRepresentation.AT, 1);
-        addEntry("ParameterSequencePointer", AttributeTag.ParameterSequencePointer, ValueRepresentation.AT, 1);
-        addEntry("PartialDataDisplayHandling", AttributeTag.PartialDataDisplayHandling, ValueRepresentation.CS, 1);
-        addEntry("PartialFourier", AttributeTag.PartialFourier, ValueRepresentation.CS, 1);
-        addEntry("PartialFourierDirection", AttributeTag.PartialFourierDirection, ValueRepresentation.CS, 1);
-        addEntry("PartialView", AttributeTag.PartialView, ValueRepresentation.CS, 1);
-        addEntry("PartialViewCodeSequence", AttributeTag.PartialViewCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PartialViewDescription", AttributeTag.PartialViewDescription, ValueRepresentation.ST, 1);
-        addEntry("ParticipantSequence", AttributeTag.ParticipantSequence, ValueRepresentation.SQ, 1);
-        addEntry("ParticipationDateTime", AttributeTag.ParticipationDateTime, ValueRepresentation.DT, 1);
-        addEntry("ParticipationType", AttributeTag.ParticipationType, ValueRepresentation.CS, 1);
-        addEntry("PatientAdditionalPosition", AttributeTag.PatientAdditionalPosition, ValueRepresentation.LO, 1);
-        addEntry("PatientAddress", AttributeTag.PatientAddress, ValueRepresentation.LO, 1);
-        addEntry("PatientAge", AttributeTag.PatientAge, ValueRepresentation.AS, 1);
-        addEntry("PatientBirthDate", AttributeTag.PatientBirthDate, ValueRepresentation.DA, 1);
-        addEntry("PatientBirthName", AttributeTag.PatientBirthName, ValueRepresentation.PN, 1);
-        addEntry("PatientBirthTime", AttributeTag.PatientBirthTime, ValueRepresentation.TM, 1);
-        addEntry("PatientBreedCodeSequence", AttributeTag.PatientBreedCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientBreedDescription", AttributeTag.PatientBreedDescription, ValueRepresentation.LO, 1);
-        addEntry("PatientClinicalTrialParticipationSequence", AttributeTag.PatientClinicalTrialParticipationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientComments", AttributeTag.PatientComments, ValueRepresentation.LT, 1);
-        addEntry("PatientEyeMovementCommandCodeSequence", AttributeTag.PatientEyeMovementCommandCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientEyeMovementCommanded", AttributeTag.PatientEyeMovementCommanded, ValueRepresentation.CS, 1);
-        addEntry("PatientFrameOfReferenceSource", AttributeTag.PatientFrameOfReferenceSource, ValueRepresentation.CS, 1);
-        addEntry("PatientGantryRelationshipCodeSequence", AttributeTag.PatientGantryRelationshipCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientID", AttributeTag.PatientID, ValueRepresentation.LO, 1);
-        addEntry("PatientIdentityRemoved", AttributeTag.PatientIdentityRemoved, ValueRepresentation.CS, 1);
-        addEntry("PatientInstitutionResidence", AttributeTag.PatientInstitutionResidence, ValueRepresentation.LO, 1);
-        addEntry("PatientInsurancePlanCodeSequence", AttributeTag.PatientInsurancePlanCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientMotherBirthName", AttributeTag.PatientMotherBirthName, ValueRepresentation.PN, 1);
-        addEntry("PatientMotionCorrected", AttributeTag.PatientMotionCorrected, ValueRepresentation.CS, 1);
-        addEntry("PatientName", AttributeTag.PatientName, ValueRepresentation.PN, 1);
-        addEntry("PatientOrientation", AttributeTag.PatientOrientation, ValueRepresentation.CS, 2);
-        addEntry("PatientOrientationCodeSequence", AttributeTag.PatientOrientationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientOrientationInFrameSequence", AttributeTag.PatientOrientationInFrameSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientOrientationModifierCodeSequence", AttributeTag.PatientOrientationModifierCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientPhysiologicalStateCodeSequence", AttributeTag.PatientPhysiologicalStateCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientPhysiologicalStateSequence", AttributeTag.PatientPhysiologicalStateSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientPosition", AttributeTag.PatientPosition, ValueRepresentation.CS, 1);
-        addEntry("PatientPrimaryLanguageCodeSequence", AttributeTag.PatientPrimaryLanguageCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientPrimaryLanguageModifierCodeSequence", AttributeTag.PatientPrimaryLanguageModifierCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientReligiousPreference", AttributeTag.PatientReligiousPreference, ValueRepresentation.LO, 1);
-        addEntry("PatientSetupLabel", AttributeTag.PatientSetupLabel, ValueRepresentation.LO, 1);
-        addEntry("PatientSetupNumber", AttributeTag.PatientSetupNumber, ValueRepresentation.IS, 1);
-        addEntry("PatientSetupSequence", AttributeTag.PatientSetupSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientSex", AttributeTag.PatientSex, ValueRepresentation.CS, 1);
-        addEntry("PatientSexNeutered", AttributeTag.PatientSexNeutered, ValueRepresentation.CS, 1);
-        addEntry("PatientSize", AttributeTag.PatientSize, ValueRepresentation.DS, 1);
-        addEntry("PatientSpeciesCodeSequence", AttributeTag.PatientSpeciesCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PatientSpeciesDescription", AttributeTag.PatientSpeciesDescription, ValueRepresentation.LO, 1);
-        addEntry("PatientState", AttributeTag.PatientState, ValueRepresentation.LO, 1);
-        addEntry("PatientSupportAccessoryCode", AttributeTag.PatientSupportAccessoryCode, ValueRepresentation.LO, 1);
-        addEntry("PatientSupportAngle", AttributeTag.PatientSupportAngle, ValueRepresentation.DS, 1);
-        addEntry("PatientSupportAngleTolerance", AttributeTag.PatientSupportAngleTolerance, ValueRepresentation.DS, 1);
-        addEntry("PatientSupportID", AttributeTag.PatientSupportID, ValueRepresentation.SH, 1);
-        addEntry("PatientSupportRotationDirection", AttributeTag.PatientSupportRotationDirection, ValueRepresentation.CS, 1);
-        addEntry("PatientSupportType", AttributeTag.PatientSupportType, ValueRepresentation.CS, 1);
-        addEntry("PatientTelephoneNumbers", AttributeTag.PatientTelephoneNumbers, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("PatientTransportArrangements", AttributeTag.PatientTransportArrangements, ValueRepresentation.LO, 1);
-        addEntry("PatientWeight", AttributeTag.PatientWeight, ValueRepresentation.DS, 1);
-        addEntry("PatternOffColorCIELabValue", AttributeTag.PatternOffColorCIELabValue, ValueRepresentation.US, 3);
-        addEntry("PatternOffOpacity", AttributeTag.PatternOffOpacity, ValueRepresentation.FL, 1);
-        addEntry("PatternOnColorCIELabValue", AttributeTag.PatternOnColorCIELabValue, ValueRepresentation.US, 3);
-        addEntry("PatternOnOpacity", AttributeTag.PatternOnOpacity, ValueRepresentation.FL, 1);
-        addEntry("PauseBetweenFrames", AttributeTag.PauseBetweenFrames, ValueRepresentation.IS, 1);
-        addEntry("PercentPhaseFieldOfView", AttributeTag.PercentPhaseFieldOfView, ValueRepresentation.DS, 1);
-        addEntry("PercentSampling", AttributeTag.PercentSampling, ValueRepresentation.DS, 1);
-        addEntry("PerformedLocation", AttributeTag.PerformedLocation, ValueRepresentation.SH, 1);
-        addEntry("PerformedProcedureCodeSequence", AttributeTag.PerformedProcedureCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformedProcedureStepDescription", AttributeTag.PerformedProcedureStepDescription, ValueRepresentation.LO, 1);
-        addEntry("PerformedProcedureStepDiscontinuationReasonCodeSequence", AttributeTag.PerformedProcedureStepDiscontinuationReasonCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformedProcedureStepEndDate", AttributeTag.PerformedProcedureStepEndDate, ValueRepresentation.DA, 1);
-        addEntry("PerformedProcedureStepEndTime", AttributeTag.PerformedProcedureStepEndTime, ValueRepresentation.TM, 1);
-        addEntry("PerformedProcedureStepID", AttributeTag.PerformedProcedureStepID, ValueRepresentation.SH, 1);
-        addEntry("PerformedProcedureStepStartDate", AttributeTag.PerformedProcedureStepStartDate, ValueRepresentation.DA, 1);
-        addEntry("PerformedProcedureStepStartTime", AttributeTag.PerformedProcedureStepStartTime, ValueRepresentation.TM, 1);
-        addEntry("PerformedProcedureStepStatus", AttributeTag.PerformedProcedureStepStatus, ValueRepresentation.CS, 1);
-        addEntry("PerformedProcedureTypeDescription", AttributeTag.PerformedProcedureTypeDescription, ValueRepresentation.LO, 1);
-        addEntry("PerformedProcessingApplicationsCodeSequence", AttributeTag.PerformedProcessingApplicationsCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformedProcessingParametersSequence", AttributeTag.PerformedProcessingParametersSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformedProtocolCodeSequence", AttributeTag.PerformedProtocolCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformedProtocolType", AttributeTag.PerformedProtocolType, ValueRepresentation.CS, 1);
-        addEntry("PerformedSeriesSequence", AttributeTag.PerformedSeriesSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformedStationAETitle", AttributeTag.PerformedStationAETitle, ValueRepresentation.AE, 1);
-        addEntry("PerformedStationClassCodeSequence", AttributeTag.PerformedStationClassCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformedStationGeographicLocationCodeSequence", AttributeTag.PerformedStationGeographicLocationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformedStationName", AttributeTag.PerformedStationName, ValueRepresentation.SH, 1);
-        addEntry("PerformedStationNameCodeSequence", AttributeTag.PerformedStationNameCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformedWorkitemCodeSequence", AttributeTag.PerformedWorkitemCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformingPhysicianIdentificationSequence", AttributeTag.PerformingPhysicianIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerformingPhysicianName", AttributeTag.PerformingPhysicianName, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
-        addEntry("PerFrameFunctionalGroupsSequence", AttributeTag.PerFrameFunctionalGroupsSequence, ValueRepresentation.SQ, 1);
-        addEntry("PerimeterTable", AttributeTag.PerimeterTable, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("PerimeterValue", AttributeTag.PerimeterValue, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("PerProjectionAcquisitionSequence", AttributeTag.PerProjectionAcquisitionSequence, ValueRepresentation.SQ, 1);
-        addEntry("PersonAddress", AttributeTag.PersonAddress, ValueRepresentation.ST, 1);
-        addEntry("PersonIdentificationCodeSequence", AttributeTag.PersonIdentificationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PersonName", AttributeTag.PersonName, ValueRepresentation.PN, 1);
-        addEntry("PersonTelephoneNumbers", AttributeTag.PersonTelephoneNumbers, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("PertinentDocumentsSequence", AttributeTag.PertinentDocumentsSequence, ValueRepresentation.SQ, 1);
-        addEntry("PertinentOtherEvidenceSequence", AttributeTag.PertinentOtherEvidenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("PETDetectorMotionDetailsSequence", AttributeTag.PETDetectorMotionDetailsSequence, ValueRepresentation.SQ, 1);
-        addEntry("PETFrameAcquisitionSequence", AttributeTag.PETFrameAcquisitionSequence, ValueRepresentation.SQ, 1);
-        addEntry("PETFrameCorrectionFactorsSequence", AttributeTag.PETFrameCorrectionFactorsSequence, ValueRepresentation.SQ, 1);
-        addEntry("PETFrameTypeSequence", AttributeTag.PETFrameTypeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PETPositionSequence", AttributeTag.PETPositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("PETReconstructionSequence", AttributeTag.PETReconstructionSequence, ValueRepresentation.SQ, 1);
-        addEntry("PETTableDynamicsSequence", AttributeTag.PETTableDynamicsSequence, ValueRepresentation.SQ, 1);
-        addEntry("PhaseContrast", AttributeTag.PhaseContrast, ValueRepresentation.CS, 1);
-        addEntry("PhaseDelay", AttributeTag.PhaseDelay, ValueRepresentation.IS, 1);
-        addEntry("PhaseDescription", AttributeTag.PhaseDescription, ValueRepresentation.CS, 1);
-        addEntry("PhaseInformationSequence", AttributeTag.PhaseInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PhaseNumber", AttributeTag.PhaseNumber, ValueRepresentation.IS, 1);
-        addEntry("PhaseVector", AttributeTag.PhaseVector, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("PhosphorType", AttributeTag.PhosphorType, ValueRepresentation.LO, 1);
-        addEntry("PhotometricInterpretation", AttributeTag.PhotometricInterpretation, ValueRepresentation.CS, 1);
-        addEntry("PhototimerSetting", AttributeTag.PhototimerSetting, ValueRepresentation.DS, 1);
-        addEntry("PhysicalDeltaX", AttributeTag.PhysicalDeltaX, ValueRepresentation.FD, 1);
-        addEntry("PhysicalDeltaY", AttributeTag.PhysicalDeltaY, ValueRepresentation.FD, 1);
-        addEntry("PhysicalDetectorSize", AttributeTag.PhysicalDetectorSize, ValueRepresentation.FL, 2);
-        addEntry("PhysicalUnitsXDirection", AttributeTag.PhysicalUnitsXDirection, ValueRepresentation.US, 1);
-        addEntry("PhysicalUnitsYDirection", AttributeTag.PhysicalUnitsYDirection, ValueRepresentation.US, 1);
-        addEntry("PhysicianApprovingInterpretation", AttributeTag.PhysicianApprovingInterpretation, ValueRepresentation.PN, 1);
-        addEntry("PhysiciansOfRecord", AttributeTag.PhysiciansOfRecord, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
-        addEntry("PhysiciansOfRecordIdentificationSequence", AttributeTag.PhysiciansOfRecordIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PhysiciansReadingStudyIdentificationSequence", AttributeTag.PhysiciansReadingStudyIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PixelAspectRatio", AttributeTag.PixelAspectRatio, ValueRepresentation.IS, 2);
-        addEntry("PixelBandwidth", AttributeTag.PixelBandwidth, ValueRepresentation.DS, 1);
-        addEntry("PixelComponentDataType", AttributeTag.PixelComponentDataType, ValueRepresentation.US, 1);
-        addEntry("PixelComponentMask", AttributeTag.PixelComponentMask, ValueRepresentation.UL, 1);
-        addEntry("PixelComponentOrganization", AttributeTag.PixelComponentOrganization, ValueRepresentation.US, 1);
-        addEntry("PixelComponentPhysicalUnits", AttributeTag.PixelComponentPhysicalUnits, ValueRepresentation.US, 1);
-        addEntry("PixelComponentRangeStart", AttributeTag.PixelComponentRangeStart, ValueRepresentation.UL, 1);
-        addEntry("PixelComponentRangeStop", AttributeTag.PixelComponentRangeStop, ValueRepresentation.UL, 1);
-        addEntry("PixelData", AttributeTag.PixelData, new ValueRepresentation[] { ValueRepresentation.OW, ValueRepresentation.OB }, 1, 1);
-        addEntry("PixelDataProviderURL", AttributeTag.PixelDataProviderURL, ValueRepresentation.UT, 1);
-        addEntry("PixelIntensityRelationship", AttributeTag.PixelIntensityRelationship, ValueRepresentation.CS, 1);
-        addEntry("PixelIntensityRelationshipLUTSequence", AttributeTag.PixelIntensityRelationshipLUTSequence, ValueRepresentation.SQ, 1);
-        addEntry("PixelIntensityRelationshipSign", AttributeTag.PixelIntensityRelationshipSign, ValueRepresentation.SS, 1);
-        addEntry("PixelMeasuresSequence", AttributeTag.PixelMeasuresSequence, ValueRepresentation.SQ, 1);
-        addEntry("PixelPaddingRangeLimit", AttributeTag.PixelPaddingRangeLimit, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("PixelPaddingValue", AttributeTag.PixelPaddingValue, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("PixelPresentation", AttributeTag.PixelPresentation, ValueRepresentation.CS, 1);
-        addEntry("PixelRepresentation", AttributeTag.PixelRepresentation, ValueRepresentation.US, 1);
-        addEntry("PixelShiftFrameRange", AttributeTag.PixelShiftFrameRange, ValueRepresentation.US, 2, Integer.MAX_VALUE / 2);
-        addEntry("PixelShiftSequence", AttributeTag.PixelShiftSequence, ValueRepresentation.SQ, 1);
-        addEntry("PixelSpacing", AttributeTag.PixelSpacing, ValueRepresentation.DS, 2);
-        addEntry("PixelSpacingCalibrationDescription", AttributeTag.PixelSpacingCalibrationDescription, ValueRepresentation.LO, 1);
-        addEntry("PixelSpacingCalibrationType", AttributeTag.PixelSpacingCalibrationType, ValueRepresentation.CS, 1);
-        addEntry("PixelSpacingSequence", AttributeTag.PixelSpacingSequence, ValueRepresentation.SQ, 1);
-        addEntry("PixelValueMappingCodeSequence", AttributeTag.PixelValueMappingCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PixelValueTransformationSequence", AttributeTag.PixelValueTransformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PlacerOrderNumberImagingServiceRequest", AttributeTag.PlacerOrderNumberImagingServiceRequest, ValueRepresentation.LO, 1);
-        addEntry("PlacerOrderNumberImagingServiceRequestRetired", AttributeTag.PlacerOrderNumberImagingServiceRequestRetired, ValueRepresentation.SH, 1);
-        addEntry("PlacerOrderNumberProcedure", AttributeTag.PlacerOrderNumberProcedure, ValueRepresentation.SH, 1);
-        addEntry("PlanarConfiguration", AttributeTag.PlanarConfiguration, ValueRepresentation.US, 1);
-        addEntry("PlaneIdentification", AttributeTag.PlaneIdentification, ValueRepresentation.CS, 1);
-        addEntry("PlaneOrientationSequence", AttributeTag.PlaneOrientationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PlaneOrientationVolumeSequence", AttributeTag.PlaneOrientationVolumeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PlanePositionSequence", AttributeTag.PlanePositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("PlanePositionVolumeSequence", AttributeTag.PlanePositionVolumeSequence, ValueRepresentation.SQ, 1);
-        addEntry("Planes", AttributeTag.Planes, ValueRepresentation.US, 1);
-        addEntry("PlanIntent", AttributeTag.PlanIntent, ValueRepresentation.CS, 1);
-        addEntry("PlannedVerificationImageSequence", AttributeTag.PlannedVerificationImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("PlateID", AttributeTag.PlateID, ValueRepresentation.LO, 1);
-        addEntry("PlateType", AttributeTag.PlateType, ValueRepresentation.SH, 1);
-        addEntry("PointCoordinatesData", AttributeTag.PointCoordinatesData, ValueRepresentation.OF, 1);
-        addEntry("PointPositionAccuracy", AttributeTag.PointPositionAccuracy, ValueRepresentation.FL, 3);
-        addEntry("PointsBoundingBoxCoordinates", AttributeTag.PointsBoundingBoxCoordinates, ValueRepresentation.FL, 6);
-        addEntry("Polarity", AttributeTag.Polarity, ValueRepresentation.CS, 1);
-        addEntry("PositionerIsocenterDetectorRotationAngle", AttributeTag.PositionerIsocenterDetectorRotationAngle, ValueRepresentation.FL, 1);
-        addEntry("PositionerIsocenterPrimaryAngle", AttributeTag.PositionerIsocenterPrimaryAngle, ValueRepresentation.FL, 1);
-        addEntry("PositionerIsocenterSecondaryAngle", AttributeTag.PositionerIsocenterSecondaryAngle, ValueRepresentation.FL, 1);
-        addEntry("PositionerMotion", AttributeTag.PositionerMotion, ValueRepresentation.CS, 1);
-        addEntry("PositionerPositionSequence", AttributeTag.PositionerPositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("PositionerPrimaryAngle", AttributeTag.PositionerPrimaryAngle, ValueRepresentation.DS, 1);
-        addEntry("PositionerPrimaryAngleIncrement", AttributeTag.PositionerPrimaryAngleIncrement, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("PositionerSecondaryAngle", AttributeTag.PositionerSecondaryAngle, ValueRepresentation.DS, 1);
-        addEntry("PositionerSecondaryAngleIncrement", AttributeTag.PositionerSecondaryAngleIncrement, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("PositionerType", AttributeTag.PositionerType, ValueRepresentation.CS, 1);
-        addEntry("PositionMeasuringDeviceUsed", AttributeTag.PositionMeasuringDeviceUsed, ValueRepresentation.CS, 1);
-        addEntry("PositionOfIsocenterProjection", AttributeTag.PositionOfIsocenterProjection, ValueRepresentation.US, 2);
-        addEntry("PositionReferenceIndicator", AttributeTag.PositionReferenceIndicator, ValueRepresentation.LO, 1);
-        addEntry("PostDeformationMatrixRegistrationSequence", AttributeTag.PostDeformationMatrixRegistrationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PostprocessingFunction", AttributeTag.PostprocessingFunction, ValueRepresentation.LO, 1);
-        addEntry("PredecessorDocumentsSequence", AttributeTag.PredecessorDocumentsSequence, ValueRepresentation.SQ, 1);
-        addEntry("PreDeformationMatrixRegistrationSequence", AttributeTag.PreDeformationMatrixRegistrationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PredictorColumns", AttributeTag.PredictorColumns, ValueRepresentation.US, 1);
-        addEntry("PredictorConstants", AttributeTag.PredictorConstants, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("PredictorRows", AttributeTag.PredictorRows, ValueRepresentation.US, 1);
-        addEntry("PreferredPlaybackSequencing", AttributeTag.PreferredPlaybackSequencing, ValueRepresentation.US, 1);
-        addEntry("PregnancyStatus", AttributeTag.PregnancyStatus, ValueRepresentation.US, 1);
-        addEntry("PreliminaryFlag", AttributeTag.PreliminaryFlag, ValueRepresentation.CS, 1);
-        addEntry("PreMedication", AttributeTag.PreMedication, ValueRepresentation.LO, 1);
-        addEntry("PrescriptionDescription", AttributeTag.PrescriptionDescription, ValueRepresentation.ST, 1);
-        addEntry("PresentationCreationDate", AttributeTag.PresentationCreationDate, ValueRepresentation.DA, 1);
-        addEntry("PresentationCreationTime", AttributeTag.PresentationCreationTime, ValueRepresentation.TM, 1);
-        addEntry("PresentationGroupNumber", AttributeTag.PresentationGroupNumber, ValueRepresentation.US, 1);
-        addEntry("PresentationIntentType", AttributeTag.PresentationIntentType, ValueRepresentation.CS, 1);
-        addEntry("PresentationLUTContentSequence", AttributeTag.PresentationLUTContentSequence, ValueRepresentation.SQ, 1);
-        addEntry("PresentationLUTFlag", AttributeTag.PresentationLUTFlag, ValueRepresentation.CS, 1);
-        addEntry("PresentationLUTSequence", AttributeTag.PresentationLUTSequence, ValueRepresentation.SQ, 1);
-        addEntry("PresentationLUTShape", AttributeTag.PresentationLUTShape, ValueRepresentation.CS, 1);
-        addEntry("PresentationPixelAspectRatio", AttributeTag.PresentationPixelAspectRatio, ValueRepresentation.IS, 2);
-        addEntry("PresentationPixelMagnificationRatio", AttributeTag.PresentationPixelMagnificationRatio, ValueRepresentation.FL, 1);
-        addEntry("PresentationPixelSpacing", AttributeTag.PresentationPixelSpacing, ValueRepresentation.DS, 2);
-        addEntry("PresentationSizeMode", AttributeTag.PresentationSizeMode, ValueRepresentation.CS, 1);
-        addEntry("PreserveCompositeInstancesAfterMediaCreation", AttributeTag.PreserveCompositeInstancesAfterMediaCreation, ValueRepresentation.CS, 1);
-        addEntry("PrimaryAnatomicStructureModifierSequence", AttributeTag.PrimaryAnatomicStructureModifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("PrimaryAnatomicStructureSequence", AttributeTag.PrimaryAnatomicStructureSequence, ValueRepresentation.SQ, 1);
-        addEntry("PrimaryDosimeterUnit", AttributeTag.PrimaryDosimeterUnit, ValueRepresentation.CS, 1);
-        addEntry("PrimaryFluenceModeSequence", AttributeTag.PrimaryFluenceModeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PrimaryPositionerIncrement", AttributeTag.PrimaryPositionerIncrement, ValueRepresentation.FL, 1);
-        addEntry("PrimaryPositionerScanArc", AttributeTag.PrimaryPositionerScanArc, ValueRepresentation.FL, 1);
-        addEntry("PrimaryPositionerScanStartAngle", AttributeTag.PrimaryPositionerScanStartAngle, ValueRepresentation.FL, 1);
-        addEntry("PrimaryPromptsCountsAccumulated", AttributeTag.PrimaryPromptsCountsAccumulated, ValueRepresentation.IS, 1);
-        addEntry("PrimitivePointIndexList", AttributeTag.PrimitivePointIndexList, ValueRepresentation.OW, 1);
-        addEntry("Print", AttributeTag.Print, ValueRepresentation.CS, 1);
-        addEntry("PrinterCharacteristicsSequence", AttributeTag.PrinterCharacteristicsSequence, ValueRepresentation.SQ, 1);
-        addEntry("PrinterConfigurationSequence", AttributeTag.PrinterConfigurationSequence, ValueRepresentation.SQ, 1);
-        addEntry("PrinterName", AttributeTag.PrinterName, ValueRepresentation.LO, 1);
-        addEntry("PrinterPixelSpacing", AttributeTag.PrinterPixelSpacing, ValueRepresentation.DS, 2);
-        addEntry("PrinterResolutionID", AttributeTag.PrinterResolutionID, ValueRepresentation.CS, 1);
-        addEntry("PrinterStatus", AttributeTag.PrinterStatus, ValueRepresentation.CS, 1);
-        addEntry("PrinterStatusInfo", AttributeTag.PrinterStatusInfo, ValueRepresentation.CS, 1);
-        addEntry("PrintingBitDepth", AttributeTag.PrintingBitDepth, ValueRepresentation.US, 1);
-        addEntry("PrintJobDescriptionSequence", AttributeTag.PrintJobDescriptionSequence, ValueRepresentation.SQ, 1);
-        addEntry("PrintJobID", AttributeTag.PrintJobID, ValueRepresentation.SH, 1);
-        addEntry("PrintManagementCapabilitiesSequence", AttributeTag.PrintManagementCapabilitiesSequence, ValueRepresentation.SQ, 1);
-        addEntry("PrintPriority", AttributeTag.PrintPriority, ValueRepresentation.CS, 1);
-        addEntry("PrintQueueID", AttributeTag.PrintQueueID, ValueRepresentation.SH, 1);
-        addEntry("Priority", AttributeTag.Priority, ValueRepresentation.US, 1);
-        addEntry("PrismSequence", AttributeTag.PrismSequence, ValueRepresentation.SQ, 1);
-        addEntry("PrivateInformation", AttributeTag.PrivateInformation, ValueRepresentation.OB, 1);
-        addEntry("PrivateInformationCreatorUID", AttributeTag.PrivateInformationCreatorUID, ValueRepresentation.UI, 1);
-        addEntry("PrivateRecordUID", AttributeTag.PrivateRecordUID, ValueRepresentation.UI, 1);
-        addEntry("ProcedureCodeSequence", AttributeTag.ProcedureCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ProcedureStepLabel", AttributeTag.ProcedureStepLabel, ValueRepresentation.LO, 1);
-        addEntry("ProcedureStepRelationshipType", AttributeTag.ProcedureStepRelationshipType, ValueRepresentation.LO, 1);
-        addEntry("ProcessingFunction", AttributeTag.ProcessingFunction, ValueRepresentation.LO, 1);
-        addEntry("ProductDescription", AttributeTag.ProductDescription, ValueRepresentation.LT, 1);
-        addEntry("ProductExpirationDateTime", AttributeTag.ProductExpirationDateTime, ValueRepresentation.DT, 1);
-        addEntry("ProductLotIdentifier", AttributeTag.ProductLotIdentifier, ValueRepresentation.LO, 1);
-        addEntry("ProductName", AttributeTag.ProductName, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("ProductPackageIdentifier", AttributeTag.ProductPackageIdentifier, ValueRepresentation.ST, 1);
-        addEntry("ProductParameterSequence", AttributeTag.ProductParameterSequence, ValueRepresentation.SQ, 1);
-        addEntry("ProductTypeCodeSequence", AttributeTag.ProductTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ProjectionEponymousNameCodeSequence", AttributeTag.ProjectionEponymousNameCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ProjectionPixelCalibrationSequence", AttributeTag.ProjectionPixelCalibrationSequence, ValueRepresentation.SQ, 1);
-        addEntry("ProposedStudySequence", AttributeTag.ProposedStudySequence, ValueRepresentation.SQ, 1);
-        addEntry("ProtocolContextSequence", AttributeTag.ProtocolContextSequence, ValueRepresentation.SQ, 1);
-        addEntry("ProtocolName", AttributeTag.ProtocolName, ValueRepresentation.LO, 1);
-        addEntry("PseudoColorType", AttributeTag.PseudoColorType, ValueRepresentation.CS, 1);
-        addEntry("PulseRepetitionFrequency", AttributeTag.PulseRepetitionFrequency, ValueRepresentation.UL, 1);
-        addEntry("PulseRepetitionInterval", AttributeTag.PulseRepetitionInterval, ValueRepresentation.DS, 1);
-        addEntry("PulseSequenceName", AttributeTag.PulseSequenceName, ValueRepresentation.SH, 1);
-        addEntry("PupilDilated", AttributeTag.PupilDilated, ValueRepresentation.CS, 1);
-        addEntry("PupilSize", AttributeTag.PupilSize, ValueRepresentation.FD, 1);
-        addEntry("PurposeOfReferenceCodeSequence", AttributeTag.PurposeOfReferenceCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("PVCRejection", AttributeTag.PVCRejection, ValueRepresentation.LO, 1);
-        addEntry("QuadratureReceiveCoil", AttributeTag.QuadratureReceiveCoil, ValueRepresentation.CS, 1);
-        addEntry("QualityControlImage", AttributeTag.QualityControlImage, ValueRepresentation.CS, 1);
-        addEntry("Quantity", AttributeTag.Quantity, ValueRepresentation.DS, 1);
-        addEntry("QuantitySequence", AttributeTag.QuantitySequence, ValueRepresentation.SQ, 1);
-        addEntry("QueryRetrieveLevel", AttributeTag.QueryRetrieveLevel, ValueRepresentation.CS, 1);
-        addEntry("QueueStatus", AttributeTag.QueueStatus, ValueRepresentation.CS, 1);
-        addEntry("RadialPosition", AttributeTag.RadialPosition, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("RadiationAtomicNumber", AttributeTag.RadiationAtomicNumber, ValueRepresentation.IS, 1);
-        addEntry("RadiationChargeState", AttributeTag.RadiationChargeState, ValueRepresentation.SS, 1);
-        addEntry("RadiationMachineName", AttributeTag.RadiationMachineName, ValueRepresentation.SH, 1);
-        addEntry("RadiationMachineSAD", AttributeTag.RadiationMachineSAD, ValueRepresentation.DS, 1);
-        addEntry("RadiationMachineSSD", AttributeTag.RadiationMachineSSD, ValueRepresentation.DS, 1);
-        addEntry("RadiationMassNumber", AttributeTag.RadiationMassNumber, ValueRepresentation.IS, 1);
-        addEntry("RadiationMode", AttributeTag.RadiationMode, ValueRepresentation.CS, 1);
-        addEntry("RadiationSetting", AttributeTag.RadiationSetting, ValueRepresentation.CS, 1);
-        addEntry("RadiationType", AttributeTag.RadiationType, ValueRepresentation.CS, 1);
-        addEntry("Radionuclide", AttributeTag.Radionuclide, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("RadionuclideCodeSequence", AttributeTag.RadionuclideCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("RadionuclideHalfLife", AttributeTag.RadionuclideHalfLife, ValueRepresentation.DS, 1);
-        addEntry("RadionuclidePositronFraction", AttributeTag.RadionuclidePositronFraction, ValueRepresentation.DS, 1);
-        addEntry("RadionuclideTotalDose", AttributeTag.RadionuclideTotalDose, ValueRepresentation.DS, 1);
-        addEntry("Radiopharmaceutical", AttributeTag.Radiopharmaceutical, ValueRepresentation.LO, 1);
-        addEntry("RadiopharmaceuticalAgentNumber", AttributeTag.RadiopharmaceuticalAgentNumber, ValueRepresentation.US, 1);
-        addEntry("RadiopharmaceuticalCodeSequence", AttributeTag.RadiopharmaceuticalCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("RadiopharmaceuticalInformationSequence", AttributeTag.RadiopharmaceuticalInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("RadiopharmaceuticalRoute", AttributeTag.RadiopharmaceuticalRoute, ValueRepresentation.LO, 1);
-        addEntry("RadiopharmaceuticalSpecificActivity", AttributeTag.RadiopharmaceuticalSpecificActivity, ValueRepresentation.DS, 1);
-        addEntry("RadiopharmaceuticalStartDateTime", AttributeTag.RadiopharmaceuticalStartDateTime, ValueRepresentation.DT, 1);
-        addEntry("RadiopharmaceuticalStartTime", AttributeTag.RadiopharmaceuticalStartTime, ValueRepresentation.TM, 1);
-        addEntry("RadiopharmaceuticalStopDateTime", AttributeTag.RadiopharmaceuticalStopDateTime, ValueRepresentation.DT, 1);
-        addEntry("RadiopharmaceuticalStopTime", AttributeTag.RadiopharmaceuticalStopTime, ValueRepresentation.TM, 1);
-        addEntry("RadiopharmaceuticalUsageSequence", AttributeTag.RadiopharmaceuticalUsageSequence, ValueRepresentation.SQ, 1);
-        addEntry("RadiopharmaceuticalVolume", AttributeTag.RadiopharmaceuticalVolume, ValueRepresentation.DS, 1);
-        addEntry("RadiusOfCircularCollimator", AttributeTag.RadiusOfCircularCollimator, ValueRepresentation.IS, 1);
-        addEntry("RadiusOfCircularExposureControlSensingRegion", AttributeTag.RadiusOfCircularExposureControlSensingRegion, ValueRepresentation.US, 1);
-        addEntry("RadiusOfCircularShutter", AttributeTag.RadiusOfCircularShutter, ValueRepresentation.IS, 1);
-        addEntry("RadiusOfCurvature", AttributeTag.RadiusOfCurvature, ValueRepresentation.FD, 1);
-        addEntry("RandomsCorrected", AttributeTag.RandomsCorrected, ValueRepresentation.CS, 1);
-        addEntry("RandomsCorrectionMethod", AttributeTag.RandomsCorrectionMethod, ValueRepresentation.CS, 1);
-        addEntry("RangeModulatorDescription", AttributeTag.RangeModulatorDescription, ValueRepresentation.LO, 1);
-        addEntry("RangeModulatorGatingStartValue", AttributeTag.RangeModulatorGatingStartValue, ValueRepresentation.FL, 1);
-        addEntry("RangeModulatorGatingStartWaterEquivalentThickness", AttributeTag.RangeModulatorGatingStartWaterEquivalentThickness, ValueRepresentation.FL, 1);
-        addEntry("RangeModulatorGatingStopValue", AttributeTag.RangeModulatorGatingStopValue, ValueRepresentation.FL, 1);
-        addEntry("RangeModulatorGatingStopWaterEquivalentThickness", AttributeTag.RangeModulatorGatingStopWaterEquivalentThickness, ValueRepresentation.FL, 1);
-        addEntry("RangeModulatorID", AttributeTag.RangeModulatorID, ValueRepresentation.SH, 1);
-        addEntry("RangeModulatorNumber", AttributeTag.RangeModulatorNumber, ValueRepresentation.IS, 1);
-        addEntry("RangeModulatorSequence", AttributeTag.RangeModulatorSequence, ValueRepresentation.SQ, 1);
-        addEntry("RangeModulatorSettingsSequence", AttributeTag.RangeModulatorSettingsSequence, ValueRepresentation.SQ, 1);
-        addEntry("RangeModulatorType", AttributeTag.RangeModulatorType, ValueRepresentation.CS, 1);
-        addEntry("RangeShifterDescription", AttributeTag.RangeShifterDescription, ValueRepresentation.LO, 1);
-        addEntry("RangeShifterID", AttributeTag.RangeShifterID, ValueRepresentation.SH, 1);
-        addEntry("RangeShifterNumber", AttributeTag.RangeShifterNumber, ValueRepresentation.IS, 1);
-        addEntry("RangeShifterSequence", AttributeTag.RangeShifterSequence, ValueRepresentation.SQ, 1);
-        addEntry("RangeShifterSetting", AttributeTag.RangeShifterSetting, ValueRepresentation.LO, 1);
-        addEntry("RangeShifterSettingsSequence", AttributeTag.RangeShifterSettingsSequence, ValueRepresentation.SQ, 1);
-        addEntry("RangeShifterType", AttributeTag.RangeShifterType, ValueRepresentation.CS, 1);
-        addEntry("RangeShifterWaterEquivalentThickness", AttributeTag.RangeShifterWaterEquivalentThickness, ValueRepresentation.FL, 1);
-        addEntry("RawDataHandling", AttributeTag.RawDataHandling, ValueRepresentation.CS, 1);
-        addEntry("RealWorldValueFirstValueMapped", AttributeTag.RealWorldValueFirstValueMapped, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("RealWorldValueIntercept", AttributeTag.RealWorldValueIntercept, ValueRepresentation.FD, 1);
-        addEntry("RealWorldValueLastValueMapped", AttributeTag.RealWorldValueLastValueMapped, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("RealWorldValueLUTData", AttributeTag.RealWorldValueLUTData, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
-        addEntry("RealWorldValueMappingSequence", AttributeTag.RealWorldValueMappingSequence, ValueRepresentation.SQ, 1);
-        addEntry("RealWorldValueSlope", AttributeTag.RealWorldValueSlope, ValueRepresentation.FD, 1);
-        addEntry("ReasonForCancellation", AttributeTag.ReasonForCancellation, ValueRepresentation.LT, 1);
-        addEntry("ReasonForPerformedProcedureCodeSequence", AttributeTag.ReasonForPerformedProcedureCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReasonForRequestedProcedureCodeSequence", AttributeTag.ReasonForRequestedProcedureCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReasonForStudy", AttributeTag.ReasonForStudy, ValueRepresentation.LO, 1);
-        addEntry("ReasonForTheAttributeModification", AttributeTag.ReasonForTheAttributeModification, ValueRepresentation.CS, 1);
-        addEntry("ReasonForTheImagingServiceRequest", AttributeTag.ReasonForTheImagingServiceRequest, ValueRepresentation.LO, 1);
-        addEntry("ReasonForTheRequestedProcedure", AttributeTag.ReasonForTheRequestedProcedure, ValueRepresentation.LO, 1);
-        addEntry("ReceiveCoilManufacturerName", AttributeTag.ReceiveCoilManufacturerName, ValueRepresentation.LO, 1);
-        addEntry("ReceiveCoilName", AttributeTag.ReceiveCoilName, ValueRepresentation.SH, 1);
-        addEntry("ReceiveCoilType", AttributeTag.ReceiveCoilType, ValueRepresentation.CS, 1);
-        addEntry("Receiver", AttributeTag.Receiver, ValueRepresentation.AE, 1);
-        addEntry("ReceivingAE", AttributeTag.ReceivingAE, ValueRepresentation.AE, 1);
-        addEntry("RecognitionCode", AttributeTag.RecognitionCode, ValueRepresentation.CS, 1);
-        addEntry("RecommendedDisplayCIELabValue", AttributeTag.RecommendedDisplayCIELabValue, ValueRepresentation.US, 3);
-        addEntry("RecommendedDisplayFrameRate", AttributeTag.RecommendedDisplayFrameRate, ValueRepresentation.IS, 1);
-        addEntry("RecommendedDisplayFrameRateInFloat", AttributeTag.RecommendedDisplayFrameRateInFloat, ValueRepresentation.FL, 1);
-        addEntry("RecommendedDisplayGrayscaleValue", AttributeTag.RecommendedDisplayGrayscaleValue, ValueRepresentation.US, 1);
-        addEntry("RecommendedPresentationOpacity", AttributeTag.RecommendedPresentationOpacity, ValueRepresentation.FL, 1);
-        addEntry("RecommendedPresentationType", AttributeTag.RecommendedPresentationType, ValueRepresentation.CS, 1);
-        addEntry("RecommendedViewingMode", AttributeTag.RecommendedViewingMode, ValueRepresentation.CS, 1);
-        addEntry("ReconstructionAlgorithm", AttributeTag.ReconstructionAlgorithm, ValueRepresentation.CS, 1);
-        addEntry("ReconstructionAngle", AttributeTag.ReconstructionAngle, ValueRepresentation.FD, 1);
-        addEntry("ReconstructionDescription", AttributeTag.ReconstructionDescription, ValueRepresentation.LO, 1);
-        addEntry("ReconstructionDiameter", AttributeTag.ReconstructionDiameter, ValueRepresentation.DS, 1);
-        addEntry("ReconstructionFieldOfView", AttributeTag.ReconstructionFieldOfView, ValueRepresentation.FD, 2);
-        addEntry("ReconstructionIndex", AttributeTag.ReconstructionIndex, ValueRepresentation.US, 1);
-        addEntry("ReconstructionMethod", AttributeTag.ReconstructionMethod, ValueRepresentation.LO, 1);
-        addEntry("ReconstructionPixelSpacing", AttributeTag.ReconstructionPixelSpacing, ValueRepresentation.FD, 2);
-        addEntry("ReconstructionTargetCenterPatient", AttributeTag.ReconstructionTargetCenterPatient, ValueRepresentation.FD, 3);
-        addEntry("ReconstructionType", AttributeTag.ReconstructionType, ValueRepresentation.CS, 1);
-        addEntry("RecordedBlockSequence", AttributeTag.RecordedBlockSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedBrachyAccessoryDeviceSequence", AttributeTag.RecordedBrachyAccessoryDeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedChannelSequence", AttributeTag.RecordedChannelSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedChannelShieldSequence", AttributeTag.RecordedChannelShieldSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedCompensatorSequence", AttributeTag.RecordedCompensatorSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedLateralSpreadingDeviceSequence", AttributeTag.RecordedLateralSpreadingDeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedRangeModulatorSequence", AttributeTag.RecordedRangeModulatorSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedRangeShifterSequence", AttributeTag.RecordedRangeShifterSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedSnoutSequence", AttributeTag.RecordedSnoutSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedSourceApplicatorSequence", AttributeTag.RecordedSourceApplicatorSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedSourceSequence", AttributeTag.RecordedSourceSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordedWedgeSequence", AttributeTag.RecordedWedgeSequence, ValueRepresentation.SQ, 1);
-        addEntry("RecordInUseFlag", AttributeTag.RecordInUseFlag, ValueRepresentation.US, 1);
-        addEntry("RectificationType", AttributeTag.RectificationType, ValueRepresentation.CS, 1);
-        addEntry("RectilinearPhaseEncodeReordering", AttributeTag.RectilinearPhaseEncodeReordering, ValueRepresentation.CS, 1);
-        addEntry("RedPaletteColorLookupTableData", AttributeTag.RedPaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("RedPaletteColorLookupTableDescriptor", AttributeTag.RedPaletteColorLookupTableDescriptor, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
-        addEntry("Reference", AttributeTag.Reference, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("ReferenceAirKermaRate", AttributeTag.ReferenceAirKermaRate, ValueRepresentation.DS, 1);
-        addEntry("ReferenceCoordinates", AttributeTag.ReferenceCoordinates, ValueRepresentation.FL, 2, Integer.MAX_VALUE / 2);
-        addEntry("ReferencedBasicAnnotationBoxSequence", AttributeTag.ReferencedBasicAnnotationBoxSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedBeamNumber", AttributeTag.ReferencedBeamNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedBeamSequence", AttributeTag.ReferencedBeamSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedBlockNumber", AttributeTag.ReferencedBlockNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedBolusSequence", AttributeTag.ReferencedBolusSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedBrachyAccessoryDeviceNumber", AttributeTag.ReferencedBrachyAccessoryDeviceNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedBrachyApplicationSetupNumber", AttributeTag.ReferencedBrachyApplicationSetupNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedBrachyApplicationSetupSequence", AttributeTag.ReferencedBrachyApplicationSetupSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedCalculatedDoseReferenceNumber", AttributeTag.ReferencedCalculatedDoseReferenceNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedCalculatedDoseReferenceSequence", AttributeTag.ReferencedCalculatedDoseReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedChannelShieldNumber", AttributeTag.ReferencedChannelShieldNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedCompensatorNumber", AttributeTag.ReferencedCompensatorNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedContentItemIdentifier", AttributeTag.ReferencedContentItemIdentifier, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
-        addEntry("ReferencedControlPointIndex", AttributeTag.ReferencedControlPointIndex, ValueRepresentation.IS, 1);
-        addEntry("ReferencedControlPointSequence", AttributeTag.ReferencedControlPointSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedCurveSequence", AttributeTag.ReferencedCurveSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedDateTime", AttributeTag.ReferencedDateTime, ValueRepresentation.DT, 1, Integer.MAX_VALUE);
-        addEntry("ReferencedDigitalSignatureSequence", AttributeTag.ReferencedDigitalSignatureSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedDoseReferenceNumber", AttributeTag.ReferencedDoseReferenceNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedDoseReferenceSequence", AttributeTag.ReferencedDoseReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedDoseSequence", AttributeTag.ReferencedDoseSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedFileID", AttributeTag.ReferencedFileID, ValueRepresentation.CS, 1, 8);
-        addEntry("ReferencedFilmBoxSequence", AttributeTag.ReferencedFilmBoxSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedFilmSessionSequence", AttributeTag.ReferencedFilmSessionSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedFirstFrameSequence", AttributeTag.ReferencedFirstFrameSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedFractionGroupNumber", AttributeTag.ReferencedFractionGroupNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedFractionGroupSequence", AttributeTag.ReferencedFractionGroupSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedFractionNumber", AttributeTag.ReferencedFractionNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedFrameNumber", AttributeTag.ReferencedFrameNumber, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("ReferencedFrameNumbers", AttributeTag.ReferencedFrameNumbers, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("ReferencedFrameOfReferenceSequence", AttributeTag.ReferencedFrameOfReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedFrameOfReferenceUID", AttributeTag.ReferencedFrameOfReferenceUID, ValueRepresentation.UI, 1);
-        addEntry("ReferencedGeneralPurposeScheduledProcedureStepSequence", AttributeTag.ReferencedGeneralPurposeScheduledProcedureStepSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedGeneralPurposeScheduledProcedureStepTransactionUID", AttributeTag.ReferencedGeneralPurposeScheduledProcedureStepTransactionUID, ValueRepresentation.UI, 1);
-        addEntry("ReferencedImageBoxSequence", AttributeTag.ReferencedImageBoxSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedImageBoxSequenceRetired", AttributeTag.ReferencedImageBoxSequenceRetired, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedImageEvidenceSequence", AttributeTag.ReferencedImageEvidenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedImageOverlayBoxSequence", AttributeTag.ReferencedImageOverlayBoxSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedImageRealWorldValueMappingSequence", AttributeTag.ReferencedImageRealWorldValueMappingSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedImageSequence", AttributeTag.ReferencedImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedInstanceSequence", AttributeTag.ReferencedInstanceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedInterpretationSequence", AttributeTag.ReferencedInterpretationSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferenceDisplaySets", AttributeTag.ReferenceDisplaySets, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("ReferencedLateralSpreadingDeviceNumber", AttributeTag.ReferencedLateralSpreadingDeviceNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedMeasuredDoseReferenceNumber", AttributeTag.ReferencedMeasuredDoseReferenceNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedMeasuredDoseReferenceSequence", AttributeTag.ReferencedMeasuredDoseReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedNonImageCompositeSOPInstanceSequence", AttributeTag.ReferencedNonImageCompositeSOPInstanceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedOtherPlaneSequence", AttributeTag.ReferencedOtherPlaneSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedOverlayPlaneGroups", AttributeTag.ReferencedOverlayPlaneGroups, ValueRepresentation.US, 1, 99);
-        addEntry("ReferencedOverlayPlaneSequence", AttributeTag.ReferencedOverlayPlaneSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedOverlaySequence", AttributeTag.ReferencedOverlaySequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedPatientAliasSequence", AttributeTag.ReferencedPatientAliasSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedPatientSequence", AttributeTag.ReferencedPatientSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedPatientSetupNumber", AttributeTag.ReferencedPatientSetupNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedPerformedProcedureStepSequence", AttributeTag.ReferencedPerformedProcedureStepSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedPresentationLUTSequence", AttributeTag.ReferencedPresentationLUTSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedPresentationStateSequence", AttributeTag.ReferencedPresentationStateSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedPrintJobSequence", AttributeTag.ReferencedPrintJobSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedPrintJobSequencePullStoredPrint", AttributeTag.ReferencedPrintJobSequencePullStoredPrint, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedProcedureStepSequence", AttributeTag.ReferencedProcedureStepSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedRangeModulatorNumber", AttributeTag.ReferencedRangeModulatorNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedRangeShifterNumber", AttributeTag.ReferencedRangeShifterNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedRawDataSequence", AttributeTag.ReferencedRawDataSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedRealWorldValueMappingInstanceSequence", AttributeTag.ReferencedRealWorldValueMappingInstanceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedReferenceImageNumber", AttributeTag.ReferencedReferenceImageNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedReferenceImageSequence", AttributeTag.ReferencedReferenceImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedRefractiveMeasurementsSequence", AttributeTag.ReferencedRefractiveMeasurementsSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedRelatedGeneralSOPClassUIDInFile", AttributeTag.ReferencedRelatedGeneralSOPClassUIDInFile, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
-        addEntry("ReferencedRequestSequence", AttributeTag.ReferencedRequestSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedResultsSequence", AttributeTag.ReferencedResultsSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedROINumber", AttributeTag.ReferencedROINumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedRTPlanSequence", AttributeTag.ReferencedRTPlanSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedSamplePositions", AttributeTag.ReferencedSamplePositions, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
-        addEntry("ReferencedSegmentNumber", AttributeTag.ReferencedSegmentNumber, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("ReferencedSeriesSequence", AttributeTag.ReferencedSeriesSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedSetupImageSequence", AttributeTag.ReferencedSetupImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedSOPClassUID", AttributeTag.ReferencedSOPClassUID, ValueRepresentation.UI, 1);
-        addEntry("ReferencedSOPClassUIDInFile", AttributeTag.ReferencedSOPClassUIDInFile, ValueRepresentation.UI, 1);
-        addEntry("ReferencedSOPInstanceMACSequence", AttributeTag.ReferencedSOPInstanceMACSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedSOPInstanceUID", AttributeTag.ReferencedSOPInstanceUID, ValueRepresentation.UI, 1);
-        addEntry("ReferencedSOPInstanceUIDInFile", AttributeTag.ReferencedSOPInstanceUIDInFile, ValueRepresentation.UI, 1);
-        addEntry("ReferencedSOPSequence", AttributeTag.ReferencedSOPSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedSourceApplicatorNumber", AttributeTag.ReferencedSourceApplicatorNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedSourceNumber", AttributeTag.ReferencedSourceNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedSpatialRegistrationSequence", AttributeTag.ReferencedSpatialRegistrationSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedStartControlPointIndex", AttributeTag.ReferencedStartControlPointIndex, ValueRepresentation.IS, 1);
-        addEntry("ReferencedStereometricInstanceSequence", AttributeTag.ReferencedStereometricInstanceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedStopControlPointIndex", AttributeTag.ReferencedStopControlPointIndex, ValueRepresentation.IS, 1);
-        addEntry("ReferencedStorageMediaSequence", AttributeTag.ReferencedStorageMediaSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedStoredPrintSequence", AttributeTag.ReferencedStoredPrintSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedStructureSetSequence", AttributeTag.ReferencedStructureSetSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedStudySequence", AttributeTag.ReferencedStudySequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedSurfaceNumber", AttributeTag.ReferencedSurfaceNumber, ValueRepresentation.UL, 1);
-        addEntry("ReferencedSurfaceSequence", AttributeTag.ReferencedSurfaceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedTimeOffsets", AttributeTag.ReferencedTimeOffsets, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("ReferencedToleranceTableNumber", AttributeTag.ReferencedToleranceTableNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencedTransferSyntaxUIDInFile", AttributeTag.ReferencedTransferSyntaxUIDInFile, ValueRepresentation.UI, 1);
-        addEntry("ReferencedTreatmentRecordSequence", AttributeTag.ReferencedTreatmentRecordSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedVerificationImageSequence", AttributeTag.ReferencedVerificationImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedVisitSequence", AttributeTag.ReferencedVisitSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedVOILUTBoxSequence", AttributeTag.ReferencedVOILUTBoxSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedWaveformChannels", AttributeTag.ReferencedWaveformChannels, ValueRepresentation.US, 2, Integer.MAX_VALUE / 2);
-        addEntry("ReferencedWaveformSequence", AttributeTag.ReferencedWaveformSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferencedWedgeNumber", AttributeTag.ReferencedWedgeNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferenceImageNumber", AttributeTag.ReferenceImageNumber, ValueRepresentation.IS, 1);
-        addEntry("ReferencePixelPhysicalValueX", AttributeTag.ReferencePixelPhysicalValueX, ValueRepresentation.FD, 1);
-        addEntry("ReferencePixelPhysicalValueY", AttributeTag.ReferencePixelPhysicalValueY, ValueRepresentation.FD, 1);
-        addEntry("ReferencePixelX", AttributeTag.ReferencePixelX0, ValueRepresentation.SL, 1);
-        addEntry("ReferencePixelY", AttributeTag.ReferencePixelY0, ValueRepresentation.SL, 1);
-        addEntry("ReferenceToRecordedSound", AttributeTag.ReferenceToRecordedSound, ValueRepresentation.LO, 1);
-        addEntry("ReferringPhysicianAddress", AttributeTag.ReferringPhysicianAddress, ValueRepresentation.ST, 1);
-        addEntry("ReferringPhysicianIdentificationSequence", AttributeTag.ReferringPhysicianIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("ReferringPhysicianName", AttributeTag.ReferringPhysicianName, ValueRepresentation.PN, 1);
-        addEntry("ReferringPhysicianTelephoneNumbers", AttributeTag.ReferringPhysicianTelephoneNumbers, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("ReflectedAmbientLight", AttributeTag.ReflectedAmbientLight, ValueRepresentation.US, 1);
-        addEntry("ReformattingInterval", AttributeTag.ReformattingInterval, ValueRepresentation.FD, 1);
-        addEntry("ReformattingOperationInitialViewDirection", AttributeTag.ReformattingOperationInitialViewDirection, ValueRepresentation.CS, 1);
-        addEntry("ReformattingOperationType", AttributeTag.ReformattingOperationType, ValueRepresentation.CS, 1);
-        addEntry("ReformattingThickness", AttributeTag.ReformattingThickness, ValueRepresentation.FD, 1);
-        addEntry("RefractiveStateSequence", AttributeTag.RefractiveStateSequence, ValueRepresentation.SQ, 1);
-        addEntry("RegionDataType", AttributeTag.RegionDataType, ValueRepresentation.US, 1);
-        addEntry("RegionFlags", AttributeTag.RegionFlags, ValueRepresentation.UL, 1);
-        addEntry("RegionLocationMaxX", AttributeTag.RegionLocationMaxX1, ValueRepresentation.UL, 1);
-        addEntry("RegionLocationMaxY", AttributeTag.RegionLocationMaxY1, ValueRepresentation.UL, 1);
-        addEntry("RegionLocationMinX", AttributeTag.RegionLocationMinX0, ValueRepresentation.UL, 1);
-        addEntry("RegionLocationMinY", AttributeTag.RegionLocationMinY0, ValueRepresentation.UL, 1);
-        addEntry("RegionOfResidence", AttributeTag.RegionOfResidence, ValueRepresentation.LO, 1);
-        addEntry("RegionPixelShiftSequence", AttributeTag.RegionPixelShiftSequence, ValueRepresentation.SQ, 1);
-        addEntry("RegionSpatialFormat", AttributeTag.RegionSpatialFormat, ValueRepresentation.US, 1);
-        addEntry("RegistrationSequence", AttributeTag.RegistrationSequence, ValueRepresentation.SQ, 1);
-        addEntry("RegistrationTypeCodeSequence", AttributeTag.RegistrationTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("RelatedFrameOfReferenceUID", AttributeTag.RelatedFrameOfReferenceUID, ValueRepresentation.UI, 1);
-        addEntry("RelatedGeneralSOPClassUID", AttributeTag.RelatedGeneralSOPClassUID, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
-        addEntry("RelatedProcedureStepSequence", AttributeTag.RelatedProcedureStepSequence, ValueRepresentation.SQ, 1);
-        addEntry("RelatedReferenceRTImageSequence", AttributeTag.RelatedReferenceRTImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("RelatedRTROIObservationsSequence", AttributeTag.RelatedRTROIObservationsSequence, ValueRepresentation.SQ, 1);
-        addEntry("RelatedSeriesSequence", AttributeTag.RelatedSeriesSequence, ValueRepresentation.SQ, 1);
-        addEntry("RelationshipType", AttributeTag.RelationshipType, ValueRepresentation.CS, 1);
-        addEntry("RelativeImagePositionCodeSequence", AttributeTag.RelativeImagePositionCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("RelativeOpacity", AttributeTag.RelativeOpacity, ValueRepresentation.FL, 1);
-        addEntry("RelativeTime", AttributeTag.RelativeTime, ValueRepresentation.US, 2);
-        addEntry("RelativeTimeUnits", AttributeTag.RelativeTimeUnits, ValueRepresentation.CS, 1);
-        addEntry("RelativeXRayExposure", AttributeTag.RelativeXRayExposure, ValueRepresentation.IS, 1);
-        addEntry("RelevantInformationSequence", AttributeTag.RelevantInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("RepeatFractionCycleLength", AttributeTag.RepeatFractionCycleLength, ValueRepresentation.IS, 1);
-        addEntry("RepeatInterval", AttributeTag.RepeatInterval, ValueRepresentation.US, 1);
-        addEntry("RepetitionTime", AttributeTag.RepetitionTime, ValueRepresentation.DS, 1);
-        addEntry("ReportedValuesOrigin", AttributeTag.ReportedValuesOrigin, ValueRepresentation.CS, 1);
-        addEntry("ReportingPriority", AttributeTag.ReportingPriority, ValueRepresentation.SH, 1);
-        addEntry("RepresentativeFrameNumber", AttributeTag.RepresentativeFrameNumber, ValueRepresentation.US, 1);
-        addEntry("ReprojectionMethod", AttributeTag.ReprojectionMethod, ValueRepresentation.CS, 1);
-        addEntry("RequestAttributesSequence", AttributeTag.RequestAttributesSequence, ValueRepresentation.SQ, 1);
-        addEntry("RequestedContrastAgent", AttributeTag.RequestedContrastAgent, ValueRepresentation.LO, 1);
-        addEntry("RequestedDecimateCropBehavior", AttributeTag.RequestedDecimateCropBehavior, ValueRepresentation.CS, 1);
-        addEntry("RequestedImageSize", AttributeTag.RequestedImageSize, ValueRepresentation.DS, 1);
-        addEntry("RequestedImageSizeFlag", AttributeTag.RequestedImageSizeFlag, ValueRepresentation.CS, 1);
-        addEntry("RequestedMediaApplicationProfile", AttributeTag.RequestedMediaApplicationProfile, ValueRepresentation.LO, 1);
-        addEntry("RequestedProcedureCodeSequence", AttributeTag.RequestedProcedureCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("RequestedProcedureComments", AttributeTag.RequestedProcedureComments, ValueRepresentation.LT, 1);
-        addEntry("RequestedProcedureDescription", AttributeTag.RequestedProcedureDescription, ValueRepresentation.LO, 1);
-        addEntry("RequestedProcedureID", AttributeTag.RequestedProcedureID, ValueRepresentation.SH, 1);
-        addEntry("RequestedProcedureLocation", AttributeTag.RequestedProcedureLocation, ValueRepresentation.LO, 1);
-        addEntry("RequestedProcedurePriority", AttributeTag.RequestedProcedurePriority, ValueRepresentation.SH, 1);
-        addEntry("RequestedResolutionID", AttributeTag.RequestedResolutionID, ValueRepresentation.CS, 1);
-        addEntry("RequestedSOPClassUID", AttributeTag.RequestedSOPClassUID, ValueRepresentation.UI, 1);
-        addEntry("RequestedSOPInstanceUID", AttributeTag.RequestedSOPInstanceUID, ValueRepresentation.UI, 1);
-        addEntry("RequestedSubsequentWorkitemCodeSequence", AttributeTag.RequestedSubsequentWorkitemCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("RequestingAE", AttributeTag.RequestingAE, ValueRepresentation.AE, 1);
-        addEntry("RequestingPhysician", AttributeTag.RequestingPhysician, ValueRepresentation.PN, 1);
-        addEntry("RequestingPhysicianIdentificationSequence", AttributeTag.RequestingPhysicianIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("RequestingService", AttributeTag.RequestingService, ValueRepresentation.LO, 1);
-        addEntry("RequestingServiceCodeSequence", AttributeTag.RequestingServiceCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("RequestPriority", AttributeTag.RequestPriority, ValueRepresentation.CS, 1);
-        addEntry("RescaleIntercept", AttributeTag.RescaleIntercept, ValueRepresentation.DS, 1);
-        addEntry("RescaleSlope", AttributeTag.RescaleSlope, ValueRepresentation.DS, 1);
-        addEntry("RescaleType", AttributeTag.RescaleType, ValueRepresentation.LO, 1);
-        addEntry("ResidualSyringeCounts", AttributeTag.ResidualSyringeCounts, ValueRepresentation.IS, 1);
-        addEntry("ResonantNucleus", AttributeTag.ResonantNucleus, ValueRepresentation.CS, 1, 2);
-        addEntry("RespiratoryCyclePosition", AttributeTag.RespiratoryCyclePosition, ValueRepresentation.CS, 1);
-        addEntry("RespiratoryIntervalTime", AttributeTag.RespiratoryIntervalTime, ValueRepresentation.FD, 1);
-        addEntry("RespiratoryMotionCompensationTechnique", AttributeTag.RespiratoryMotionCompensationTechnique, ValueRepresentation.CS, 1);
-        addEntry("RespiratoryMotionCompensationTechniqueDescription", AttributeTag.RespiratoryMotionCompensationTechniqueDescription, ValueRepresentation.ST, 1);
-        addEntry("RespiratorySignalSource", AttributeTag.RespiratorySignalSource, ValueRepresentation.CS, 1);
-        addEntry("RespiratorySignalSourceID", AttributeTag.RespiratorySignalSourceID, ValueRepresentation.SH, 1);
-        addEntry("RespiratorySynchronizationSequence", AttributeTag.RespiratorySynchronizationSequence, ValueRepresentation.SQ, 1);
-        addEntry("RespiratoryTriggerDelayThreshold", AttributeTag.RespiratoryTriggerDelayThreshold, ValueRepresentation.FD, 1);
-        addEntry("RespiratoryTriggerType", AttributeTag.RespiratoryTriggerType, ValueRepresentation.CS, 1);
-        addEntry("ResponseSequenceNumber", AttributeTag.ResponseSequenceNumber, ValueRepresentation.US, 1);
-        addEntry("ResponsibleOrganization", AttributeTag.ResponsibleOrganization, ValueRepresentation.LO, 1);
-        addEntry("ResponsiblePerson", AttributeTag.ResponsiblePerson, ValueRepresentation.PN, 1);
-        addEntry("ResponsiblePersonRole", AttributeTag.ResponsiblePersonRole, ValueRepresentation.CS, 1);
-        addEntry("ResultingGeneralPurposePerformedProcedureStepsSequence", AttributeTag.ResultingGeneralPurposePerformedProcedureStepsSequence, ValueRepresentation.SQ, 1);
-        addEntry("ResultsComments", AttributeTag.ResultsComments, ValueRepresentation.ST, 1);
-        addEntry("ResultsDistributionListSequence", AttributeTag.ResultsDistributionListSequence, ValueRepresentation.SQ, 1);
-        addEntry("ResultsID", AttributeTag.ResultsID, ValueRepresentation.SH, 1);
-        addEntry("ResultsIDIssuer", AttributeTag.ResultsIDIssuer, ValueRepresentation.LO, 1);
-        addEntry("RetrieveAETitle", AttributeTag.RetrieveAETitle, ValueRepresentation.AE, 1, Integer.MAX_VALUE);
-        addEntry("RetrieveLocationUID", AttributeTag.RetrieveLocationUID, ValueRepresentation.UI, 1);
-        addEntry("RetrieveURI", AttributeTag.RetrieveURI, ValueRepresentation.UT, 1);
-        addEntry("ReviewDate", AttributeTag.ReviewDate, ValueRepresentation.DA, 1);
-        addEntry("ReviewerName", AttributeTag.ReviewerName, ValueRepresentation.PN, 1);
-        addEntry("ReviewTime", AttributeTag.ReviewTime, ValueRepresentation.TM, 1);
-        addEntry("RevolutionTime", AttributeTag.RevolutionTime, ValueRepresentation.FD, 1);
-        addEntry("RFEchoTrainLength", AttributeTag.RFEchoTrainLength, ValueRepresentation.US, 1);
-        addEntry("RGBLUTTransferFunction", AttributeTag.RGBLUTTransferFunction, ValueRepresentation.CS, 1);
-        addEntry("RightImageSequence", AttributeTag.RightImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("RightLensSequence", AttributeTag.RightLensSequence, ValueRepresentation.SQ, 1);
-        addEntry("ROIArea", AttributeTag.ROIArea, ValueRepresentation.IS, 1);
-        addEntry("ROIContourSequence", AttributeTag.ROIContourSequence, ValueRepresentation.SQ, 1);
-        addEntry("ROIDescription", AttributeTag.ROIDescription, ValueRepresentation.ST, 1);
-        addEntry("ROIDisplayColor", AttributeTag.ROIDisplayColor, ValueRepresentation.IS, 3);
-        addEntry("ROIElementalCompositionAtomicMassFraction", AttributeTag.ROIElementalCompositionAtomicMassFraction, ValueRepresentation.FL, 1);
-        addEntry("ROIElementalCompositionAtomicNumber", AttributeTag.ROIElementalCompositionAtomicNumber, ValueRepresentation.US, 1);
-        addEntry("ROIElementalCompositionSequence", AttributeTag.ROIElementalCompositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("ROIGenerationAlgorithm", AttributeTag.ROIGenerationAlgorithm, ValueRepresentation.CS, 1);
-        addEntry("ROIGenerationDescription", AttributeTag.ROIGenerationDescription, ValueRepresentation.LO, 1);
-        addEntry("ROIInterpreter", AttributeTag.ROIInterpreter, ValueRepresentation.PN, 1);
-        addEntry("ROIMean", AttributeTag.ROIMean, ValueRepresentation.DS, 1);
-        addEntry("ROIName", AttributeTag.ROIName, ValueRepresentation.LO, 1);
-        addEntry("ROINumber", AttributeTag.ROINumber, ValueRepresentation.IS, 1);
-        addEntry("ROIObservationDescription", AttributeTag.ROIObservationDescription, ValueRepresentation.ST, 1);
-        addEntry("ROIObservationLabel", AttributeTag.ROIObservationLabel, ValueRepresentation.SH, 1);
-        addEntry("ROIPhysicalPropertiesSequence", AttributeTag.ROIPhysicalPropertiesSequence, ValueRepresentation.SQ, 1);
-        addEntry("ROIPhysicalProperty", AttributeTag.ROIPhysicalProperty, ValueRepresentation.CS, 1);
-        addEntry("ROIPhysicalPropertyValue", AttributeTag.ROIPhysicalPropertyValue, ValueRepresentation.DS, 1);
-        addEntry("ROIStandardDeviation", AttributeTag.ROIStandardDeviation, ValueRepresentation.DS, 1);
-        addEntry("ROIVolume", AttributeTag.ROIVolume, ValueRepresentation.DS, 1);
-        addEntry("RotationAngle", AttributeTag.RotationAngle, ValueRepresentation.FD, 1);
-        addEntry("RotationDirection", AttributeTag.RotationDirection, ValueRepresentation.CS, 1);
-        addEntry("RotationInformationSequence", AttributeTag.RotationInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("RotationOffset", AttributeTag.RotationOffset, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("RotationOfScannedFilm", AttributeTag.RotationOfScannedFilm, ValueRepresentation.DS, 1);
-        addEntry("RotationPoint", AttributeTag.RotationPoint, ValueRepresentation.FL, 2);
-        addEntry("RotationVector", AttributeTag.RotationVector, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("RouteOfAdmissions", AttributeTag.RouteOfAdmissions, ValueRepresentation.LO, 1);
-        addEntry("RowOverlap", AttributeTag.RowOverlap, ValueRepresentation.US, 1);
-        addEntry("Rows", AttributeTag.Rows, ValueRepresentation.US, 1);
-        addEntry("RowsForNthOrderCoefficients", AttributeTag.RowsForNthOrderCoefficients, ValueRepresentation.US, 1);
-        addEntry("RRIntervalTimeNominal", AttributeTag.RRIntervalTimeNominal, ValueRepresentation.FD, 1);
-        addEntry("RRIntervalVector", AttributeTag.RRIntervalVector, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("RTBeamLimitingDeviceType", AttributeTag.RTBeamLimitingDeviceType, ValueRepresentation.CS, 1);
-        addEntry("RTDoseROISequence", AttributeTag.RTDoseROISequence, ValueRepresentation.SQ, 1);
-        addEntry("RTImageDescription", AttributeTag.RTImageDescription, ValueRepresentation.ST, 1);
-        addEntry("RTImageLabel", AttributeTag.RTImageLabel, ValueRepresentation.SH, 1);
-        addEntry("RTImageName", AttributeTag.RTImageName, ValueRepresentation.LO, 1);
-        addEntry("RTImageOrientation", AttributeTag.RTImageOrientation, ValueRepresentation.DS, 6);
-        addEntry("RTImagePlane", AttributeTag.RTImagePlane, ValueRepresentation.CS, 1);
-        addEntry("RTImagePosition", AttributeTag.RTImagePosition, ValueRepresentation.DS, 2);
-        addEntry("RTImageSID", AttributeTag.RTImageSID, ValueRepresentation.DS, 1);
-        addEntry("RTPlanDate", AttributeTag.RTPlanDate, ValueRepresentation.DA, 1);
-        addEntry("RTPlanDescription", AttributeTag.RTPlanDescription, ValueRepresentation.ST, 1);
-        addEntry("RTPlanGeometry", AttributeTag.RTPlanGeometry, ValueRepresentation.CS, 1);
-        addEntry("RTPlanLabel", AttributeTag.RTPlanLabel, ValueRepresentation.SH, 1);
-        addEntry("RTPlanName", AttributeTag.RTPlanName, ValueRepresentation.LO, 1);
-        addEntry("RTPlanRelationship", AttributeTag.RTPlanRelationship, ValueRepresentation.CS, 1);
-        addEntry("RTPlanTime", AttributeTag.RTPlanTime, ValueRepresentation.TM, 1);
-        addEntry("RTReferencedSeriesSequence", AttributeTag.RTReferencedSeriesSequence, ValueRepresentation.SQ, 1);
-        addEntry("RTReferencedStudySequence", AttributeTag.RTReferencedStudySequence, ValueRepresentation.SQ, 1);
-        addEntry("RTRelatedROISequence", AttributeTag.RTRelatedROISequence, ValueRepresentation.SQ, 1);
-        addEntry("RTROIIdentificationCodeSequence", AttributeTag.RTROIIdentificationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("RTROIInterpretedType", AttributeTag.RTROIInterpretedType, ValueRepresentation.CS, 1);
-        addEntry("RTROIObservationsSequence", AttributeTag.RTROIObservationsSequence, ValueRepresentation.SQ, 1);
-        addEntry("RTROIRelationship", AttributeTag.RTROIRelationship, ValueRepresentation.CS, 1);
-        addEntry("RunLengthTriplet", AttributeTag.RunLengthTriplet, ValueRepresentation.US, 3);
-        addEntry("RWavePointer", AttributeTag.RWavePointer, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("RWaveTimeVector", AttributeTag.RWaveTimeVector, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("SafePositionExitDate", AttributeTag.SafePositionExitDate, ValueRepresentation.DA, 1);
-        addEntry("SafePositionExitTime", AttributeTag.SafePositionExitTime, ValueRepresentation.TM, 1);
-        addEntry("SafePositionReturnDate", AttributeTag.SafePositionReturnDate, ValueRepresentation.DA, 1);
-        addEntry("SafePositionReturnTime", AttributeTag.SafePositionReturnTime, ValueRepresentation.TM, 1);
-        addEntry("SampleRate", AttributeTag.SampleRate, ValueRepresentation.UL, 1);
-        addEntry("SamplesPerPixel", AttributeTag.SamplesPerPixel, ValueRepresentation.US, 1);
-        addEntry("SamplesPerPixelUsed", AttributeTag.SamplesPerPixelUsed, ValueRepresentation.US, 1);
-        addEntry("SamplingFrequency", AttributeTag.SamplingFrequency, ValueRepresentation.DS, 1);
-        addEntry("SAR", AttributeTag.SAR, ValueRepresentation.DS, 1);
-        addEntry("SaturationRecovery", AttributeTag.SaturationRecovery, ValueRepresentation.CS, 1);
-        addEntry("ScanArc", AttributeTag.ScanArc, ValueRepresentation.DS, 1);
-        addEntry("ScanLength", AttributeTag.ScanLength, ValueRepresentation.IS, 1);
-        addEntry("ScanMode", AttributeTag.ScanMode, ValueRepresentation.CS, 1);
-        addEntry("ScanningSequence", AttributeTag.ScanningSequence, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("ScanningSpotSize", AttributeTag.ScanningSpotSize, ValueRepresentation.FL, 2);
-        addEntry("ScanOptions", AttributeTag.ScanOptions, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("ScanSpotMetersetsDelivered", AttributeTag.ScanSpotMetersetsDelivered, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("ScanSpotMetersetWeights", AttributeTag.ScanSpotMetersetWeights, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("ScanSpotPositionMap", AttributeTag.ScanSpotPositionMap, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("ScanSpotTuneID", AttributeTag.ScanSpotTuneID, ValueRepresentation.SH, 1);
-        addEntry("ScanVelocity", AttributeTag.ScanVelocity, ValueRepresentation.DS, 1);
-        addEntry("ScatterCorrected", AttributeTag.ScatterCorrected, ValueRepresentation.CS, 1);
-        addEntry("ScatterCorrectionMethod", AttributeTag.ScatterCorrectionMethod, ValueRepresentation.LO, 1);
-        addEntry("ScatterFractionFactor", AttributeTag.ScatterFractionFactor, ValueRepresentation.DS, 1);
-        addEntry("ScheduledAdmissionDate", AttributeTag.ScheduledAdmissionDate, ValueRepresentation.DA, 1);
-        addEntry("ScheduledAdmissionTime", AttributeTag.ScheduledAdmissionTime, ValueRepresentation.TM, 1);
-        addEntry("ScheduledDischargeDate", AttributeTag.ScheduledDischargeDate, ValueRepresentation.DA, 1);
-        addEntry("ScheduledDischargeTime", AttributeTag.ScheduledDischargeTime, ValueRepresentation.TM, 1);
-        addEntry("ScheduledHumanPerformersSequence", AttributeTag.ScheduledHumanPerformersSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledPatientInstitutionResidence", AttributeTag.ScheduledPatientInstitutionResidence, ValueRepresentation.LO, 1);
-        addEntry("ScheduledPerformingPhysicianIdentificationSequence", AttributeTag.ScheduledPerformingPhysicianIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledPerformingPhysicianName", AttributeTag.ScheduledPerformingPhysicianName, ValueRepresentation.PN, 1);
-        addEntry("ScheduledProcedureStepDescription", AttributeTag.ScheduledProcedureStepDescription, ValueRepresentation.LO, 1);
-        addEntry("ScheduledProcedureStepEndDate", AttributeTag.ScheduledProcedureStepEndDate, ValueRepresentation.DA, 1);
-        addEntry("ScheduledProcedureStepEndTime", AttributeTag.ScheduledProcedureStepEndTime, ValueRepresentation.TM, 1);
-        addEntry("ScheduledProcedureStepID", AttributeTag.ScheduledProcedureStepID, ValueRepresentation.SH, 1);
-        addEntry("ScheduledProcedureStepLocation", AttributeTag.ScheduledProcedureStepLocation, ValueRepresentation.SH, 1);
-        addEntry("ScheduledProcedureStepModificationDateTime", AttributeTag.ScheduledProcedureStepModificationDateTime, ValueRepresentation.DT, 1);
-        addEntry("ScheduledProcedureStepPriority", AttributeTag.ScheduledProcedureStepPriority, ValueRepresentation.CS, 1);
-        addEntry("ScheduledProcedureStepSequence", AttributeTag.ScheduledProcedureStepSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledProcedureStepStartDate", AttributeTag.ScheduledProcedureStepStartDate, ValueRepresentation.DA, 1);
-        addEntry("ScheduledProcedureStepStartDateTime", AttributeTag.ScheduledProcedureStepStartDateTime, ValueRepresentation.DT, 1);
-        addEntry("ScheduledProcedureStepStartTime", AttributeTag.ScheduledProcedureStepStartTime, ValueRepresentation.TM, 1);
-        addEntry("ScheduledProcedureStepStatus", AttributeTag.ScheduledProcedureStepStatus, ValueRepresentation.CS, 1);
-        addEntry("ScheduledProcessingApplicationsCodeSequence", AttributeTag.ScheduledProcessingApplicationsCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledProcessingParametersSequence", AttributeTag.ScheduledProcessingParametersSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledProtocolCodeSequence", AttributeTag.ScheduledProtocolCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledSpecimenSequence", AttributeTag.ScheduledSpecimenSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledStationAETitle", AttributeTag.ScheduledStationAETitle, ValueRepresentation.AE, 1, Integer.MAX_VALUE);
-        addEntry("ScheduledStationClassCodeSequence", AttributeTag.ScheduledStationClassCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledStationGeographicLocationCodeSequence", AttributeTag.ScheduledStationGeographicLocationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledStationName", AttributeTag.ScheduledStationName, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("ScheduledStationNameCodeSequence", AttributeTag.ScheduledStationNameCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledStepAttributesSequence", AttributeTag.ScheduledStepAttributesSequence, ValueRepresentation.SQ, 1);
-        addEntry("ScheduledStudyLocation", AttributeTag.ScheduledStudyLocation, ValueRepresentation.LO, 1);
-        addEntry("ScheduledStudyLocationAETitle", AttributeTag.ScheduledStudyLocationAETitle, ValueRepresentation.AE, 1, Integer.MAX_VALUE);
-        addEntry("ScheduledStudyStartDate", AttributeTag.ScheduledStudyStartDate, ValueRepresentation.DA, 1);
-        addEntry("ScheduledStudyStartTime", AttributeTag.ScheduledStudyStartTime, ValueRepresentation.TM, 1);
-        addEntry("ScheduledStudyStopDate", AttributeTag.ScheduledStudyStopDate, ValueRepresentation.DA, 1);
-        addEntry("ScheduledStudyStopTime", AttributeTag.ScheduledStudyStopTime, ValueRepresentation.TM, 1);
-        addEntry("ScheduledWorkitemCodeSequence", AttributeTag.ScheduledWorkitemCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("SCPStatus", AttributeTag.SCPStatus, ValueRepresentation.CS, 1);
-        addEntry("ScreenMinimumColorBitDepth", AttributeTag.ScreenMinimumColorBitDepth, ValueRepresentation.US, 1);
-        addEntry("ScreenMinimumGrayscaleBitDepth", AttributeTag.ScreenMinimumGrayscaleBitDepth, ValueRepresentation.US, 1);
-        addEntry("SecondaryCaptureDeviceID", AttributeTag.SecondaryCaptureDeviceID, ValueRepresentation.LO, 1);
-        addEntry("SecondaryCaptureDeviceManufacturer", AttributeTag.SecondaryCaptureDeviceManufacturer, ValueRepresentation.LO, 1);
-        addEntry("SecondaryCaptureDeviceManufacturerModelName", AttributeTag.SecondaryCaptureDeviceManufacturerModelName, ValueRepresentation.LO, 1);
-        addEntry("SecondaryCaptureDeviceSoftwareVersions", AttributeTag.SecondaryCaptureDeviceSoftwareVersions, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("SecondaryCountsAccumulated", AttributeTag.SecondaryCountsAccumulated, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("SecondaryCountsType", AttributeTag.SecondaryCountsType, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("SecondaryPositionerIncrement", AttributeTag.SecondaryPositionerIncrement, ValueRepresentation.FL, 1);
-        addEntry("SecondaryPositionerScanArc", AttributeTag.SecondaryPositionerScanArc, ValueRepresentation.FL, 1);
-        addEntry("SecondaryPositionerScanStartAngle", AttributeTag.SecondaryPositionerScanStartAngle, ValueRepresentation.FL, 1);
-        addEntry("SegmentAlgorithmName", AttributeTag.SegmentAlgorithmName, ValueRepresentation.LO, 1);
-        addEntry("SegmentAlgorithmType", AttributeTag.SegmentAlgorithmType, ValueRepresentation.CS, 1);
-        addEntry("SegmentationFractionalType", AttributeTag.SegmentationFractionalType, ValueRepresentation.CS, 1);
-        addEntry("SegmentationType", AttributeTag.SegmentationType, ValueRepresentation.CS, 1);
-        addEntry("SegmentDescription", AttributeTag.SegmentDescription, ValueRepresentation.ST, 1);
-        addEntry("SegmentedBluePaletteColorLookupTableData", AttributeTag.SegmentedBluePaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("SegmentedGreenPaletteColorLookupTableData", AttributeTag.SegmentedGreenPaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("SegmentedKSpaceTraversal", AttributeTag.SegmentedKSpaceTraversal, ValueRepresentation.CS, 1);
-        addEntry("SegmentedPropertyCategoryCodeSequence", AttributeTag.SegmentedPropertyCategoryCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("SegmentedPropertyTypeCodeSequence", AttributeTag.SegmentedPropertyTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("SegmentedRedPaletteColorLookupTableData", AttributeTag.SegmentedRedPaletteColorLookupTableData, ValueRepresentation.OW, 1);
-        addEntry("SegmentIdentificationSequence", AttributeTag.SegmentIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("SegmentLabel", AttributeTag.SegmentLabel, ValueRepresentation.LO, 1);
-        addEntry("SegmentNumber", AttributeTag.SegmentNumber, ValueRepresentation.US, 1);
-        addEntry("SegmentSequence", AttributeTag.SegmentSequence, ValueRepresentation.SQ, 1);
-        addEntry("SegmentSurfaceGenerationAlgorithmIdentificationSequence", AttributeTag.SegmentSurfaceGenerationAlgorithmIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("SegmentSurfaceSourceInstanceSequence", AttributeTag.SegmentSurfaceSourceInstanceSequence, ValueRepresentation.SQ, 1);
-        addEntry("SelectorAttribute", AttributeTag.SelectorAttribute, ValueRepresentation.AT, 1);
-        addEntry("SelectorAttributePrivateCreator", AttributeTag.SelectorAttributePrivateCreator, ValueRepresentation.LO, 1);
-        addEntry("SelectorAttributeVR", AttributeTag.SelectorAttributeVR, ValueRepresentation.CS, 1);
-        addEntry("SelectorATValue", AttributeTag.SelectorATValue, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("SelectorCodeSequenceValue", AttributeTag.SelectorCodeSequenceValue, ValueRepresentation.SQ, 1);
-        addEntry("SelectorCSValue", AttributeTag.SelectorCSValue, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("SelectorDSValue", AttributeTag.SelectorDSValue, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("SelectorFDValue", AttributeTag.SelectorFDValue, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
-        addEntry("SelectorFLValue", AttributeTag.SelectorFLValue, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("SelectorISValue", AttributeTag.SelectorISValue, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("SelectorLOValue", AttributeTag.SelectorLOValue, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("SelectorLTValue", AttributeTag.SelectorLTValue, ValueRepresentation.LT, 1);
-        addEntry("SelectorPNValue", AttributeTag.SelectorPNValue, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
-        addEntry("SelectorSequencePointer", AttributeTag.SelectorSequencePointer, ValueRepresentation.AT, 1);
-        addEntry("SelectorSequencePointerPrivateCreator", AttributeTag.SelectorSequencePointerPrivateCreator, ValueRepresentation.LO, 1);
-        addEntry("SelectorSHValue", AttributeTag.SelectorSHValue, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
-        addEntry("SelectorSLValue", AttributeTag.SelectorSLValue, ValueRepresentation.SL, 1, Integer.MAX_VALUE);
-        addEntry("SelectorSSValue", AttributeTag.SelectorSSValue, ValueRepresentation.SS, 1, Integer.MAX_VALUE);
-        addEntry("SelectorSTValue", AttributeTag.SelectorSTValue, ValueRepresentation.ST, 1);
-        addEntry("SelectorULValue", AttributeTag.SelectorULValue, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
-        addEntry("SelectorUSValue", AttributeTag.SelectorUSValue, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("SelectorUTValue", AttributeTag.SelectorUTValue, ValueRepresentation.UT, 1);
-        addEntry("SelectorValueNumber", AttributeTag.SelectorValueNumber, ValueRepresentation.US, 1);
-        addEntry("Sensitivity", AttributeTag.Sensitivity, ValueRepresentation.DS, 1);
-        addEntry("SensitivityCalibrated", AttributeTag.SensitivityCalibrated, ValueRepresentation.CS, 1);
-        addEntry("SequenceDelimitationItem", AttributeTag.SequenceDelimitationItem, (ValueRepresentation) null, 1);
-        addEntry("SequenceName", AttributeTag.SequenceName, ValueRepresentation.SH, 1);
-        addEntry("SequenceOfCompressedData", AttributeTag.SequenceOfCompressedData, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("SequenceOfUltrasoundRegions", AttributeTag.SequenceOfUltrasoundRegions, ValueRepresentation.SQ, 1);
-        addEntry("SequenceVariant", AttributeTag.SequenceVariant, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("SeriesDate", AttributeTag.SeriesDate, ValueRepresentation.DA, 1);
-        addEntry("SeriesDescription", AttributeTag.SeriesDescription, ValueRepresentation.LO, 1);
-        addEntry("SeriesDescriptionCodeSequence", AttributeTag.SeriesDescriptionCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("SeriesInstanceUID", AttributeTag.SeriesInstanceUID, ValueRepresentation.UI, 1);
-        addEntry("SeriesInStudy", AttributeTag.SeriesInStudy, ValueRepresentation.IS, 1);
-        addEntry("SeriesNumber", AttributeTag.SeriesNumber, ValueRepresentation.IS, 1);
-        addEntry("SeriesTime", AttributeTag.SeriesTime, ValueRepresentation.TM, 1);
-        addEntry("SeriesType", AttributeTag.SeriesType, ValueRepresentation.CS, 2);
-        addEntry("ServiceEpisodeDescription", AttributeTag.ServiceEpisodeDescription, ValueRepresentation.LO, 1);
-        addEntry("ServiceEpisodeID", AttributeTag.ServiceEpisodeID, ValueRepresentation.LO, 1);
-        addEntry("SetupDeviceDescription", AttributeTag.SetupDeviceDescription, ValueRepresentation.ST, 1);
-        addEntry("SetupDeviceLabel", AttributeTag.SetupDeviceLabel, ValueRepresentation.SH, 1);
-        addEntry("SetupDeviceParameter", AttributeTag.SetupDeviceParameter, ValueRepresentation.DS, 1);
-        addEntry("SetupDeviceSequence", AttributeTag.SetupDeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("SetupDeviceType", AttributeTag.SetupDeviceType, ValueRepresentation.CS, 1);
-        addEntry("SetupImageComment", AttributeTag.SetupImageComment, ValueRepresentation.ST, 1);
-        addEntry("SetupReferenceDescription", AttributeTag.SetupReferenceDescription, ValueRepresentation.ST, 1);
-        addEntry("SetupTechnique", AttributeTag.SetupTechnique, ValueRepresentation.CS, 1);
-        addEntry("SetupTechniqueDescription", AttributeTag.SetupTechniqueDescription, ValueRepresentation.ST, 1);
-        addEntry("ShadowColorCIELabValue", AttributeTag.ShadowColorCIELabValue, ValueRepresentation.US, 3);
-        addEntry("ShadowOffsetX", AttributeTag.ShadowOffsetX, ValueRepresentation.FL, 1);
-        addEntry("ShadowOffsetY", AttributeTag.ShadowOffsetY, ValueRepresentation.FL, 1);
-        addEntry("ShadowOpacity", AttributeTag.ShadowOpacity, ValueRepresentation.FL, 1);
-        addEntry("ShadowStyle", AttributeTag.ShadowStyle, ValueRepresentation.CS, 1);
-        addEntry("ShapeType", AttributeTag.ShapeType, ValueRepresentation.CS, 1);
-        addEntry("SharedFunctionalGroupsSequence", AttributeTag.SharedFunctionalGroupsSequence, ValueRepresentation.SQ, 1);
-        addEntry("ShieldingDeviceDescription", AttributeTag.ShieldingDeviceDescription, ValueRepresentation.ST, 1);
-        addEntry("ShieldingDeviceLabel", AttributeTag.ShieldingDeviceLabel, ValueRepresentation.SH, 1);
-        addEntry("ShieldingDevicePosition", AttributeTag.ShieldingDevicePosition, ValueRepresentation.SH, 1);
-        addEntry("ShieldingDeviceSequence", AttributeTag.ShieldingDeviceSequence, ValueRepresentation.SQ, 1);
-        addEntry("ShieldingDeviceType", AttributeTag.ShieldingDeviceType, ValueRepresentation.CS, 1);
-        addEntry("ShiftTableSize", AttributeTag.ShiftTableSize, ValueRepresentation.US, 1);
-        addEntry("ShiftTableTriplet", AttributeTag.ShiftTableTriplet, ValueRepresentation.US, 3);
-        addEntry("ShowAcquisitionTechniquesFlag", AttributeTag.ShowAcquisitionTechniquesFlag, ValueRepresentation.CS, 1);
-        addEntry("ShowGraphicAnnotationFlag", AttributeTag.ShowGraphicAnnotationFlag, ValueRepresentation.CS, 1);
-        addEntry("ShowGrayscaleInverted", AttributeTag.ShowGrayscaleInverted, ValueRepresentation.CS, 1);
-        addEntry("ShowImageTrueSizeFlag", AttributeTag.ShowImageTrueSizeFlag, ValueRepresentation.CS, 1);
-        addEntry("ShowPatientDemographicsFlag", AttributeTag.ShowPatientDemographicsFlag, ValueRepresentation.CS, 1);
-        addEntry("ShowTickLabel", AttributeTag.ShowTickLabel, ValueRepresentation.CS, 1);
-        addEntry("ShutterLeftVerticalEdge", AttributeTag.ShutterLeftVerticalEdge, ValueRepresentation.IS, 1);
-        addEntry("ShutterLowerHorizontalEdge", AttributeTag.ShutterLowerHorizontalEdge, ValueRepresentation.IS, 1);
-        addEntry("ShutterOverlayGroup", AttributeTag.ShutterOverlayGroup, ValueRepresentation.US, 1);
-        addEntry("ShutterPresentationColorCIELabValue", AttributeTag.ShutterPresentationColorCIELabValue, ValueRepresentation.US, 3);
-        addEntry("ShutterPresentationValue", AttributeTag.ShutterPresentationValue, ValueRepresentation.US, 1);
-        addEntry("ShutterRightVerticalEdge", AttributeTag.ShutterRightVerticalEdge, ValueRepresentation.IS, 1);
-        addEntry("ShutterShape", AttributeTag.ShutterShape, ValueRepresentation.CS, 1, 3);
-        addEntry("ShutterUpperHorizontalEdge", AttributeTag.ShutterUpperHorizontalEdge, ValueRepresentation.IS, 1);
-        addEntry("SignalDomainColumns", AttributeTag.SignalDomainColumns, ValueRepresentation.CS, 1);
-        addEntry("SignalDomainRows", AttributeTag.SignalDomainRows, ValueRepresentation.CS, 1);
-        addEntry("Signature", AttributeTag.Signature, ValueRepresentation.OB, 1);
-        addEntry("SimpleFrameList", AttributeTag.SimpleFrameList, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
-        addEntry("SingleCollimationWidth", AttributeTag.SingleCollimationWidth, ValueRepresentation.FD, 1);
-        addEntry("SkipBeats", AttributeTag.SkipBeats, ValueRepresentation.IS, 1);
-        addEntry("SkipFrameRangeFlag", AttributeTag.SkipFrameRangeFlag, ValueRepresentation.CS, 1);
-        addEntry("SlabOrientation", AttributeTag.SlabOrientation, ValueRepresentation.FD, 3);
-        addEntry("SlabThickness", AttributeTag.SlabThickness, ValueRepresentation.FD, 1);
-        addEntry("SliceLocation", AttributeTag.SliceLocation, ValueRepresentation.DS, 1);
-        addEntry("SliceLocationVector", AttributeTag.SliceLocationVector, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("SliceProgressionDirection", AttributeTag.SliceProgressionDirection, ValueRepresentation.CS, 1);
-        addEntry("SliceSensitivityFactor", AttributeTag.SliceSensitivityFactor, ValueRepresentation.DS, 1);
-        addEntry("SliceThickness", AttributeTag.SliceThickness, ValueRepresentation.DS, 1);
-        addEntry("SliceVector", AttributeTag.SliceVector, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("SlideIdentifier", AttributeTag.SlideIdentifier, ValueRepresentation.LO, 1);
-        addEntry("SmallestImagePixelValue", AttributeTag.SmallestImagePixelValue, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("SmallestImagePixelValueInPlane", AttributeTag.SmallestImagePixelValueInPlane, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("SmallestPixelValueInSeries", AttributeTag.SmallestPixelValueInSeries, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("SmallestValidPixelValue", AttributeTag.SmallestValidPixelValue, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
-        addEntry("SmokingStatus", AttributeTag.SmokingStatus, ValueRepresentation.CS, 1);
-        addEntry("SmoothingType", AttributeTag.SmoothingType, ValueRepresentation.CS, 1);
-        addEntry("SnoutID", AttributeTag.SnoutID, ValueRepresentation.SH, 1);
-        addEntry("SnoutPosition", AttributeTag.SnoutPosition, ValueRepresentation.FL, 1);
-        addEntry("SnoutPositionTolerance", AttributeTag.SnoutPositionTolerance, ValueRepresentation.FL, 1);
-        addEntry("SnoutSequence", AttributeTag.SnoutSequence, ValueRepresentation.SQ, 1);
-        addEntry("SoftcopyVOILUTSequence", AttributeTag.SoftcopyVOILUTSequence, ValueRepresentation.SQ, 1);
-        addEntry("SoftTissueFocusThermalIndex", AttributeTag.SoftTissueFocusThermalIndex, ValueRepresentation.DS, 1);
-        addEntry("SoftTissueSurfaceThermalIndex", AttributeTag.SoftTissueSurfaceThermalIndex, ValueRepresentation.DS, 1);
-        addEntry("SoftTissueThermalIndex", AttributeTag.SoftTissueThermalIndex, ValueRepresentation.DS, 1);
-        addEntry("SoftwareVersions", AttributeTag.SoftwareVersions, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("SOPAuthorizationComment", AttributeTag.SOPAuthorizationComment, ValueRepresentation.LT, 1);
-        addEntry("SOPAuthorizationDateTime", AttributeTag.SOPAuthorizationDateTime, ValueRepresentation.DT, 1);
-        addEntry("SOPClassesInStudy", AttributeTag.SOPClassesInStudy, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
-        addEntry("SOPClassesSupported", AttributeTag.SOPClassesSupported, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
-        addEntry("SOPClassUID", AttributeTag.SOPClassUID, ValueRepresentation.UI, 1);
-        addEntry("SOPInstanceStatus", AttributeTag.SOPInstanceStatus, ValueRepresentation.CS, 1);
-        addEntry("SOPInstanceUID", AttributeTag.SOPInstanceUID, ValueRepresentation.UI, 1);
-        addEntry("SOPInstanceUIDOfConcatenationSource", AttributeTag.SOPInstanceUIDOfConcatenationSource, ValueRepresentation.UI, 1);
-        addEntry("SortByCategory", AttributeTag.SortByCategory, ValueRepresentation.CS, 1);
-        addEntry("SortingDirection", AttributeTag.SortingDirection, ValueRepresentation.CS, 1);
-        addEntry("SortingOperationsSequence", AttributeTag.SortingOperationsSequence, ValueRepresentation.SQ, 1);
-        addEntry("SourceApplicationEntityTitle", AttributeTag.SourceApplicationEntityTitle, ValueRepresentation.AE, 1);
-        addEntry("SourceApplicatorID", AttributeTag.SourceApplicatorID, ValueRepresentation.SH, 1);
-        addEntry("SourceApplicatorLength", AttributeTag.SourceApplicatorLength, ValueRepresentation.DS, 1);
-        addEntry("SourceApplicatorManufacturer", AttributeTag.SourceApplicatorManufacturer, ValueRepresentation.LO, 1);
-        addEntry("SourceApplicatorName", AttributeTag.SourceApplicatorName, ValueRepresentation.LO, 1);
-        addEntry("SourceApplicatorNumber", AttributeTag.SourceApplicatorNumber, ValueRepresentation.IS, 1);
-        addEntry("SourceApplicatorStepSize", AttributeTag.SourceApplicatorStepSize, ValueRepresentation.DS, 1);
-        addEntry("SourceApplicatorType", AttributeTag.SourceApplicatorType, ValueRepresentation.CS, 1);
-        addEntry("SourceApplicatorWallNominalThickness", AttributeTag.SourceApplicatorWallNominalThickness, ValueRepresentation.DS, 1);
-        addEntry("SourceApplicatorWallNominalTransmission", AttributeTag.SourceApplicatorWallNominalTransmission, ValueRepresentation.DS, 1);
-        addEntry("SourceAxisDistance", AttributeTag.SourceAxisDistance, ValueRepresentation.DS, 1);
-        addEntry("SourceEncapsulationNominalThickness", AttributeTag.SourceEncapsulationNominalThickness, ValueRepresentation.DS, 1);
-        addEntry("SourceEncapsulationNominalTransmission", AttributeTag.SourceEncapsulationNominalTransmission, ValueRepresentation.DS, 1);
-        addEntry("SourceFrameOfReferenceUID", AttributeTag.SourceFrameOfReferenceUID, ValueRepresentation.UI, 1);
-        addEntry("SourceHangingProtocolSequence", AttributeTag.SourceHangingProtocolSequence, ValueRepresentation.SQ, 1);
-        addEntry("SourceImageEvidenceSequence", AttributeTag.SourceImageEvidenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("SourceImageIDs", AttributeTag.SourceImageIDs, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("SourceImageSequence", AttributeTag.SourceImageSequence, ValueRepresentation.SQ, 1);
-        addEntry("SourceInstanceSequence", AttributeTag.SourceInstanceSequence, ValueRepresentation.SQ, 1);
-        addEntry("SourceIsotopeHalfLife", AttributeTag.SourceIsotopeHalfLife, ValueRepresentation.DS, 1);
-        addEntry("SourceIsotopeName", AttributeTag.SourceIsotopeName, ValueRepresentation.LO, 1);
-        addEntry("SourceManufacturer", AttributeTag.SourceManufacturer, ValueRepresentation.LO, 1);
-        addEntry("SourceMovementType", AttributeTag.SourceMovementType, ValueRepresentation.CS, 1);
-        addEntry("SourceNumber", AttributeTag.SourceNumber, ValueRepresentation.IS, 1);
-        addEntry("SourceOfPreviousValues", AttributeTag.SourceOfPreviousValues, ValueRepresentation.LO, 1);
-        addEntry("SourceSequence", AttributeTag.SourceSequence, ValueRepresentation.SQ, 1);
-        addEntry("SourceSerialNumber", AttributeTag.SourceSerialNumber, ValueRepresentation.LO, 1);
-        addEntry("SourceStrength", AttributeTag.SourceStrength, ValueRepresentation.DS, 1);
-        addEntry("SourceStrengthReferenceDate", AttributeTag.SourceStrengthReferenceDate, ValueRepresentation.DA, 1);
-        addEntry("SourceStrengthReferenceTime", AttributeTag.SourceStrengthReferenceTime, ValueRepresentation.TM, 1);
-        addEntry("SourceStrengthUnits", AttributeTag.SourceStrengthUnits, ValueRepresentation.CS, 1);
-        addEntry("SourceToBeamLimitingDeviceDistance", AttributeTag.SourceToBeamLimitingDeviceDistance, ValueRepresentation.DS, 1);
-        addEntry("SourceToBlockTrayDistance", AttributeTag.SourceToBlockTrayDistance, ValueRepresentation.DS, 1);
-        addEntry("SourceToCompensatorDistance", AttributeTag.SourceToCompensatorDistance, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("SourceToCompensatorTrayDistance", AttributeTag.SourceToCompensatorTrayDistance, ValueRepresentation.DS, 1);
-        addEntry("SourceToReferenceObjectDistance", AttributeTag.SourceToReferenceObjectDistance, ValueRepresentation.DS, 1);
-        addEntry("SourceToSurfaceDistance", AttributeTag.SourceToSurfaceDistance, ValueRepresentation.DS, 1);
-        addEntry("SourceToWedgeTrayDistance", AttributeTag.SourceToWedgeTrayDistance, ValueRepresentation.DS, 1);
-        addEntry("SourceType", AttributeTag.SourceType, ValueRepresentation.CS, 1);
-        addEntry("SourceWaveformSequence", AttributeTag.SourceWaveformSequence, ValueRepresentation.SQ, 1);
-        addEntry("SpacingBetweenSlices", AttributeTag.SpacingBetweenSlices, ValueRepresentation.DS, 1);
-        addEntry("SpatialLocationsPreserved", AttributeTag.SpatialLocationsPreserved, ValueRepresentation.CS, 1);
-        addEntry("SpatialPresaturation", AttributeTag.SpatialPresaturation, ValueRepresentation.CS, 1);
-        addEntry("SpatialResolution", AttributeTag.SpatialResolution, ValueRepresentation.DS, 1);
-        addEntry("SpecialNeeds", AttributeTag.SpecialNeeds, ValueRepresentation.LO, 1);
-        addEntry("SpecificAbsorptionRateDefinition", AttributeTag.SpecificAbsorptionRateDefinition, ValueRepresentation.CS, 1);
-        addEntry("SpecificAbsorptionRateSequence", AttributeTag.SpecificAbsorptionRateSequence, ValueRepresentation.SQ, 1);
-        addEntry("SpecificAbsorptionRateValue", AttributeTag.SpecificAbsorptionRateValue, ValueRepresentation.FD, 1);
-        addEntry("SpecificCharacterSet", AttributeTag.SpecificCharacterSet, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("SpecificCharacterSetOfFileSetDescriptorFile", AttributeTag.SpecificCharacterSetOfFileSetDescriptorFile, ValueRepresentation.CS, 1);
-        addEntry("SpecifiedChannelTotalTime", AttributeTag.SpecifiedChannelTotalTime, ValueRepresentation.DS, 1);
-        addEntry("SpecifiedMeterset", AttributeTag.SpecifiedMeterset, ValueRepresentation.DS, 1);
-        addEntry("SpecifiedNumberOfPulses", AttributeTag.SpecifiedNumberOfPulses, ValueRepresentation.IS, 1);
-        addEntry("SpecifiedPrimaryMeterset", AttributeTag.SpecifiedPrimaryMeterset, ValueRepresentation.DS, 1);
-        addEntry("SpecifiedPulseRepetitionInterval", AttributeTag.SpecifiedPulseRepetitionInterval, ValueRepresentation.DS, 1);
-        addEntry("SpecifiedSecondaryMeterset", AttributeTag.SpecifiedSecondaryMeterset, ValueRepresentation.DS, 1);
-        addEntry("SpecifiedTreatmentTime", AttributeTag.SpecifiedTreatmentTime, ValueRepresentation.DS, 1);
-        addEntry("SpecimenAccessionNumber", AttributeTag.SpecimenAccessionNumber, ValueRepresentation.LO, 1);
-        addEntry("SpecimenDescriptionSequence", AttributeTag.SpecimenDescriptionSequence, ValueRepresentation.SQ, 1);
-        addEntry("SpecimenDescriptionSequenceTrial", AttributeTag.SpecimenDescriptionSequenceTrial, ValueRepresentation.SQ, 1);
-        addEntry("SpecimenDescriptionTrial", AttributeTag.SpecimenDescriptionTrial, ValueRepresentation.ST, 1);
-        addEntry("SpecimenDetailedDescription", AttributeTag.SpecimenDetailedDescription, ValueRepresentation.UT, 1);
-        addEntry("SpecimenIdentifier", AttributeTag.SpecimenIdentifier, ValueRepresentation.LO, 1);
-        addEntry("SpecimenLocalizationContentItemSequence", AttributeTag.SpecimenLocalizationContentItemSequence, ValueRepresentation.SQ, 1);
-        addEntry("SpecimenPreparationSequence", AttributeTag.SpecimenPreparationSequence, ValueRepresentation.SQ, 1);
-        addEntry("SpecimenPreparationStepContentItemSequence", AttributeTag.SpecimenPreparationStepContentItemSequence, ValueRepresentation.SQ, 1);
-        addEntry("SpecimenSequence", AttributeTag.SpecimenSequence, ValueRepresentation.SQ, 1);
-        addEntry("SpecimenShortDescription", AttributeTag.SpecimenShortDescription, ValueRepresentation.LO, 1);
-        addEntry("SpecimenTypeCodeSequence", AttributeTag.SpecimenTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("SpecimenUID", AttributeTag.SpecimenUID, ValueRepresentation.UI, 1);
-        addEntry("SpectrallySelectedExcitation", AttributeTag.SpectrallySelectedExcitation, ValueRepresentation.CS, 1);
-        addEntry("SpectrallySelectedSuppression", AttributeTag.SpectrallySelectedSuppression, ValueRepresentation.CS, 1);
-        addEntry("SpectralWidth", AttributeTag.SpectralWidth, ValueRepresentation.FD, 1, 2);
-        addEntry("SpectroscopyAcquisitionDataColumns", AttributeTag.SpectroscopyAcquisitionDataColumns, ValueRepresentation.UL, 1);
-        addEntry("SpectroscopyAcquisitionOutOfPlanePhaseSteps", AttributeTag.SpectroscopyAcquisitionOutOfPlanePhaseSteps, ValueRepresentation.UL, 1);
-        addEntry("SpectroscopyAcquisitionPhaseColumns", AttributeTag.SpectroscopyAcquisitionPhaseColumns, ValueRepresentation.UL, 1);
-        addEntry("SpectroscopyAcquisitionPhaseRows", AttributeTag.SpectroscopyAcquisitionPhaseRows, ValueRepresentation.UL, 1);
-        addEntry("SpectroscopyData", AttributeTag.SpectroscopyData, ValueRepresentation.OF, 1);
-        addEntry("SpherePower", AttributeTag.SpherePower, ValueRepresentation.FD, 1);
-        addEntry("SphericalLensPower", AttributeTag.SphericalLensPower, ValueRepresentation.FL, 1);
-        addEntry("SpiralPitchFactor", AttributeTag.SpiralPitchFactor, ValueRepresentation.FD, 1);
-        addEntry("Spoiling", AttributeTag.Spoiling, ValueRepresentation.CS, 1);
-        addEntry("StackID", AttributeTag.StackID, ValueRepresentation.SH, 1);
-        addEntry("StageCodeSequence", AttributeTag.StageCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("StageName", AttributeTag.StageName, ValueRepresentation.SH, 1);
-        addEntry("StageNumber", AttributeTag.StageNumber, ValueRepresentation.IS, 1);
-        addEntry("StartAcquisitionDateTime", AttributeTag.StartAcquisitionDateTime, ValueRepresentation.DT, 1);
-        addEntry("StartAngle", AttributeTag.StartAngle, ValueRepresentation.DS, 1);
-        addEntry("StartCardiacTriggerCountThreshold", AttributeTag.StartCardiacTriggerCountThreshold, ValueRepresentation.FD, 1);
-        addEntry("StartCumulativeMetersetWeight", AttributeTag.StartCumulativeMetersetWeight, ValueRepresentation.DS, 1);
-        addEntry("StartDensityThreshold", AttributeTag.StartDensityThreshold, ValueRepresentation.FD, 1);
-        addEntry("StartingRespiratoryAmplitude", AttributeTag.StartingRespiratoryAmplitude, ValueRepresentation.FL, 1);
-        addEntry("StartingRespiratoryPhase", AttributeTag.StartingRespiratoryPhase, ValueRepresentation.CS, 1);
-        addEntry("StartMeterset", AttributeTag.StartMeterset, ValueRepresentation.DS, 1);
-        addEntry("StartRelativeDensityDifferenceThreshold", AttributeTag.StartRelativeDensityDifferenceThreshold, ValueRepresentation.FD, 1);
-        addEntry("StartRespiratoryTriggerCountThreshold", AttributeTag.StartRespiratoryTriggerCountThreshold, ValueRepresentation.FD, 1);
-        addEntry("StartTrim", AttributeTag.StartTrim, ValueRepresentation.IS, 1);
-        addEntry("StationName", AttributeTag.StationName, ValueRepresentation.SH, 1);
-        addEntry("Status", AttributeTag.Status, ValueRepresentation.US, 1);
-        addEntry("SteadyStatePulseSequence", AttributeTag.SteadyStatePulseSequence, ValueRepresentation.CS, 1);
-        addEntry("SteepKeratometricAxisSequence", AttributeTag.SteepKeratometricAxisSequence, ValueRepresentation.SQ, 1);
-        addEntry("SteeringAngle", AttributeTag.SteeringAngle, ValueRepresentation.FD, 1);
-        addEntry("StereoBaselineAngle", AttributeTag.StereoBaselineAngle, ValueRepresentation.FL, 1);
-        addEntry("StereoBaselineDisplacement", AttributeTag.StereoBaselineDisplacement, ValueRepresentation.FL, 1);
-        addEntry("StereoHorizontalPixelOffset", AttributeTag.StereoHorizontalPixelOffset, ValueRepresentation.FL, 1);
-        addEntry("StereoPairsSequence", AttributeTag.StereoPairsSequence, ValueRepresentation.SQ, 1);
-        addEntry("StereoRotation", AttributeTag.StereoRotation, ValueRepresentation.FL, 1);
-        addEntry("StereoVerticalPixelOffset", AttributeTag.StereoVerticalPixelOffset, ValueRepresentation.FL, 1);
-        addEntry("StopTrim", AttributeTag.StopTrim, ValueRepresentation.IS, 1);
-        addEntry("StorageMediaFileSetID", AttributeTag.StorageMediaFileSetID, ValueRepresentation.SH, 1);
-        addEntry("StorageMediaFileSetUID", AttributeTag.StorageMediaFileSetUID, ValueRepresentation.UI, 1);
-        addEntry("StructuredDisplayBackgroundCIELabValue", AttributeTag.StructuredDisplayBackgroundCIELabValue, ValueRepresentation.US, 3);
-        addEntry("StructuredDisplayImageBoxSequence", AttributeTag.StructuredDisplayImageBoxSequence, ValueRepresentation.SQ, 1);
-        addEntry("StructuredDisplayTextBoxSequence", AttributeTag.StructuredDisplayTextBoxSequence, ValueRepresentation.SQ, 1);
-        addEntry("StructureSetDate", AttributeTag.StructureSetDate, ValueRepresentation.DA, 1);
-        addEntry("StructureSetDescription", AttributeTag.StructureSetDescription, ValueRepresentation.ST, 1);
-        addEntry("StructureSetLabel", AttributeTag.StructureSetLabel, ValueRepresentation.SH, 1);
-        addEntry("StructureSetName", AttributeTag.StructureSetName, ValueRepresentation.LO, 1);
-        addEntry("StructureSetROISequence", AttributeTag.StructureSetROISequence, ValueRepresentation.SQ, 1);
-        addEntry("StructureSetTime", AttributeTag.StructureSetTime, ValueRepresentation.TM, 1);
-        addEntry("StudiesContainingOtherReferencedInstancesSequence", AttributeTag.StudiesContainingOtherReferencedInstancesSequence, ValueRepresentation.SQ, 1);
-        addEntry("StudyArrivalDate", AttributeTag.StudyArrivalDate, ValueRepresentation.DA, 1);
-        addEntry("StudyArrivalTime", AttributeTag.StudyArrivalTime, ValueRepresentation.TM, 1);
-        addEntry("StudyComments", AttributeTag.StudyComments, ValueRepresentation.LT, 1);
-        addEntry("StudyCompletionDate", AttributeTag.StudyCompletionDate, ValueRepresentation.DA, 1);
-        addEntry("StudyCompletionTime", AttributeTag.StudyCompletionTime, ValueRepresentation.TM, 1);
-        addEntry("StudyComponentStatusID", AttributeTag.StudyComponentStatusID, ValueRepresentation.CS, 1);
-        addEntry("StudyDate", AttributeTag.StudyDate, ValueRepresentation.DA, 1);
-        addEntry("StudyDescription", AttributeTag.StudyDescription, ValueRepresentation.LO, 1);
-        addEntry("StudyID", AttributeTag.StudyID, ValueRepresentation.SH, 1);
-        addEntry("StudyIDIssuer", AttributeTag.StudyIDIssuer, ValueRepresentation.LO, 1);
-        addEntry("StudyInstanceUID", AttributeTag.StudyInstanceUID, ValueRepresentation.UI, 1);
-        addEntry("StudyPriorityID", AttributeTag.StudyPriorityID, ValueRepresentation.CS, 1);
-        addEntry("StudyReadDate", AttributeTag.StudyReadDate, ValueRepresentation.DA, 1);
-        addEntry("StudyReadTime", AttributeTag.StudyReadTime, ValueRepresentation.TM, 1);
-        addEntry("StudyStatusID", AttributeTag.StudyStatusID, ValueRepresentation.CS, 1);
-        addEntry("StudyTime", AttributeTag.StudyTime, ValueRepresentation.TM, 1);
-        addEntry("StudyVerifiedDate", AttributeTag.StudyVerifiedDate, ValueRepresentation.DA, 1);
-        addEntry("StudyVerifiedTime", AttributeTag.StudyVerifiedTime, ValueRepresentation.TM, 1);
-        addEntry("SubjectiveRefractionLeftEyeSequence", AttributeTag.SubjectiveRefractionLeftEyeSequence, ValueRepresentation.SQ, 1);
-        addEntry("SubjectiveRefractionRightEyeSequence", AttributeTag.SubjectiveRefractionRightEyeSequence, ValueRepresentation.SQ, 1);
-        addEntry("SubscriptionListStatus", AttributeTag.SubscriptionListStatus, ValueRepresentation.CS, 1);
-        addEntry("SubstanceAdministrationApproval", AttributeTag.SubstanceAdministrationApproval, ValueRepresentation.CS, 1);
-        addEntry("SubstanceAdministrationDateTime", AttributeTag.SubstanceAdministrationDateTime, ValueRepresentation.DT, 1);
-        addEntry("SubstanceAdministrationDeviceID", AttributeTag.SubstanceAdministrationDeviceID, ValueRepresentation.LO, 1);
-        addEntry("SubstanceAdministrationNotes", AttributeTag.SubstanceAdministrationNotes, ValueRepresentation.LO, 1);
-        addEntry("SubstanceAdministrationParameterSequence", AttributeTag.SubstanceAdministrationParameterSequence, ValueRepresentation.SQ, 1);
-        addEntry("SubtractionItemID", AttributeTag.SubtractionItemID, ValueRepresentation.US, 1);
-        addEntry("SupportedImageDisplayFormatsSequence", AttributeTag.SupportedImageDisplayFormatsSequence, ValueRepresentation.SQ, 1);
-        addEntry("SurfaceComments", AttributeTag.SurfaceComments, ValueRepresentation.LT, 1);
-        addEntry("SurfaceCount", AttributeTag.SurfaceCount, ValueRepresentation.UL, 1);
-        addEntry("SurfaceEntryPoint", AttributeTag.SurfaceEntryPoint, ValueRepresentation.DS, 3);
-        addEntry("SurfaceMeshPrimitivesSequence", AttributeTag.SurfaceMeshPrimitivesSequence, ValueRepresentation.SQ, 1);
-        addEntry("SurfaceNumber", AttributeTag.SurfaceNumber, ValueRepresentation.UL, 1);
-        addEntry("SurfacePointsNormalsSequence", AttributeTag.SurfacePointsNormalsSequence, ValueRepresentation.SQ, 1);
-        addEntry("SurfacePointsSequence", AttributeTag.SurfacePointsSequence, ValueRepresentation.SQ, 1);
-        addEntry("SurfaceProcessing", AttributeTag.SurfaceProcessing, ValueRepresentation.CS, 1);
-        addEntry("SurfaceProcessingAlgorithmIdentificationSequence", AttributeTag.SurfaceProcessingAlgorithmIdentificationSequence, ValueRepresentation.SQ, 1);
-        addEntry("SurfaceProcessingDescription", AttributeTag.SurfaceProcessingDescription, ValueRepresentation.LO, 1);
-        addEntry("SurfaceProcessingRatio", AttributeTag.SurfaceProcessingRatio, ValueRepresentation.FL, 1);
-        addEntry("SurfaceSequence", AttributeTag.SurfaceSequence, ValueRepresentation.SQ, 1);
-        addEntry("SynchronizationChannel", AttributeTag.SynchronizationChannel, ValueRepresentation.US, 2);
-        addEntry("SynchronizationFrameOfReferenceUID", AttributeTag.SynchronizationFrameOfReferenceUID, ValueRepresentation.UI, 1);
-        addEntry("SynchronizationTrigger", AttributeTag.SynchronizationTrigger, ValueRepresentation.CS, 1);
-        addEntry("SynchronizedImageBoxList", AttributeTag.SynchronizedImageBoxList, ValueRepresentation.US, 2, Integer.MAX_VALUE);
-        addEntry("SynchronizedScrollingSequence", AttributeTag.SynchronizedScrollingSequence, ValueRepresentation.SQ, 1);
-        addEntry("SyringeCounts", AttributeTag.SyringeCounts, ValueRepresentation.IS, 1);
-        addEntry("T", AttributeTag.T2Preparation, ValueRepresentation.CS, 1);
-        addEntry("TableAngle", AttributeTag.TableAngle, ValueRepresentation.DS, 1);
-        addEntry("TableCradleTiltAngle", AttributeTag.TableCradleTiltAngle, ValueRepresentation.FL, 1);
-        addEntry("TableFeedPerRotation", AttributeTag.TableFeedPerRotation, ValueRepresentation.FD, 1);
-        addEntry("TableFrameOfReferenceUID", AttributeTag.TableFrameOfReferenceUID, ValueRepresentation.UI, 1);
-        addEntry("TableHeadTiltAngle", AttributeTag.TableHeadTiltAngle, ValueRepresentation.FL, 1);
-        addEntry("TableHeight", AttributeTag.TableHeight, ValueRepresentation.DS, 1);
-        addEntry("TableHorizontalRotationAngle", AttributeTag.TableHorizontalRotationAngle, ValueRepresentation.FL, 1);
-        addEntry("TableLateralIncrement", AttributeTag.TableLateralIncrement, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("TableLongitudinalIncrement", AttributeTag.TableLongitudinalIncrement, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("TableMotion", AttributeTag.TableMotion, ValueRepresentation.CS, 1);
-        addEntry("TableOfParameterValues", AttributeTag.TableOfParameterValues, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("TableOfPixelValues", AttributeTag.TableOfPixelValues, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
-        addEntry("TableOfXBreakPoints", AttributeTag.TableOfXBreakPoints, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
-        addEntry("TableOfYBreakPoints", AttributeTag.TableOfYBreakPoints, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
-        addEntry("TablePosition", AttributeTag.TablePosition, ValueRepresentation.FD, 1);
-        addEntry("TablePositionSequence", AttributeTag.TablePositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("TableSpeed", AttributeTag.TableSpeed, ValueRepresentation.FD, 1);
-        addEntry("TableTopEccentricAngle", AttributeTag.TableTopEccentricAngle, ValueRepresentation.DS, 1);
-        addEntry("TableTopEccentricAngleTolerance", AttributeTag.TableTopEccentricAngleTolerance, ValueRepresentation.DS, 1);
-        addEntry("TableTopEccentricAxisDistance", AttributeTag.TableTopEccentricAxisDistance, ValueRepresentation.DS, 1);
-        addEntry("TableTopEccentricRotationDirection", AttributeTag.TableTopEccentricRotationDirection, ValueRepresentation.CS, 1);
-        addEntry("TableTopLateralPosition", AttributeTag.TableTopLateralPosition, ValueRepresentation.DS, 1);
-        addEntry("TableTopLateralPositionTolerance", AttributeTag.TableTopLateralPositionTolerance, ValueRepresentation.DS, 1);
-        addEntry("TableTopLateralSetupDisplacement", AttributeTag.TableTopLateralSetupDisplacement, ValueRepresentation.DS, 1);
-        addEntry("TableTopLongitudinalPosition", AttributeTag.TableTopLongitudinalPosition, ValueRepresentation.DS, 1);
-        addEntry("TableTopLongitudinalPositionTolerance", AttributeTag.TableTopLongitudinalPositionTolerance, ValueRepresentation.DS, 1);
-        addEntry("TableTopLongitudinalSetupDisplacement", AttributeTag.TableTopLongitudinalSetupDisplacement, ValueRepresentation.DS, 1);
-        addEntry("TableTopPitchAngle", AttributeTag.TableTopPitchAngle, ValueRepresentation.FL, 1);
-        addEntry("TableTopPitchAngleTolerance", AttributeTag.TableTopPitchAngleTolerance, ValueRepresentation.FL, 1);
-        addEntry("TableTopPitchRotationDirection", AttributeTag.TableTopPitchRotationDirection, ValueRepresentation.CS, 1);
-        addEntry("TableTopRollAngle", AttributeTag.TableTopRollAngle, ValueRepresentation.FL, 1);
-        addEntry("TableTopRollAngleTolerance", AttributeTag.TableTopRollAngleTolerance, ValueRepresentation.FL, 1);
-        addEntry("TableTopRollRotationDirection", AttributeTag.TableTopRollRotationDirection, ValueRepresentation.CS, 1);
-        addEntry("TableTopVerticalPosition", AttributeTag.TableTopVerticalPosition, ValueRepresentation.DS, 1);
-        addEntry("TableTopVerticalPositionTolerance", AttributeTag.TableTopVerticalPositionTolerance, ValueRepresentation.DS, 1);
-        addEntry("TableTopVerticalSetupDisplacement", AttributeTag.TableTopVerticalSetupDisplacement, ValueRepresentation.DS, 1);
-        addEntry("TableTraverse", AttributeTag.TableTraverse, ValueRepresentation.DS, 1);
-        addEntry("TableType", AttributeTag.TableType, ValueRepresentation.CS, 1);
-        addEntry("TableVerticalIncrement", AttributeTag.TableVerticalIncrement, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("TableXPositionToIsocenter", AttributeTag.TableXPositionToIsocenter, ValueRepresentation.FL, 1);
-        addEntry("TableYPositionToIsocenter", AttributeTag.TableYPositionToIsocenter, ValueRepresentation.FL, 1);
-        addEntry("TableZPositionToIsocenter", AttributeTag.TableZPositionToIsocenter, ValueRepresentation.FL, 1);
-        addEntry("TagAngleFirstAxis", AttributeTag.TagAngleFirstAxis, ValueRepresentation.FD, 1);
-        addEntry("TagAngleSecondAxis", AttributeTag.TagAngleSecondAxis, ValueRepresentation.SS, 1);
-        addEntry("Tagging", AttributeTag.Tagging, ValueRepresentation.CS, 1);
-        addEntry("TaggingDelay", AttributeTag.TaggingDelay, ValueRepresentation.FD, 1);
-        addEntry("TagSpacingFirstDimension", AttributeTag.TagSpacingFirstDimension, ValueRepresentation.FD, 1);
-        addEntry("TagSpacingSecondDimension", AttributeTag.TagSpacingSecondDimension, ValueRepresentation.FD, 1);
-        addEntry("TagThickness", AttributeTag.TagThickness, ValueRepresentation.FD, 1);
-        addEntry("TargetExposureIndex", AttributeTag.TargetExposureIndex, ValueRepresentation.DS, 1);
-        addEntry("TargetMaximumDose", AttributeTag.TargetMaximumDose, ValueRepresentation.DS, 1);
-        addEntry("TargetMinimumDose", AttributeTag.TargetMinimumDose, ValueRepresentation.DS, 1);
-        addEntry("TargetPrescriptionDose", AttributeTag.TargetPrescriptionDose, ValueRepresentation.DS, 1);
-        addEntry("TargetUnderdoseVolumeFraction", AttributeTag.TargetUnderdoseVolumeFraction, ValueRepresentation.DS, 1);
-        addEntry("TelephoneNumberTrial", AttributeTag.TelephoneNumberTrial, ValueRepresentation.LO, 1);
-        addEntry("TemplateExtensionCreatorUID", AttributeTag.TemplateExtensionCreatorUID, ValueRepresentation.UI, 1);
-        addEntry("TemplateExtensionFlag", AttributeTag.TemplateExtensionFlag, ValueRepresentation.CS, 1);
-        addEntry("TemplateExtensionOrganizationUID", AttributeTag.TemplateExtensionOrganizationUID, ValueRepresentation.UI, 1);
-        addEntry("TemplateIdentifier", AttributeTag.TemplateIdentifier, ValueRepresentation.CS, 1);
-        addEntry("TemplateLocalVersion", AttributeTag.TemplateLocalVersion, ValueRepresentation.DT, 1);
-        addEntry("TemplateName", AttributeTag.TemplateName, ValueRepresentation.LO, 1);
-        addEntry("TemplateNumber", AttributeTag.TemplateNumber, ValueRepresentation.IS, 1);
-        addEntry("TemplateType", AttributeTag.TemplateType, ValueRepresentation.SH, 1);
-        addEntry("TemplateVersion", AttributeTag.TemplateVersion, ValueRepresentation.DT, 1);
-        addEntry("TemporalPositionIdentifier", AttributeTag.TemporalPositionIdentifier, ValueRepresentation.IS, 1);
-        addEntry("TemporalPositionIndex", AttributeTag.TemporalPositionIndex, ValueRepresentation.UL, 1);
-        addEntry("TemporalPositionSequence", AttributeTag.TemporalPositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("TemporalPositionTimeOffset", AttributeTag.TemporalPositionTimeOffset, ValueRepresentation.FD, 1);
-        addEntry("TemporalRangeType", AttributeTag.TemporalRangeType, ValueRepresentation.CS, 1);
-        addEntry("TemporalResolution", AttributeTag.TemporalResolution, ValueRepresentation.DS, 1);
-        addEntry("TerminalType", AttributeTag.TerminalType, ValueRepresentation.AT, 1);
-        addEntry("TerminationCardiacTriggerCountThreshold", AttributeTag.TerminationCardiacTriggerCountThreshold, ValueRepresentation.FD, 1);
-        addEntry("TerminationCountsThreshold", AttributeTag.TerminationCountsThreshold, ValueRepresentation.FD, 1);
-        addEntry("TerminationDensityThreshold", AttributeTag.TerminationDensityThreshold, ValueRepresentation.FD, 1);
-        addEntry("TerminationRelativeDensityThreshold", AttributeTag.TerminationRelativeDensityThreshold, ValueRepresentation.FD, 1);
-        addEntry("TerminationRespiratoryTriggerCountThreshold", AttributeTag.TerminationRespiratoryTriggerCountThreshold, ValueRepresentation.FD, 1);
-        addEntry("TerminationTimeThreshold", AttributeTag.TerminationTimeThreshold, ValueRepresentation.FD, 1);
-        addEntry("TextColorCIELabValue", AttributeTag.TextColorCIELabValue, ValueRepresentation.US, 3);
-        addEntry("TextComments", AttributeTag.TextComments, ValueRepresentation.LT, 1);
-        addEntry("TextFormatID", AttributeTag.TextFormatID, ValueRepresentation.CS, 1);
-        addEntry("TextObjectSequence", AttributeTag.TextObjectSequence, ValueRepresentation.SQ, 1);
-        addEntry("TextString", AttributeTag.TextString, ValueRepresentation.LO, 1);
-        addEntry("TextStyleSequence", AttributeTag.TextStyleSequence, ValueRepresentation.SQ, 1);
-        addEntry("TextValue", AttributeTag.TextValue, ValueRepresentation.UT, 1);
-        addEntry("TherapyDescription", AttributeTag.TherapyDescription, ValueRepresentation.CS, 1);
-        addEntry("TherapyType", AttributeTag.TherapyType, ValueRepresentation.CS, 1);
-        addEntry("ThreeDRenderingType", AttributeTag.ThreeDRenderingType, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("ThresholdDensity", AttributeTag.ThresholdDensity, ValueRepresentation.CS, 1);
-        addEntry("TickAlignment", AttributeTag.TickAlignment, ValueRepresentation.CS, 1);
-        addEntry("TickLabel", AttributeTag.TickLabel, ValueRepresentation.SH, 1);
-        addEntry("TickLabelAlignment", AttributeTag.TickLabelAlignment, ValueRepresentation.CS, 1);
-        addEntry("TickPosition", AttributeTag.TickPosition, ValueRepresentation.FL, 1);
-        addEntry("TIDOffset", AttributeTag.TIDOffset, ValueRepresentation.SS, 1);
-        addEntry("Time", AttributeTag.Time, ValueRepresentation.TM, 1);
-        addEntry("TimeBasedImageSetsSequence", AttributeTag.TimeBasedImageSetsSequence, ValueRepresentation.SQ, 1);
-        addEntry("TimeDistributionProtocol", AttributeTag.TimeDistributionProtocol, ValueRepresentation.CS, 1);
-        addEntry("TimeDomainFiltering", AttributeTag.TimeDomainFiltering, ValueRepresentation.CS, 1, 2);
-        addEntry("TimeOfFlightContrast", AttributeTag.TimeOfFlightContrast, ValueRepresentation.CS, 1);
-        addEntry("TimeOfFlightInformationUsed", AttributeTag.TimeOfFlightInformationUsed, ValueRepresentation.CS, 1);
-        addEntry("TimeOfLastCalibration", AttributeTag.TimeOfLastCalibration, ValueRepresentation.TM, 1, Integer.MAX_VALUE);
-        addEntry("TimeOfLastDetectorCalibration", AttributeTag.TimeOfLastDetectorCalibration, ValueRepresentation.TM, 1);
-        addEntry("TimeOfSecondaryCapture", AttributeTag.TimeOfSecondaryCapture, ValueRepresentation.TM, 1);
-        addEntry("TimeRange", AttributeTag.TimeRange, ValueRepresentation.FD, 2);
-        addEntry("TimeSliceVector", AttributeTag.TimeSliceVector, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("TimeSlotInformationSequence", AttributeTag.TimeSlotInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("TimeSlotNumber", AttributeTag.TimeSlotNumber, ValueRepresentation.IS, 1);
-        addEntry("TimeSlotTime", AttributeTag.TimeSlotTime, ValueRepresentation.DS, 1);
-        addEntry("TimeSlotVector", AttributeTag.TimeSlotVector, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("TimeSource", AttributeTag.TimeSource, ValueRepresentation.SH, 1);
-        addEntry("TimezoneOffsetFromUTC", AttributeTag.TimezoneOffsetFromUTC, ValueRepresentation.SH, 1);
-        addEntry("TissueHeterogeneityCorrection", AttributeTag.TissueHeterogeneityCorrection, ValueRepresentation.CS, 1, 3);
-        addEntry("TMLinePositionX", AttributeTag.TMLinePositionX0, ValueRepresentation.SL, 1);
-        addEntry("TMLinePositionX", AttributeTag.TMLinePositionX0Retired, ValueRepresentation.UL, 1);
-        addEntry("TMLinePositionX", AttributeTag.TMLinePositionX1, ValueRepresentation.SL, 1);
-        addEntry("TMLinePositionX", AttributeTag.TMLinePositionX1Retired, ValueRepresentation.UL, 1);
-        addEntry("TMLinePositionY", AttributeTag.TMLinePositionY0, ValueRepresentation.SL, 1);
-        addEntry("TMLinePositionY", AttributeTag.TMLinePositionY0Retired, ValueRepresentation.UL, 1);
-        addEntry("TMLinePositionY", AttributeTag.TMLinePositionY1, ValueRepresentation.SL, 1);
-        addEntry("TMLinePositionY", AttributeTag.TMLinePositionY1Retired, ValueRepresentation.UL, 1);
-        addEntry("ToleranceTableLabel", AttributeTag.ToleranceTableLabel, ValueRepresentation.SH, 1);
-        addEntry("ToleranceTableNumber", AttributeTag.ToleranceTableNumber, ValueRepresentation.IS, 1);
-        addEntry("ToleranceTableSequence", AttributeTag.ToleranceTableSequence, ValueRepresentation.SQ, 1);
-        addEntry("TomoAngle", AttributeTag.TomoAngle, ValueRepresentation.DS, 1);
-        addEntry("TomoClass", AttributeTag.TomoClass, ValueRepresentation.CS, 1);
-        addEntry("TomoLayerHeight", AttributeTag.TomoLayerHeight, ValueRepresentation.DS, 1);
-        addEntry("TomoTime", AttributeTag.TomoTime, ValueRepresentation.DS, 1);
-        addEntry("TomoType", AttributeTag.TomoType, ValueRepresentation.CS, 1);
-        addEntry("TopicAuthor", AttributeTag.TopicAuthor, ValueRepresentation.LO, 1);
-        addEntry("TopicKeywords", AttributeTag.TopicKeywords, ValueRepresentation.LO, 1, 32);
-        addEntry("TopicSubject", AttributeTag.TopicSubject, ValueRepresentation.ST, 1);
-        addEntry("TopicTitle", AttributeTag.TopicTitle, ValueRepresentation.LO, 1);
-        addEntry("TotalBlockTrayFactor", AttributeTag.TotalBlockTrayFactor, ValueRepresentation.DS, 1);
-        addEntry("TotalBlockTrayWaterEquivalentThickness", AttributeTag.TotalBlockTrayWaterEquivalentThickness, ValueRepresentation.FL, 1);
-        addEntry("TotalCollimationWidth", AttributeTag.TotalCollimationWidth, ValueRepresentation.FD, 1);
-        addEntry("TotalCompensatorTrayFactor", AttributeTag.TotalCompensatorTrayFactor, ValueRepresentation.DS, 1);
-        addEntry("TotalCompensatorTrayWaterEquivalentThickness", AttributeTag.TotalCompensatorTrayWaterEquivalentThickness, ValueRepresentation.FL, 1);
-        addEntry("TotalGain", AttributeTag.TotalGain, ValueRepresentation.DS, 1);
-        addEntry("TotalNumberOfExposures", AttributeTag.TotalNumberOfExposures, ValueRepresentation.US, 1);
-        addEntry("TotalNumberOfPiecesOfMediaCreated", AttributeTag.TotalNumberOfPiecesOfMediaCreated, ValueRepresentation.US, 1);
-        addEntry("TotalReferenceAirKerma", AttributeTag.TotalReferenceAirKerma, ValueRepresentation.DS, 1);
-        addEntry("TotalTime", AttributeTag.TotalTime, ValueRepresentation.UL, 1);
-        addEntry("TotalTimeOfFluoroscopy", AttributeTag.TotalTimeOfFluoroscopy, ValueRepresentation.US, 1);
-        addEntry("TotalWedgeTrayWaterEquivalentThickness", AttributeTag.TotalWedgeTrayWaterEquivalentThickness, ValueRepresentation.FL, 1);
-        addEntry("TransactionUID", AttributeTag.TransactionUID, ValueRepresentation.UI, 1);
-        addEntry("TransducerApplicationCodeSequence", AttributeTag.TransducerApplicationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("TransducerBeamSteeringCodeSequence", AttributeTag.TransducerBeamSteeringCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("TransducerData", AttributeTag.TransducerData, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("TransducerFrequency", AttributeTag.TransducerFrequency, ValueRepresentation.UL, 1);
-        addEntry("TransducerGeometryCodeSequence", AttributeTag.TransducerGeometryCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("TransducerOrientation", AttributeTag.TransducerOrientation, ValueRepresentation.CS, 1);
-        addEntry("TransducerOrientationModifierSequence", AttributeTag.TransducerOrientationModifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("TransducerOrientationSequence", AttributeTag.TransducerOrientationSequence, ValueRepresentation.SQ, 1);
-        addEntry("TransducerPosition", AttributeTag.TransducerPosition, ValueRepresentation.CS, 1);
-        addEntry("TransducerPositionModifierSequence", AttributeTag.TransducerPositionModifierSequence, ValueRepresentation.SQ, 1);
-        addEntry("TransducerPositionSequence", AttributeTag.TransducerPositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("TransducerScanPatternCodeSequence", AttributeTag.TransducerScanPatternCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("TransducerType", AttributeTag.TransducerType, ValueRepresentation.CS, 1);
-        addEntry("TransferSyntaxUID", AttributeTag.TransferSyntaxUID, ValueRepresentation.UI, 1);
-        addEntry("TransferTubeLength", AttributeTag.TransferTubeLength, ValueRepresentation.DS, 1);
-        addEntry("TransferTubeNumber", AttributeTag.TransferTubeNumber, ValueRepresentation.IS, 1);
-        addEntry("TransformLabel", AttributeTag.TransformLabel, ValueRepresentation.LO, 1);
-        addEntry("TransformVersionNumber", AttributeTag.TransformVersionNumber, ValueRepresentation.LO, 1);
-        addEntry("TransmitCoilManufacturerName", AttributeTag.TransmitCoilManufacturerName, ValueRepresentation.LO, 1);
-        addEntry("TransmitCoilName", AttributeTag.TransmitCoilName, ValueRepresentation.SH, 1);
-        addEntry("TransmitCoilType", AttributeTag.TransmitCoilType, ValueRepresentation.CS, 1);
-        addEntry("TransmitterFrequency", AttributeTag.TransmitterFrequency, ValueRepresentation.FD, 1, 2);
-        addEntry("TransverseDetectorSeparation", AttributeTag.TransverseDetectorSeparation, ValueRepresentation.FD, 1);
-        addEntry("TransverseMash", AttributeTag.TransverseMash, ValueRepresentation.IS, 1);
-        addEntry("TreatmentControlPointDate", AttributeTag.TreatmentControlPointDate, ValueRepresentation.DA, 1);
-        addEntry("TreatmentControlPointTime", AttributeTag.TreatmentControlPointTime, ValueRepresentation.TM, 1);
-        addEntry("TreatmentDate", AttributeTag.TreatmentDate, ValueRepresentation.DA, 1);
-        addEntry("TreatmentDeliveryType", AttributeTag.TreatmentDeliveryType, ValueRepresentation.CS, 1);
-        addEntry("TreatmentMachineName", AttributeTag.TreatmentMachineName, ValueRepresentation.SH, 1);
-        addEntry("TreatmentMachineSequence", AttributeTag.TreatmentMachineSequence, ValueRepresentation.SQ, 1);
-        addEntry("TreatmentProtocols", AttributeTag.TreatmentProtocols, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("TreatmentSessionApplicationSetupSequence", AttributeTag.TreatmentSessionApplicationSetupSequence, ValueRepresentation.SQ, 1);
-        addEntry("TreatmentSessionBeamSequence", AttributeTag.TreatmentSessionBeamSequence, ValueRepresentation.SQ, 1);
-        addEntry("TreatmentSessionIonBeamSequence", AttributeTag.TreatmentSessionIonBeamSequence, ValueRepresentation.SQ, 1);
-        addEntry("TreatmentSites", AttributeTag.TreatmentSites, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("TreatmentStatusComment", AttributeTag.TreatmentStatusComment, ValueRepresentation.ST, 1);
-        addEntry("TreatmentSummaryCalculatedDoseReferenceSequence", AttributeTag.TreatmentSummaryCalculatedDoseReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("TreatmentSummaryMeasuredDoseReferenceSequence", AttributeTag.TreatmentSummaryMeasuredDoseReferenceSequence, ValueRepresentation.SQ, 1);
-        addEntry("TreatmentTerminationCode", AttributeTag.TreatmentTerminationCode, ValueRepresentation.SH, 1);
-        addEntry("TreatmentTerminationStatus", AttributeTag.TreatmentTerminationStatus, ValueRepresentation.CS, 1);
-        addEntry("TreatmentTime", AttributeTag.TreatmentTime, ValueRepresentation.TM, 1);
-        addEntry("TreatmentVerificationStatus", AttributeTag.TreatmentVerificationStatus, ValueRepresentation.CS, 1);
-        addEntry("TriangleFanSequence", AttributeTag.TriangleFanSequence, ValueRepresentation.SQ, 1);
-        addEntry("TrianglePointIndexList", AttributeTag.TrianglePointIndexList, ValueRepresentation.OW, 1);
-        addEntry("TriangleStripSequence", AttributeTag.TriangleStripSequence, ValueRepresentation.SQ, 1);
-        addEntry("TriggerSamplePosition", AttributeTag.TriggerSamplePosition, ValueRepresentation.UL, 1);
-        addEntry("TriggerSourceOrType", AttributeTag.TriggerSourceOrType, ValueRepresentation.LO, 1);
-        addEntry("TriggerTime", AttributeTag.TriggerTime, ValueRepresentation.DS, 1);
-        addEntry("TriggerTimeOffset", AttributeTag.TriggerTimeOffset, ValueRepresentation.DS, 1);
-        addEntry("TriggerVector", AttributeTag.TriggerVector, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("TriggerWindow", AttributeTag.TriggerWindow, ValueRepresentation.IS, 1);
-        addEntry("Trim", AttributeTag.Trim, ValueRepresentation.CS, 1);
-        addEntry("TubeAngle", AttributeTag.TubeAngle, ValueRepresentation.FD, 1);
-        addEntry("TypeOfData", AttributeTag.TypeOfData, ValueRepresentation.CS, 1);
-        addEntry("TypeOfDetectorMotion", AttributeTag.TypeOfDetectorMotion, ValueRepresentation.CS, 1);
-        addEntry("TypeOfFilters", AttributeTag.TypeOfFilters, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("TypeOfPatientID", AttributeTag.TypeOfPatientID, ValueRepresentation.CS, 1);
-        addEntry("TypeOfSynchronization", AttributeTag.TypeOfSynchronization, ValueRepresentation.CS, 1);
-        addEntry("UID", AttributeTag.UID, ValueRepresentation.UI, 1);
-        addEntry("UltrasoundAcquisitionGeometry", AttributeTag.UltrasoundAcquisitionGeometry, ValueRepresentation.CS, 1);
-        addEntry("UltrasoundColorDataPresent", AttributeTag.UltrasoundColorDataPresent, ValueRepresentation.US, 1);
-        addEntry("Underlined", AttributeTag.Underlined, ValueRepresentation.CS, 1);
-        addEntry("UnformattedTextValue", AttributeTag.UnformattedTextValue, ValueRepresentation.ST, 1);
-        addEntry("UnifiedProcedureStepCommunicationsURISequence", AttributeTag.UnifiedProcedureStepCommunicationsURISequence, ValueRepresentation.SQ, 1);
-        addEntry("UnifiedProcedureStepDiscontinuationReasonCodeSequence", AttributeTag.UnifiedProcedureStepDiscontinuationReasonCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("UnifiedProcedureStepListStatus", AttributeTag.UnifiedProcedureStepListStatus, ValueRepresentation.CS, 1);
-        addEntry("UnifiedProcedureStepPerformedProcedureSequence", AttributeTag.UnifiedProcedureStepPerformedProcedureSequence, ValueRepresentation.SQ, 1);
-        addEntry("UnifiedProcedureStepProgress", AttributeTag.UnifiedProcedureStepProgress, ValueRepresentation.DS, 1);
-        addEntry("UnifiedProcedureStepProgressDescription", AttributeTag.UnifiedProcedureStepProgressDescription, ValueRepresentation.ST, 1);
-        addEntry("UnifiedProcedureStepProgressInformationSequence", AttributeTag.UnifiedProcedureStepProgressInformationSequence, ValueRepresentation.SQ, 1);
-        addEntry("UnifiedProcedureStepState", AttributeTag.UnifiedProcedureStepState, ValueRepresentation.CS, 1);
-        addEntry("Units", AttributeTag.Units, ValueRepresentation.CS, 1);
-        addEntry("UniversalEntityID", AttributeTag.UniversalEntityID, ValueRepresentation.UT, 1);
-        addEntry("UniversalEntityIDType", AttributeTag.UniversalEntityIDType, ValueRepresentation.CS, 1);
-        addEntry("UnspecifiedLateralityLensSequence", AttributeTag.UnspecifiedLateralityLensSequence, ValueRepresentation.SQ, 1);
-        addEntry("UpperLowerPixelValues", AttributeTag.UpperLowerPixelValues, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
-        addEntry("UsedFiducialsSequence", AttributeTag.UsedFiducialsSequence, ValueRepresentation.SQ, 1);
-        addEntry("USImageDescriptionSequence", AttributeTag.USImageDescriptionSequence, ValueRepresentation.SQ, 1);
-        addEntry("ValueType", AttributeTag.ValueType, ValueRepresentation.CS, 1);
-        addEntry("VariableCoefficientsSDDN", AttributeTag.VariableCoefficientsSDDN, ValueRepresentation.OW, 1);
-        addEntry("VariableCoefficientsSDHN", AttributeTag.VariableCoefficientsSDHN, ValueRepresentation.OW, 1);
-        addEntry("VariableCoefficientsSDVN", AttributeTag.VariableCoefficientsSDVN, ValueRepresentation.OW, 1);
-        addEntry("VariableFlipAngleFlag", AttributeTag.VariableFlipAngleFlag, ValueRepresentation.CS, 1);
-        addEntry("VariableNextDataGroup", AttributeTag.VariableNextDataGroup, ValueRepresentation.US, 1);
-        addEntry("VariablePixelData", AttributeTag.VariablePixelData, new ValueRepresentation[] { ValueRepresentation.OW, ValueRepresentation.OB }, 1, 1);
-        addEntry("VectorAccuracy", AttributeTag.VectorAccuracy, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
-        addEntry("VectorCoordinateData", AttributeTag.VectorCoordinateData, ValueRepresentation.OF, 1);
-        addEntry("VectorDimensionality", AttributeTag.VectorDimensionality, ValueRepresentation.US, 1);
-        addEntry("VectorGridData", AttributeTag.VectorGridData, ValueRepresentation.OF, 1);
-        addEntry("VelocityEncodingDirection", AttributeTag.VelocityEncodingDirection, ValueRepresentation.FD, 3);
-        addEntry("VelocityEncodingMaximumValue", AttributeTag.VelocityEncodingMaximumValue, ValueRepresentation.FD, 1);
-        addEntry("VelocityEncodingMinimumValue", AttributeTag.VelocityEncodingMinimumValue, ValueRepresentation.FD, 1);
-        addEntry("VerificationDateTime", AttributeTag.VerificationDateTime, ValueRepresentation.DT, 1);
-        addEntry("VerificationFlag", AttributeTag.VerificationFlag, ValueRepresentation.CS, 1);
-        addEntry("VerificationImageTiming", AttributeTag.VerificationImageTiming, ValueRepresentation.CS, 1);
-        addEntry("VerifyingObserverIdentificationCodeSequence", AttributeTag.VerifyingObserverIdentificationCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("VerifyingObserverName", AttributeTag.VerifyingObserverName, ValueRepresentation.PN, 1);
-        addEntry("VerifyingObserverSequence", AttributeTag.VerifyingObserverSequence, ValueRepresentation.SQ, 1);
-        addEntry("VerifyingOrganization", AttributeTag.VerifyingOrganization, ValueRepresentation.LO, 1);
-        addEntry("VertexPointIndexList", AttributeTag.VertexPointIndexList, ValueRepresentation.OW, 1);
-        addEntry("VerticalAlignment", AttributeTag.VerticalAlignment, ValueRepresentation.CS, 1);
-        addEntry("VerticalPrismBase", AttributeTag.VerticalPrismBase, ValueRepresentation.CS, 1);
-        addEntry("VerticalPrismPower", AttributeTag.VerticalPrismPower, ValueRepresentation.FD, 1);
-        addEntry("VerticesOfThePolygonalCollimator", AttributeTag.VerticesOfThePolygonalCollimator, ValueRepresentation.IS, 2, Integer.MAX_VALUE / 2);
-        addEntry("VerticesOfThePolygonalExposureControlSensingRegion", AttributeTag.VerticesOfThePolygonalExposureControlSensingRegion, ValueRepresentation.SS, 2, Integer.MAX_VALUE);
-        addEntry("VerticesOfThePolygonalShutter", AttributeTag.VerticesOfThePolygonalShutter, ValueRepresentation.IS, 2, Integer.MAX_VALUE / 2);
-        addEntry("VerticesOfTheRegion", AttributeTag.VerticesOfTheRegion, ValueRepresentation.SS, 2, Integer.MAX_VALUE / 2);
-        addEntry("VideoImageFormatAcquired", AttributeTag.VideoImageFormatAcquired, ValueRepresentation.SH, 1);
-        addEntry("ViewCodeSequence", AttributeTag.ViewCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ViewingDistance", AttributeTag.ViewingDistance, ValueRepresentation.FD, 1);
-        addEntry("ViewingDistanceType", AttributeTag.ViewingDistanceType, ValueRepresentation.CS, 1);
-        addEntry("ViewModifierCodeSequence", AttributeTag.ViewModifierCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("ViewName", AttributeTag.ViewName, ValueRepresentation.SH, 1);
-        addEntry("ViewNumber", AttributeTag.ViewNumber, ValueRepresentation.IS, 1);
-        addEntry("ViewPosition", AttributeTag.ViewPosition, ValueRepresentation.CS, 1);
-        addEntry("VirtualSourceAxisDistances", AttributeTag.VirtualSourceAxisDistances, ValueRepresentation.FL, 2);
-        addEntry("VisitComments", AttributeTag.VisitComments, ValueRepresentation.LT, 1);
-        addEntry("VisitStatusID", AttributeTag.VisitStatusID, ValueRepresentation.CS, 1);
-        addEntry("VisualAcuityBothEyesOpenSequence", AttributeTag.VisualAcuityBothEyesOpenSequence, ValueRepresentation.SQ, 1);
-        addEntry("VisualAcuityLeftEyeSequence", AttributeTag.VisualAcuityLeftEyeSequence, ValueRepresentation.SQ, 1);
-        addEntry("VisualAcuityModifiers", AttributeTag.VisualAcuityModifiers, ValueRepresentation.SS, 2);
-        addEntry("VisualAcuityRightEyeSequence", AttributeTag.VisualAcuityRightEyeSequence, ValueRepresentation.SQ, 1);
-        addEntry("VisualAcuityTypeCodeSequence", AttributeTag.VisualAcuityTypeCodeSequence, ValueRepresentation.SQ, 1);
-        addEntry("VitalStainCodeSequenceTrial", AttributeTag.VitalStainCodeSequenceTrial, ValueRepresentation.SQ, 1);
-        addEntry("VOILUTFunction", AttributeTag.VOILUTFunction, ValueRepresentation.CS, 1);
-        addEntry("VOILUTSequence", AttributeTag.VOILUTSequence, ValueRepresentation.SQ, 1);
-        addEntry("VOIType", AttributeTag.VOIType, ValueRepresentation.CS, 1);
-        addEntry("VolumeBasedCalculationTechnique", AttributeTag.VolumeBasedCalculationTechnique, ValueRepresentation.CS, 1);
-        addEntry("VolumeFrameOfReferenceUID", AttributeTag.VolumeFrameOfReferenceUID, ValueRepresentation.UI, 1);
-        addEntry("VolumeLocalizationSequence", AttributeTag.VolumeLocalizationSequence, ValueRepresentation.SQ, 1);
-        addEntry("VolumeLocalizationTechnique", AttributeTag.VolumeLocalizationTechnique, ValueRepresentation.CS, 1);
-        addEntry("VolumeToTableMappingMatrix", AttributeTag.VolumeToTableMappingMatrix, ValueRepresentation.FD, 16);
-        addEntry("VolumeToTransducerMappingMatrix", AttributeTag.VolumeToTransducerMappingMatrix, ValueRepresentation.FD, 16);
-        addEntry("VolumetricProperties", AttributeTag.VolumetricProperties, ValueRepresentation.CS, 1);
-        addEntry("WaterReferencedPhaseCorrection", AttributeTag.WaterReferencedPhaseCorrection, ValueRepresentation.CS, 1);
-        addEntry("WaveformAnnotationSequence", AttributeTag.WaveformAnnotationSequence, ValueRepresentation.SQ, 1);
-        addEntry("WaveformBitsAllocated", AttributeTag.WaveformBitsAllocated, ValueRepresentation.US, 1);
-        addEntry("WaveformBitsStored", AttributeTag.WaveformBitsStored, ValueRepresentation.US, 1);
-        addEntry("WaveformChannelNumber", AttributeTag.WaveformChannelNumber, ValueRepresentation.IS, 1);
-        addEntry("WaveformData", AttributeTag.WaveformData, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
-        addEntry("WaveformDataDisplayScale", AttributeTag.WaveformDataDisplayScale, ValueRepresentation.FL, 1);
-        addEntry("WaveformDisplayBackgroundCIELabValue", AttributeTag.WaveformDisplayBackgroundCIELabValue, ValueRepresentation.US, 3);
-        addEntry("WaveformOriginality", AttributeTag.WaveformOriginality, ValueRepresentation.CS, 1);
-        addEntry("WaveformPaddingValue", AttributeTag.WaveformPaddingValue, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
-        addEntry("WaveformPresentationGroupSequence", AttributeTag.WaveformPresentationGroupSequence, ValueRepresentation.SQ, 1);
-        addEntry("WaveformSampleInterpretation", AttributeTag.WaveformSampleInterpretation, ValueRepresentation.CS, 1);
-        addEntry("WaveformSequence", AttributeTag.WaveformSequence, ValueRepresentation.SQ, 1);
-        addEntry("WedgeAngle", AttributeTag.WedgeAngle, ValueRepresentation.IS, 1);
-        addEntry("WedgeFactor", AttributeTag.WedgeFactor, ValueRepresentation.DS, 1);
-        addEntry("WedgeID", AttributeTag.WedgeID, ValueRepresentation.SH, 1);
-        addEntry("WedgeNumber", AttributeTag.WedgeNumber, ValueRepresentation.IS, 1);
-        addEntry("WedgeOrientation", AttributeTag.WedgeOrientation, ValueRepresentation.DS, 1);
-        addEntry("WedgePosition", AttributeTag.WedgePosition, ValueRepresentation.CS, 1);
-        addEntry("WedgePositionSequence", AttributeTag.WedgePositionSequence, ValueRepresentation.SQ, 1);
-        addEntry("WedgeSequence", AttributeTag.WedgeSequence, ValueRepresentation.SQ, 1);
-        addEntry("WedgeThinEdgePosition", AttributeTag.WedgeThinEdgePosition, ValueRepresentation.FL, 1);
-        addEntry("WedgeType", AttributeTag.WedgeType, ValueRepresentation.CS, 1);
-        addEntry("WholeBodyTechnique", AttributeTag.WholeBodyTechnique, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
-        addEntry("WindowCenter", AttributeTag.WindowCenter, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("WindowCenterWidthExplanation", AttributeTag.WindowCenterWidthExplanation, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
-        addEntry("WindowWidth", AttributeTag.WindowWidth, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
-        addEntry("WorklistLabel", AttributeTag.WorklistLabel, ValueRepresentation.LO, 1);
-        addEntry("XAXRFFrameCharacteristicsSequence", AttributeTag.XAXRFFrameCharacteristicsSequence, ValueRepresentation.SQ, 1);
-        addEntry("XFocusCenter", AttributeTag.XFocusCenter, ValueRepresentation.DS, 1, 2);
-        addEntry("XOffsetInSlideCoordinateSystem", AttributeTag.XOffsetInSlideCoordinateSystem, ValueRepresentation.DS, 1);
-        addEntry("XRay", AttributeTag.XRay3DAcquisitionSequence, ValueRepresentation.SQ, 1);
-        addEntry("XRay", AttributeTag.XRay3DFrameTypeSequence, ValueRepresentation.SQ, 1);
-        addEntry("XRay", AttributeTag.XRay3DReconstructionSequence, ValueRepresentation.SQ, 1);
-        addEntry("XRayGeometrySequence", AttributeTag.XRayGeometrySequence, ValueRepresentation.SQ, 1);
-        addEntry("XRayImageReceptorAngle", AttributeTag.XRayImageReceptorAngle, ValueRepresentation.DS, 1);
-        addEntry("XRayImageReceptorTranslation", AttributeTag.XRayImageReceptorTranslation, ValueRepresentation.DS, 3);
-        addEntry("XRayOutput", AttributeTag.XRayOutput, ValueRepresentation.DS, 1);
-        addEntry("XRayReceptorType", AttributeTag.XRayReceptorType, ValueRepresentation.CS, 1);
-        addEntry("XRayTubeCurrent", AttributeTag.XRayTubeCurrent, ValueRepresentation.IS, 1);
-        addEntry("XRayTubeCurrentInmA", AttributeTag.XRayTubeCurrentInmA, ValueRepresentation.FD, 1);
-        addEntry("XRayTubeCurrentInuA", AttributeTag.XRayTubeCurrentInuA, ValueRepresentation.DS, 1);
-        addEntry("YFocusCenter", AttributeTag.YFocusCenter, ValueRepresentation.DS, 1, 2);
-        addEntry("YOffsetInSlideCoordinateSystem", AttributeTag.YOffsetInSlideCoordinateSystem, ValueRepresentation.DS, 1);
-        addEntry("ZOffsetInSlideCoordinateSystem", AttributeTag.ZOffsetInSlideCoordinateSystem, ValueRepresentation.DS, 1);
-        addEntry("ZonalMap", AttributeTag.ZonalMap, ValueRepresentation.US, 1, Integer.MAX_VALUE);
-        addEntry("ZonalMapFormat", AttributeTag.ZonalMapFormat, ValueRepresentation.US, 1);
-        addEntry("ZonalMapLocation", AttributeTag.ZonalMapLocation, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
-        addEntry("ZonalMapNumberFormat", AttributeTag.ZonalMapNumberFormat, ValueRepresentation.US, 1);
-        addEntry("ZoomCenter", AttributeTag.ZoomCenter, ValueRepresentation.DS, 2);
-        addEntry("ZoomFactor", AttributeTag.ZoomFactor, ValueRepresentation.DS, 2);
+        addEntry("LargestImagePixelValue", 0x00280107, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("LargestImagePixelValueInPlane", 0x00280111, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("LargestMonochromePixelValue", 0x00289099, ValueRepresentation.US, 1);
+        addEntry("LargestPixelValueInSeries", 0x00280109, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("LargestValidPixelValue", 0x00280105, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("LastMenstrualDate", 0x001021D0, ValueRepresentation.DA, 1);
+        addEntry("Laterality", 0x00200060, ValueRepresentation.CS, 1);
+        addEntry("LateralSpreadingDeviceDescription", 0x300A033A, ValueRepresentation.LO, 1);
+        addEntry("LateralSpreadingDeviceID", 0x300A0336, ValueRepresentation.SH, 1);
+        addEntry("LateralSpreadingDeviceNumber", 0x300A0334, ValueRepresentation.IS, 1);
+        addEntry("LateralSpreadingDeviceSequence", 0x300A0332, ValueRepresentation.SQ, 1);
+        addEntry("LateralSpreadingDeviceSetting", 0x300A0372, ValueRepresentation.LO, 1);
+        addEntry("LateralSpreadingDeviceSettingsSequence", 0x300A0370, ValueRepresentation.SQ, 1);
+        addEntry("LateralSpreadingDeviceType", 0x300A0338, ValueRepresentation.CS, 1);
+        addEntry("LateralSpreadingDeviceWaterEquivalentThickness", 0x300A033C, ValueRepresentation.FL, 1);
+        addEntry("LeafJawPositions", 0x300A011C, ValueRepresentation.DS, 2, Integer.MAX_VALUE / 2);
+        addEntry("LeafPositionBoundaries", 0x300A00BE, ValueRepresentation.DS, 3, Integer.MAX_VALUE);
+        addEntry("LeftImageSequence", 0x00220021, ValueRepresentation.SQ, 1);
+        addEntry("LeftLensSequence", 0x00460015, ValueRepresentation.SQ, 1);
+        addEntry("LengthToEnd", 0x00080001, ValueRepresentation.UL, 1);
+        addEntry("LensDescription", 0x00460012, ValueRepresentation.LO, 1);
+        addEntry("LensesCodeSequence", 0x00220019, ValueRepresentation.SQ, 1);
+        addEntry("LensSegmentType", 0x00460038, ValueRepresentation.CS, 1);
+        addEntry("LesionNumber", 0x00183105, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("LightPathFilterPassBand", 0x00220002, ValueRepresentation.US, 2);
+        addEntry("LightPathFilterPassThroughWavelength", 0x00220001, ValueRepresentation.US, 1);
+        addEntry("LightPathFilterTypeStackCodeSequence", 0x00220017, ValueRepresentation.SQ, 1);
+        addEntry("LineDashingStyle", 0x00700254, ValueRepresentation.CS, 1);
+        addEntry("LinePattern", 0x00700255, ValueRepresentation.UL, 1);
+        addEntry("LineSequence", 0x00660028, ValueRepresentation.SQ, 1);
+        addEntry("LineStyleSequence", 0x00700232, ValueRepresentation.SQ, 1);
+        addEntry("LineThickness", 0x00700253, ValueRepresentation.FL, 1);
+        addEntry("ListOfMIMETypes", 0x00420014, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("LocalNamespaceEntityID", 0x00400031, ValueRepresentation.UT, 1);
+        addEntry("Location", 0x00200050, ValueRepresentation.DS, 1);
+        addEntry("LossyImageCompression", 0x00282110, ValueRepresentation.CS, 1);
+        addEntry("LossyImageCompressionMethod", 0x00282114, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("LossyImageCompressionRatio", 0x00282112, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("LossyImageCompressionRetired", 0x00082110, ValueRepresentation.CS, 1);
+        addEntry("LowRRValue", 0x00181081, ValueRepresentation.IS, 1);
+        addEntry("LUTData", 0x00283006, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS, ValueRepresentation.OW }, 1, Integer.MAX_VALUE);
+        addEntry("LUTDescriptor", 0x00283002, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
+        addEntry("LUTExplanation", 0x00283003, ValueRepresentation.LO, 1);
+        addEntry("LUTFrameRange", 0x00289507, ValueRepresentation.US, 2, Integer.MAX_VALUE - 1);
+        addEntry("LUTFunction", 0x00289474, ValueRepresentation.CS, 1);
+        addEntry("LUTLabel", 0x00409210, ValueRepresentation.SH, 1);
+        addEntry("LUTNumber", 0x00200026, ValueRepresentation.IS, 1);
+        addEntry("MAC", 0x04000404, ValueRepresentation.OB, 1);
+        addEntry("MACAlgorithm", 0x04000015, ValueRepresentation.CS, 1);
+        addEntry("MACCalculationTransferSyntaxUID", 0x04000010, ValueRepresentation.UI, 1);
+        addEntry("MACIDNumber", 0x04000005, ValueRepresentation.US, 1);
+        addEntry("MACParametersSequence", 0x4FFE0001, ValueRepresentation.SQ, 1);
+        addEntry("MagneticFieldStrength", 0x00180087, ValueRepresentation.DS, 1);
+        addEntry("MagnetizationTransfer", 0x00189020, ValueRepresentation.CS, 1);
+        addEntry("MagnificationType", 0x20100060, ValueRepresentation.CS, 1);
+        addEntry("MagnifyToNumberOfColumns", 0x20400074, ValueRepresentation.US, 1);
+        addEntry("MajorTicksSequence", 0x00700287, ValueRepresentation.SQ, 1);
+        addEntry("Manifold", 0x00660010, ValueRepresentation.CS, 1);
+        addEntry("ManipulatedImage", 0x00280050, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("Manufacturer", 0x00080070, ValueRepresentation.LO, 1);
+        addEntry("ManufacturerModelName", 0x00081090, ValueRepresentation.LO, 1);
+        addEntry("MappingResource", 0x00080105, ValueRepresentation.CS, 1);
+        addEntry("MaskFrameNumbers", 0x00286110, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("MaskingImage", 0x00200080, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("MaskOperation", 0x00286101, ValueRepresentation.CS, 1);
+        addEntry("MaskOperationExplanation", 0x00286190, ValueRepresentation.ST, 1);
+        addEntry("MaskPointers", 0x00286030, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("MaskSelectionMode", 0x00289454, ValueRepresentation.CS, 1);
+        addEntry("MaskSubPixelShift", 0x00286114, ValueRepresentation.FL, 2);
+        addEntry("MaskSubtractionSequence", 0x00286100, ValueRepresentation.SQ, 1);
+        addEntry("MaskVisibilityPercentage", 0x00289478, ValueRepresentation.FL, 1);
+        addEntry("MaterialID", 0x300A00E1, ValueRepresentation.SH, 1);
+        addEntry("MatrixRegistrationSequence", 0x00700309, ValueRepresentation.SQ, 1);
+        addEntry("MatrixSequence", 0x0070030A, ValueRepresentation.SQ, 1);
+        addEntry("MaxDensity", 0x20100130, ValueRepresentation.US, 1);
+        addEntry("MaximumAcrossScanDistortion", 0x00220049, ValueRepresentation.FL, 1);
+        addEntry("MaximumAlongScanDistortion", 0x00220038, ValueRepresentation.FL, 1);
+        addEntry("MaximumCollatedFilms", 0x20100154, ValueRepresentation.IS, 1);
+        addEntry("MaximumCoordinateValue", 0x50000105, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("MaximumDepthDistortion", 0x00220036, ValueRepresentation.FL, 1);
+        addEntry("MaximumFractionalValue", 0x0062000E, ValueRepresentation.US, 1);
+        addEntry("MaximumMemoryAllocation", 0x20000061, ValueRepresentation.IS, 1);
+        addEntry("MaximumPointDistance", 0x00660019, ValueRepresentation.FL, 1);
+        addEntry("MeanPointDistance", 0x00660018, ValueRepresentation.FL, 1);
+        addEntry("MeasuredDoseDescription", 0x30080012, ValueRepresentation.ST, 1);
+        addEntry("MeasuredDoseReferenceNumber", 0x30080064, ValueRepresentation.IS, 1);
+        addEntry("MeasuredDoseReferenceSequence", 0x30080010, ValueRepresentation.SQ, 1);
+        addEntry("MeasuredDoseType", 0x30080014, ValueRepresentation.CS, 1);
+        addEntry("MeasuredDoseValue", 0x30080016, ValueRepresentation.DS, 1);
+        addEntry("MeasuredValueSequence", 0x0040A300, ValueRepresentation.SQ, 1);
+        addEntry("MeasurementUnitsCodeSequence", 0x004008EA, ValueRepresentation.SQ, 1);
+        addEntry("MeasuringUnitsSequence", 0x00400295, ValueRepresentation.SQ, 1);
+        addEntry("MechanicalIndex", 0x00185022, ValueRepresentation.DS, 1);
+        addEntry("MediaDisposition", 0x22000004, ValueRepresentation.LT, 1);
+        addEntry("MediaInstalledSequence", 0x200000A2, ValueRepresentation.SQ, 1);
+        addEntry("MediaStorageSOPClassUID", 0x00020002, ValueRepresentation.UI, 1);
+        addEntry("MediaStorageSOPInstanceUID", 0x00020003, ValueRepresentation.UI, 1);
+        addEntry("MedicalAlerts", 0x00102000, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("MedicalRecordLocator", 0x00101090, ValueRepresentation.LO, 1);
+        addEntry("MediumType", 0x20000030, ValueRepresentation.CS, 1);
+        addEntry("MemoryAllocation", 0x20000060, ValueRepresentation.IS, 1);
+        addEntry("MemoryBitDepth", 0x200000A0, ValueRepresentation.US, 1);
+        addEntry("MessageID", 0x00000110, ValueRepresentation.US, 1);
+        addEntry("MessageIDBeingRespondedTo", 0x00000120, ValueRepresentation.US, 1);
+        addEntry("MessageSetID", 0x00005010, ValueRepresentation.SH, 1);
+        addEntry("MetaboliteMapCodeSequence", 0x00189083, ValueRepresentation.SQ, 1);
+        addEntry("MetaboliteMapDescription", 0x00189080, ValueRepresentation.ST, 1);
+        addEntry("MetersetExposure", 0x30020032, ValueRepresentation.DS, 1);
+        addEntry("MetersetRate", 0x300A035A, ValueRepresentation.FL, 1);
+        addEntry("MetersetRateDelivered", 0x30080046, ValueRepresentation.FL, 1);
+        addEntry("MetersetRateSet", 0x30080045, ValueRepresentation.FL, 1);
+        addEntry("MidSlabPosition", 0x00189106, ValueRepresentation.FD, 3);
+        addEntry("MilitaryRank", 0x00101080, ValueRepresentation.LO, 1);
+        addEntry("MIMETypeOfEncapsulatedDocument", 0x00420012, ValueRepresentation.LO, 1);
+        addEntry("MinDensity", 0x20100120, ValueRepresentation.US, 1);
+        addEntry("MinimumCoordinateValue", 0x50000104, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("ModalitiesInStudy", 0x00080061, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("Modality", 0x00080060, ValueRepresentation.CS, 1);
+        addEntry("ModalityLUTSequence", 0x00283000, ValueRepresentation.SQ, 1);
+        addEntry("ModalityLUTType", 0x00283004, ValueRepresentation.LO, 1);
+        addEntry("ModifiedAttributesSequence", 0x04000550, ValueRepresentation.SQ, 1);
+        addEntry("ModifiedImageDate", 0x00203403, ValueRepresentation.DA, 1);
+        addEntry("ModifiedImageDescription", 0x00203406, ValueRepresentation.LO, 1);
+        addEntry("ModifiedImageID", 0x00203402, ValueRepresentation.CS, 1);
+        addEntry("ModifiedImageTime", 0x00203405, ValueRepresentation.TM, 1);
+        addEntry("ModifierCodeSequence", 0x0040A195, ValueRepresentation.SQ, 1);
+        addEntry("ModifyingDeviceID", 0x00203401, ValueRepresentation.CS, 1);
+        addEntry("ModifyingDeviceManufacturer", 0x00203404, ValueRepresentation.LO, 1);
+        addEntry("ModifyingSystem", 0x04000563, ValueRepresentation.LO, 1);
+        addEntry("MostRecentTreatmentDate", 0x30080056, ValueRepresentation.DA, 1);
+        addEntry("MotionSynchronizationSequence", 0x300A0410, ValueRepresentation.SQ, 1);
+        addEntry("MoveDestination", 0x00000600, ValueRepresentation.AE, 1);
+        addEntry("MoveOriginatorApplicationEntityTitle", 0x00001030, ValueRepresentation.AE, 1);
+        addEntry("MoveOriginatorMessageID", 0x00001031, ValueRepresentation.US, 1);
+        addEntry("MRAcquisitionFrequencyEncodingSteps", 0x00189058, ValueRepresentation.US, 1);
+        addEntry("MRAcquisitionPhaseEncodingStepsInPlane", 0x00189231, ValueRepresentation.US, 1);
+        addEntry("MRAcquisitionPhaseEncodingStepsOutOfPlane", 0x00189232, ValueRepresentation.US, 1);
+        addEntry("MRAcquisitionType", 0x00180023, ValueRepresentation.CS, 1);
+        addEntry("MRAveragesSequence", 0x00189119, ValueRepresentation.SQ, 1);
+        addEntry("MRDiffusionSequence", 0x00189117, ValueRepresentation.SQ, 1);
+        addEntry("MRDRDirectoryRecordOffset", 0x00041504, ValueRepresentation.UL, 1);
+        addEntry("MREchoSequence", 0x00189114, ValueRepresentation.SQ, 1);
+        addEntry("MRFOVGeometrySequence", 0x00189125, ValueRepresentation.SQ, 1);
+        addEntry("MRImageFrameTypeSequence", 0x00189226, ValueRepresentation.SQ, 1);
+        addEntry("MRImagingModifierSequence", 0x00189006, ValueRepresentation.SQ, 1);
+        addEntry("MRMetaboliteMapSequence", 0x00189152, ValueRepresentation.SQ, 1);
+        addEntry("MRModifierSequence", 0x00189115, ValueRepresentation.SQ, 1);
+        addEntry("MRReceiveCoilSequence", 0x00189042, ValueRepresentation.SQ, 1);
+        addEntry("MRSpatialSaturationSequence", 0x00189107, ValueRepresentation.SQ, 1);
+        addEntry("MRSpectroscopyAcquisitionType", 0x00189200, ValueRepresentation.CS, 1);
+        addEntry("MRSpectroscopyFOVGeometrySequence", 0x00189103, ValueRepresentation.SQ, 1);
+        addEntry("MRSpectroscopyFrameTypeSequence", 0x00189227, ValueRepresentation.SQ, 1);
+        addEntry("MRTimingAndRelatedParametersSequence", 0x00189112, ValueRepresentation.SQ, 1);
+        addEntry("MRTransmitCoilSequence", 0x00189049, ValueRepresentation.SQ, 1);
+        addEntry("MRVelocityEncodingSequence", 0x00189197, ValueRepresentation.SQ, 1);
+        addEntry("MultiCoilConfiguration", 0x00189046, ValueRepresentation.LO, 1);
+        addEntry("MultiCoilDefinitionSequence", 0x00189045, ValueRepresentation.SQ, 1);
+        addEntry("MultiCoilElementName", 0x00189047, ValueRepresentation.SH, 1);
+        addEntry("MultiCoilElementUsed", 0x00189048, ValueRepresentation.CS, 1);
+        addEntry("MultiFramePresentationSequence", 0x00289505, ValueRepresentation.SQ, 1);
+        addEntry("MultiFrameSourceSOPInstanceUID", 0x00081167, ValueRepresentation.UI, 1);
+        addEntry("MultiPlanarExcitation", 0x00189012, ValueRepresentation.CS, 1);
+        addEntry("MultipleCopiesFlag", 0x00404006, ValueRepresentation.CS, 1);
+        addEntry("MultipleSpinEcho", 0x00189011, ValueRepresentation.CS, 1);
+        addEntry("MultiplexedAudioChannelsDescriptionCodeSequence", 0x003A0300, ValueRepresentation.SQ, 1);
+        addEntry("MultiplexGroupLabel", 0x003A0020, ValueRepresentation.SH, 1);
+        addEntry("MultiplexGroupTimeOffset", 0x00181068, ValueRepresentation.DS, 1);
+        addEntry("MydriaticAgentCodeSequence", 0x0022001C, ValueRepresentation.SQ, 1);
+        addEntry("MydriaticAgentConcentration", 0x0022004E, ValueRepresentation.DS, 1);
+        addEntry("MydriaticAgentConcentrationUnitsSequence", 0x00220042, ValueRepresentation.SQ, 1);
+        addEntry("MydriaticAgentSequence", 0x00220058, ValueRepresentation.SQ, 1);
+        addEntry("NameOfPhysiciansReadingStudy", 0x00081060, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
+        addEntry("NamesOfIntendedRecipientsOfResults", 0x00401010, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
+        addEntry("NavigationDisplaySet", 0x00720216, ValueRepresentation.US, 1);
+        addEntry("NavigationIndicatorSequence", 0x00720214, ValueRepresentation.SQ, 1);
+        addEntry("NearPupillaryDistance", 0x00460062, ValueRepresentation.FD, 1);
+        addEntry("NetworkID", 0x00081000, ValueRepresentation.AE, 1);
+        addEntry("NominalBeamEnergy", 0x300A0114, ValueRepresentation.DS, 1);
+        addEntry("NominalBeamEnergyUnit", 0x300A0015, ValueRepresentation.CS, 1);
+        addEntry("NominalCardiacTriggerDelayTime", 0x00209153, ValueRepresentation.FD, 1);
+        addEntry("NominalInterval", 0x00181062, ValueRepresentation.IS, 1);
+        addEntry("NominalPercentageOfCardiacPhase", 0x00209241, ValueRepresentation.FL, 1);
+        addEntry("NominalPercentageOfRespiratoryPhase", 0x00209245, ValueRepresentation.FL, 1);
+        addEntry("NominalPriorDose", 0x300A001A, ValueRepresentation.DS, 1);
+        addEntry("NominalRespiratoryTriggerDelayTime", 0x00209255, ValueRepresentation.FD, 1);
+        addEntry("NominalScannedPixelSpacing", 0x00182010, ValueRepresentation.DS, 2);
+        addEntry("NominalScreenDefinitionSequence", 0x00720102, ValueRepresentation.SQ, 1);
+        addEntry("NonDICOMOutputCodeSequence", 0x00404032, ValueRepresentation.SQ, 1);
+        addEntry("NonUniformRadialSamplingCorrected", 0x00189766, ValueRepresentation.CS, 1);
+        addEntry("NormalizationFactorFormat", 0x00280710, ValueRepresentation.US, 1);
+        addEntry("NormalizationPoint", 0x30040008, ValueRepresentation.DS, 3);
+        addEntry("NormalReverse", 0x00005140, ValueRepresentation.CS, 1);
+        addEntry("NotchFilterBandwidth", 0x003A0223, ValueRepresentation.DS, 1);
+        addEntry("NotchFilterFrequency", 0x003A0222, ValueRepresentation.DS, 1);
+        addEntry("NTPSourceAddress", 0x00181803, ValueRepresentation.LO, 1);
+        addEntry("NuclearMedicineSeriesType", 0x00080042, ValueRepresentation.CS, 1);
+        addEntry("NumberOfAverages", 0x00180083, ValueRepresentation.DS, 1);
+        addEntry("NumberOfBeams", 0x300A0080, ValueRepresentation.IS, 1);
+        addEntry("NumberOfBlocks", 0x300A00F0, ValueRepresentation.IS, 1);
+        addEntry("NumberOfBoli", 0x300A00ED, ValueRepresentation.IS, 1);
+        addEntry("NumberOfBrachyApplicationSetups", 0x300A00A0, ValueRepresentation.IS, 1);
+        addEntry("NumberOfChannels", 0x50002004, ValueRepresentation.US, 1);
+        addEntry("NumberOfCompensators", 0x300A00E0, ValueRepresentation.IS, 1);
+        addEntry("NumberOfCompletedSuboperations", 0x00001021, ValueRepresentation.US, 1);
+        addEntry("NumberOfContourPoints", 0x30060046, ValueRepresentation.IS, 1);
+        addEntry("NumberOfControlPoints", 0x300A0110, ValueRepresentation.IS, 1);
+        addEntry("NumberOfCopies", 0x20000010, ValueRepresentation.IS, 1);
+        addEntry("NumberOfDetectors", 0x00540021, ValueRepresentation.US, 1);
+        addEntry("NumberOfEnergyWindows", 0x00540011, ValueRepresentation.US, 1);
+        addEntry("NumberOfEventTimers", 0x00082129, ValueRepresentation.IS, 1);
+        addEntry("NumberOfFailedSuboperations", 0x00001022, ValueRepresentation.US, 1);
+        addEntry("NumberOfFilms", 0x21000170, ValueRepresentation.IS, 1);
+        addEntry("NumberOfFractionPatternDigitsPerDay", 0x300A0079, ValueRepresentation.IS, 1);
+        addEntry("NumberOfFractionsDelivered", 0x3008005A, ValueRepresentation.IS, 1);
+        addEntry("NumberOfFractionsPlanned", 0x300A0078, ValueRepresentation.IS, 1);
+        addEntry("NumberOfFrames", 0x00280008, ValueRepresentation.IS, 1);
+        addEntry("NumberOfFramesInOverlay", 0x60000015, ValueRepresentation.IS, 1);
+        addEntry("NumberOfFramesInPhase", 0x00540033, ValueRepresentation.US, 1);
+        addEntry("NumberOfFramesInRotation", 0x00540053, ValueRepresentation.US, 1);
+        addEntry("NumberOfGraphicPoints", 0x00700021, ValueRepresentation.US, 1);
+        addEntry("NumberOfHorizontalPixels", 0x00720106, ValueRepresentation.US, 1);
+        addEntry("NumberOfIterations", 0x00189739, ValueRepresentation.US, 1);
+        addEntry("NumberOfKSpaceTrajectories", 0x00189093, ValueRepresentation.US, 1);
+        addEntry("NumberOfLateralSpreadingDevices", 0x300A0330, ValueRepresentation.IS, 1);
+        addEntry("NumberOfLeafJawPairs", 0x300A00BC, ValueRepresentation.IS, 1);
+        addEntry("NumberOfMatches", 0x00000850, ValueRepresentation.US, 1);
+        addEntry("NumberOfPaintings", 0x300A039A, ValueRepresentation.IS, 1);
+        addEntry("NumberOfPatientRelatedInstances", 0x00201204, ValueRepresentation.IS, 1);
+        addEntry("NumberOfPatientRelatedSeries", 0x00201202, ValueRepresentation.IS, 1);
+        addEntry("NumberOfPatientRelatedStudies", 0x00201200, ValueRepresentation.IS, 1);
+        addEntry("NumberOfPhaseEncodingSteps", 0x00180089, ValueRepresentation.IS, 1);
+        addEntry("NumberOfPhases", 0x00540031, ValueRepresentation.US, 1);
+        addEntry("NumberOfPoints", 0x50000010, ValueRepresentation.US, 1);
+        addEntry("NumberOfPriorsReferenced", 0x00720014, ValueRepresentation.US, 1);
+        addEntry("NumberOfPulses", 0x300A028A, ValueRepresentation.IS, 1);
+        addEntry("NumberOfRangeModulators", 0x300A0340, ValueRepresentation.IS, 1);
+        addEntry("NumberOfRangeShifters", 0x300A0312, ValueRepresentation.IS, 1);
+        addEntry("NumberOfReferences", 0x00041600, ValueRepresentation.UL, 1);
+        addEntry("NumberOfRemainingSuboperations", 0x00001020, ValueRepresentation.US, 1);
+        addEntry("NumberOfRotations", 0x00540051, ValueRepresentation.US, 1);
+        addEntry("NumberOfRRIntervals", 0x00540061, ValueRepresentation.US, 1);
+        addEntry("NumberOfSamples", 0x50002006, ValueRepresentation.UL, 1);
+        addEntry("NumberOfScanSpotPositions", 0x300A0392, ValueRepresentation.IS, 1);
+        addEntry("NumberOfScreens", 0x00720100, ValueRepresentation.US, 1);
+        addEntry("NumberOfSeriesRelatedInstances", 0x00201209, ValueRepresentation.IS, 1);
+        addEntry("NumberOfSlices", 0x00540081, ValueRepresentation.US, 1);
+        addEntry("NumberOfStages", 0x00082124, ValueRepresentation.IS, 1);
+        addEntry("NumberOfStudyRelatedInstances", 0x00201208, ValueRepresentation.IS, 1);
+        addEntry("NumberOfStudyRelatedSeries", 0x00201206, ValueRepresentation.IS, 1);
+        addEntry("NumberOfSubsets", 0x00189740, ValueRepresentation.US, 1);
+        addEntry("NumberOfSurfacePoints", 0x00660015, ValueRepresentation.UL, 1);
+        addEntry("NumberOfSurfaces", 0x00660001, ValueRepresentation.UL, 1);
+        addEntry("NumberOfTableBreakPoints", 0x00186050, ValueRepresentation.UL, 1);
+        addEntry("NumberOfTableEntries", 0x00186056, ValueRepresentation.UL, 1);
+        addEntry("NumberOfTables", 0x00280802, ValueRepresentation.US, 1);
+        addEntry("NumberOfTemporalPositions", 0x00200105, ValueRepresentation.IS, 1);
+        addEntry("NumberOfTimeSlices", 0x00540101, ValueRepresentation.US, 1);
+        addEntry("NumberOfTimeSlots", 0x00540071, ValueRepresentation.US, 1);
+        addEntry("NumberOfTomosynthesisSourceImages", 0x00181495, ValueRepresentation.IS, 1);
+        addEntry("NumberOfTransformSteps", 0x00280402, ValueRepresentation.US, 1);
+        addEntry("NumberOfTriggersInPhase", 0x00540211, ValueRepresentation.US, 1);
+        addEntry("NumberOfVectors", 0x0066001E, ValueRepresentation.UL, 1);
+        addEntry("NumberOfVerticalPixels", 0x00720104, ValueRepresentation.US, 1);
+        addEntry("NumberOfViewsInStage", 0x0008212A, ValueRepresentation.IS, 1);
+        addEntry("NumberOfWarningSuboperations", 0x00001023, ValueRepresentation.US, 1);
+        addEntry("NumberOfWaveformChannels", 0x003A0005, ValueRepresentation.US, 1);
+        addEntry("NumberOfWaveformSamples", 0x003A0010, ValueRepresentation.UL, 1);
+        addEntry("NumberOfWedges", 0x300A00D0, ValueRepresentation.IS, 1);
+        addEntry("NumberOfZeroFills", 0x00189066, ValueRepresentation.US, 1, 2);
+        addEntry("NumericValue", 0x0040A30A, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("NumericValueQualifierCodeSequence", 0x0040A301, ValueRepresentation.SQ, 1);
+        addEntry("ObjectPixelSpacingInCenterOfBeam", 0x00189404, ValueRepresentation.FL, 2);
+        addEntry("ObjectThicknessSequence", 0x00189456, ValueRepresentation.SQ, 1);
+        addEntry("ObservationDateTime", 0x0040A032, ValueRepresentation.DT, 1);
+        addEntry("ObservationNumber", 0x30060082, ValueRepresentation.IS, 1);
+        addEntry("ObserverType", 0x0040A084, ValueRepresentation.CS, 1);
+        addEntry("Occupation", 0x00102180, ValueRepresentation.SH, 1);
+        addEntry("OffendingElement", 0x00000901, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("OffsetOfReferencedLowerLevelDirectoryEntity", 0x00041420, ValueRepresentation.UL, 1);
+        addEntry("OffsetOfTheFirstDirectoryRecordOfTheRootDirectoryEntity", 0x00041200, ValueRepresentation.UL, 1);
+        addEntry("OffsetOfTheLastDirectoryRecordOfTheRootDirectoryEntity", 0x00041202, ValueRepresentation.UL, 1);
+        addEntry("OffsetOfTheNextDirectoryRecord", 0x00041400, ValueRepresentation.UL, 1);
+        addEntry("OnAxisBackgroundAnatomicStructureCodeSequenceTrial", 0x0008225C, ValueRepresentation.SQ, 1);
+        addEntry("OperatingMode", 0x00189178, ValueRepresentation.CS, 1);
+        addEntry("OperatingModeSequence", 0x00189176, ValueRepresentation.SQ, 1);
+        addEntry("OperatingModeType", 0x00189177, ValueRepresentation.CS, 1);
+        addEntry("OperatorIdentificationSequence", 0x00081072, ValueRepresentation.SQ, 1);
+        addEntry("OperatorsName", 0x00081070, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
+        addEntry("OphthalmicFrameLocationSequence", 0x00220031, ValueRepresentation.SQ, 1);
+        addEntry("OphthalmicImageOrientation", 0x00220039, ValueRepresentation.CS, 1);
+        addEntry("OpticalTransmittance", 0x00460040, ValueRepresentation.FD, 1);
+        addEntry("Optotype", 0x00460094, ValueRepresentation.CS, 1);
+        addEntry("OptotypeDetailedDefinition", 0x00460139, ValueRepresentation.LO, 1);
+        addEntry("OptotypePresentation", 0x00460095, ValueRepresentation.CS, 1);
+        addEntry("OrderCallbackPhoneNumber", 0x00402010, ValueRepresentation.SH, 1);
+        addEntry("OrderEnteredBy", 0x00402008, ValueRepresentation.PN, 1);
+        addEntry("OrderEntererLocation", 0x00402009, ValueRepresentation.SH, 1);
+        addEntry("OrderFillerIdentifierSequence", 0x00400027, ValueRepresentation.SQ, 1);
+        addEntry("OrderPlacerIdentifierSequence", 0x00400026, ValueRepresentation.SQ, 1);
+        addEntry("OrganAtRiskFullVolumeDose", 0x300A002A, ValueRepresentation.DS, 1);
+        addEntry("OrganAtRiskLimitDose", 0x300A002B, ValueRepresentation.DS, 1);
+        addEntry("OrganAtRiskMaximumDose", 0x300A002C, ValueRepresentation.DS, 1);
+        addEntry("OrganAtRiskOverdoseVolumeFraction", 0x300A002D, ValueRepresentation.DS, 1);
+        addEntry("OrganDose", 0x00400316, ValueRepresentation.DS, 1);
+        addEntry("OrganExposed", 0x00400318, ValueRepresentation.CS, 1);
+        addEntry("OriginalAttributesSequence", 0x04000561, ValueRepresentation.SQ, 1);
+        addEntry("OriginalImageIdentification", 0x00205000, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("OriginalImageIdentificationNomenclature", 0x00205002, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("OriginalImageSequence", 0x213000C0, ValueRepresentation.SQ, 1);
+        addEntry("OriginalSpecializedSOPClassUID", 0x0008001B, ValueRepresentation.UI, 1);
+        addEntry("Originator", 0x21000070, ValueRepresentation.AE, 1);
+        addEntry("OtherMagnificationTypesAvailable", 0x201000A7, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("OtherMediaAvailableSequence", 0x200000A4, ValueRepresentation.SQ, 1);
+        addEntry("OtherPatientIDs", 0x00101000, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("OtherPatientIDsSequence", 0x00101002, ValueRepresentation.SQ, 1);
+        addEntry("OtherPatientNames", 0x00101001, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
+        addEntry("OtherPupillaryDistance", 0x00460064, ValueRepresentation.FD, 1);
+        addEntry("OtherSmoothingTypesAvailable", 0x201000A9, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("OtherStudyNumbers", 0x00201070, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("OutputInformationSequence", 0x00404033, ValueRepresentation.SQ, 1);
+        addEntry("OutputPower", 0x00185000, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("OverlayActivationLayer", 0x60001001, ValueRepresentation.CS, 1);
+        addEntry("OverlayBackgroundDensity", 0x20400082, ValueRepresentation.CS, 1);
+        addEntry("OverlayBitPosition", 0x60000102, ValueRepresentation.US, 1);
+        addEntry("OverlayBitsAllocated", 0x60000100, ValueRepresentation.US, 1);
+        addEntry("OverlayBitsForCodeWord", 0x60000804, ValueRepresentation.US, 1);
+        addEntry("OverlayBitsGrouped", 0x60000069, ValueRepresentation.US, 1);
+        addEntry("OverlayCodeLabel", 0x60000800, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("OverlayCodeTableLocation", 0x60000803, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("OverlayColumns", 0x60000011, ValueRepresentation.US, 1);
+        addEntry("OverlayComments", 0x60004000, ValueRepresentation.LT, 1);
+        addEntry("OverlayCompressionCode", 0x60000060, ValueRepresentation.CS, 1);
+        addEntry("OverlayCompressionDescription", 0x60000063, ValueRepresentation.CS, 1);
+        addEntry("OverlayCompressionLabel", 0x60000062, ValueRepresentation.SH, 1);
+        addEntry("OverlayCompressionOriginator", 0x60000061, ValueRepresentation.SH, 1);
+        addEntry("OverlayCompressionStepPointers", 0x60000066, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("OverlayData", 0x60003000, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
+        addEntry("OverlayDate", 0x00080024, ValueRepresentation.DA, 1);
+        addEntry("OverlayDescription", 0x60000022, ValueRepresentation.LO, 1);
+        addEntry("OverlayDescriptorBlue", 0x60001103, ValueRepresentation.US, 1);
+        addEntry("OverlayDescriptorGray", 0x60001100, ValueRepresentation.US, 1);
+        addEntry("OverlayDescriptorGreen", 0x60001102, ValueRepresentation.US, 1);
+        addEntry("OverlayDescriptorRed", 0x60001101, ValueRepresentation.US, 1);
+        addEntry("OverlayForegroundDensity", 0x20400080, ValueRepresentation.CS, 1);
+        addEntry("OverlayFormat", 0x60000110, ValueRepresentation.CS, 1);
+        addEntry("OverlayLabel", 0x60001500, ValueRepresentation.LO, 1);
+        addEntry("OverlayLocation", 0x60000200, ValueRepresentation.US, 1);
+        addEntry("OverlayMagnificationType", 0x20400060, ValueRepresentation.CS, 1);
+        addEntry("OverlayMode", 0x20400090, ValueRepresentation.CS, 1);
+        addEntry("OverlayNumber", 0x00200022, ValueRepresentation.IS, 1);
+        addEntry("OverlayNumberOfTables", 0x60000802, ValueRepresentation.US, 1);
+        addEntry("OverlayOrigin", 0x60000050, ValueRepresentation.SS, 2);
+        addEntry("OverlayOrImageMagnification", 0x20400072, ValueRepresentation.CS, 1);
+        addEntry("OverlayPixelDataSequence", 0x20400020, ValueRepresentation.SQ, 1);
+        addEntry("OverlayPlaneOrigin", 0x60000052, ValueRepresentation.US, 1);
+        addEntry("OverlayPlanes", 0x60000012, ValueRepresentation.US, 1);
+        addEntry("OverlayRepeatInterval", 0x60000068, ValueRepresentation.US, 1);
+        addEntry("OverlayRows", 0x60000010, ValueRepresentation.US, 1);
+        addEntry("Overlays", 0x000051B0, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("OverlaysBlue", 0x60001203, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("OverlaysGray", 0x60001200, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("OverlaysGreen", 0x60001202, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("OverlaySmoothingType", 0x20400070, ValueRepresentation.CS, 1);
+        addEntry("OverlaysRed", 0x60001201, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("OverlaySubtype", 0x60000045, ValueRepresentation.LO, 1);
+        addEntry("OverlayTime", 0x00080034, ValueRepresentation.TM, 1);
+        addEntry("OverlayType", 0x60000040, ValueRepresentation.CS, 1);
+        addEntry("OverriddenAttributesSequence", 0x0074104A, ValueRepresentation.SQ, 1);
+        addEntry("OverrideParameterPointer", 0x30080062, ValueRepresentation.AT, 1);
+        addEntry("OverrideReason", 0x30080066, ValueRepresentation.ST, 1);
+        addEntry("OverrideSequence", 0x30080060, ValueRepresentation.SQ, 1);
+        addEntry("OversamplingPhase", 0x00189029, ValueRepresentation.CS, 1);
+        addEntry("OwnerID", 0x21000160, ValueRepresentation.SH, 1);
+        addEntry("PageNumberVector", 0x00182001, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("PagePositionID", 0x00005120, ValueRepresentation.AT, 1);
+        addEntry("PaletteColorLookupTableUID", 0x00281199, ValueRepresentation.UI, 1);
+        addEntry("ParallelAcquisition", 0x00189077, ValueRepresentation.CS, 1);
+        addEntry("ParallelAcquisitionTechnique", 0x00189078, ValueRepresentation.CS, 1);
+        addEntry("ParallelReductionFactorInPlane", 0x00189069, ValueRepresentation.FD, 1);
+        addEntry("ParallelReductionFactorInPlaneRetired", 0x00189096, ValueRepresentation.FD, 1);
+        addEntry("ParallelReductionFactorOutOfPlane", 0x00189155, ValueRepresentation.FD, 1);
+        addEntry("ParallelReductionFactorSecondInPlane", 0x00189168, ValueRepresentation.FD, 1);
+        addEntry("ParameterItemIndex", 0x30080063, ValueRepresentation.IS, 1);
+        addEntry("ParameterPointer", 0x30080065, ValueRepresentation.AT, 1);
+        addEntry("ParameterSequencePointer", 0x30080061, ValueRepresentation.AT, 1);
+        addEntry("PartialDataDisplayHandling", 0x00720208, ValueRepresentation.CS, 1);
+        addEntry("PartialFourier", 0x00189081, ValueRepresentation.CS, 1);
+        addEntry("PartialFourierDirection", 0x00189036, ValueRepresentation.CS, 1);
+        addEntry("PartialView", 0x00281350, ValueRepresentation.CS, 1);
+        addEntry("PartialViewCodeSequence", 0x00281352, ValueRepresentation.SQ, 1);
+        addEntry("PartialViewDescription", 0x00281351, ValueRepresentation.ST, 1);
+        addEntry("ParticipantSequence", 0x0040A07A, ValueRepresentation.SQ, 1);
+        addEntry("ParticipationDateTime", 0x0040A082, ValueRepresentation.DT, 1);
+        addEntry("ParticipationType", 0x0040A080, ValueRepresentation.CS, 1);
+        addEntry("PatientAdditionalPosition", 0x300A0184, ValueRepresentation.LO, 1);
+        addEntry("PatientAddress", 0x00101040, ValueRepresentation.LO, 1);
+        addEntry("PatientAge", 0x00101010, ValueRepresentation.AS, 1);
+        addEntry("PatientBirthDate", 0x00100030, ValueRepresentation.DA, 1);
+        addEntry("PatientBirthName", 0x00101005, ValueRepresentation.PN, 1);
+        addEntry("PatientBirthTime", 0x00100032, ValueRepresentation.TM, 1);
+        addEntry("PatientBreedCodeSequence", 0x00102293, ValueRepresentation.SQ, 1);
+        addEntry("PatientBreedDescription", 0x00102292, ValueRepresentation.LO, 1);
+        addEntry("PatientClinicalTrialParticipationSequence", 0x00380502, ValueRepresentation.SQ, 1);
+        addEntry("PatientComments", 0x00104000, ValueRepresentation.LT, 1);
+        addEntry("PatientEyeMovementCommandCodeSequence", 0x00220006, ValueRepresentation.SQ, 1);
+        addEntry("PatientEyeMovementCommanded", 0x00220005, ValueRepresentation.CS, 1);
+        addEntry("PatientFrameOfReferenceSource", 0x0020930C, ValueRepresentation.CS, 1);
+        addEntry("PatientGantryRelationshipCodeSequence", 0x00540414, ValueRepresentation.SQ, 1);
+        addEntry("PatientID", 0x00100020, ValueRepresentation.LO, 1);
+        addEntry("PatientIdentityRemoved", 0x00120062, ValueRepresentation.CS, 1);
+        addEntry("PatientInstitutionResidence", 0x00380400, ValueRepresentation.LO, 1);
+        addEntry("PatientInsurancePlanCodeSequence", 0x00100050, ValueRepresentation.SQ, 1);
+        addEntry("PatientMotherBirthName", 0x00101060, ValueRepresentation.PN, 1);
+        addEntry("PatientMotionCorrected", 0x00189763, ValueRepresentation.CS, 1);
+        addEntry("PatientName", 0x00100010, ValueRepresentation.PN, 1);
+        addEntry("PatientOrientation", 0x00200020, ValueRepresentation.CS, 2);
+        addEntry("PatientOrientationCodeSequence", 0x00540410, ValueRepresentation.SQ, 1);
+        addEntry("PatientOrientationInFrameSequence", 0x00209450, ValueRepresentation.SQ, 1);
+        addEntry("PatientOrientationModifierCodeSequence", 0x00540412, ValueRepresentation.SQ, 1);
+        addEntry("PatientPhysiologicalStateCodeSequence", 0x00189772, ValueRepresentation.SQ, 1);
+        addEntry("PatientPhysiologicalStateSequence", 0x00189771, ValueRepresentation.SQ, 1);
+        addEntry("PatientPosition", 0x00185100, ValueRepresentation.CS, 1);
+        addEntry("PatientPrimaryLanguageCodeSequence", 0x00100101, ValueRepresentation.SQ, 1);
+        addEntry("PatientPrimaryLanguageModifierCodeSequence", 0x00100102, ValueRepresentation.SQ, 1);
+        addEntry("PatientReligiousPreference", 0x001021F0, ValueRepresentation.LO, 1);
+        addEntry("PatientSetupLabel", 0x300A0183, ValueRepresentation.LO, 1);
+        addEntry("PatientSetupNumber", 0x300A0182, ValueRepresentation.IS, 1);
+        addEntry("PatientSetupSequence", 0x300A0180, ValueRepresentation.SQ, 1);
+        addEntry("PatientSex", 0x00100040, ValueRepresentation.CS, 1);
+        addEntry("PatientSexNeutered", 0x00102203, ValueRepresentation.CS, 1);
+        addEntry("PatientSize", 0x00101020, ValueRepresentation.DS, 1);
+        addEntry("PatientSpeciesCodeSequence", 0x00102202, ValueRepresentation.SQ, 1);
+        addEntry("PatientSpeciesDescription", 0x00102201, ValueRepresentation.LO, 1);
+        addEntry("PatientState", 0x00380500, ValueRepresentation.LO, 1);
+        addEntry("PatientSupportAccessoryCode", 0x300A0354, ValueRepresentation.LO, 1);
+        addEntry("PatientSupportAngle", 0x300A0122, ValueRepresentation.DS, 1);
+        addEntry("PatientSupportAngleTolerance", 0x300A004C, ValueRepresentation.DS, 1);
+        addEntry("PatientSupportID", 0x300A0352, ValueRepresentation.SH, 1);
+        addEntry("PatientSupportRotationDirection", 0x300A0123, ValueRepresentation.CS, 1);
+        addEntry("PatientSupportType", 0x300A0350, ValueRepresentation.CS, 1);
+        addEntry("PatientTelephoneNumbers", 0x00102154, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("PatientTransportArrangements", 0x00401004, ValueRepresentation.LO, 1);
+        addEntry("PatientWeight", 0x00101030, ValueRepresentation.DS, 1);
+        addEntry("PatternOffColorCIELabValue", 0x00700252, ValueRepresentation.US, 3);
+        addEntry("PatternOffOpacity", 0x00700285, ValueRepresentation.FL, 1);
+        addEntry("PatternOnColorCIELabValue", 0x00700251, ValueRepresentation.US, 3);
+        addEntry("PatternOnOpacity", 0x00700284, ValueRepresentation.FL, 1);
+        addEntry("PauseBetweenFrames", 0x00540038, ValueRepresentation.IS, 1);
+        addEntry("PercentPhaseFieldOfView", 0x00180094, ValueRepresentation.DS, 1);
+        addEntry("PercentSampling", 0x00180093, ValueRepresentation.DS, 1);
+        addEntry("PerformedLocation", 0x00400243, ValueRepresentation.SH, 1);
+        addEntry("PerformedProcedureCodeSequence", 0x0040A372, ValueRepresentation.SQ, 1);
+        addEntry("PerformedProcedureStepDescription", 0x00400254, ValueRepresentation.LO, 1);
+        addEntry("PerformedProcedureStepDiscontinuationReasonCodeSequence", 0x00400281, ValueRepresentation.SQ, 1);
+        addEntry("PerformedProcedureStepEndDate", 0x00400250, ValueRepresentation.DA, 1);
+        addEntry("PerformedProcedureStepEndTime", 0x00400251, ValueRepresentation.TM, 1);
+        addEntry("PerformedProcedureStepID", 0x00400253, ValueRepresentation.SH, 1);
+        addEntry("PerformedProcedureStepStartDate", 0x00400244, ValueRepresentation.DA, 1);
+        addEntry("PerformedProcedureStepStartTime", 0x00400245, ValueRepresentation.TM, 1);
+        addEntry("PerformedProcedureStepStatus", 0x00400252, ValueRepresentation.CS, 1);
+        addEntry("PerformedProcedureTypeDescription", 0x00400255, ValueRepresentation.LO, 1);
+        addEntry("PerformedProcessingApplicationsCodeSequence", 0x00404007, ValueRepresentation.SQ, 1);
+        addEntry("PerformedProcessingParametersSequence", 0x00741212, ValueRepresentation.SQ, 1);
+        addEntry("PerformedProtocolCodeSequence", 0x00400260, ValueRepresentation.SQ, 1);
+        addEntry("PerformedProtocolType", 0x00400261, ValueRepresentation.CS, 1);
+        addEntry("PerformedSeriesSequence", 0x00400340, ValueRepresentation.SQ, 1);
+        addEntry("PerformedStationAETitle", 0x00400241, ValueRepresentation.AE, 1);
+        addEntry("PerformedStationClassCodeSequence", 0x00404029, ValueRepresentation.SQ, 1);
+        addEntry("PerformedStationGeographicLocationCodeSequence", 0x00404030, ValueRepresentation.SQ, 1);
+        addEntry("PerformedStationName", 0x00400242, ValueRepresentation.SH, 1);
+        addEntry("PerformedStationNameCodeSequence", 0x00404028, ValueRepresentation.SQ, 1);
+        addEntry("PerformedWorkitemCodeSequence", 0x00404019, ValueRepresentation.SQ, 1);
+        addEntry("PerformingPhysicianIdentificationSequence", 0x00081052, ValueRepresentation.SQ, 1);
+        addEntry("PerformingPhysicianName", 0x00081050, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
+        addEntry("PerFrameFunctionalGroupsSequence", 0x52009230, ValueRepresentation.SQ, 1);
+        addEntry("PerimeterTable", 0x00280070, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("PerimeterValue", 0x00280071, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("PerProjectionAcquisitionSequence", 0x00189538, ValueRepresentation.SQ, 1);
+        addEntry("PersonAddress", 0x00401102, ValueRepresentation.ST, 1);
+        addEntry("PersonIdentificationCodeSequence", 0x00401101, ValueRepresentation.SQ, 1);
+        addEntry("PersonName", 0x0040A123, ValueRepresentation.PN, 1);
+        addEntry("PersonTelephoneNumbers", 0x00401103, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("PertinentDocumentsSequence", 0x00380100, ValueRepresentation.SQ, 1);
+        addEntry("PertinentOtherEvidenceSequence", 0x0040A385, ValueRepresentation.SQ, 1);
+        addEntry("PETDetectorMotionDetailsSequence", 0x00189733, ValueRepresentation.SQ, 1);
+        addEntry("PETFrameAcquisitionSequence", 0x00189732, ValueRepresentation.SQ, 1);
+        addEntry("PETFrameCorrectionFactorsSequence", 0x00189736, ValueRepresentation.SQ, 1);
+        addEntry("PETFrameTypeSequence", 0x00189751, ValueRepresentation.SQ, 1);
+        addEntry("PETPositionSequence", 0x00189735, ValueRepresentation.SQ, 1);
+        addEntry("PETReconstructionSequence", 0x00189749, ValueRepresentation.SQ, 1);
+        addEntry("PETTableDynamicsSequence", 0x00189734, ValueRepresentation.SQ, 1);
+        addEntry("PhaseContrast", 0x00189014, ValueRepresentation.CS, 1);
+        addEntry("PhaseDelay", 0x00540036, ValueRepresentation.IS, 1);
+        addEntry("PhaseDescription", 0x00540039, ValueRepresentation.CS, 1);
+        addEntry("PhaseInformationSequence", 0x00540032, ValueRepresentation.SQ, 1);
+        addEntry("PhaseNumber", 0x00200015, ValueRepresentation.IS, 1);
+        addEntry("PhaseVector", 0x00540030, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("PhosphorType", 0x00181261, ValueRepresentation.LO, 1);
+        addEntry("PhotometricInterpretation", 0x00280004, ValueRepresentation.CS, 1);
+        addEntry("PhototimerSetting", 0x00187065, ValueRepresentation.DS, 1);
+        addEntry("PhysicalDeltaX", 0x0018602C, ValueRepresentation.FD, 1);
+        addEntry("PhysicalDeltaY", 0x0018602E, ValueRepresentation.FD, 1);
+        addEntry("PhysicalDetectorSize", 0x00189429, ValueRepresentation.FL, 2);
+        addEntry("PhysicalUnitsXDirection", 0x00186024, ValueRepresentation.US, 1);
+        addEntry("PhysicalUnitsYDirection", 0x00186026, ValueRepresentation.US, 1);
+        addEntry("PhysicianApprovingInterpretation", 0x40080114, ValueRepresentation.PN, 1);
+        addEntry("PhysiciansOfRecord", 0x00081048, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
+        addEntry("PhysiciansOfRecordIdentificationSequence", 0x00081049, ValueRepresentation.SQ, 1);
+        addEntry("PhysiciansReadingStudyIdentificationSequence", 0x00081062, ValueRepresentation.SQ, 1);
+        addEntry("PixelAspectRatio", 0x00280034, ValueRepresentation.IS, 2);
+        addEntry("PixelBandwidth", 0x00180095, ValueRepresentation.DS, 1);
+        addEntry("PixelComponentDataType", 0x0018604E, ValueRepresentation.US, 1);
+        addEntry("PixelComponentMask", 0x00186046, ValueRepresentation.UL, 1);
+        addEntry("PixelComponentOrganization", 0x00186044, ValueRepresentation.US, 1);
+        addEntry("PixelComponentPhysicalUnits", 0x0018604C, ValueRepresentation.US, 1);
+        addEntry("PixelComponentRangeStart", 0x00186048, ValueRepresentation.UL, 1);
+        addEntry("PixelComponentRangeStop", 0x0018604A, ValueRepresentation.UL, 1);
+        addEntry("PixelData", 0x7FE00010, new ValueRepresentation[] { ValueRepresentation.OW, ValueRepresentation.OB }, 1, 1);
+        addEntry("PixelDataProviderURL", 0x00287FE0, ValueRepresentation.UT, 1);
+        addEntry("PixelIntensityRelationship", 0x00281040, ValueRepresentation.CS, 1);
+        addEntry("PixelIntensityRelationshipLUTSequence", 0x00289422, ValueRepresentation.SQ, 1);
+        addEntry("PixelIntensityRelationshipSign", 0x00281041, ValueRepresentation.SS, 1);
+        addEntry("PixelMeasuresSequence", 0x00289110, ValueRepresentation.SQ, 1);
+        addEntry("PixelPaddingRangeLimit", 0x00280121, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("PixelPaddingValue", 0x00280120, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("PixelPresentation", 0x00089205, ValueRepresentation.CS, 1);
+        addEntry("PixelRepresentation", 0x00280103, ValueRepresentation.US, 1);
+        addEntry("PixelShiftFrameRange", 0x00289506, ValueRepresentation.US, 2, Integer.MAX_VALUE / 2);
+        addEntry("PixelShiftSequence", 0x00289501, ValueRepresentation.SQ, 1);
+        addEntry("PixelSpacing", 0x00280030, ValueRepresentation.DS, 2);
+        addEntry("PixelSpacingCalibrationDescription", 0x00280A04, ValueRepresentation.LO, 1);
+        addEntry("PixelSpacingCalibrationType", 0x00280A02, ValueRepresentation.CS, 1);
+        addEntry("PixelSpacingSequence", 0x004008D8, ValueRepresentation.SQ, 1);
+        addEntry("PixelValueMappingCodeSequence", 0x00409098, ValueRepresentation.SQ, 1);
+        addEntry("PixelValueTransformationSequence", 0x00289145, ValueRepresentation.SQ, 1);
+        addEntry("PlacerOrderNumberImagingServiceRequest", 0x00402016, ValueRepresentation.LO, 1);
+        addEntry("PlacerOrderNumberImagingServiceRequestRetired", 0x00402006, ValueRepresentation.SH, 1);
+        addEntry("PlacerOrderNumberProcedure", 0x00401006, ValueRepresentation.SH, 1);
+        addEntry("PlanarConfiguration", 0x00280006, ValueRepresentation.US, 1);
+        addEntry("PlaneIdentification", 0x00189457, ValueRepresentation.CS, 1);
+        addEntry("PlaneOrientationSequence", 0x00209116, ValueRepresentation.SQ, 1);
+        addEntry("PlaneOrientationVolumeSequence", 0x0020930F, ValueRepresentation.SQ, 1);
+        addEntry("PlanePositionSequence", 0x00209113, ValueRepresentation.SQ, 1);
+        addEntry("PlanePositionVolumeSequence", 0x0020930E, ValueRepresentation.SQ, 1);
+        addEntry("Planes", 0x00280012, ValueRepresentation.US, 1);
+        addEntry("PlanIntent", 0x300A000A, ValueRepresentation.CS, 1);
+        addEntry("PlannedVerificationImageSequence", 0x300A00CA, ValueRepresentation.SQ, 1);
+        addEntry("PlateID", 0x00181004, ValueRepresentation.LO, 1);
+        addEntry("PlateType", 0x00181260, ValueRepresentation.SH, 1);
+        addEntry("PointCoordinatesData", 0x00660016, ValueRepresentation.OF, 1);
+        addEntry("PointPositionAccuracy", 0x00660017, ValueRepresentation.FL, 3);
+        addEntry("PointsBoundingBoxCoordinates", 0x0066001A, ValueRepresentation.FL, 6);
+        addEntry("Polarity", 0x20200020, ValueRepresentation.CS, 1);
+        addEntry("PositionerIsocenterDetectorRotationAngle", 0x00189465, ValueRepresentation.FL, 1);
+        addEntry("PositionerIsocenterPrimaryAngle", 0x00189463, ValueRepresentation.FL, 1);
+        addEntry("PositionerIsocenterSecondaryAngle", 0x00189464, ValueRepresentation.FL, 1);
+        addEntry("PositionerMotion", 0x00181500, ValueRepresentation.CS, 1);
+        addEntry("PositionerPositionSequence", 0x00189405, ValueRepresentation.SQ, 1);
+        addEntry("PositionerPrimaryAngle", 0x00181510, ValueRepresentation.DS, 1);
+        addEntry("PositionerPrimaryAngleIncrement", 0x00181520, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("PositionerSecondaryAngle", 0x00181511, ValueRepresentation.DS, 1);
+        addEntry("PositionerSecondaryAngleIncrement", 0x00181521, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("PositionerType", 0x00181508, ValueRepresentation.CS, 1);
+        addEntry("PositionMeasuringDeviceUsed", 0x0018980C, ValueRepresentation.CS, 1);
+        addEntry("PositionOfIsocenterProjection", 0x00189430, ValueRepresentation.US, 2);
+        addEntry("PositionReferenceIndicator", 0x00201040, ValueRepresentation.LO, 1);
+        addEntry("PostDeformationMatrixRegistrationSequence", 0x00640010, ValueRepresentation.SQ, 1);
+        addEntry("PostprocessingFunction", 0x00185021, ValueRepresentation.LO, 1);
+        addEntry("PredecessorDocumentsSequence", 0x0040A360, ValueRepresentation.SQ, 1);
+        addEntry("PreDeformationMatrixRegistrationSequence", 0x0064000F, ValueRepresentation.SQ, 1);
+        addEntry("PredictorColumns", 0x00280081, ValueRepresentation.US, 1);
+        addEntry("PredictorConstants", 0x00280082, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("PredictorRows", 0x00280080, ValueRepresentation.US, 1);
+        addEntry("PreferredPlaybackSequencing", 0x00181244, ValueRepresentation.US, 1);
+        addEntry("PregnancyStatus", 0x001021C0, ValueRepresentation.US, 1);
+        addEntry("PreliminaryFlag", 0x0040A496, ValueRepresentation.CS, 1);
+        addEntry("PreMedication", 0x00400012, ValueRepresentation.LO, 1);
+        addEntry("PrescriptionDescription", 0x300A000E, ValueRepresentation.ST, 1);
+        addEntry("PresentationCreationDate", 0x00700082, ValueRepresentation.DA, 1);
+        addEntry("PresentationCreationTime", 0x00700083, ValueRepresentation.TM, 1);
+        addEntry("PresentationGroupNumber", 0x003A0241, ValueRepresentation.US, 1);
+        addEntry("PresentationIntentType", 0x00080068, ValueRepresentation.CS, 1);
+        addEntry("PresentationLUTContentSequence", 0x21300080, ValueRepresentation.SQ, 1);
+        addEntry("PresentationLUTFlag", 0x20000069, ValueRepresentation.CS, 1);
+        addEntry("PresentationLUTSequence", 0x20500010, ValueRepresentation.SQ, 1);
+        addEntry("PresentationLUTShape", 0x20500020, ValueRepresentation.CS, 1);
+        addEntry("PresentationPixelAspectRatio", 0x00700102, ValueRepresentation.IS, 2);
+        addEntry("PresentationPixelMagnificationRatio", 0x00700103, ValueRepresentation.FL, 1);
+        addEntry("PresentationPixelSpacing", 0x00700101, ValueRepresentation.DS, 2);
+        addEntry("PresentationSizeMode", 0x00700100, ValueRepresentation.CS, 1);
+        addEntry("PreserveCompositeInstancesAfterMediaCreation", 0x2200000A, ValueRepresentation.CS, 1);
+        addEntry("PrimaryAnatomicStructureModifierSequence", 0x00082230, ValueRepresentation.SQ, 1);
+        addEntry("PrimaryAnatomicStructureSequence", 0x00082228, ValueRepresentation.SQ, 1);
+        addEntry("PrimaryDosimeterUnit", 0x300A00B3, ValueRepresentation.CS, 1);
+        addEntry("PrimaryFluenceModeSequence", 0x30020050, ValueRepresentation.SQ, 1);
+        addEntry("PrimaryPositionerIncrement", 0x00189514, ValueRepresentation.FL, 1);
+        addEntry("PrimaryPositionerScanArc", 0x00189508, ValueRepresentation.FL, 1);
+        addEntry("PrimaryPositionerScanStartAngle", 0x00189510, ValueRepresentation.FL, 1);
+        addEntry("PrimaryPromptsCountsAccumulated", 0x00541310, ValueRepresentation.IS, 1);
+        addEntry("PrimitivePointIndexList", 0x00660029, ValueRepresentation.OW, 1);
+        addEntry("Print", 0x000051A0, ValueRepresentation.CS, 1);
+        addEntry("PrinterCharacteristicsSequence", 0x21300015, ValueRepresentation.SQ, 1);
+        addEntry("PrinterConfigurationSequence", 0x2000001E, ValueRepresentation.SQ, 1);
+        addEntry("PrinterName", 0x21100030, ValueRepresentation.LO, 1);
+        addEntry("PrinterPixelSpacing", 0x20100376, ValueRepresentation.DS, 2);
+        addEntry("PrinterResolutionID", 0x20100052, ValueRepresentation.CS, 1);
+        addEntry("PrinterStatus", 0x21100010, ValueRepresentation.CS, 1);
+        addEntry("PrinterStatusInfo", 0x21100020, ValueRepresentation.CS, 1);
+        addEntry("PrintingBitDepth", 0x200000A1, ValueRepresentation.US, 1);
+        addEntry("PrintJobDescriptionSequence", 0x21200050, ValueRepresentation.SQ, 1);
+        addEntry("PrintJobID", 0x21000010, ValueRepresentation.SH, 1);
+        addEntry("PrintManagementCapabilitiesSequence", 0x21300010, ValueRepresentation.SQ, 1);
+        addEntry("PrintPriority", 0x20000020, ValueRepresentation.CS, 1);
+        addEntry("PrintQueueID", 0x21100099, ValueRepresentation.SH, 1);
+        addEntry("Priority", 0x00000700, ValueRepresentation.US, 1);
+        addEntry("PrismSequence", 0x00460028, ValueRepresentation.SQ, 1);
+        addEntry("PrivateInformation", 0x00020102, ValueRepresentation.OB, 1);
+        addEntry("PrivateInformationCreatorUID", 0x00020100, ValueRepresentation.UI, 1);
+        addEntry("PrivateRecordUID", 0x00041432, ValueRepresentation.UI, 1);
+        addEntry("ProcedureCodeSequence", 0x00081032, ValueRepresentation.SQ, 1);
+        addEntry("ProcedureStepLabel", 0x00741204, ValueRepresentation.LO, 1);
+        addEntry("ProcedureStepRelationshipType", 0x00741222, ValueRepresentation.LO, 1);
+        addEntry("ProcessingFunction", 0x00185020, ValueRepresentation.LO, 1);
+        addEntry("ProductDescription", 0x00440009, ValueRepresentation.LT, 1);
+        addEntry("ProductExpirationDateTime", 0x0044000B, ValueRepresentation.DT, 1);
+        addEntry("ProductLotIdentifier", 0x0044000A, ValueRepresentation.LO, 1);
+        addEntry("ProductName", 0x00440008, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("ProductPackageIdentifier", 0x00440001, ValueRepresentation.ST, 1);
+        addEntry("ProductParameterSequence", 0x00440013, ValueRepresentation.SQ, 1);
+        addEntry("ProductTypeCodeSequence", 0x00440007, ValueRepresentation.SQ, 1);
+        addEntry("ProjectionEponymousNameCodeSequence", 0x00185104, ValueRepresentation.SQ, 1);
+        addEntry("ProjectionPixelCalibrationSequence", 0x00189401, ValueRepresentation.SQ, 1);
+        addEntry("ProposedStudySequence", 0x213000A0, ValueRepresentation.SQ, 1);
+        addEntry("ProtocolContextSequence", 0x00400440, ValueRepresentation.SQ, 1);
+        addEntry("ProtocolName", 0x00181030, ValueRepresentation.LO, 1);
+        addEntry("PseudoColorType", 0x00720704, ValueRepresentation.CS, 1);
+        addEntry("PulseRepetitionFrequency", 0x00186032, ValueRepresentation.UL, 1);
+        addEntry("PulseRepetitionInterval", 0x300A028C, ValueRepresentation.DS, 1);
+        addEntry("PulseSequenceName", 0x00189005, ValueRepresentation.SH, 1);
+        addEntry("PupilDilated", 0x0022000D, ValueRepresentation.CS, 1);
+        addEntry("PupilSize", 0x00460044, ValueRepresentation.FD, 1);
+        addEntry("PurposeOfReferenceCodeSequence", 0x0040A170, ValueRepresentation.SQ, 1);
+        addEntry("PVCRejection", 0x00181085, ValueRepresentation.LO, 1);
+        addEntry("QuadratureReceiveCoil", 0x00189044, ValueRepresentation.CS, 1);
+        addEntry("QualityControlImage", 0x00280300, ValueRepresentation.CS, 1);
+        addEntry("Quantity", 0x00400294, ValueRepresentation.DS, 1);
+        addEntry("QuantitySequence", 0x00400293, ValueRepresentation.SQ, 1);
+        addEntry("QueryRetrieveLevel", 0x00080052, ValueRepresentation.CS, 1);
+        addEntry("QueueStatus", 0x21200010, ValueRepresentation.CS, 1);
+        addEntry("RadialPosition", 0x00181142, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("RadiationAtomicNumber", 0x300A0304, ValueRepresentation.IS, 1);
+        addEntry("RadiationChargeState", 0x300A0306, ValueRepresentation.SS, 1);
+        addEntry("RadiationMachineName", 0x30020020, ValueRepresentation.SH, 1);
+        addEntry("RadiationMachineSAD", 0x30020022, ValueRepresentation.DS, 1);
+        addEntry("RadiationMachineSSD", 0x30020024, ValueRepresentation.DS, 1);
+        addEntry("RadiationMassNumber", 0x300A0302, ValueRepresentation.IS, 1);
+        addEntry("RadiationMode", 0x0018115A, ValueRepresentation.CS, 1);
+        addEntry("RadiationSetting", 0x00181155, ValueRepresentation.CS, 1);
+        addEntry("RadiationType", 0x300A00C6, ValueRepresentation.CS, 1);
+        addEntry("Radionuclide", 0x00180030, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("RadionuclideCodeSequence", 0x00540300, ValueRepresentation.SQ, 1);
+        addEntry("RadionuclideHalfLife", 0x00181075, ValueRepresentation.DS, 1);
+        addEntry("RadionuclidePositronFraction", 0x00181076, ValueRepresentation.DS, 1);
+        addEntry("RadionuclideTotalDose", 0x00181074, ValueRepresentation.DS, 1);
+        addEntry("Radiopharmaceutical", 0x00180031, ValueRepresentation.LO, 1);
+        addEntry("RadiopharmaceuticalAgentNumber", 0x00189729, ValueRepresentation.US, 1);
+        addEntry("RadiopharmaceuticalCodeSequence", 0x00540304, ValueRepresentation.SQ, 1);
+        addEntry("RadiopharmaceuticalInformationSequence", 0x00540016, ValueRepresentation.SQ, 1);
+        addEntry("RadiopharmaceuticalRoute", 0x00181070, ValueRepresentation.LO, 1);
+        addEntry("RadiopharmaceuticalSpecificActivity", 0x00181077, ValueRepresentation.DS, 1);
+        addEntry("RadiopharmaceuticalStartDateTime", 0x00181078, ValueRepresentation.DT, 1);
+        addEntry("RadiopharmaceuticalStartTime", 0x00181072, ValueRepresentation.TM, 1);
+        addEntry("RadiopharmaceuticalStopDateTime", 0x00181079, ValueRepresentation.DT, 1);
+        addEntry("RadiopharmaceuticalStopTime", 0x00181073, ValueRepresentation.TM, 1);
+        addEntry("RadiopharmaceuticalUsageSequence", 0x00189737, ValueRepresentation.SQ, 1);
+        addEntry("RadiopharmaceuticalVolume", 0x00181071, ValueRepresentation.DS, 1);
+        addEntry("RadiusOfCircularCollimator", 0x00181712, ValueRepresentation.IS, 1);
+        addEntry("RadiusOfCircularExposureControlSensingRegion", 0x00189441, ValueRepresentation.US, 1);
+        addEntry("RadiusOfCircularShutter", 0x00181612, ValueRepresentation.IS, 1);
+        addEntry("RadiusOfCurvature", 0x00460075, ValueRepresentation.FD, 1);
+        addEntry("RandomsCorrected", 0x00189765, ValueRepresentation.CS, 1);
+        addEntry("RandomsCorrectionMethod", 0x00541100, ValueRepresentation.CS, 1);
+        addEntry("RangeModulatorDescription", 0x300A034A, ValueRepresentation.LO, 1);
+        addEntry("RangeModulatorGatingStartValue", 0x300A0382, ValueRepresentation.FL, 1);
+        addEntry("RangeModulatorGatingStartWaterEquivalentThickness", 0x300A0386, ValueRepresentation.FL, 1);
+        addEntry("RangeModulatorGatingStopValue", 0x300A0384, ValueRepresentation.FL, 1);
+        addEntry("RangeModulatorGatingStopWaterEquivalentThickness", 0x300A0388, ValueRepresentation.FL, 1);
+        addEntry("RangeModulatorID", 0x300A0346, ValueRepresentation.SH, 1);
+        addEntry("RangeModulatorNumber", 0x300A0344, ValueRepresentation.IS, 1);
+        addEntry("RangeModulatorSequence", 0x300A0342, ValueRepresentation.SQ, 1);
+        addEntry("RangeModulatorSettingsSequence", 0x300A0380, ValueRepresentation.SQ, 1);
+        addEntry("RangeModulatorType", 0x300A0348, ValueRepresentation.CS, 1);
+        addEntry("RangeShifterDescription", 0x300A0322, ValueRepresentation.LO, 1);
+        addEntry("RangeShifterID", 0x300A0318, ValueRepresentation.SH, 1);
+        addEntry("RangeShifterNumber", 0x300A0316, ValueRepresentation.IS, 1);
+        addEntry("RangeShifterSequence", 0x300A0314, ValueRepresentation.SQ, 1);
+        addEntry("RangeShifterSetting", 0x300A0362, ValueRepresentation.LO, 1);
+        addEntry("RangeShifterSettingsSequence", 0x300A0360, ValueRepresentation.SQ, 1);
+        addEntry("RangeShifterType", 0x300A0320, ValueRepresentation.CS, 1);
+        addEntry("RangeShifterWaterEquivalentThickness", 0x300A0366, ValueRepresentation.FL, 1);
+        addEntry("RawDataHandling", 0x00404040, ValueRepresentation.CS, 1);
+        addEntry("RealWorldValueFirstValueMapped", 0x00409216, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("RealWorldValueIntercept", 0x00409224, ValueRepresentation.FD, 1);
+        addEntry("RealWorldValueLastValueMapped", 0x00409211, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("RealWorldValueLUTData", 0x00409212, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
+        addEntry("RealWorldValueMappingSequence", 0x00409096, ValueRepresentation.SQ, 1);
+        addEntry("RealWorldValueSlope", 0x00409225, ValueRepresentation.FD, 1);
+        addEntry("ReasonForCancellation", 0x00741238, ValueRepresentation.LT, 1);
+        addEntry("ReasonForPerformedProcedureCodeSequence", 0x00401012, ValueRepresentation.SQ, 1);
+        addEntry("ReasonForRequestedProcedureCodeSequence", 0x0040100A, ValueRepresentation.SQ, 1);
+        addEntry("ReasonForStudy", 0x00321030, ValueRepresentation.LO, 1);
+        addEntry("ReasonForTheAttributeModification", 0x04000565, ValueRepresentation.CS, 1);
+        addEntry("ReasonForTheImagingServiceRequest", 0x00402001, ValueRepresentation.LO, 1);
+        addEntry("ReasonForTheRequestedProcedure", 0x00401002, ValueRepresentation.LO, 1);
+        addEntry("ReceiveCoilManufacturerName", 0x00189041, ValueRepresentation.LO, 1);
+        addEntry("ReceiveCoilName", 0x00181250, ValueRepresentation.SH, 1);
+        addEntry("ReceiveCoilType", 0x00189043, ValueRepresentation.CS, 1);
+        addEntry("Receiver", 0x00000300, ValueRepresentation.AE, 1);
+        addEntry("ReceivingAE", 0x00741234, ValueRepresentation.AE, 1);
+        addEntry("RecognitionCode", 0x00080010, ValueRepresentation.CS, 1);
+        addEntry("RecommendedDisplayCIELabValue", 0x0062000D, ValueRepresentation.US, 3);
+        addEntry("RecommendedDisplayFrameRate", 0x00082144, ValueRepresentation.IS, 1);
+        addEntry("RecommendedDisplayFrameRateInFloat", 0x00089459, ValueRepresentation.FL, 1);
+        addEntry("RecommendedDisplayGrayscaleValue", 0x0062000C, ValueRepresentation.US, 1);
+        addEntry("RecommendedPresentationOpacity", 0x0066000C, ValueRepresentation.FL, 1);
+        addEntry("RecommendedPresentationType", 0x0066000D, ValueRepresentation.CS, 1);
+        addEntry("RecommendedViewingMode", 0x00281090, ValueRepresentation.CS, 1);
+        addEntry("ReconstructionAlgorithm", 0x00189315, ValueRepresentation.CS, 1);
+        addEntry("ReconstructionAngle", 0x00189319, ValueRepresentation.FD, 1);
+        addEntry("ReconstructionDescription", 0x00189531, ValueRepresentation.LO, 1);
+        addEntry("ReconstructionDiameter", 0x00181100, ValueRepresentation.DS, 1);
+        addEntry("ReconstructionFieldOfView", 0x00189317, ValueRepresentation.FD, 2);
+        addEntry("ReconstructionIndex", 0x00209536, ValueRepresentation.US, 1);
+        addEntry("ReconstructionMethod", 0x00541103, ValueRepresentation.LO, 1);
+        addEntry("ReconstructionPixelSpacing", 0x00189322, ValueRepresentation.FD, 2);
+        addEntry("ReconstructionTargetCenterPatient", 0x00189318, ValueRepresentation.FD, 3);
+        addEntry("ReconstructionType", 0x00189756, ValueRepresentation.CS, 1);
+        addEntry("RecordedBlockSequence", 0x300800D0, ValueRepresentation.SQ, 1);
+        addEntry("RecordedBrachyAccessoryDeviceSequence", 0x30080120, ValueRepresentation.SQ, 1);
+        addEntry("RecordedChannelSequence", 0x30080130, ValueRepresentation.SQ, 1);
+        addEntry("RecordedChannelShieldSequence", 0x30080150, ValueRepresentation.SQ, 1);
+        addEntry("RecordedCompensatorSequence", 0x300800C0, ValueRepresentation.SQ, 1);
+        addEntry("RecordedLateralSpreadingDeviceSequence", 0x300800F4, ValueRepresentation.SQ, 1);
+        addEntry("RecordedRangeModulatorSequence", 0x300800F6, ValueRepresentation.SQ, 1);
+        addEntry("RecordedRangeShifterSequence", 0x300800F2, ValueRepresentation.SQ, 1);
+        addEntry("RecordedSnoutSequence", 0x300800F0, ValueRepresentation.SQ, 1);
+        addEntry("RecordedSourceApplicatorSequence", 0x30080140, ValueRepresentation.SQ, 1);
+        addEntry("RecordedSourceSequence", 0x30080100, ValueRepresentation.SQ, 1);
+        addEntry("RecordedWedgeSequence", 0x300800B0, ValueRepresentation.SQ, 1);
+        addEntry("RecordInUseFlag", 0x00041410, ValueRepresentation.US, 1);
+        addEntry("RectificationType", 0x00181156, ValueRepresentation.CS, 1);
+        addEntry("RectilinearPhaseEncodeReordering", 0x00189034, ValueRepresentation.CS, 1);
+        addEntry("RedPaletteColorLookupTableData", 0x00281201, ValueRepresentation.OW, 1);
+        addEntry("RedPaletteColorLookupTableDescriptor", 0x00281101, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 3, 3);
+        addEntry("Reference", 0x00201020, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("ReferenceAirKermaRate", 0x300A022A, ValueRepresentation.DS, 1);
+        addEntry("ReferenceCoordinates", 0x00220032, ValueRepresentation.FL, 2, Integer.MAX_VALUE / 2);
+        addEntry("ReferencedBasicAnnotationBoxSequence", 0x20100520, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedBeamNumber", 0x300C0006, ValueRepresentation.IS, 1);
+        addEntry("ReferencedBeamSequence", 0x300C0004, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedBlockNumber", 0x300C00E0, ValueRepresentation.IS, 1);
+        addEntry("ReferencedBolusSequence", 0x300C00B0, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedBrachyAccessoryDeviceNumber", 0x30080122, ValueRepresentation.IS, 1);
+        addEntry("ReferencedBrachyApplicationSetupNumber", 0x300C000C, ValueRepresentation.IS, 1);
+        addEntry("ReferencedBrachyApplicationSetupSequence", 0x300C000A, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedCalculatedDoseReferenceNumber", 0x30080092, ValueRepresentation.IS, 1);
+        addEntry("ReferencedCalculatedDoseReferenceSequence", 0x30080090, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedChannelShieldNumber", 0x30080152, ValueRepresentation.IS, 1);
+        addEntry("ReferencedCompensatorNumber", 0x300C00D0, ValueRepresentation.IS, 1);
+        addEntry("ReferencedContentItemIdentifier", 0x0040DB73, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
+        addEntry("ReferencedControlPointIndex", 0x300C00F0, ValueRepresentation.IS, 1);
+        addEntry("ReferencedControlPointSequence", 0x300C00F2, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedCurveSequence", 0x00081145, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedDateTime", 0x0040A13A, ValueRepresentation.DT, 1, Integer.MAX_VALUE);
+        addEntry("ReferencedDigitalSignatureSequence", 0x04000402, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedDoseReferenceNumber", 0x300C0051, ValueRepresentation.IS, 1);
+        addEntry("ReferencedDoseReferenceSequence", 0x300C0050, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedDoseSequence", 0x300C0080, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedFileID", 0x00041500, ValueRepresentation.CS, 1, 8);
+        addEntry("ReferencedFilmBoxSequence", 0x20000500, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedFilmSessionSequence", 0x20100500, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedFirstFrameSequence", 0x00720427, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedFractionGroupNumber", 0x300C0022, ValueRepresentation.IS, 1);
+        addEntry("ReferencedFractionGroupSequence", 0x300C0020, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedFractionNumber", 0x30080223, ValueRepresentation.IS, 1);
+        addEntry("ReferencedFrameNumber", 0x00081160, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("ReferencedFrameNumbers", 0x0040A136, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("ReferencedFrameOfReferenceSequence", 0x30060010, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedFrameOfReferenceUID", 0x30060024, ValueRepresentation.UI, 1);
+        addEntry("ReferencedGeneralPurposeScheduledProcedureStepSequence", 0x00404016, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedGeneralPurposeScheduledProcedureStepTransactionUID", 0x00404023, ValueRepresentation.UI, 1);
+        addEntry("ReferencedImageBoxSequence", 0x20100510, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedImageBoxSequenceRetired", 0x20400500, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedImageEvidenceSequence", 0x00089092, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedImageOverlayBoxSequence", 0x20200130, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedImageRealWorldValueMappingSequence", 0x00409094, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedImageSequence", 0x00081140, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedInstanceSequence", 0x0008114A, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedInterpretationSequence", 0x40080050, ValueRepresentation.SQ, 1);
+        addEntry("ReferenceDisplaySets", 0x00720218, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("ReferencedLateralSpreadingDeviceNumber", 0x300C0102, ValueRepresentation.IS, 1);
+        addEntry("ReferencedMeasuredDoseReferenceNumber", 0x30080082, ValueRepresentation.IS, 1);
+        addEntry("ReferencedMeasuredDoseReferenceSequence", 0x30080080, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedNonImageCompositeSOPInstanceSequence", 0x00400220, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedOtherPlaneSequence", 0x00089410, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedOverlayPlaneGroups", 0x20400011, ValueRepresentation.US, 1, 99);
+        addEntry("ReferencedOverlayPlaneSequence", 0x20400010, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedOverlaySequence", 0x00081130, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedPatientAliasSequence", 0x00380004, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedPatientSequence", 0x00081120, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedPatientSetupNumber", 0x300C006A, ValueRepresentation.IS, 1);
+        addEntry("ReferencedPerformedProcedureStepSequence", 0x00081111, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedPresentationLUTSequence", 0x20500500, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedPresentationStateSequence", 0x00089237, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedPrintJobSequence", 0x21200070, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedPrintJobSequencePullStoredPrint", 0x21000500, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedProcedureStepSequence", 0x00400330, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedRangeModulatorNumber", 0x300C0104, ValueRepresentation.IS, 1);
+        addEntry("ReferencedRangeShifterNumber", 0x300C0100, ValueRepresentation.IS, 1);
+        addEntry("ReferencedRawDataSequence", 0x00089121, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedRealWorldValueMappingInstanceSequence", 0x0008114B, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedReferenceImageNumber", 0x300C0007, ValueRepresentation.IS, 1);
+        addEntry("ReferencedReferenceImageSequence", 0x300C0042, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedRefractiveMeasurementsSequence", 0x00460145, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedRelatedGeneralSOPClassUIDInFile", 0x0004151A, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
+        addEntry("ReferencedRequestSequence", 0x0040A370, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedResultsSequence", 0x00081100, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedROINumber", 0x30060084, ValueRepresentation.IS, 1);
+        addEntry("ReferencedRTPlanSequence", 0x300C0002, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedSamplePositions", 0x0040A132, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
+        addEntry("ReferencedSegmentNumber", 0x0062000B, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("ReferencedSeriesSequence", 0x00081115, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedSetupImageSequence", 0x300A0401, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedSOPClassUID", 0x00081150, ValueRepresentation.UI, 1);
+        addEntry("ReferencedSOPClassUIDInFile", 0x00041510, ValueRepresentation.UI, 1);
+        addEntry("ReferencedSOPInstanceMACSequence", 0x04000403, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedSOPInstanceUID", 0x00081155, ValueRepresentation.UI, 1);
+        addEntry("ReferencedSOPInstanceUIDInFile", 0x00041511, ValueRepresentation.UI, 1);
+        addEntry("ReferencedSOPSequence", 0x00081199, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedSourceApplicatorNumber", 0x30080142, ValueRepresentation.IS, 1);
+        addEntry("ReferencedSourceNumber", 0x300C000E, ValueRepresentation.IS, 1);
+        addEntry("ReferencedSpatialRegistrationSequence", 0x00700404, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedStartControlPointIndex", 0x300C00F4, ValueRepresentation.IS, 1);
+        addEntry("ReferencedStereometricInstanceSequence", 0x00081134, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedStopControlPointIndex", 0x300C00F6, ValueRepresentation.IS, 1);
+        addEntry("ReferencedStorageMediaSequence", 0x2200000D, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedStoredPrintSequence", 0x20000510, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedStructureSetSequence", 0x300C0060, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedStudySequence", 0x00081110, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedSurfaceNumber", 0x0066002C, ValueRepresentation.UL, 1);
+        addEntry("ReferencedSurfaceSequence", 0x0066002B, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedTimeOffsets", 0x0040A138, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("ReferencedToleranceTableNumber", 0x300C00A0, ValueRepresentation.IS, 1);
+        addEntry("ReferencedTransferSyntaxUIDInFile", 0x00041512, ValueRepresentation.UI, 1);
+        addEntry("ReferencedTreatmentRecordSequence", 0x30080030, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedVerificationImageSequence", 0x300C0040, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedVisitSequence", 0x00081125, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedVOILUTBoxSequence", 0x20200140, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedWaveformChannels", 0x0040A0B0, ValueRepresentation.US, 2, Integer.MAX_VALUE / 2);
+        addEntry("ReferencedWaveformSequence", 0x0008113A, ValueRepresentation.SQ, 1);
+        addEntry("ReferencedWedgeNumber", 0x300C00C0, ValueRepresentation.IS, 1);
+        addEntry("ReferenceImageNumber", 0x300A00C8, ValueRepresentation.IS, 1);
+        addEntry("ReferencePixelPhysicalValueX", 0x00186028, ValueRepresentation.FD, 1);
+        addEntry("ReferencePixelPhysicalValueY", 0x0018602A, ValueRepresentation.FD, 1);
+        addEntry("ReferencePixelX", 0x00186020, ValueRepresentation.SL, 1);
+        addEntry("ReferencePixelY", 0x00186022, ValueRepresentation.SL, 1);
+        addEntry("ReferenceToRecordedSound", 0x40080103, ValueRepresentation.LO, 1);
+        addEntry("ReferringPhysicianAddress", 0x00080092, ValueRepresentation.ST, 1);
+        addEntry("ReferringPhysicianIdentificationSequence", 0x00080096, ValueRepresentation.SQ, 1);
+        addEntry("ReferringPhysicianName", 0x00080090, ValueRepresentation.PN, 1);
+        addEntry("ReferringPhysicianTelephoneNumbers", 0x00080094, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("ReflectedAmbientLight", 0x20100160, ValueRepresentation.US, 1);
+        addEntry("ReformattingInterval", 0x00720514, ValueRepresentation.FD, 1);
+        addEntry("ReformattingOperationInitialViewDirection", 0x00720516, ValueRepresentation.CS, 1);
+        addEntry("ReformattingOperationType", 0x00720510, ValueRepresentation.CS, 1);
+        addEntry("ReformattingThickness", 0x00720512, ValueRepresentation.FD, 1);
+        addEntry("RefractiveStateSequence", 0x0022001B, ValueRepresentation.SQ, 1);
+        addEntry("RegionDataType", 0x00186014, ValueRepresentation.US, 1);
+        addEntry("RegionFlags", 0x00186016, ValueRepresentation.UL, 1);
+        addEntry("RegionLocationMaxX", 0x0018601C, ValueRepresentation.UL, 1);
+        addEntry("RegionLocationMaxY", 0x0018601E, ValueRepresentation.UL, 1);
+        addEntry("RegionLocationMinX", 0x00186018, ValueRepresentation.UL, 1);
+        addEntry("RegionLocationMinY", 0x0018601A, ValueRepresentation.UL, 1);
+        addEntry("RegionOfResidence", 0x00102152, ValueRepresentation.LO, 1);
+        addEntry("RegionPixelShiftSequence", 0x00289502, ValueRepresentation.SQ, 1);
+        addEntry("RegionSpatialFormat", 0x00186012, ValueRepresentation.US, 1);
+        addEntry("RegistrationSequence", 0x00700308, ValueRepresentation.SQ, 1);
+        addEntry("RegistrationTypeCodeSequence", 0x0070030D, ValueRepresentation.SQ, 1);
+        addEntry("RelatedFrameOfReferenceUID", 0x300600C2, ValueRepresentation.UI, 1);
+        addEntry("RelatedGeneralSOPClassUID", 0x0008001A, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
+        addEntry("RelatedProcedureStepSequence", 0x00741220, ValueRepresentation.SQ, 1);
+        addEntry("RelatedReferenceRTImageSequence", 0x00741040, ValueRepresentation.SQ, 1);
+        addEntry("RelatedRTROIObservationsSequence", 0x300600A0, ValueRepresentation.SQ, 1);
+        addEntry("RelatedSeriesSequence", 0x00081250, ValueRepresentation.SQ, 1);
+        addEntry("RelationshipType", 0x0040A010, ValueRepresentation.CS, 1);
+        addEntry("RelativeImagePositionCodeSequence", 0x0022001D, ValueRepresentation.SQ, 1);
+        addEntry("RelativeOpacity", 0x00700403, ValueRepresentation.FL, 1);
+        addEntry("RelativeTime", 0x00720038, ValueRepresentation.US, 2);
+        addEntry("RelativeTimeUnits", 0x0072003A, ValueRepresentation.CS, 1);
+        addEntry("RelativeXRayExposure", 0x00181405, ValueRepresentation.IS, 1);
+        addEntry("RelevantInformationSequence", 0x00404022, ValueRepresentation.SQ, 1);
+        addEntry("RepeatFractionCycleLength", 0x300A007A, ValueRepresentation.IS, 1);
+        addEntry("RepeatInterval", 0x00280068, ValueRepresentation.US, 1);
+        addEntry("RepetitionTime", 0x00180080, ValueRepresentation.DS, 1);
+        addEntry("ReportedValuesOrigin", 0x3002000A, ValueRepresentation.CS, 1);
+        addEntry("ReportingPriority", 0x00401009, ValueRepresentation.SH, 1);
+        addEntry("RepresentativeFrameNumber", 0x00286010, ValueRepresentation.US, 1);
+        addEntry("ReprojectionMethod", 0x00541004, ValueRepresentation.CS, 1);
+        addEntry("RequestAttributesSequence", 0x00400275, ValueRepresentation.SQ, 1);
+        addEntry("RequestedContrastAgent", 0x00321070, ValueRepresentation.LO, 1);
+        addEntry("RequestedDecimateCropBehavior", 0x20200040, ValueRepresentation.CS, 1);
+        addEntry("RequestedImageSize", 0x20200030, ValueRepresentation.DS, 1);
+        addEntry("RequestedImageSizeFlag", 0x202000A0, ValueRepresentation.CS, 1);
+        addEntry("RequestedMediaApplicationProfile", 0x2200000C, ValueRepresentation.LO, 1);
+        addEntry("RequestedProcedureCodeSequence", 0x00321064, ValueRepresentation.SQ, 1);
+        addEntry("RequestedProcedureComments", 0x00401400, ValueRepresentation.LT, 1);
+        addEntry("RequestedProcedureDescription", 0x00321060, ValueRepresentation.LO, 1);
+        addEntry("RequestedProcedureID", 0x00401001, ValueRepresentation.SH, 1);
+        addEntry("RequestedProcedureLocation", 0x00401005, ValueRepresentation.LO, 1);
+        addEntry("RequestedProcedurePriority", 0x00401003, ValueRepresentation.SH, 1);
+        addEntry("RequestedResolutionID", 0x20200050, ValueRepresentation.CS, 1);
+        addEntry("RequestedSOPClassUID", 0x00000003, ValueRepresentation.UI, 1);
+        addEntry("RequestedSOPInstanceUID", 0x00001001, ValueRepresentation.UI, 1);
+        addEntry("RequestedSubsequentWorkitemCodeSequence", 0x00404031, ValueRepresentation.SQ, 1);
+        addEntry("RequestingAE", 0x00741236, ValueRepresentation.AE, 1);
+        addEntry("RequestingPhysician", 0x00321032, ValueRepresentation.PN, 1);
+        addEntry("RequestingPhysicianIdentificationSequence", 0x00321031, ValueRepresentation.SQ, 1);
+        addEntry("RequestingService", 0x00321033, ValueRepresentation.LO, 1);
+        addEntry("RequestingServiceCodeSequence", 0x00321034, ValueRepresentation.SQ, 1);
+        addEntry("RequestPriority", 0x22000020, ValueRepresentation.CS, 1);
+        addEntry("RescaleIntercept", 0x00281052, ValueRepresentation.DS, 1);
+        addEntry("RescaleSlope", 0x00281053, ValueRepresentation.DS, 1);
+        addEntry("RescaleType", 0x00281054, ValueRepresentation.LO, 1);
+        addEntry("ResidualSyringeCounts", 0x00540017, ValueRepresentation.IS, 1);
+        addEntry("ResonantNucleus", 0x00189100, ValueRepresentation.CS, 1, 2);
+        addEntry("RespiratoryCyclePosition", 0x00189214, ValueRepresentation.CS, 1);
+        addEntry("RespiratoryIntervalTime", 0x00209254, ValueRepresentation.FD, 1);
+        addEntry("RespiratoryMotionCompensationTechnique", 0x00189170, ValueRepresentation.CS, 1);
+        addEntry("RespiratoryMotionCompensationTechniqueDescription", 0x00189185, ValueRepresentation.ST, 1);
+        addEntry("RespiratorySignalSource", 0x00189171, ValueRepresentation.CS, 1);
+        addEntry("RespiratorySignalSourceID", 0x00189186, ValueRepresentation.SH, 1);
+        addEntry("RespiratorySynchronizationSequence", 0x00209253, ValueRepresentation.SQ, 1);
+        addEntry("RespiratoryTriggerDelayThreshold", 0x00209256, ValueRepresentation.FD, 1);
+        addEntry("RespiratoryTriggerType", 0x00209250, ValueRepresentation.CS, 1);
+        addEntry("ResponseSequenceNumber", 0x00000860, ValueRepresentation.US, 1);
+        addEntry("ResponsibleOrganization", 0x00102299, ValueRepresentation.LO, 1);
+        addEntry("ResponsiblePerson", 0x00102297, ValueRepresentation.PN, 1);
+        addEntry("ResponsiblePersonRole", 0x00102298, ValueRepresentation.CS, 1);
+        addEntry("ResultingGeneralPurposePerformedProcedureStepsSequence", 0x00404015, ValueRepresentation.SQ, 1);
+        addEntry("ResultsComments", 0x40084000, ValueRepresentation.ST, 1);
+        addEntry("ResultsDistributionListSequence", 0x40080118, ValueRepresentation.SQ, 1);
+        addEntry("ResultsID", 0x40080040, ValueRepresentation.SH, 1);
+        addEntry("ResultsIDIssuer", 0x40080042, ValueRepresentation.LO, 1);
+        addEntry("RetrieveAETitle", 0x00080054, ValueRepresentation.AE, 1, Integer.MAX_VALUE);
+        addEntry("RetrieveLocationUID", 0x0040E011, ValueRepresentation.UI, 1);
+        addEntry("RetrieveURI", 0x0040E010, ValueRepresentation.UT, 1);
+        addEntry("ReviewDate", 0x300E0004, ValueRepresentation.DA, 1);
+        addEntry("ReviewerName", 0x300E0008, ValueRepresentation.PN, 1);
+        addEntry("ReviewTime", 0x300E0005, ValueRepresentation.TM, 1);
+        addEntry("RevolutionTime", 0x00189305, ValueRepresentation.FD, 1);
+        addEntry("RFEchoTrainLength", 0x00189240, ValueRepresentation.US, 1);
+        addEntry("RGBLUTTransferFunction", 0x0028140F, ValueRepresentation.CS, 1);
+        addEntry("RightImageSequence", 0x00220022, ValueRepresentation.SQ, 1);
+        addEntry("RightLensSequence", 0x00460014, ValueRepresentation.SQ, 1);
+        addEntry("ROIArea", 0x60001301, ValueRepresentation.IS, 1);
+        addEntry("ROIContourSequence", 0x30060039, ValueRepresentation.SQ, 1);
+        addEntry("ROIDescription", 0x30060028, ValueRepresentation.ST, 1);
+        addEntry("ROIDisplayColor", 0x3006002A, ValueRepresentation.IS, 3);
+        addEntry("ROIElementalCompositionAtomicMassFraction", 0x300600B8, ValueRepresentation.FL, 1);
+        addEntry("ROIElementalCompositionAtomicNumber", 0x300600B7, ValueRepresentation.US, 1);
+        addEntry("ROIElementalCompositionSequence", 0x300600B6, ValueRepresentation.SQ, 1);
+        addEntry("ROIGenerationAlgorithm", 0x30060036, ValueRepresentation.CS, 1);
+        addEntry("ROIGenerationDescription", 0x30060038, ValueRepresentation.LO, 1);
+        addEntry("ROIInterpreter", 0x300600A6, ValueRepresentation.PN, 1);
+        addEntry("ROIMean", 0x60001302, ValueRepresentation.DS, 1);
+        addEntry("ROIName", 0x30060026, ValueRepresentation.LO, 1);
+        addEntry("ROINumber", 0x30060022, ValueRepresentation.IS, 1);
+        addEntry("ROIObservationDescription", 0x30060088, ValueRepresentation.ST, 1);
+        addEntry("ROIObservationLabel", 0x30060085, ValueRepresentation.SH, 1);
+        addEntry("ROIPhysicalPropertiesSequence", 0x300600B0, ValueRepresentation.SQ, 1);
+        addEntry("ROIPhysicalProperty", 0x300600B2, ValueRepresentation.CS, 1);
+        addEntry("ROIPhysicalPropertyValue", 0x300600B4, ValueRepresentation.DS, 1);
+        addEntry("ROIStandardDeviation", 0x60001303, ValueRepresentation.DS, 1);
+        addEntry("ROIVolume", 0x3006002C, ValueRepresentation.DS, 1);
+        addEntry("RotationAngle", 0x00700230, ValueRepresentation.FD, 1);
+        addEntry("RotationDirection", 0x00181140, ValueRepresentation.CS, 1);
+        addEntry("RotationInformationSequence", 0x00540052, ValueRepresentation.SQ, 1);
+        addEntry("RotationOffset", 0x00181146, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("RotationOfScannedFilm", 0x00182030, ValueRepresentation.DS, 1);
+        addEntry("RotationPoint", 0x00700273, ValueRepresentation.FL, 2);
+        addEntry("RotationVector", 0x00540050, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("RouteOfAdmissions", 0x00380016, ValueRepresentation.LO, 1);
+        addEntry("RowOverlap", 0x00280093, ValueRepresentation.US, 1);
+        addEntry("Rows", 0x00280010, ValueRepresentation.US, 1);
+        addEntry("RowsForNthOrderCoefficients", 0x00280400, ValueRepresentation.US, 1);
+        addEntry("RRIntervalTimeNominal", 0x00209251, ValueRepresentation.FD, 1);
+        addEntry("RRIntervalVector", 0x00540060, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("RTBeamLimitingDeviceType", 0x300A00B8, ValueRepresentation.CS, 1);
+        addEntry("RTDoseROISequence", 0x30040010, ValueRepresentation.SQ, 1);
+        addEntry("RTImageDescription", 0x30020004, ValueRepresentation.ST, 1);
+        addEntry("RTImageLabel", 0x30020002, ValueRepresentation.SH, 1);
+        addEntry("RTImageName", 0x30020003, ValueRepresentation.LO, 1);
+        addEntry("RTImageOrientation", 0x30020010, ValueRepresentation.DS, 6);
+        addEntry("RTImagePlane", 0x3002000C, ValueRepresentation.CS, 1);
+        addEntry("RTImagePosition", 0x30020012, ValueRepresentation.DS, 2);
+        addEntry("RTImageSID", 0x30020026, ValueRepresentation.DS, 1);
+        addEntry("RTPlanDate", 0x300A0006, ValueRepresentation.DA, 1);
+        addEntry("RTPlanDescription", 0x300A0004, ValueRepresentation.ST, 1);
+        addEntry("RTPlanGeometry", 0x300A000C, ValueRepresentation.CS, 1);
+        addEntry("RTPlanLabel", 0x300A0002, ValueRepresentation.SH, 1);
+        addEntry("RTPlanName", 0x300A0003, ValueRepresentation.LO, 1);
+        addEntry("RTPlanRelationship", 0x300A0055, ValueRepresentation.CS, 1);
+        addEntry("RTPlanTime", 0x300A0007, ValueRepresentation.TM, 1);
+        addEntry("RTReferencedSeriesSequence", 0x30060014, ValueRepresentation.SQ, 1);
+        addEntry("RTReferencedStudySequence", 0x30060012, ValueRepresentation.SQ, 1);
+        addEntry("RTRelatedROISequence", 0x30060030, ValueRepresentation.SQ, 1);
+        addEntry("RTROIIdentificationCodeSequence", 0x30060086, ValueRepresentation.SQ, 1);
+        addEntry("RTROIInterpretedType", 0x300600A4, ValueRepresentation.CS, 1);
+        addEntry("RTROIObservationsSequence", 0x30060080, ValueRepresentation.SQ, 1);
+        addEntry("RTROIRelationship", 0x30060033, ValueRepresentation.CS, 1);
+        addEntry("RunLengthTriplet", 0x10000001, ValueRepresentation.US, 3);
+        addEntry("RWavePointer", 0x00286040, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("RWaveTimeVector", 0x00186060, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("SafePositionExitDate", 0x30080162, ValueRepresentation.DA, 1);
+        addEntry("SafePositionExitTime", 0x30080164, ValueRepresentation.TM, 1);
+        addEntry("SafePositionReturnDate", 0x30080166, ValueRepresentation.DA, 1);
+        addEntry("SafePositionReturnTime", 0x30080168, ValueRepresentation.TM, 1);
+        addEntry("SampleRate", 0x50002008, ValueRepresentation.UL, 1);
+        addEntry("SamplesPerPixel", 0x00280002, ValueRepresentation.US, 1);
+        addEntry("SamplesPerPixelUsed", 0x00280003, ValueRepresentation.US, 1);
+        addEntry("SamplingFrequency", 0x003A001A, ValueRepresentation.DS, 1);
+        addEntry("SAR", 0x00181316, ValueRepresentation.DS, 1);
+        addEntry("SaturationRecovery", 0x00189024, ValueRepresentation.CS, 1);
+        addEntry("ScanArc", 0x00181143, ValueRepresentation.DS, 1);
+        addEntry("ScanLength", 0x00181302, ValueRepresentation.IS, 1);
+        addEntry("ScanMode", 0x300A0308, ValueRepresentation.CS, 1);
+        addEntry("ScanningSequence", 0x00180020, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("ScanningSpotSize", 0x300A0398, ValueRepresentation.FL, 2);
+        addEntry("ScanOptions", 0x00180022, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("ScanSpotMetersetsDelivered", 0x30080047, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("ScanSpotMetersetWeights", 0x300A0396, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("ScanSpotPositionMap", 0x300A0394, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("ScanSpotTuneID", 0x300A0390, ValueRepresentation.SH, 1);
+        addEntry("ScanVelocity", 0x00181300, ValueRepresentation.DS, 1);
+        addEntry("ScatterCorrected", 0x00189760, ValueRepresentation.CS, 1);
+        addEntry("ScatterCorrectionMethod", 0x00541105, ValueRepresentation.LO, 1);
+        addEntry("ScatterFractionFactor", 0x00541323, ValueRepresentation.DS, 1);
+        addEntry("ScheduledAdmissionDate", 0x0038001A, ValueRepresentation.DA, 1);
+        addEntry("ScheduledAdmissionTime", 0x0038001B, ValueRepresentation.TM, 1);
+        addEntry("ScheduledDischargeDate", 0x0038001C, ValueRepresentation.DA, 1);
+        addEntry("ScheduledDischargeTime", 0x0038001D, ValueRepresentation.TM, 1);
+        addEntry("ScheduledHumanPerformersSequence", 0x00404034, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledPatientInstitutionResidence", 0x0038001E, ValueRepresentation.LO, 1);
+        addEntry("ScheduledPerformingPhysicianIdentificationSequence", 0x0040000B, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledPerformingPhysicianName", 0x00400006, ValueRepresentation.PN, 1);
+        addEntry("ScheduledProcedureStepDescription", 0x00400007, ValueRepresentation.LO, 1);
+        addEntry("ScheduledProcedureStepEndDate", 0x00400004, ValueRepresentation.DA, 1);
+        addEntry("ScheduledProcedureStepEndTime", 0x00400005, ValueRepresentation.TM, 1);
+        addEntry("ScheduledProcedureStepID", 0x00400009, ValueRepresentation.SH, 1);
+        addEntry("ScheduledProcedureStepLocation", 0x00400011, ValueRepresentation.SH, 1);
+        addEntry("ScheduledProcedureStepModificationDateTime", 0x00404010, ValueRepresentation.DT, 1);
+        addEntry("ScheduledProcedureStepPriority", 0x00741200, ValueRepresentation.CS, 1);
+        addEntry("ScheduledProcedureStepSequence", 0x00400100, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledProcedureStepStartDate", 0x00400002, ValueRepresentation.DA, 1);
+        addEntry("ScheduledProcedureStepStartDateTime", 0x00404005, ValueRepresentation.DT, 1);
+        addEntry("ScheduledProcedureStepStartTime", 0x00400003, ValueRepresentation.TM, 1);
+        addEntry("ScheduledProcedureStepStatus", 0x00400020, ValueRepresentation.CS, 1);
+        addEntry("ScheduledProcessingApplicationsCodeSequence", 0x00404004, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledProcessingParametersSequence", 0x00741210, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledProtocolCodeSequence", 0x00400008, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledSpecimenSequence", 0x00400500, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledStationAETitle", 0x00400001, ValueRepresentation.AE, 1, Integer.MAX_VALUE);
+        addEntry("ScheduledStationClassCodeSequence", 0x00404026, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledStationGeographicLocationCodeSequence", 0x00404027, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledStationName", 0x00400010, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("ScheduledStationNameCodeSequence", 0x00404025, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledStepAttributesSequence", 0x00400270, ValueRepresentation.SQ, 1);
+        addEntry("ScheduledStudyLocation", 0x00321020, ValueRepresentation.LO, 1);
+        addEntry("ScheduledStudyLocationAETitle", 0x00321021, ValueRepresentation.AE, 1, Integer.MAX_VALUE);
+        addEntry("ScheduledStudyStartDate", 0x00321000, ValueRepresentation.DA, 1);
+        addEntry("ScheduledStudyStartTime", 0x00321001, ValueRepresentation.TM, 1);
+        addEntry("ScheduledStudyStopDate", 0x00321010, ValueRepresentation.DA, 1);
+        addEntry("ScheduledStudyStopTime", 0x00321011, ValueRepresentation.TM, 1);
+        addEntry("ScheduledWorkitemCodeSequence", 0x00404018, ValueRepresentation.SQ, 1);
+        addEntry("SCPStatus", 0x00741242, ValueRepresentation.CS, 1);
+        addEntry("ScreenMinimumColorBitDepth", 0x0072010C, ValueRepresentation.US, 1);
+        addEntry("ScreenMinimumGrayscaleBitDepth", 0x0072010A, ValueRepresentation.US, 1);
+        addEntry("SecondaryCaptureDeviceID", 0x00181010, ValueRepresentation.LO, 1);
+        addEntry("SecondaryCaptureDeviceManufacturer", 0x00181016, ValueRepresentation.LO, 1);
+        addEntry("SecondaryCaptureDeviceManufacturerModelName", 0x00181018, ValueRepresentation.LO, 1);
+        addEntry("SecondaryCaptureDeviceSoftwareVersions", 0x00181019, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("SecondaryCountsAccumulated", 0x00541311, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("SecondaryCountsType", 0x00541220, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("SecondaryPositionerIncrement", 0x00189515, ValueRepresentation.FL, 1);
+        addEntry("SecondaryPositionerScanArc", 0x00189509, ValueRepresentation.FL, 1);
+        addEntry("SecondaryPositionerScanStartAngle", 0x00189511, ValueRepresentation.FL, 1);
+        addEntry("SegmentAlgorithmName", 0x00620009, ValueRepresentation.LO, 1);
+        addEntry("SegmentAlgorithmType", 0x00620008, ValueRepresentation.CS, 1);
+        addEntry("SegmentationFractionalType", 0x00620010, ValueRepresentation.CS, 1);
+        addEntry("SegmentationType", 0x00620001, ValueRepresentation.CS, 1);
+        addEntry("SegmentDescription", 0x00620006, ValueRepresentation.ST, 1);
+        addEntry("SegmentedBluePaletteColorLookupTableData", 0x00281223, ValueRepresentation.OW, 1);
+        addEntry("SegmentedGreenPaletteColorLookupTableData", 0x00281222, ValueRepresentation.OW, 1);
+        addEntry("SegmentedKSpaceTraversal", 0x00189033, ValueRepresentation.CS, 1);
+        addEntry("SegmentedPropertyCategoryCodeSequence", 0x00620003, ValueRepresentation.SQ, 1);
+        addEntry("SegmentedPropertyTypeCodeSequence", 0x0062000F, ValueRepresentation.SQ, 1);
+        addEntry("SegmentedRedPaletteColorLookupTableData", 0x00281221, ValueRepresentation.OW, 1);
+        addEntry("SegmentIdentificationSequence", 0x0062000A, ValueRepresentation.SQ, 1);
+        addEntry("SegmentLabel", 0x00620005, ValueRepresentation.LO, 1);
+        addEntry("SegmentNumber", 0x00620004, ValueRepresentation.US, 1);
+        addEntry("SegmentSequence", 0x00620002, ValueRepresentation.SQ, 1);
+        addEntry("SegmentSurfaceGenerationAlgorithmIdentificationSequence", 0x0066002D, ValueRepresentation.SQ, 1);
+        addEntry("SegmentSurfaceSourceInstanceSequence", 0x0066002E, ValueRepresentation.SQ, 1);
+        addEntry("SelectorAttribute", 0x00720026, ValueRepresentation.AT, 1);
+        addEntry("SelectorAttributePrivateCreator", 0x00720056, ValueRepresentation.LO, 1);
+        addEntry("SelectorAttributeVR", 0x00720050, ValueRepresentation.CS, 1);
+        addEntry("SelectorATValue", 0x00720060, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("SelectorCodeSequenceValue", 0x00720080, ValueRepresentation.SQ, 1);
+        addEntry("SelectorCSValue", 0x00720062, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("SelectorDSValue", 0x00720072, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("SelectorFDValue", 0x00720074, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
+        addEntry("SelectorFLValue", 0x00720076, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("SelectorISValue", 0x00720064, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("SelectorLOValue", 0x00720066, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("SelectorLTValue", 0x00720068, ValueRepresentation.LT, 1);
+        addEntry("SelectorPNValue", 0x0072006A, ValueRepresentation.PN, 1, Integer.MAX_VALUE);
+        addEntry("SelectorSequencePointer", 0x00720052, ValueRepresentation.AT, 1);
+        addEntry("SelectorSequencePointerPrivateCreator", 0x00720054, ValueRepresentation.LO, 1);
+        addEntry("SelectorSHValue", 0x0072006C, ValueRepresentation.SH, 1, Integer.MAX_VALUE);
+        addEntry("SelectorSLValue", 0x0072007C, ValueRepresentation.SL, 1, Integer.MAX_VALUE);
+        addEntry("SelectorSSValue", 0x0072007E, ValueRepresentation.SS, 1, Integer.MAX_VALUE);
+        addEntry("SelectorSTValue", 0x0072006E, ValueRepresentation.ST, 1);
+        addEntry("SelectorULValue", 0x00720078, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
+        addEntry("SelectorUSValue", 0x0072007A, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("SelectorUTValue", 0x00720070, ValueRepresentation.UT, 1);
+        addEntry("SelectorValueNumber", 0x00720028, ValueRepresentation.US, 1);
+        addEntry("Sensitivity", 0x00186000, ValueRepresentation.DS, 1);
+        addEntry("SensitivityCalibrated", 0x00189767, ValueRepresentation.CS, 1);
+        addEntry("SequenceDelimitationItem", 0xFFFEE0DD, (ValueRepresentation) null, 1);
+        addEntry("SequenceName", 0x00180024, ValueRepresentation.SH, 1);
+        addEntry("SequenceOfCompressedData", 0x00280403, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("SequenceOfUltrasoundRegions", 0x00186011, ValueRepresentation.SQ, 1);
+        addEntry("SequenceVariant", 0x00180021, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("SeriesDate", 0x00080021, ValueRepresentation.DA, 1);
+        addEntry("SeriesDescription", 0x0008103E, ValueRepresentation.LO, 1);
+        addEntry("SeriesDescriptionCodeSequence", 0x0008103F, ValueRepresentation.SQ, 1);
+        addEntry("SeriesInstanceUID", 0x0020000E, ValueRepresentation.UI, 1);
+        addEntry("SeriesInStudy", 0x00201000, ValueRepresentation.IS, 1);
+        addEntry("SeriesNumber", 0x00200011, ValueRepresentation.IS, 1);
+        addEntry("SeriesTime", 0x00080031, ValueRepresentation.TM, 1);
+        addEntry("SeriesType", 0x00541000, ValueRepresentation.CS, 2);
+        addEntry("ServiceEpisodeDescription", 0x00380062, ValueRepresentation.LO, 1);
+        addEntry("ServiceEpisodeID", 0x00380060, ValueRepresentation.LO, 1);
+        addEntry("SetupDeviceDescription", 0x300A01BA, ValueRepresentation.ST, 1);
+        addEntry("SetupDeviceLabel", 0x300A01B8, ValueRepresentation.SH, 1);
+        addEntry("SetupDeviceParameter", 0x300A01BC, ValueRepresentation.DS, 1);
+        addEntry("SetupDeviceSequence", 0x300A01B4, ValueRepresentation.SQ, 1);
+        addEntry("SetupDeviceType", 0x300A01B6, ValueRepresentation.CS, 1);
+        addEntry("SetupImageComment", 0x300A0402, ValueRepresentation.ST, 1);
+        addEntry("SetupReferenceDescription", 0x300A01D0, ValueRepresentation.ST, 1);
+        addEntry("SetupTechnique", 0x300A01B0, ValueRepresentation.CS, 1);
+        addEntry("SetupTechniqueDescription", 0x300A01B2, ValueRepresentation.ST, 1);
+        addEntry("ShadowColorCIELabValue", 0x00700247, ValueRepresentation.US, 3);
+        addEntry("ShadowOffsetX", 0x00700245, ValueRepresentation.FL, 1);
+        addEntry("ShadowOffsetY", 0x00700246, ValueRepresentation.FL, 1);
+        addEntry("ShadowOpacity", 0x00700258, ValueRepresentation.FL, 1);
+        addEntry("ShadowStyle", 0x00700244, ValueRepresentation.CS, 1);
+        addEntry("ShapeType", 0x00700306, ValueRepresentation.CS, 1);
+        addEntry("SharedFunctionalGroupsSequence", 0x52009229, ValueRepresentation.SQ, 1);
+        addEntry("ShieldingDeviceDescription", 0x300A01A6, ValueRepresentation.ST, 1);
+        addEntry("ShieldingDeviceLabel", 0x300A01A4, ValueRepresentation.SH, 1);
+        addEntry("ShieldingDevicePosition", 0x300A01A8, ValueRepresentation.SH, 1);
+        addEntry("ShieldingDeviceSequence", 0x300A01A0, ValueRepresentation.SQ, 1);
+        addEntry("ShieldingDeviceType", 0x300A01A2, ValueRepresentation.CS, 1);
+        addEntry("ShiftTableSize", 0x10000004, ValueRepresentation.US, 1);
+        addEntry("ShiftTableTriplet", 0x10000005, ValueRepresentation.US, 3);
+        addEntry("ShowAcquisitionTechniquesFlag", 0x00720716, ValueRepresentation.CS, 1);
+        addEntry("ShowGraphicAnnotationFlag", 0x00720712, ValueRepresentation.CS, 1);
+        addEntry("ShowGrayscaleInverted", 0x00720706, ValueRepresentation.CS, 1);
+        addEntry("ShowImageTrueSizeFlag", 0x00720710, ValueRepresentation.CS, 1);
+        addEntry("ShowPatientDemographicsFlag", 0x00720714, ValueRepresentation.CS, 1);
+        addEntry("ShowTickLabel", 0x00700278, ValueRepresentation.CS, 1);
+        addEntry("ShutterLeftVerticalEdge", 0x00181602, ValueRepresentation.IS, 1);
+        addEntry("ShutterLowerHorizontalEdge", 0x00181608, ValueRepresentation.IS, 1);
+        addEntry("ShutterOverlayGroup", 0x00181623, ValueRepresentation.US, 1);
+        addEntry("ShutterPresentationColorCIELabValue", 0x00181624, ValueRepresentation.US, 3);
+        addEntry("ShutterPresentationValue", 0x00181622, ValueRepresentation.US, 1);
+        addEntry("ShutterRightVerticalEdge", 0x00181604, ValueRepresentation.IS, 1);
+        addEntry("ShutterShape", 0x00181600, ValueRepresentation.CS, 1, 3);
+        addEntry("ShutterUpperHorizontalEdge", 0x00181606, ValueRepresentation.IS, 1);
+        addEntry("SignalDomainColumns", 0x00289003, ValueRepresentation.CS, 1);
+        addEntry("SignalDomainRows", 0x00289235, ValueRepresentation.CS, 1);
+        addEntry("Signature", 0x04000120, ValueRepresentation.OB, 1);
+        addEntry("SimpleFrameList", 0x00081161, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
+        addEntry("SingleCollimationWidth", 0x00189306, ValueRepresentation.FD, 1);
+        addEntry("SkipBeats", 0x00181086, ValueRepresentation.IS, 1);
+        addEntry("SkipFrameRangeFlag", 0x00089460, ValueRepresentation.CS, 1);
+        addEntry("SlabOrientation", 0x00189105, ValueRepresentation.FD, 3);
+        addEntry("SlabThickness", 0x00189104, ValueRepresentation.FD, 1);
+        addEntry("SliceLocation", 0x00201041, ValueRepresentation.DS, 1);
+        addEntry("SliceLocationVector", 0x00182005, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("SliceProgressionDirection", 0x00540500, ValueRepresentation.CS, 1);
+        addEntry("SliceSensitivityFactor", 0x00541320, ValueRepresentation.DS, 1);
+        addEntry("SliceThickness", 0x00180050, ValueRepresentation.DS, 1);
+        addEntry("SliceVector", 0x00540080, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("SlideIdentifier", 0x004006FA, ValueRepresentation.LO, 1);
+        addEntry("SmallestImagePixelValue", 0x00280106, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("SmallestImagePixelValueInPlane", 0x00280110, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("SmallestPixelValueInSeries", 0x00280108, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("SmallestValidPixelValue", 0x00280104, new ValueRepresentation[] { ValueRepresentation.US, ValueRepresentation.SS }, 1, 1);
+        addEntry("SmokingStatus", 0x001021A0, ValueRepresentation.CS, 1);
+        addEntry("SmoothingType", 0x20100080, ValueRepresentation.CS, 1);
+        addEntry("SnoutID", 0x300A030F, ValueRepresentation.SH, 1);
+        addEntry("SnoutPosition", 0x300A030D, ValueRepresentation.FL, 1);
+        addEntry("SnoutPositionTolerance", 0x300A004B, ValueRepresentation.FL, 1);
+        addEntry("SnoutSequence", 0x300A030C, ValueRepresentation.SQ, 1);
+        addEntry("SoftcopyVOILUTSequence", 0x00283110, ValueRepresentation.SQ, 1);
+        addEntry("SoftTissueFocusThermalIndex", 0x00185028, ValueRepresentation.DS, 1);
+        addEntry("SoftTissueSurfaceThermalIndex", 0x00185029, ValueRepresentation.DS, 1);
+        addEntry("SoftTissueThermalIndex", 0x00185027, ValueRepresentation.DS, 1);
+        addEntry("SoftwareVersions", 0x00181020, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("SOPAuthorizationComment", 0x01000424, ValueRepresentation.LT, 1);
+        addEntry("SOPAuthorizationDateTime", 0x01000420, ValueRepresentation.DT, 1);
+        addEntry("SOPClassesInStudy", 0x00080062, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
+        addEntry("SOPClassesSupported", 0x0008115A, ValueRepresentation.UI, 1, Integer.MAX_VALUE);
+        addEntry("SOPClassUID", 0x00080016, ValueRepresentation.UI, 1);
+        addEntry("SOPInstanceStatus", 0x01000410, ValueRepresentation.CS, 1);
+        addEntry("SOPInstanceUID", 0x00080018, ValueRepresentation.UI, 1);
+        addEntry("SOPInstanceUIDOfConcatenationSource", 0x00200242, ValueRepresentation.UI, 1);
+        addEntry("SortByCategory", 0x00720602, ValueRepresentation.CS, 1);
+        addEntry("SortingDirection", 0x00720604, ValueRepresentation.CS, 1);
+        addEntry("SortingOperationsSequence", 0x00720600, ValueRepresentation.SQ, 1);
+        addEntry("SourceApplicationEntityTitle", 0x00020016, ValueRepresentation.AE, 1);
+        addEntry("SourceApplicatorID", 0x300A0291, ValueRepresentation.SH, 1);
+        addEntry("SourceApplicatorLength", 0x300A0296, ValueRepresentation.DS, 1);
+        addEntry("SourceApplicatorManufacturer", 0x300A0298, ValueRepresentation.LO, 1);
+        addEntry("SourceApplicatorName", 0x300A0294, ValueRepresentation.LO, 1);
+        addEntry("SourceApplicatorNumber", 0x300A0290, ValueRepresentation.IS, 1);
+        addEntry("SourceApplicatorStepSize", 0x300A02A0, ValueRepresentation.DS, 1);
+        addEntry("SourceApplicatorType", 0x300A0292, ValueRepresentation.CS, 1);
+        addEntry("SourceApplicatorWallNominalThickness", 0x300A029C, ValueRepresentation.DS, 1);
+        addEntry("SourceApplicatorWallNominalTransmission", 0x300A029E, ValueRepresentation.DS, 1);
+        addEntry("SourceAxisDistance", 0x300A00B4, ValueRepresentation.DS, 1);
+        addEntry("SourceEncapsulationNominalThickness", 0x300A0222, ValueRepresentation.DS, 1);
+        addEntry("SourceEncapsulationNominalTransmission", 0x300A0224, ValueRepresentation.DS, 1);
+        addEntry("SourceFrameOfReferenceUID", 0x00640003, ValueRepresentation.UI, 1);
+        addEntry("SourceHangingProtocolSequence", 0x00720012, ValueRepresentation.SQ, 1);
+        addEntry("SourceImageEvidenceSequence", 0x00089154, ValueRepresentation.SQ, 1);
+        addEntry("SourceImageIDs", 0x00203100, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("SourceImageSequence", 0x00082112, ValueRepresentation.SQ, 1);
+        addEntry("SourceInstanceSequence", 0x00420013, ValueRepresentation.SQ, 1);
+        addEntry("SourceIsotopeHalfLife", 0x300A0228, ValueRepresentation.DS, 1);
+        addEntry("SourceIsotopeName", 0x300A0226, ValueRepresentation.LO, 1);
+        addEntry("SourceManufacturer", 0x300A0216, ValueRepresentation.LO, 1);
+        addEntry("SourceMovementType", 0x300A0288, ValueRepresentation.CS, 1);
+        addEntry("SourceNumber", 0x300A0212, ValueRepresentation.IS, 1);
+        addEntry("SourceOfPreviousValues", 0x04000564, ValueRepresentation.LO, 1);
+        addEntry("SourceSequence", 0x300A0210, ValueRepresentation.SQ, 1);
+        addEntry("SourceSerialNumber", 0x30080105, ValueRepresentation.LO, 1);
+        addEntry("SourceStrength", 0x300A022B, ValueRepresentation.DS, 1);
+        addEntry("SourceStrengthReferenceDate", 0x300A022C, ValueRepresentation.DA, 1);
+        addEntry("SourceStrengthReferenceTime", 0x300A022E, ValueRepresentation.TM, 1);
+        addEntry("SourceStrengthUnits", 0x300A0229, ValueRepresentation.CS, 1);
+        addEntry("SourceToBeamLimitingDeviceDistance", 0x300A00BA, ValueRepresentation.DS, 1);
+        addEntry("SourceToBlockTrayDistance", 0x300A00F6, ValueRepresentation.DS, 1);
+        addEntry("SourceToCompensatorDistance", 0x300A02E2, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("SourceToCompensatorTrayDistance", 0x300A00E6, ValueRepresentation.DS, 1);
+        addEntry("SourceToReferenceObjectDistance", 0x30020028, ValueRepresentation.DS, 1);
+        addEntry("SourceToSurfaceDistance", 0x300A0130, ValueRepresentation.DS, 1);
+        addEntry("SourceToWedgeTrayDistance", 0x300A00DA, ValueRepresentation.DS, 1);
+        addEntry("SourceType", 0x300A0214, ValueRepresentation.CS, 1);
+        addEntry("SourceWaveformSequence", 0x003A020A, ValueRepresentation.SQ, 1);
+        addEntry("SpacingBetweenSlices", 0x00180088, ValueRepresentation.DS, 1);
+        addEntry("SpatialLocationsPreserved", 0x0028135A, ValueRepresentation.CS, 1);
+        addEntry("SpatialPresaturation", 0x00189027, ValueRepresentation.CS, 1);
+        addEntry("SpatialResolution", 0x00181050, ValueRepresentation.DS, 1);
+        addEntry("SpecialNeeds", 0x00380050, ValueRepresentation.LO, 1);
+        addEntry("SpecificAbsorptionRateDefinition", 0x00189179, ValueRepresentation.CS, 1);
+        addEntry("SpecificAbsorptionRateSequence", 0x00189239, ValueRepresentation.SQ, 1);
+        addEntry("SpecificAbsorptionRateValue", 0x00189181, ValueRepresentation.FD, 1);
+        addEntry("SpecificCharacterSet", 0x00080005, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("SpecificCharacterSetOfFileSetDescriptorFile", 0x00041142, ValueRepresentation.CS, 1);
+        addEntry("SpecifiedChannelTotalTime", 0x30080132, ValueRepresentation.DS, 1);
+        addEntry("SpecifiedMeterset", 0x30080042, ValueRepresentation.DS, 1);
+        addEntry("SpecifiedNumberOfPulses", 0x30080136, ValueRepresentation.IS, 1);
+        addEntry("SpecifiedPrimaryMeterset", 0x30080032, ValueRepresentation.DS, 1);
+        addEntry("SpecifiedPulseRepetitionInterval", 0x3008013A, ValueRepresentation.DS, 1);
+        addEntry("SpecifiedSecondaryMeterset", 0x30080033, ValueRepresentation.DS, 1);
+        addEntry("SpecifiedTreatmentTime", 0x3008003A, ValueRepresentation.DS, 1);
+        addEntry("SpecimenAccessionNumber", 0x0040050A, ValueRepresentation.LO, 1);
+        addEntry("SpecimenDescriptionSequence", 0x00400560, ValueRepresentation.SQ, 1);
+        addEntry("SpecimenDescriptionSequenceTrial", 0x00400552, ValueRepresentation.SQ, 1);
+        addEntry("SpecimenDescriptionTrial", 0x00400553, ValueRepresentation.ST, 1);
+        addEntry("SpecimenDetailedDescription", 0x00400602, ValueRepresentation.UT, 1);
+        addEntry("SpecimenIdentifier", 0x00400551, ValueRepresentation.LO, 1);
+        addEntry("SpecimenLocalizationContentItemSequence", 0x00400620, ValueRepresentation.SQ, 1);
+        addEntry("SpecimenPreparationSequence", 0x00400610, ValueRepresentation.SQ, 1);
+        addEntry("SpecimenPreparationStepContentItemSequence", 0x00400612, ValueRepresentation.SQ, 1);
+        addEntry("SpecimenSequence", 0x00400550, ValueRepresentation.SQ, 1);
+        addEntry("SpecimenShortDescription", 0x00400600, ValueRepresentation.LO, 1);
+        addEntry("SpecimenTypeCodeSequence", 0x0040059A, ValueRepresentation.SQ, 1);
+        addEntry("SpecimenUID", 0x00400554, ValueRepresentation.UI, 1);
+        addEntry("SpectrallySelectedExcitation", 0x00189026, ValueRepresentation.CS, 1);
+        addEntry("SpectrallySelectedSuppression", 0x00189025, ValueRepresentation.CS, 1);
+        addEntry("SpectralWidth", 0x00189052, ValueRepresentation.FD, 1, 2);
+        addEntry("SpectroscopyAcquisitionDataColumns", 0x00189127, ValueRepresentation.UL, 1);
+        addEntry("SpectroscopyAcquisitionOutOfPlanePhaseSteps", 0x00189159, ValueRepresentation.UL, 1);
+        addEntry("SpectroscopyAcquisitionPhaseColumns", 0x00189234, ValueRepresentation.UL, 1);
+        addEntry("SpectroscopyAcquisitionPhaseRows", 0x00189095, ValueRepresentation.UL, 1);
+        addEntry("SpectroscopyData", 0x56000020, ValueRepresentation.OF, 1);
+        addEntry("SpherePower", 0x00460146, ValueRepresentation.FD, 1);
+        addEntry("SphericalLensPower", 0x00220007, ValueRepresentation.FL, 1);
+        addEntry("SpiralPitchFactor", 0x00189311, ValueRepresentation.FD, 1);
+        addEntry("Spoiling", 0x00189016, ValueRepresentation.CS, 1);
+        addEntry("StackID", 0x00209056, ValueRepresentation.SH, 1);
+        addEntry("StageCodeSequence", 0x0040000A, ValueRepresentation.SQ, 1);
+        addEntry("StageName", 0x00082120, ValueRepresentation.SH, 1);
+        addEntry("StageNumber", 0x00082122, ValueRepresentation.IS, 1);
+        addEntry("StartAcquisitionDateTime", 0x00189516, ValueRepresentation.DT, 1);
+        addEntry("StartAngle", 0x00540200, ValueRepresentation.DS, 1);
+        addEntry("StartCardiacTriggerCountThreshold", 0x00189717, ValueRepresentation.FD, 1);
+        addEntry("StartCumulativeMetersetWeight", 0x300C0008, ValueRepresentation.DS, 1);
+        addEntry("StartDensityThreshold", 0x00189715, ValueRepresentation.FD, 1);
+        addEntry("StartingRespiratoryAmplitude", 0x00209246, ValueRepresentation.FL, 1);
+        addEntry("StartingRespiratoryPhase", 0x00209247, ValueRepresentation.CS, 1);
+        addEntry("StartMeterset", 0x30080078, ValueRepresentation.DS, 1);
+        addEntry("StartRelativeDensityDifferenceThreshold", 0x00189716, ValueRepresentation.FD, 1);
+        addEntry("StartRespiratoryTriggerCountThreshold", 0x00189718, ValueRepresentation.FD, 1);
+        addEntry("StartTrim", 0x00082142, ValueRepresentation.IS, 1);
+        addEntry("StationName", 0x00081010, ValueRepresentation.SH, 1);
+        addEntry("Status", 0x00000900, ValueRepresentation.US, 1);
+        addEntry("SteadyStatePulseSequence", 0x00189017, ValueRepresentation.CS, 1);
+        addEntry("SteepKeratometricAxisSequence", 0x00460074, ValueRepresentation.SQ, 1);
+        addEntry("SteeringAngle", 0x00186036, ValueRepresentation.FD, 1);
+        addEntry("StereoBaselineAngle", 0x00220010, ValueRepresentation.FL, 1);
+        addEntry("StereoBaselineDisplacement", 0x00220011, ValueRepresentation.FL, 1);
+        addEntry("StereoHorizontalPixelOffset", 0x00220012, ValueRepresentation.FL, 1);
+        addEntry("StereoPairsSequence", 0x00220020, ValueRepresentation.SQ, 1);
+        addEntry("StereoRotation", 0x00220014, ValueRepresentation.FL, 1);
+        addEntry("StereoVerticalPixelOffset", 0x00220013, ValueRepresentation.FL, 1);
+        addEntry("StopTrim", 0x00082143, ValueRepresentation.IS, 1);
+        addEntry("StorageMediaFileSetID", 0x00880130, ValueRepresentation.SH, 1);
+        addEntry("StorageMediaFileSetUID", 0x00880140, ValueRepresentation.UI, 1);
+        addEntry("StructuredDisplayBackgroundCIELabValue", 0x00720420, ValueRepresentation.US, 3);
+        addEntry("StructuredDisplayImageBoxSequence", 0x00720422, ValueRepresentation.SQ, 1);
+        addEntry("StructuredDisplayTextBoxSequence", 0x00720424, ValueRepresentation.SQ, 1);
+        addEntry("StructureSetDate", 0x30060008, ValueRepresentation.DA, 1);
+        addEntry("StructureSetDescription", 0x30060006, ValueRepresentation.ST, 1);
+        addEntry("StructureSetLabel", 0x30060002, ValueRepresentation.SH, 1);
+        addEntry("StructureSetName", 0x30060004, ValueRepresentation.LO, 1);
+        addEntry("StructureSetROISequence", 0x30060020, ValueRepresentation.SQ, 1);
+        addEntry("StructureSetTime", 0x30060009, ValueRepresentation.TM, 1);
+        addEntry("StudiesContainingOtherReferencedInstancesSequence", 0x00081200, ValueRepresentation.SQ, 1);
+        addEntry("StudyArrivalDate", 0x00321040, ValueRepresentation.DA, 1);
+        addEntry("StudyArrivalTime", 0x00321041, ValueRepresentation.TM, 1);
+        addEntry("StudyComments", 0x00324000, ValueRepresentation.LT, 1);
+        addEntry("StudyCompletionDate", 0x00321050, ValueRepresentation.DA, 1);
+        addEntry("StudyCompletionTime", 0x00321051, ValueRepresentation.TM, 1);
+        addEntry("StudyComponentStatusID", 0x00321055, ValueRepresentation.CS, 1);
+        addEntry("StudyDate", 0x00080020, ValueRepresentation.DA, 1);
+        addEntry("StudyDescription", 0x00081030, ValueRepresentation.LO, 1);
+        addEntry("StudyID", 0x00200010, ValueRepresentation.SH, 1);
+        addEntry("StudyIDIssuer", 0x00320012, ValueRepresentation.LO, 1);
+        addEntry("StudyInstanceUID", 0x0020000D, ValueRepresentation.UI, 1);
+        addEntry("StudyPriorityID", 0x0032000C, ValueRepresentation.CS, 1);
+        addEntry("StudyReadDate", 0x00320034, ValueRepresentation.DA, 1);
+        addEntry("StudyReadTime", 0x00320035, ValueRepresentation.TM, 1);
+        addEntry("StudyStatusID", 0x0032000A, ValueRepresentation.CS, 1);
+        addEntry("StudyTime", 0x00080030, ValueRepresentation.TM, 1);
+        addEntry("StudyVerifiedDate", 0x00320032, ValueRepresentation.DA, 1);
+        addEntry("StudyVerifiedTime", 0x00320033, ValueRepresentation.TM, 1);
+        addEntry("SubjectiveRefractionLeftEyeSequence", 0x00460098, ValueRepresentation.SQ, 1);
+        addEntry("SubjectiveRefractionRightEyeSequence", 0x00460097, ValueRepresentation.SQ, 1);
+        addEntry("SubscriptionListStatus", 0x00741244, ValueRepresentation.CS, 1);
+        addEntry("SubstanceAdministrationApproval", 0x00440002, ValueRepresentation.CS, 1);
+        addEntry("SubstanceAdministrationDateTime", 0x00440010, ValueRepresentation.DT, 1);
+        addEntry("SubstanceAdministrationDeviceID", 0x00440012, ValueRepresentation.LO, 1);
+        addEntry("SubstanceAdministrationNotes", 0x00440011, ValueRepresentation.LO, 1);
+        addEntry("SubstanceAdministrationParameterSequence", 0x00440019, ValueRepresentation.SQ, 1);
+        addEntry("SubtractionItemID", 0x00289416, ValueRepresentation.US, 1);
+        addEntry("SupportedImageDisplayFormatsSequence", 0x200000A8, ValueRepresentation.SQ, 1);
+        addEntry("SurfaceComments", 0x00660004, ValueRepresentation.LT, 1);
+        addEntry("SurfaceCount", 0x0066002A, ValueRepresentation.UL, 1);
+        addEntry("SurfaceEntryPoint", 0x300A012E, ValueRepresentation.DS, 3);
+        addEntry("SurfaceMeshPrimitivesSequence", 0x00660013, ValueRepresentation.SQ, 1);
+        addEntry("SurfaceNumber", 0x00660003, ValueRepresentation.UL, 1);
+        addEntry("SurfacePointsNormalsSequence", 0x00660012, ValueRepresentation.SQ, 1);
+        addEntry("SurfacePointsSequence", 0x00660011, ValueRepresentation.SQ, 1);
+        addEntry("SurfaceProcessing", 0x00660009, ValueRepresentation.CS, 1);
+        addEntry("SurfaceProcessingAlgorithmIdentificationSequence", 0x00660035, ValueRepresentation.SQ, 1);
+        addEntry("SurfaceProcessingDescription", 0x0066000B, ValueRepresentation.LO, 1);
+        addEntry("SurfaceProcessingRatio", 0x0066000A, ValueRepresentation.FL, 1);
+        addEntry("SurfaceSequence", 0x00660002, ValueRepresentation.SQ, 1);
+        addEntry("SynchronizationChannel", 0x0018106C, ValueRepresentation.US, 2);
+        addEntry("SynchronizationFrameOfReferenceUID", 0x00200200, ValueRepresentation.UI, 1);
+        addEntry("SynchronizationTrigger", 0x0018106A, ValueRepresentation.CS, 1);
+        addEntry("SynchronizedImageBoxList", 0x00720432, ValueRepresentation.US, 2, Integer.MAX_VALUE);
+        addEntry("SynchronizedScrollingSequence", 0x00720210, ValueRepresentation.SQ, 1);
+        addEntry("SyringeCounts", 0x00181045, ValueRepresentation.IS, 1);
+        addEntry("T", 0x00189021, ValueRepresentation.CS, 1);
+        addEntry("TableAngle", 0x00181138, ValueRepresentation.DS, 1);
+        addEntry("TableCradleTiltAngle", 0x00189471, ValueRepresentation.FL, 1);
+        addEntry("TableFeedPerRotation", 0x00189310, ValueRepresentation.FD, 1);
+        addEntry("TableFrameOfReferenceUID", 0x00209313, ValueRepresentation.UI, 1);
+        addEntry("TableHeadTiltAngle", 0x00189470, ValueRepresentation.FL, 1);
+        addEntry("TableHeight", 0x00181130, ValueRepresentation.DS, 1);
+        addEntry("TableHorizontalRotationAngle", 0x00189469, ValueRepresentation.FL, 1);
+        addEntry("TableLateralIncrement", 0x00181136, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("TableLongitudinalIncrement", 0x00181137, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("TableMotion", 0x00181134, ValueRepresentation.CS, 1);
+        addEntry("TableOfParameterValues", 0x0018605A, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("TableOfPixelValues", 0x00186058, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
+        addEntry("TableOfXBreakPoints", 0x00186052, ValueRepresentation.UL, 1, Integer.MAX_VALUE);
+        addEntry("TableOfYBreakPoints", 0x00186054, ValueRepresentation.FD, 1, Integer.MAX_VALUE);
+        addEntry("TablePosition", 0x00189327, ValueRepresentation.FD, 1);
+        addEntry("TablePositionSequence", 0x00189406, ValueRepresentation.SQ, 1);
+        addEntry("TableSpeed", 0x00189309, ValueRepresentation.FD, 1);
+        addEntry("TableTopEccentricAngle", 0x300A0125, ValueRepresentation.DS, 1);
+        addEntry("TableTopEccentricAngleTolerance", 0x300A004E, ValueRepresentation.DS, 1);
+        addEntry("TableTopEccentricAxisDistance", 0x300A0124, ValueRepresentation.DS, 1);
+        addEntry("TableTopEccentricRotationDirection", 0x300A0126, ValueRepresentation.CS, 1);
+        addEntry("TableTopLateralPosition", 0x300A012A, ValueRepresentation.DS, 1);
+        addEntry("TableTopLateralPositionTolerance", 0x300A0053, ValueRepresentation.DS, 1);
+        addEntry("TableTopLateralSetupDisplacement", 0x300A01D6, ValueRepresentation.DS, 1);
+        addEntry("TableTopLongitudinalPosition", 0x300A0129, ValueRepresentation.DS, 1);
+        addEntry("TableTopLongitudinalPositionTolerance", 0x300A0052, ValueRepresentation.DS, 1);
+        addEntry("TableTopLongitudinalSetupDisplacement", 0x300A01D4, ValueRepresentation.DS, 1);
+        addEntry("TableTopPitchAngle", 0x300A0140, ValueRepresentation.FL, 1);
+        addEntry("TableTopPitchAngleTolerance", 0x300A004F, ValueRepresentation.FL, 1);
+        addEntry("TableTopPitchRotationDirection", 0x300A0142, ValueRepresentation.CS, 1);
+        addEntry("TableTopRollAngle", 0x300A0144, ValueRepresentation.FL, 1);
+        addEntry("TableTopRollAngleTolerance", 0x300A0050, ValueRepresentation.FL, 1);
+        addEntry("TableTopRollRotationDirection", 0x300A0146, ValueRepresentation.CS, 1);
+        addEntry("TableTopVerticalPosition", 0x300A0128, ValueRepresentation.DS, 1);
+        addEntry("TableTopVerticalPositionTolerance", 0x300A0051, ValueRepresentation.DS, 1);
+        addEntry("TableTopVerticalSetupDisplacement", 0x300A01D2, ValueRepresentation.DS, 1);
+        addEntry("TableTraverse", 0x00181131, ValueRepresentation.DS, 1);
+        addEntry("TableType", 0x0018113A, ValueRepresentation.CS, 1);
+        addEntry("TableVerticalIncrement", 0x00181135, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("TableXPositionToIsocenter", 0x00189466, ValueRepresentation.FL, 1);
+        addEntry("TableYPositionToIsocenter", 0x00189467, ValueRepresentation.FL, 1);
+        addEntry("TableZPositionToIsocenter", 0x00189468, ValueRepresentation.FL, 1);
+        addEntry("TagAngleFirstAxis", 0x00189019, ValueRepresentation.FD, 1);
+        addEntry("TagAngleSecondAxis", 0x00189219, ValueRepresentation.SS, 1);
+        addEntry("Tagging", 0x00189028, ValueRepresentation.CS, 1);
+        addEntry("TaggingDelay", 0x00189184, ValueRepresentation.FD, 1);
+        addEntry("TagSpacingFirstDimension", 0x00189030, ValueRepresentation.FD, 1);
+        addEntry("TagSpacingSecondDimension", 0x00189218, ValueRepresentation.FD, 1);
+        addEntry("TagThickness", 0x00189035, ValueRepresentation.FD, 1);
+        addEntry("TargetExposureIndex", 0x00181412, ValueRepresentation.DS, 1);
+        addEntry("TargetMaximumDose", 0x300A0027, ValueRepresentation.DS, 1);
+        addEntry("TargetMinimumDose", 0x300A0025, ValueRepresentation.DS, 1);
+        addEntry("TargetPrescriptionDose", 0x300A0026, ValueRepresentation.DS, 1);
+        addEntry("TargetUnderdoseVolumeFraction", 0x300A0028, ValueRepresentation.DS, 1);
+        addEntry("TelephoneNumberTrial", 0x0040A354, ValueRepresentation.LO, 1);
+        addEntry("TemplateExtensionCreatorUID", 0x0040DB0D, ValueRepresentation.UI, 1);
+        addEntry("TemplateExtensionFlag", 0x0040DB0B, ValueRepresentation.CS, 1);
+        addEntry("TemplateExtensionOrganizationUID", 0x0040DB0C, ValueRepresentation.UI, 1);
+        addEntry("TemplateIdentifier", 0x0040DB00, ValueRepresentation.CS, 1);
+        addEntry("TemplateLocalVersion", 0x0040DB07, ValueRepresentation.DT, 1);
+        addEntry("TemplateName", 0x300A0244, ValueRepresentation.LO, 1);
+        addEntry("TemplateNumber", 0x300A0240, ValueRepresentation.IS, 1);
+        addEntry("TemplateType", 0x300A0242, ValueRepresentation.SH, 1);
+        addEntry("TemplateVersion", 0x0040DB06, ValueRepresentation.DT, 1);
+        addEntry("TemporalPositionIdentifier", 0x00200100, ValueRepresentation.IS, 1);
+        addEntry("TemporalPositionIndex", 0x00209128, ValueRepresentation.UL, 1);
+        addEntry("TemporalPositionSequence", 0x00209310, ValueRepresentation.SQ, 1);
+        addEntry("TemporalPositionTimeOffset", 0x0020930D, ValueRepresentation.FD, 1);
+        addEntry("TemporalRangeType", 0x0040A130, ValueRepresentation.CS, 1);
+        addEntry("TemporalResolution", 0x00200110, ValueRepresentation.DS, 1);
+        addEntry("TerminalType", 0x00004010, ValueRepresentation.AT, 1);
+        addEntry("TerminationCardiacTriggerCountThreshold", 0x00189723, ValueRepresentation.FD, 1);
+        addEntry("TerminationCountsThreshold", 0x00189719, ValueRepresentation.FD, 1);
+        addEntry("TerminationDensityThreshold", 0x00189720, ValueRepresentation.FD, 1);
+        addEntry("TerminationRelativeDensityThreshold", 0x00189721, ValueRepresentation.FD, 1);
+        addEntry("TerminationRespiratoryTriggerCountThreshold", 0x00189724, ValueRepresentation.FD, 1);
+        addEntry("TerminationTimeThreshold", 0x00189722, ValueRepresentation.FD, 1);
+        addEntry("TextColorCIELabValue", 0x00700241, ValueRepresentation.US, 3);
+        addEntry("TextComments", 0x40004000, ValueRepresentation.LT, 1);
+        addEntry("TextFormatID", 0x00005130, ValueRepresentation.CS, 1);
+        addEntry("TextObjectSequence", 0x00700008, ValueRepresentation.SQ, 1);
+        addEntry("TextString", 0x20300020, ValueRepresentation.LO, 1);
+        addEntry("TextStyleSequence", 0x00700231, ValueRepresentation.SQ, 1);
+        addEntry("TextValue", 0x0040A160, ValueRepresentation.UT, 1);
+        addEntry("TherapyDescription", 0x00180039, ValueRepresentation.CS, 1);
+        addEntry("TherapyType", 0x00180037, ValueRepresentation.CS, 1);
+        addEntry("ThreeDRenderingType", 0x00720520, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("ThresholdDensity", 0x20400100, ValueRepresentation.CS, 1);
+        addEntry("TickAlignment", 0x00700274, ValueRepresentation.CS, 1);
+        addEntry("TickLabel", 0x00700289, ValueRepresentation.SH, 1);
+        addEntry("TickLabelAlignment", 0x00700279, ValueRepresentation.CS, 1);
+        addEntry("TickPosition", 0x00700288, ValueRepresentation.FL, 1);
+        addEntry("TIDOffset", 0x00286120, ValueRepresentation.SS, 1);
+        addEntry("Time", 0x0040A122, ValueRepresentation.TM, 1);
+        addEntry("TimeBasedImageSetsSequence", 0x00720030, ValueRepresentation.SQ, 1);
+        addEntry("TimeDistributionProtocol", 0x00181802, ValueRepresentation.CS, 1);
+        addEntry("TimeDomainFiltering", 0x00189065, ValueRepresentation.CS, 1, 2);
+        addEntry("TimeOfFlightContrast", 0x00189015, ValueRepresentation.CS, 1);
+        addEntry("TimeOfFlightInformationUsed", 0x00189755, ValueRepresentation.CS, 1);
+        addEntry("TimeOfLastCalibration", 0x00181201, ValueRepresentation.TM, 1, Integer.MAX_VALUE);
+        addEntry("TimeOfLastDetectorCalibration", 0x0018700E, ValueRepresentation.TM, 1);
+        addEntry("TimeOfSecondaryCapture", 0x00181014, ValueRepresentation.TM, 1);
+        addEntry("TimeRange", 0x00081163, ValueRepresentation.FD, 2);
+        addEntry("TimeSliceVector", 0x00540100, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("TimeSlotInformationSequence", 0x00540072, ValueRepresentation.SQ, 1);
+        addEntry("TimeSlotNumber", 0x00200017, ValueRepresentation.IS, 1);
+        addEntry("TimeSlotTime", 0x00540073, ValueRepresentation.DS, 1);
+        addEntry("TimeSlotVector", 0x00540070, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("TimeSource", 0x00181801, ValueRepresentation.SH, 1);
+        addEntry("TimezoneOffsetFromUTC", 0x00080201, ValueRepresentation.SH, 1);
+        addEntry("TissueHeterogeneityCorrection", 0x30040014, ValueRepresentation.CS, 1, 3);
+        addEntry("TMLinePositionX", 0x0018603D, ValueRepresentation.SL, 1);
+        addEntry("TMLinePositionX", 0x0018603C, ValueRepresentation.UL, 1);
+        addEntry("TMLinePositionX", 0x00186041, ValueRepresentation.SL, 1);
+        addEntry("TMLinePositionX", 0x00186040, ValueRepresentation.UL, 1);
+        addEntry("TMLinePositionY", 0x0018603F, ValueRepresentation.SL, 1);
+        addEntry("TMLinePositionY", 0x0018603E, ValueRepresentation.UL, 1);
+        addEntry("TMLinePositionY", 0x00186043, ValueRepresentation.SL, 1);
+        addEntry("TMLinePositionY", 0x00186042, ValueRepresentation.UL, 1);
+        addEntry("ToleranceTableLabel", 0x300A0043, ValueRepresentation.SH, 1);
+        addEntry("ToleranceTableNumber", 0x300A0042, ValueRepresentation.IS, 1);
+        addEntry("ToleranceTableSequence", 0x300A0040, ValueRepresentation.SQ, 1);
+        addEntry("TomoAngle", 0x00181470, ValueRepresentation.DS, 1);
+        addEntry("TomoClass", 0x00181491, ValueRepresentation.CS, 1);
+        addEntry("TomoLayerHeight", 0x00181460, ValueRepresentation.DS, 1);
+        addEntry("TomoTime", 0x00181480, ValueRepresentation.DS, 1);
+        addEntry("TomoType", 0x00181490, ValueRepresentation.CS, 1);
+        addEntry("TopicAuthor", 0x00880910, ValueRepresentation.LO, 1);
+        addEntry("TopicKeywords", 0x00880912, ValueRepresentation.LO, 1, 32);
+        addEntry("TopicSubject", 0x00880906, ValueRepresentation.ST, 1);
+        addEntry("TopicTitle", 0x00880904, ValueRepresentation.LO, 1);
+        addEntry("TotalBlockTrayFactor", 0x300A00F2, ValueRepresentation.DS, 1);
+        addEntry("TotalBlockTrayWaterEquivalentThickness", 0x300A00F3, ValueRepresentation.FL, 1);
+        addEntry("TotalCollimationWidth", 0x00189307, ValueRepresentation.FD, 1);
+        addEntry("TotalCompensatorTrayFactor", 0x300A00E2, ValueRepresentation.DS, 1);
+        addEntry("TotalCompensatorTrayWaterEquivalentThickness", 0x300A02E3, ValueRepresentation.FL, 1);
+        addEntry("TotalGain", 0x00185040, ValueRepresentation.DS, 1);
+        addEntry("TotalNumberOfExposures", 0x00400301, ValueRepresentation.US, 1);
+        addEntry("TotalNumberOfPiecesOfMediaCreated", 0x2200000B, ValueRepresentation.US, 1);
+        addEntry("TotalReferenceAirKerma", 0x300A0250, ValueRepresentation.DS, 1);
+        addEntry("TotalTime", 0x5000200A, ValueRepresentation.UL, 1);
+        addEntry("TotalTimeOfFluoroscopy", 0x00400300, ValueRepresentation.US, 1);
+        addEntry("TotalWedgeTrayWaterEquivalentThickness", 0x300A00D7, ValueRepresentation.FL, 1);
+        addEntry("TransactionUID", 0x00081195, ValueRepresentation.UI, 1);
+        addEntry("TransducerApplicationCodeSequence", 0x0018980F, ValueRepresentation.SQ, 1);
+        addEntry("TransducerBeamSteeringCodeSequence", 0x0018980E, ValueRepresentation.SQ, 1);
+        addEntry("TransducerData", 0x00185010, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("TransducerFrequency", 0x00186030, ValueRepresentation.UL, 1);
+        addEntry("TransducerGeometryCodeSequence", 0x0018980D, ValueRepresentation.SQ, 1);
+        addEntry("TransducerOrientation", 0x00082204, ValueRepresentation.CS, 1);
+        addEntry("TransducerOrientationModifierSequence", 0x00082246, ValueRepresentation.SQ, 1);
+        addEntry("TransducerOrientationSequence", 0x00082244, ValueRepresentation.SQ, 1);
+        addEntry("TransducerPosition", 0x00082200, ValueRepresentation.CS, 1);
+        addEntry("TransducerPositionModifierSequence", 0x00082242, ValueRepresentation.SQ, 1);
+        addEntry("TransducerPositionSequence", 0x00082240, ValueRepresentation.SQ, 1);
+        addEntry("TransducerScanPatternCodeSequence", 0x00189809, ValueRepresentation.SQ, 1);
+        addEntry("TransducerType", 0x00186031, ValueRepresentation.CS, 1);
+        addEntry("TransferSyntaxUID", 0x00020010, ValueRepresentation.UI, 1);
+        addEntry("TransferTubeLength", 0x300A02A4, ValueRepresentation.DS, 1);
+        addEntry("TransferTubeNumber", 0x300A02A2, ValueRepresentation.IS, 1);
+        addEntry("TransformLabel", 0x00280400, ValueRepresentation.LO, 1);
+        addEntry("TransformVersionNumber", 0x00280401, ValueRepresentation.LO, 1);
+        addEntry("TransmitCoilManufacturerName", 0x00189050, ValueRepresentation.LO, 1);
+        addEntry("TransmitCoilName", 0x00181251, ValueRepresentation.SH, 1);
+        addEntry("TransmitCoilType", 0x00189051, ValueRepresentation.CS, 1);
+        addEntry("TransmitterFrequency", 0x00189098, ValueRepresentation.FD, 1, 2);
+        addEntry("TransverseDetectorSeparation", 0x00189726, ValueRepresentation.FD, 1);
+        addEntry("TransverseMash", 0x00541202, ValueRepresentation.IS, 1);
+        addEntry("TreatmentControlPointDate", 0x30080024, ValueRepresentation.DA, 1);
+        addEntry("TreatmentControlPointTime", 0x30080025, ValueRepresentation.TM, 1);
+        addEntry("TreatmentDate", 0x30080250, ValueRepresentation.DA, 1);
+        addEntry("TreatmentDeliveryType", 0x300A00CE, ValueRepresentation.CS, 1);
+        addEntry("TreatmentMachineName", 0x300A00B2, ValueRepresentation.SH, 1);
+        addEntry("TreatmentMachineSequence", 0x300A0206, ValueRepresentation.SQ, 1);
+        addEntry("TreatmentProtocols", 0x300A0009, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("TreatmentSessionApplicationSetupSequence", 0x30080110, ValueRepresentation.SQ, 1);
+        addEntry("TreatmentSessionBeamSequence", 0x30080020, ValueRepresentation.SQ, 1);
+        addEntry("TreatmentSessionIonBeamSequence", 0x30080021, ValueRepresentation.SQ, 1);
+        addEntry("TreatmentSites", 0x300A000B, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("TreatmentStatusComment", 0x30080202, ValueRepresentation.ST, 1);
+        addEntry("TreatmentSummaryCalculatedDoseReferenceSequence", 0x30080050, ValueRepresentation.SQ, 1);
+        addEntry("TreatmentSummaryMeasuredDoseReferenceSequence", 0x300800E0, ValueRepresentation.SQ, 1);
+        addEntry("TreatmentTerminationCode", 0x3008002B, ValueRepresentation.SH, 1);
+        addEntry("TreatmentTerminationStatus", 0x3008002A, ValueRepresentation.CS, 1);
+        addEntry("TreatmentTime", 0x30080251, ValueRepresentation.TM, 1);
+        addEntry("TreatmentVerificationStatus", 0x3008002C, ValueRepresentation.CS, 1);
+        addEntry("TriangleFanSequence", 0x00660027, ValueRepresentation.SQ, 1);
+        addEntry("TrianglePointIndexList", 0x00660023, ValueRepresentation.OW, 1);
+        addEntry("TriangleStripSequence", 0x00660026, ValueRepresentation.SQ, 1);
+        addEntry("TriggerSamplePosition", 0x0018106E, ValueRepresentation.UL, 1);
+        addEntry("TriggerSourceOrType", 0x00181061, ValueRepresentation.LO, 1);
+        addEntry("TriggerTime", 0x00181060, ValueRepresentation.DS, 1);
+        addEntry("TriggerTimeOffset", 0x00181069, ValueRepresentation.DS, 1);
+        addEntry("TriggerVector", 0x00540210, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("TriggerWindow", 0x00181094, ValueRepresentation.IS, 1);
+        addEntry("Trim", 0x20100140, ValueRepresentation.CS, 1);
+        addEntry("TubeAngle", 0x00189303, ValueRepresentation.FD, 1);
+        addEntry("TypeOfData", 0x50000020, ValueRepresentation.CS, 1);
+        addEntry("TypeOfDetectorMotion", 0x00540202, ValueRepresentation.CS, 1);
+        addEntry("TypeOfFilters", 0x00181161, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("TypeOfPatientID", 0x00100022, ValueRepresentation.CS, 1);
+        addEntry("TypeOfSynchronization", 0x00720434, ValueRepresentation.CS, 1);
+        addEntry("UID", 0x0040A124, ValueRepresentation.UI, 1);
+        addEntry("UltrasoundAcquisitionGeometry", 0x00209307, ValueRepresentation.CS, 1);
+        addEntry("UltrasoundColorDataPresent", 0x00280014, ValueRepresentation.US, 1);
+        addEntry("Underlined", 0x00700248, ValueRepresentation.CS, 1);
+        addEntry("UnformattedTextValue", 0x00700006, ValueRepresentation.ST, 1);
+        addEntry("UnifiedProcedureStepCommunicationsURISequence", 0x00741008, ValueRepresentation.SQ, 1);
+        addEntry("UnifiedProcedureStepDiscontinuationReasonCodeSequence", 0x0074100E, ValueRepresentation.SQ, 1);
+        addEntry("UnifiedProcedureStepListStatus", 0x00741246, ValueRepresentation.CS, 1);
+        addEntry("UnifiedProcedureStepPerformedProcedureSequence", 0x00741216, ValueRepresentation.SQ, 1);
+        addEntry("UnifiedProcedureStepProgress", 0x00741004, ValueRepresentation.DS, 1);
+        addEntry("UnifiedProcedureStepProgressDescription", 0x00741006, ValueRepresentation.ST, 1);
+        addEntry("UnifiedProcedureStepProgressInformationSequence", 0x00741002, ValueRepresentation.SQ, 1);
+        addEntry("UnifiedProcedureStepState", 0x00741000, ValueRepresentation.CS, 1);
+        addEntry("Units", 0x00541001, ValueRepresentation.CS, 1);
+        addEntry("UniversalEntityID", 0x00400032, ValueRepresentation.UT, 1);
+        addEntry("UniversalEntityIDType", 0x00400033, ValueRepresentation.CS, 1);
+        addEntry("UnspecifiedLateralityLensSequence", 0x00460016, ValueRepresentation.SQ, 1);
+        addEntry("UpperLowerPixelValues", 0x00181240, ValueRepresentation.IS, 1, Integer.MAX_VALUE);
+        addEntry("UsedFiducialsSequence", 0x00700314, ValueRepresentation.SQ, 1);
+        addEntry("USImageDescriptionSequence", 0x00189806, ValueRepresentation.SQ, 1);
+        addEntry("ValueType", 0x0040A040, ValueRepresentation.CS, 1);
+        addEntry("VariableCoefficientsSDDN", 0x7F000040, ValueRepresentation.OW, 1);
+        addEntry("VariableCoefficientsSDHN", 0x7F000030, ValueRepresentation.OW, 1);
+        addEntry("VariableCoefficientsSDVN", 0x7F000020, ValueRepresentation.OW, 1);
+        addEntry("VariableFlipAngleFlag", 0x00181315, ValueRepresentation.CS, 1);
+        addEntry("VariableNextDataGroup", 0x7F000011, ValueRepresentation.US, 1);
+        addEntry("VariablePixelData", 0x7F000010, new ValueRepresentation[] { ValueRepresentation.OW, ValueRepresentation.OB }, 1, 1);
+        addEntry("VectorAccuracy", 0x00660020, ValueRepresentation.FL, 1, Integer.MAX_VALUE);
+        addEntry("VectorCoordinateData", 0x00660021, ValueRepresentation.OF, 1);
+        addEntry("VectorDimensionality", 0x0066001F, ValueRepresentation.US, 1);
+        addEntry("VectorGridData", 0x00640009, ValueRepresentation.OF, 1);
+        addEntry("VelocityEncodingDirection", 0x00189090, ValueRepresentation.FD, 3);
+        addEntry("VelocityEncodingMaximumValue", 0x00189217, ValueRepresentation.FD, 1);
+        addEntry("VelocityEncodingMinimumValue", 0x00189091, ValueRepresentation.FD, 1);
+        addEntry("VerificationDateTime", 0x0040A030, ValueRepresentation.DT, 1);
+        addEntry("VerificationFlag", 0x0040A493, ValueRepresentation.CS, 1);
+        addEntry("VerificationImageTiming", 0x00741032, ValueRepresentation.CS, 1);
+        addEntry("VerifyingObserverIdentificationCodeSequence", 0x0040A088, ValueRepresentation.SQ, 1);
+        addEntry("VerifyingObserverName", 0x0040A075, ValueRepresentation.PN, 1);
+        addEntry("VerifyingObserverSequence", 0x0040A073, ValueRepresentation.SQ, 1);
+        addEntry("VerifyingOrganization", 0x0040A027, ValueRepresentation.LO, 1);
+        addEntry("VertexPointIndexList", 0x00660025, ValueRepresentation.OW, 1);
+        addEntry("VerticalAlignment", 0x00700243, ValueRepresentation.CS, 1);
+        addEntry("VerticalPrismBase", 0x00460036, ValueRepresentation.CS, 1);
+        addEntry("VerticalPrismPower", 0x00460034, ValueRepresentation.FD, 1);
+        addEntry("VerticesOfThePolygonalCollimator", 0x00181720, ValueRepresentation.IS, 2, Integer.MAX_VALUE / 2);
+        addEntry("VerticesOfThePolygonalExposureControlSensingRegion", 0x00189442, ValueRepresentation.SS, 2, Integer.MAX_VALUE);
+        addEntry("VerticesOfThePolygonalShutter", 0x00181620, ValueRepresentation.IS, 2, Integer.MAX_VALUE / 2);
+        addEntry("VerticesOfTheRegion", 0x00289503, ValueRepresentation.SS, 2, Integer.MAX_VALUE / 2);
+        addEntry("VideoImageFormatAcquired", 0x00181022, ValueRepresentation.SH, 1);
+        addEntry("ViewCodeSequence", 0x00540220, ValueRepresentation.SQ, 1);
+        addEntry("ViewingDistance", 0x00460106, ValueRepresentation.FD, 1);
+        addEntry("ViewingDistanceType", 0x00460125, ValueRepresentation.CS, 1);
+        addEntry("ViewModifierCodeSequence", 0x00540222, ValueRepresentation.SQ, 1);
+        addEntry("ViewName", 0x00082127, ValueRepresentation.SH, 1);
+        addEntry("ViewNumber", 0x00082128, ValueRepresentation.IS, 1);
+        addEntry("ViewPosition", 0x00185101, ValueRepresentation.CS, 1);
+        addEntry("VirtualSourceAxisDistances", 0x300A030A, ValueRepresentation.FL, 2);
+        addEntry("VisitComments", 0x00384000, ValueRepresentation.LT, 1);
+        addEntry("VisitStatusID", 0x00380008, ValueRepresentation.CS, 1);
+        addEntry("VisualAcuityBothEyesOpenSequence", 0x00460124, ValueRepresentation.SQ, 1);
+        addEntry("VisualAcuityLeftEyeSequence", 0x00460123, ValueRepresentation.SQ, 1);
+        addEntry("VisualAcuityModifiers", 0x00460135, ValueRepresentation.SS, 2);
+        addEntry("VisualAcuityRightEyeSequence", 0x00460122, ValueRepresentation.SQ, 1);
+        addEntry("VisualAcuityTypeCodeSequence", 0x00460121, ValueRepresentation.SQ, 1);
+        addEntry("VitalStainCodeSequenceTrial", 0x004009F8, ValueRepresentation.SQ, 1);
+        addEntry("VOILUTFunction", 0x00281056, ValueRepresentation.CS, 1);
+        addEntry("VOILUTSequence", 0x00283010, ValueRepresentation.SQ, 1);
+        addEntry("VOIType", 0x00720702, ValueRepresentation.CS, 1);
+        addEntry("VolumeBasedCalculationTechnique", 0x00089207, ValueRepresentation.CS, 1);
+        addEntry("VolumeFrameOfReferenceUID", 0x00209312, ValueRepresentation.UI, 1);
+        addEntry("VolumeLocalizationSequence", 0x00189126, ValueRepresentation.SQ, 1);
+        addEntry("VolumeLocalizationTechnique", 0x00189054, ValueRepresentation.CS, 1);
+        addEntry("VolumeToTableMappingMatrix", 0x0020930A, ValueRepresentation.FD, 16);
+        addEntry("VolumeToTransducerMappingMatrix", 0x00209309, ValueRepresentation.FD, 16);
+        addEntry("VolumetricProperties", 0x00089206, ValueRepresentation.CS, 1);
+        addEntry("WaterReferencedPhaseCorrection", 0x00189199, ValueRepresentation.CS, 1);
+        addEntry("WaveformAnnotationSequence", 0x0040B020, ValueRepresentation.SQ, 1);
+        addEntry("WaveformBitsAllocated", 0x54001004, ValueRepresentation.US, 1);
+        addEntry("WaveformBitsStored", 0x003A021A, ValueRepresentation.US, 1);
+        addEntry("WaveformChannelNumber", 0x003A0202, ValueRepresentation.IS, 1);
+        addEntry("WaveformData", 0x54001010, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
+        addEntry("WaveformDataDisplayScale", 0x003A0230, ValueRepresentation.FL, 1);
+        addEntry("WaveformDisplayBackgroundCIELabValue", 0x003A0231, ValueRepresentation.US, 3);
+        addEntry("WaveformOriginality", 0x003A0004, ValueRepresentation.CS, 1);
+        addEntry("WaveformPaddingValue", 0x5400100A, new ValueRepresentation[] { ValueRepresentation.OB, ValueRepresentation.OW }, 1, 1);
+        addEntry("WaveformPresentationGroupSequence", 0x003A0240, ValueRepresentation.SQ, 1);
+        addEntry("WaveformSampleInterpretation", 0x54001006, ValueRepresentation.CS, 1);
+        addEntry("WaveformSequence", 0x54000100, ValueRepresentation.SQ, 1);
+        addEntry("WedgeAngle", 0x300A00D5, ValueRepresentation.IS, 1);
+        addEntry("WedgeFactor", 0x300A00D6, ValueRepresentation.DS, 1);
+        addEntry("WedgeID", 0x300A00D4, ValueRepresentation.SH, 1);
+        addEntry("WedgeNumber", 0x300A00D2, ValueRepresentation.IS, 1);
+        addEntry("WedgeOrientation", 0x300A00D8, ValueRepresentation.DS, 1);
+        addEntry("WedgePosition", 0x300A0118, ValueRepresentation.CS, 1);
+        addEntry("WedgePositionSequence", 0x300A0116, ValueRepresentation.SQ, 1);
+        addEntry("WedgeSequence", 0x300A00D1, ValueRepresentation.SQ, 1);
+        addEntry("WedgeThinEdgePosition", 0x300A00DB, ValueRepresentation.FL, 1);
+        addEntry("WedgeType", 0x300A00D3, ValueRepresentation.CS, 1);
+        addEntry("WholeBodyTechnique", 0x00181301, ValueRepresentation.CS, 1, Integer.MAX_VALUE);
+        addEntry("WindowCenter", 0x00281050, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("WindowCenterWidthExplanation", 0x00281055, ValueRepresentation.LO, 1, Integer.MAX_VALUE);
+        addEntry("WindowWidth", 0x00281051, ValueRepresentation.DS, 1, Integer.MAX_VALUE);
+        addEntry("WorklistLabel", 0x00741202, ValueRepresentation.LO, 1);
+        addEntry("XAXRFFrameCharacteristicsSequence", 0x00189412, ValueRepresentation.SQ, 1);
+        addEntry("XFocusCenter", 0x00181183, ValueRepresentation.DS, 1, 2);
+        addEntry("XOffsetInSlideCoordinateSystem", 0x0040072A, ValueRepresentation.DS, 1);
+        addEntry("XRay", 0x00189507, ValueRepresentation.SQ, 1);
+        addEntry("XRay", 0x00189504, ValueRepresentation.SQ, 1);
+        addEntry("XRay", 0x00189530, ValueRepresentation.SQ, 1);
+        addEntry("XRayGeometrySequence", 0x00189476, ValueRepresentation.SQ, 1);
+        addEntry("XRayImageReceptorAngle", 0x3002000E, ValueRepresentation.DS, 1);
+        addEntry("XRayImageReceptorTranslation", 0x3002000D, ValueRepresentation.DS, 3);
+        addEntry("XRayOutput", 0x00400312, ValueRepresentation.DS, 1);
+        addEntry("XRayReceptorType", 0x00189420, ValueRepresentation.CS, 1);
+        addEntry("XRayTubeCurrent", 0x00181151, ValueRepresentation.IS, 1);
+        addEntry("XRayTubeCurrentInmA", 0x00189330, ValueRepresentation.FD, 1);
+        addEntry("XRayTubeCurrentInuA", 0x00188151, ValueRepresentation.DS, 1);
+        addEntry("YFocusCenter", 0x00181184, ValueRepresentation.DS, 1, 2);
+        addEntry("YOffsetInSlideCoordinateSystem", 0x0040073A, ValueRepresentation.DS, 1);
+        addEntry("ZOffsetInSlideCoordinateSystem", 0x0040074A, ValueRepresentation.DS, 1);
+        addEntry("ZonalMap", 0x10100000, ValueRepresentation.US, 1, Integer.MAX_VALUE);
+        addEntry("ZonalMapFormat", 0x00280722, ValueRepresentation.US, 1);
+        addEntry("ZonalMapLocation", 0x00280721, ValueRepresentation.AT, 1, Integer.MAX_VALUE);
+        addEntry("ZonalMapNumberFormat", 0x00280720, ValueRepresentation.US, 1);
+        addEntry("ZoomCenter", 0x00280032, ValueRepresentation.DS, 2);
+        addEntry("ZoomFactor", 0x00280031, ValueRepresentation.DS, 2);
+        buildIndex();
+    }
 
+    private void buildIndex() {
+        int n = _entryList.size();
+        // sort (unsigned tag, index) pairs. (For a duplicate tag, the last
+        // entry added wins.)
+        long[] pairs = new long[n];
+        for (int i = 0; i < n; i++) {
+            pairs[i] = ((_entryList.get(i).tag().toUnsignedInt() & 0xffffffffL) << 32) | i;
+        }
+        Arrays.sort(pairs);
+        Entry[] entries = new Entry[n];
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            Entry entry = _entryList.get((int) pairs[i]);
+            if (size > 0 && entries[size - 1].tag().equals(entry.tag())) {
+                entries[size - 1] = entry;
+            } else {
+                entries[size++] = entry;
+            }
+        }
+        _entries = Arrays.copyOf(entries, size);
+        _entryList = null;
+
+        // load factor <= 0.25
+        int capacity = Integer.highestOneBit(size) << 2;
+        _hashTags = new int[capacity];
+        _hashIndexes = new int[capacity];
+        _hashMask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int tag = _entries[i].tag().toUnsignedInt();
+            int h = hash(tag) & _hashMask;
+            while (_hashIndexes[h] != 0) {
+                h = (h + 1) & _hashMask;
+            }
+            _hashTags[h] = tag;
+            _hashIndexes[h] = i + 1;
+        }
     }
 
-    protected void addEntry(String definition, AttributeTag tag, ValueRepresentation[] vrs, int minVM, int maxVM) {
-        _entries.put(tag, new Entry(definition, tag, vrs, minVM, maxVM));
+    private static int hash(int tag) {
+        int h = tag * 0x9e3779b9;
+        return h ^ (h >>> 16);
     }
 
-    protected void addEntry(String definition, AttributeTag tag, ValueRepresentation vr, int minVM, int maxVM) {
-        addEntry(definition, tag, new ValueRepresentation[] { vr }, minVM, maxVM);
+    /*
+     * Note: the tags are int literals rather than the AttributeTag constants.
+     * Resolving thousands of distinct static field references is what made the
+     * construction slow.
+     */
+    protected void addEntry(String definition, int tag, ValueRepresentation[] vrs, int minVM, int maxVM) {
+        _entryList.add(new Entry(definition, new AttributeTag(tag), vrs, minVM, maxVM));
     }
 
-    protected void addEntry(String definition, AttributeTag tag, ValueRepresentation vr, int vm) {
-        addEntry(definition, tag, new ValueRepresentation[] { vr }, vm, vm);
+    protected void addEntry(String definition, int tag, ValueRepresentation vr, int minVM, int maxVM) {
+        addEntry(definition, tag, singleVR(vr), minVM, maxVM);
     }
 
-    public Entry getEntry(AttributeTag tag) {
-        if (tag.isBitsForCodeWord()) {
-            return _entries.get(AttributeTag.BitsForCodeWord);
-        }
-        if (tag.isCodeLabel()) {
-            return _entries.get(AttributeTag.CodeLabel);
-        }
-        if (tag.isCodeTableLocation()) {
-            return _entries.get(AttributeTag.CodeTableLocation);
-        }
-        if (tag.isCoefficientCoding()) {
-            return _entries.get(AttributeTag.CoefficientCoding);
-        }
-        if (tag.isCoefficientCodingPointers()) {
-            return _entries.get(AttributeTag.CoefficientCodingPointers);
-        }
-        if (tag.isColumnsForNthOrderCoefficients()) {
-            return _entries.get(AttributeTag.ColumnsForNthOrderCoefficients);
-        }
-        if (tag.isCurveGroup()) {
-            return _entries.get(new AttributeTag(tag.group() & 0xff00, tag.element()));
-        }
-        if (tag.isOverlayGroup()) {
-            return _entries.get(new AttributeTag(tag.group() & 0xff00, tag.element()));
-        }
-        if (tag.isRepeatingGroup()) {
-            return _entries.get(new AttributeTag(tag.group() & 0xff00, tag.element()));
-        }
-        if (tag.isEscapeTriplet()) {
-            return _entries.get(AttributeTag.EscapeTriplet);
-        }
-        if (tag.isHuffmanTableSize()) {
-            return _entries.get(AttributeTag.HuffmanTableSize);
-        }
-        if (tag.isHuffmanTableTriplet()) {
-            return _entries.get(AttributeTag.HuffmanTableTriplet);
-        }
-        if (tag.isImageDataLocation()) {
-            return _entries.get(AttributeTag.ImageDataLocation);
-        }
-        if (tag.isNumberOfTables()) {
-            return _entries.get(AttributeTag.NumberOfTables);
-        }
-        if (tag.isRowsForNthOrderCoefficients()) {
-            return _entries.get(AttributeTag.RowsForNthOrderCoefficients);
-        }
-        if (tag.isRunLengthTriplet()) {
-            return _entries.get(AttributeTag.RunLengthTriplet);
-        }
-        if (tag.isShiftTableSize()) {
-            return _entries.get(AttributeTag.ShiftTableSize);
-        }
-        if (tag.isShiftTableTriplet()) {
-            return _entries.get(AttributeTag.ShiftTableTriplet);
-        }
-        if (tag.isSourceImageIDs()) {
-            return _entries.get(AttributeTag.SourceImageIDs);
-        }
-        if (tag.isVariableCoefficientsSDDN()) {
-            return _entries.get(AttributeTag.VariableCoefficientsSDDN);
-        }
-        if (tag.isVariableCoefficientsSDHN()) {
-            return _entries.get(AttributeTag.VariableCoefficientsSDHN);
-        }
-        if (tag.isVariableCoefficientsSDVN()) {
-            return _entries.get(AttributeTag.VariableCoefficientsSDVN);
+    protected void addEntry(String definition, int tag, ValueRepresentation vr, int vm) {
+        addEntry(definition, tag, singleVR(vr), vm, vm);
+    }
+
+    private static ValueRepresentation[] singleVR(ValueRepresentation vr) {
+        // items and delimiters have no vr.
+        return vr == null ? new ValueRepresentation[] { null } : SINGLE_VRS[vr.ordinal()];
+    }
+
+    private Entry entry(int tag) {
+        int h = hash(tag) & _hashMask;
+        int i;
+        while ((i = _hashIndexes[h]) != 0) {
+            if (_hashTags[h] == tag) {
+                return _entries[i - 1];
+            }
+            h = (h + 1) & _hashMask;
         }
-        if (tag.isVariableNextDataGroup()) {
-            return _entries.get(AttributeTag.VariableNextDataGroup);
+        return null;
+    }
+
+    public Entry getEntry(AttributeTag tag) {
+        return getEntry(tag.toUnsignedInt());
+    }
+
+    /**
+     * Returns the dictionary entry of the tag, or of the repeating group (or
+     * repeating element) tag it belongs to.
+     * 
+     * @param tag
+     *            the tag as an unsigned int. e.g. 0x00100020
+     * @return
+     */
+    public Entry getEntry(int tag) {
+        Entry e = entry(tag);
+        if (e != null) {
+            return e;
         }
-        if (tag.isVariablePixelData()) {
-            return _entries.get(AttributeTag.VariablePixelData);
+        for (int i = 0; i < REPEATING_MATCH_MASKS.length; i++) {
+            if ((tag & REPEATING_MATCH_MASKS[i]) == REPEATING_MATCH_VALUES[i]) {
+                return entry(tag & REPEATING_BASE_MASKS[i]);
+            }
         }
-        if (tag.isZonalMap()) {
-            return _entries.get(AttributeTag.ZonalMap);
+        return null;
+    }
+
+    public ValueRepresentation getValueRepresentation(int tag) {
+        Entry e = getEntry(tag);
+        if (e == null) {
+            return null;
+        } else {
+            return e.vr();
         }
-        return _entries.get(tag);
     }
 
     public ValueRepresentation getValueRepresentation(AttributeTag tag) {
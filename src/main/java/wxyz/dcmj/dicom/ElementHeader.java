@@ -0,0 +1,133 @@
+package wxyz.dcmj.dicom;
+
+import wxyz.dcmj.dicom.io.DicomInputStream;
+
+/**
+ * The tag, vr and vl of an element as they are read from the stream, before
+ * its value. Shared by {@link DataSet} and {@link DicomStreamParser}.
+ *
+ */
+final class ElementHeader {
+
+    // 100 kB seems large enough, but is an arbitrary choice
+    private static final long MAX_VL_WHEN_RECOVER_FROM_INCORRECT_IMPLICIT_VR_ELEMENT_ENCODING_IN_EXPLICIT_VR = 100000L;
+
+    final AttributeTag tag;
+    final ValueRepresentation vr;
+    final long vl;
+    final boolean foundIncorrectImplicitVRElementEncodingInExplicitVR;
+
+    private ElementHeader(AttributeTag tag, ValueRepresentation vr, long vl, boolean foundIncorrectImplicitVRElementEncodingInExplicitVR) {
+        this.tag = tag;
+        this.vr = vr;
+        this.vl = vl;
+        this.foundIncorrectImplicitVRElementEncodingInExplicitVR = foundIncorrectImplicitVRElementEncodingInExplicitVR;
+    }
+
+    /**
+     * Check the fixed value length of a non-sequence element.
+     *
+     * @throws Throwable
+     */
+    void checkValueLength() throws Throwable {
+        if (vl < 0) {
+            throw new DicomException("Illegal fixed VL (" + vl + " dec, 0x" + Long.toHexString(vl) + ") - is negative - probably incorrect dataset - giving up.");
+        }
+        if (vr == ValueRepresentation.UN && vl > Integer.MAX_VALUE) {
+            throw new DicomException("Illegal fixed VL (" + vl + " dec, 0x" + Long.toHexString(vl) + ") - is larger than can be allocated for UN VR - probably incorrect dataset - giving up.");
+        }
+        // a short VL VR should never have a VL greater than can be
+        // sent in explicit VR (2^16-1 == 65535), with the except of
+        // RT DVH (DS) that sometimes must be sent as implicit VR
+        // (Mathews, Bosch 2006 Phys. Med. Biol. 51 L11
+        // doi:10.1088/0031-9155/51/5/L01), and for the same reason RT
+        // Contour Data (DS) of large contours.
+        if (vr.isValueLengthShort() && vl > 65535 && !tag.equals(AttributeTag.DVHData) && !tag.equals(AttributeTag.ContourData)) {
+            throw new DicomException("Unlikely fixed VL (" + vl + " dec, 0x" + Long.toHexString(vl) + ") for non-bulk data tag - probably incorrect dataset - giving up.");
+        }
+        if (foundIncorrectImplicitVRElementEncodingInExplicitVR && vl > MAX_VL_WHEN_RECOVER_FROM_INCORRECT_IMPLICIT_VR_ELEMENT_ENCODING_IN_EXPLICIT_VR) {
+            throw new DicomException("Unlikely fixed VL (" + vl + " dec, 0x" + Long.toHexString(vl)
+                    + ") when recovering from incorrect Implicit VR element encoding in Explicit VR Transfer Syntax - giving up.");
+        }
+    }
+
+    /**
+     * Read the vr and vl of the element, whose tag has just been read from the
+     * stream.
+     *
+     * @param in
+     * @param tag
+     * @return
+     * @throws Throwable
+     */
+    static ElementHeader read(DicomInputStream in, AttributeTag tag) throws Throwable {
+        /*
+         * read vr
+         */
+        ValueRepresentation vr = null;
+        boolean foundIncorrectImplicitVRElementEncodingInExplicitVR = false;
+        if (in.currentTransferSyntax().explicitVR()) {
+            if (in.markSupported()) {
+                in.mark(4);
+            }
+            vr = ValueRepresentation.read(in);
+            if (vr == null) {
+                // could not read the vr. It could be the element is
+                // incorrectly encoded with implicit vr. So we try to look
+                // up the vr from the dictionary.
+                foundIncorrectImplicitVRElementEncodingInExplicitVR = true;
+                if (in.markSupported()) {
+                    in.reset();
+                } else {
+                    // because mark is not supported. we cannot rewind
+                    // back 2 bytes.
+                    throw new DicomException("Failed to read explicit vr for element " + tag);
+                }
+                vr = Dictionary.get().getValueRepresentation(tag);
+            }
+            if (vr == null) {
+                // still cannot identify the vr. fall back to UN.
+                vr = ValueRepresentation.UN;
+            }
+        } else {
+            vr = Dictionary.get().getValueRepresentation(tag);
+            if (vr == null) {
+                // cannot identify the vr. fall back to UN.
+                vr = ValueRepresentation.UN;
+            }
+        }
+        /*
+         * read vl
+         */
+        long vl;
+        if (in.currentTransferSyntax().explicitVR() && !foundIncorrectImplicitVRElementEncodingInExplicitVR) {
+            if (vr.isValueLengthShort()) {
+                vl = in.readUnsignedShort();
+            } else {
+                in.readUnsignedShort(); // reserved bytes
+                vl = in.readUnsignedInt();
+            }
+        } else {
+            vl = in.readUnsignedInt();
+        }
+
+        /*
+         * silently override UN with the vr from dictionary if applicable.
+         */
+        if (in.currentTransferSyntax().explicitVR() && vr == ValueRepresentation.UN) {
+            ValueRepresentation vr0 = Dictionary.get().getValueRepresentation(tag);
+            if (vr0 != null && vr0 != ValueRepresentation.SQ) {
+                vr = vr0;
+            }
+        }
+
+        /*
+         * silently override vr to LO if the tag is private creator.
+         */
+        if (tag.isPrivateCreator()) {
+            vr = ValueRepresentation.LO;
+        }
+        return new ElementHeader(tag, vr, vl, foundIncorrectImplicitVRElementEncodingInExplicitVR);
+    }
+
+}
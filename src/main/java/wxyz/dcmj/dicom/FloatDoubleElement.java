@@ -30,6 +30,11 @@ public class FloatDoubleElement extends DataElement<Double> {
         super(dataSet, tag, ValueRepresentation.FD);
     }
 
+    @Override
+    ValueList<Double> createValueList() {
+        return new PrimitiveValueList.Doubles();
+    }
+
     @Override
     public long valueLength() {
         List<Double> values = values();
@@ -38,12 +43,7 @@ public class FloatDoubleElement extends DataElement<Double> {
 
     @Override
     protected void writeValue(DicomOutputStream out) throws Throwable {
-        List<Double> values = values();
-        if (values != null) {
-            for (Double value : values) {
-                out.writeDouble(value);
-            }
-        }
+        ((PrimitiveValueList<Double>) valueList()).write(out);
     }
 
     @Override
@@ -51,9 +51,7 @@ public class FloatDoubleElement extends DataElement<Double> {
         if (vl % BYTES_PER_VALUE != 0 || vl == Constants.UNDEFINED_LENGTH) {
             throw new DicomException("Invalid value length " + vl + " for FloatDouble (FD) element.");
         }
-        for (int i = 0; i < vl; i += BYTES_PER_VALUE) {
-            addValue(in.readDouble());
-        }
+        ((PrimitiveValueList<Double>) valueList()).read(in, (int) (vl / BYTES_PER_VALUE));
     }
 
 }
@@ -30,6 +30,11 @@ public class FloatSingleElement extends DataElement<Float> {
         super(dataSet, tag, ValueRepresentation.FL);
     }
 
+    @Override
+    ValueList<Float> createValueList() {
+        return new PrimitiveValueList.Floats();
+    }
+
     @Override
     public long valueLength() {
         List<Float> values = values();
@@ -38,12 +43,7 @@ public class FloatSingleElement extends DataElement<Float> {
 
     @Override
     protected void writeValue(DicomOutputStream out) throws Throwable {
-        List<Float> values = values();
-        if (values != null) {
-            for (Float value : values) {
-                out.writeFloat(value);
-            }
-        }
+        ((PrimitiveValueList<Float>) valueList()).write(out);
     }
 
     @Override
@@ -51,9 +51,7 @@ public class FloatSingleElement extends DataElement<Float> {
         if (vl % BYTES_PER_VALUE != 0 || vl == Constants.UNDEFINED_LENGTH) {
             throw new DicomException("Invalid value length " + vl + " for FloatSingle (FL) element.");
         }
-        for (int i = 0; i < vl; i += BYTES_PER_VALUE) {
-            addValue(in.readFloat());
-        }
+        ((PrimitiveValueList<Float>) valueList()).read(in, (int) (vl / BYTES_PER_VALUE));
     }
 
 }
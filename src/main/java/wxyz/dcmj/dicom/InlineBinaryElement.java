@@ -1,16 +1,135 @@
 package wxyz.dcmj.dicom;
 
+import java.io.EOFException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.Base64;
+import java.util.List;
 
+import javax.imageio.stream.FileImageInputStream;
 import javax.imageio.stream.ImageInputStream;
 
+import wxyz.dcmj.dicom.io.DicomOutputStream;
+
 public abstract class InlineBinaryElement<T> extends DataElement<T> {
 
+    /*
+     * set if the value was skipped when reading (lazy bulk data). It will be
+     * read from the source on first access.
+     */
+    private boolean _valueNotRead;
+    private boolean _sourceBigEndian;
+    /*
+     * the transfer syntax of the encapsulated pixel data skipped when reading.
+     */
+    private TransferSyntax _sourceTransferSyntax;
+
+    /*
+     * the size of the buffer copying the fragments from an image input
+     * stream.
+     */
+    private static final int COPY_BUFFER_SIZE = 65536;
+
     protected InlineBinaryElement(DataSet dataSet, AttributeTag tag, ValueRepresentation vr) {
         super(dataSet, tag, vr);
     }
 
+    /**
+     * Marks the value as not read. The source must have been set.
+     * 
+     * @param sourceBigEndian
+     *            the byte order of the value in the source.
+     */
+    void setValueNotRead(boolean sourceBigEndian) {
+        _valueNotRead = true;
+        _sourceBigEndian = sourceBigEndian;
+    }
+
+    /**
+     * Sets the transfer syntax of the encapsulated pixel data skipped when
+     * reading. Its fragments are only copied to an output in the same
+     * transfer syntax.
+     * 
+     * @param ts
+     */
+    void setSourceTransferSyntax(TransferSyntax ts) {
+        _sourceTransferSyntax = ts;
+    }
+
+    /**
+     * Returns true if the value was skipped when reading and has not been read
+     * from the source yet.
+     * 
+     * @return
+     */
+    public boolean valueNotRead() {
+        return _valueNotRead;
+    }
+
+    /**
+     * The byte order of the value in the source, if it was not read.
+     * 
+     * @return
+     */
+    boolean sourceBigEndian() {
+        return _sourceBigEndian;
+    }
+
+    /**
+     * Reads the value from the source if it was skipped. The element is
+     * marked as read only if the value was read successfully.
+     * 
+     * @throws DicomException
+     *             if the value cannot be read from the source.
+     */
+    private void readValueIfNotRead() throws DicomException {
+        if (_valueNotRead) {
+            try {
+                readValueFromSource(_sourceBigEndian);
+            } catch (Throwable e) {
+                throw new DicomException("Failed to read the value of element " + tag() + " from "
+                        + (sourceFile() != null ? sourceFile().getPath() : "the source") + " at offset " + sourceOffset() + ".", e);
+            }
+            _valueNotRead = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws RuntimeException
+     *             (caused by a {@link DicomException}) if the value was not
+     *             read and cannot be read from the source.
+     */
+    @Override
+    public T value() {
+        try {
+            readValueIfNotRead();
+        } catch (DicomException e) {
+            throw new RuntimeException(e);
+        }
+        return super.value();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws RuntimeException
+     *             (caused by a {@link DicomException}) if the value was not
+     *             read and cannot be read from the source.
+     */
+    @Override
+    public List<T> values() {
+        try {
+            readValueIfNotRead();
+        } catch (DicomException e) {
+            throw new RuntimeException(e);
+        }
+        return super.values();
+    }
+
     @Override
     protected boolean allowMultipleValues() {
         return false;
@@ -39,6 +158,152 @@ public abstract class InlineBinaryElement<T> extends DataElement<T> {
         }
     }
 
+    /**
+     * Writes the element. If its value was not read from the source file (and
+     * has not been set since), the value is copied from the file as it is,
+     * without being read into the heap: when the byte order of the source is
+     * the same (or does not matter for the VR), or for encapsulated pixel data
+     * that was skipped (which is copied with its fragments, only in its own
+     * transfer syntax).
+     * 
+     * @throws DicomException
+     *             if the pixel data is encapsulated in the source and the
+     *             output is in another transfer syntax.
+     */
+    @Override
+    public void write(DicomOutputStream out) throws Throwable {
+        boolean encapsulated = !hasValue() && hasSource() && encapsulatedInSource();
+        if (encapsulated && sourceFile() == null) {
+            // copied from the image input stream.
+            checkSourceTransferSyntax(out.dataSetTransferSyntax());
+            ImageInputStream iis = sourceImageInputStream();
+            synchronized (iis) {
+                long length = encapsulatedLength(iis, sourceOffset());
+                out.writeUnsignedShort(tag().group());
+                out.writeUnsignedShort(tag().element());
+                writeHeader(out, sourceValueLength());
+                iis.seek(sourceOffset());
+                byte[] b = new byte[(int) Math.min(length, COPY_BUFFER_SIZE)];
+                for (long n = 0; n < length;) {
+                    int len = (int) Math.min(length - n, b.length);
+                    iis.readFully(b, 0, len);
+                    out.write(b, 0, len);
+                    n += len;
+                }
+            }
+            return;
+        }
+        if (hasValue() || sourceFile() == null || !hasSource()) {
+            // the value length is of the values read: never write an empty
+            // value for an element not read.
+            readValueIfNotRead();
+            super.write(out);
+            return;
+        }
+        boolean sameByteOrder = _sourceBigEndian == out.bigEndian() || valueRepresentation() == ValueRepresentation.OB
+                || valueRepresentation() == ValueRepresentation.UN;
+        if (encapsulated) {
+            checkSourceTransferSyntax(out.dataSetTransferSyntax());
+        } else if (!(_valueNotRead && sameByteOrder)) {
+            readValueIfNotRead();
+            super.write(out);
+            return;
+        }
+        RandomAccessFile raf = new RandomAccessFile(sourceFile(), "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            long length = encapsulated ? encapsulatedLength(new FileImageInputStream(raf), sourceOffset()) : sourceValueLength();
+            out.writeUnsignedShort(tag().group());
+            out.writeUnsignedShort(tag().element());
+            writeHeader(out, sourceValueLength());
+            out.transferFrom(channel, sourceOffset(), length);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * The length of the element as written: from the source if its value was
+     * not read (see {@link #write(DicomOutputStream)}).
+     */
+    @Override
+    long length(boolean explicitVR, boolean explicitLengthSequences) throws Throwable {
+        if (!hasValue() && hasSource() && encapsulatedInSource()) {
+            if (sourceFile() != null) {
+                RandomAccessFile raf = new RandomAccessFile(sourceFile(), "r");
+                try {
+                    return headerLength(explicitVR) + encapsulatedLength(new FileImageInputStream(raf), sourceOffset());
+                } finally {
+                    raf.close();
+                }
+            }
+            ImageInputStream iis = sourceImageInputStream();
+            synchronized (iis) {
+                return headerLength(explicitVR) + encapsulatedLength(iis, sourceOffset());
+            }
+        }
+        if (!hasValue() && sourceFile() != null && hasSource()) {
+            if (_valueNotRead) {
+                return headerLength(explicitVR) + sourceValueLength();
+            }
+        }
+        readValueIfNotRead();
+        return super.length(explicitVR, explicitLengthSequences);
+    }
+
+    /*
+     * the fragments of the encapsulated pixel data are not decoded: they can
+     * only be written in the transfer syntax of the source.
+     */
+    private void checkSourceTransferSyntax(TransferSyntax ts) throws DicomException {
+        if (_sourceTransferSyntax == null || !_sourceTransferSyntax.uid().equals(ts.uid())) {
+            throw new DicomException("Unable to write the encapsulated pixel data skipped when reading (transfer syntax "
+                    + (_sourceTransferSyntax == null ? "unknown" : _sourceTransferSyntax.uid()) + ") in transfer syntax " + ts.uid()
+                    + ": read the data set without skipping the pixel data to convert it.");
+        }
+    }
+
+    /*
+     * encapsulated pixel data skipped when reading.
+     */
+    private boolean encapsulatedInSource() {
+        return sourceValueLength() == Constants.UNDEFINED_LENGTH && tag().equals(AttributeTag.PixelData);
+    }
+
+    /**
+     * The length of the encapsulated fragments in the source, from the first
+     * item tag to the end of the sequence delimiter.
+     * 
+     * @param iis
+     *            the source.
+     * @param offset
+     *            the offset of the first item tag.
+     * @return
+     * @throws Throwable
+     */
+    private static long encapsulatedLength(ImageInputStream iis, long offset) throws Throwable {
+        byte[] header = new byte[8];
+        long position = offset;
+        while (true) {
+            iis.seek(position);
+            try {
+                iis.readFully(header);
+            } catch (EOFException e) {
+                throw new DicomException("Unexpected end of file in encapsulated pixel data at offset " + position + ".");
+            }
+            ByteBuffer b = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+            AttributeTag tag = new AttributeTag(b.getShort(0) & 0xffff, b.getShort(2) & 0xffff);
+            position += 8;
+            if (tag.equals(AttributeTag.SequenceDelimitationItem)) {
+                return position - offset;
+            } else if (tag.equals(AttributeTag.Item)) {
+                position += b.getInt(4) & 0xffffffffL;
+            } else {
+                throw new DicomException("Unexpected tag " + tag + " in encapsulated pixel data at offset " + (position - 8) + ".");
+            }
+        }
+    }
+
     public boolean readValueFromSource(boolean bigEndian) throws Throwable {
         if (!hasValue() && hasSource() && sourceValueLength() < Constants.UNDEFINED_LENGTH) {
             byte[] data = new byte[(int) sourceValueLength()];
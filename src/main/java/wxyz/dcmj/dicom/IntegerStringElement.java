@@ -24,7 +24,7 @@ package wxyz.dcmj.dicom;
  * 
  *
  */
-public class IntegerStringElement extends AsciiStringElement {
+public class IntegerStringElement extends NumberStringElement {
 
     public static final int MAX_BYTES_PER_VALUE = 12;
 
@@ -40,10 +40,21 @@ public class IntegerStringElement extends AsciiStringElement {
         if (value.length() > MAX_BYTES_PER_VALUE) {
             throw new DicomException("Invalid IntegerString(IS) value: " + value + ". Maximum " + MAX_BYTES_PER_VALUE + " bytes per value is reached.");
         }
+        if (!ValueValidator.isValidIS(value)) {
+            throw new DicomException("Failed to parse IntegerString (IS) value: " + value);
+        }
+    }
+
+    @Override
+    protected boolean isValid(byte[] b, int off, int len) {
+        if (len > MAX_BYTES_PER_VALUE) {
+            return false;
+        }
         try {
-            Long.parseLong(value);
-        } catch (Throwable e) {
-            throw new DicomException("Failed to parse IntegerString (IS) value: " + value, e);
+            NumberStrings.parseInt(b, off, len);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
         }
     }
 
@@ -63,6 +74,25 @@ public class IntegerStringElement extends AsciiStringElement {
         addValue(Byte.toString(n));
     }
 
+    /**
+     * Adds the values, formatted directly into the element value. The value
+     * multiplicity is not checked.
+     * 
+     * @param ns
+     * @throws Throwable
+     */
+    public void addValues(int[] ns) throws Throwable {
+        NumberStringValueList values = numberStringValues();
+        for (int n : ns) {
+            values.append((long) n);
+        }
+    }
+
+    public void setValues(int[] ns) throws Throwable {
+        removeAllValues();
+        addValues(ns);
+    }
+
     public void setValue(long n) throws Throwable {
         setValue(Long.toString(n));
     }
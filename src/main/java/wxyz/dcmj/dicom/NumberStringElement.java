@@ -0,0 +1,130 @@
+package wxyz.dcmj.dicom;
+
+import wxyz.dcmj.dicom.io.DicomInputStream;
+import wxyz.dcmj.dicom.io.DicomOutputStream;
+
+/**
+ * The elements of the number string VRs: DS and IS. The values are held as
+ * the bytes of the element value (see {@link NumberStringValueList}): reading
+ * does not create a String per value and the numeric accessors parse the bytes
+ * directly.
+ *
+ */
+public abstract class NumberStringElement extends AsciiStringElement {
+
+    protected NumberStringElement(DataSet dataSet, AttributeTag tag, ValueRepresentation vr) {
+        super(dataSet, tag, vr);
+    }
+
+    @Override
+    ValueList<String> createValueList() {
+        return new NumberStringValueList();
+    }
+
+    NumberStringValueList numberStringValues() {
+        return (NumberStringValueList) valueList();
+    }
+
+    /**
+     * Whether the bytes are a valid value. (Called for the non-empty values
+     * read.)
+     *
+     * @param b
+     * @param off
+     * @param len
+     * @return
+     */
+    protected abstract boolean isValid(byte[] b, int off, int len);
+
+    @Override
+    protected void readValue(DicomInputStream in, long vl) throws Throwable {
+        NumberStringValueList values = numberStringValues();
+        int first = values.size();
+        values.read(in, (int) vl);
+        ValidationMode mode = in.validationMode();
+        if (mode == ValidationMode.OFF) {
+            return;
+        }
+        byte[] b = values.bytes();
+        for (int i = first; i < values.size(); i++) {
+            int start = values.start(i);
+            int len = values.end(i) - start;
+            // an empty value is always allowed.
+            if (len > 0 && !isValid(b, start, len)) {
+                if (mode == ValidationMode.STRICT) {
+                    // throws the detailed exception
+                    validate(values.get(i));
+                } else {
+                    try {
+                        validate(values.get(i));
+                    } catch (DicomException e) {
+                        System.err.println("Warning: " + tag() + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void writeValue(DicomOutputStream out) throws Throwable {
+        numberStringValues().write(out, paddingByte());
+    }
+
+    @Override
+    public long valueLength() {
+        if (!hasValue()) {
+            return 0;
+        }
+        long len = numberStringValues().length();
+        return len % 2 == 0 ? len : (len + 1);
+    }
+
+    @Override
+    public Double doubleValue() {
+        if (!hasValue()) {
+            return null;
+        }
+        try {
+            return numberStringValues().doubleAt(0);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Float floatValue() {
+        Double v = doubleValue();
+        return v == null ? null : v.floatValue();
+    }
+
+    @Override
+    public Long longValue() {
+        if (!hasValue()) {
+            return null;
+        }
+        try {
+            return numberStringValues().longAt(0);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Integer intValue() {
+        Long v = longValue();
+        if (v == null || v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) {
+            return null;
+        }
+        return v.intValue();
+    }
+
+    @Override
+    public Short shortValue() {
+        Long v = longValue();
+        if (v == null || v < Short.MIN_VALUE || v > Short.MAX_VALUE) {
+            return null;
+        }
+        return v.shortValue();
+    }
+
+}
@@ -0,0 +1,269 @@
+package wxyz.dcmj.dicom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import wxyz.dcmj.dicom.io.DicomInputStream;
+import wxyz.dcmj.dicom.io.DicomOutputStream;
+
+/**
+ * The values of a DS or IS element, held as the bytes of the element value:
+ * the values (trimmed right) joined by the value delimiter. A String is only
+ * created when a value is accessed through the {@link java.util.List}
+ * interface; the numbers are parsed from, and formatted into, the bytes
+ * directly.
+ *
+ */
+final class NumberStringValueList extends ValueList<String> {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private byte[] _bytes;
+    private int _length;
+    private int[] _ends;
+    private int _size;
+
+    NumberStringValueList() {
+        _bytes = null;
+        _length = 0;
+        _ends = null;
+        _size = 0;
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    int start(int index) {
+        return index == 0 ? 0 : (_ends[index - 1] + 1);
+    }
+
+    int end(int index) {
+        return _ends[index];
+    }
+
+    byte[] bytes() {
+        return _bytes;
+    }
+
+    /**
+     * The length of the joined values, without padding.
+     *
+     * @return
+     */
+    int length() {
+        return _length;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= _size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+        }
+        int start = start(index);
+        return new String(_bytes, start, _ends[index] - start, StandardCharsets.ISO_8859_1);
+    }
+
+    private void ensureCapacity(int length) {
+        if (_bytes == null) {
+            _bytes = new byte[Math.max(length, 16)];
+        } else if (length > _bytes.length) {
+            _bytes = Arrays.copyOf(_bytes, Math.max(length, _bytes.length * 2));
+        }
+    }
+
+    private void addEnd(int end) {
+        if (_ends == null) {
+            _ends = new int[INITIAL_CAPACITY];
+        } else if (_size == _ends.length) {
+            _ends = Arrays.copyOf(_ends, _size * 2);
+        }
+        _ends[_size++] = end;
+        modCount++;
+    }
+
+    /*
+     * the offset of the new value.
+     */
+    private int startValue(int maxLength) {
+        ensureCapacity(_length + 1 + maxLength);
+        if (_size > 0) {
+            _bytes[_length++] = (byte) Constants.VALUE_DELIMITER;
+        }
+        return _length;
+    }
+
+    @Override
+    void append(String value) {
+        int n = value.length();
+        int off = startValue(n);
+        for (int i = 0; i < n; i++) {
+            _bytes[off + i] = (byte) value.charAt(i);
+        }
+        _length = off + n;
+        addEnd(_length);
+    }
+
+    void append(double value) {
+        int off = startValue(NumberStrings.MAX_DS_LENGTH);
+        _length = off + NumberStrings.format(value, _bytes, off);
+        addEnd(_length);
+    }
+
+    void append(long value) {
+        int off = startValue(NumberStrings.MAX_LONG_LENGTH);
+        _length = off + NumberStrings.format(value, _bytes, off);
+        addEnd(_length);
+    }
+
+    @Override
+    void removeAll() {
+        _bytes = null;
+        _length = 0;
+        _ends = null;
+        _size = 0;
+        modCount++;
+    }
+
+    /**
+     * Reads the value of the element, and splits it into values in place. As
+     * {@link StringUtils#split(String, char)}, the trailing empty values are
+     * dropped, unless the value is empty.
+     *
+     * @param in
+     * @param vl
+     * @throws Throwable
+     */
+    void read(DicomInputStream in, int vl) throws Throwable {
+        int size = _size;
+        int length = _length;
+        int base = startValue(vl);
+        in.readFully(_bytes, base, vl);
+        int end = base + vl;
+        int w = base;
+        int valueStart = base;
+        int readStart = base;
+        // values up to the last non-empty one
+        int keep = _size + (vl == 0 ? 1 : 0);
+        for (int r = base; r <= end; r++) {
+            if (r == end || _bytes[r] == Constants.VALUE_DELIMITER) {
+                int e = w;
+                while (e > valueStart && (_bytes[e - 1] == Constants.PADDING_SPACE || _bytes[e - 1] == Constants.PADDING_ZERO)) {
+                    e--;
+                }
+                addEnd(e);
+                if (r > readStart) {
+                    keep = _size;
+                }
+                w = e;
+                if (r < end) {
+                    _bytes[w++] = (byte) Constants.VALUE_DELIMITER;
+                    valueStart = w;
+                    readStart = r + 1;
+                }
+            } else {
+                _bytes[w++] = _bytes[r];
+            }
+        }
+        _size = keep;
+        if (_size > size) {
+            _length = _ends[_size - 1];
+        } else {
+            _length = length;
+        }
+    }
+
+    void write(DicomOutputStream out, byte paddingByte) throws Throwable {
+        if (_length > 0) {
+            out.write(_bytes, 0, _length);
+        }
+        if (_length % 2 != 0) {
+            out.write(paddingByte);
+        }
+    }
+
+    double doubleAt(int index) {
+        int start = start(index);
+        return NumberStrings.parseDouble(_bytes, start, _ends[index] - start);
+    }
+
+    long longAt(int index) {
+        int start = start(index);
+        return NumberStrings.parseLong(_bytes, start, _ends[index] - start);
+    }
+
+    @Override
+    short[] shortArray() {
+        short[] a = new short[_size];
+        try {
+            for (int i = 0; i < _size; i++) {
+                long v = longAt(i);
+                if (v < Short.MIN_VALUE || v > Short.MAX_VALUE) {
+                    return null;
+                }
+                a[i] = (short) v;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return a;
+    }
+
+    @Override
+    int[] intArray() {
+        int[] a = new int[_size];
+        try {
+            for (int i = 0; i < _size; i++) {
+                long v = longAt(i);
+                if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) {
+                    return null;
+                }
+                a[i] = (int) v;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return a;
+    }
+
+    @Override
+    long[] longArray() {
+        long[] a = new long[_size];
+        try {
+            for (int i = 0; i < _size; i++) {
+                a[i] = longAt(i);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return a;
+    }
+
+    @Override
+    float[] floatArray() {
+        float[] a = new float[_size];
+        try {
+            for (int i = 0; i < _size; i++) {
+                a[i] = (float) doubleAt(i);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return a;
+    }
+
+    @Override
+    double[] doubleArray() {
+        double[] a = new double[_size];
+        try {
+            for (int i = 0; i < _size; i++) {
+                a[i] = doubleAt(i);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return a;
+    }
+
+}
@@ -0,0 +1,355 @@
+package wxyz.dcmj.dicom;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parsing and formatting of Decimal String (DS) and Integer String (IS) values
+ * directly from/to the bytes of the element value, without creating a String
+ * for each number.
+ *
+ * The parsers accept the syntax of {@link ValueValidator#isValidDS(String)}
+ * and {@link ValueValidator#isValidIS(String)} (leading and trailing spaces
+ * allowed) and throw {@link NumberFormatException} otherwise.
+ *
+ */
+public final class NumberStrings {
+
+    /**
+     * the maximum number of bytes {@link #format(double, byte[], int)} writes.
+     */
+    public static final int MAX_DS_LENGTH = DecimalStringElement.MAX_BYTES_PER_VALUE;
+
+    /**
+     * the maximum number of bytes {@link #format(long, byte[], int)} writes.
+     */
+    public static final int MAX_LONG_LENGTH = 20;
+
+    private static final double[] POW10 = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21,
+            1e22 };
+
+    private static final long[] LONG_POW10 = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L, 100000000000L,
+            1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L };
+
+    /*
+     * the largest mantissa represented exactly by a double.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private NumberStrings() {
+    }
+
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Parses a DS (or IS) value.
+     *
+     * @param b
+     * @param off
+     * @param len
+     * @return
+     * @throws NumberFormatException
+     *             if the bytes are not a valid DS value.
+     */
+    public static double parseDouble(byte[] b, int off, int len) {
+        int i = off;
+        int end = off + len;
+        while (i < end && b[i] == ' ') {
+            i++;
+        }
+        while (end > i && b[end - 1] == ' ') {
+            end--;
+        }
+        boolean negative = false;
+        if (i < end && (b[i] == '+' || b[i] == '-')) {
+            negative = b[i] == '-';
+            i++;
+        }
+        long m = 0;
+        int nd = 0; // significant digits in m
+        int ndAll = 0; // all the digits of the mantissa
+        int exp10 = 0;
+        boolean exact = true;
+        while (i < end && isDigit(b[i])) {
+            if (nd < 18) {
+                m = m * 10 + (b[i] - '0');
+                if (m != 0) {
+                    nd++;
+                }
+            } else {
+                exp10++;
+                exact = false;
+            }
+            ndAll++;
+            i++;
+        }
+        if (i < end && b[i] == '.') {
+            i++;
+            while (i < end && isDigit(b[i])) {
+                if (nd < 18) {
+                    m = m * 10 + (b[i] - '0');
+                    if (m != 0) {
+                        nd++;
+                    }
+                    exp10--;
+                } else {
+                    exact = false;
+                }
+                ndAll++;
+                i++;
+            }
+        }
+        if (ndAll == 0) {
+            throw numberFormatException(b, off, len);
+        }
+        if (i < end && (b[i] == 'e' || b[i] == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < end && (b[i] == '+' || b[i] == '-')) {
+                negativeExp = b[i] == '-';
+                i++;
+            }
+            int e = 0;
+            int ne = 0;
+            while (i < end && isDigit(b[i])) {
+                if (e < 100000) {
+                    e = e * 10 + (b[i] - '0');
+                }
+                ne++;
+                i++;
+            }
+            if (ne == 0) {
+                throw numberFormatException(b, off, len);
+            }
+            exp10 += negativeExp ? -e : e;
+        }
+        if (i != end) {
+            throw numberFormatException(b, off, len);
+        }
+        if (m == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (exact && m < MAX_EXACT_MANTISSA && exp10 >= -22 && exp10 <= 22) {
+            // m and 10^|exp10| are exact, so is the correctly rounded result of
+            // one multiplication or division.
+            double d = exp10 < 0 ? m / POW10[-exp10] : m * POW10[exp10];
+            return negative ? -d : d;
+        }
+        return Double.parseDouble(new String(b, off, len, StandardCharsets.ISO_8859_1).trim());
+    }
+
+    /**
+     * Parses an IS value (or a DS value without fraction and exponent).
+     *
+     * @param b
+     * @param off
+     * @param len
+     * @return
+     * @throws NumberFormatException
+     *             if the bytes are not a valid integer.
+     */
+    public static long parseLong(byte[] b, int off, int len) {
+        int i = off;
+        int end = off + len;
+        while (i < end && b[i] == ' ') {
+            i++;
+        }
+        while (end > i && b[end - 1] == ' ') {
+            end--;
+        }
+        boolean negative = false;
+        if (i < end && (b[i] == '+' || b[i] == '-')) {
+            negative = b[i] == '-';
+            i++;
+        }
+        if (i == end) {
+            throw numberFormatException(b, off, len);
+        }
+        // accumulate negatively to cover Long.MIN_VALUE
+        long v = 0;
+        for (; i < end; i++) {
+            if (!isDigit(b[i])) {
+                throw numberFormatException(b, off, len);
+            }
+            int d = b[i] - '0';
+            if (v < (Long.MIN_VALUE + d) / 10) {
+                throw numberFormatException(b, off, len);
+            }
+            v = v * 10 - d;
+        }
+        if (!negative) {
+            if (v == Long.MIN_VALUE) {
+                throw numberFormatException(b, off, len);
+            }
+            v = -v;
+        }
+        return v;
+    }
+
+    public static int parseInt(byte[] b, int off, int len) {
+        long v = parseLong(b, off, len);
+        if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) {
+            throw numberFormatException(b, off, len);
+        }
+        return (int) v;
+    }
+
+    private static NumberFormatException numberFormatException(byte[] b, int off, int len) {
+        return new NumberFormatException("For input string: \"" + new String(b, off, len, StandardCharsets.ISO_8859_1) + "\"");
+    }
+
+    /**
+     * Formats the integer.
+     *
+     * @param v
+     * @param b
+     *            the destination. Must have room for {@link #MAX_LONG_LENGTH}
+     *            bytes.
+     * @param off
+     * @return the number of bytes written.
+     */
+    public static int format(long v, byte[] b, int off) {
+        if (v == Long.MIN_VALUE) {
+            byte[] s = Long.toString(v).getBytes(StandardCharsets.ISO_8859_1);
+            System.arraycopy(s, 0, b, off, s.length);
+            return s.length;
+        }
+        int i = off;
+        if (v < 0) {
+            b[i++] = '-';
+            v = -v;
+        }
+        int n = 1;
+        while (n < LONG_POW10.length && v >= LONG_POW10[n]) {
+            n++;
+        }
+        for (int j = i + n - 1; j >= i; j--) {
+            b[j] = (byte) ('0' + (v % 10));
+            v /= 10;
+        }
+        return i + n - off;
+    }
+
+    /**
+     * Formats the number as a DS value: fixed point notation if it fits in 16
+     * bytes with enough precision, scientific notation otherwise, with as many
+     * significant digits as fit.
+     *
+     * @param v
+     * @param b
+     *            the destination. Must have room for {@link #MAX_DS_LENGTH}
+     *            bytes.
+     * @param off
+     * @return the number of bytes written.
+     * @throws IllegalArgumentException
+     *             if the number is NaN or infinite.
+     */
+    public static int format(double v, byte[] b, int off) {
+        if (Double.isNaN(v) || Double.isInfinite(v)) {
+            throw new IllegalArgumentException("Cannot format " + v + " as Decimal String (DS).");
+        }
+        if (v == 0) {
+            b[off] = '0';
+            return 1;
+        }
+        double a = Math.abs(v);
+        if (a < 1e15 && a == Math.rint(a)) {
+            return format((long) v, b, off);
+        }
+        int e = (int) Math.floor(Math.log10(a));
+        if (a < pow10(e)) {
+            e--;
+        } else if (a >= pow10(e + 1)) {
+            e++;
+        }
+        int i = off;
+        int available = MAX_DS_LENGTH;
+        if (v < 0) {
+            b[i++] = '-';
+            available--;
+        }
+        if (e >= -3 && e < 15) {
+            int intDigits = Math.max(e + 1, 1);
+            int frac = available - intDigits - 1;
+            if (frac <= 0) {
+                // no room for a fraction
+                long m = Math.round(a);
+                if (m < LONG_POW10[available]) {
+                    return i - off + format(m, b, i);
+                }
+                return i - off + formatScientific(a, e, b, i, available);
+            }
+            long m = Math.round(a * POW10[frac]);
+            if (m >= LONG_POW10[intDigits + frac]) {
+                // rounded up to one more integer digit
+                frac--;
+                m = Math.round(a * POW10[frac]);
+            }
+            // strip the trailing zeros of the fraction
+            while (frac > 0 && m % 10 == 0) {
+                m /= 10;
+                frac--;
+            }
+            long p = LONG_POW10[frac];
+            i += format(m / p, b, i);
+            if (frac > 0) {
+                b[i++] = '.';
+                long f = m % p;
+                for (int j = i + frac - 1; j >= i; j--) {
+                    b[j] = (byte) ('0' + (f % 10));
+                    f /= 10;
+                }
+                i += frac;
+            }
+            return i - off;
+        }
+        return i - off + formatScientific(a, e, b, i, available);
+    }
+
+    private static double pow10(int e) {
+        if (e >= 0 && e < POW10.length) {
+            return POW10[e];
+        }
+        return Math.pow(10, e);
+    }
+
+    /*
+     * rare: very small or very large numbers.
+     */
+    private static int formatScientific(double a, int e, byte[] b, int off, int available) {
+        int precision = available - 2 /* d. */ - 1 /* E */ - (e < 0 ? 1 : 0) - Integer.toString(Math.abs(e)).length() + 1;
+        while (true) {
+            BigDecimal d = new BigDecimal(a).round(new MathContext(precision)).stripTrailingZeros();
+            String digits = d.unscaledValue().toString();
+            int exp = digits.length() - 1 - d.scale();
+            StringBuilder sb = new StringBuilder(available);
+            sb.append(digits.charAt(0));
+            if (digits.length() > 1) {
+                sb.append('.').append(digits, 1, digits.length());
+            }
+            sb.append('E').append(exp);
+            if (sb.length() <= available) {
+                for (int j = 0; j < sb.length(); j++) {
+                    b[off + j] = (byte) sb.charAt(j);
+                }
+                return sb.length();
+            }
+            precision--;
+        }
+    }
+
+    /**
+     * Formats the number as a DS value.
+     *
+     * @param v
+     * @return
+     */
+    public static String toString(double v) {
+        byte[] b = new byte[MAX_DS_LENGTH];
+        return new String(b, 0, format(v, b, 0), StandardCharsets.ISO_8859_1);
+    }
+
+}
@@ -0,0 +1,65 @@
+package wxyz.dcmj.dicom;
+
+import java.util.Arrays;
+
+/**
+ * The values of a {@link DataElement}, as objects. A single value (the common
+ * case) is held inline; multiple values are held in a small array.
+ *
+ * @param <T>
+ */
+final class ObjectValueList<T> extends ValueList<T> {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private Object _value;
+    private Object[] _values;
+    private int _size;
+
+    ObjectValueList() {
+        _value = null;
+        _values = null;
+        _size = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= _size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+        }
+        return (T) (_values == null ? _value : _values[index]);
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    void append(T value) {
+        if (_size == 0) {
+            _value = value;
+        } else {
+            if (_values == null) {
+                _values = new Object[INITIAL_CAPACITY];
+                _values[0] = _value;
+                _value = null;
+            } else if (_size == _values.length) {
+                _values = Arrays.copyOf(_values, _size * 2);
+            }
+            _values[_size] = value;
+        }
+        _size++;
+        modCount++;
+    }
+
+    @Override
+    void removeAll() {
+        _value = null;
+        _values = null;
+        _size = 0;
+        modCount++;
+    }
+
+}
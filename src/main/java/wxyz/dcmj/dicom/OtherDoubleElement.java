@@ -50,7 +50,7 @@ public class OtherDoubleElement extends InlineBinaryElement<double[]> {
         if (vl > Integer.MAX_VALUE) {
             throw new DicomException("Value length " + vl + " exceeds the maximum array size in Java: " + Integer.MAX_VALUE);
         }
-        double[] d = new double[(int) vl];
+        double[] d = new double[(int) (vl / 8)];
         in.readDouble(d);
         setValue(d);
     }
@@ -50,7 +50,7 @@ public class OtherFloatElement extends InlineBinaryElement<float[]> {
         if (vl > Integer.MAX_VALUE) {
             throw new DicomException("Value length " + vl + " exceeds the maximum array size in Java: " + Integer.MAX_VALUE);
         }
-        float[] f = new float[(int) vl];
+        float[] f = new float[(int) (vl / 4)];
         in.readFloat(f);
         setValue(f);
     }
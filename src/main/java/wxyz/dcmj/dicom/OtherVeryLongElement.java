@@ -0,0 +1,79 @@
+package wxyz.dcmj.dicom;
+
+import wxyz.dcmj.dicom.io.DicomInputStream;
+import wxyz.dcmj.dicom.io.DicomOutputStream;
+import wxyz.dcmj.dicom.util.ByteUtils;
+
+/**
+ * OV
+ * 
+ * Other 64-bit Very Long
+ * 
+ * 
+ * A stream of 64-bit words where the encoding of the contents is specified
+ * by the negotiated Transfer Syntax. OV is a VR that requires byte swapping
+ * within each word when changing byte ordering (see Section 7.3).
+ * 
+ * 
+ * not applicable
+ * 
+ * 
+ * 2^32-8 bytes maximum
+ * 
+ *
+ */
+public class OtherVeryLongElement extends InlineBinaryElement<long[]> {
+
+    public static final long MAX_BYTES_PER_VALUE = 0xfffffff8l;
+
+    public OtherVeryLongElement(DataSet dataSet, AttributeTag tag) {
+        super(dataSet, tag, ValueRepresentation.OV);
+    }
+
+    @Override
+    public long valueLength() {
+        if (value() == null) {
+            return 0;
+        }
+        return value().length * 8;
+    }
+
+    @Override
+    protected void writeValue(DicomOutputStream out) throws Throwable {
+        if (value() != null) {
+            out.writeLong(value());
+        }
+    }
+
+    @Override
+    protected void readValue(DicomInputStream in, long vl) throws Throwable {
+        if (vl > Integer.MAX_VALUE) {
+            throw new DicomException("Value length " + vl + " exceeds the maximum array size in Java: " + Integer.MAX_VALUE);
+        }
+        long[] l = new long[(int) (vl / 8)];
+        in.readLong(l);
+        setValue(l);
+    }
+
+    @Override
+    public byte[] valueToBytes(boolean bigEndian) {
+        long[] value = value();
+        if (value == null || value.length == 0) {
+            return null;
+        }
+        byte[] b = new byte[value.length * Long.BYTES];
+        ByteUtils.toByte(value, 0, value.length, b, 0, bigEndian);
+        return b;
+    }
+
+    @Override
+    public long[] bytesToValue(byte[] b, boolean bigEndian) {
+        if (b == null || b.length == 0) {
+            return null;
+        }
+        assert b.length % Long.BYTES == 0;
+        long[] l = new long[b.length / Long.BYTES];
+        ByteUtils.toLong(l, 0, b, 0, b.length, bigEndian);
+        return l;
+    }
+}
@@ -0,0 +1,512 @@
+package wxyz.dcmj.dicom;
+
+import java.util.Arrays;
+
+import wxyz.dcmj.dicom.io.DicomInputStream;
+import wxyz.dcmj.dicom.io.DicomOutputStream;
+
+/**
+ * The values of a binary numeric element (US, SS, UL, SL, FL, FD) or of an AT
+ * element, held in a primitive array. The values are read and written with
+ * one bulk call, and are only boxed when accessed through the
+ * {@link java.util.List} interface.
+ *
+ * @param <T>
+ */
+abstract class PrimitiveValueList<T> extends ValueList<T> {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    protected int _size;
+
+    protected PrimitiveValueList() {
+        _size = 0;
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    protected void checkIndex(int index) {
+        if (index < 0 || index >= _size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+        }
+    }
+
+    protected abstract int capacity();
+
+    /**
+     * Reallocates the array (null to release it).
+     *
+     * @param capacity
+     */
+    protected abstract void resize(int capacity);
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > capacity()) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Makes room for one more value.
+     */
+    protected void grow() {
+        if (_size == capacity()) {
+            resize(Math.max(INITIAL_CAPACITY, _size * 2));
+        }
+        modCount++;
+    }
+
+    @Override
+    void removeAll() {
+        resize(0);
+        _size = 0;
+        modCount++;
+    }
+
+    /**
+     * Reads and appends the specified number of values.
+     *
+     * @param in
+     * @param n
+     * @throws Throwable
+     */
+    void read(DicomInputStream in, int n) throws Throwable {
+        if (n == 0) {
+            return;
+        }
+        ensureCapacity(_size + n);
+        read(in, _size, n);
+        _size += n;
+        modCount++;
+    }
+
+    protected abstract void read(DicomInputStream in, int off, int len) throws Throwable;
+
+    abstract void write(DicomOutputStream out) throws Throwable;
+
+    /**
+     * The values of the integer VRs.
+     *
+     * @param <T>
+     */
+    static abstract class Integers<T> extends PrimitiveValueList<T> {
+
+        protected abstract long longAt(int index);
+
+        @Override
+        short[] shortArray() {
+            short[] a = new short[_size];
+            for (int i = 0; i < _size; i++) {
+                long v = longAt(i);
+                if (v < Short.MIN_VALUE || v > Short.MAX_VALUE) {
+                    return null;
+                }
+                a[i] = (short) v;
+            }
+            return a;
+        }
+
+        @Override
+        int[] intArray() {
+            int[] a = new int[_size];
+            for (int i = 0; i < _size; i++) {
+                long v = longAt(i);
+                if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) {
+                    return null;
+                }
+                a[i] = (int) v;
+            }
+            return a;
+        }
+
+        @Override
+        long[] longArray() {
+            long[] a = new long[_size];
+            for (int i = 0; i < _size; i++) {
+                a[i] = longAt(i);
+            }
+            return a;
+        }
+
+        @Override
+        float[] floatArray() {
+            float[] a = new float[_size];
+            for (int i = 0; i < _size; i++) {
+                a[i] = longAt(i);
+            }
+            return a;
+        }
+
+        @Override
+        double[] doubleArray() {
+            double[] a = new double[_size];
+            for (int i = 0; i < _size; i++) {
+                a[i] = longAt(i);
+            }
+            return a;
+        }
+    }
+
+    /**
+     * US
+     */
+    static final class UnsignedShorts extends Integers<Integer> {
+
+        private short[] _a;
+
+        @Override
+        public Integer get(int index) {
+            checkIndex(index);
+            return _a[index] & 0xffff;
+        }
+
+        @Override
+        protected long longAt(int index) {
+            return _a[index] & 0xffff;
+        }
+
+        @Override
+        protected int capacity() {
+            return _a == null ? 0 : _a.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            _a = capacity == 0 ? null : (_a == null ? new short[capacity] : Arrays.copyOf(_a, capacity));
+        }
+
+        @Override
+        void append(Integer value) {
+            grow();
+            _a[_size++] = (short) value.intValue();
+        }
+
+        @Override
+        protected void read(DicomInputStream in, int off, int len) throws Throwable {
+            in.readUnsignedShort(_a, off, len);
+        }
+
+        @Override
+        void write(DicomOutputStream out) throws Throwable {
+            if (_size > 0) {
+                out.writeUnsignedShort(_a, 0, _size);
+            }
+        }
+    }
+
+    /**
+     * SS
+     */
+    static final class Shorts extends Integers<Short> {
+
+        private short[] _a;
+
+        @Override
+        public Short get(int index) {
+            checkIndex(index);
+            return _a[index];
+        }
+
+        @Override
+        protected long longAt(int index) {
+            return _a[index];
+        }
+
+        @Override
+        short[] shortArray() {
+            return Arrays.copyOf(_a, _size);
+        }
+
+        @Override
+        protected int capacity() {
+            return _a == null ? 0 : _a.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            _a = capacity == 0 ? null : (_a == null ? new short[capacity] : Arrays.copyOf(_a, capacity));
+        }
+
+        @Override
+        void append(Short value) {
+            grow();
+            _a[_size++] = value;
+        }
+
+        @Override
+        protected void read(DicomInputStream in, int off, int len) throws Throwable {
+            in.readShort(_a, off, len);
+        }
+
+        @Override
+        void write(DicomOutputStream out) throws Throwable {
+            if (_size > 0) {
+                out.writeShort(_a, 0, _size);
+            }
+        }
+    }
+
+    /**
+     * UL
+     */
+    static final class UnsignedInts extends Integers<Long> {
+
+        private int[] _a;
+
+        @Override
+        public Long get(int index) {
+            checkIndex(index);
+            return _a[index] & 0xffffffffL;
+        }
+
+        @Override
+        protected long longAt(int index) {
+            return _a[index] & 0xffffffffL;
+        }
+
+        @Override
+        protected int capacity() {
+            return _a == null ? 0 : _a.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            _a = capacity == 0 ? null : (_a == null ? new int[capacity] : Arrays.copyOf(_a, capacity));
+        }
+
+        @Override
+        void append(Long value) {
+            grow();
+            _a[_size++] = (int) value.longValue();
+        }
+
+        @Override
+        protected void read(DicomInputStream in, int off, int len) throws Throwable {
+            in.readUnsignedInt(_a, off, len);
+        }
+
+        @Override
+        void write(DicomOutputStream out) throws Throwable {
+            if (_size > 0) {
+                out.writeUnsignedInt(_a, 0, _size);
+            }
+        }
+    }
+
+    /**
+     * SL
+     */
+    static final class Ints extends Integers<Integer> {
+
+        private int[] _a;
+
+        @Override
+        public Integer get(int index) {
+            checkIndex(index);
+            return _a[index];
+        }
+
+        @Override
+        protected long longAt(int index) {
+            return _a[index];
+        }
+
+        @Override
+        int[] intArray() {
+            return Arrays.copyOf(_a, _size);
+        }
+
+        @Override
+        protected int capacity() {
+            return _a == null ? 0 : _a.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            _a = capacity == 0 ? null : (_a == null ? new int[capacity] : Arrays.copyOf(_a, capacity));
+        }
+
+        @Override
+        void append(Integer value) {
+            grow();
+            _a[_size++] = value;
+        }
+
+        @Override
+        protected void read(DicomInputStream in, int off, int len) throws Throwable {
+            in.readInt(_a, off, len);
+        }
+
+        @Override
+        void write(DicomOutputStream out) throws Throwable {
+            if (_size > 0) {
+                out.writeInt(_a, 0, _size);
+            }
+        }
+    }
+
+    /**
+     * FL
+     */
+    static final class Floats extends PrimitiveValueList<Float> {
+
+        private float[] _a;
+
+        @Override
+        public Float get(int index) {
+            checkIndex(index);
+            return _a[index];
+        }
+
+        @Override
+        float[] floatArray() {
+            return Arrays.copyOf(_a, _size);
+        }
+
+        @Override
+        double[] doubleArray() {
+            double[] a = new double[_size];
+            for (int i = 0; i < _size; i++) {
+                a[i] = _a[i];
+            }
+            return a;
+        }
+
+        @Override
+        protected int capacity() {
+            return _a == null ? 0 : _a.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            _a = capacity == 0 ? null : (_a == null ? new float[capacity] : Arrays.copyOf(_a, capacity));
+        }
+
+        @Override
+        void append(Float value) {
+            grow();
+            _a[_size++] = value;
+        }
+
+        @Override
+        protected void read(DicomInputStream in, int off, int len) throws Throwable {
+            in.readFloat(_a, off, len);
+        }
+
+        @Override
+        void write(DicomOutputStream out) throws Throwable {
+            if (_size > 0) {
+                out.writeFloat(_a, 0, _size);
+            }
+        }
+    }
+
+    /**
+     * FD
+     */
+    static final class Doubles extends PrimitiveValueList<Double> {
+
+        private double[] _a;
+
+        @Override
+        public Double get(int index) {
+            checkIndex(index);
+            return _a[index];
+        }
+
+        @Override
+        float[] floatArray() {
+            float[] a = new float[_size];
+            for (int i = 0; i < _size; i++) {
+                a[i] = (float) _a[i];
+            }
+            return a;
+        }
+
+        @Override
+        double[] doubleArray() {
+            return Arrays.copyOf(_a, _size);
+        }
+
+        @Override
+        protected int capacity() {
+            return _a == null ? 0 : _a.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            _a = capacity == 0 ? null : (_a == null ? new double[capacity] : Arrays.copyOf(_a, capacity));
+        }
+
+        @Override
+        void append(Double value) {
+            grow();
+            _a[_size++] = value;
+        }
+
+        @Override
+        protected void read(DicomInputStream in, int off, int len) throws Throwable {
+            in.readDouble(_a, off, len);
+        }
+
+        @Override
+        void write(DicomOutputStream out) throws Throwable {
+            if (_size > 0) {
+                out.writeDouble(_a, 0, _size);
+            }
+        }
+    }
+
+    /**
+     * AT. The tags are held as their {@link AttributeTag#toUnsignedInt()}
+     * values.
+     */
+    static final class Tags extends PrimitiveValueList<AttributeTag> {
+
+        private int[] _a;
+
+        @Override
+        public AttributeTag get(int index) {
+            checkIndex(index);
+            return AttributeTag.valueOf(_a[index]);
+        }
+
+        @Override
+        protected int capacity() {
+            return _a == null ? 0 : _a.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            _a = capacity == 0 ? null : (_a == null ? new int[capacity] : Arrays.copyOf(_a, capacity));
+        }
+
+        @Override
+        void append(AttributeTag value) {
+            grow();
+            _a[_size++] = value.toUnsignedInt();
+        }
+
+        @Override
+        protected void read(DicomInputStream in, int off, int len) throws Throwable {
+            int end = off + len;
+            for (int i = off; i < end; i++) {
+                int group = in.readUnsignedShort();
+                int element = in.readUnsignedShort();
+                _a[i] = (group << 16) | element;
+            }
+        }
+
+        @Override
+        void write(DicomOutputStream out) throws Throwable {
+            for (int i = 0; i < _size; i++) {
+                out.writeUnsignedShort(_a[i] >>> 16);
+                out.writeUnsignedShort(_a[i] & 0xffff);
+            }
+        }
+    }
+
+}
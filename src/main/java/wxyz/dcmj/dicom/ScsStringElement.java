@@ -23,6 +23,13 @@ public abstract class ScsStringElement extends StringElement {
         _vl = 0;
     }
 
+    @Override
+    protected void addReadValue(String value) throws Throwable {
+        super.addReadValue(value);
+        // reset vl
+        _vl = 0;
+    }
+
     @Override
     public long valueLength() {
         List<String> values = values();
@@ -1,8 +1,8 @@
 package wxyz.dcmj.dicom;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Vector;
 
 import wxyz.dcmj.dicom.io.DicomInputStream;
 import wxyz.dcmj.dicom.io.DicomOutputStream;
@@ -26,15 +26,22 @@ public class SequenceElement extends DataElement<List<DataSet>> {
 
     private SpecificCharacterSet _scs;
 
+    /*
+     * the explicit length of the value, computed by length() for the next
+     * write with explicit length sequences. -1 if not computed.
+     */
+    private long _length = -1;
+
     public SequenceElement(DataSet dataSet, AttributeTag tag, SpecificCharacterSet scs) {
         super(dataSet, tag, ValueRepresentation.SQ);
         _scs = scs;
     }
 
     /**
-     * Note: We can decode explicit vl SQ element. But we do not encode explicit
-     * vl SQ element. Therefore, this method always return undefined length:
-     * 0xffffffffl.
+     * Note: the sequence is written with undefined length, unless the stream
+     * writes explicit length sequences (see
+     * {@link DicomOutputStream#setExplicitLengthSequences(boolean)}).
+     * Therefore, this method always return undefined length: 0xffffffffl.
      * 
      * More details see:
      * http://dicom.nema.org/dicom/2013/output/chtml/part05/sect_7.5.html
@@ -44,6 +51,55 @@ public class SequenceElement extends DataElement<List<DataSet>> {
         return Constants.UNDEFINED_LENGTH;
     }
 
+    @Override
+    long length(boolean explicitVR, boolean explicitLengthSequences) throws Throwable {
+        long length = 0;
+        List<DataSet> items = value();
+        if (items != null) {
+            for (DataSet item : items) {
+                // item tag and length, and item delimiter if undefined length
+                length += 8 + item.length(explicitVR, explicitLengthSequences) + (explicitLengthSequences ? 0 : 8);
+            }
+        }
+        if (explicitLengthSequences) {
+            _length = length;
+        } else {
+            // sequence delimiter
+            length += 8;
+        }
+        return headerLength(explicitVR) + length;
+    }
+
+    /**
+     * Writes the sequence. With explicit length, the lengths computed by the
+     * last length pass (see {@link DataSet#write(DicomOutputStream, boolean)})
+     * are used, and reset: they are computed again if the sequence is written
+     * on its own.
+     */
+    @Override
+    public void write(DicomOutputStream out) throws Throwable {
+        if (!out.explicitLengthSequences()) {
+            super.write(out);
+            return;
+        }
+        if (_length < 0) {
+            length(out.currentTransferSyntax().explicitVR(), true);
+        }
+        long vl = _length;
+        _length = -1;
+        out.writeUnsignedShort(tag().group());
+        out.writeUnsignedShort(tag().element());
+        writeHeader(out, vl);
+        List<DataSet> items = value();
+        if (items != null) {
+            for (DataSet item : items) {
+                AttributeTag.Item.write(out);
+                out.writeUnsignedInt(item.length());
+                item.writeFragment(out);
+            }
+        }
+    }
+
     @Override
     protected void writeValue(DicomOutputStream out) throws Throwable {
         List<DataSet> items = value();
@@ -75,7 +131,7 @@ public class SequenceElement extends DataElement<List<DataSet>> {
     protected void readValue(DicomInputStream in, long vl) throws Throwable {
         long startOffset = in.position();
         long endOffset = (vl == Constants.UNDEFINED_LENGTH) ? Constants.UNDEFINED_LENGTH : in.position() + vl - 1;
-        List<DataSet> items = new Vector<DataSet>();
+        List<DataSet> items = new ArrayList<DataSet>();
         while (/* i.available() > 0 && */(vl == Constants.UNDEFINED_LENGTH || in.position() < endOffset)) {
             AttributeTag tag = AttributeTag.read(in);
             // always implicit VR form for items and delimiters
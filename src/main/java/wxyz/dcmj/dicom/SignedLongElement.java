@@ -33,6 +33,11 @@ public class SignedLongElement extends DataElement<Integer> {
         super(dataSet, tag, ValueRepresentation.SL);
     }
 
+    @Override
+    ValueList<Integer> createValueList() {
+        return new PrimitiveValueList.Ints();
+    }
+
     @Override
     public long valueLength() {
         List<Integer> values = values();
@@ -41,12 +46,7 @@ public class SignedLongElement extends DataElement<Integer> {
 
     @Override
     protected void writeValue(DicomOutputStream out) throws Throwable {
-        List<Integer> values = values();
-        if (values != null) {
-            for (Integer value : values) {
-                out.writeInt(value);
-            }
-        }
+        ((PrimitiveValueList<Integer>) valueList()).write(out);
     }
 
     @Override
@@ -54,9 +54,7 @@ public class SignedLongElement extends DataElement<Integer> {
         if (vl % BYTES_PER_VALUE != 0 || vl == Constants.UNDEFINED_LENGTH) {
             throw new DicomException("Invalid value length " + vl + " for SignedLong(SL) element.");
         }
-        for (int i = 0; i < vl; i += BYTES_PER_VALUE) {
-            addValue(in.readInt());
-        }
+        ((PrimitiveValueList<Integer>) valueList()).read(in, (int) (vl / BYTES_PER_VALUE));
     }
 
 }
@@ -32,6 +32,11 @@ public class SignedShortElement extends DataElement<Short> {
         super(dataSet, tag, ValueRepresentation.SS);
     }
 
+    @Override
+    ValueList<Short> createValueList() {
+        return new PrimitiveValueList.Shorts();
+    }
+
     @Override
     public long valueLength() {
         List<Short> values = values();
@@ -40,12 +45,7 @@ public class SignedShortElement extends DataElement<Short> {
 
     @Override
     protected void writeValue(DicomOutputStream out) throws Throwable {
-        List<Short> values = values();
-        if (values != null) {
-            for (Short value : values) {
-                out.writeShort(value);
-            }
-        }
+        ((PrimitiveValueList<Short>) valueList()).write(out);
     }
 
     @Override
@@ -53,9 +53,7 @@ public class SignedShortElement extends DataElement<Short> {
         if (vl % BYTES_PER_VALUE != 0 || vl == Constants.UNDEFINED_LENGTH) {
             throw new DicomException("Invalid value length " + vl + " for SignedShort(ST) element.");
         }
-        for (int i = 0; i < vl; i += BYTES_PER_VALUE) {
-            addValue(in.readShort());
-        }
+        ((PrimitiveValueList<Short>) valueList()).read(in, (int) (vl / BYTES_PER_VALUE));
     }
 
 }
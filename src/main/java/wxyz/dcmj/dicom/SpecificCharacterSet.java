@@ -1,8 +1,10 @@
 package wxyz.dcmj.dicom;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 
@@ -150,11 +152,55 @@ public class SpecificCharacterSet {
         _charsets.put(DT_ISO_2022_IR_149, CS_CP949);
     }
 
-    private String _charsetName;
-    private boolean _codeExtension;
+    /*
+     * the shared instances for the defined terms, without and with code
+     * extensions.
+     */
+    private static Map<String, SpecificCharacterSet> _instances;
+    private static Map<String, SpecificCharacterSet> _codeExtensionInstances;
+    static {
+        _instances = new HashMap<String, SpecificCharacterSet>();
+        _codeExtensionInstances = new HashMap<String, SpecificCharacterSet>();
+        for (Map.Entry<String, String> e : _charsets.entrySet()) {
+            _instances.put(e.getKey(), new SpecificCharacterSet(e.getValue(), false));
+            _codeExtensionInstances.put(e.getKey(), new SpecificCharacterSet(e.getValue(), true));
+        }
+    }
+
+    /*
+     * resolved charsets, by name.
+     */
+    private static final Map<String, Charset> _resolvedCharsets = new ConcurrentHashMap<String, Charset>();
+
+    static Charset charset(String charsetName) throws UnsupportedEncodingException {
+        Charset charset = _resolvedCharsets.get(charsetName);
+        if (charset == null) {
+            try {
+                charset = Charset.forName(charsetName);
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedEncodingException(charsetName);
+            }
+            _resolvedCharsets.put(charsetName, charset);
+        }
+        return charset;
+    }
+
+    private final String _charsetName;
+    private final boolean _codeExtension;
+    private final Charset _charset; // null if not supported by the JVM.
 
     protected SpecificCharacterSet(String charsetName, boolean codeExtension) {
         _charsetName = charsetName;
+        _codeExtension = codeExtension;
+        Charset charset = null;
+        if (charsetName != null) {
+            try {
+                charset = charset(charsetName);
+            } catch (UnsupportedEncodingException e) {
+                // reported when decoding/encoding.
+            }
+        }
+        _charset = charset;
     }
 
     public String charsetName() {
@@ -170,6 +216,10 @@ public class SpecificCharacterSet {
             return new String(b, offset, length);
         }
         if (!_codeExtension) {
+            // ASCII, ISO_IR 100, UTF-8 ... decode with the resolved charset.
+            if (_charset != null) {
+                return new String(b, offset, length, _charset);
+            }
             return new String(b, offset, length, charsetName());
         } else {
             String charsetName = charsetName();
@@ -178,11 +228,11 @@ public class SpecificCharacterSet {
             int off = offset;
             int cur = offset;
             int bytesPerChar = 1;
-            StringBuffer sb = new StringBuffer(length);
+            StringBuilder sb = new StringBuilder(length);
             while (cur < max) {
                 if (b[cur] == 0x1b) { // ESC
                     if (off < cur) {
-                        sb.append(new String(b, off, cur - off, charsetName));
+                        sb.append(new String(b, off, cur - off, charset(charsetName)));
                     }
                     cur += 3;
                     switch ((b[cur - 2] << 8) | b[cur - 1]) {
@@ -191,7 +241,7 @@ public class SpecificCharacterSet {
                             charsetName = CS_JIS0212;
                             bytesPerChar = 2;
                         } else { // decode invalid ESC sequence as chars
-                            sb.append(new String(b, cur - 4, 4, charsetName));
+                            sb.append(new String(b, cur - 4, 4, charset(charsetName)));
                         }
                         break;
                     case 0x2429:
@@ -199,7 +249,7 @@ public class SpecificCharacterSet {
                             charsetName = CS_CP949;
                             bytesPerChar = -1;
                         } else { // decode invalid ESC sequence as chars
-                            sb.append(new String(b, cur - 4, 4, charsetName));
+                            sb.append(new String(b, cur - 4, 4, charset(charsetName)));
                         }
                         break;
                     case 0x2442:
@@ -256,7 +306,7 @@ public class SpecificCharacterSet {
                         bytesPerChar = 1;
                         break;
                     default: // decode invalid ESC sequence as chars
-                        sb.append(new String(b, cur - 3, 3, charsetName));
+                        sb.append(new String(b, cur - 3, 3, charset(charsetName)));
                     }
                     off = cur;
                 } else {
@@ -264,7 +314,7 @@ public class SpecificCharacterSet {
                 }
             }
             if (off < cur) {
-                sb.append(new String(b, off, cur - off, charsetName));
+                sb.append(new String(b, off, cur - off, charset(charsetName)));
             }
             return sb.toString();
         }
@@ -275,13 +325,23 @@ public class SpecificCharacterSet {
     }
 
     public byte[] encode(String value) throws UnsupportedEncodingException  {
-        if (_charsetName != null) {
+        if (_charset != null) {
+            return value.getBytes(_charset);
+        } else if (_charsetName != null) {
             return value.getBytes(_charsetName);
         } else {
-            return value.getBytes(CS_ASCII);
+            return value.getBytes(charset(CS_ASCII));
         }
     }
 
+    /**
+     * The character set of the SpecificCharacterSet values. The instances are
+     * shared (immutable).
+     * 
+     * @param values
+     * @return
+     * @throws Throwable
+     */
     public static SpecificCharacterSet get(String[] values) throws Throwable {
         String value1 = null;
         if (values == null || values.length == 0) {
@@ -293,7 +353,7 @@ public class SpecificCharacterSet {
             // value1 is not a defined term.
             throw new Exception("Undefined term: " + value1 + ".");
         }
-        return new SpecificCharacterSet(_charsets.get(value1), values!=null&&values.length > 1);
+        return (values != null && values.length > 1) ? _codeExtensionInstances.get(value1) : _instances.get(value1);
     }
 
 }
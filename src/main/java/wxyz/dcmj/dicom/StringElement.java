@@ -29,14 +29,39 @@ public abstract class StringElement extends DataElement<String> {
     protected void readValue(DicomInputStream in, long vl) throws Throwable {
         String[] svs = in.readStrings((int) vl, specificCharacterSet(), Constants.VALUE_DELIMITER, paddingByte());
         if (svs != null && svs.length > 0) {
+            ValidationMode mode = in.validationMode();
             for (int i = 0; i < svs.length; i++) {
                 // NOTE: extra trim for invalid padding byte. e.g. CS wrongly
                 // padded with 0x0.
-                addValue(StringUtils.trimRight(svs[i]));
+                String value = StringUtils.trimRight(svs[i]);
+                // an empty value is always allowed.
+                if (mode != ValidationMode.OFF && !value.isEmpty()) {
+                    if (mode == ValidationMode.STRICT) {
+                        validate(value);
+                    } else {
+                        try {
+                            validate(value);
+                        } catch (DicomException e) {
+                            System.err.println("Warning: " + tag() + ": " + e.getMessage());
+                        }
+                    }
+                }
+                addReadValue(value);
             }
         }
     }
 
+    /**
+     * Adds a value read, which has already been validated (or not, depending
+     * on the {@link ValidationMode}).
+     * 
+     * @param value
+     * @throws Throwable
+     */
+    protected void addReadValue(String value) throws Throwable {
+        super.addValue(value);
+    }
+
     @Override
     public void addValue(String value) throws Throwable {
         validate(value);
@@ -0,0 +1,92 @@
+package wxyz.dcmj.dicom;
+
+import java.util.Arrays;
+
+/**
+ * A set of tags to include in (or exclude from) reading. The tags are kept as
+ * a sorted array of their {@link AttributeTag#toUnsignedInt()} values, so that
+ * matching a tag is a binary search without allocation.
+ *
+ * The filter only applies to the top level elements of the data set. The file
+ * meta information elements and SpecificCharacterSet are always read. (To
+ * decompress encapsulated PixelData, Rows, Columns, NumberOfFrames,
+ * SamplesPerPixel and BitsAllocated must be included as well.)
+ *
+ */
+public class TagFilter {
+
+    private int[] _keys;
+    private boolean _include;
+
+    private TagFilter(int[] tags, boolean include) {
+        _keys = new int[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            _keys[i] = key(tags[i]);
+        }
+        Arrays.sort(_keys);
+        _include = include;
+    }
+
+    /*
+     * flip the sign bit so that the signed order of the keys is the unsigned
+     * order of the tags.
+     */
+    private static int key(int tag) {
+        return tag ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Whether the element with the specified tag should be read.
+     *
+     * @param tag
+     * @return
+     */
+    public boolean accept(AttributeTag tag) {
+        return accept(tag.toUnsignedInt());
+    }
+
+    public boolean accept(int tag) {
+        return (Arrays.binarySearch(_keys, key(tag)) >= 0) == _include;
+    }
+
+    /**
+     * Whether no element at or after the specified tag can be accepted. Since
+     * the elements of a data set are in ascending tag order, reading can stop
+     * there.
+     *
+     * @param tag
+     * @return
+     */
+    public boolean isPastLastIncluded(AttributeTag tag) {
+        return _include && (_keys.length == 0 || key(tag.toUnsignedInt()) > _keys[_keys.length - 1]);
+    }
+
+    public boolean isInclude() {
+        return _include;
+    }
+
+    public static TagFilter include(int... tags) {
+        return new TagFilter(tags, true);
+    }
+
+    public static TagFilter include(AttributeTag... tags) {
+        return include(toUnsignedInts(tags));
+    }
+
+    public static TagFilter exclude(int... tags) {
+        return new TagFilter(tags, false);
+    }
+
+    public static TagFilter exclude(AttributeTag... tags) {
+        return exclude(toUnsignedInts(tags));
+    }
+
+    private static int[] toUnsignedInts(AttributeTag... tags) {
+        int[] ts = new int[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            ts[i] = tags[i].toUnsignedInt();
+        }
+        return ts;
+    }
+
+}
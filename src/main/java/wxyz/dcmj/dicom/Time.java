@@ -114,4 +114,10 @@ public class Time {
         }
     }
 
+    public static void validate(String value) throws Throwable {
+        if (value == null || !ValueValidator.isValidTM(value)) {
+            throw new DicomException("Invalid Time(TM) value: " + value);
+        }
+    }
+
 }
@@ -73,7 +73,7 @@ public class TimeElement extends AsciiStringElement {
 
     @Override
     protected void validate(String value) throws Throwable {
-        Time.parse(value);
+        Time.validate(value);
     }
 
     public Time object() throws Throwable {
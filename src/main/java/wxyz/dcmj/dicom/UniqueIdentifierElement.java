@@ -1,7 +1,5 @@
 package wxyz.dcmj.dicom;
 
-import java.util.regex.Pattern;
-
 /**
  * UI
  * 
@@ -41,7 +39,7 @@ public class UniqueIdentifierElement extends AsciiStringElement {
         if (value.length() > UniqueIdentifierElement.MAX_BYTES_PER_VALUE) {
             throw new DicomException("Invalid UniqueIdentifier(UI) value: " + value + " It exceeds the maximum length: " + UniqueIdentifierElement.MAX_BYTES_PER_VALUE);
         }
-        if (!Pattern.matches("^\\d+(\\d*.)*\\d+$", value)) {
+        if (!ValueValidator.isValidUI(value)) {
             throw new DicomException("Invalid UniqueIdentifier(UI) value: " + value);
         }
     }
@@ -30,6 +30,11 @@ public class UnsignedLongElement extends DataElement<Long> {
         super(dataSet, tag, ValueRepresentation.UL);
     }
 
+    @Override
+    ValueList<Long> createValueList() {
+        return new PrimitiveValueList.UnsignedInts();
+    }
+
     @Override
     public long valueLength() {
         List<Long> values = values();
@@ -38,12 +43,7 @@ public class UnsignedLongElement extends DataElement<Long> {
 
     @Override
     protected void writeValue(DicomOutputStream out) throws Throwable {
-        List<Long> values = values();
-        if (values != null) {
-            for (Long value : values) {
-                out.writeUnsignedInt(value);
-            }
-        }
+        ((PrimitiveValueList<Long>) valueList()).write(out);
     }
 
     @Override
@@ -51,9 +51,7 @@ public class UnsignedLongElement extends DataElement<Long> {
         if (vl % BYTES_PER_VALUE != 0 || vl == Constants.UNDEFINED_LENGTH) {
             throw new DicomException("Invalid value length " + vl + " for UnsignedLong(UL) element.");
         }
-        for (int i = 0; i < vl; i += BYTES_PER_VALUE) {
-            addValue(in.readUnsignedInt());
-        }
+        ((PrimitiveValueList<Long>) valueList()).read(in, (int) (vl / BYTES_PER_VALUE));
     }
 
 }
@@ -31,6 +31,11 @@ public class UnsignedShortElement extends DataElement<Integer> {
         super(dataSet, tag, ValueRepresentation.US);
     }
 
+    @Override
+    ValueList<Integer> createValueList() {
+        return new PrimitiveValueList.UnsignedShorts();
+    }
+
     @Override
     public long valueLength() {
         List<Integer> values = values();
@@ -39,12 +44,7 @@ public class UnsignedShortElement extends DataElement<Integer> {
 
     @Override
     protected void writeValue(DicomOutputStream out) throws Throwable {
-        List<Integer> values = values();
-        if (values != null) {
-            for (Integer value : values) {
-                out.writeUnsignedShort(value);
-            }
-        }
+        ((PrimitiveValueList<Integer>) valueList()).write(out);
     }
 
     @Override
@@ -52,8 +52,6 @@ public class UnsignedShortElement extends DataElement<Integer> {
         if (vl % BYTES_PER_VALUE != 0 || vl == Constants.UNDEFINED_LENGTH) {
             throw new DicomException("Invalid value length " + vl + " for UnsignedShort(US) element.");
         }
-        for (int i = 0; i < vl; i += BYTES_PER_VALUE) {
-            addValue(in.readUnsignedShort());
-        }
+        ((PrimitiveValueList<Integer>) valueList()).read(in, (int) (vl / BYTES_PER_VALUE));
     }
 }
@@ -0,0 +1,27 @@
+package wxyz.dcmj.dicom;
+
+/**
+ * How the string values are validated when they are read. See
+ * {@link wxyz.dcmj.dicom.io.DicomInputStream#setValidationMode(ValidationMode)}.
+ *
+ * Values added by the application are always validated.
+ *
+ */
+public enum ValidationMode {
+
+    /**
+     * an invalid value fails the reading (default).
+     */
+    STRICT,
+
+    /**
+     * an invalid value is reported to System.err and kept.
+     */
+    LENIENT,
+
+    /**
+     * the values are not validated.
+     */
+    OFF
+
+}
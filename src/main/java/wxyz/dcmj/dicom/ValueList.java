@@ -0,0 +1,45 @@
+package wxyz.dcmj.dicom;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The values of a {@link DataElement}. Not synchronized.
+ *
+ * The list is read-only through the {@link java.util.List} interface. It is
+ * only modified by the element.
+ *
+ * @param <T>
+ */
+abstract class ValueList<T> extends AbstractList<T> implements RandomAccess {
+
+    abstract void append(T value);
+
+    abstract void removeAll();
+
+    /**
+     * The values as a new array, if they are all representable as shorts.
+     * 
+     * @return the array, or null if the values are not numbers (or do not fit).
+     */
+    short[] shortArray() {
+        return null;
+    }
+
+    int[] intArray() {
+        return null;
+    }
+
+    long[] longArray() {
+        return null;
+    }
+
+    float[] floatArray() {
+        return null;
+    }
+
+    double[] doubleArray() {
+        return null;
+    }
+
+}
@@ -37,6 +37,8 @@ public enum ValueRepresentation {
     
     OF("OtherFloat",         false, 0x0, false,  4, true),
     
+    OV("OtherVeryLong",      false, 0x0, false,  8, true),
+    
     OW("OtherWord",          false, 0x0, false,  2, true),
     
     PN("PersonName",          true, ' ', true,  -1, false),
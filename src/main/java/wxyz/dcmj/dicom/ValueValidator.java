@@ -0,0 +1,408 @@
+package wxyz.dcmj.dicom;
+
+/**
+ * Validators of the string values of the VRs with a restricted character
+ * repertoire or format: CS, AS, DA, TM, DT, UI, IS, DS and AE. They scan the
+ * characters of the value once, without regular expressions, parsing or
+ * allocation, as they are called for every value read.
+ *
+ * Leading and trailing spaces are allowed where the standard allows them
+ * (trailing spaces are the padding).
+ *
+ */
+public final class ValueValidator {
+
+    private ValueValidator() {
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int start(String value) {
+        int i = 0;
+        int n = value.length();
+        while (i < n && value.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int end(String value) {
+        int n = value.length();
+        while (n > 0 && value.charAt(n - 1) == ' ') {
+            n--;
+        }
+        return n;
+    }
+
+    /*
+     * the value of the two digits at the offset, or -1 if they are not digits.
+     */
+    private static int digits2(String value, int offset) {
+        char c1 = value.charAt(offset);
+        char c2 = value.charAt(offset + 1);
+        if (!isDigit(c1) || !isDigit(c2)) {
+            return -1;
+        }
+        return (c1 - '0') * 10 + (c2 - '0');
+    }
+
+    private static int digits4(String value, int offset) {
+        int hi = digits2(value, offset);
+        int lo = digits2(value, offset + 2);
+        if (hi < 0 || lo < 0) {
+            return -1;
+        }
+        return hi * 100 + lo;
+    }
+
+    private static boolean isValidDate(int year, int month, int date) {
+        if (month < 1 || month > 12 || date < 1) {
+            return false;
+        }
+        switch (month) {
+        case 2:
+            return date <= ((year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28);
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return date <= 30;
+        default:
+            return date <= 31;
+        }
+    }
+
+    /**
+     * Code String: 1 to 16 of uppercase letters, digits, space and underscore.
+     *
+     * @param value
+     * @return
+     */
+    public static boolean isValidCS(String value) {
+        int n = value.length();
+        if (n == 0 || n > CodeStringElement.MAX_BYTES_PER_VALUE) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            if (!((c >= 'A' && c <= 'Z') || isDigit(c) || c == ' ' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Age String: nnnD, nnnW, nnnM or nnnY.
+     *
+     * @param value
+     * @return
+     */
+    public static boolean isValidAS(String value) {
+        if (value.length() != AgeStringElement.BYTES_PER_VALUE) {
+            return false;
+        }
+        char u = value.charAt(3);
+        return isDigit(value.charAt(0)) && isDigit(value.charAt(1)) && isDigit(value.charAt(2)) && (u == 'D' || u == 'W' || u == 'M' || u == 'Y');
+    }
+
+    /**
+     * Date: YYYYMMDD. The old ACR-NEMA form YYYY.MM.DD is accepted as well.
+     *
+     * @param value
+     * @return
+     */
+    public static boolean isValidDA(String value) {
+        int n = end(value);
+        int nd = 0;
+        int year = 0;
+        int month = 0;
+        int date = 0;
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                continue;
+            }
+            if (!isDigit(c) || nd == 8) {
+                return false;
+            }
+            int d = c - '0';
+            if (nd < 4) {
+                year = year * 10 + d;
+            } else if (nd < 6) {
+                month = month * 10 + d;
+            } else {
+                date = date * 10 + d;
+            }
+            nd++;
+        }
+        return nd == 8 && isValidDate(year, month, date);
+    }
+
+    /**
+     * Time: HH[MM[SS[.F{1,6}]]]. The old ACR-NEMA form HH:MM:SS is accepted as
+     * well.
+     *
+     * @param value
+     * @return
+     */
+    public static boolean isValidTM(String value) {
+        int i = start(value);
+        int n = end(value);
+        // hour, minute, second
+        int nf = 0;
+        int field = 0;
+        int fieldDigits = 0;
+        while (i < n) {
+            char c = value.charAt(i);
+            if (c == ':') {
+                i++;
+                continue;
+            }
+            if (c == '.') {
+                break;
+            }
+            if (!isDigit(c) || nf == 3) {
+                return false;
+            }
+            field = field * 10 + (c - '0');
+            fieldDigits++;
+            if (fieldDigits == 2) {
+                if (field > (nf == 0 ? 23 : (nf == 1 ? 59 : 60))) {
+                    // 60 is leap second
+                    return false;
+                }
+                nf++;
+                field = 0;
+                fieldDigits = 0;
+            }
+            i++;
+        }
+        if (nf == 0 || fieldDigits != 0) {
+            return false;
+        }
+        if (i < n) {
+            // fraction
+            return nf == 3 && isFraction(value, i + 1, n);
+        }
+        return true;
+    }
+
+    private static boolean isFraction(String value, int start, int end) {
+        int n = end - start;
+        if (n < 1 || n > 6) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Date Time: YYYY[MM[DD[HH[MM[SS[.F{1,6}]]]]]][&ZZXX], where & is + or -.
+     *
+     * @param value
+     * @return
+     */
+    public static boolean isValidDT(String value) {
+        int n = end(value);
+        // offset suffix
+        if (n >= 9) {
+            char sign = value.charAt(n - 5);
+            if (sign == '+' || sign == '-') {
+                int hh = digits2(value, n - 4);
+                int mm = digits2(value, n - 2);
+                if (hh < 0 || hh > 14 || mm < 0 || mm > 59) {
+                    return false;
+                }
+                n -= 5;
+            }
+        }
+        int dot = -1;
+        for (int i = 0; i < n; i++) {
+            if (value.charAt(i) == '.') {
+                dot = i;
+                break;
+            }
+        }
+        if (dot >= 0) {
+            if (dot != 14 || !isFraction(value, dot + 1, n)) {
+                return false;
+            }
+            n = dot;
+        }
+        if (n < 4 || n > 14 || (n & 1) != 0) {
+            return false;
+        }
+        int year = digits4(value, 0);
+        if (year < 0) {
+            return false;
+        }
+        if (n > 4) {
+            int month = digits2(value, 4);
+            if (month < 1 || month > 12) {
+                return false;
+            }
+            if (n > 6 && !isValidDate(year, month, digits2(value, 6))) {
+                return false;
+            }
+        }
+        if (n > 8) {
+            int hour = digits2(value, 8);
+            if (hour < 0 || hour > 23) {
+                return false;
+            }
+        }
+        if (n > 10) {
+            int minute = digits2(value, 10);
+            if (minute < 0 || minute > 59) {
+                return false;
+            }
+        }
+        if (n > 12) {
+            int second = digits2(value, 12);
+            if (second < 0 || second > 60) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Unique Identifier: numeric components separated by '.', up to 64
+     * characters.
+     *
+     * @param value
+     * @return
+     */
+    public static boolean isValidUI(String value) {
+        int n = value.length();
+        if (n == 0 || n > UniqueIdentifierElement.MAX_BYTES_PER_VALUE) {
+            return false;
+        }
+        boolean componentStart = true;
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (componentStart) {
+                    return false;
+                }
+                componentStart = true;
+            } else if (isDigit(c)) {
+                componentStart = false;
+            } else {
+                return false;
+            }
+        }
+        return !componentStart;
+    }
+
+    /**
+     * Integer String: an optionally signed integer in the range of a 32-bit
+     * signed integer, up to 12 characters.
+     *
+     * @param value
+     * @return
+     */
+    public static boolean isValidIS(String value) {
+        if (value.length() > IntegerStringElement.MAX_BYTES_PER_VALUE) {
+            return false;
+        }
+        int i = start(value);
+        int n = end(value);
+        if (i < n && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+            i++;
+        }
+        if (i == n) {
+            return false;
+        }
+        boolean negative = value.charAt(start(value)) == '-';
+        long v = 0;
+        for (; i < n; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return false;
+            }
+            v = v * 10 + (c - '0');
+            if (v > (negative ? 0x80000000L : 0x7fffffffL)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decimal String: a fixed point or floating point number, up to 16
+     * characters.
+     *
+     * @param value
+     * @return
+     */
+    public static boolean isValidDS(String value) {
+        if (value.length() > DecimalStringElement.MAX_BYTES_PER_VALUE) {
+            return false;
+        }
+        int i = start(value);
+        int n = end(value);
+        if (i < n && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+            i++;
+        }
+        int nd = 0;
+        while (i < n && isDigit(value.charAt(i))) {
+            i++;
+            nd++;
+        }
+        if (i < n && value.charAt(i) == '.') {
+            i++;
+            while (i < n && isDigit(value.charAt(i))) {
+                i++;
+                nd++;
+            }
+        }
+        if (nd == 0) {
+            return false;
+        }
+        if (i < n && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            if (i < n && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+                i++;
+            }
+            int ne = 0;
+            while (i < n && isDigit(value.charAt(i))) {
+                i++;
+                ne++;
+            }
+            if (ne == 0) {
+                return false;
+            }
+        }
+        return i == n;
+    }
+
+    /**
+     * Application Entity: 1 to 16 characters, excluding the value delimiter
+     * and the control characters.
+     *
+     * @param value
+     * @return
+     */
+    public static boolean isValidAE(String value) {
+        int n = value.length();
+        if (n == 0 || n > ApplicationEntityElement.MAX_BYTES_PER_VALUE) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '\r' || c == '\n' || c == '\f' || c == '\u001B') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
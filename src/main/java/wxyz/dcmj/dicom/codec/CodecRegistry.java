@@ -0,0 +1,383 @@
+package wxyz.dcmj.dicom.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import wxyz.dcmj.dicom.DicomException;
+import wxyz.dcmj.dicom.TransferSyntax;
+
+/**
+ * The codecs of the compressed transfer syntaxes. The decoders and encoders
+ * they create are pooled per transfer syntax and reused, so that the codec
+ * (e.g. the ImageIO reader) is looked up and created once, not for each data
+ * set or frame.
+ *
+ * The JPEG, JPEG-LS and JPEG 2000 transfer syntaxes are registered by default
+ * with {@link ImageIOCodec}s, and RLE Lossless with the {@link RLECodec}.
+ *
+ */
+public final class CodecRegistry {
+
+    /*
+     * the maximum number of idle decoders (and encoders) kept per transfer
+     * syntax.
+     */
+    private static final int MAX_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static class Entry {
+
+        final FrameCodec codec;
+        final Queue<FrameDecoder> decoders;
+        final Queue<FrameEncoder> encoders;
+
+        Entry(FrameCodec codec) {
+            this.codec = codec;
+            this.decoders = new ConcurrentLinkedQueue<FrameDecoder>();
+            this.encoders = new ConcurrentLinkedQueue<FrameEncoder>();
+        }
+
+        void dispose() {
+            FrameDecoder decoder;
+            while ((decoder = decoders.poll()) != null) {
+                decoder.dispose();
+            }
+            FrameEncoder encoder;
+            while ((encoder = encoders.poll()) != null) {
+                encoder.dispose();
+            }
+        }
+    }
+
+    private static final Map<String, Entry> _codecs = new ConcurrentHashMap<String, Entry>();
+
+    static {
+        register(TransferSyntax.JPEGBaseline, new ImageIOCodec(TransferSyntax.JPEGBaseline, "JPEG"));
+        register(TransferSyntax.JPEGExtended, new ImageIOCodec(TransferSyntax.JPEGExtended, "JPEG"));
+        register(TransferSyntax.JPEGLossless, new ImageIOCodec(TransferSyntax.JPEGLossless, "jpeg-lossless"));
+        register(TransferSyntax.JPEGLosslessFOP, new ImageIOCodec(TransferSyntax.JPEGLosslessFOP, "jpeg-lossless"));
+        register(TransferSyntax.JPEGLSLossless, new ImageIOCodec(TransferSyntax.JPEGLSLossless, "jpeg-ls"));
+        register(TransferSyntax.JPEGLS, new ImageIOCodec(TransferSyntax.JPEGLS, "jpeg-ls"));
+        register(TransferSyntax.JPEG2000Lossless, new ImageIOCodec(TransferSyntax.JPEG2000Lossless, "JPEG2000"));
+        register(TransferSyntax.JPEG2000, new ImageIOCodec(TransferSyntax.JPEG2000, "JPEG2000"));
+        register(TransferSyntax.RLELossless, new RLECodec());
+    }
+
+    private CodecRegistry() {
+    }
+
+    /**
+     * Registers the codec of the transfer syntax, replacing the previous one
+     * (whose pooled decoders and encoders are disposed).
+     *
+     * @param ts
+     * @param codec
+     */
+    public static void register(TransferSyntax ts, FrameCodec codec) {
+        Entry previous = _codecs.put(ts.uid(), new Entry(codec));
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    public static void unregister(TransferSyntax ts) {
+        Entry previous = _codecs.remove(ts.uid());
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    /**
+     * The codec of the transfer syntax.
+     *
+     * @param ts
+     * @return the codec, or null if none is registered.
+     */
+    public static FrameCodec codec(TransferSyntax ts) {
+        Entry entry = ts == null ? null : _codecs.get(ts.uid());
+        return entry == null ? null : entry.codec;
+    }
+
+    public static boolean hasCodec(TransferSyntax ts) {
+        return codec(ts) != null;
+    }
+
+    private static Entry entry(TransferSyntax ts) throws DicomException {
+        Entry entry = ts == null ? null : _codecs.get(ts.uid());
+        if (entry == null) {
+            throw new DicomException("Unable to find codec for transfer syntax " + ts + ".");
+        }
+        return entry;
+    }
+
+    /**
+     * Takes a decoder from the pool, or creates one. It must be given back
+     * with {@link #releaseDecoder(TransferSyntax, FrameDecoder)}.
+     *
+     * @param ts
+     * @return
+     * @throws Throwable
+     */
+    public static FrameDecoder acquireDecoder(TransferSyntax ts) throws Throwable {
+        Entry entry = entry(ts);
+        FrameDecoder decoder = entry.decoders.poll();
+        return decoder != null ? decoder : entry.codec.createDecoder();
+    }
+
+    /**
+     * Gives the decoder back to the pool (or disposes it if the pool is full).
+     *
+     * @param ts
+     * @param decoder
+     */
+    public static void releaseDecoder(TransferSyntax ts, FrameDecoder decoder) {
+        Entry entry = _codecs.get(ts.uid());
+        if (entry != null && entry.decoders.size() < MAX_POOL_SIZE) {
+            entry.decoders.offer(decoder);
+        } else {
+            decoder.dispose();
+        }
+    }
+
+    /**
+     * Takes an encoder from the pool, or creates one. It must be given back
+     * with {@link #releaseEncoder(TransferSyntax, FrameEncoder)}.
+     *
+     * @param ts
+     * @return
+     * @throws Throwable
+     */
+    public static FrameEncoder acquireEncoder(TransferSyntax ts) throws Throwable {
+        Entry entry = entry(ts);
+        FrameEncoder encoder = entry.encoders.poll();
+        return encoder != null ? encoder : entry.codec.createEncoder();
+    }
+
+    /**
+     * Gives the encoder back to the pool (or disposes it if the pool is full).
+     *
+     * @param ts
+     * @param encoder
+     */
+    public static void releaseEncoder(TransferSyntax ts, FrameEncoder encoder) {
+        Entry entry = _codecs.get(ts.uid());
+        if (entry != null && entry.encoders.size() < MAX_POOL_SIZE) {
+            entry.encoders.offer(encoder);
+        } else {
+            encoder.dispose();
+        }
+    }
+
+    /**
+     * Decodes the frames into a new pixel data array.
+     *
+     * @param ts
+     *            the transfer syntax of the frames.
+     * @param format
+     * @param frames
+     *            the compressed bytes of each frame.
+     * @param executor
+     *            the executor decoding frames in parallel with the calling
+     *            thread, each task with its own decoder. null to decode the
+     *            frames in the calling thread only.
+     * @return the pixels of all the frames: byte[] or short[] (see
+     *         {@link FrameFormat#createPixelData(int)}).
+     * @throws Throwable
+     */
+    public static Object decode(final TransferSyntax ts, final FrameFormat format, final ByteBuffer[] frames, Executor executor) throws Throwable {
+        final Object pixelData = format.createPixelData(frames.length);
+        forEach(frames.length, executor, new TaskFactory() {
+
+            @Override
+            public Task create() throws Throwable {
+                final FrameDecoder decoder = acquireDecoder(ts);
+                return new Task() {
+
+                    @Override
+                    public void process(int frame) throws Throwable {
+                        decoder.decode(frames[frame], format, pixelData, frame);
+                    }
+
+                    @Override
+                    public void release() {
+                        releaseDecoder(ts, decoder);
+                    }
+                };
+            }
+        });
+        return pixelData;
+    }
+
+    /**
+     * Encodes the frames of the pixel data.
+     *
+     * @param ts
+     *            the transfer syntax of the frames.
+     * @param format
+     * @param pixelData
+     *            the pixels of all the frames: byte[] or short[].
+     * @param numberOfFrames
+     * @param executor
+     *            the executor encoding frames in parallel with the calling
+     *            thread, each task with its own encoder. null to encode the
+     *            frames in the calling thread only.
+     * @return the compressed bytes of each frame.
+     * @throws Throwable
+     */
+    public static byte[][] encode(final TransferSyntax ts, final FrameFormat format, final Object pixelData, int numberOfFrames, Executor executor) throws Throwable {
+        final byte[][] frames = new byte[numberOfFrames][];
+        forEach(numberOfFrames, executor, new TaskFactory() {
+
+            @Override
+            public Task create() throws Throwable {
+                final FrameEncoder encoder = acquireEncoder(ts);
+                return new Task() {
+
+                    @Override
+                    public void process(int frame) throws Throwable {
+                        frames[frame] = encoder.encode(format, pixelData, frame);
+                    }
+
+                    @Override
+                    public void release() {
+                        releaseEncoder(ts, encoder);
+                    }
+                };
+            }
+        });
+        return frames;
+    }
+
+    /**
+     * A task processing frames (or other units of work) one after the other.
+     */
+    interface Task {
+
+        void process(int index) throws Throwable;
+
+        void release();
+    }
+
+    interface TaskFactory {
+
+        Task create() throws Throwable;
+    }
+
+    /**
+     * Processes the units of work (e.g. the frames) in the calling thread
+     * and, if there is an executor, in up to its parallelism less one tasks.
+     * Each one takes the next unit until there is none left.
+     *
+     * @param n
+     *            the number of units.
+     * @param executor
+     *            null to process the units in the calling thread only.
+     * @param factory
+     *            creates the task of each thread.
+     * @throws Throwable
+     *             the first failure.
+     */
+    static void forEach(final int n, Executor executor, final TaskFactory factory) throws Throwable {
+        final AtomicInteger next = new AtomicInteger(0);
+        int nbTasks = executor == null ? 1 : Math.min(n, parallelism(executor));
+        List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>(nbTasks);
+        List<AtomicBoolean> started = new ArrayList<AtomicBoolean>(nbTasks);
+        for (int i = 1; i < nbTasks; i++) {
+            final AtomicBoolean taskStarted = new AtomicBoolean(false);
+            FutureTask<Void> task = new FutureTask<Void>(new Callable<Void>() {
+
+                @Override
+                public Void call() throws Exception {
+                    if (!taskStarted.compareAndSet(false, true)) {
+                        // the units were processed without it.
+                        return null;
+                    }
+                    try {
+                        process(factory, next, n);
+                        return null;
+                    } catch (Throwable e) {
+                        if (e instanceof Exception) {
+                            throw (Exception) e;
+                        }
+                        throw new ExecutionException(e);
+                    }
+                }
+            });
+            tasks.add(task);
+            started.add(taskStarted);
+            executor.execute(task);
+        }
+        Throwable failure = null;
+        try {
+            process(factory, next, n);
+        } catch (Throwable e) {
+            failure = e;
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (started.get(i).compareAndSet(false, true)) {
+                // not started (e.g. the executor is busy): no need to wait.
+                continue;
+            }
+            try {
+                tasks.get(i).get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                    while (failure instanceof ExecutionException && failure.getCause() != null) {
+                        failure = failure.getCause();
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void process(TaskFactory factory, AtomicInteger next, int n) throws Throwable {
+        try {
+            Task task = factory.create();
+            try {
+                int i;
+                while ((i = next.getAndIncrement()) < n) {
+                    task.process(i);
+                }
+            } finally {
+                task.release();
+            }
+        } catch (Throwable e) {
+            // stop the other tasks.
+            next.set(n);
+            throw e;
+        }
+    }
+
+    /**
+     * The number of tasks the executor runs in parallel.
+     *
+     * @param executor
+     * @return
+     */
+    static int parallelism(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        } else if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        } else {
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+}
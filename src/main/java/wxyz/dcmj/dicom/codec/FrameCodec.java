@@ -0,0 +1,31 @@
+package wxyz.dcmj.dicom.codec;
+
+/**
+ * The codec of a compressed transfer syntax, registered in the
+ * {@link CodecRegistry}. It creates the decoders and encoders, which the
+ * registry pools.
+ *
+ */
+public interface FrameCodec {
+
+    /**
+     * Creates a decoder.
+     *
+     * @return
+     * @throws Throwable
+     *             if the frames cannot be decoded, e.g. no ImageIO reader is
+     *             available.
+     */
+    FrameDecoder createDecoder() throws Throwable;
+
+    /**
+     * Creates an encoder.
+     *
+     * @return
+     * @throws Throwable
+     *             if the frames cannot be encoded, e.g. no ImageIO writer is
+     *             available.
+     */
+    FrameEncoder createEncoder() throws Throwable;
+
+}
@@ -0,0 +1,34 @@
+package wxyz.dcmj.dicom.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes compressed frames. An instance may be reused for any number of
+ * frames, but by one thread at a time (see
+ * {@link CodecRegistry#acquireDecoder(wxyz.dcmj.dicom.TransferSyntax)}).
+ *
+ */
+public interface FrameDecoder {
+
+    /**
+     * Decodes the frame directly into its slice of the pixel data.
+     *
+     * @param compressed
+     *            the compressed bytes of the frame: the remaining bytes of the
+     *            buffer. Its position and limit are not modified.
+     * @param format
+     * @param pixelData
+     *            the pixels of all the frames, as created by
+     *            {@link FrameFormat#createPixelData(int)}.
+     * @param frame
+     *            the index of the frame in the pixel data.
+     * @throws Throwable
+     */
+    void decode(ByteBuffer compressed, FrameFormat format, Object pixelData, int frame) throws Throwable;
+
+    /**
+     * Releases the resources of the decoder. It must not be used afterwards.
+     */
+    void dispose();
+
+}
@@ -0,0 +1,30 @@
+package wxyz.dcmj.dicom.codec;
+
+/**
+ * Encodes frames. An instance may be reused for any number of frames, but by
+ * one thread at a time (see
+ * {@link CodecRegistry#acquireEncoder(wxyz.dcmj.dicom.TransferSyntax)}).
+ *
+ */
+public interface FrameEncoder {
+
+    /**
+     * Encodes the frame from its slice of the pixel data.
+     *
+     * @param format
+     * @param pixelData
+     *            the pixels of all the frames: byte[] or short[] (see
+     *            {@link FrameFormat#createPixelData(int)}).
+     * @param frame
+     *            the index of the frame in the pixel data.
+     * @return the compressed bytes of the frame.
+     * @throws Throwable
+     */
+    byte[] encode(FrameFormat format, Object pixelData, int frame) throws Throwable;
+
+    /**
+     * Releases the resources of the encoder. It must not be used afterwards.
+     */
+    void dispose();
+
+}
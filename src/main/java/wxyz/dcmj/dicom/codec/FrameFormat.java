@@ -0,0 +1,106 @@
+package wxyz.dcmj.dicom.codec;
+
+import wxyz.dcmj.dicom.AttributeTag;
+import wxyz.dcmj.dicom.DataSet;
+import wxyz.dcmj.dicom.DicomException;
+
+/**
+ * The layout of the (decompressed) pixels of a frame, as described by the
+ * Image Pixel module.
+ *
+ */
+public class FrameFormat {
+
+    private int _rows;
+    private int _columns;
+    private int _samplesPerPixel;
+    private int _bitsAllocated;
+    private int _planarConfiguration;
+
+    /**
+     *
+     * @param rows
+     * @param columns
+     * @param samplesPerPixel
+     * @param bitsAllocated
+     * @param planarConfiguration
+     *            0: color-by-pixel, 1: color-by-plane.
+     */
+    public FrameFormat(int rows, int columns, int samplesPerPixel, int bitsAllocated, int planarConfiguration) {
+        _rows = rows;
+        _columns = columns;
+        _samplesPerPixel = samplesPerPixel;
+        _bitsAllocated = bitsAllocated;
+        _planarConfiguration = planarConfiguration;
+    }
+
+    public int rows() {
+        return _rows;
+    }
+
+    public int columns() {
+        return _columns;
+    }
+
+    public int samplesPerPixel() {
+        return _samplesPerPixel;
+    }
+
+    public int bitsAllocated() {
+        return _bitsAllocated;
+    }
+
+    public int planarConfiguration() {
+        return _planarConfiguration;
+    }
+
+    public int bytesPerSample() {
+        return (_bitsAllocated - 1) / 8 + 1;
+    }
+
+    /**
+     * The number of samples of a frame.
+     *
+     * @return
+     */
+    public int samplesPerFrame() {
+        return _rows * _columns * _samplesPerPixel;
+    }
+
+    /**
+     * Creates the array holding the pixels of the frames: byte[] if the
+     * samples are allocated 8 bits or less, short[] otherwise.
+     *
+     * @param numberOfFrames
+     * @return
+     * @throws DicomException
+     *             if the samples are allocated more than 16 bits.
+     */
+    public Object createPixelData(int numberOfFrames) throws DicomException {
+        int bytesPerSample = bytesPerSample();
+        if (bytesPerSample == 1) {
+            return new byte[samplesPerFrame() * numberOfFrames];
+        } else if (bytesPerSample == 2) {
+            return new short[samplesPerFrame() * numberOfFrames];
+        } else {
+            throw new DicomException("Pixel data of more than 2 bytes per sample not supported (got " + bytesPerSample + ")");
+        }
+    }
+
+    /**
+     * The format of the frames of the data set.
+     *
+     * @param ds
+     * @return
+     */
+    public static FrameFormat get(DataSet ds) {
+        return new FrameFormat(ds.intValueOf(AttributeTag.Rows, 0), ds.intValueOf(AttributeTag.Columns, 0), ds.intValueOf(AttributeTag.SamplesPerPixel, 1),
+                ds.intValueOf(AttributeTag.BitsAllocated, 16), ds.intValueOf(AttributeTag.PlanarConfiguration, 0));
+    }
+
+    @Override
+    public String toString() {
+        return _rows + "x" + _columns + "x" + _samplesPerPixel + " (" + _bitsAllocated + " bits)";
+    }
+
+}
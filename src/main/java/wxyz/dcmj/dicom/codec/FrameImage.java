@@ -0,0 +1,105 @@
+package wxyz.dcmj.dicom.codec;
+
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferUShort;
+import java.awt.image.PixelInterleavedSampleModel;
+import java.awt.image.Raster;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.lang.reflect.Array;
+
+/**
+ * An image over a frame buffer, reused for the frames of the same format. It
+ * is the destination of the ImageIO readers, and the source of the writers.
+ * (They do not all honor the offset of the data buffer, so the image cannot be
+ * over the slice of the frame in the pixel data: the frame is copied to or
+ * from the buffer.)
+ *
+ */
+final class FrameImage {
+
+    private Object _buffer;
+    private BufferedImage _image;
+
+    /**
+     * The image for the frames of the pixel data.
+     *
+     * @param format
+     * @param pixelData
+     *            byte[] or short[].
+     * @return the image, or null if the frames are not 1 or 3 samples per pixel
+     *         and color-by-pixel.
+     */
+    BufferedImage image(FrameFormat format, Object pixelData) {
+        int samplesPerPixel = format.samplesPerPixel();
+        if (samplesPerPixel != 1 && (samplesPerPixel != 3 || format.planarConfiguration() != 0)) {
+            return null;
+        }
+        if (!(pixelData instanceof byte[]) && !(pixelData instanceof short[])) {
+            return null;
+        }
+        int size = format.samplesPerFrame();
+        if (_buffer == null || _buffer.getClass() != pixelData.getClass() || Array.getLength(_buffer) != size || _image.getWidth() != format.columns()
+                || _image.getHeight() != format.rows() || _image.getRaster().getNumBands() != samplesPerPixel) {
+            _buffer = pixelData instanceof byte[] ? new byte[size] : new short[size];
+            _image = createImage(format, _buffer);
+        }
+        return _image;
+    }
+
+    /**
+     * Copies the frame of the pixel data into the buffer of the image.
+     *
+     * @param format
+     * @param pixelData
+     * @param frame
+     */
+    void copyFrom(FrameFormat format, Object pixelData, int frame) {
+        int size = format.samplesPerFrame();
+        System.arraycopy(pixelData, frame * size, _buffer, 0, size);
+    }
+
+    /**
+     * Copies the buffer of the image into the frame of the pixel data.
+     *
+     * @param format
+     * @param pixelData
+     * @param frame
+     */
+    void copyTo(FrameFormat format, Object pixelData, int frame) {
+        int size = format.samplesPerFrame();
+        System.arraycopy(_buffer, 0, pixelData, frame * size, size);
+    }
+
+    private static BufferedImage createImage(FrameFormat format, Object buffer) {
+        int samplesPerPixel = format.samplesPerPixel();
+        DataBuffer db;
+        int bits;
+        if (buffer instanceof byte[]) {
+            db = new DataBufferByte((byte[]) buffer, format.samplesPerFrame());
+            bits = 8;
+        } else {
+            db = new DataBufferUShort((short[]) buffer, format.samplesPerFrame());
+            bits = 16;
+        }
+        int[] nBits = new int[samplesPerPixel];
+        int[] bandOffsets = new int[samplesPerPixel];
+        for (int i = 0; i < samplesPerPixel; i++) {
+            nBits[i] = bits;
+            bandOffsets[i] = i;
+        }
+        ColorSpace cs = ColorSpace.getInstance(samplesPerPixel == 1 ? ColorSpace.CS_GRAY : ColorSpace.CS_sRGB);
+        ColorModel cm = new ComponentColorModel(cs, nBits, false, false, Transparency.OPAQUE, db.getDataType());
+        SampleModel sm = new PixelInterleavedSampleModel(db.getDataType(), format.columns(), format.rows(), samplesPerPixel, format.columns() * samplesPerPixel,
+                bandOffsets);
+        WritableRaster raster = Raster.createWritableRaster(sm, db, null);
+        return new BufferedImage(cm, raster, false, null);
+    }
+
+}
@@ -0,0 +1,120 @@
+package wxyz.dcmj.dicom.codec;
+
+import java.util.Iterator;
+import java.util.Locale;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.ImageReaderSpi;
+import javax.imageio.spi.ImageWriterSpi;
+
+import wxyz.dcmj.dicom.DicomException;
+import wxyz.dcmj.dicom.TransferSyntax;
+
+/**
+ * A codec backed by the ImageIO reader and writer of an image format. The
+ * reader and writer providers are looked up once; the decoders and encoders
+ * are created from them.
+ *
+ */
+public class ImageIOCodec implements FrameCodec {
+
+    private static boolean _scannedForImageIOPlugins = false;
+
+    private static synchronized void scanForImageIOPlugins() {
+        if (!_scannedForImageIOPlugins) {
+            ImageIO.scanForPlugins();
+            _scannedForImageIOPlugins = true;
+        }
+    }
+
+    private TransferSyntax _ts;
+    private String _formatName;
+    private ImageReaderSpi _readerSpi;
+    private ImageWriterSpi _writerSpi;
+
+    /**
+     *
+     * @param ts
+     *            the transfer syntax.
+     * @param formatName
+     *            the ImageIO format name of the compressed frames.
+     */
+    public ImageIOCodec(TransferSyntax ts, String formatName) {
+        _ts = ts;
+        _formatName = formatName;
+    }
+
+    public String formatName() {
+        return _formatName;
+    }
+
+    @Override
+    public synchronized FrameDecoder createDecoder() throws Throwable {
+        if (_readerSpi != null) {
+            return new ImageIOFrameDecoder(_ts, _readerSpi.createReaderInstance());
+        }
+        scanForImageIOPlugins();
+        Iterator<ImageReader> it = ImageIO.getImageReadersByFormatName(_formatName);
+        if (!it.hasNext()) {
+            throw new DicomException("Unable to find image reader for transfer syntax " + _ts + "(format: " + _formatName + ").");
+        }
+        ImageReader reader = it.next();
+        ImageReaderSpi spi = reader.getOriginatingProvider();
+        String readerDescription = spi.getDescription(Locale.US);
+        String readerVendorName = spi.getVendorName();
+        String readerVersion = spi.getVersion();
+        if (_ts.equals(TransferSyntax.JPEGExtended) && readerDescription.equals("Standard JPEG Image Reader") && readerVendorName.equals("Sun Microsystems, Inc.")) {
+            reader.dispose();
+            throw new DicomException("Image reader " + readerDescription + " " + readerVendorName + " " + readerVersion + " does not support extended lossy JPEG transfer syntax " + _ts);
+        }
+        _readerSpi = spi;
+        return new ImageIOFrameDecoder(_ts, reader);
+    }
+
+    @Override
+    public synchronized FrameEncoder createEncoder() throws Throwable {
+        if (_writerSpi != null) {
+            return createEncoder(_writerSpi.createWriterInstance());
+        }
+        scanForImageIOPlugins();
+        Iterator<ImageWriter> it = ImageIO.getImageWritersByFormatName(_formatName);
+        if (!it.hasNext()) {
+            throw new DicomException("Unable to find image writer for transfer syntax " + _ts + "(format: " + _formatName + ").");
+        }
+        ImageWriter writer = it.next();
+        FrameEncoder encoder = createEncoder(writer);
+        _writerSpi = writer.getOriginatingProvider();
+        return encoder;
+    }
+
+    private FrameEncoder createEncoder(ImageWriter writer) throws Throwable {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (_ts.lossless()) {
+            // the writer must be set to a lossless compression.
+            boolean lossless = false;
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types == null) {
+                    lossless = param.isCompressionLossless();
+                } else {
+                    for (int i = 0; i < types.length && !lossless; i++) {
+                        param.setCompressionType(types[i]);
+                        lossless = param.isCompressionLossless();
+                    }
+                }
+            }
+            if (!lossless) {
+                ImageWriterSpi spi = writer.getOriginatingProvider();
+                writer.dispose();
+                throw new DicomException("Image writer " + spi.getDescription(Locale.US) + " " + spi.getVendorName() + " " + spi.getVersion()
+                        + " does not support lossless compression for transfer syntax " + _ts);
+            }
+        }
+        return new ImageIOFrameEncoder(_ts, writer, param);
+    }
+
+}
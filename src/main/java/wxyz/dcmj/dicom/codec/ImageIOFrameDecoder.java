@@ -0,0 +1,174 @@
+package wxyz.dcmj.dicom.codec;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferShort;
+import java.awt.image.DataBufferUShort;
+import java.awt.image.Raster;
+import java.awt.image.SampleModel;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.spi.ImageReaderSpi;
+import javax.imageio.stream.ImageInputStream;
+
+import wxyz.dcmj.dicom.DicomException;
+import wxyz.dcmj.dicom.TransferSyntax;
+import wxyz.dcmj.dicom.io.ByteBufferImageInputStream;
+
+/**
+ * Decodes the compressed frames with an ImageIO reader. The reader decodes
+ * each frame into a destination image reused for all the frames, which is
+ * copied into the slice of the frame in the pixel data. If the reader does not
+ * support such a destination, the pixels of the decoded image are copied
+ * instead.
+ *
+ */
+class ImageIOFrameDecoder implements FrameDecoder {
+
+    private TransferSyntax _ts;
+    private ImageReader _reader;
+    private ImageReadParam _param;
+    private boolean _destinationSupported;
+    private FrameImage _destination;
+
+    ImageIOFrameDecoder(TransferSyntax ts, ImageReader reader) {
+        _ts = ts;
+        _reader = reader;
+        _param = reader.getDefaultReadParam();
+        _destinationSupported = true;
+        _destination = new FrameImage();
+    }
+
+    private BufferedImage read(ByteBuffer frame, ImageReadParam param) throws Throwable {
+        ImageInputStream iis = new ByteBufferImageInputStream(frame);
+        try {
+            _reader.setInput(iis, true/* seekForwardOnly */, true/* ignoreMetadata */);
+            BufferedImage image = _reader.read(0, param);
+            if (image == null) {
+                ImageReaderSpi spi = _reader.getOriginatingProvider();
+                throw new DicomException("Reader " + spi.getDescription(Locale.US) + " " + spi.getVendorName() + " " + spi.getVersion() + " returned null image for Transfer Syntax " + _ts);
+            }
+            return image;
+        } finally {
+            _reader.setInput(null);
+            iis.close();
+        }
+    }
+
+    @Override
+    public void decode(ByteBuffer compressed, FrameFormat format, Object pixelData, int frame) throws Throwable {
+        if (_destinationSupported) {
+            BufferedImage destination = _destination.image(format, pixelData);
+            if (destination != null) {
+                BufferedImage image = null;
+                _param.setDestination(destination);
+                try {
+                    image = read(compressed, _param);
+                } catch (Throwable e) {
+                    // the reader may not support the destination: retry below
+                    // without it.
+                } finally {
+                    _param.setDestination(null);
+                }
+                if (image == destination) {
+                    _destination.copyTo(format, pixelData, frame);
+                    return;
+                }
+                if (image == null) {
+                    image = read(compressed, null);
+                    // decoded without the destination: do not try it again.
+                    _destinationSupported = false;
+                }
+                copy(image.getRaster(), format, pixelData, frame);
+                return;
+            }
+        }
+        copy(read(compressed, null).getRaster(), format, pixelData, frame);
+    }
+
+    @Override
+    public void dispose() {
+        _reader.dispose();
+    }
+
+    /*
+     * copies the pixels of the frame into its slice of the pixel data.
+     */
+    private static void copy(Raster raster, FrameFormat format, Object pixelData, int frame) throws DicomException {
+        int rows = format.rows();
+        int columns = format.columns();
+        int samplesPerPixel = format.samplesPerPixel();
+        if (raster.getNumBands() != samplesPerPixel || raster.getWidth() < columns || raster.getHeight() < rows) {
+            throw new DicomException("Decoded image (" + raster.getHeight() + "x" + raster.getWidth() + "x" + raster.getNumBands() + ") does not match the pixel data " + format
+                    + ".");
+        }
+        int samplesPerFrame = format.samplesPerFrame();
+        int offset = frame * samplesPerFrame;
+        boolean colorByPixel = samplesPerPixel == 1 || format.planarConfiguration() == 0;
+        if (colorByPixel && isPixelInterleaved(raster, columns, rows, samplesPerPixel)) {
+            // directly from the data buffer of the image.
+            DataBuffer db = raster.getDataBuffer();
+            Object data = null;
+            if (db instanceof DataBufferByte) {
+                data = ((DataBufferByte) db).getData();
+            } else if (db instanceof DataBufferUShort) {
+                data = ((DataBufferUShort) db).getData();
+            } else if (db instanceof DataBufferShort) {
+                data = ((DataBufferShort) db).getData();
+            }
+            if (data != null && data.getClass() == pixelData.getClass()) {
+                System.arraycopy(data, db.getOffset(), pixelData, offset, samplesPerFrame);
+                return;
+            }
+        }
+        if (colorByPixel && raster.getNumDataElements() == samplesPerPixel) {
+            Object data = raster.getDataElements(0, 0, columns, rows, null);
+            if (data != null && data.getClass() == pixelData.getClass()) {
+                System.arraycopy(data, 0, pixelData, offset, samplesPerFrame);
+                return;
+            }
+        }
+        // sample by sample.
+        int[] samples = raster.getPixels(0, 0, columns, rows, (int[]) null);
+        int pixels = rows * columns;
+        for (int i = 0; i < samplesPerFrame; i++) {
+            int j = colorByPixel ? i : ((i % samplesPerPixel) * pixels + i / samplesPerPixel);
+            if (pixelData instanceof byte[]) {
+                ((byte[]) pixelData)[offset + j] = (byte) samples[i];
+            } else {
+                ((short[]) pixelData)[offset + j] = (short) samples[i];
+            }
+        }
+    }
+
+    /*
+     * the samples of the raster are stored in one bank, pixel by pixel, in
+     * band order, without padding.
+     */
+    private static boolean isPixelInterleaved(Raster raster, int columns, int rows, int samplesPerPixel) {
+        SampleModel sm = raster.getSampleModel();
+        if (!(sm instanceof ComponentSampleModel) || raster.getDataBuffer().getNumBanks() != 1) {
+            return false;
+        }
+        if (raster.getWidth() != columns || raster.getHeight() != rows || raster.getSampleModelTranslateX() != 0 || raster.getSampleModelTranslateY() != 0) {
+            return false;
+        }
+        ComponentSampleModel csm = (ComponentSampleModel) sm;
+        if (csm.getPixelStride() != samplesPerPixel || csm.getScanlineStride() != columns * samplesPerPixel) {
+            return false;
+        }
+        int[] bandOffsets = csm.getBandOffsets();
+        for (int i = 0; i < bandOffsets.length; i++) {
+            if (bandOffsets[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,59 @@
+package wxyz.dcmj.dicom.codec;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import wxyz.dcmj.dicom.DicomException;
+import wxyz.dcmj.dicom.TransferSyntax;
+
+/**
+ * Encodes frames with an ImageIO writer, from an image reused for all the
+ * frames.
+ *
+ */
+class ImageIOFrameEncoder implements FrameEncoder {
+
+    private TransferSyntax _ts;
+    private ImageWriter _writer;
+    private ImageWriteParam _param;
+    private FrameImage _source;
+
+    ImageIOFrameEncoder(TransferSyntax ts, ImageWriter writer, ImageWriteParam param) {
+        _ts = ts;
+        _writer = writer;
+        _param = param;
+        _source = new FrameImage();
+    }
+
+    @Override
+    public byte[] encode(FrameFormat format, Object pixelData, int frame) throws Throwable {
+        BufferedImage image = _source.image(format, pixelData);
+        if (image == null) {
+            throw new DicomException("Unable to encode pixel data " + format + " with planar configuration " + format.planarConfiguration() + " in transfer syntax " + _ts
+                    + ".");
+        }
+        _source.copyFrom(format, pixelData, frame);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageOutputStream ios = new MemoryCacheImageOutputStream(bytes);
+        try {
+            _writer.setOutput(ios);
+            _writer.write(null, new IIOImage(image, null, null), _param);
+        } finally {
+            _writer.setOutput(null);
+            ios.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void dispose() {
+        _writer.dispose();
+    }
+
+}
@@ -0,0 +1,50 @@
+package wxyz.dcmj.dicom.codec;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The codec of the RLE Lossless transfer syntax (PS3.5 Annex G), in Java.
+ *
+ * A frame is a 64 bytes header (the number of segments and their offsets)
+ * followed by the segments: one per byte of each sample (the most
+ * significant byte first), each one PackBits encoded, row by row.
+ *
+ */
+public class RLECodec implements FrameCodec {
+
+    static final int HEADER_LENGTH = 64;
+    static final int MAX_SEGMENTS = 15;
+
+    private Executor _executor;
+
+    /**
+     * The segments of the samples of multi-sample frames are decoded in
+     * parallel with the common ForkJoinPool.
+     */
+    public RLECodec() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     *
+     * @param executor
+     *            the executor decoding the segments of the samples of
+     *            multi-sample frames in parallel. null to decode them in the
+     *            calling thread.
+     */
+    public RLECodec(Executor executor) {
+        _executor = executor;
+    }
+
+    @Override
+    public FrameDecoder createDecoder() {
+        return new RLEFrameDecoder(_executor);
+    }
+
+    @Override
+    public FrameEncoder createEncoder() {
+        return new RLEFrameEncoder();
+    }
+
+}
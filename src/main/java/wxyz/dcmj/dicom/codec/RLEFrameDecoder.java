@@ -0,0 +1,195 @@
+package wxyz.dcmj.dicom.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import wxyz.dcmj.dicom.DicomException;
+
+/**
+ * Decodes RLE Lossless frames directly into the pixel data: each segment is
+ * expanded into its byte of the samples, in place. The samples of
+ * multi-sample frames (each one with its segments) are decoded in parallel.
+ *
+ */
+class RLEFrameDecoder implements FrameDecoder {
+
+    /*
+     * the minimum number of pixels of a frame to decode its samples in
+     * parallel.
+     */
+    private static final int MIN_PARALLEL_PIXELS = 65536;
+
+    private Executor _executor;
+
+    RLEFrameDecoder(Executor executor) {
+        _executor = executor;
+    }
+
+    @Override
+    public void decode(ByteBuffer compressed, FrameFormat format, final Object pixelData, final int frame) throws Throwable {
+        final byte[] src;
+        final int base;
+        final int length = compressed.remaining();
+        if (compressed.hasArray()) {
+            src = compressed.array();
+            base = compressed.arrayOffset() + compressed.position();
+        } else {
+            src = new byte[length];
+            compressed.duplicate().get(src);
+            base = 0;
+        }
+        if (length < RLECodec.HEADER_LENGTH) {
+            throw new DicomException("RLE frame " + frame + " is shorter (" + length + " bytes) than its header.");
+        }
+        ByteBuffer header = ByteBuffer.wrap(src, base, RLECodec.HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        int nbSegments = header.getInt();
+        final int samplesPerPixel = format.samplesPerPixel();
+        final int bytesPerSample = format.bytesPerSample();
+        if (nbSegments != samplesPerPixel * bytesPerSample) {
+            throw new DicomException("RLE frame " + frame + " has " + nbSegments + " segments; expected " + (samplesPerPixel * bytesPerSample) + " for " + format + ".");
+        }
+        final int[] segmentOffsets = new int[nbSegments + 1];
+        for (int i = 0; i < nbSegments; i++) {
+            segmentOffsets[i] = header.getInt();
+            if (segmentOffsets[i] < RLECodec.HEADER_LENGTH || segmentOffsets[i] > length || (i > 0 && segmentOffsets[i] < segmentOffsets[i - 1])) {
+                throw new DicomException("RLE frame " + frame + " has an invalid offset (" + segmentOffsets[i] + ") for segment " + (i + 1) + ".");
+            }
+        }
+        segmentOffsets[nbSegments] = length;
+
+        final int pixels = format.rows() * format.columns();
+        final int offset = frame * format.samplesPerFrame();
+        final boolean colorByPixel = samplesPerPixel == 1 || format.planarConfiguration() == 0;
+        if (samplesPerPixel == 1 || pixels < MIN_PARALLEL_PIXELS) {
+            for (int s = 0; s < samplesPerPixel; s++) {
+                decodeSample(src, base, segmentOffsets, s, bytesPerSample, pixelData, offset, pixels, samplesPerPixel, colorByPixel, frame);
+            }
+            return;
+        }
+        CodecRegistry.forEach(samplesPerPixel, _executor, new CodecRegistry.TaskFactory() {
+
+            @Override
+            public CodecRegistry.Task create() {
+                return new CodecRegistry.Task() {
+
+                    @Override
+                    public void process(int s) throws Throwable {
+                        decodeSample(src, base, segmentOffsets, s, bytesPerSample, pixelData, offset, pixels, samplesPerPixel, colorByPixel, frame);
+                    }
+
+                    @Override
+                    public void release() {
+                    }
+                };
+            }
+        });
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    /*
+     * decodes the segments of the sample: into every samplesPerPixel-th byte
+     * (or short) if color-by-pixel, otherwise into the plane of the sample.
+     */
+    private static void decodeSample(byte[] src, int base, int[] segmentOffsets, int s, int bytesPerSample, Object pixelData, int offset, int pixels,
+            int samplesPerPixel, boolean colorByPixel, int frame) throws DicomException {
+        int start = colorByPixel ? (offset + s) : (offset + s * pixels);
+        int stride = colorByPixel ? samplesPerPixel : 1;
+        for (int b = 0; b < bytesPerSample; b++) {
+            int segment = s * bytesPerSample + b;
+            int from = base + segmentOffsets[segment];
+            int to = base + segmentOffsets[segment + 1];
+            int decoded;
+            if (pixelData instanceof byte[]) {
+                decoded = decodeSegment(src, from, to, (byte[]) pixelData, start, stride, pixels);
+            } else {
+                // the most significant byte first
+                decoded = decodeSegment(src, from, to, (short[]) pixelData, start, stride, pixels, b == 0);
+            }
+            if (decoded < pixels) {
+                throw new DicomException("RLE frame " + frame + ": segment " + (segment + 1) + " decoded to " + decoded + " bytes; expected " + pixels + ".");
+            }
+        }
+    }
+
+    /*
+     * PackBits: a header byte n followed by n + 1 literal bytes if n >= 0, or
+     * by one byte repeated -n + 1 times if n < 0 (and n != -128, which is a
+     * no-op). Decoding stops when count bytes are decoded, even if the segment
+     * is longer (padding), or at the end of the segment.
+     */
+    private static int decodeSegment(byte[] src, int from, int to, byte[] dst, int start, int stride, int count) {
+        int p = from;
+        int i = 0;
+        while (i < count && p < to) {
+            int n = src[p++];
+            if (n >= 0) {
+                int len = Math.min(Math.min(n + 1, count - i), to - p);
+                if (stride == 1) {
+                    System.arraycopy(src, p, dst, start + i, len);
+                } else {
+                    for (int k = 0, d = start + i * stride; k < len; k++, d += stride) {
+                        dst[d] = src[p + k];
+                    }
+                }
+                p += n + 1;
+                i += len;
+            } else if (n != -128) {
+                if (p >= to) {
+                    break;
+                }
+                int len = Math.min(-n + 1, count - i);
+                byte v = src[p++];
+                if (stride == 1) {
+                    Arrays.fill(dst, start + i, start + i + len, v);
+                } else {
+                    for (int k = 0, d = start + i * stride; k < len; k++, d += stride) {
+                        dst[d] = v;
+                    }
+                }
+                i += len;
+            }
+        }
+        return i;
+    }
+
+    private static int decodeSegment(byte[] src, int from, int to, short[] dst, int start, int stride, int count, boolean mostSignificant) {
+        int p = from;
+        int i = 0;
+        while (i < count && p < to) {
+            int n = src[p++];
+            if (n >= 0) {
+                int len = Math.min(Math.min(n + 1, count - i), to - p);
+                for (int k = 0, d = start + i * stride; k < len; k++, d += stride) {
+                    if (mostSignificant) {
+                        dst[d] = (short) (src[p + k] << 8);
+                    } else {
+                        dst[d] |= src[p + k] & 0xff;
+                    }
+                }
+                p += n + 1;
+                i += len;
+            } else if (n != -128) {
+                if (p >= to) {
+                    break;
+                }
+                int len = Math.min(-n + 1, count - i);
+                int v = src[p++];
+                for (int k = 0, d = start + i * stride; k < len; k++, d += stride) {
+                    if (mostSignificant) {
+                        dst[d] = (short) (v << 8);
+                    } else {
+                        dst[d] |= v & 0xff;
+                    }
+                }
+                i += len;
+            }
+        }
+        return i;
+    }
+
+}
@@ -0,0 +1,132 @@
+package wxyz.dcmj.dicom.codec;
+
+import java.util.Arrays;
+
+import wxyz.dcmj.dicom.DicomException;
+
+/**
+ * Encodes frames in RLE Lossless: a segment per byte of each sample, the most
+ * significant byte first, each row PackBits encoded separately. The segments
+ * are padded to an even length.
+ *
+ */
+class RLEFrameEncoder implements FrameEncoder {
+
+    /*
+     * the longest run (and literal) of a PackBits header.
+     */
+    private static final int MAX_RUN = 128;
+
+    private byte[] _row;
+    private byte[] _out;
+    private int _length;
+
+    RLEFrameEncoder() {
+        _out = new byte[RLECodec.HEADER_LENGTH];
+    }
+
+    @Override
+    public byte[] encode(FrameFormat format, Object pixelData, int frame) throws Throwable {
+        int samplesPerPixel = format.samplesPerPixel();
+        int bytesPerSample = format.bytesPerSample();
+        int nbSegments = samplesPerPixel * bytesPerSample;
+        if (nbSegments > RLECodec.MAX_SEGMENTS) {
+            throw new DicomException("Unable to encode pixel data " + format + " in RLE: " + nbSegments + " segments (maximum: " + RLECodec.MAX_SEGMENTS + ").");
+        }
+        if (!(pixelData instanceof byte[]) && !(pixelData instanceof short[])) {
+            throw new DicomException("Unable to encode pixel data of type " + pixelData.getClass().getSimpleName() + " in RLE.");
+        }
+        int rows = format.rows();
+        int columns = format.columns();
+        int pixels = rows * columns;
+        int offset = frame * format.samplesPerFrame();
+        boolean colorByPixel = samplesPerPixel == 1 || format.planarConfiguration() == 0;
+        if (_row == null || _row.length < columns) {
+            _row = new byte[columns];
+        }
+        // the header is filled when the segments are written.
+        Arrays.fill(_out, 0, RLECodec.HEADER_LENGTH, (byte) 0);
+        _length = RLECodec.HEADER_LENGTH;
+        putInt(0, nbSegments);
+        for (int s = 0; s < samplesPerPixel; s++) {
+            int start = colorByPixel ? (offset + s) : (offset + s * pixels);
+            int stride = colorByPixel ? samplesPerPixel : 1;
+            for (int b = 0; b < bytesPerSample; b++) {
+                int segment = s * bytesPerSample + b;
+                putInt(4 + segment * 4, _length);
+                // the most significant byte first
+                int shift = (bytesPerSample - 1 - b) * 8;
+                for (int y = 0; y < rows; y++) {
+                    int p = start + y * columns * stride;
+                    if (pixelData instanceof byte[]) {
+                        byte[] px = (byte[]) pixelData;
+                        for (int x = 0; x < columns; x++, p += stride) {
+                            _row[x] = px[p];
+                        }
+                    } else {
+                        short[] px = (short[]) pixelData;
+                        for (int x = 0; x < columns; x++, p += stride) {
+                            _row[x] = (byte) (px[p] >> shift);
+                        }
+                    }
+                    encodeRow(_row, columns);
+                }
+                if ((_length & 1) != 0) {
+                    ensureCapacity(1);
+                    _out[_length++] = 0;
+                }
+            }
+        }
+        return Arrays.copyOf(_out, _length);
+    }
+
+    @Override
+    public void dispose() {
+        _row = null;
+        _out = null;
+    }
+
+    /*
+     * PackBits: runs of 3 or more identical bytes are replicated, the other
+     * bytes are copied as literals. A literal only ends before a run of 3 or
+     * more bytes (encoded in 2 bytes), so the output is at most a header byte
+     * per MAX_RUN bytes longer than the row.
+     */
+    private void encodeRow(byte[] row, int n) {
+        ensureCapacity(n + (n + MAX_RUN - 1) / MAX_RUN);
+        int i = 0;
+        while (i < n) {
+            int run = 1;
+            while (i + run < n && run < MAX_RUN && row[i + run] == row[i]) {
+                run++;
+            }
+            if (run >= 3) {
+                _out[_length++] = (byte) (1 - run);
+                _out[_length++] = row[i];
+                i += run;
+            } else {
+                int start = i++;
+                while (i < n && i - start < MAX_RUN && !(i + 2 < n && row[i] == row[i + 1] && row[i] == row[i + 2])) {
+                    i++;
+                }
+                _out[_length++] = (byte) (i - start - 1);
+                System.arraycopy(row, start, _out, _length, i - start);
+                _length += i - start;
+            }
+        }
+    }
+
+    private void ensureCapacity(int n) {
+        if (_length + n > _out.length) {
+            _out = Arrays.copyOf(_out, Math.max(_length + n, _out.length * 2));
+        }
+    }
+
+    private void putInt(int position, int v) {
+        _out[position] = (byte) v;
+        _out[position + 1] = (byte) (v >> 8);
+        _out[position + 2] = (byte) (v >> 16);
+        _out[position + 3] = (byte) (v >> 24);
+    }
+
+}
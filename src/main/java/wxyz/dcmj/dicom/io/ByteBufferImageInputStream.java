@@ -0,0 +1,73 @@
+package wxyz.dcmj.dicom.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import javax.imageio.stream.ImageInputStreamImpl;
+
+/**
+ * An ImageInputStream over the remaining bytes of a ByteBuffer, e.g. a
+ * fragment sliced from a memory mapped file. Unlike the ImageInputStreams
+ * wrapping an InputStream, the bytes are not copied into a cache: the stream
+ * seeks directly in the buffer.
+ *
+ */
+public class ByteBufferImageInputStream extends ImageInputStreamImpl {
+
+    private ByteBuffer _buffer;
+    private int _start;
+    private int _length;
+
+    /**
+     *
+     * @param buffer
+     *            the buffer. Its position and limit are not modified.
+     */
+    public ByteBufferImageInputStream(ByteBuffer buffer) {
+        _buffer = buffer.duplicate();
+        _start = buffer.position();
+        _length = buffer.remaining();
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkClosed();
+        bitOffset = 0;
+        if (streamPos >= _length) {
+            return -1;
+        }
+        return _buffer.get(_start + (int) (streamPos++)) & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkClosed();
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        bitOffset = 0;
+        if (len == 0) {
+            return 0;
+        }
+        if (streamPos >= _length) {
+            return -1;
+        }
+        int n = (int) Math.min(len, _length - streamPos);
+        _buffer.position(_start + (int) streamPos);
+        _buffer.get(b, off, n);
+        streamPos += n;
+        return n;
+    }
+
+    @Override
+    public long length() {
+        return _length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        _buffer = null;
+    }
+
+}
@@ -0,0 +1,96 @@
+package wxyz.dcmj.dicom.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * An output stream that writes to a channel (e.g. a FileChannel). When an
+ * {@link EndianOutputStream} writes to it, its buffer and the large values are
+ * written together to the channel (gathering write if supported), instead of
+ * being copied through the OutputStream methods.
+ *
+ */
+public class ChannelOutputStream extends OutputStream {
+
+    private WritableByteChannel _channel;
+    private ByteBuffer _single;
+
+    public ChannelOutputStream(WritableByteChannel channel) {
+        _channel = channel;
+    }
+
+    /**
+     * Writes to the channel of a new FileOutputStream of the file.
+     *
+     * @param file
+     * @throws IOException
+     */
+    public ChannelOutputStream(File file) throws IOException {
+        this(new FileOutputStream(file).getChannel());
+    }
+
+    /**
+     * The underlying channel.
+     *
+     * @return
+     */
+    public WritableByteChannel channel() {
+        return _channel;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (_single == null) {
+            _single = ByteBuffer.allocate(1);
+        }
+        _single.clear();
+        _single.put((byte) b);
+        _single.flip();
+        write(_single);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        write(ByteBuffer.wrap(b, off, len));
+    }
+
+    /**
+     * Writes the remaining bytes of the buffers, in order.
+     *
+     * @param buffers
+     * @throws IOException
+     */
+    public void write(ByteBuffer... buffers) throws IOException {
+        if (_channel instanceof GatheringByteChannel && buffers.length > 1) {
+            GatheringByteChannel channel = (GatheringByteChannel) _channel;
+            int first = 0;
+            while (first < buffers.length) {
+                if (!buffers[first].hasRemaining()) {
+                    first++;
+                } else {
+                    channel.write(buffers, first, buffers.length - first);
+                }
+            }
+        } else {
+            for (ByteBuffer buffer : buffers) {
+                while (buffer.hasRemaining()) {
+                    _channel.write(buffer);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        _channel.close();
+    }
+
+}
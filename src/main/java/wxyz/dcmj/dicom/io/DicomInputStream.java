@@ -4,13 +4,19 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.imageio.stream.ImageInputStream;
 
+import wxyz.dcmj.dicom.AttributeTag;
 import wxyz.dcmj.dicom.DicomException;
 import wxyz.dcmj.dicom.SpecificCharacterSet;
 import wxyz.dcmj.dicom.StringUtils;
+import wxyz.dcmj.dicom.TagFilter;
+import wxyz.dcmj.dicom.ValidationMode;
 import wxyz.dcmj.dicom.TransferSyntax;
+import wxyz.dcmj.dicom.ValueRepresentation;
 
 public class DicomInputStream extends EndianInputStream {
     private TransferSyntax _tsDataSet;
@@ -19,6 +25,14 @@ public class DicomInputStream extends EndianInputStream {
     private boolean _readingDataSet;
     private long _dataSetOffset;
     private File _file; // reference to the input file (if applicable).
+    private ImageInputStream _iis; // reference to the input ImageInputStream (if applicable).
+    private long _lazyBulkDataThreshold = -1;
+    private TagFilter _tagFilter;
+    private ValidationMode _validationMode = ValidationMode.STRICT;
+    private Executor _frameDecodingExecutor;
+    private int _inflaterBufferSize = DEFAULT_INFLATER_BUFFER_SIZE;
+
+    public static final int DEFAULT_INFLATER_BUFFER_SIZE = 65536;
 
     private void initTransferSyntax(String uid) throws Throwable {
         _tsFileMetaInfo = null;
@@ -141,10 +155,25 @@ public class DicomInputStream extends EndianInputStream {
     public DicomInputStream(ImageInputStream iis) throws Throwable {
         this(new ImageInputStreamAdapter(iis));
         setPosition(iis.getStreamPosition());
+        _iis = iis;
     }
 
     public DicomInputStream(File file) throws Throwable {
-        this(new FileInputStream(file));
+        this(file, false);
+    }
+
+    /**
+     * 
+     * @param file
+     *            the input file.
+     * @param memoryMapped
+     *            if true, read the file through a memory mapped buffer. (Falls
+     *            back to FileInputStream if the file is too large to be
+     *            mapped.)
+     * @throws Throwable
+     */
+    public DicomInputStream(File file, boolean memoryMapped) throws Throwable {
+        this(memoryMapped && file.length() <= Integer.MAX_VALUE ? new MappedFileInputStream(file) : new FileInputStream(file));
         _file = file;
     }
 
@@ -166,6 +195,115 @@ public class DicomInputStream extends EndianInputStream {
         return _file;
     }
 
+    /**
+     * The input ImageInputStream if known.
+     * 
+     * @return
+     */
+    public ImageInputStream imageInputStream() {
+        return _iis;
+    }
+
+    /**
+     * Sets the lazy bulk data threshold. If it is not negative, the values of
+     * PixelData and of the other inline binary (OB, OD, OF, OW, UN) elements
+     * with value length greater than the threshold are skipped when reading,
+     * including the elements in sequence items. Their source offsets and value
+     * lengths are recorded, and their values are read from the source on first
+     * access. Only applicable if the input is a File or an ImageInputStream.
+     * 
+     * @param threshold
+     *            the threshold in bytes. -1 to disable (default).
+     */
+    public void setLazyBulkDataThreshold(long threshold) {
+        _lazyBulkDataThreshold = threshold;
+    }
+
+    public long lazyBulkDataThreshold() {
+        return _lazyBulkDataThreshold;
+    }
+
+    /**
+     * Checks if the value of the element should be skipped and read later from
+     * the source.
+     * 
+     * @param tag
+     * @param vr
+     * @param vl
+     * @return
+     */
+    public boolean isLazyBulkData(AttributeTag tag, ValueRepresentation vr, long vl) {
+        if (_lazyBulkDataThreshold < 0 || (_file == null && _iis == null)) {
+            return false;
+        }
+        if (tag.equals(AttributeTag.PixelData)) {
+            return true;
+        }
+        return vr.isInlineBinary() && vl > _lazyBulkDataThreshold;
+    }
+
+    /**
+     * Sets the filter of the top level data set elements to read. The values
+     * of the other elements are skipped.
+     * 
+     * @param filter
+     *            the filter. null to read all elements (default).
+     */
+    public void setTagFilter(TagFilter filter) {
+        _tagFilter = filter;
+    }
+
+    public TagFilter tagFilter() {
+        return _tagFilter;
+    }
+
+    /**
+     * Sets how the string values read are validated. See
+     * {@link ValidationMode}.
+     * 
+     * @param mode
+     *            the validation mode. {@link ValidationMode#STRICT} by default.
+     */
+    public void setValidationMode(ValidationMode mode) {
+        _validationMode = mode == null ? ValidationMode.STRICT : mode;
+    }
+
+    public ValidationMode validationMode() {
+        return _validationMode;
+    }
+
+    /**
+     * Sets the executor decoding the frames of compressed multi-frame pixel
+     * data in parallel.
+     * 
+     * @param executor
+     *            the executor. null to use the common ForkJoinPool (default).
+     */
+    public void setFrameDecodingExecutor(Executor executor) {
+        _frameDecodingExecutor = executor;
+    }
+
+    public Executor frameDecodingExecutor() {
+        return _frameDecodingExecutor == null ? ForkJoinPool.commonPool() : _frameDecodingExecutor;
+    }
+
+    /**
+     * Sets the size of the inflater buffer, used to read the deflated
+     * transfer syntaxes.
+     * 
+     * @param size
+     */
+    public void setInflaterBufferSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size: " + size);
+        }
+        _inflaterBufferSize = size;
+    }
+
+    public int inflaterBufferSize() {
+        return _inflaterBufferSize;
+    }
+
     public void setDataSetTransferSyntax(TransferSyntax ts) {
         _tsDataSet = ts;
     }
@@ -219,16 +357,14 @@ public class DicomInputStream extends EndianInputStream {
     }
 
     public String readString(int length, SpecificCharacterSet scs, byte paddingByte) throws Throwable {
-        byte[] b = new byte[length];
-        readFully(b);
-        String s = scs == null ? new String(b) : scs.decode(b);
+        byte[] b = readBuffered(length);
+        String s = scs == null ? new String(b, 0, length) : scs.decode(b, 0, length);
         return StringUtils.trimRight(s, (char) paddingByte);
     }
 
     public String[] readStrings(int length, SpecificCharacterSet scs, char delimiter, byte paddingByte) throws Throwable {
-        byte[] b = new byte[length];
-        readFully(b);
-        String s = scs == null ? new String(b) : scs.decode(b);
+        byte[] b = readBuffered(length);
+        String s = scs == null ? new String(b, 0, length) : scs.decode(b, 0, length);
         String[] ss = StringUtils.split(s, delimiter);
         for (int i = 0; i < ss.length; i++) {
             ss[i] = StringUtils.trimRight(ss[i], (char) paddingByte);
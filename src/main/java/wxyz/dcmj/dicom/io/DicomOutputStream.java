@@ -3,6 +3,8 @@ package wxyz.dcmj.dicom.io;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
 
 import wxyz.dcmj.dicom.SpecificCharacterSet;
 import wxyz.dcmj.dicom.StringUtils;
@@ -16,6 +18,12 @@ public class DicomOutputStream extends EndianOutputStream {
     private TransferSyntax _ts;
     private boolean _writingDataSet;
     private long _dataSetOffset;
+    private boolean _explicitLengthSequences;
+    private int _deflateLevel = Deflater.BEST_COMPRESSION;
+    private int _deflateBufferSize = DEFAULT_DEFLATE_BUFFER_SIZE;
+    private Executor _deflateExecutor;
+
+    public static final int DEFAULT_DEFLATE_BUFFER_SIZE = 65536;
 
     private void initTransferSyntax(TransferSyntax tsFileMetaInfo, TransferSyntax tsDataSet) throws IOException {
         _tsFileMetaInfo = tsFileMetaInfo;
@@ -99,6 +107,71 @@ public class DicomOutputStream extends EndianOutputStream {
         return _dataSetOffset;
     }
 
+    /**
+     * Whether the sequences and their items are written with explicit lengths
+     * (computed before writing), instead of undefined lengths and delimiters.
+     * 
+     * @return
+     */
+    public boolean explicitLengthSequences() {
+        return _explicitLengthSequences;
+    }
+
+    public void setExplicitLengthSequences(boolean explicitLengthSequences) {
+        _explicitLengthSequences = explicitLengthSequences;
+    }
+
+    /**
+     * Sets the compression level of the deflated transfer syntaxes.
+     * 
+     * @param level
+     *            0-9 or Deflater.DEFAULT_COMPRESSION (-1). Default:
+     *            Deflater.BEST_COMPRESSION.
+     */
+    public void setDeflateLevel(int level) {
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid deflate level: " + level);
+        }
+        _deflateLevel = level;
+    }
+
+    public int deflateLevel() {
+        return _deflateLevel;
+    }
+
+    /**
+     * Sets the size of the deflater buffer (or of the blocks compressed in
+     * parallel, if there is a deflate executor).
+     * 
+     * @param size
+     */
+    public void setDeflateBufferSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size: " + size);
+        }
+        _deflateBufferSize = size;
+    }
+
+    public int deflateBufferSize() {
+        return _deflateBufferSize;
+    }
+
+    /**
+     * Sets the executor compressing the deflated data set in parallel, in
+     * blocks (see {@link ParallelDeflaterOutputStream}).
+     * 
+     * @param executor
+     *            the executor. null to compress in the writing thread
+     *            (default).
+     */
+    public void setDeflateExecutor(Executor executor) {
+        _deflateExecutor = executor;
+    }
+
+    public Executor deflateExecutor() {
+        return _deflateExecutor;
+    }
+
     public int writeString(String s, SpecificCharacterSet scs, byte paddingByte) throws Throwable {
         byte[] b = scs == null ? s.getBytes() : scs.encode(s);
         write(b);
@@ -1,7 +1,11 @@
 package wxyz.dcmj.dicom.io;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 import wxyz.dcmj.dicom.AttributeTag;
 
@@ -10,10 +14,17 @@ public class EncapsulatedInputStream extends InputStream {
     private EndianInputStream _in;
     private byte _buffer[];
     private boolean _firstTime;
-    private byte _fragment[];
-    private int _fragmentSize;
+    private boolean _inFragment;
     private int _fragmentOffset;
-    private int _fragmentRemaining;
+    /*
+     * the bytes of the current fragment read directly into the buffers of the
+     * caller, i.e. all but the tail searched for the EOI marker.
+     */
+    private int _directRemaining;
+    private byte _tail[];
+    private int _tailSize;
+    private int _tailLength;
+    private int _tailOffset;
     private boolean _sequenceDelimiterEncountered;
     private boolean _endOfFrame;
     private boolean _currentFragmentContainsEndOfFrame;
@@ -31,7 +42,7 @@ public class EncapsulatedInputStream extends InputStream {
         int group = _in.readUnsignedShort();
         int element = _in.readUnsignedShort();
         _bytesRead += 4;
-        return new AttributeTag(group, element);
+        return AttributeTag.valueOf(group, element);
     }
 
     private long readItemTag() throws IOException {
@@ -57,20 +68,213 @@ public class EncapsulatedInputStream extends InputStream {
         }
     }
 
+    /**
+     * Skips the remaining fragments (and the offset table if it has not been
+     * read) without reading them, up to and including the sequence delimiter.
+     * 
+     * @throws IOException
+     */
+    public void skipFragments() throws IOException {
+        skipRestOfFragment();
+        while (!_sequenceDelimiterEncountered) {
+            long vl = readItemTag();
+            if (vl > 0) {
+                _in.skipFully(vl);
+                _bytesRead += vl;
+            }
+        }
+        _firstTime = false;
+    }
+
+    /*
+     * reads the offset table the first time, if it has an entry per frame,
+     * otherwise skips it.
+     */
+    private long[] readOffsetTable(int numberOfFrames) throws IOException {
+        if (!_firstTime) {
+            return null;
+        }
+        long[] offsetTable = null;
+        long offsetTableLength = readItemTag();
+        if (_sequenceDelimiterEncountered) {
+            throw new IOException("Expected offset table item tag; got sequence delimiter");
+        }
+        if (numberOfFrames > 0 && offsetTableLength / 4 == numberOfFrames) {
+            offsetTable = new long[numberOfFrames];
+            for (int i = 0; i < numberOfFrames; i++) {
+                offsetTable[i] = _in.readUnsignedInt();
+            }
+            _in.skipFully(offsetTableLength - numberOfFrames * 4);
+        } else {
+            _in.skipFully(offsetTableLength);
+        }
+        _bytesRead += offsetTableLength;
+        _firstTime = false;
+        return offsetTable;
+    }
+
+    /**
+     * Reads the next fragment (skipping the offset table if it has not been
+     * read, and the rest of the current fragment if it is partially read).
+     * When reading a memory mapped file, the fragment is a slice of the mapped
+     * buffer: its bytes are not copied.
+     * 
+     * @return the value of the fragment, or null if the sequence delimiter is
+     *         reached.
+     * @throws IOException
+     */
+    public ByteBuffer readFragment() throws IOException {
+        skipRestOfFragment();
+        readOffsetTable(0);
+        if (_sequenceDelimiterEncountered) {
+            return null;
+        }
+        long vl = readItemTag();
+        if (_sequenceDelimiterEncountered) {
+            return null;
+        }
+        ByteBuffer fragment = _in.readByteBuffer((int) vl);
+        _bytesRead += vl;
+        return fragment;
+    }
+
+    /**
+     * Reads the (remaining) fragments, up to and including the sequence
+     * delimiter, and splits them into frames. The frames are delimited by the
+     * Basic Offset Table if it has an entry per frame, otherwise one fragment
+     * per frame is assumed if the numbers match, otherwise the fragments are
+     * grouped up to the fragment containing the EOI marker (as read()).
+     * 
+     * A frame of one fragment is the fragment itself, so it is not copied when
+     * reading a memory mapped file (see {@link #readFragment()}).
+     * 
+     * @param numberOfFrames
+     * @return the compressed bytes of each frame.
+     * @throws IOException
+     */
+    public ByteBuffer[] readFrames(int numberOfFrames) throws IOException {
+        skipRestOfFragment();
+        long[] offsetTable = readOffsetTable(numberOfFrames);
+        List<ByteBuffer> fragments = new ArrayList<ByteBuffer>();
+        List<Long> fragmentOffsets = new ArrayList<Long>();
+        long offset = 0; // from the item tag of the first fragment
+        ByteBuffer fragment;
+        while ((fragment = readFragment()) != null) {
+            fragments.add(fragment);
+            fragmentOffsets.add(offset);
+            offset += 8 + fragment.remaining();
+        }
+
+        int nbFragments = fragments.size();
+        long[] itemOffsets = new long[nbFragments];
+        for (int i = 0; i < nbFragments; i++) {
+            itemOffsets[i] = fragmentOffsets.get(i);
+        }
+        int[] boundaries = FrameIndex.frameBoundaries(offsetTable, itemOffsets, numberOfFrames);
+        boolean trimAfterEOI = false;
+        if (boundaries == null) {
+            int[] endOfFrame = new int[nbFragments];
+            for (int i = 0; i < nbFragments; i++) {
+                endOfFrame[i] = FrameIndex.endOfFrame(fragments.get(i));
+            }
+            boundaries = FrameIndex.frameBoundaries(endOfFrame, numberOfFrames);
+            trimAfterEOI = true;
+        }
+        ByteBuffer[] frames = new ByteBuffer[numberOfFrames];
+        for (int f = 0; f < numberOfFrames; f++) {
+            frames[f] = join(fragments.subList(boundaries[f], boundaries[f + 1]), trimAfterEOI);
+        }
+        return frames;
+    }
+
+    /*
+     * the fragments of a frame as one buffer (the fragment itself if there is
+     * only one).
+     */
+    private static ByteBuffer join(List<ByteBuffer> fragments, boolean trimAfterEOI) {
+        int n = fragments.size();
+        ByteBuffer last = fragments.get(n - 1);
+        if (trimAfterEOI) {
+            int end = FrameIndex.endOfFrame(last);
+            if (end > 0) {
+                last.limit(last.position() + end);
+            }
+        }
+        if (n == 1) {
+            return last;
+        }
+        int length = 0;
+        for (ByteBuffer fragment : fragments) {
+            length += fragment.remaining();
+        }
+        ByteBuffer frame = ByteBuffer.allocate(length);
+        for (ByteBuffer fragment : fragments) {
+            frame.put(fragment.duplicate());
+        }
+        frame.flip();
+        return frame;
+    }
+
     public EncapsulatedInputStream(EndianInputStream in) {
         _in = in;
         _buffer = new byte[8];
-        _fragment = null;
+        _tail = new byte[FrameIndex.EOI_LOOKAHEAD];
+        _inFragment = false;
         _firstTime = true;
         _sequenceDelimiterEncountered = false;
         _endOfFrame = false;
     }
 
-    public void nextFrame() {
+    /*
+     * starts reading a fragment: all but its tail are read directly into the
+     * buffers of the caller.
+     */
+    private void startFragment(int vl) throws IOException {
+        _inFragment = true;
+        _currentFragmentContainsEndOfFrame = false;
+        _fragmentOffset = 0;
+        _tailSize = Math.min(vl, _tail.length);
+        _directRemaining = vl - _tailSize;
+        if (_directRemaining == 0) {
+            readTail();
+        }
+    }
+
+    /*
+     * reads the tail of the fragment, and ignores everything between (the
+     * last) EOI marker and the end of the fragment.
+     */
+    private void readTail() throws IOException {
+        _in.readFully(_tail, 0, _tailSize);
+        _bytesRead += _tailSize;
+        int end = FrameIndex.endOfFrame(_tail, _tailSize);
+        _currentFragmentContainsEndOfFrame = end > 0;
+        // effectively skips all (hopefully padding) bytes after the EOI
+        _tailLength = end > 0 ? end : _tailSize;
+        _tailOffset = 0;
+    }
+
+    /*
+     * skips the unread bytes of the current fragment.
+     */
+    private void skipRestOfFragment() throws IOException {
+        if (!_inFragment) {
+            return;
+        }
+        // the tail is read as soon as the bytes before it are.
+        if (_directRemaining > 0) {
+            long n = (long) _directRemaining + _tailSize;
+            _in.skipFully(n);
+            _bytesRead += n;
+        }
+        _inFragment = false;
+    }
+
+    public void nextFrame() throws IOException {
         // flush to start of next fragment unless already positioned at start of
         // next fragment
-        if (_fragment != null && _fragmentOffset != 0) {
-            _fragment = null;
+        if (_inFragment && _fragmentOffset != 0) {
+            skipRestOfFragment();
         }
         _endOfFrame = false;
     }
@@ -99,58 +303,40 @@ public class EncapsulatedInputStream extends InputStream {
         int count = 0;
         int remainingToDo = len;
         while (remainingToDo > 0 && !_sequenceDelimiterEncountered && !_endOfFrame) {
-            if (_fragment == null) {
-                if (_firstTime) {
-                    long offsetTableLength = readItemTag();
-                    if (_sequenceDelimiterEncountered) {
-                        throw new IOException("Expected offset table item tag; got sequence delimiter");
-                    }
-                    _in.skipFully(offsetTableLength);
-                    _bytesRead += offsetTableLength;
-                    _firstTime = false;
-                }
+            if (!_inFragment) {
+                readOffsetTable(0);
                 // load a new fragment ...
                 long vl = readItemTag(); // if sequenceDelimiterEncountered, vl
                                          // will be zero and no more will be
                                          // done
                 if (vl != 0) {
-                    _currentFragmentContainsEndOfFrame = false;
-                    _fragmentRemaining = _fragmentSize = (int) vl;
-                    _fragment = new byte[_fragmentSize];
-                    _in.readFully(_fragment, 0, _fragmentSize);
-                    _bytesRead += _fragmentSize;
-                    _fragmentOffset = 0;
-                    // Ignore everything between (the last) EOI marker and the
-                    // end of the fragment
-                    int positionOfEOI = _fragmentRemaining - 1;
-                    while (--positionOfEOI > 0) {
-                        int firstMarkerByte = _fragment[positionOfEOI] & 0xff;
-                        int secondMarkerByte = _fragment[positionOfEOI + 1] & 0xff;
-                        if (firstMarkerByte == 0xff && secondMarkerByte == 0xd9) {
-                            _currentFragmentContainsEndOfFrame = true;
-                            break;
-                        }
-                    }
-                    // will be zero if we did not find one
-                    if (positionOfEOI > 0) {
-                        // effectively skips all (hopefully padding) bytes after
-                        // the EOI
-                        _fragmentRemaining = positionOfEOI + 2;
-
-                    }
+                    startFragment((int) vl);
                 }
+                continue;
             }
-            int amountToCopyFromThisFragment = remainingToDo < _fragmentRemaining ? remainingToDo : _fragmentRemaining;
-            if (amountToCopyFromThisFragment > 0) {
-                System.arraycopy(_fragment, _fragmentOffset, b, off, amountToCopyFromThisFragment);
-                off += amountToCopyFromThisFragment;
-                _fragmentOffset += amountToCopyFromThisFragment;
-                _fragmentRemaining -= amountToCopyFromThisFragment;
-                remainingToDo -= amountToCopyFromThisFragment;
-                count += amountToCopyFromThisFragment;
+            int n;
+            if (_directRemaining > 0) {
+                // directly from the underlying stream
+                n = _in.read(b, off, remainingToDo < _directRemaining ? remainingToDo : _directRemaining);
+                if (n < 0) {
+                    throw new EOFException();
+                }
+                _bytesRead += n;
+                _directRemaining -= n;
+                if (_directRemaining == 0) {
+                    readTail();
+                }
+            } else {
+                n = remainingToDo < _tailLength - _tailOffset ? remainingToDo : _tailLength - _tailOffset;
+                System.arraycopy(_tail, _tailOffset, b, off, n);
+                _tailOffset += n;
             }
-            if (_fragmentRemaining <= 0) {
-                _fragment = null;
+            off += n;
+            _fragmentOffset += n;
+            remainingToDo -= n;
+            count += n;
+            if (_directRemaining == 0 && _tailOffset == _tailLength) {
+                _inFragment = false;
                 if (_currentFragmentContainsEndOfFrame) {
                     // once EOI has been seen in a fragment, use the rest of the
                     // fragment including the EOI, but no further
@@ -161,4 +347,4 @@ public class EncapsulatedInputStream extends InputStream {
         // always returns more than 0 unless end, which is signaled by -1
         return count == 0 ? -1 : count;
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackInputStream;
 import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 public class EndianInputStream extends FilterInputStream implements DataInput {
 
@@ -16,16 +18,143 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
     private long _position = 0;
     private long _mark = 0;
 
-    protected EndianInputStream(InputStream in, boolean bigEndian) {
+    /*
+     * the mapped buffer (if reading from a MappedFileInputStream). Primitive
+     * values are decoded directly from it.
+     */
+    private ByteBuffer _mapped;
+
+    /*
+     * block size for decoding primitive arrays.
+     */
+    private static final int BULK_BUFFER_SIZE = 8192;
+
+    /*
+     * reusable scratch buffers for the bulk reads, the strings and readUTF.
+     * They grow as needed, but are never grown beyond MAX_SCRATCH_SIZE: larger
+     * requests get a temporary array, so that one huge value does not stay
+     * retained by the stream.
+     */
+    private static final int MIN_SCRATCH_SIZE = 256;
+    private static final int MAX_SCRATCH_SIZE = 65536;
+    private byte[] _scratch;
+    private ByteBuffer _scratchByteBuffer;
+    private char[] _scratchChars;
+
+    protected EndianInputStream(InputStream in, boolean bigEndian) throws IOException {
 
         super(in.markSupported() ? in : new BufferedInputStream(in));
         _bigEndian = bigEndian;
+        if (in instanceof MappedFileInputStream) {
+            _mapped = ((MappedFileInputStream) in).buffer();
+            _mapped.order(bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Checks if the specified number of bytes can be decoded directly from the
+     * mapped buffer.
+     * 
+     * @param n
+     * @return
+     * @throws IOException
+     */
+    private boolean mapped(long n) throws IOException {
+        if (_mapped == null) {
+            return false;
+        }
+        if (_mapped.remaining() < n) {
+            throw new EOFException();
+        }
+        _position += n;
+        return true;
+    }
+
+    /**
+     * Reads the specified number of bytes into the bulk buffer.
+     * 
+     * @param n
+     *            number of bytes. Must not exceed BULK_BUFFER_SIZE.
+     * @return the bulk buffer, positioned at 0, in the current byte order.
+     * @throws IOException
+     */
+    private ByteBuffer readBulk(int n) throws IOException {
+        byte[] b = scratch(BULK_BUFFER_SIZE);
+        if (_scratchByteBuffer == null || _scratchByteBuffer.array() != b) {
+            _scratchByteBuffer = ByteBuffer.wrap(b);
+        }
+        readFully(b, 0, n);
+        _scratchByteBuffer.clear();
+        _scratchByteBuffer.order(_bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        return _scratchByteBuffer;
+    }
+
+    /**
+     * A byte array of at least the specified length: the scratch buffer of the
+     * stream, grown if needed, or a temporary array if the length exceeds
+     * MAX_SCRATCH_SIZE. The content is only valid until the next read.
+     * 
+     * @param n
+     * @return
+     */
+    protected byte[] scratch(int n) {
+        if (n > MAX_SCRATCH_SIZE) {
+            return new byte[n];
+        }
+        if (_scratch == null || _scratch.length < n) {
+            int size = _scratch == null ? MIN_SCRATCH_SIZE : _scratch.length;
+            while (size < n) {
+                size <<= 1;
+            }
+            _scratch = new byte[Math.min(size, MAX_SCRATCH_SIZE)];
+        }
+        return _scratch;
+    }
+
+    private char[] scratchChars(int n) {
+        if (n > MAX_SCRATCH_SIZE) {
+            return new char[n];
+        }
+        if (_scratchChars == null || _scratchChars.length < n) {
+            int size = _scratchChars == null ? MIN_SCRATCH_SIZE : _scratchChars.length;
+            while (size < n) {
+                size <<= 1;
+            }
+            _scratchChars = new char[Math.min(size, MAX_SCRATCH_SIZE)];
+        }
+        return _scratchChars;
+    }
+
+    /**
+     * Reads the specified number of bytes into the scratch buffer (see
+     * {@link #scratch(int)}).
+     * 
+     * @param n
+     *            number of bytes.
+     * @return an array holding the bytes from index 0. The content is only
+     *         valid until the next read.
+     * @throws IOException
+     */
+    protected byte[] readBuffered(int n) throws IOException {
+        byte[] b = scratch(n);
+        readFully(b, 0, n);
+        return b;
+    }
+
+    /**
+     * Advances the mapped buffer after a bulk read through one of its views.
+     * 
+     * @param n
+     *            number of bytes.
+     */
+    private void skipMapped(int n) {
+        _mapped.position(_mapped.position() + n);
     }
 
     @Override
     public synchronized int read() throws IOException {
         int b = super.read();
-        if (b > 0) {
+        if (b >= 0) {
             _position++;
         }
         return b;
@@ -114,8 +243,18 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
 
     public void readDouble(double[] d, int off, int len) throws Throwable {
 
-        for (int i = off; i < off + len; i++) {
-            d[i] = readDouble();
+        if (len == 0) {
+            return;
+        }
+        if (mapped((long) len * 8)) {
+            _mapped.asDoubleBuffer().get(d, off, len);
+            skipMapped(len * 8);
+            return;
+        }
+        for (int n = 0; n < len;) {
+            int count = Math.min(len - n, BULK_BUFFER_SIZE / 8);
+            readBulk(count * 8).asDoubleBuffer().get(d, off + n, count);
+            n += count;
         }
     }
 
@@ -132,8 +271,18 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
 
     public void readFloat(float[] f, int off, int len) throws Throwable {
 
-        for (int i = off; i < off + len; i++) {
-            f[i] = readFloat();
+        if (len == 0) {
+            return;
+        }
+        if (mapped((long) len * 4)) {
+            _mapped.asFloatBuffer().get(f, off, len);
+            skipMapped(len * 4);
+            return;
+        }
+        for (int n = 0; n < len;) {
+            int count = Math.min(len - n, BULK_BUFFER_SIZE / 4);
+            readBulk(count * 4).asFloatBuffer().get(f, off + n, count);
+            n += count;
         }
     }
 
@@ -163,9 +312,34 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
         }
     }
 
+    /**
+     * Reads the specified number of bytes as a ByteBuffer. If reading a
+     * memory mapped file, the buffer is a slice of the mapped buffer (no copy),
+     * otherwise it wraps a new array.
+     *
+     * @param n
+     *            number of bytes.
+     * @return the buffer, positioned at 0, with n bytes remaining.
+     * @throws IOException
+     */
+    public ByteBuffer readByteBuffer(int n) throws IOException {
+        if (mapped(n)) {
+            ByteBuffer b = _mapped.slice();
+            b.limit(n);
+            skipMapped(n);
+            return b;
+        }
+        byte[] b = new byte[n];
+        readFully(b, 0, n);
+        return ByteBuffer.wrap(b);
+    }
+
     @Override
     public int readInt() throws IOException {
 
+        if (mapped(4)) {
+            return _mapped.getInt();
+        }
         readFully(_buffer, 0, 4);
         if (_bigEndian) {
             return ((_buffer[0] & 0xff) << 24) | ((_buffer[1] & 0xff) << 16) | ((_buffer[2] & 0xff) << 8) | ((_buffer[3] & 0xff));
@@ -181,8 +355,18 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
 
     public void readInt(int[] a, int off, int len) throws Throwable {
 
-        for (int i = off; i < off + len; i++) {
-            a[i] = readInt();
+        if (len == 0) {
+            return;
+        }
+        if (mapped((long) len * 4)) {
+            _mapped.asIntBuffer().get(a, off, len);
+            skipMapped(len * 4);
+            return;
+        }
+        for (int n = 0; n < len;) {
+            int count = Math.min(len - n, BULK_BUFFER_SIZE / 4);
+            readBulk(count * 4).asIntBuffer().get(a, off + n, count);
+            n += count;
         }
     }
 
@@ -230,6 +414,9 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
     @Override
     public long readLong() throws IOException {
 
+        if (mapped(8)) {
+            return _mapped.getLong();
+        }
         readFully(_buffer, 0, 8);
         if (_bigEndian) {
             return ((long) (_buffer[0] & 0xff) << 56) | ((long) (_buffer[1] & 0xff) << 48) | ((long) (_buffer[2] & 0xff) << 40) | ((long) (_buffer[3] & 0xff) << 32)
@@ -247,14 +434,27 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
 
     public void readLong(long[] l, int off, int len) throws Throwable {
 
-        for (int i = off; i < off + len; i++) {
-            l[i] = readLong();
+        if (len == 0) {
+            return;
+        }
+        if (mapped((long) len * 8)) {
+            _mapped.asLongBuffer().get(l, off, len);
+            skipMapped(len * 8);
+            return;
+        }
+        for (int n = 0; n < len;) {
+            int count = Math.min(len - n, BULK_BUFFER_SIZE / 8);
+            readBulk(count * 8).asLongBuffer().get(l, off + n, count);
+            n += count;
         }
     }
 
     @Override
     public short readShort() throws IOException {
 
+        if (mapped(2)) {
+            return _mapped.getShort();
+        }
         readFully(_buffer, 0, 2);
         if (_bigEndian) {
             return (short) ((_buffer[0] << 8) | (_buffer[1] & 0xff));
@@ -270,8 +470,18 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
 
     public void readShort(short[] s, int off, int len) throws Throwable {
 
-        for (int i = off; i < off + len; i++) {
-            s[i] = readShort();
+        if (len == 0) {
+            return;
+        }
+        if (mapped((long) len * 2)) {
+            _mapped.asShortBuffer().get(s, off, len);
+            skipMapped(len * 2);
+            return;
+        }
+        for (int n = 0; n < len;) {
+            int count = Math.min(len - n, BULK_BUFFER_SIZE / 2);
+            readBulk(count * 2).asShortBuffer().get(s, off + n, count);
+            n += count;
         }
     }
 
@@ -286,6 +496,9 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
     }
 
     public long readUnsignedInt() throws IOException {
+        if (mapped(4)) {
+            return _mapped.getInt() & 0xffffffffL;
+        }
         readFully(_buffer, 0, 4);
         long b1 = ((int) _buffer[0]) & 0xff;
         long b2 = ((int) _buffer[1]) & 0xff;
@@ -301,14 +514,16 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
 
     public void readUnsignedInt(int[] a, int off, int len) throws Throwable {
 
-        for (int i = off; i < off + len; i++) {
-            a[i] = (int) readUnsignedInt();
-        }
+        // same bits as signed int
+        readInt(a, off, len);
     }
 
     @Override
     public int readUnsignedShort() throws IOException {
 
+        if (mapped(2)) {
+            return _mapped.getShort() & 0xffff;
+        }
         readFully(_buffer, 0, 2);
         if (_bigEndian) {
             return ((_buffer[0] & 0xff) << 8) | (_buffer[1] & 0xff);
@@ -323,17 +538,16 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
     }
 
     public void readUnsignedShort(short[] s, int off, int len) throws Throwable {
-        for (int i = off; i < off + len; i++) {
-            s[i] = (short) readUnsignedShort();
-        }
+        // same bits as signed short
+        readShort(s, off, len);
     }
 
     @Override
     public String readUTF() throws IOException {
 
         int utflen = readUnsignedShort();
-        byte[] bytearr = new byte[utflen];
-        char[] chararr = new char[utflen];
+        byte[] bytearr = scratch(utflen);
+        char[] chararr = scratchChars(utflen);
         int c, char2, char3;
         int count = 0;
         int chararr_count = 0;
@@ -429,6 +643,9 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
 
     public void setBigEndian() {
         _bigEndian = true;
+        if (_mapped != null) {
+            _mapped.order(ByteOrder.BIG_ENDIAN);
+        }
     }
 
     public boolean littleEndian() {
@@ -437,6 +654,9 @@ public class EndianInputStream extends FilterInputStream implements DataInput {
 
     public void setLittleEndian() {
         _bigEndian = false;
+        if (_mapped != null) {
+            _mapped.order(ByteOrder.LITTLE_ENDIAN);
+        }
     }
 
     @Override
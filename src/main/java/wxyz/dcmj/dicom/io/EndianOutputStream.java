@@ -1,10 +1,14 @@
 package wxyz.dcmj.dicom.io;
 
 import java.io.DataOutput;
+import java.io.EOFException;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 
 public class EndianOutputStream extends FilterOutputStream implements DataOutput {
 
@@ -62,7 +66,22 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
     private boolean _bigEndian = false;
 
-    private byte _buffer[] = new byte[8];
+    /*
+     * size of the write buffer. Writes of at least this size bypass it.
+     */
+    private static final int BUFFER_SIZE = 65536;
+
+    /*
+     * the write buffer, in the current byte order: the primitive values (and
+     * arrays) are encoded into it, and it is written to the underlying stream
+     * (or channel) when full or flushed.
+     */
+    private ByteBuffer _writeBuffer;
+
+    /*
+     * the channel sink (if writing to a ChannelOutputStream).
+     */
+    private ChannelOutputStream _channel;
 
     protected long _position = 0;
 
@@ -71,6 +90,11 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
         super(out);
         _bigEndian = bigEndian;
         _position = 0;
+        _writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        _writeBuffer.order(bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        if (out instanceof ChannelOutputStream) {
+            _channel = (ChannelOutputStream) out;
+        }
     }
 
     public boolean bigEndian() {
@@ -87,12 +111,57 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
         _position = position;
     }
 
+    /**
+     * Makes room for the specified number of bytes in the write buffer.
+     * 
+     * @param n
+     *            number of bytes. Must not exceed BUFFER_SIZE.
+     * @return the write buffer.
+     * @throws IOException
+     */
+    private ByteBuffer buffer(int n) throws IOException {
+        if (_writeBuffer.remaining() < n) {
+            flushBuffer();
+        }
+        _position += n;
+        return _writeBuffer;
+    }
+
+    /**
+     * Writes the content of the write buffer to the underlying stream.
+     * 
+     * @throws IOException
+     */
+    private void flushBuffer() throws IOException {
+        if (_writeBuffer.position() == 0) {
+            return;
+        }
+        if (_channel != null) {
+            _writeBuffer.flip();
+            _channel.write(_writeBuffer);
+        } else {
+            out.write(_writeBuffer.array(), 0, _writeBuffer.position());
+        }
+        _writeBuffer.clear();
+    }
+
     @Override
     public void flush() throws IOException {
 
+        flushBuffer();
         out.flush();
     }
 
+    @Override
+    public void close() throws IOException {
+
+        try {
+            flushBuffer();
+        } finally {
+            super.close();
+        }
+    }
+
     public boolean littleEndian() {
 
         return !_bigEndian;
@@ -101,25 +170,116 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
     public void setBigEndian() {
 
         _bigEndian = true;
+        _writeBuffer.order(ByteOrder.BIG_ENDIAN);
     }
 
     public void setLittleEndian() {
 
         _bigEndian = false;
+        _writeBuffer.order(ByteOrder.LITTLE_ENDIAN);
     }
 
     @Override
     public synchronized void write(byte b[], int off, int len) throws IOException {
 
-        out.write(b, off, len);
+        if (len <= _writeBuffer.remaining()) {
+            _writeBuffer.put(b, off, len);
+        } else if (len < BUFFER_SIZE) {
+            flushBuffer();
+            _writeBuffer.put(b, off, len);
+        } else if (_channel != null) {
+            // buffered bytes and the value in one (gathering) write
+            _writeBuffer.flip();
+            _channel.write(_writeBuffer, ByteBuffer.wrap(b, off, len));
+            _writeBuffer.clear();
+        } else {
+            flushBuffer();
+            out.write(b, off, len);
+        }
         _position += len;
     }
 
+    /**
+     * Writes the remaining bytes of the buffer. Its position is advanced to
+     * its limit.
+     * 
+     * @param b
+     * @throws IOException
+     */
+    public synchronized void write(ByteBuffer b) throws IOException {
+
+        int len = b.remaining();
+        if (len <= _writeBuffer.remaining()) {
+            _writeBuffer.put(b);
+        } else if (_channel != null && len >= BUFFER_SIZE) {
+            _writeBuffer.flip();
+            _channel.write(_writeBuffer, b);
+            _writeBuffer.clear();
+        } else if (b.hasArray()) {
+            write(b.array(), b.arrayOffset() + b.position(), len);
+            b.position(b.limit());
+            return;
+        } else {
+            while (b.hasRemaining()) {
+                if (!_writeBuffer.hasRemaining()) {
+                    flushBuffer();
+                }
+                int n = Math.min(b.remaining(), _writeBuffer.remaining());
+                ByteBuffer slice = b.duplicate();
+                slice.limit(slice.position() + n);
+                _writeBuffer.put(slice);
+                b.position(b.position() + n);
+            }
+        }
+        _position += len;
+    }
+
+    /**
+     * Copies bytes from the channel: with FileChannel.transferTo if writing to
+     * a {@link ChannelOutputStream}, otherwise through the write buffer. The
+     * bytes are not read into the heap as a whole.
+     * 
+     * @param source
+     *            the channel to copy from. Its position is not changed.
+     * @param position
+     *            the position of the first byte to copy in the channel.
+     * @param count
+     *            number of bytes.
+     * @throws IOException
+     */
+    public synchronized void transferFrom(FileChannel source, long position, long count) throws IOException {
+
+        if (position + count > source.size()) {
+            throw new EOFException("Unable to copy " + count + " bytes at " + position + ": end of channel (" + source.size() + " bytes).");
+        }
+        if (_channel != null) {
+            flushBuffer();
+            for (long n = 0; n < count;) {
+                n += source.transferTo(position + n, count - n, _channel.channel());
+            }
+        } else {
+            for (long n = 0; n < count;) {
+                if (!_writeBuffer.hasRemaining()) {
+                    flushBuffer();
+                }
+                int len = (int) Math.min(count - n, _writeBuffer.remaining());
+                ByteBuffer dst = _writeBuffer.duplicate();
+                dst.limit(dst.position() + len);
+                int read = source.read(dst, position + n);
+                if (read < 0) {
+                    throw new EOFException();
+                }
+                skipBuffer(read);
+                n += read;
+            }
+        }
+        _position += count;
+    }
+
     @Override
     public synchronized void write(int b) throws IOException {
 
-        out.write(b);
-        _position++;
+        buffer(1).put((byte) b);
     }
 
     @Override
@@ -146,13 +306,7 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
     @Override
     public void writeChar(int v) throws IOException {
 
-        if (_bigEndian) {
-            write((v >>> 8) & 0xFF);
-            write((v >>> 0) & 0xFF);
-        } else {
-            write((v >>> 0) & 0xFF);
-            write((v >>> 8) & 0xFF);
-        }
+        buffer(2).putChar((char) v);
     }
 
     @Override
@@ -160,14 +314,7 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
         int len = s.length();
         for (int i = 0; i < len; i++) {
-            int v = s.charAt(i);
-            if (_bigEndian) {
-                write((v >>> 8) & 0xFF);
-                write((v >>> 0) & 0xFF);
-            } else {
-                write((v >>> 0) & 0xFF);
-                write((v >>> 8) & 0xFF);
-            }
+            writeChar(s.charAt(i));
         }
     }
 
@@ -175,8 +322,7 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
         int end = off + len;
         for (int i = off; i < end; i++) {
-            writeDouble(real[i]);
-            writeDouble(imaginary[i]);
+            buffer(16).putDouble(real[i]).putDouble(imaginary[i]);
         }
     }
 
@@ -184,15 +330,14 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
         int end = off + len;
         for (int i = off; i < end; i++) {
-            writeFloat(real[i]);
-            writeFloat(imaginary[i]);
+            buffer(8).putFloat(real[i]).putFloat(imaginary[i]);
         }
     }
 
     @Override
     public void writeDouble(double v) throws IOException {
 
-        writeLong(Double.doubleToLongBits(v));
+        buffer(8).putDouble(v);
     }
 
     public void writeDouble(double[] a) throws Throwable {
@@ -202,16 +347,18 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
     public void writeDouble(double[] a, int off, int len) throws Throwable {
 
-        int end = off + len;
-        for (int i = off; i < end; i++) {
-            writeDouble(a[i]);
+        for (int n = 0; n < len;) {
+            int count = bulkCount(len - n, 8);
+            buffer(count * 8).asDoubleBuffer().put(a, off + n, count);
+            skipBuffer(count * 8);
+            n += count;
         }
     }
 
     @Override
     public void writeFloat(float v) throws IOException {
 
-        writeInt(Float.floatToIntBits(v));
+        buffer(4).putFloat(v);
     }
 
     public void writeFloat(float[] a) throws Throwable {
@@ -221,26 +368,18 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
     public void writeFloat(float[] a, int off, int len) throws Throwable {
 
-        int end = off + len;
-        for (int i = off; i < end; i++) {
-            writeFloat(a[i]);
+        for (int n = 0; n < len;) {
+            int count = bulkCount(len - n, 4);
+            buffer(count * 4).asFloatBuffer().put(a, off + n, count);
+            skipBuffer(count * 4);
+            n += count;
         }
     }
 
     @Override
     public void writeInt(int v) throws IOException {
 
-        if (_bigEndian) {
-            write((v >>> 24) & 0xFF);
-            write((v >>> 16) & 0xFF);
-            write((v >>> 8) & 0xFF);
-            write((v >>> 0) & 0xFF);
-        } else {
-            write((v >>> 0) & 0xFF);
-            write((v >>> 8) & 0xFF);
-            write((v >>> 16) & 0xFF);
-            write((v >>> 24) & 0xFF);
-        }
+        buffer(4).putInt(v);
     }
 
     public void writeInt(int[] a) throws Throwable {
@@ -250,35 +389,18 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
     public void writeInt(int[] a, int off, int len) throws Throwable {
 
-        int end = off + len;
-        for (int i = off; i < end; i++) {
-            writeInt(a[i]);
+        for (int n = 0; n < len;) {
+            int count = bulkCount(len - n, 4);
+            buffer(count * 4).asIntBuffer().put(a, off + n, count);
+            skipBuffer(count * 4);
+            n += count;
         }
     }
 
     @Override
     public void writeLong(long v) throws IOException {
 
-        if (_bigEndian) {
-            _buffer[0] = (byte) (v >>> 56);
-            _buffer[1] = (byte) (v >>> 48);
-            _buffer[2] = (byte) (v >>> 40);
-            _buffer[3] = (byte) (v >>> 32);
-            _buffer[4] = (byte) (v >>> 24);
-            _buffer[5] = (byte) (v >>> 16);
-            _buffer[6] = (byte) (v >>> 8);
-            _buffer[7] = (byte) (v >>> 0);
-        } else {
-            _buffer[0] = (byte) (v >>> 0);
-            _buffer[1] = (byte) (v >>> 8);
-            _buffer[2] = (byte) (v >>> 16);
-            _buffer[3] = (byte) (v >>> 24);
-            _buffer[4] = (byte) (v >>> 32);
-            _buffer[5] = (byte) (v >>> 40);
-            _buffer[6] = (byte) (v >>> 48);
-            _buffer[7] = (byte) (v >>> 56);
-        }
-        write(_buffer, 0, 8);
+        buffer(8).putLong(v);
     }
 
     public void writeLong(long[] a) throws Throwable {
@@ -288,22 +410,18 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
     public void writeLong(long[] a, int off, int len) throws Throwable {
 
-        int end = off + len;
-        for (int i = off; i < end; i++) {
-            writeLong(a[i]);
+        for (int n = 0; n < len;) {
+            int count = bulkCount(len - n, 8);
+            buffer(count * 8).asLongBuffer().put(a, off + n, count);
+            skipBuffer(count * 8);
+            n += count;
         }
     }
 
     @Override
     public void writeShort(int v) throws IOException {
 
-        if (_bigEndian) {
-            write((v >>> 8) & 0xFF);
-            write((v >>> 0) & 0xFF);
-        } else {
-            write((v >>> 0) & 0xFF);
-            write((v >>> 8) & 0xFF);
-        }
+        buffer(2).putShort((short) v);
     }
 
     public void writeShort(short[] a) throws Throwable {
@@ -313,10 +431,40 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
     public void writeShort(short[] a, int off, int len) throws Throwable {
 
-        int end = off + len;
-        for (int i = off; i < end; i++) {
-            writeShort(a[i]);
+        for (int n = 0; n < len;) {
+            int count = bulkCount(len - n, 2);
+            buffer(count * 2).asShortBuffer().put(a, off + n, count);
+            skipBuffer(count * 2);
+            n += count;
+        }
+    }
+
+    /**
+     * The number of array elements encoded in the next block: as many as fit
+     * in the write buffer (flushed first if it cannot hold any).
+     * 
+     * @param len
+     *            the number of elements left.
+     * @param size
+     *            the size of an element in bytes.
+     * @return
+     * @throws IOException
+     */
+    private int bulkCount(int len, int size) throws IOException {
+        if (_writeBuffer.remaining() < size) {
+            flushBuffer();
         }
+        return Math.min(len, _writeBuffer.remaining() / size);
+    }
+
+    /**
+     * Advances the write buffer after a bulk write through one of its views.
+     * 
+     * @param n
+     *            number of bytes.
+     */
+    private void skipBuffer(int n) {
+        _writeBuffer.position(_writeBuffer.position() + n);
     }
 
     public void writeUnsignedByte(int v) throws IOException {
@@ -331,25 +479,13 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
     public void writeUnsignedInt(int[] a, int off, int len) throws Throwable {
 
-        int end = off + len;
-        for (int i = off; i < end; i++) {
-            writeUnsignedInt(Integer.toUnsignedLong(a[i]));
-        }
+        // same bits as signed int
+        writeInt(a, off, len);
     }
 
     public void writeUnsignedInt(long v) throws IOException {
 
-        if (_bigEndian) {
-            write((byte) ((v >>> 24) & 0xFF));
-            write((byte) ((v >>> 16) & 0xFF));
-            write((byte) ((v >>> 8) & 0xFF));
-            write((byte) ((v >>> 0) & 0xFF));
-        } else {
-            write((byte) ((v >>> 0) & 0xFF));
-            write((byte) ((v >>> 8) & 0xFF));
-            write((byte) ((v >>> 16) & 0xFF));
-            write((byte) ((v >>> 24) & 0xFF));
-        }
+        buffer(4).putInt((int) v);
     }
 
     public void writeUnsignedShort(int v) throws IOException {
@@ -364,10 +500,8 @@ public class EndianOutputStream extends FilterOutputStream implements DataOutput
 
     public void writeUnsignedShort(short[] a, int off, int len) throws Throwable {
 
-        int end = off + len;
-        for (int i = off; i < end; i++) {
-            writeUnsignedShort(Short.toUnsignedInt(a[i]));
-        }
+        // same bits as signed short
+        writeShort(a, off, len);
     }
 
     public void writeUTF(String str) throws IOException {
@@ -0,0 +1,362 @@
+package wxyz.dcmj.dicom.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * The index of the frames of encapsulated pixel data: for each frame, the
+ * offsets (in the source) and lengths of the values of its fragments. It
+ * allows to read the compressed bytes of any frame, without reading the
+ * fragments of the other frames.
+ *
+ * The index is built from the Extended Offset Table, or from the item headers
+ * of the fragments (without reading the fragments).
+ *
+ */
+public class FrameIndex {
+
+    /*
+     * number of bytes at the end of a fragment searched for the EOI marker,
+     * when the frames are delimited by EOI markers.
+     */
+    static final int EOI_LOOKAHEAD = 64;
+
+    private long[][] _offsets;
+    private int[][] _lengths;
+
+    private FrameIndex(long[][] offsets, int[][] lengths) {
+        _offsets = offsets;
+        _lengths = lengths;
+    }
+
+    public int numberOfFrames() {
+        return _offsets.length;
+    }
+
+    public int numberOfFragments(int frame) {
+        return _offsets[frame].length;
+    }
+
+    /**
+     * The offset of the value of the fragment in the source.
+     *
+     * @param frame
+     * @param fragment
+     * @return
+     */
+    public long fragmentOffset(int frame, int fragment) {
+        return _offsets[frame][fragment];
+    }
+
+    public int fragmentLength(int frame, int fragment) {
+        return _lengths[frame][fragment];
+    }
+
+    /**
+     * The number of compressed bytes of the frame.
+     *
+     * @param frame
+     * @return
+     */
+    public int frameLength(int frame) {
+        int length = 0;
+        for (int l : _lengths[frame]) {
+            length += l;
+        }
+        return length;
+    }
+
+    /**
+     * Reads the compressed bytes of the frame (the fragments joined).
+     *
+     * @param iis
+     *            the source.
+     * @param frame
+     * @return
+     * @throws IOException
+     */
+    public byte[] readFrame(ImageInputStream iis, int frame) throws IOException {
+        byte[] b = new byte[frameLength(frame)];
+        int off = 0;
+        for (int i = 0; i < _offsets[frame].length; i++) {
+            iis.seek(_offsets[frame][i]);
+            iis.readFully(b, off, _lengths[frame][i]);
+            off += _lengths[frame][i];
+        }
+        return b;
+    }
+
+    /**
+     * Builds the index from the item headers of the encapsulated pixel data.
+     *
+     * @param iis
+     *            the source.
+     * @param position
+     *            the position of the (Basic Offset Table) item tag following
+     *            the PixelData header.
+     * @param numberOfFrames
+     * @return
+     * @throws IOException
+     */
+    public static FrameIndex read(ImageInputStream iis, long position, int numberOfFrames) throws IOException {
+        ByteOrder byteOrder = iis.getByteOrder();
+        iis.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        try {
+            iis.seek(position);
+            long offsetTableLength = readItemHeader(iis);
+            if (offsetTableLength < 0) {
+                throw new IOException("Expected offset table item tag; got sequence delimiter");
+            }
+            long[] offsetTable = null;
+            if (numberOfFrames > 0 && offsetTableLength / 4 == numberOfFrames) {
+                offsetTable = new long[numberOfFrames];
+                for (int i = 0; i < numberOfFrames; i++) {
+                    offsetTable[i] = iis.readUnsignedInt();
+                }
+            } else {
+                iis.seek(iis.getStreamPosition() + offsetTableLength);
+            }
+            long firstFragmentPosition = iis.getStreamPosition();
+            long[] offsets = new long[Math.max(numberOfFrames, 4)];
+            int[] lengths = new int[offsets.length];
+            int nbFragments = 0;
+            while (true) {
+                long vl = readItemHeader(iis);
+                if (vl < 0) {
+                    break;
+                }
+                if (nbFragments == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, nbFragments * 2);
+                    lengths = Arrays.copyOf(lengths, nbFragments * 2);
+                }
+                offsets[nbFragments] = iis.getStreamPosition();
+                lengths[nbFragments] = (int) vl;
+                nbFragments++;
+                iis.seek(iis.getStreamPosition() + vl);
+            }
+
+            long[] itemOffsets = new long[nbFragments];
+            for (int i = 0; i < nbFragments; i++) {
+                itemOffsets[i] = offsets[i] - 8 - firstFragmentPosition;
+            }
+            int[] boundaries = frameBoundaries(offsetTable, itemOffsets, numberOfFrames);
+            if (boundaries == null) {
+                // look for the EOI markers at the end of the fragments.
+                int[] endOfFrame = new int[nbFragments];
+                byte[] tail = new byte[EOI_LOOKAHEAD];
+                for (int i = 0; i < nbFragments; i++) {
+                    int n = Math.min(EOI_LOOKAHEAD, lengths[i]);
+                    iis.seek(offsets[i] + lengths[i] - n);
+                    iis.readFully(tail, 0, n);
+                    int end = endOfFrame(tail, n);
+                    endOfFrame[i] = end > 0 ? (lengths[i] - n + end) : 0;
+                }
+                boundaries = frameBoundaries(endOfFrame, numberOfFrames);
+                for (int f = 0; f < numberOfFrames; f++) {
+                    int last = boundaries[f + 1] - 1;
+                    if (endOfFrame[last] > 0) {
+                        lengths[last] = endOfFrame[last];
+                    }
+                }
+            }
+            long[][] frameOffsets = new long[numberOfFrames][];
+            int[][] frameLengths = new int[numberOfFrames][];
+            for (int f = 0; f < numberOfFrames; f++) {
+                frameOffsets[f] = Arrays.copyOfRange(offsets, boundaries[f], boundaries[f + 1]);
+                frameLengths[f] = Arrays.copyOfRange(lengths, boundaries[f], boundaries[f + 1]);
+            }
+            return new FrameIndex(frameOffsets, frameLengths);
+        } finally {
+            iis.setByteOrder(byteOrder);
+        }
+    }
+
+    /**
+     * Builds the index from the Extended Offset Table: one fragment per frame.
+     *
+     * @param iis
+     *            the source.
+     * @param position
+     *            the position of the (Basic Offset Table) item tag following
+     *            the PixelData header.
+     * @param extendedOffsetTable
+     *            the value of ExtendedOffsetTable (7FE0,0001).
+     * @param extendedOffsetTableLengths
+     *            the value of ExtendedOffsetTableLengths (7FE0,0002).
+     * @return
+     * @throws IOException
+     */
+    public static FrameIndex read(ImageInputStream iis, long position, long[] extendedOffsetTable, long[] extendedOffsetTableLengths) throws IOException {
+        if (extendedOffsetTable.length != extendedOffsetTableLengths.length) {
+            throw new IOException("Extended offset table has " + extendedOffsetTable.length + " offsets but " + extendedOffsetTableLengths.length + " lengths");
+        }
+        long firstFragmentPosition;
+        ByteOrder byteOrder = iis.getByteOrder();
+        iis.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        try {
+            iis.seek(position);
+            long offsetTableLength = readItemHeader(iis);
+            if (offsetTableLength < 0) {
+                throw new IOException("Expected offset table item tag; got sequence delimiter");
+            }
+            firstFragmentPosition = iis.getStreamPosition() + offsetTableLength;
+        } finally {
+            iis.setByteOrder(byteOrder);
+        }
+        int numberOfFrames = extendedOffsetTable.length;
+        long[][] frameOffsets = new long[numberOfFrames][];
+        int[][] frameLengths = new int[numberOfFrames][];
+        for (int f = 0; f < numberOfFrames; f++) {
+            // skip the item header
+            frameOffsets[f] = new long[] { firstFragmentPosition + extendedOffsetTable[f] + 8 };
+            frameLengths[f] = new int[] { (int) extendedOffsetTableLengths[f] };
+        }
+        return new FrameIndex(frameOffsets, frameLengths);
+    }
+
+    /*
+     * the value length of the item, or -1 for the sequence delimiter.
+     */
+    private static long readItemHeader(ImageInputStream iis) throws IOException {
+        int group = iis.readUnsignedShort();
+        int element = iis.readUnsignedShort();
+        long vl = iis.readUnsignedInt();
+        if (group == 0xfffe && element == 0xe0dd) {
+            return -1;
+        }
+        if (group != 0xfffe || element != 0xe000) {
+            throw new IOException("Unexpected DICOM tag (" + String.format("%04X,%04X", group, element) + ") (vl=" + vl
+                    + ") in encapsulated data whilst expecting Item or SequenceDelimitationItem");
+        }
+        return vl;
+    }
+
+    /**
+     * The first fragment of each frame (and the number of fragments at the
+     * end), from the Basic Offset Table if it is usable, otherwise one
+     * fragment per frame if the numbers match.
+     *
+     * @param offsetTable
+     *            the Basic Offset Table or null.
+     * @param itemOffsets
+     *            the offsets of the fragment items, from the first one.
+     * @param numberOfFrames
+     * @return the boundaries, or null if the frames cannot be delimited
+     *         without looking for their EOI markers.
+     * @throws IOException
+     */
+    static int[] frameBoundaries(long[] offsetTable, long[] itemOffsets, int numberOfFrames) throws IOException {
+        int nbFragments = itemOffsets.length;
+        int[] boundaries = new int[numberOfFrames + 1];
+        if (offsetTable != null && offsetTable.length == numberOfFrames && offsetTable[0] == 0 && isAscending(offsetTable)) {
+            int first = 0;
+            for (int f = 0; f < numberOfFrames; f++) {
+                long end = f + 1 < numberOfFrames ? offsetTable[f + 1] : Long.MAX_VALUE;
+                int last = first;
+                while (last < nbFragments && itemOffsets[last] < end) {
+                    last++;
+                }
+                boundaries[f] = first;
+                first = last;
+            }
+            boundaries[numberOfFrames] = first;
+        } else if (nbFragments == numberOfFrames || numberOfFrames == 1) {
+            for (int f = 0; f < numberOfFrames; f++) {
+                boundaries[f] = f;
+            }
+            boundaries[numberOfFrames] = nbFragments;
+        } else {
+            return null;
+        }
+        checkBoundaries(boundaries);
+        return boundaries;
+    }
+
+    /**
+     * The first fragment of each frame (and the number of fragments at the
+     * end), a frame ending with the fragment containing the EOI marker. The
+     * remaining fragments go to the last frame.
+     *
+     * @param endOfFrame
+     *            for each fragment, the length up to and including its EOI
+     *            marker, 0 if it does not contain one.
+     * @param numberOfFrames
+     * @return
+     * @throws IOException
+     */
+    static int[] frameBoundaries(int[] endOfFrame, int numberOfFrames) throws IOException {
+        int nbFragments = endOfFrame.length;
+        int[] boundaries = new int[numberOfFrames + 1];
+        int f = 0;
+        for (int i = 0; i < nbFragments && f < numberOfFrames - 1; i++) {
+            if (endOfFrame[i] > 0) {
+                boundaries[++f] = i + 1;
+            }
+        }
+        for (f++; f <= numberOfFrames; f++) {
+            boundaries[f] = nbFragments;
+        }
+        checkBoundaries(boundaries);
+        return boundaries;
+    }
+
+    private static void checkBoundaries(int[] boundaries) throws IOException {
+        int numberOfFrames = boundaries.length - 1;
+        for (int f = 0; f < numberOfFrames; f++) {
+            if (boundaries[f + 1] <= boundaries[f]) {
+                throw new IOException("Expected " + numberOfFrames + " frames in encapsulated data, frame " + (f + 1) + " not found");
+            }
+        }
+    }
+
+    private static boolean isAscending(long[] a) {
+        for (int i = 1; i < a.length; i++) {
+            if (a[i] <= a[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The length of the bytes up to and including the (last) EOI marker, 0 if
+     * they do not contain one.
+     *
+     * @param b
+     * @param length
+     * @return
+     */
+    static int endOfFrame(byte[] b, int length) {
+        int positionOfEOI = length - 1;
+        while (--positionOfEOI >= 0) {
+            if ((b[positionOfEOI] & 0xff) == 0xff && (b[positionOfEOI + 1] & 0xff) == 0xd9) {
+                return positionOfEOI + 2;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The length of the remaining bytes up to and including the (last) EOI
+     * marker in the last {@link #EOI_LOOKAHEAD} bytes, 0 if they do not contain
+     * one.
+     *
+     * @param b
+     * @return
+     */
+    static int endOfFrame(ByteBuffer b) {
+        int start = b.position();
+        int from = Math.max(start, b.limit() - EOI_LOOKAHEAD);
+        for (int i = b.limit() - 2; i >= from; i--) {
+            if ((b.get(i) & 0xff) == 0xff && (b.get(i + 1) & 0xff) == 0xd9) {
+                return i + 2 - start;
+            }
+        }
+        return 0;
+    }
+
+}
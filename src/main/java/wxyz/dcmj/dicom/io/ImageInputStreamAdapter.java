@@ -50,6 +50,22 @@ public class ImageInputStreamAdapter extends InputStream {
         _iis.seek(_mark);
     }
 
+    @Override
+    public int available() throws IOException {
+        long length = _iis.length();
+        if (length < 0) {
+            // unknown length: check if there is anything left to read.
+            _iis.mark();
+            try {
+                return _iis.read() < 0 ? 0 : 1;
+            } finally {
+                _iis.reset();
+            }
+        }
+        long remaining = length - _iis.getStreamPosition();
+        return remaining <= 0 ? 0 : (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
     @Override
     public long skip(long n) throws IOException {
         return _iis.skipBytes((int) n);
@@ -0,0 +1,138 @@
+package wxyz.dcmj.dicom.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An input stream that reads a file through a read-only memory mapped buffer,
+ * instead of copying the bytes through FileInputStream and
+ * BufferedInputStream. The file must not be larger than Integer.MAX_VALUE
+ * bytes.
+ *
+ * Note: the mapping is released by the garbage collector, not by
+ * {@link #close()}.
+ *
+ */
+public class MappedFileInputStream extends InputStream {
+
+    private File _file;
+    private ByteBuffer _buffer;
+    private int _mark;
+
+    public MappedFileInputStream(File file) throws IOException {
+        long length = file.length();
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("File " + file.getPath() + " (" + length + " bytes) is too large to be mapped.");
+        }
+        _file = file;
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            _buffer = buffer;
+        } finally {
+            // the mapping stays valid after the channel is closed.
+            raf.close();
+        }
+        _mark = 0;
+    }
+
+    /**
+     * The mapped file.
+     *
+     * @return
+     */
+    public File file() {
+        return _file;
+    }
+
+    /**
+     * The underlying buffer. Its position is the position of this stream.
+     *
+     * @return
+     */
+    public ByteBuffer buffer() throws IOException {
+        ensureOpen();
+        return _buffer;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (_buffer == null) {
+            throw new IOException("Stream closed.");
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        ensureOpen();
+        if (!_buffer.hasRemaining()) {
+            return -1;
+        }
+        return _buffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        int remaining = _buffer.remaining();
+        if (remaining <= 0) {
+            return -1;
+        }
+        int n = len < remaining ? len : remaining;
+        _buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        ensureOpen();
+        if (n <= 0) {
+            return 0;
+        }
+        int remaining = _buffer.remaining();
+        int skipped = n < remaining ? (int) n : remaining;
+        _buffer.position(_buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return _buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        if (_buffer != null) {
+            _mark = _buffer.position();
+        }
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        ensureOpen();
+        _buffer.position(_mark);
+    }
+
+    @Override
+    public void close() throws IOException {
+        _buffer = null;
+    }
+
+}
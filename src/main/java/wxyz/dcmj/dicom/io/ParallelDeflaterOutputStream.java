@@ -0,0 +1,228 @@
+package wxyz.dcmj.dicom.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.zip.Deflater;
+
+/**
+ * An output stream that compresses the data in raw deflate format (no zlib
+ * header, as in Deflated Explicit VR Little Endian), in blocks compressed in
+ * parallel.
+ *
+ * Each block is compressed with its own Deflater, with the last 32 KB of the
+ * previous block as dictionary, and ends with a sync flush (byte aligned, not
+ * final), except the last one. The compressed blocks are written in order, so
+ * that the output is a single raw deflate stream, which is decompressed as
+ * usual (e.g. with an Inflater in nowrap mode).
+ *
+ */
+public class ParallelDeflaterOutputStream extends FilterOutputStream {
+
+    public static final int DEFAULT_BLOCK_SIZE = 131072;
+
+    /*
+     * the size of the deflate window: the maximum distance of the back
+     * references.
+     */
+    private static final int DICTIONARY_SIZE = 32768;
+
+    private int _level;
+    private Executor _executor;
+    private int _maxPending;
+    private byte[] _block;
+    private int _count;
+    private byte[] _dictionary;
+    private Queue<Future<byte[]>> _pending;
+    private boolean _finished;
+
+    /**
+     *
+     * @param out
+     *            the output stream.
+     * @param level
+     *            the compression level (see {@link Deflater}).
+     * @param executor
+     *            the executor compressing the blocks. null to compress them in
+     *            the calling thread.
+     * @param blockSize
+     *            the size of the blocks of uncompressed data.
+     */
+    public ParallelDeflaterOutputStream(OutputStream out, int level, Executor executor, int blockSize) {
+        super(out);
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        _level = level;
+        _executor = executor;
+        // bounds the memory used by the blocks waiting to be written.
+        _maxPending = 2 * Runtime.getRuntime().availableProcessors();
+        _block = new byte[blockSize];
+        _count = 0;
+        _pending = new ArrayDeque<Future<byte[]>>();
+        _finished = false;
+    }
+
+    public ParallelDeflaterOutputStream(OutputStream out, int level, Executor executor) {
+        this(out, level, executor, DEFAULT_BLOCK_SIZE);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (_finished) {
+            throw new IOException("Write beyond end of stream.");
+        }
+        if (_count == _block.length) {
+            submitBlock(false);
+        }
+        _block[_count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (_finished) {
+            throw new IOException("Write beyond end of stream.");
+        }
+        while (len > 0) {
+            if (_count == _block.length) {
+                submitBlock(false);
+            }
+            int n = Math.min(len, _block.length - _count);
+            System.arraycopy(b, off, _block, _count, n);
+            _count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Compresses the remaining data as the last block and writes all the
+     * compressed blocks, without closing the underlying stream.
+     *
+     * @throws IOException
+     */
+    public void finish() throws IOException {
+        if (_finished) {
+            return;
+        }
+        submitBlock(true);
+        while (!_pending.isEmpty()) {
+            writeNext();
+        }
+        _finished = true;
+    }
+
+    /**
+     * Flushes the compressed blocks already submitted (but not the data of the
+     * current block, which would end it early).
+     */
+    @Override
+    public void flush() throws IOException {
+        while (!_pending.isEmpty()) {
+            writeNext();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void submitBlock(final boolean last) throws IOException {
+        final byte[] block = _block;
+        final int count = _count;
+        final byte[] dictionary = _dictionary;
+        final int level = _level;
+        // the dictionary of the next block: the end of this one (and of the
+        // previous ones if this one is short).
+        if (count >= DICTIONARY_SIZE) {
+            _dictionary = Arrays.copyOfRange(block, count - DICTIONARY_SIZE, count);
+        } else if (count > 0) {
+            byte[] previous = dictionary == null ? new byte[0] : dictionary;
+            int keep = Math.min(previous.length, DICTIONARY_SIZE - count);
+            byte[] d = new byte[keep + count];
+            System.arraycopy(previous, previous.length - keep, d, 0, keep);
+            System.arraycopy(block, 0, d, keep, count);
+            _dictionary = d;
+        }
+        _block = new byte[block.length];
+        _count = 0;
+        FutureTask<byte[]> task = new FutureTask<byte[]>(new Callable<byte[]>() {
+
+            @Override
+            public byte[] call() {
+                return deflate(block, count, dictionary, level, last);
+            }
+        });
+        _pending.add(task);
+        if (_executor == null) {
+            task.run();
+        } else {
+            _executor.execute(task);
+        }
+        while (_pending.size() > _maxPending) {
+            writeNext();
+        }
+    }
+
+    private void writeNext() throws IOException {
+        Future<byte[]> next = _pending.poll();
+        byte[] compressed;
+        try {
+            compressed = next.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to compress block.", e.getCause());
+        }
+        out.write(compressed, 0, compressed.length);
+    }
+
+    private static byte[] deflate(byte[] block, int count, byte[] dictionary, int level, boolean last) {
+        Deflater deflater = new Deflater(level, true/* nowrap */);
+        try {
+            if (dictionary != null && dictionary.length > 0) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(block, 0, count);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(count / 2 + 64);
+            byte[] buffer = new byte[Math.max(512, Math.min(count, 65536))];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buffer);
+                    compressed.write(buffer, 0, n);
+                }
+            } else {
+                // sync flush: until the buffer is not filled up.
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+}
@@ -4,11 +4,11 @@ public class ByteUtils {
 
     public static long toLong(byte[] b, int off, boolean bigEndian) {
         if (bigEndian) {
-            return (((long) (b[0] & 0xff)) << 56) | (((long) (b[1] & 0xff)) << 48) | (((long) (b[2] & 0xff)) << 40) | (((long) (b[3] & 0xff)) << 32) | (((long) (b[4] & 0xff)) << 24)
-                    | (((long) (b[5] & 0xff)) << 16) | (((long) (b[6] & 0xff)) << 8) | ((long) (b[7] & 0xff));
+            return (((long) (b[off] & 0xff)) << 56) | (((long) (b[off + 1] & 0xff)) << 48) | (((long) (b[off + 2] & 0xff)) << 40) | (((long) (b[off + 3] & 0xff)) << 32) | (((long) (b[off + 4] & 0xff)) << 24)
+                    | (((long) (b[off + 5] & 0xff)) << 16) | (((long) (b[off + 6] & 0xff)) << 8) | ((long) (b[off + 7] & 0xff));
         } else {
-            return (((long) (b[7] & 0xff)) << 56) | (((long) (b[6] & 0xff)) << 48) | (((long) (b[5] & 0xff)) << 40) | (((long) (b[4] & 0xff)) << 32) | (((long) (b[3] & 0xff)) << 24)
-                    | (((long) (b[2] & 0xff)) << 16) | (((long) (b[1] & 0xff)) << 8) | ((long) (b[0] & 0xff));
+            return (((long) (b[off + 7] & 0xff)) << 56) | (((long) (b[off + 6] & 0xff)) << 48) | (((long) (b[off + 5] & 0xff)) << 40) | (((long) (b[off + 4] & 0xff)) << 32) | (((long) (b[off + 3] & 0xff)) << 24)
+                    | (((long) (b[off + 2] & 0xff)) << 16) | (((long) (b[off + 1] & 0xff)) << 8) | ((long) (b[off] & 0xff));
         }
     }
 
@@ -50,9 +50,9 @@ public class ByteUtils {
 
     public static int toInt(byte[] b, int off, boolean bigEndian) {
         if (bigEndian) {
-            return ((b[0] & 0xff) << 24) | ((b[1] & 0xff) << 16) | ((b[2] & 0xff) << 8) | ((b[3] & 0xff));
+            return ((b[off] & 0xff) << 24) | ((b[off + 1] & 0xff) << 16) | ((b[off + 2] & 0xff) << 8) | ((b[off + 3] & 0xff));
         } else {
-            return ((b[3] & 0xff) << 24) | ((b[2] & 0xff) << 16) | ((b[1] & 0xff) << 8) | ((b[0] & 0xff));
+            return ((b[off + 3] & 0xff) << 24) | ((b[off + 2] & 0xff) << 16) | ((b[off + 1] & 0xff) << 8) | ((b[off] & 0xff));
         }
     }
 
@@ -86,9 +86,9 @@ public class ByteUtils {
 
     public static short toShort(byte[] b, int off, boolean bigEndian) {
         if (bigEndian) {
-            return (short) (((b[0] & 0xff) << 8) | (b[1] & 0xff));
+            return (short) (((b[off] & 0xff) << 8) | (b[off + 1] & 0xff));
         } else {
-            return (short) (((b[1] & 0xff) << 8) | (b[0] & 0xff));
+            return (short) (((b[off + 1] & 0xff) << 8) | (b[off] & 0xff));
         }
     }
 
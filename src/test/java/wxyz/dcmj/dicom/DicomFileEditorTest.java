@@ -0,0 +1,131 @@
+package wxyz.dcmj.dicom;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DicomFileEditorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /*
+     * larger than the lazy bulk data threshold of the editor: copied from the
+     * file when rewriting.
+     */
+    private static final int PIXEL_DATA_LENGTH = 4096;
+
+    private File createFile(TransferSyntax ts) throws Throwable {
+        DataSet ds = new DataSet();
+        UniqueIdentifierElement tsuid = new UniqueIdentifierElement(ds, AttributeTag.TransferSyntaxUID);
+        tsuid.setValue(ts.uid());
+        ds.addElement(tsuid);
+        LongStringElement pid = new LongStringElement(ds, AttributeTag.PatientID, null);
+        pid.setValue("ABCDEF");
+        ds.addElement(pid);
+        PersonNameElement pn = new PersonNameElement(ds, AttributeTag.PatientName, null);
+        pn.setValue("DOE^JOHN");
+        ds.addElement(pn);
+        short[] pixels = new short[PIXEL_DATA_LENGTH / 2];
+        Random r = new Random(5);
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = (short) r.nextInt();
+        }
+        OtherWordElement px = new OtherWordElement(ds, AttributeTag.PixelData);
+        px.setValue(pixels);
+        ds.addElement(px);
+        ds.addGroupLengthElements(ts, false);
+        File f = folder.newFile();
+        ds.write(f, ts, true);
+        return f;
+    }
+
+    private static DataSet read(File f) throws Throwable {
+        DataSet ds = new DataSet();
+        ds.read(f);
+        return ds;
+    }
+
+    /*
+     * the group lengths read as UN in implicit VR are little endian.
+     */
+    private static long groupLength(DataSet ds, int group) {
+        DataElement<?> de = ds.element(new AttributeTag(group, 0x0000));
+        if (de instanceof UnsignedLongElement) {
+            return de.longValue();
+        }
+        return ByteBuffer.wrap((byte[]) de.value()).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xffffffffL;
+    }
+
+    /**
+     * A value no longer than the existing one is padded and written in place:
+     * the other bytes of the file are not touched.
+     */
+    @Test
+    public final void testInPlace() throws Throwable {
+        File f = createFile(TransferSyntax.ExplicitVRLittleEndian);
+        byte[] before = Files.readAllBytes(f.toPath());
+        DataElement<?> pid = read(f).element(AttributeTag.PatientID);
+        long offset = pid.sourceOffset();
+        int length = (int) pid.sourceValueLength();
+
+        assertTrue(new DicomFileEditor(f).set(AttributeTag.PatientID, "XY").apply());
+        byte[] after = Files.readAllBytes(f.toPath());
+        assertEquals(before.length, after.length);
+        for (int i = 0; i < before.length; i++) {
+            if (i < offset || i >= offset + length) {
+                assertEquals("byte " + i, before[i], after[i]);
+            }
+        }
+        DataSet ds = read(f);
+        assertEquals("XY", ds.element(AttributeTag.PatientID).stringValue());
+        assertEquals("DOE^JOHN", ds.element(AttributeTag.PatientName).stringValue());
+    }
+
+    /**
+     * A longer value (or a new element) rewrites the file: the values, the
+     * bulk data copied from the file, and the group lengths are correct.
+     */
+    @Test
+    public final void testRewrite() throws Throwable {
+        for (TransferSyntax ts : new TransferSyntax[] { TransferSyntax.ExplicitVRLittleEndian, TransferSyntax.ImplicitVRLittleEndian }) {
+            File f = createFile(ts);
+            short[] pixels = (short[]) read(f).element(AttributeTag.PixelData).value();
+
+            assertFalse(new DicomFileEditor(f).set(AttributeTag.PatientID, "A-MUCH-LONGER-PATIENT-ID").set(AttributeTag.InstitutionName, "HOSPITAL")
+                    .apply());
+            assertEquals(0, folder.getRoot().list(new FilenameFilter() {
+                @Override
+                public boolean accept(File dir, String name) {
+                    return name.endsWith(".tmp");
+                }
+            }).length);
+            DataSet ds = read(f);
+            assertEquals("A-MUCH-LONGER-PATIENT-ID", ds.element(AttributeTag.PatientID).stringValue());
+            assertEquals("HOSPITAL", ds.element(AttributeTag.InstitutionName).stringValue());
+            assertEquals("DOE^JOHN", ds.element(AttributeTag.PatientName).stringValue());
+            assertArrayEquals(pixels, (short[]) ds.element(AttributeTag.PixelData).value());
+
+            DataSet expected = read(f);
+            expected.removeGroupLengthElements();
+            expected.removeElement(AttributeTag.FileMetaInformationGroupLength);
+            expected.addGroupLengthElements(ts, false);
+            for (int group : new int[] { 0x0002, 0x0010, 0x7fe0 }) {
+                assertEquals(ts.uid() + " group " + Integer.toHexString(group), groupLength(expected, group), groupLength(ds, group));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,264 @@
+package wxyz.dcmj.dicom;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Random;
+
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import wxyz.dcmj.dicom.io.DicomInputStream;
+
+public class LazyBulkDataTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final long THRESHOLD = 1024;
+
+    private static final AttributeTag PRIVATE_OB = new AttributeTag(0x0019, 0x1010);
+    private static final AttributeTag PRIVATE_OF = new AttributeTag(0x0019, 0x1020);
+    private static final AttributeTag SMALL_OB = new AttributeTag(0x0019, 0x1030);
+
+    private File createFile(TransferSyntax ts) throws Throwable {
+        Random r = new Random(7);
+        DataSet ds = new DataSet();
+        UniqueIdentifierElement tsuid = new UniqueIdentifierElement(ds, AttributeTag.TransferSyntaxUID);
+        tsuid.setValue(ts.uid());
+        ds.addElement(tsuid);
+        byte[] b = new byte[3001];
+        r.nextBytes(b);
+        OtherByteElement ob = new OtherByteElement(ds, PRIVATE_OB);
+        ob.setValue(b);
+        ds.addElement(ob);
+        float[] f = new float[2000];
+        for (int i = 0; i < f.length; i++) {
+            f[i] = r.nextFloat();
+        }
+        OtherFloatElement of = new OtherFloatElement(ds, PRIVATE_OF);
+        of.setValue(f);
+        ds.addElement(of);
+        OtherByteElement small = new OtherByteElement(ds, SMALL_OB);
+        small.setValue(new byte[] { 1, 2, 3, 4 });
+        ds.addElement(small);
+        short[] s = new short[5000];
+        for (int i = 0; i < s.length; i++) {
+            s[i] = (short) r.nextInt();
+        }
+        OtherWordElement px = new OtherWordElement(ds, AttributeTag.PixelData);
+        px.setValue(s);
+        ds.addElement(px);
+        ds.addGroupLengthElements(ts, false);
+        File file = folder.newFile();
+        ds.write(file, ts, true);
+        return file;
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int v) {
+        out.write(v);
+        out.write(v >>> 8);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int v) {
+        writeShort(out, v);
+        writeShort(out, v >>> 16);
+    }
+
+    private static void writeItem(ByteArrayOutputStream out, int element, byte[] value) {
+        writeShort(out, 0xfffe);
+        writeShort(out, element);
+        writeInt(out, value.length);
+        out.write(value, 0, value.length);
+    }
+
+    /*
+     * RLE Lossless (explicit VR little endian) with encapsulated pixel data:
+     * the fragments are not decoded when writing through.
+     */
+    private File createEncapsulatedFile() throws Throwable {
+        DataSet ds = new DataSet();
+        UniqueIdentifierElement tsuid = new UniqueIdentifierElement(ds, AttributeTag.TransferSyntaxUID);
+        tsuid.setValue(TransferSyntax.RLELossless.uid());
+        ds.addElement(tsuid);
+        LongStringElement pid = new LongStringElement(ds, AttributeTag.PatientID, null);
+        pid.setValue("ABC123");
+        ds.addElement(pid);
+        IntegerStringElement frames = new IntegerStringElement(ds, AttributeTag.NumberOfFrames);
+        frames.setValue(3);
+        ds.addElement(frames);
+        ds.addGroupLengthElements(TransferSyntax.RLELossless, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ds.write(out, TransferSyntax.RLELossless, true, true);
+        writeShort(out, 0x7fe0);
+        writeShort(out, 0x0010);
+        out.write('O');
+        out.write('B');
+        writeShort(out, 0);
+        writeInt(out, 0xffffffff);
+        writeItem(out, 0xe000, new byte[0]);
+        Random r = new Random(9);
+        for (int length : new int[] { 2000, 10, 30000 }) {
+            byte[] fragment = new byte[length];
+            r.nextBytes(fragment);
+            writeItem(out, 0xe000, fragment);
+        }
+        writeItem(out, 0xe0dd, new byte[0]);
+        File f = folder.newFile();
+        FileOutputStream fos = new FileOutputStream(f);
+        try {
+            out.writeTo(fos);
+        } finally {
+            fos.close();
+        }
+        return f;
+    }
+
+    private static byte[] write(DataSet ds, TransferSyntax ts) throws Throwable {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ds.write(out, ts, true, true);
+        return out.toByteArray();
+    }
+
+    private static DataSet read(File f) throws Throwable {
+        DataSet ds = new DataSet();
+        ds.read(f);
+        return ds;
+    }
+
+    private static InlineBinaryElement<?> element(DataSet ds, AttributeTag tag) {
+        return (InlineBinaryElement<?>) ds.element(tag);
+    }
+
+    /**
+     * The values above the threshold are not read until accessed, and are
+     * then the values read eagerly.
+     */
+    private static void checkLazyValues(DataSet eager, DataSet lazy) {
+        assertFalse(element(lazy, SMALL_OB).valueNotRead());
+        assertArrayEquals((byte[]) eager.element(SMALL_OB).value(), (byte[]) lazy.element(SMALL_OB).value());
+        for (AttributeTag tag : new AttributeTag[] { PRIVATE_OB, PRIVATE_OF, AttributeTag.PixelData }) {
+            assertTrue(tag.toString(), element(lazy, tag).valueNotRead());
+        }
+        for (AttributeTag tag : new AttributeTag[] { PRIVATE_OB, PRIVATE_OF, AttributeTag.PixelData }) {
+            // read as UN in implicit VR if private
+            assertArrayEquals(tag.toString(), element(eager, tag).valueToBytes(false), element(lazy, tag).valueToBytes(false));
+        }
+        for (AttributeTag tag : new AttributeTag[] { PRIVATE_OB, PRIVATE_OF, AttributeTag.PixelData }) {
+            assertFalse(tag.toString(), element(lazy, tag).valueNotRead());
+        }
+    }
+
+    @Test
+    public final void testLazyReadFromFile() throws Throwable {
+        for (TransferSyntax ts : new TransferSyntax[] { TransferSyntax.ExplicitVRLittleEndian, TransferSyntax.ImplicitVRLittleEndian }) {
+            File f = createFile(ts);
+            DataSet lazy = new DataSet();
+            lazy.read(f, null, false, THRESHOLD);
+            checkLazyValues(read(f), lazy);
+        }
+    }
+
+    @Test
+    public final void testLazyReadFromImageInputStream() throws Throwable {
+        File f = createFile(TransferSyntax.ExplicitVRLittleEndian);
+        ImageInputStream iis = new FileImageInputStream(f);
+        try {
+            DicomInputStream in = new DicomInputStream(iis);
+            in.setLazyBulkDataThreshold(THRESHOLD);
+            DataSet lazy = new DataSet();
+            lazy.read(in);
+            checkLazyValues(read(f), lazy);
+        } finally {
+            iis.close();
+        }
+    }
+
+    /**
+     * A value that cannot be read from the source is not marked as read.
+     */
+    @Test
+    public final void testTruncatedSource() throws Throwable {
+        File f = createFile(TransferSyntax.ExplicitVRLittleEndian);
+        DataSet lazy = new DataSet();
+        lazy.read(f, null, false, THRESHOLD);
+        RandomAccessFile raf = new RandomAccessFile(f, "rw");
+        try {
+            raf.setLength(element(lazy, AttributeTag.PixelData).sourceOffset() + 10);
+        } finally {
+            raf.close();
+        }
+        for (int i = 0; i < 2; i++) {
+            try {
+                lazy.element(AttributeTag.PixelData).value();
+                fail("Expected the value not to be read.");
+            } catch (RuntimeException e) {
+                assertTrue(e.getCause() instanceof DicomException);
+            }
+            assertTrue(element(lazy, AttributeTag.PixelData).valueNotRead());
+        }
+    }
+
+    /**
+     * The values not read are written through from the source, as the values
+     * read eagerly would be (swapped for another byte order).
+     */
+    @Test
+    public final void testWriteThrough() throws Throwable {
+        for (TransferSyntax ts : new TransferSyntax[] { TransferSyntax.ExplicitVRLittleEndian, TransferSyntax.ImplicitVRLittleEndian }) {
+            File f = createFile(ts);
+            DataSet eager = read(f);
+            DataSet lazy = new DataSet();
+            lazy.read(f, null, false, THRESHOLD);
+            assertArrayEquals(ts.uid(), write(eager, ts), write(lazy, ts));
+            assertTrue(element(lazy, AttributeTag.PixelData).valueNotRead());
+            // read to be swapped
+            assertArrayEquals(ts.uid() + " to big endian", write(eager, TransferSyntax.ExplicitVRBigEndian), write(lazy, TransferSyntax.ExplicitVRBigEndian));
+        }
+    }
+
+    /**
+     * The fragments of the encapsulated pixel data skipped when reading are
+     * copied (from a file or an image input stream) in the same transfer
+     * syntax.
+     */
+    @Test
+    public final void testEncapsulatedWriteThrough() throws Throwable {
+        File f = createEncapsulatedFile();
+        byte[] source = Files.readAllBytes(f.toPath());
+        DataSet lazy = new DataSet();
+        lazy.read(f, null, false, THRESHOLD);
+        assertArrayEquals(source, write(lazy, TransferSyntax.RLELossless));
+        ImageInputStream iis = new FileImageInputStream(f);
+        try {
+            DicomInputStream in = new DicomInputStream(iis);
+            in.setLazyBulkDataThreshold(THRESHOLD);
+            lazy = new DataSet();
+            lazy.read(in);
+            assertArrayEquals(source, write(lazy, TransferSyntax.RLELossless));
+            assertEquals(3, lazy.frameIndex().numberOfFrames());
+        } finally {
+            iis.close();
+        }
+    }
+
+    @Test(expected = DicomException.class)
+    public final void testEncapsulatedWriteThroughToNative() throws Throwable {
+        DataSet lazy = new DataSet();
+        lazy.read(createEncapsulatedFile(), null, false, THRESHOLD);
+        write(lazy, TransferSyntax.ExplicitVRLittleEndian);
+    }
+
+}
@@ -0,0 +1,96 @@
+package wxyz.dcmj.dicom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class NumberStringsTest {
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public final void testLongRoundTrip() {
+        long[] values = { 0, 1, -1, 9, 10, 99, 100, 123456789, -987654321, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE };
+        byte[] b = new byte[NumberStrings.MAX_LONG_LENGTH];
+        for (long v : values) {
+            int n = NumberStrings.format(v, b, 0);
+            assertEquals(Long.toString(v), new String(b, 0, n, StandardCharsets.ISO_8859_1));
+            assertEquals(v, NumberStrings.parseLong(b, 0, n));
+        }
+        // padding and sign, at an offset
+        byte[] padded = bytes("x +42 ");
+        assertEquals(42, NumberStrings.parseInt(padded, 1, 5));
+        assertEquals(-7, NumberStrings.parseInt(bytes(" -7"), 0, 3));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public final void testLongOverflow() {
+        byte[] b = bytes("9223372036854775808");
+        NumberStrings.parseLong(b, 0, b.length);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public final void testIntOverflow() {
+        byte[] b = bytes("2147483648");
+        NumberStrings.parseInt(b, 0, b.length);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public final void testInvalidInteger() {
+        byte[] b = bytes("1 2");
+        NumberStrings.parseLong(b, 0, b.length);
+    }
+
+    @Test
+    public final void testParseDouble() {
+        String[] values = { "0", "1", "-1", "+1.5", " 0.25", "-0.125 ", ".5", "5.", "1e3", "1.5E-10", "-2.5e+7", "123456789012.345" };
+        for (String s : values) {
+            byte[] b = bytes(s);
+            assertEquals(s, Double.parseDouble(s.trim()), NumberStrings.parseDouble(b, 0, b.length), 0);
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public final void testInvalidDouble() {
+        byte[] b = bytes("1.5x");
+        NumberStrings.parseDouble(b, 0, b.length);
+    }
+
+    /**
+     * The formatted values fit in a DS value and parse back to the same value
+     * (exactly if it has few enough digits).
+     */
+    @Test
+    public final void testDoubleRoundTrip() {
+        double[] exact = { 0, 1, -1, 0.5, -2.5, 0.001, 123.456, 1e15, 1e-10, -3.25e20, 1234567890.12345 };
+        byte[] b = new byte[NumberStrings.MAX_DS_LENGTH];
+        for (double v : exact) {
+            int n = NumberStrings.format(v, b, 0);
+            assertTrue(n <= NumberStrings.MAX_DS_LENGTH);
+            assertEquals(Double.toString(v), v, NumberStrings.parseDouble(b, 0, n), 0);
+        }
+        Random r = new Random(13);
+        for (int i = 0; i < 10000; i++) {
+            double v = (r.nextDouble() - 0.5) * Math.pow(10, r.nextInt(40) - 20);
+            int n = NumberStrings.format(v, b, 0);
+            assertTrue(n <= NumberStrings.MAX_DS_LENGTH);
+            String s = new String(b, 0, n, StandardCharsets.ISO_8859_1);
+            // at least 10 significant digits fit in 16 bytes (e.g. -1.234567891E-15)
+            assertEquals(s, v, NumberStrings.parseDouble(b, 0, n), Math.abs(v) * 5e-10);
+        }
+        assertEquals("0.5", NumberStrings.toString(0.5));
+        assertEquals("-2", NumberStrings.toString(-2.0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testFormatNaN() {
+        NumberStrings.toString(Double.NaN);
+    }
+
+}
@@ -0,0 +1,54 @@
+package wxyz.dcmj.dicom.codec;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import wxyz.dcmj.dicom.DicomException;
+import wxyz.dcmj.dicom.TransferSyntax;
+
+public class RLECodecTest {
+
+    /**
+     * Rows of single bytes each followed by a run of 2 bytes (a b b c d d
+     * ...), encoded as literals.
+     */
+    @Test
+    public final void testRoundTrip() throws Throwable {
+        FrameFormat format = new FrameFormat(4, 300, 1, 8, 0);
+        byte[] px = new byte[format.samplesPerFrame()];
+        for (int i = 0; i < px.length; i++) {
+            px[i] = (byte) (i % 3 == 0 ? i / 3 : i / 3 + 128);
+        }
+        byte[][] frames = CodecRegistry.encode(TransferSyntax.RLELossless, format, px, 1, null);
+        Object decoded = CodecRegistry.decode(TransferSyntax.RLELossless, format, new ByteBuffer[] { ByteBuffer.wrap(frames[0]) }, null);
+        assertArrayEquals(px, (byte[]) decoded);
+
+        FrameFormat rgb = new FrameFormat(3, 200, 3, 16, 1);
+        short[] samples = new short[rgb.samplesPerFrame() * 2];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) (i % 3 == 0 ? i * 7 : (i / 3) * 257);
+        }
+        frames = CodecRegistry.encode(TransferSyntax.RLELossless, rgb, samples, 2, null);
+        ByteBuffer[] buffers = new ByteBuffer[] { ByteBuffer.wrap(frames[0]), ByteBuffer.wrap(frames[1]) };
+        assertArrayEquals(samples, (short[]) CodecRegistry.decode(TransferSyntax.RLELossless, rgb, buffers, null));
+    }
+
+    /**
+     * A truncated segment fails instead of decoding to a partly empty frame.
+     */
+    @Test(expected = DicomException.class)
+    public final void testTruncatedSegment() throws Throwable {
+        FrameFormat format = new FrameFormat(4, 300, 1, 8, 0);
+        byte[] px = new byte[format.samplesPerFrame()];
+        for (int i = 0; i < px.length; i++) {
+            px[i] = (byte) i;
+        }
+        byte[] frame = CodecRegistry.encode(TransferSyntax.RLELossless, format, px, 1, null)[0];
+        ByteBuffer truncated = ByteBuffer.wrap(frame, 0, frame.length - 100).slice();
+        CodecRegistry.decode(TransferSyntax.RLELossless, format, new ByteBuffer[] { truncated }, null);
+    }
+
+}
@@ -0,0 +1,180 @@
+package wxyz.dcmj.dicom.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+import org.junit.Test;
+
+public class FrameIndexTest {
+
+    /*
+     * bytes before the encapsulated data, so that the offsets in the source
+     * differ from the offsets in the encapsulated data.
+     */
+    private static final int PREFIX = 12;
+
+    private static void writeInt(ByteArrayOutputStream out, long v) {
+        out.write((int) v);
+        out.write((int) (v >>> 8));
+        out.write((int) (v >>> 16));
+        out.write((int) (v >>> 24));
+    }
+
+    private static void writeItem(ByteArrayOutputStream out, int element, byte[] value) {
+        out.write(0xfe);
+        out.write(0xff);
+        out.write(element);
+        out.write(element >>> 8);
+        writeInt(out, value.length);
+        out.write(value, 0, value.length);
+    }
+
+    private static byte[] fragment(int length, int seed) {
+        byte[] b = new byte[length];
+        for (int i = 0; i < length; i++) {
+            b[i] = (byte) (seed + i);
+        }
+        return b;
+    }
+
+    private static byte[] join(byte[]... fragments) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] f : fragments) {
+            out.write(f, 0, f.length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * The encapsulated data: the Basic Offset Table (of the offsets of the
+     * first fragment of each frame, if frameOfFragment is not null), the
+     * fragments, the sequence delimiter.
+     */
+    private static ImageInputStream encapsulated(byte[][] fragments, int[] frameOfFragment) {
+        ByteArrayOutputStream bot = new ByteArrayOutputStream();
+        if (frameOfFragment != null) {
+            long offset = 0;
+            for (int i = 0; i < fragments.length; i++) {
+                if (i == 0 || frameOfFragment[i] != frameOfFragment[i - 1]) {
+                    writeInt(bot, offset);
+                }
+                offset += 8 + fragments[i].length;
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(new byte[PREFIX], 0, PREFIX);
+        writeItem(out, 0xe000, bot.toByteArray());
+        for (byte[] f : fragments) {
+            writeItem(out, 0xe000, f);
+        }
+        writeItem(out, 0xe0dd, new byte[0]);
+        ImageInputStream iis = new MemoryCacheImageInputStream(new ByteArrayInputStream(out.toByteArray()));
+        iis.setByteOrder(ByteOrder.BIG_ENDIAN);
+        return iis;
+    }
+
+    @Test
+    public final void testBasicOffsetTable() throws Throwable {
+        byte[][] fragments = { fragment(10, 1), fragment(6, 2), fragment(4, 3), fragment(2, 4), fragment(8, 5), fragment(12, 6) };
+        int[] frameOfFragment = { 0, 0, 1, 2, 2, 2 };
+        ImageInputStream iis = encapsulated(fragments, frameOfFragment);
+        FrameIndex index = FrameIndex.read(iis, PREFIX, 3);
+        assertEquals(ByteOrder.BIG_ENDIAN, iis.getByteOrder());
+        assertEquals(3, index.numberOfFrames());
+        assertEquals(2, index.numberOfFragments(0));
+        assertEquals(1, index.numberOfFragments(1));
+        assertEquals(3, index.numberOfFragments(2));
+        // BOT item header + 3 frames, then the first fragment item header
+        long offset = PREFIX + 8 + 12 + 8;
+        assertEquals(offset, index.fragmentOffset(0, 0));
+        assertEquals(10, index.fragmentLength(0, 0));
+        assertEquals(offset + 10 + 8, index.fragmentOffset(0, 1));
+        assertEquals(16, index.frameLength(0));
+        assertEquals(4, index.frameLength(1));
+        assertEquals(22, index.frameLength(2));
+        assertEquals(12, index.fragmentLength(2, 2));
+        assertArrayEquals(join(fragments[0], fragments[1]), index.readFrame(iis, 0));
+        assertArrayEquals(fragments[2], index.readFrame(iis, 1));
+        assertArrayEquals(join(fragments[3], fragments[4], fragments[5]), index.readFrame(iis, 2));
+    }
+
+    @Test
+    public final void testOneFragmentPerFrame() throws Throwable {
+        byte[][] fragments = { fragment(4, 1), fragment(6, 2), fragment(2, 3) };
+        ImageInputStream iis = encapsulated(fragments, null);
+        FrameIndex index = FrameIndex.read(iis, PREFIX, 3);
+        assertEquals(3, index.numberOfFrames());
+        for (int f = 0; f < 3; f++) {
+            assertEquals(1, index.numberOfFragments(f));
+            assertArrayEquals(fragments[f], index.readFrame(iis, f));
+        }
+        // a single frame has all the fragments
+        index = FrameIndex.read(iis, PREFIX, 1);
+        assertEquals(3, index.numberOfFragments(0));
+        assertArrayEquals(join(fragments), index.readFrame(iis, 0));
+    }
+
+    /**
+     * Without a Basic Offset Table, the frames end with the fragments ending
+     * with an EOI marker (the padding after it is not part of the frame).
+     */
+    @Test
+    public final void testEndOfImageMarkers() throws Throwable {
+        byte[] eoi = { (byte) 0xff, (byte) 0xd9 };
+        byte[] eoiPadded = { (byte) 0xff, (byte) 0xd9, 0, 0 };
+        byte[][] fragments = { fragment(8, 1), join(fragment(100, 2), eoi), join(fragment(6, 3), eoiPadded), fragment(4, 4), join(fragment(2, 5), eoi) };
+        ImageInputStream iis = encapsulated(fragments, null);
+        FrameIndex index = FrameIndex.read(iis, PREFIX, 3);
+        assertEquals(3, index.numberOfFrames());
+        assertEquals(2, index.numberOfFragments(0));
+        assertEquals(1, index.numberOfFragments(1));
+        assertEquals(2, index.numberOfFragments(2));
+        assertArrayEquals(join(fragments[0], fragments[1]), index.readFrame(iis, 0));
+        assertArrayEquals(join(fragment(6, 3), eoi), index.readFrame(iis, 1));
+        assertArrayEquals(join(fragments[3], fragments[4]), index.readFrame(iis, 2));
+    }
+
+    @Test(expected = IOException.class)
+    public final void testMissingFrame() throws Throwable {
+        // no offset table and no EOI marker to delimit the frames
+        byte[][] fragments = { fragment(4, 1), fragment(4, 2) };
+        FrameIndex.read(encapsulated(fragments, null), PREFIX, 3);
+    }
+
+    /**
+     * The Extended Offset Table is relative to the first fragment item tag,
+     * its lengths exclude the padding of the fragments.
+     */
+    @Test
+    public final void testExtendedOffsetTable() throws Throwable {
+        byte[][] fragments = { fragment(10, 1), fragment(4, 2), fragment(16, 3) };
+        ImageInputStream iis = encapsulated(fragments, null);
+        long[] eot = { 0, 18, 30 };
+        long[] eotLengths = { 9, 4, 15 };
+        FrameIndex index = FrameIndex.read(iis, PREFIX, eot, eotLengths);
+        assertEquals(ByteOrder.BIG_ENDIAN, iis.getByteOrder());
+        assertEquals(3, index.numberOfFrames());
+        assertEquals(PREFIX + 8 + 8, index.fragmentOffset(0, 0));
+        for (int f = 0; f < 3; f++) {
+            assertEquals(1, index.numberOfFragments(f));
+            assertEquals(eotLengths[f], index.frameLength(f));
+            byte[] expected = new byte[(int) eotLengths[f]];
+            System.arraycopy(fragments[f], 0, expected, 0, expected.length);
+            assertArrayEquals(expected, index.readFrame(iis, f));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public final void testExtendedOffsetTableLengthMismatch() throws Throwable {
+        FrameIndex.read(encapsulated(new byte[][] { fragment(4, 1) }, null), PREFIX, new long[] { 0 }, new long[] { 4, 4 });
+    }
+
+}